@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.ArrayRealVector;
+import org.hipparchus.linear.BandedCholeskyDecomposition;
+import org.hipparchus.linear.BandedLUDecomposition;
+import org.hipparchus.linear.BandedRealMatrix;
+import org.hipparchus.linear.LUDecomposition;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.linear.ThomasDecomposition;
+import org.hipparchus.linear.TridiagonalRealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for solving banded systems with dense or banded decompositions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BandedSolverBenchmark {
+
+    /** Matrix dimension. */
+    @Param({ "200", "1000" })
+    private int size;
+
+    /** Bandwidth. */
+    @Param({ "1", "5" })
+    private int bandwidth;
+
+    /** Banded symmetric positive definite matrix. */
+    private BandedRealMatrix banded;
+
+    /** Tridiagonal part of the matrix. */
+    private TridiagonalRealMatrix tridiagonal;
+
+    /** Same matrix in dense storage. */
+    private RealMatrix dense;
+
+    /** Right hand side. */
+    private RealVector b;
+
+    /** Initialize operands.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x3f6a9c1d85e2b047L);
+        banded = new BandedRealMatrix(size, bandwidth, bandwidth);
+        for (int i = 0; i < size; ++i) {
+            for (int j = i + 1; j <= FastMath.min(size - 1, i + bandwidth); ++j) {
+                final double v = 2 * random.nextDouble() - 1;
+                banded.setEntry(i, j, v);
+                banded.setEntry(j, i, v);
+            }
+            banded.setEntry(i, i, 2 * bandwidth + 1);
+        }
+        final double[] sub  = new double[size - 1];
+        final double[] main = new double[size];
+        final double[] sup  = new double[size - 1];
+        for (int i = 0; i < size; ++i) {
+            main[i] = banded.getEntry(i, i);
+            if (i < size - 1) {
+                sub[i] = banded.getEntry(i + 1, i);
+                sup[i] = banded.getEntry(i, i + 1);
+            }
+        }
+        tridiagonal = new TridiagonalRealMatrix(sub, main, sup);
+        dense       = MatrixUtils.createRealMatrix(banded.getData());
+        b           = new ArrayRealVector(size, 1.0);
+    }
+
+    /** Benchmark dense LU decomposition and solve.
+     * @return solution
+     */
+    @Benchmark
+    public RealVector denseLU() {
+        return new LUDecomposition(dense).getSolver().solve(b);
+    }
+
+    /** Benchmark banded LU decomposition and solve.
+     * @return solution
+     */
+    @Benchmark
+    public RealVector bandedLU() {
+        return new BandedLUDecomposition(banded).getSolver().solve(b);
+    }
+
+    /** Benchmark banded Cholesky decomposition and solve.
+     * @return solution
+     */
+    @Benchmark
+    public RealVector bandedCholesky() {
+        return new BandedCholeskyDecomposition(banded).getSolver().solve(b);
+    }
+
+    /** Benchmark Thomas algorithm on the tridiagonal part.
+     * @return solution
+     */
+    @Benchmark
+    public RealVector thomas() {
+        return new ThomasDecomposition(tridiagonal).getSolver().solve(b);
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** Entry point running the Hipparchus benchmarks with the GC profiler enabled.
+ * <p>
+ * All standard JMH command line options are supported, the GC profiler is
+ * simply added to the ones specified by user, so allocation rates are
+ * always reported next to throughput.
+ * </p>
+ */
+public class BenchmarksRunner {
+
+    /** Private constructor for utility class.
+     */
+    private BenchmarksRunner() {
+        // nothing to do
+    }
+
+    /** Program entry point.
+     * @param args JMH command line arguments (benchmarks regexp, forks, iterations...)
+     * @exception CommandLineOptionException if command line cannot be parsed
+     * @exception RunnerException if benchmarks cannot be run
+     */
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final Options options = new OptionsBuilder().
+                                parent(new CommandLineOptions(args)).
+                                addProfiler(GCProfiler.class).
+                                build();
+        new Runner(options).run();
+    }
+
+}
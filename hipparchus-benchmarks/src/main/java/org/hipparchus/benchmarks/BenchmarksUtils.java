@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import org.hipparchus.linear.BlockRealMatrix;
+import org.hipparchus.random.RandomGenerator;
+
+/** Utilities for setting up benchmarks data.
+ */
+class BenchmarksUtils {
+
+    /** Private constructor for utility class.
+     */
+    private BenchmarksUtils() {
+        // nothing to do
+    }
+
+    /** Create a random matrix with entries uniformly distributed in [-1, 1].
+     * @param random random generator
+     * @param rows number of rows
+     * @param columns number of columns
+     * @return random matrix
+     */
+    static BlockRealMatrix createRandomMatrix(final RandomGenerator random, final int rows, final int columns) {
+        final BlockRealMatrix m = new BlockRealMatrix(rows, columns);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                m.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return m;
+    }
+
+    /** Create a random symmetric positive definite matrix.
+     * <p>
+     * The matrix is built as A<sup>T</sup>A + n I, with A a random matrix.
+     * </p>
+     * @param random random generator
+     * @param n dimension of the matrix
+     * @return random symmetric positive definite matrix
+     */
+    static BlockRealMatrix createRandomSPDMatrix(final RandomGenerator random, final int n) {
+        final BlockRealMatrix a   = createRandomMatrix(random, n, n);
+        final BlockRealMatrix spd = a.transposeMultiply(a);
+        for (int i = 0; i < n; ++i) {
+            spd.addToEntry(i, i, n);
+        }
+        // enforce exact symmetry
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < i; ++j) {
+                spd.setEntry(i, j, spd.getEntry(j, i));
+            }
+        }
+        return spd;
+    }
+
+}
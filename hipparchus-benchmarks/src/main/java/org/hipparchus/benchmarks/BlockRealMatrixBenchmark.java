@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.BlockRealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for {@link BlockRealMatrix} products.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockRealMatrixBenchmark {
+
+    /** Matrices dimension. */
+    @Param({ "100", "500", "1000" })
+    private int size;
+
+    /** Left operand. */
+    private BlockRealMatrix a;
+
+    /** Right operand. */
+    private BlockRealMatrix b;
+
+    /** Pool for parallel products. */
+    private ForkJoinPool pool;
+
+    /** Initialize operands.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x6c1a8e2f04d9b373L);
+        a = BenchmarksUtils.createRandomMatrix(random, size, size);
+        b = BenchmarksUtils.createRandomMatrix(random, size, size);
+        pool = new ForkJoinPool();
+    }
+
+    /** Release pool.
+     */
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /** Benchmark {@link BlockRealMatrix#multiply(BlockRealMatrix)}.
+     * @return product
+     */
+    @Benchmark
+    public BlockRealMatrix multiply() {
+        return a.multiply(b);
+    }
+
+    /** Benchmark {@link BlockRealMatrix#multiply(BlockRealMatrix, ForkJoinPool)}.
+     * @return product
+     */
+    @Benchmark
+    public BlockRealMatrix parallelMultiply() {
+        return a.multiply(b, pool);
+    }
+
+    /** Benchmark {@link BlockRealMatrix#multiplyTransposed(BlockRealMatrix)}.
+     * @return product
+     */
+    @Benchmark
+    public BlockRealMatrix multiplyTransposed() {
+        return a.multiplyTransposed(b);
+    }
+
+    /** Benchmark {@link BlockRealMatrix#multiplyTransposed(BlockRealMatrix, ForkJoinPool)}.
+     * @return product
+     */
+    @Benchmark
+    public BlockRealMatrix parallelMultiplyTransposed() {
+        return a.multiplyTransposed(b, pool);
+    }
+
+    /** Benchmark {@link BlockRealMatrix#transposeMultiply(BlockRealMatrix)}.
+     * @return product
+     */
+    @Benchmark
+    public BlockRealMatrix transposeMultiply() {
+        return a.transposeMultiply(b);
+    }
+
+    /** Benchmark {@link BlockRealMatrix#transposeMultiply(BlockRealMatrix, ForkJoinPool)}.
+     * @return product
+     */
+    @Benchmark
+    public BlockRealMatrix parallelTransposeMultiply() {
+        return a.transposeMultiply(b, pool);
+    }
+
+}
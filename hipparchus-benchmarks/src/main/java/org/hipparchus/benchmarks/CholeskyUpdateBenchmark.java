@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.ArrayRealVector;
+import org.hipparchus.linear.CholeskyDecomposition;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for adding one observation to a Cholesky-factorized normal matrix.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CholeskyUpdateBenchmark {
+
+    /** Matrix dimension. */
+    @Param({ "50", "500" })
+    private int size;
+
+    /** Current decomposition. */
+    private CholeskyDecomposition llt;
+
+    /** Updated normal matrix. */
+    private RealMatrix updated;
+
+    /** New observation. */
+    private RealVector x;
+
+    /** Initialize operands.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x5b20e8c4f19a7d36L);
+        final RealMatrix      g      = MatrixUtils.createRealMatrix(2 * size, size);
+        for (int i = 0; i < 2 * size; ++i) {
+            for (int j = 0; j < size; ++j) {
+                g.setEntry(i, j, random.nextGaussian());
+            }
+        }
+        final RealMatrix normal = g.transposeMultiply(g);
+        x = new ArrayRealVector(size);
+        for (int i = 0; i < size; ++i) {
+            x.setEntry(i, random.nextGaussian());
+        }
+        llt     = new CholeskyDecomposition(normal);
+        updated = normal.add(x.outerProduct(x));
+    }
+
+    /** Benchmark full refactorization.
+     * @return updated decomposition
+     */
+    @Benchmark
+    public CholeskyDecomposition refactor() {
+        return new CholeskyDecomposition(updated);
+    }
+
+    /** Benchmark rank-one update.
+     * @return updated decomposition
+     */
+    @Benchmark
+    public CholeskyDecomposition update() {
+        return llt.update(x);
+    }
+
+}
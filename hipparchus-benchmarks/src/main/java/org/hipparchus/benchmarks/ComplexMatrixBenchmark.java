@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.linear.Array2DRowFieldMatrix;
+import org.hipparchus.linear.ComplexLUDecomposition;
+import org.hipparchus.linear.ComplexMatrix;
+import org.hipparchus.linear.FieldLUDecomposition;
+import org.hipparchus.linear.FieldMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for {@link ComplexMatrix} against generic {@link FieldMatrix} of {@link Complex}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComplexMatrixBenchmark {
+
+    /** Matrix dimension. */
+    @Param({ "20", "100" })
+    private int n;
+
+    /** First operand, generic storage. */
+    private FieldMatrix<Complex> genericA;
+
+    /** Second operand, generic storage. */
+    private FieldMatrix<Complex> genericB;
+
+    /** First operand, split storage. */
+    private ComplexMatrix complexA;
+
+    /** Second operand, split storage. */
+    private ComplexMatrix complexB;
+
+    /** Initialize operands.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x7e2a9c04d5b13f68L);
+        final Complex[][] a = new Complex[n][n];
+        final Complex[][] b = new Complex[n][n];
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                a[i][j] = new Complex(2 * random.nextDouble() - 1, 2 * random.nextDouble() - 1);
+                b[i][j] = new Complex(2 * random.nextDouble() - 1, 2 * random.nextDouble() - 1);
+            }
+        }
+        genericA = new Array2DRowFieldMatrix<>(a);
+        genericB = new Array2DRowFieldMatrix<>(b);
+        complexA = new ComplexMatrix(a);
+        complexB = new ComplexMatrix(b);
+    }
+
+    /** Multiply generic matrices.
+     * @return product
+     */
+    @Benchmark
+    public FieldMatrix<Complex> multiplyGeneric() {
+        return genericA.multiply(genericB);
+    }
+
+    /** Multiply split storage matrices.
+     * @return product
+     */
+    @Benchmark
+    public FieldMatrix<Complex> multiplyComplex() {
+        return complexA.multiply(complexB);
+    }
+
+    /** Solve with generic LU decomposition.
+     * @return solution
+     */
+    @Benchmark
+    public FieldMatrix<Complex> solveGeneric() {
+        return new FieldLUDecomposition<>(genericA).getSolver().solve(genericB);
+    }
+
+    /** Solve with split storage LU decomposition.
+     * @return solution
+     */
+    @Benchmark
+    public FieldMatrix<Complex> solveComplex() {
+        return new ComplexLUDecomposition(complexA).getSolver().solve(complexB);
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.BlockLUDecomposition;
+import org.hipparchus.linear.BlockRealMatrix;
+import org.hipparchus.linear.CholeskyDecomposition;
+import org.hipparchus.linear.EigenDecompositionSymmetric;
+import org.hipparchus.linear.LUDecomposition;
+import org.hipparchus.linear.QRDecomposition;
+import org.hipparchus.linear.SingularValueDecomposition;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for dense matrix decompositions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecompositionsBenchmark {
+
+    /** Matrices dimension. */
+    @Param({ "50", "200", "500" })
+    private int size;
+
+    /** General square matrix. */
+    private BlockRealMatrix general;
+
+    /** Symmetric positive definite matrix. */
+    private BlockRealMatrix spd;
+
+    /** Initialize matrices.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x1d5b7f3e9a0c4826L);
+        general = BenchmarksUtils.createRandomMatrix(random, size, size);
+        spd     = BenchmarksUtils.createRandomSPDMatrix(random, size);
+    }
+
+    /** Benchmark {@link LUDecomposition}.
+     * @return decomposition
+     */
+    @Benchmark
+    public LUDecomposition lu() {
+        return new LUDecomposition(general);
+    }
+
+    /** Benchmark {@link BlockLUDecomposition}.
+     * @return decomposition
+     */
+    @Benchmark
+    public BlockLUDecomposition blockLu() {
+        return new BlockLUDecomposition(general);
+    }
+
+    /** Benchmark {@link QRDecomposition}.
+     * @return decomposition
+     */
+    @Benchmark
+    public QRDecomposition qr() {
+        return new QRDecomposition(general);
+    }
+
+    /** Benchmark {@link CholeskyDecomposition}.
+     * @return decomposition
+     */
+    @Benchmark
+    public CholeskyDecomposition cholesky() {
+        return new CholeskyDecomposition(spd);
+    }
+
+    /** Benchmark {@link EigenDecompositionSymmetric}.
+     * @return decomposition
+     */
+    @Benchmark
+    public EigenDecompositionSymmetric eigenSymmetric() {
+        return new EigenDecompositionSymmetric(spd);
+    }
+
+    /** Benchmark {@link SingularValueDecomposition}.
+     * @return decomposition
+     */
+    @Benchmark
+    public SingularValueDecomposition svd() {
+        return new SingularValueDecomposition(general);
+    }
+
+}
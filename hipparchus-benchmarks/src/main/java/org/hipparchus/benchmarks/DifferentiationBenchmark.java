@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.analysis.differentiation.DSFactory;
+import org.hipparchus.analysis.differentiation.DerivativeStructure;
+import org.hipparchus.analysis.differentiation.Gradient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for {@link DerivativeStructure} and {@link Gradient} arithmetic.
+ * <p>
+ * The same expression mixing the four arithmetic operations and a few
+ * elementary functions is evaluated with both types, with the same number
+ * of free parameters.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DifferentiationBenchmark {
+
+    /** Number of free parameters. */
+    @Param({ "3", "6" })
+    private int parameters;
+
+    /** Derivation order for derivative structures. */
+    @Param({ "1", "2" })
+    private int order;
+
+    /** Derivative structures variables. */
+    private DerivativeStructure[] dsVariables;
+
+    /** Gradients variables. */
+    private Gradient[] gradientVariables;
+
+    /** Initialize variables.
+     */
+    @Setup
+    public void setUp() {
+        final DSFactory factory = new DSFactory(parameters, order);
+        dsVariables       = new DerivativeStructure[parameters];
+        gradientVariables = new Gradient[parameters];
+        for (int i = 0; i < parameters; ++i) {
+            final double value = 0.1 * (i + 1);
+            dsVariables[i]       = factory.variable(i, value);
+            gradientVariables[i] = Gradient.variable(parameters, i, value);
+        }
+    }
+
+    /** Benchmark expression evaluation with {@link DerivativeStructure}.
+     * @return expression value
+     */
+    @Benchmark
+    public DerivativeStructure derivativeStructure() {
+        return evaluate(dsVariables);
+    }
+
+    /** Benchmark expression evaluation with {@link Gradient}.
+     * @return expression value
+     */
+    @Benchmark
+    public Gradient gradient() {
+        return evaluate(gradientVariables);
+    }
+
+    /** Evaluate test expression.
+     * @param x variables
+     * @param <T> type of the field elements
+     * @return expression value
+     */
+    private static <T extends CalculusFieldElement<T>> T evaluate(final T[] x) {
+        T sum = x[0].getField().getZero();
+        for (int i = 0; i < x.length; ++i) {
+            final T xi = x[i];
+            final T xj = x[(i + 1) % x.length];
+            sum = sum.add(xi.multiply(xj)).
+                  subtract(xi.sin().multiply(xj.exp())).
+                  add(xi.divide(xj.multiply(xj).add(1.0)));
+        }
+        return sum.sqrt();
+    }
+
+}
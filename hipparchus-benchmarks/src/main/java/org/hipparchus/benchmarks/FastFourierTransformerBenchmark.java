@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.transform.DftNormalization;
+import org.hipparchus.transform.FastFourierTransformer;
+import org.hipparchus.transform.TransformType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for {@link FastFourierTransformer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FastFourierTransformerBenchmark {
+
+    /** Signal length (must be a power of 2). */
+    @Param({ "1024", "65536" })
+    private int length;
+
+    /** Transformer. */
+    private FastFourierTransformer transformer;
+
+    /** Real signal. */
+    private double[] signal;
+
+    /** Initialize signal.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x52f7a3c81e6b09d4L);
+        transformer = new FastFourierTransformer(DftNormalization.STANDARD);
+        signal      = new double[length];
+        for (int i = 0; i < length; ++i) {
+            signal[i] = 2 * random.nextDouble() - 1;
+        }
+    }
+
+    /** Benchmark forward {@link FastFourierTransformer#transform(double[], TransformType)}.
+     * @return transformed signal
+     */
+    @Benchmark
+    public Complex[] forward() {
+        return transformer.transform(signal, TransformType.FORWARD);
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmark for {@link FastMath} elementary functions, compared with {@link Math}.
+ * <p>
+ * Each invocation evaluates the function on a fixed set of random arguments,
+ * so the score is the time needed for {@link #SIZE} calls.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FastMathBenchmark {
+
+    /** Number of arguments per invocation. */
+    private static final int SIZE = 1024;
+
+    /** Arguments in [-10, 10] for exp and sin. */
+    private double[] x;
+
+    /** Arguments in ]0, 1000] for log and pow bases. */
+    private double[] positive;
+
+    /** Arguments in [-3, 3] for pow exponents. */
+    private double[] exponents;
+
+    /** Initialize arguments.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x3fa2d9c51ab6e547L);
+        x         = new double[SIZE];
+        positive  = new double[SIZE];
+        exponents = new double[SIZE];
+        for (int i = 0; i < SIZE; ++i) {
+            x[i]         = 20 * random.nextDouble() - 10;
+            positive[i]  = 1000 * (1 - random.nextDouble());
+            exponents[i] = 6 * random.nextDouble() - 3;
+        }
+    }
+
+    /** Benchmark {@link FastMath#exp(double)}.
+     * @param bh black hole
+     */
+    @Benchmark
+    public void fastMathExp(final Blackhole bh) {
+        for (final double xi : x) {
+            bh.consume(FastMath.exp(xi));
+        }
+    }
+
+    /** Benchmark {@link Math#exp(double)}.
+     * @param bh black hole
+     */
+    @Benchmark
+    public void mathExp(final Blackhole bh) {
+        for (final double xi : x) {
+            bh.consume(Math.exp(xi));
+        }
+    }
+
+    /** Benchmark {@link FastMath#log(double)}.
+     * @param bh black hole
+     */
+    @Benchmark
+    public void fastMathLog(final Blackhole bh) {
+        for (final double pi : positive) {
+            bh.consume(FastMath.log(pi));
+        }
+    }
+
+    /** Benchmark {@link Math#log(double)}.
+     * @param bh black hole
+     */
+    @Benchmark
+    public void mathLog(final Blackhole bh) {
+        for (final double pi : positive) {
+            bh.consume(Math.log(pi));
+        }
+    }
+
+    /** Benchmark {@link FastMath#sin(double)}.
+     * @param bh black hole
+     */
+    @Benchmark
+    public void fastMathSin(final Blackhole bh) {
+        for (final double xi : x) {
+            bh.consume(FastMath.sin(xi));
+        }
+    }
+
+    /** Benchmark {@link Math#sin(double)}.
+     * @param bh black hole
+     */
+    @Benchmark
+    public void mathSin(final Blackhole bh) {
+        for (final double xi : x) {
+            bh.consume(Math.sin(xi));
+        }
+    }
+
+    /** Benchmark {@link FastMath#pow(double, double)}.
+     * @param bh black hole
+     */
+    @Benchmark
+    public void fastMathPow(final Blackhole bh) {
+        for (int i = 0; i < SIZE; ++i) {
+            bh.consume(FastMath.pow(positive[i], exponents[i]));
+        }
+    }
+
+    /** Benchmark {@link Math#pow(double, double)}.
+     * @param bh black hole
+     */
+    @Benchmark
+    public void mathPow(final Blackhole bh) {
+        for (int i = 0; i < SIZE; ++i) {
+            bh.consume(Math.pow(positive[i], exponents[i]));
+        }
+    }
+
+}
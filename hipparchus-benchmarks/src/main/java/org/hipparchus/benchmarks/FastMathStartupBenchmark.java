@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for the start-up cost of {@link FastMath}.
+ * <p>
+ * Each fork is a fresh JVM in which the benchmark method is called exactly once,
+ * so the score is the time to the first result of a function, including loading
+ * and initializing {@link FastMath} and the lookup tables the function needs.
+ * This is the cost paid by short-lived processes such as command-line tools.
+ * </p>
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class FastMathStartupBenchmark {
+
+    /** Argument of the functions. */
+    private double x = 0.7;
+
+    /** Time to first {@link FastMath#exp(double)}.
+     * @return exp(x)
+     */
+    @Benchmark
+    public double firstExp() {
+        return FastMath.exp(x);
+    }
+
+    /** Time to first {@link FastMath#log(double)}.
+     * @return log(x)
+     */
+    @Benchmark
+    public double firstLog() {
+        return FastMath.log(x);
+    }
+
+    /** Time to first {@link FastMath#sin(double)}.
+     * @return sin(x)
+     */
+    @Benchmark
+    public double firstSin() {
+        return FastMath.sin(x);
+    }
+
+    /** Time to first {@link FastMath#sqrt(double)}, which needs no lookup table.
+     * @return sqrt(x)
+     */
+    @Benchmark
+    public double firstSqrt() {
+        return FastMath.sqrt(x);
+    }
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.analysis.differentiation.Gradient;
+import org.hipparchus.linear.Array2DRowFieldMatrix;
+import org.hipparchus.linear.Binary64FieldMatrix;
+import org.hipparchus.linear.BlockFieldMatrix;
+import org.hipparchus.linear.FieldMatrix;
+import org.hipparchus.linear.GradientFieldMatrix;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.Binary64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for primitive-backed field matrices against the generic implementations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldMatrixBenchmark {
+
+    /** Number of free parameters of gradients. */
+    private static final int PARAMETERS = 6;
+
+    /** Matrices dimension. */
+    @Param({ "6", "50" })
+    private int dimension;
+
+    /** Generic binary64 operand. */
+    private FieldMatrix<Binary64> genericBinary64;
+
+    /** Primitive-backed binary64 operand. */
+    private Binary64FieldMatrix primitiveBinary64;
+
+    /** Generic gradient operand. */
+    private FieldMatrix<Gradient> genericGradient;
+
+    /** Primitive-backed gradient operand. */
+    private GradientFieldMatrix primitiveGradient;
+
+    /** Initialize operands.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x3d8e51a7c02bf964L);
+        primitiveBinary64 = new Binary64FieldMatrix(createMatrix(random));
+        genericBinary64   = new Array2DRowFieldMatrix<>(primitiveBinary64.getData());
+        final RealMatrix[] derivatives = new RealMatrix[PARAMETERS];
+        for (int l = 0; l < PARAMETERS; ++l) {
+            derivatives[l] = createMatrix(random);
+        }
+        primitiveGradient = new GradientFieldMatrix(createMatrix(random), derivatives);
+        genericGradient   = new BlockFieldMatrix<>(primitiveGradient.getData());
+    }
+
+    /** Create a random matrix.
+     * @param random generator for entries
+     * @return random matrix
+     */
+    private RealMatrix createMatrix(final RandomGenerator random) {
+        final RealMatrix m = MatrixUtils.createRealMatrix(dimension, dimension);
+        for (int i = 0; i < dimension; ++i) {
+            for (int j = 0; j < dimension; ++j) {
+                m.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return m;
+    }
+
+    /** Multiply binary64 matrices using the generic implementation.
+     * @return product
+     */
+    @Benchmark
+    public FieldMatrix<Binary64> multiplyBinary64Generic() {
+        return genericBinary64.multiply(genericBinary64);
+    }
+
+    /** Multiply binary64 matrices using primitive storage.
+     * @return product
+     */
+    @Benchmark
+    public FieldMatrix<Binary64> multiplyBinary64Primitive() {
+        return primitiveBinary64.multiply(primitiveBinary64);
+    }
+
+    /** Multiply gradient matrices using the generic implementation.
+     * @return product
+     */
+    @Benchmark
+    public FieldMatrix<Gradient> multiplyGradientGeneric() {
+        return genericGradient.multiply(genericGradient);
+    }
+
+    /** Multiply gradient matrices using primitive storage.
+     * @return product
+     */
+    @Benchmark
+    public FieldMatrix<Gradient> multiplyGradientPrimitive() {
+        return primitiveGradient.multiply(primitiveGradient);
+    }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.clustering.CentroidCluster;
+import org.hipparchus.clustering.DoublePoint;
+import org.hipparchus.clustering.KMeansPlusPlusClusterer;
+import org.hipparchus.clustering.distance.EuclideanDistance;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for {@link KMeansPlusPlusClusterer#cluster(java.util.Collection)}.
+ * <p>
+ * Points are drawn from gaussian blobs around random centers, and the
+ * clusterer random generator is reset at each invocation so all invocations
+ * perform the same work.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class KMeansPlusPlusClustererBenchmark {
+
+    /** Points dimension. */
+    private static final int DIMENSION = 8;
+
+    /** Number of clusters. */
+    private static final int K = 10;
+
+    /** Number of points. */
+    @Param({ "1000", "10000" })
+    private int size;
+
+    /** Points to cluster. */
+    private List<DoublePoint> points;
+
+    /** Initialize points.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x7a3e05c2d9b1f468L);
+        final double[][] centers = new double[K][DIMENSION];
+        for (final double[] center : centers) {
+            for (int j = 0; j < DIMENSION; ++j) {
+                center[j] = 100 * random.nextDouble();
+            }
+        }
+        points = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            final double[] center = centers[random.nextInt(K)];
+            final double[] p      = new double[DIMENSION];
+            for (int j = 0; j < DIMENSION; ++j) {
+                p[j] = center[j] + 5 * random.nextGaussian();
+            }
+            points.add(new DoublePoint(p));
+        }
+    }
+
+    /** Benchmark clustering.
+     * @return clusters
+     */
+    @Benchmark
+    public List<CentroidCluster<DoublePoint>> cluster() {
+        final KMeansPlusPlusClusterer<DoublePoint> clusterer =
+                        new KMeansPlusPlusClusterer<>(K, 100, new EuclideanDistance(),
+                                                      new Well19937a(0x1b4f8e6d2a0c9735L));
+        return clusterer.cluster(points);
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.BlockRealMatrix;
+import org.hipparchus.linear.MappedRealMatrix;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for tall design matrices held in the heap or in a memory-mapped file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappedRealMatrixBenchmark {
+
+    /** Number of columns of the design matrix. */
+    private static final int COLUMNS = 50;
+
+    /** Number of rows of the design matrix. */
+    @Param({ "20000", "200000" })
+    private int rows;
+
+    /** Temporary file. */
+    private Path file;
+
+    /** In-heap design matrix. */
+    private BlockRealMatrix heap;
+
+    /** File-backed design matrix. */
+    private MappedRealMatrix mapped;
+
+    /** Vector. */
+    private double[] v;
+
+    /** Initialize operands.
+     * @exception IOException if temporary file cannot be created
+     */
+    @Setup
+    public void setUp() throws IOException {
+        final RandomGenerator random = new Well19937a(0x4c1d8e7a39b02f65L);
+        heap   = BenchmarksUtils.createRandomMatrix(random, rows, COLUMNS);
+        file   = Files.createTempFile("hipparchus-mapped-", ".bin");
+        mapped = MappedRealMatrix.create(file, heap);
+        v      = new double[COLUMNS];
+        for (int i = 0; i < COLUMNS; ++i) {
+            v[i] = 2 * random.nextDouble() - 1;
+        }
+    }
+
+    /** Release the temporary file.
+     * @exception IOException if temporary file cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        mapped.close();
+        Files.deleteIfExists(file);
+    }
+
+    /** Benchmark normal matrix with the in-heap matrix.
+     * @return normal matrix
+     */
+    @Benchmark
+    public RealMatrix normalHeap() {
+        return heap.transposeMultiply(heap);
+    }
+
+    /** Benchmark normal matrix with the file-backed matrix.
+     * @return normal matrix
+     */
+    @Benchmark
+    public RealMatrix normalMapped() {
+        return mapped.transposeMultiply(mapped);
+    }
+
+    /** Benchmark matrix-vector product with the in-heap matrix.
+     * @return product
+     */
+    @Benchmark
+    public double[] operateHeap() {
+        return heap.operate(v);
+    }
+
+    /** Benchmark matrix-vector product with the file-backed matrix.
+     * @return product
+     */
+    @Benchmark
+    public double[] operateMapped() {
+        return mapped.operate(v);
+    }
+
+    /** Benchmark reopening a persisted matrix and reading it back in the heap.
+     * @return matrix read from the file
+     * @exception IOException if file cannot be read
+     */
+    @Benchmark
+    public RealMatrix reopen() throws IOException {
+        try (MappedRealMatrix reopened = MappedRealMatrix.open(file, false)) {
+            return reopened.copy();
+        }
+    }
+
+}
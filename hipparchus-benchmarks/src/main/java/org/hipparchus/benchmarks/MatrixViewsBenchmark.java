@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.Array2DRowRealMatrix;
+import org.hipparchus.linear.BlockRealMatrix;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for block-wise processing of a dense matrix, using copies or views.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatrixViewsBenchmark {
+
+    /** Matrix dimension. */
+    @Param({ "500", "2000" })
+    private int size;
+
+    /** Number of rows in each block. */
+    private static final int BLOCK_ROWS = 100;
+
+    /** Matrix. */
+    private RealMatrix a;
+
+    /** Same matrix, with block storage. */
+    private RealMatrix blockA;
+
+    /** Vector. */
+    private double[] v;
+
+    /** Initialize operands.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x1e97c3a6b05d284fL);
+        a = new Array2DRowRealMatrix(BenchmarksUtils.createRandomMatrix(random, size, size).getData(), false);
+        blockA = new BlockRealMatrix(a.getData());
+        v = new double[size];
+        for (int i = 0; i < size; ++i) {
+            v[i] = 2 * random.nextDouble() - 1;
+        }
+    }
+
+    /** Benchmark block-wise products using {@link RealMatrix#getSubMatrix(int, int, int, int)}.
+     * @return sum of the blocks products
+     */
+    @Benchmark
+    public double blocksCopy() {
+        double sum = 0;
+        for (int start = 0; start < size; start += BLOCK_ROWS) {
+            final RealMatrix block = a.getSubMatrix(start, start + BLOCK_ROWS - 1, 0, size - 1);
+            sum += block.operate(v)[0];
+        }
+        return sum;
+    }
+
+    /** Benchmark block-wise products using {@link RealMatrix#getSubMatrixView(int, int, int, int)}.
+     * @return sum of the blocks products
+     */
+    @Benchmark
+    public double blocksView() {
+        double sum = 0;
+        for (int start = 0; start < size; start += BLOCK_ROWS) {
+            final RealMatrix block = a.getSubMatrixView(start, start + BLOCK_ROWS - 1, 0, size - 1);
+            sum += block.operate(v)[0];
+        }
+        return sum;
+    }
+
+    /** Benchmark block-wise products using {@link RealMatrix#getSubMatrix(int, int, int, int)}
+     * on a {@link BlockRealMatrix}.
+     * @return sum of the blocks products
+     */
+    @Benchmark
+    public double blocksCopyBlockParent() {
+        double sum = 0;
+        for (int start = 0; start < size; start += BLOCK_ROWS) {
+            final RealMatrix block = blockA.getSubMatrix(start, start + BLOCK_ROWS - 1, 0, size - 1);
+            sum += block.operate(v)[0];
+        }
+        return sum;
+    }
+
+    /** Benchmark block-wise products using {@link RealMatrix#getSubMatrixView(int, int, int, int)}
+     * on a {@link BlockRealMatrix}.
+     * @return sum of the blocks products
+     */
+    @Benchmark
+    public double blocksViewBlockParent() {
+        double sum = 0;
+        for (int start = 0; start < size; start += BLOCK_ROWS) {
+            final RealMatrix block = blockA.getSubMatrixView(start, start + BLOCK_ROWS - 1, 0, size - 1);
+            sum += block.operate(v)[0];
+        }
+        return sum;
+    }
+
+    /** Benchmark transposed product using {@link RealMatrix#transpose()}.
+     * @return product
+     */
+    @Benchmark
+    public double[] transposeCopy() {
+        return a.transpose().operate(v);
+    }
+
+    /** Benchmark transposed product using {@link RealMatrix#getTransposeView()}.
+     * @return product
+     */
+    @Benchmark
+    public double[] transposeView() {
+        return a.getTransposeView().operate(v);
+    }
+
+}
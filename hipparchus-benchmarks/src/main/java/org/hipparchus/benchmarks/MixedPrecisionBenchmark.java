@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.ArrayRealVector;
+import org.hipparchus.linear.LUDecomposition;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.MixedPrecisionSolver;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for {@link MixedPrecisionSolver} against double precision {@link LUDecomposition}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MixedPrecisionBenchmark {
+
+    /** Matrix dimension. */
+    @Param({ "100", "500" })
+    private int n;
+
+    /** Well-conditioned matrix. */
+    private RealMatrix a;
+
+    /** Right hand side. */
+    private RealVector b;
+
+    /** Initialize the system.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x4c7d2e9a15f0b836L);
+        a = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                a.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+            a.addToEntry(i, i, n);
+        }
+        b = new ArrayRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            b.setEntry(i, 2 * random.nextDouble() - 1);
+        }
+    }
+
+    /** Factor and solve in double precision.
+     * @return solution
+     */
+    @Benchmark
+    public RealVector luDecomposition() {
+        return new LUDecomposition(a).getSolver().solve(b);
+    }
+
+    /** Factor in single precision and refine the solution in double precision.
+     * @return solution
+     */
+    @Benchmark
+    public RealVector mixedPrecision() {
+        return new MixedPrecisionSolver(a).solve(b);
+    }
+
+}
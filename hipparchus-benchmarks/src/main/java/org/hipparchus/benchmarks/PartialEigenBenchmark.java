@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.ArnoldiEigenDecomposition;
+import org.hipparchus.linear.CompressedColumnRealMatrix;
+import org.hipparchus.linear.CompressedRealMatrixBuilder;
+import org.hipparchus.linear.EigenDecompositionSymmetric;
+import org.hipparchus.linear.LanczosEigenDecomposition;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for computing a few eigenpairs of a large sparse symmetric matrix.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PartialEigenBenchmark {
+
+    /** Number of eigenpairs. */
+    private static final int K = 10;
+
+    /** Matrix dimension. */
+    @Param({ "300", "1500" })
+    private int size;
+
+    /** Sparse symmetric matrix. */
+    private CompressedColumnRealMatrix sparse;
+
+    /** Same matrix in dense storage. */
+    private RealMatrix dense;
+
+    /** Initialize operands.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator             random  = new Well19937a(0x71e3b05c9a2d48f6L);
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(size, size);
+        for (int i = 0; i < size; ++i) {
+            // about 10 non-zero elements per row
+            for (int l = 0; l < 5; ++l) {
+                final int    j = random.nextInt(size);
+                final double v = 2 * random.nextDouble() - 1;
+                builder.addEntry(i, j, v);
+                builder.addEntry(j, i, v);
+            }
+            builder.addEntry(i, i, FastMath.sqrt(i + 1.0));
+        }
+        sparse = builder.buildCompressedColumn();
+        dense  = MatrixUtils.createRealMatrix(sparse.getData());
+    }
+
+    /** Benchmark full dense symmetric eigen decomposition.
+     * @return largest eigenvalue
+     */
+    @Benchmark
+    public double dense() {
+        return new EigenDecompositionSymmetric(dense).getEigenvalue(0);
+    }
+
+    /** Benchmark partial eigen decomposition using restarted Lanczos.
+     * @return largest eigenvalue
+     */
+    @Benchmark
+    public double lanczos() {
+        return new LanczosEigenDecomposition(sparse, K).getEigenvalue(0);
+    }
+
+    /** Benchmark partial eigen decomposition using implicitly restarted Arnoldi.
+     * @return largest magnitude eigenvalue
+     */
+    @Benchmark
+    public double arnoldi() {
+        return new ArnoldiEigenDecomposition(sparse, K).getEigenvalue(0).getReal();
+    }
+
+}
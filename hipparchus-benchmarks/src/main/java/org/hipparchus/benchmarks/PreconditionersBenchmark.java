@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.ArrayRealVector;
+import org.hipparchus.linear.CompressedRealMatrixBuilder;
+import org.hipparchus.linear.CompressedRowRealMatrix;
+import org.hipparchus.linear.ConjugateGradient;
+import org.hipparchus.linear.IncompleteCholeskyPreconditioner;
+import org.hipparchus.linear.JacobiPreconditioner;
+import org.hipparchus.linear.RealLinearOperator;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.linear.SSORPreconditioner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for preconditioned conjugate gradient.
+ * <p>
+ * The matrix is the 5-points Laplacian on a square grid with strongly varying
+ * coefficients, which makes it badly conditioned. The preconditioner set up
+ * cost is included in the measurements.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreconditionersBenchmark {
+
+    /** Number of grid points along one side. */
+    @Param({ "100" })
+    private int grid;
+
+    /** Matrix. */
+    private CompressedRowRealMatrix a;
+
+    /** Right hand side. */
+    private RealVector b;
+
+    /** Initialize matrix.
+     */
+    @Setup
+    public void setUp() {
+        final int n = grid * grid;
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n, 5 * n);
+        for (int i = 0; i < grid; ++i) {
+            for (int j = 0; j < grid; ++j) {
+                final int k = i * grid + j;
+                double diagonal = 1.0e-3;
+                if (i > 0) {
+                    diagonal += addEdge(builder, k, k - grid, i, j, i - 1, j);
+                }
+                if (i < grid - 1) {
+                    diagonal += addEdge(builder, k, k + grid, i, j, i + 1, j);
+                }
+                if (j > 0) {
+                    diagonal += addEdge(builder, k, k - 1, i, j, i, j - 1);
+                }
+                if (j < grid - 1) {
+                    diagonal += addEdge(builder, k, k + 1, i, j, i, j + 1);
+                }
+                builder.addEntry(k, k, diagonal);
+            }
+        }
+        a = builder.buildCompressedRow();
+        b = new ArrayRealVector(n, 1.0);
+    }
+
+    /** Add the off-diagonal entry corresponding to one grid edge.
+     * @param builder matrix builder
+     * @param k row index
+     * @param l column index
+     * @param i1 first grid index of node k
+     * @param j1 second grid index of node k
+     * @param i2 first grid index of node l
+     * @param j2 second grid index of node l
+     * @return edge diffusion coefficient
+     */
+    private double addEdge(final CompressedRealMatrixBuilder builder, final int k, final int l,
+                           final int i1, final int j1, final int i2, final int j2) {
+        final double c = 0.5 * (coefficient(i1, j1) + coefficient(i2, j2));
+        builder.addEntry(k, l, -c);
+        return c;
+    }
+
+    /** Get the diffusion coefficient at a grid node.
+     * <p>
+     * The coefficient jumps by two orders of magnitude between the grid quadrants.
+     * </p>
+     * @param i first grid index
+     * @param j second grid index
+     * @return diffusion coefficient
+     */
+    private double coefficient(final int i, final int j) {
+        return (i < grid / 2) == (j < grid / 2) ? 1.0 : 100.0;
+    }
+
+    /** Solve the system.
+     * @param m preconditioner
+     * @return number of iterations
+     */
+    private int solve(final RealLinearOperator m) {
+        final ConjugateGradient solver = new ConjugateGradient(100000, 1.0e-8, false);
+        solver.solve(a, m, b);
+        return solver.getIterationManager().getIterations();
+    }
+
+    /** Benchmark {@link JacobiPreconditioner}.
+     * @return number of iterations
+     */
+    @Benchmark
+    public int jacobi() {
+        return solve(JacobiPreconditioner.create(a));
+    }
+
+    /** Benchmark {@link IncompleteCholeskyPreconditioner}.
+     * @return number of iterations
+     */
+    @Benchmark
+    public int incompleteCholesky() {
+        return solve(new IncompleteCholeskyPreconditioner(a));
+    }
+
+    /** Benchmark {@link SSORPreconditioner}.
+     * @return number of iterations
+     */
+    @Benchmark
+    public int ssor() {
+        return solve(new SSORPreconditioner(a, 1.5));
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.ArrayRealVector;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.QRDecomposition;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.RealVector;
+import org.hipparchus.linear.UpdatableQRDecomposition;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for sliding a window of observations over a QR-factorized design matrix.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QRUpdateBenchmark {
+
+    /** Number of columns (the window holds four times as many rows). */
+    @Param({ "20", "200" })
+    private int size;
+
+    /** Current decomposition. */
+    private UpdatableQRDecomposition qr;
+
+    /** Design matrix after sliding the window. */
+    private RealMatrix slided;
+
+    /** New observation. */
+    private RealVector x;
+
+    /** Initialize operands.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x2e91c7b05fa4d368L);
+        final RealMatrix      a      = MatrixUtils.createRealMatrix(4 * size, size);
+        for (int i = 0; i < 4 * size; ++i) {
+            for (int j = 0; j < size; ++j) {
+                a.setEntry(i, j, random.nextGaussian());
+            }
+        }
+        x = new ArrayRealVector(size);
+        for (int j = 0; j < size; ++j) {
+            x.setEntry(j, random.nextGaussian());
+        }
+        qr     = new UpdatableQRDecomposition(a);
+        slided = a.copy();
+        slided.setRowVector(0, x);
+    }
+
+    /** Benchmark full refactorization.
+     * @return new decomposition
+     */
+    @Benchmark
+    public QRDecomposition refactor() {
+        return new QRDecomposition(slided);
+    }
+
+    /** Benchmark row replacement by update and downdate.
+     * @return updated decomposition
+     */
+    @Benchmark
+    public UpdatableQRDecomposition update() {
+        qr.addRow(0, x);
+        qr.removeRow(1);
+        return qr;
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.AbstractRealMatrix;
+import org.hipparchus.linear.BlockRealMatrix;
+import org.hipparchus.linear.RandomizedSingularValueDecomposition;
+import org.hipparchus.linear.SingularValueDecomposition;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for computing the leading singular triplets of a tall matrix.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomizedSvdBenchmark {
+
+    /** Number of columns. */
+    private static final int COLUMNS = 400;
+
+    /** Number of singular triplets. */
+    private static final int K = 20;
+
+    /** Number of rows. */
+    @Param({ "1000", "4000" })
+    private int rows;
+
+    /** Matrix to decompose. */
+    private AbstractRealMatrix matrix;
+
+    /** Initialize operands.
+     */
+    @Setup
+    public void setUp() {
+        // low rank signal plus noise, as in PCA preprocessing
+        final RandomGenerator random = new Well19937a(0x1e5a7c93d04bf826L);
+        final double[][] left  = new double[rows][K];
+        final double[][] right = new double[K][COLUMNS];
+        for (final double[] row : left) {
+            for (int j = 0; j < K; ++j) {
+                row[j] = random.nextGaussian();
+            }
+        }
+        for (final double[] row : right) {
+            for (int j = 0; j < COLUMNS; ++j) {
+                row[j] = random.nextGaussian();
+            }
+        }
+        matrix = new BlockRealMatrix(left).multiply(new BlockRealMatrix(right));
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < COLUMNS; ++j) {
+                matrix.addToEntry(i, j, 0.1 * random.nextGaussian());
+            }
+        }
+    }
+
+    /** Benchmark full singular value decomposition.
+     * @return largest singular value
+     */
+    @Benchmark
+    public double full() {
+        return new SingularValueDecomposition(matrix).getNorm();
+    }
+
+    /** Benchmark randomized truncated singular value decomposition.
+     * @return largest singular value
+     */
+    @Benchmark
+    public double randomized() {
+        return new RandomizedSingularValueDecomposition(matrix, K).getNorm();
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.CholeskyDecomposition;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.SmallMatrixBatch;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Benchmark for {@link SmallMatrixBatch} against one matrix object per covariance.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SmallMatrixBatchBenchmark {
+
+    /** Matrices dimension. */
+    private static final int DIMENSION = 6;
+
+    /** Number of matrices. */
+    @Param({ "1000", "10000" })
+    private int count;
+
+    /** Transition matrices. */
+    private RealMatrix[] a;
+
+    /** Covariance matrices. */
+    private RealMatrix[] p;
+
+    /** Batch of transition matrices. */
+    private SmallMatrixBatch aBatch;
+
+    /** Batch of covariance matrices. */
+    private SmallMatrixBatch pBatch;
+
+    /** Batch of propagated covariance matrices. */
+    private SmallMatrixBatch propagated;
+
+    /** Initialize operands.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x48c1e0b7f35a9d26L);
+        a = new RealMatrix[count];
+        p = new RealMatrix[count];
+        for (int k = 0; k < count; ++k) {
+            a[k] = MatrixUtils.createRealIdentityMatrix(DIMENSION);
+            final RealMatrix g = MatrixUtils.createRealMatrix(DIMENSION, DIMENSION);
+            for (int i = 0; i < DIMENSION; ++i) {
+                for (int j = 0; j < DIMENSION; ++j) {
+                    a[k].addToEntry(i, j, 0.1 * random.nextGaussian());
+                    g.setEntry(i, j, random.nextGaussian());
+                }
+            }
+            p[k] = g.multiplyTransposed(g).add(MatrixUtils.createRealIdentityMatrix(DIMENSION));
+        }
+        aBatch     = new SmallMatrixBatch(a);
+        pBatch     = new SmallMatrixBatch(p);
+        propagated = new SmallMatrixBatch(count, DIMENSION, DIMENSION);
+    }
+
+    /** Benchmark covariance propagation with one matrix object per covariance.
+     * @param blackhole sink for results
+     */
+    @Benchmark
+    public void congruenceObjects(final Blackhole blackhole) {
+        for (int k = 0; k < count; ++k) {
+            blackhole.consume(a[k].multiply(p[k]).multiplyTransposed(a[k]));
+        }
+    }
+
+    /** Benchmark covariance propagation with a batch.
+     * @return propagated covariances
+     */
+    @Benchmark
+    public SmallMatrixBatch congruenceBatch() {
+        return aBatch.congruence(pBatch, propagated);
+    }
+
+    /** Benchmark Cholesky decompositions with one matrix object per covariance.
+     * @param blackhole sink for results
+     */
+    @Benchmark
+    public void choleskyObjects(final Blackhole blackhole) {
+        for (int k = 0; k < count; ++k) {
+            blackhole.consume(new CholeskyDecomposition(p[k]).getL());
+        }
+    }
+
+    /** Benchmark Cholesky decompositions with a batch.
+     * @return Cholesky factors
+     */
+    @Benchmark
+    public SmallMatrixBatch choleskyBatch() {
+        return pBatch.cholesky();
+    }
+
+    /** Benchmark inversions with one matrix object per covariance.
+     * @param blackhole sink for results
+     */
+    @Benchmark
+    public void inverseObjects(final Blackhole blackhole) {
+        for (int k = 0; k < count; ++k) {
+            blackhole.consume(MatrixUtils.inverse(p[k]));
+        }
+    }
+
+    /** Benchmark inversions with a batch.
+     * @return inverses
+     */
+    @Benchmark
+    public SmallMatrixBatch inverseBatch() {
+        return pBatch.inverse();
+    }
+
+}
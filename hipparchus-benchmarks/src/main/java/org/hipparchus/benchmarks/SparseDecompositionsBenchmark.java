@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.CholeskyDecomposition;
+import org.hipparchus.linear.CompressedColumnRealMatrix;
+import org.hipparchus.linear.CompressedRealMatrixBuilder;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.SparseCholeskyAnalysis;
+import org.hipparchus.linear.SparseCholeskyDecomposition;
+import org.hipparchus.linear.SparseLUDecomposition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for sparse direct decompositions.
+ * <p>
+ * The matrix is the 5-points Laplacian on a square grid, factored either from
+ * scratch or reusing a previous symbolic analysis, and compared with the dense
+ * {@link CholeskyDecomposition}.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SparseDecompositionsBenchmark {
+
+    /** Number of grid points along one side. */
+    @Param({ "20", "40" })
+    private int grid;
+
+    /** Matrix in compressed column format. */
+    private CompressedColumnRealMatrix csc;
+
+    /** Matrix in dense format. */
+    private RealMatrix dense;
+
+    /** Symbolic analysis. */
+    private SparseCholeskyAnalysis analysis;
+
+    /** Initialize matrices.
+     */
+    @Setup
+    public void setUp() {
+        final int n = grid * grid;
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n, 5 * n);
+        for (int i = 0; i < grid; ++i) {
+            for (int j = 0; j < grid; ++j) {
+                final int k = i * grid + j;
+                builder.addEntry(k, k, 4.0);
+                if (i > 0) {
+                    builder.addEntry(k, k - grid, -1.0);
+                }
+                if (i < grid - 1) {
+                    builder.addEntry(k, k + grid, -1.0);
+                }
+                if (j > 0) {
+                    builder.addEntry(k, k - 1, -1.0);
+                }
+                if (j < grid - 1) {
+                    builder.addEntry(k, k + 1, -1.0);
+                }
+            }
+        }
+        csc      = builder.buildCompressedColumn();
+        dense    = MatrixUtils.createRealMatrix(csc.getData());
+        analysis = new SparseCholeskyAnalysis(csc);
+    }
+
+    /** Benchmark dense {@link CholeskyDecomposition}.
+     * @return decomposition
+     */
+    @Benchmark
+    public CholeskyDecomposition denseCholesky() {
+        return new CholeskyDecomposition(dense);
+    }
+
+    /** Benchmark {@link SparseCholeskyDecomposition} including symbolic analysis.
+     * @return decomposition
+     */
+    @Benchmark
+    public SparseCholeskyDecomposition sparseCholesky() {
+        return new SparseCholeskyDecomposition(csc);
+    }
+
+    /** Benchmark {@link SparseCholeskyDecomposition} reusing symbolic analysis.
+     * @return decomposition
+     */
+    @Benchmark
+    public SparseCholeskyDecomposition sparseCholeskyReuse() {
+        return new SparseCholeskyDecomposition(analysis, csc);
+    }
+
+    /** Benchmark {@link SparseLUDecomposition}.
+     * @return decomposition
+     */
+    @Benchmark
+    public SparseLUDecomposition sparseLU() {
+        return new SparseLUDecomposition(csc);
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.CompressedColumnRealMatrix;
+import org.hipparchus.linear.CompressedRealMatrixBuilder;
+import org.hipparchus.linear.CompressedRowRealMatrix;
+import org.hipparchus.linear.OpenMapRealMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for sparse matrix-vector products, as found in iterative linear solvers.
+ * <p>
+ * The matrix is the 5-points Laplacian on a square grid. The grid size is
+ * limited by {@link OpenMapRealMatrix} which cannot hold more than
+ * {@code Integer.MAX_VALUE} entries (including zeros).
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SparseMatrixBenchmark {
+
+    /** Number of grid points along one side. */
+    @Param({ "50", "200" })
+    private int grid;
+
+    /** Matrix in open map format. */
+    private OpenMapRealMatrix openMap;
+
+    /** Matrix in compressed row format. */
+    private CompressedRowRealMatrix csr;
+
+    /** Matrix in compressed column format. */
+    private CompressedColumnRealMatrix csc;
+
+    /** Vector to multiply. */
+    private double[] v;
+
+    /** Initialize matrices.
+     */
+    @Setup
+    public void setUp() {
+        final int n = grid * grid;
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n, 5 * n);
+        openMap = new OpenMapRealMatrix(n, n);
+        for (int i = 0; i < grid; ++i) {
+            for (int j = 0; j < grid; ++j) {
+                final int k = i * grid + j;
+                add(builder, k, k, 4.0);
+                if (i > 0) {
+                    add(builder, k, k - grid, -1.0);
+                }
+                if (i < grid - 1) {
+                    add(builder, k, k + grid, -1.0);
+                }
+                if (j > 0) {
+                    add(builder, k, k - 1, -1.0);
+                }
+                if (j < grid - 1) {
+                    add(builder, k, k + 1, -1.0);
+                }
+            }
+        }
+        csr = builder.buildCompressedRow();
+        csc = builder.buildCompressedColumn();
+        v   = new double[n];
+        for (int k = 0; k < n; ++k) {
+            v[k] = 1.0 / (k + 1);
+        }
+    }
+
+    /** Add an entry to both the builder and the open map matrix.
+     * @param builder builder for compressed matrices
+     * @param row row index
+     * @param column column index
+     * @param value entry value
+     */
+    private void add(final CompressedRealMatrixBuilder builder,
+                     final int row, final int column, final double value) {
+        builder.addEntry(row, column, value);
+        openMap.setEntry(row, column, value);
+    }
+
+    /** Benchmark {@link OpenMapRealMatrix#operate(double[])}.
+     * @return product
+     */
+    @Benchmark
+    public double[] openMapOperate() {
+        return openMap.operate(v);
+    }
+
+    /** Benchmark {@link CompressedRowRealMatrix#operate(double[])}.
+     * @return product
+     */
+    @Benchmark
+    public double[] csrOperate() {
+        return csr.operate(v);
+    }
+
+    /** Benchmark {@link CompressedRowRealMatrix#preMultiply(double[])}.
+     * @return product
+     */
+    @Benchmark
+    public double[] csrPreMultiply() {
+        return csr.preMultiply(v);
+    }
+
+    /** Benchmark {@link CompressedColumnRealMatrix#operate(double[])}.
+     * @return product
+     */
+    @Benchmark
+    public double[] cscOperate() {
+        return csc.operate(v);
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.hipparchus.stat.descriptive.StreamingStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for {@link StreamingStatistics#addValue(double)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StreamingStatisticsBenchmark {
+
+    /** Number of values added per invocation. */
+    private static final int SIZE = 10000;
+
+    /** Sample values. */
+    private double[] values;
+
+    /** Initialize sample.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x0e4b9d27c31f6a85L);
+        values = new double[SIZE];
+        for (int i = 0; i < SIZE; ++i) {
+            values[i] = random.nextGaussian();
+        }
+    }
+
+    /** Benchmark adding values to a statistics instance with default settings.
+     * @return statistics
+     */
+    @Benchmark
+    public StreamingStatistics addValue() {
+        final StreamingStatistics statistics = new StreamingStatistics();
+        for (final double value : values) {
+            statistics.addValue(value);
+        }
+        return statistics;
+    }
+
+}
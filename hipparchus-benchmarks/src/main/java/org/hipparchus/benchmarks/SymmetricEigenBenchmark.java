@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.EigenDecompositionSymmetric;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for {@link EigenDecompositionSymmetric} with implicit QL and divide-and-conquer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SymmetricEigenBenchmark {
+
+    /** Matrix dimension. */
+    @Param({ "100", "500", "1000" })
+    private int size;
+
+    /** Symmetric matrix. */
+    private RealMatrix a;
+
+    /** Pool for parallel divide-and-conquer. */
+    private ForkJoinPool pool;
+
+    /** Initialize operands.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x3d8e5b10c7a4f926L);
+        a = MatrixUtils.createRealMatrix(size, size);
+        for (int i = 0; i < size; ++i) {
+            for (int j = i; j < size; ++j) {
+                final double x = random.nextGaussian();
+                a.setEntry(i, j, x);
+                a.setEntry(j, i, x);
+            }
+        }
+        pool = new ForkJoinPool();
+    }
+
+    /** Release pool.
+     */
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    /** Benchmark implicit QL.
+     * @return decomposition
+     */
+    @Benchmark
+    public EigenDecompositionSymmetric implicitQL() {
+        return new EigenDecompositionSymmetric(a, EigenDecompositionSymmetric.DEFAULT_EPSILON, true);
+    }
+
+    /** Benchmark divide-and-conquer in the calling thread.
+     * @return decomposition
+     */
+    @Benchmark
+    public EigenDecompositionSymmetric divideAndConquer() {
+        return new EigenDecompositionSymmetric(a, EigenDecompositionSymmetric.DEFAULT_EPSILON, true, null);
+    }
+
+    /** Benchmark divide-and-conquer in a pool.
+     * @return decomposition
+     */
+    @Benchmark
+    public EigenDecompositionSymmetric parallelDivideAndConquer() {
+        return new EigenDecompositionSymmetric(a, EigenDecompositionSymmetric.DEFAULT_EPSILON, true, pool);
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.Array2DRowRealMatrix;
+import org.hipparchus.linear.CholeskyDecomposition;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.SymmetricRealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for covariance propagation with dense or packed symmetric storage.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SymmetricMatrixBenchmark {
+
+    /** Matrix dimension. */
+    @Param({ "6", "50", "400" })
+    private int size;
+
+    /** Transform matrix. */
+    private RealMatrix a;
+
+    /** Dense covariance matrix. */
+    private RealMatrix dense;
+
+    /** Packed covariance matrix. */
+    private SymmetricRealMatrix packed;
+
+    /** Initialize operands.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x6a2f9d14c07e3b58L);
+        a = new Array2DRowRealMatrix(BenchmarksUtils.createRandomMatrix(random, size, size).getData(), false);
+        final RealMatrix b = BenchmarksUtils.createRandomMatrix(random, size, size);
+        dense = new Array2DRowRealMatrix(b.transposeMultiply(b).getData(), false);
+        for (int i = 0; i < size; ++i) {
+            dense.addToEntry(i, i, size);
+        }
+        packed = new SymmetricRealMatrix(dense);
+    }
+
+    /** Benchmark A.P.A^T with dense storage.
+     * @return propagated covariance
+     */
+    @Benchmark
+    public RealMatrix propagateDense() {
+        return a.multiply(dense).multiplyTransposed(a);
+    }
+
+    /** Benchmark A.P.A^T with packed storage.
+     * @return propagated covariance
+     */
+    @Benchmark
+    public RealMatrix propagatePacked() {
+        return packed.congruence(a);
+    }
+
+    /** Benchmark Cholesky decomposition with dense storage.
+     * @return decomposition
+     */
+    @Benchmark
+    public CholeskyDecomposition choleskyDense() {
+        return new CholeskyDecomposition(dense);
+    }
+
+    /** Benchmark Cholesky decomposition with packed storage.
+     * @return decomposition
+     */
+    @Benchmark
+    public CholeskyDecomposition choleskyPacked() {
+        return new CholeskyDecomposition(packed);
+    }
+
+}
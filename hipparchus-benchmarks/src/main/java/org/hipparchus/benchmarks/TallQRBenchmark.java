@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.linear.BlockQRDecomposition;
+import org.hipparchus.linear.QRDecomposition;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937a;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Benchmark for QR decompositions of tall matrices, as found in least squares problems.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TallQRBenchmark {
+
+    /** Number of rows. */
+    @Param({ "10000", "100000" })
+    private int rows;
+
+    /** Number of columns. */
+    @Param({ "50" })
+    private int columns;
+
+    /** Tall matrix. */
+    private RealMatrix tall;
+
+    /** Initialize matrix.
+     */
+    @Setup
+    public void setUp() {
+        final RandomGenerator random = new Well19937a(0x4e8a1c7f3b2d6095L);
+        tall = BenchmarksUtils.createRandomMatrix(random, rows, columns);
+    }
+
+    /** Benchmark {@link QRDecomposition}.
+     * @return decomposition
+     */
+    @Benchmark
+    public QRDecomposition unblocked() {
+        return new QRDecomposition(tall);
+    }
+
+    /** Benchmark {@link BlockQRDecomposition}.
+     * @return decomposition
+     */
+    @Benchmark
+    public BlockQRDecomposition blocked() {
+        return new BlockQRDecomposition(tall);
+    }
+
+}
@@ -0,0 +1,35 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * <a href="https://github.com/openjdk/jmh">JMH</a> benchmarks for the numerical hot paths
+ * of the Hipparchus artifacts.
+ * <p>
+ * The benchmarks are packaged as a self-contained jar, built and run as follows:
+ * </p>
+ * <pre>
+ *   mvn -pl hipparchus-benchmarks -am package -DskipTests
+ *   java -jar hipparchus-benchmarks/target/hipparchus-benchmarks.jar [regexp]
+ * </pre>
+ * <p>
+ * The {@link org.hipparchus.benchmarks.BenchmarksRunner runner} always enables the JMH
+ * GC profiler, so allocation rates ({@code gc.alloc.rate.norm}, in bytes per operation)
+ * are reported next to throughput. The standard JMH command line can also be used with
+ * {@code java -cp hipparchus-benchmarks.jar org.openjdk.jmh.Main -prof gc ...}.
+ * </p>
+ */
+package org.hipparchus.benchmarks;
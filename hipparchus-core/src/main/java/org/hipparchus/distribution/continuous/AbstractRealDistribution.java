@@ -29,6 +29,7 @@ import org.hipparchus.distribution.RealDistribution;
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathArrays;
 import org.hipparchus.util.MathUtils;
 
 /**
@@ -221,5 +222,29 @@ public abstract class AbstractRealDistribution
     public double logDensity(double x) {
         return FastMath.log(density(x));
     }
+
+    /**
+     * Compute the probability density function for a range of points.
+     * <p>
+     * This method calls {@link #density(double)} for each point, so each result
+     * is identical to the one returned by {@link #density(double)}. Input and
+     * output may be the same array with the same start index.
+     * </p>
+     * @param x array of points at which the PDF is evaluated
+     * @param from index of the first point
+     * @param out output array for the densities
+     * @param to index of the first output entry
+     * @param n number of points
+     * @throws MathIllegalArgumentException if a range does not fit in its array
+     * @since 4.0
+     */
+    public void density(final double[] x, final int from, final double[] out, final int to, final int n)
+        throws MathIllegalArgumentException {
+        MathArrays.verifyValues(x,   from, n, true);
+        MathArrays.verifyValues(out, to,   n, true);
+        for (int i = 0; i < n; ++i) {
+            out[to + i] = density(x[from + i]);
+        }
+    }
 }
 
@@ -26,6 +26,7 @@ import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.linear.Array2DRowRealMatrix;
 import org.hipparchus.linear.EigenDecompositionSymmetric;
 import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.SymmetricRealMatrix;
 import org.hipparchus.random.RandomGenerator;
 import org.hipparchus.random.Well19937c;
 import org.hipparchus.util.FastMath;
@@ -47,7 +48,7 @@ public class MultivariateNormalDistribution
     /** Vector of means. */
     private final double[] means;
     /** Covariance matrix. */
-    private final RealMatrix covarianceMatrix;
+    private final SymmetricRealMatrix covarianceMatrix;
     /** The matrix inverse of the covariance matrix. */
     private final RealMatrix covarianceMatrixInverse;
     /** The determinant of the covariance matrix. */
@@ -185,7 +186,8 @@ public class MultivariateNormalDistribution
         this.means = means.clone();
         this.singularMatrixCheckTolerance = singularMatrixCheckTolerance;
 
-        covarianceMatrix = new Array2DRowRealMatrix(covariances);
+        covarianceMatrix = SymmetricRealMatrix.of(new Array2DRowRealMatrix(covariances, false),
+                                                  singularMatrixCheckTolerance);
 
         // Covariance matrix eigen decomposition.
         final EigenDecompositionSymmetric covMatDec =
@@ -236,6 +238,10 @@ public class MultivariateNormalDistribution
 
     /**
      * Gets the covariance matrix.
+     * <p>
+     * The matrix is stored in packed form, it is built from the symmetric
+     * part of the covariances provided at construction.
+     * </p>
      *
      * @return the covariance matrix.
      */
@@ -272,9 +278,8 @@ public class MultivariateNormalDistribution
     public double[] getStandardDeviations() {
         final int dim = getDimension();
         final double[] std = new double[dim];
-        final double[][] s = covarianceMatrix.getData();
         for (int i = 0; i < dim; i++) {
-            std[i] = FastMath.sqrt(s[i][i]);
+            std[i] = FastMath.sqrt(covarianceMatrix.getEntry(i, i));
         }
         return std;
     }
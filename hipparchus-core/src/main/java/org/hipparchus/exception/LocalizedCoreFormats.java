@@ -159,6 +159,9 @@ public enum LocalizedCoreFormats implements Localizable {
     /** ENDPOINTS_NOT_AN_INTERVAL. */
     ENDPOINTS_NOT_AN_INTERVAL("endpoints do not specify an interval: [{0}, {1}]"),
 
+    /** ENTRY_OUTSIDE_SPARSITY_PATTERN. */
+    ENTRY_OUTSIDE_SPARSITY_PATTERN("entry ({0}, {1}) is outside of the analyzed sparsity pattern"),
+
     /** EVALUATION. */
     EVALUATION("evaluation"), /* keep */
 
@@ -315,6 +318,12 @@ public enum LocalizedCoreFormats implements Localizable {
     /** NORMALIZE_NAN. */
     NORMALIZE_NAN("Cannot normalize to NaN"),
 
+    /** NOT_A_MAPPED_MATRIX_FILE. */
+    NOT_A_MAPPED_MATRIX_FILE("file {0} is not a mapped matrix file"),
+
+    /** NOT_A_PERMUTATION. */
+    NOT_A_PERMUTATION("array is not a permutation of [0, {0}]"),
+
     /** NOT_DECREASING_SEQUENCE. */
     NOT_DECREASING_SEQUENCE("points {3} and {2} are not decreasing ({1} < {0})"), /* keep */
 
@@ -474,6 +483,9 @@ public enum LocalizedCoreFormats implements Localizable {
     /** OUT_OF_RANGE_LEFT. */
     OUT_OF_RANGE_LEFT("{0} out of ({1}, {2}] range"),
 
+    /** OUTPUT_IS_AN_OPERAND. */
+    OUTPUT_IS_AN_OPERAND("output cannot be one of the operands"),
+
     /** OVERFLOW. */
     OVERFLOW("overflow"), /* keep */
 
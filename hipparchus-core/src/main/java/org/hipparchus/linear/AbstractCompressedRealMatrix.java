@@ -0,0 +1,523 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Base class for immutable sparse matrices stored in compressed form.
+ * <p>
+ * The non-zero entries are stored along a <em>major</em> dimension (rows for
+ * {@link CompressedRowRealMatrix}, columns for {@link CompressedColumnRealMatrix}):
+ * the entries of major index {@code p} are stored at indices {@code k} such that
+ * {@code pointers[p] <= k < pointers[p + 1]}, with their <em>minor</em> index in
+ * {@code indices[k]} (sorted in increasing order) and their value in {@code values[k]}.
+ * </p>
+ * <p>
+ * As the arrays are never modified once the matrix has been built, they can
+ * be shared between instances, for example between a matrix and its transpose.
+ * </p>
+ * @since 4.0
+ */
+abstract class AbstractCompressedRealMatrix extends AbstractRealMatrix
+    implements SparseRealMatrix, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Major dimension. */
+    private final int majorDimension;
+
+    /** Minor dimension. */
+    private final int minorDimension;
+
+    /** Start of each major segment (size {@code majorDimension + 1}). */
+    private final int[] pointers;
+
+    /** Minor indices of non-zero entries. */
+    private final int[] indices;
+
+    /** Values of non-zero entries. */
+    private final double[] values;
+
+    /** Simple constructor.
+     * <p>
+     * The arrays are referenced, not copied, and are supposed to be consistent.
+     * </p>
+     * @param rowDimension number of rows
+     * @param columnDimension number of columns
+     * @param majorDimension major dimension
+     * @param minorDimension minor dimension
+     * @param pointers start of each major segment
+     * @param indices minor indices of non-zero entries
+     * @param values values of non-zero entries
+     * @exception MathIllegalArgumentException if row or column dimension is not positive
+     */
+    AbstractCompressedRealMatrix(final int rowDimension, final int columnDimension,
+                                 final int majorDimension, final int minorDimension,
+                                 final int[] pointers, final int[] indices, final double[] values)
+        throws MathIllegalArgumentException {
+        super(rowDimension, columnDimension);
+        this.majorDimension = majorDimension;
+        this.minorDimension = minorDimension;
+        this.pointers       = pointers;
+        this.indices        = indices;
+        this.values         = values;
+    }
+
+    /** Create a matrix with the same storage layout as the instance.
+     * @param newMajorDimension major dimension
+     * @param newMinorDimension minor dimension
+     * @param newPointers start of each major segment
+     * @param newIndices minor indices of non-zero entries
+     * @param newValues values of non-zero entries
+     * @return new matrix, referencing the arrays
+     */
+    abstract AbstractCompressedRealMatrix create(int newMajorDimension, int newMinorDimension,
+                                                 int[] newPointers, int[] newIndices, double[] newValues);
+
+    /** Check the consistency of compressed storage arrays.
+     * @param majorDimension major dimension
+     * @param minorDimension minor dimension
+     * @param pointers start of each major segment
+     * @param indices minor indices of non-zero entries
+     * @param values values of non-zero entries
+     * @exception MathIllegalArgumentException if arrays sizes are inconsistent, if pointers are not increasing or if
+     * minor indices are out of range or not strictly increasing within a segment
+     */
+    static void checkStorage(final int majorDimension, final int minorDimension,
+                             final int[] pointers, final int[] indices, final double[] values)
+        throws MathIllegalArgumentException {
+        if (pointers.length != majorDimension + 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   pointers.length, majorDimension + 1);
+        }
+        if (pointers[0] != 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE,
+                                                   pointers[0], 0, 0);
+        }
+        if (indices.length != values.length) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   indices.length, values.length);
+        }
+        if (pointers[majorDimension] != indices.length) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   pointers[majorDimension], indices.length);
+        }
+        for (int p = 0; p < majorDimension; ++p) {
+            if (pointers[p + 1] < pointers[p]) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_INCREASING_SEQUENCE,
+                                                       pointers[p + 1], pointers[p], p + 1, p);
+            }
+            for (int k = pointers[p]; k < pointers[p + 1]; ++k) {
+                if (indices[k] < 0 || indices[k] >= minorDimension) {
+                    throw new MathIllegalArgumentException(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE,
+                                                           indices[k], 0, minorDimension - 1);
+                }
+                if (k > pointers[p] && indices[k] <= indices[k - 1]) {
+                    throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_STRICTLY_INCREASING_SEQUENCE,
+                                                           indices[k], indices[k - 1], k, k - 1);
+                }
+            }
+        }
+    }
+
+    /** Get the number of stored entries.
+     * <p>
+     * Stored entries are usually non-zero, but explicit zeros (for example
+     * resulting from cancellation when entries are summed) are counted too.
+     * </p>
+     * @return number of stored entries
+     */
+    public int getNonZeroCount() {
+        return pointers[majorDimension];
+    }
+
+    /** Get the major dimension.
+     * @return major dimension
+     */
+    int getMajorDimension() {
+        return majorDimension;
+    }
+
+    /** Get the minor dimension.
+     * @return minor dimension
+     */
+    int getMinorDimension() {
+        return minorDimension;
+    }
+
+    /** Get a reference to the segments pointers.
+     * @return reference to the segments pointers (must not be modified)
+     */
+    int[] getPointersRef() {
+        return pointers;
+    }
+
+    /** Get a reference to the minor indices.
+     * @return reference to the minor indices (must not be modified)
+     */
+    int[] getIndicesRef() {
+        return indices;
+    }
+
+    /** Get a reference to the values.
+     * @return reference to the values (must not be modified)
+     */
+    double[] getValuesRef() {
+        return values;
+    }
+
+    /** Compute the segments pointers of the transposed storage.
+     * @return segments pointers of the transposed storage (size {@code minorDimension + 1})
+     */
+    int[] transposedPointers() {
+        final int[] transposed = new int[minorDimension + 1];
+        for (int k = 0; k < getNonZeroCount(); ++k) {
+            ++transposed[indices[k] + 1];
+        }
+        for (int q = 0; q < minorDimension; ++q) {
+            transposed[q + 1] += transposed[q];
+        }
+        return transposed;
+    }
+
+    /** Fill the transposed storage.
+     * <p>
+     * As major segments are scanned in increasing order, the indices
+     * within each transposed segment are sorted.
+     * </p>
+     * @param transposedPointers segments pointers of the transposed storage,
+     * as computed by {@link #transposedPointers()}
+     * @param transposedIndices placeholder for the indices of the transposed storage
+     * @param transposedValues placeholder for the values of the transposed storage
+     */
+    void transposeStorage(final int[] transposedPointers,
+                          final int[] transposedIndices, final double[] transposedValues) {
+        final int[] next = Arrays.copyOf(transposedPointers, minorDimension);
+        for (int p = 0; p < majorDimension; ++p) {
+            for (int k = pointers[p]; k < pointers[p + 1]; ++k) {
+                final int l = next[indices[k]]++;
+                transposedIndices[l] = p;
+                transposedValues[l]  = values[k];
+            }
+        }
+    }
+
+    /** Find a stored entry.
+     * @param major major index
+     * @param minor minor index
+     * @return entry value (0 if not stored)
+     */
+    double findEntry(final int major, final int minor) {
+        final int k = Arrays.binarySearch(indices, pointers[major], pointers[major + 1], minor);
+        return k < 0 ? 0.0 : values[k];
+    }
+
+    /** Compute the product along major dimension.
+     * <p>
+     * This computes {@code out[p] = sum(A[p][q] * v[q])}, with each
+     * output element computed from one contiguous segment.
+     * </p>
+     * @param v vector indexed by minor index
+     * @param out output vector indexed by major index (overwritten)
+     */
+    void majorProduct(final double[] v, final double[] out) {
+        for (int p = 0; p < majorDimension; ++p) {
+            double sum = 0;
+            for (int k = pointers[p]; k < pointers[p + 1]; ++k) {
+                sum += values[k] * v[indices[k]];
+            }
+            out[p] = sum;
+        }
+    }
+
+    /** Compute the product along minor dimension.
+     * <p>
+     * This computes {@code out[q] = sum(A[p][q] * v[p])}, by scattering the
+     * contribution of each contiguous segment.
+     * </p>
+     * @param v vector indexed by major index
+     * @param out output vector indexed by minor index (overwritten)
+     */
+    void minorProduct(final double[] v, final double[] out) {
+        Arrays.fill(out, 0.0);
+        for (int p = 0; p < majorDimension; ++p) {
+            final double vp = v[p];
+            if (vp != 0.0) {
+                for (int k = pointers[p]; k < pointers[p + 1]; ++k) {
+                    out[indices[k]] += values[k] * vp;
+                }
+            }
+        }
+    }
+
+    /** Accumulate rows of a dense matrix along major dimension.
+     * <p>
+     * This computes {@code out[p] += sum(A[p][q] * in[q])}, where {@code in[q]}
+     * and {@code out[p]} are rows of dense matrices.
+     * </p>
+     * @param in dense matrix with one row per minor index
+     * @param out dense matrix with one row per major index
+     */
+    void majorAccumulate(final double[][] in, final double[][] out) {
+        for (int p = 0; p < majorDimension; ++p) {
+            final double[] outP = out[p];
+            for (int k = pointers[p]; k < pointers[p + 1]; ++k) {
+                axpy(values[k], in[indices[k]], outP);
+            }
+        }
+    }
+
+    /** Accumulate rows of a dense matrix along minor dimension.
+     * <p>
+     * This computes {@code out[q] += sum(A[p][q] * in[p])}, where {@code in[p]}
+     * and {@code out[q]} are rows of dense matrices.
+     * </p>
+     * @param in dense matrix with one row per major index
+     * @param out dense matrix with one row per minor index
+     */
+    void minorAccumulate(final double[][] in, final double[][] out) {
+        for (int p = 0; p < majorDimension; ++p) {
+            final double[] inP = in[p];
+            for (int k = pointers[p]; k < pointers[p + 1]; ++k) {
+                axpy(values[k], inP, out[indices[k]]);
+            }
+        }
+    }
+
+    /** Compute y += a x.
+     * @param a scalar factor
+     * @param x vector to add
+     * @param y vector to update
+     */
+    private static void axpy(final double a, final double[] x, final double[] y) {
+        for (int j = 0; j < x.length; ++j) {
+            y[j] += a * x[j];
+        }
+    }
+
+    /** Multiply the storage of the instance by the storage of another matrix.
+     * <p>
+     * This uses Gustavson's algorithm to compute {@code this<sub>s</sub> &times;
+     * right<sub>s</sub>} where both operands are seen as if their major dimension
+     * were rows. For row-compressed matrices, this is the regular product; for
+     * column-compressed matrices this is the transposed product in reverse order.
+     * Entries that cancel out are kept as explicit zeros.
+     * </p>
+     * @param right right operand, which must have the same layout as the instance
+     * @return product, with the same layout as the instance
+     */
+    AbstractCompressedRealMatrix majorMultiply(final AbstractCompressedRealMatrix right) {
+
+        final int      outMinor     = right.minorDimension;
+        final int[]    rPointers    = right.pointers;
+        final int[]    rIndices     = right.indices;
+        final double[] rValues      = right.values;
+
+        final int[]    outPointers  = new int[majorDimension + 1];
+        int[]          outIndices   = new int[FastMath.max(16, getNonZeroCount())];
+        double[]       outValues    = new double[outIndices.length];
+
+        // dense accumulator and marker for the current output segment
+        final double[] accumulator  = new double[outMinor];
+        final int[]    marker       = new int[outMinor];
+        Arrays.fill(marker, -1);
+
+        int nnz = 0;
+        for (int p = 0; p < majorDimension; ++p) {
+            final int start = nnz;
+            for (int k = pointers[p]; k < pointers[p + 1]; ++k) {
+                final int    q = indices[k];
+                final double a = values[k];
+                for (int l = rPointers[q]; l < rPointers[q + 1]; ++l) {
+                    final int j = rIndices[l];
+                    if (marker[j] != p) {
+                        marker[j] = p;
+                        accumulator[j] = 0.0;
+                        if (nnz == outIndices.length) {
+                            outIndices = Arrays.copyOf(outIndices, 2 * nnz);
+                            outValues  = Arrays.copyOf(outValues,  2 * nnz);
+                        }
+                        outIndices[nnz++] = j;
+                    }
+                    accumulator[j] += a * rValues[l];
+                }
+            }
+            Arrays.sort(outIndices, start, nnz);
+            for (int k = start; k < nnz; ++k) {
+                outValues[k] = accumulator[outIndices[k]];
+            }
+            outPointers[p + 1] = nnz;
+        }
+
+        return create(majorDimension, outMinor, outPointers,
+                      Arrays.copyOf(outIndices, nnz), Arrays.copyOf(outValues, nnz));
+
+    }
+
+    /** Merge the instance with another matrix with the same layout.
+     * @param other other matrix (must have the same layout and dimensions)
+     * @param factor factor to apply to the other matrix (+1 for sum, -1 for difference)
+     * @return this + factor &times; other
+     */
+    AbstractCompressedRealMatrix merge(final AbstractCompressedRealMatrix other, final double factor) {
+
+        final int[]    oPointers   = other.pointers;
+        final int[]    oIndices    = other.indices;
+        final double[] oValues     = other.values;
+        final int      maxNnz      = getNonZeroCount() + other.getNonZeroCount();
+        final int[]    outPointers = new int[majorDimension + 1];
+        final int[]    outIndices  = new int[maxNnz];
+        final double[] outValues   = new double[maxNnz];
+
+        int nnz = 0;
+        for (int p = 0; p < majorDimension; ++p) {
+            int k = pointers[p];
+            int l = oPointers[p];
+            while (k < pointers[p + 1] || l < oPointers[p + 1]) {
+                final int qk = k < pointers[p + 1]  ? indices[k]  : Integer.MAX_VALUE;
+                final int ql = l < oPointers[p + 1] ? oIndices[l] : Integer.MAX_VALUE;
+                if (qk < ql) {
+                    outIndices[nnz] = qk;
+                    outValues[nnz]  = values[k++];
+                } else if (ql < qk) {
+                    outIndices[nnz] = ql;
+                    outValues[nnz]  = factor * oValues[l++];
+                } else {
+                    outIndices[nnz] = qk;
+                    outValues[nnz]  = values[k++] + factor * oValues[l++];
+                }
+                ++nnz;
+            }
+            outPointers[p + 1] = nnz;
+        }
+
+        return create(majorDimension, minorDimension, outPointers,
+                      Arrays.copyOf(outIndices, nnz), Arrays.copyOf(outValues, nnz));
+
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * As compressed matrices are immutable, the created matrix is a dense one.
+     * </p>
+     */
+    @Override
+    public RealMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return MatrixUtils.createRealMatrix(rowDimension, columnDimension);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * As compressed matrices are immutable, the copy shares its storage with the instance.
+     * </p>
+     */
+    @Override
+    public AbstractCompressedRealMatrix copy() {
+        return create(majorDimension, minorDimension, pointers, indices, values);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractCompressedRealMatrix scalarMultiply(final double d) {
+        final double[] scaled = new double[values.length];
+        for (int k = 0; k < scaled.length; ++k) {
+            scaled[k] = d * values[k];
+        }
+        return create(majorDimension, minorDimension, pointers, indices, scaled);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Compressed matrices are immutable, this method always throws an exception.
+     * </p>
+     * @exception MathRuntimeException always thrown
+     */
+    @Override
+    public void setEntry(final int row, final int column, final double value)
+        throws MathRuntimeException {
+        throw new MathRuntimeException(LocalizedCoreFormats.UNSUPPORTED_OPERATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Compressed matrices are immutable, this method always throws an exception.
+     * </p>
+     * @exception MathRuntimeException always thrown
+     */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment)
+        throws MathRuntimeException {
+        throw new MathRuntimeException(LocalizedCoreFormats.UNSUPPORTED_OPERATION);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Compressed matrices are immutable, this method always throws an exception.
+     * </p>
+     * @exception MathRuntimeException always thrown
+     */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor)
+        throws MathRuntimeException {
+        throw new MathRuntimeException(LocalizedCoreFormats.UNSUPPORTED_OPERATION);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector v)
+        throws MathIllegalArgumentException {
+        final double[] array = (v instanceof ArrayRealVector) ? ((ArrayRealVector) v).getDataRef() : v.toArray();
+        return new ArrayRealVector(operate(array), false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector preMultiply(final RealVector v)
+        throws MathIllegalArgumentException {
+        final double[] array = (v instanceof ArrayRealVector) ? ((ArrayRealVector) v).getDataRef() : v.toArray();
+        return new ArrayRealVector(preMultiply(array), false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operateTranspose(final RealVector x)
+        throws MathIllegalArgumentException {
+        return preMultiply(x);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isTransposable() {
+        return true;
+    }
+
+}
@@ -713,6 +713,13 @@ public abstract class AbstractRealMatrix
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector v, final RealVector out)
+        throws MathIllegalArgumentException {
+        return RealMatrix.super.operate(v, out);
+    }
+
     /** {@inheritDoc} */
     @Override
     public double[] preMultiply(final double[] v) throws MathIllegalArgumentException {
@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.util.FastMath;
+
+/**
+ * Fill-reducing ordering based on the approximate minimum degree heuristic.
+ * <p>
+ * This class computes an ordering of the variables of a sparse symmetric
+ * problem (or of the symmetrized pattern A + A<sup>T</sup> of an unsymmetric
+ * one) that reduces the fill-in produced by a direct factorization. Elimination
+ * is simulated on a quotient graph, where eliminated variables become
+ * <em>elements</em> representing the cliques they create, so memory does not
+ * grow with fill-in. At each step, the variable with the smallest approximate
+ * external degree is eliminated, where the degree approximation is the one from
+ * Amestoy, Davis and Duff ("An Approximate Minimum Degree Ordering Algorithm",
+ * SIAM Journal on Matrix Analysis and Applications, 17(4), 1996). Elements whose
+ * variables are all adjacent to the new element are absorbed aggressively.
+ * Supervariable detection is not implemented.
+ * </p>
+ * @since 4.0
+ */
+final class ApproximateMinimumDegree {
+
+    /** State for variables not yet eliminated. */
+    private static final int VARIABLE = 0;
+
+    /** State for eliminated variables, which are now elements. */
+    private static final int ELEMENT = 1;
+
+    /** State for elements absorbed in another element. */
+    private static final int ABSORBED = 2;
+
+    /** Private constructor for a utility class.
+     */
+    private ApproximateMinimumDegree() {
+        // nothing to do
+    }
+
+    /** Compute a fill-reducing ordering.
+     * @param matrix square matrix, only its sparsity pattern is used
+     * @return ordering, element k is the index of the variable eliminated at step k
+     */
+    static int[] order(final AbstractCompressedRealMatrix matrix) {
+
+        final int n = matrix.getMajorDimension();
+
+        // adjacency of the pattern of A + A^T, without the diagonal
+        final int[]    pointers = matrix.getPointersRef();
+        final int[]    indices  = matrix.getIndicesRef();
+        final int[]    count    = new int[n];
+        for (int p = 0; p < n; ++p) {
+            for (int k = pointers[p]; k < pointers[p + 1]; ++k) {
+                if (indices[k] != p) {
+                    ++count[p];
+                    ++count[indices[k]];
+                }
+            }
+        }
+        final int[][] varAdj     = new int[n][];
+        final int[]   varAdjSize = new int[n];
+        for (int i = 0; i < n; ++i) {
+            varAdj[i] = new int[count[i]];
+        }
+        for (int p = 0; p < n; ++p) {
+            for (int k = pointers[p]; k < pointers[p + 1]; ++k) {
+                final int q = indices[k];
+                if (q != p) {
+                    varAdj[p][varAdjSize[p]++] = q;
+                    varAdj[q][varAdjSize[q]++] = p;
+                }
+            }
+        }
+
+        final int[]   mark       = new int[n];
+        final int[]   degree     = new int[n];
+        final int[]   head       = new int[n];
+        final int[]   next       = new int[n];
+        final int[]   previous   = new int[n];
+        Arrays.fill(head, -1);
+
+        // remove duplicates (entries present in both triangles) and set up degree lists
+        int minDegree = n;
+        for (int i = 0; i < n; ++i) {
+            final int[] adj = varAdj[i];
+            int size = 0;
+            for (int k = 0; k < varAdjSize[i]; ++k) {
+                if (mark[adj[k]] != i + 1) {
+                    mark[adj[k]] = i + 1;
+                    adj[size++]  = adj[k];
+                }
+            }
+            varAdjSize[i] = size;
+            degree[i]     = size;
+            insert(i, size, head, next, previous);
+            minDegree = FastMath.min(minDegree, size);
+        }
+        Arrays.fill(mark, 0);
+
+        final int[]   state       = new int[n];
+        final int[][] elemAdj     = new int[n][];
+        final int[]   elemAdjSize = new int[n];
+        final int[][] elemVars    = new int[n][];
+        final int[]   wMark       = new int[n];
+        final int[]   w           = new int[n];
+        int[]         lp          = new int[16];
+        final int[]   ordering    = new int[n];
+
+        for (int k = 0; k < n; ++k) {
+
+            // select pivot with minimum approximate degree
+            while (head[minDegree] < 0) {
+                ++minDegree;
+            }
+            final int pivot = head[minDegree];
+            remove(pivot, degree[pivot], head, next, previous);
+            ordering[k]  = pivot;
+            state[pivot] = ELEMENT;
+            final int stamp = k + 1;
+            mark[pivot] = stamp;
+
+            // build the new element from adjacent variables and absorbed elements
+            int lpSize = 0;
+            for (int l = 0; l < varAdjSize[pivot]; ++l) {
+                final int j = varAdj[pivot][l];
+                if (state[j] == VARIABLE && mark[j] != stamp) {
+                    mark[j] = stamp;
+                    lp = append(lp, lpSize++, j);
+                }
+            }
+            for (int l = 0; l < elemAdjSize[pivot]; ++l) {
+                final int e = elemAdj[pivot][l];
+                if (state[e] == ELEMENT) {
+                    for (final int j : elemVars[e]) {
+                        if (state[j] == VARIABLE && mark[j] != stamp) {
+                            mark[j] = stamp;
+                            lp = append(lp, lpSize++, j);
+                        }
+                    }
+                    state[e]    = ABSORBED;
+                    elemVars[e] = null;
+                }
+            }
+            elemVars[pivot] = Arrays.copyOf(lp, lpSize);
+            varAdj[pivot]   = null;
+            elemAdj[pivot]  = null;
+
+            // compute |Le \ Lp| for all elements adjacent to the new element variables
+            for (int l = 0; l < lpSize; ++l) {
+                final int i = lp[l];
+                remove(i, degree[i], head, next, previous);
+                for (int m = 0; m < elemAdjSize[i]; ++m) {
+                    final int e = elemAdj[i][m];
+                    if (state[e] == ELEMENT) {
+                        if (wMark[e] != stamp) {
+                            wMark[e] = stamp;
+                            w[e]     = elemVars[e].length;
+                        }
+                        --w[e];
+                    }
+                }
+            }
+
+            // update the variables of the new element
+            final int remaining = n - k - 1;
+            for (int l = 0; l < lpSize; ++l) {
+                final int i = lp[l];
+
+                // prune element list, absorbing elements included in the new one
+                int external = lpSize - 1;
+                int size     = 0;
+                int[] eAdj   = elemAdj[i];
+                for (int m = 0; m < elemAdjSize[i]; ++m) {
+                    final int e = eAdj[m];
+                    if (state[e] == ELEMENT) {
+                        if (w[e] == 0) {
+                            state[e]    = ABSORBED;
+                            elemVars[e] = null;
+                        } else {
+                            external += w[e];
+                            eAdj[size++] = e;
+                        }
+                    }
+                }
+                if (eAdj == null) {
+                    eAdj = new int[4];
+                } else if (size == eAdj.length) {
+                    eAdj = Arrays.copyOf(eAdj, 2 * size);
+                }
+                eAdj[size++]   = pivot;
+                elemAdj[i]     = eAdj;
+                elemAdjSize[i] = size;
+
+                // prune variables list, removing variables now connected through the new element
+                final int[] vAdj = varAdj[i];
+                size = 0;
+                for (int m = 0; m < varAdjSize[i]; ++m) {
+                    final int j = vAdj[m];
+                    if (state[j] == VARIABLE && mark[j] != stamp) {
+                        vAdj[size++] = j;
+                    }
+                }
+                varAdjSize[i] = size;
+                external += size;
+
+                degree[i] = FastMath.min(FastMath.min(remaining - 1, degree[i] + lpSize - 1), external);
+                insert(i, degree[i], head, next, previous);
+                minDegree = FastMath.min(minDegree, degree[i]);
+
+            }
+
+        }
+
+        return ordering;
+
+    }
+
+    /** Append an index to a growable array.
+     * @param array array
+     * @param size current number of elements in the array
+     * @param index index to append
+     * @return array (reallocated if needed)
+     */
+    private static int[] append(final int[] array, final int size, final int index) {
+        final int[] appended = size < array.length ? array : Arrays.copyOf(array, 2 * array.length);
+        appended[size] = index;
+        return appended;
+    }
+
+    /** Insert a variable in a degree list.
+     * @param i variable
+     * @param d degree
+     * @param head head of degree lists
+     * @param next next variable in list
+     * @param previous previous variable in list
+     */
+    private static void insert(final int i, final int d, final int[] head, final int[] next, final int[] previous) {
+        next[i]     = head[d];
+        previous[i] = -1;
+        if (head[d] >= 0) {
+            previous[head[d]] = i;
+        }
+        head[d] = i;
+    }
+
+    /** Remove a variable from a degree list.
+     * @param i variable
+     * @param d degree
+     * @param head head of degree lists
+     * @param next next variable in list
+     * @param previous previous variable in list
+     */
+    private static void remove(final int i, final int d, final int[] head, final int[] next, final int[] previous) {
+        if (previous[i] >= 0) {
+            next[previous[i]] = next[i];
+        } else {
+            head[d] = next[i];
+        }
+        if (next[i] >= 0) {
+            previous[next[i]] = previous[i];
+        }
+    }
+
+}
@@ -0,0 +1,339 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.complex.ComplexField;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937c;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Partial eigen decomposition of a large non-symmetric linear operator.
+ * <p>
+ * This class computes the \(k\) eigenvalues with largest magnitude and the
+ * associated eigenvectors of a general {@link RealLinearOperator}, which
+ * may be a sparse matrix or a matrix-free operator. Only products
+ * \(A x\) are used, the operator is never densified, and the memory needed
+ * is proportional to \(n\) times the size of the Krylov subspace.
+ * </p>
+ * <p>
+ * The algorithm is the implicitly restarted Arnoldi method of Sorensen (Implicit
+ * Application of Polynomial Filters in a k-Step Arnoldi Method, SIAM J. Matrix
+ * Anal. Appl. 13(1), 1992) with exact shifts, as used in ARPACK. Unwanted Ritz
+ * values are filtered out by shifted QR steps on the small Hessenberg matrix,
+ * using double shifts for complex conjugate pairs so all computations remain real.
+ * Full reorthogonalization is used when expanding the Krylov basis.
+ * </p>
+ * <p>
+ * As eigenvalues of real non-symmetric operators may be complex, eigenvalues
+ * and eigenvectors are returned as {@link Complex} values. Symmetric operators
+ * should use {@link LanczosEigenDecomposition} which is faster and returns
+ * real results.
+ * </p>
+ * @see EigenDecompositionNonSymmetric
+ * @see LanczosEigenDecomposition
+ * @since 4.0
+ */
+public class ArnoldiEigenDecomposition {
+
+    /** Default relative tolerance on the Ritz pairs residuals. */
+    public static final double DEFAULT_TOLERANCE = 1.0e-10;
+
+    /** Default maximum number of restarts. */
+    public static final int DEFAULT_MAX_RESTARTS = 1000;
+
+    /** Seed for default random generator. */
+    private static final long DEFAULT_SEED = 0x2d8e4f61a93b07c5L;
+
+    /** Eigenvalues, by decreasing magnitude. */
+    private final Complex[] eigenvalues;
+
+    /** Eigenvectors. */
+    private final ArrayFieldVector<Complex>[] eigenvectors;
+
+    /** Number of restarts performed. */
+    private final int restarts;
+
+    /** Number of operator products performed. */
+    private final int products;
+
+    /** Compute the k eigenpairs with largest magnitude of an operator, using default settings.
+     * <p>
+     * This constructor uses a subspace size of {@code min(n, max(2k + 1, 20))},
+     * {@link #DEFAULT_TOLERANCE}, {@link #DEFAULT_MAX_RESTARTS} and a
+     * fixed-seed random generator for the start vector, so results are reproducible.
+     * </p>
+     * @param a operator
+     * @param k number of eigenpairs to compute
+     * @exception MathIllegalArgumentException if operator is not square or
+     * k is not between 1 and operator dimension
+     * @exception MathIllegalStateException if convergence is not reached
+     */
+    public ArnoldiEigenDecomposition(final RealLinearOperator a, final int k)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        this(a, k, LanczosEigenDecomposition.defaultSubspaceSize(a, k),
+             DEFAULT_TOLERANCE, DEFAULT_MAX_RESTARTS, new Well19937c(DEFAULT_SEED));
+    }
+
+    /** Compute the k eigenpairs with largest magnitude of an operator.
+     * @param a operator
+     * @param k number of eigenpairs to compute
+     * @param subspaceSize size of the Krylov subspace built between restarts
+     * (must be at least k + 1 and at most operator dimension, a size of about
+     * 2k is a good compromise between memory and convergence speed)
+     * @param tolerance relative tolerance on the Ritz pairs residuals
+     * @param maxRestarts maximum number of restarts
+     * @param random generator for the start vector
+     * @exception MathIllegalArgumentException if operator is not square,
+     * k is not between 1 and operator dimension or subspace size is out of range
+     * @exception MathIllegalStateException if convergence is not reached after
+     * the maximum number of restarts
+     */
+    public ArnoldiEigenDecomposition(final RealLinearOperator a, final int k,
+                                     final int subspaceSize, final double tolerance,
+                                     final int maxRestarts, final RandomGenerator random)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+
+        final int n = LanczosEigenDecomposition.checkDimensions(a, k, subspaceSize);
+        final int m = subspaceSize;
+
+        final ArnoldiProcess process = new ArnoldiProcess(a, m, false, random);
+        process.expand(0);
+
+        int restart = 0;
+        while (true) {
+
+            // Ritz pairs of the current subspace
+            final double[][]                    h     = process.getHessenberg();
+            final EigenDecompositionNonSymmetric ritz  = new EigenDecompositionNonSymmetric(new Array2DRowRealMatrix(h, false));
+            final Complex[]                     mu    = ritz.getEigenvalues();
+            final Integer[]                     index = sortByMagnitude(mu);
+            final double                        beta  = process.getResidualNorm();
+
+            // check convergence of the wanted pairs
+            boolean converged = true;
+            for (int i = 0; i < k && converged; ++i) {
+                final FieldVector<Complex> y = ritz.getEigenvector(index[i]);
+                final double residual = beta * y.getEntry(m - 1).norm() / norm(y);
+                converged = residual <= tolerance * FastMath.max(mu[index[i]].norm(),
+                                                                 LanczosEigenDecomposition.EPS23);
+            }
+            if (converged || m == n) {
+                eigenvalues  = new Complex[k];
+                eigenvectors = buildArray(k);
+                final double[][] v = process.getBasisRef();
+                for (int i = 0; i < k; ++i) {
+                    eigenvalues[i]  = mu[index[i]];
+                    eigenvectors[i] = combine(v, ritz.getEigenvector(index[i]), n);
+                }
+                restarts = restart;
+                products = process.getProducts();
+                return;
+            }
+
+            if (++restart > maxRestarts) {
+                throw new MathIllegalStateException(LocalizedCoreFormats.MAX_COUNT_EXCEEDED, maxRestarts);
+            }
+
+            // number of kept Ritz values, avoiding to split a conjugate pair
+            int l = k + (m - k) / 2;
+            if (isConjugate(mu[index[l - 1]], mu[index[l]])) {
+                if (l + 1 < m) {
+                    ++l;
+                } else if (l > 1) {
+                    --l;
+                }
+            }
+
+            // apply the unwanted Ritz values as exact shifts
+            RealMatrix hq = new Array2DRowRealMatrix(h, false);
+            RealMatrix q  = MatrixUtils.createRealIdentityMatrix(m);
+            for (int i = l; i < m; ++i) {
+                final Complex shift = mu[index[i]];
+                final RealMatrix shifted;
+                if (shift.getImaginary() == 0) {
+                    shifted = hq.subtract(MatrixUtils.createRealIdentityMatrix(m).scalarMultiply(shift.getReal()));
+                } else if (shift.getImaginary() > 0) {
+                    // double shift, handling at once the pair, whose conjugate member follows
+                    shifted = hq.multiply(hq).
+                              subtract(hq.scalarMultiply(2 * shift.getReal())).
+                              add(MatrixUtils.createRealIdentityMatrix(m).scalarMultiply(shift.norm() * shift.norm()));
+                } else {
+                    // conjugate member of a pair, either already handled or wanted
+                    continue;
+                }
+                final RealMatrix qi = new QRDecomposition(shifted).getQ();
+                hq = qi.transposeMultiply(hq).multiply(qi);
+                for (int r = 2; r < m; ++r) {
+                    for (int c = 0; c < r - 1; ++c) {
+                        hq.setEntry(r, c, 0.0);
+                    }
+                }
+                q = q.multiply(qi);
+            }
+
+            // restart from the filtered basis
+            final double[][] coefficients = q.getSubMatrix(0, m - 1, 0, l - 1).getData();
+            final double[][] hl           = hq.getSubMatrix(0, l - 1, 0, l - 1).getData();
+            final double[]   d            = new double[m + 1];
+            final double     hLL          = hq.getEntry(l, l - 1);
+            for (int j = 0; j < m; ++j) {
+                d[j] = q.getEntry(j, l) * hLL;
+            }
+            d[m] = beta * q.getEntry(m - 1, l - 1);
+            final double[] g = new double[l];
+            g[l - 1] = 1.0;
+            process.restart(coefficients, hl, d, g);
+            process.expand(l);
+
+        }
+
+    }
+
+    /** Sort Ritz values by decreasing magnitude.
+     * <p>
+     * Conjugate pairs are kept adjacent, with positive imaginary part first.
+     * </p>
+     * @param mu Ritz values
+     * @return indices of Ritz values, sorted by decreasing magnitude
+     */
+    private static Integer[] sortByMagnitude(final Complex[] mu) {
+        final Integer[] index = new Integer[mu.length];
+        for (int i = 0; i < index.length; ++i) {
+            index[i] = i;
+        }
+        Arrays.sort(index,
+                    Comparator.<Integer>comparingDouble(i -> -mu[i].norm()).
+                    thenComparingDouble(i -> -mu[i].getReal()).
+                    thenComparingDouble(i -> -mu[i].getImaginary()));
+        return index;
+    }
+
+    /** Check if a Ritz value is the conjugate of another one.
+     * @param mu1 first Ritz value
+     * @param mu2 second Ritz value
+     * @return true if mu1 has positive imaginary part and mu2 is its conjugate
+     */
+    private static boolean isConjugate(final Complex mu1, final Complex mu2) {
+        return mu1.getImaginary() > 0 &&
+               mu2.getReal() == mu1.getReal() && mu2.getImaginary() == -mu1.getImaginary();
+    }
+
+    /** Compute the Euclidean norm of a complex vector.
+     * @param y complex vector
+     * @return Euclidean norm of y
+     */
+    private static double norm(final FieldVector<Complex> y) {
+        double sum = 0;
+        for (int j = 0; j < y.getDimension(); ++j) {
+            final Complex yj = y.getEntry(j);
+            sum += yj.getReal() * yj.getReal() + yj.getImaginary() * yj.getImaginary();
+        }
+        return FastMath.sqrt(sum);
+    }
+
+    /** Combine basis vectors into a normalized complex vector.
+     * @param v basis vectors
+     * @param y coefficients
+     * @param n vectors dimension
+     * @return normalized linear combination of the basis vectors
+     */
+    private static ArrayFieldVector<Complex> combine(final double[][] v, final FieldVector<Complex> y,
+                                                     final int n) {
+        final double[] re = new double[n];
+        final double[] im = new double[n];
+        for (int j = 0; j < y.getDimension(); ++j) {
+            final Complex  yj = y.getEntry(j);
+            final double[] vj = v[j];
+            for (int r = 0; r < n; ++r) {
+                re[r] += yj.getReal()      * vj[r];
+                im[r] += yj.getImaginary() * vj[r];
+            }
+        }
+        double sum = 0;
+        for (int r = 0; r < n; ++r) {
+            sum += re[r] * re[r] + im[r] * im[r];
+        }
+        final double inv = 1.0 / FastMath.sqrt(sum);
+        final Complex[] x = new Complex[n];
+        for (int r = 0; r < n; ++r) {
+            x[r] = new Complex(inv * re[r], inv * im[r]);
+        }
+        return new ArrayFieldVector<>(ComplexField.getInstance(), x, false);
+    }
+
+    /** Build an array of complex vectors.
+     * @param k size of the array
+     * @return new array
+     */
+    @SuppressWarnings("unchecked")
+    private static ArrayFieldVector<Complex>[] buildArray(final int k) {
+        return (ArrayFieldVector<Complex>[]) new ArrayFieldVector<?>[k];
+    }
+
+    /** Get the number of computed eigenpairs.
+     * @return number of computed eigenpairs
+     */
+    public int getCount() {
+        return eigenvalues.length;
+    }
+
+    /** Get the computed eigenvalues.
+     * @return computed eigenvalues, by decreasing magnitude
+     */
+    public Complex[] getEigenvalues() {
+        return eigenvalues.clone();
+    }
+
+    /** Get one computed eigenvalue.
+     * @param i index of the eigenvalue (eigenvalues are by decreasing magnitude)
+     * @return i<sup>th</sup> eigenvalue
+     */
+    public Complex getEigenvalue(final int i) {
+        return eigenvalues[i];
+    }
+
+    /** Get one computed eigenvector.
+     * @param i index of the eigenvector (eigenvalues are by decreasing magnitude)
+     * @return normalized eigenvector associated with the i<sup>th</sup> eigenvalue
+     */
+    public FieldVector<Complex> getEigenvector(final int i) {
+        return eigenvectors[i].copy();
+    }
+
+    /** Get the number of restarts performed.
+     * @return number of restarts performed
+     */
+    public int getRestarts() {
+        return restarts;
+    }
+
+    /** Get the number of operator products performed.
+     * @return number of operator products performed
+     */
+    public int getOperatorProducts() {
+        return products;
+    }
+
+}
@@ -0,0 +1,332 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.Precision;
+
+/** Krylov basis shared by the restarted {@link LanczosEigenDecomposition Lanczos}
+ * and {@link ArnoldiEigenDecomposition Arnoldi} eigensolvers.
+ * <p>
+ * The basis holds \(m + 1\) orthonormal vectors \(V\) and an \((m + 1) \times m\)
+ * upper Hessenberg matrix \(H\) such that \(A V_m = V_{m+1} H\). Orthogonality is
+ * enforced by full reorthogonalization (classical Gram-Schmidt applied twice), which
+ * is affordable because the basis is restarted long before it becomes large, and
+ * which prevents the ghost eigenvalues plain Lanczos recurrences are known for.
+ * </p>
+ * <p>
+ * Only the operator {@link RealLinearOperator#operate(RealVector, RealVector) products}
+ * are used, the operator is never densified.
+ * </p>
+ * @since 4.0
+ */
+class ArnoldiProcess {
+
+    /** Operator. */
+    private final RealLinearOperator a;
+
+    /** Dimension of the operator. */
+    private final int n;
+
+    /** Number of basis vectors before restart. */
+    private final int m;
+
+    /** Indicator for symmetric operators. */
+    private final boolean symmetric;
+
+    /** Generator for start and breakdown recovery vectors. */
+    private final RandomGenerator random;
+
+    /** Basis vectors (m + 1 vectors of dimension n). */
+    private final double[][] v;
+
+    /** Hessenberg matrix ((m + 1) x m). */
+    private final double[][] h;
+
+    /** Wrapper around the vector to which operator is applied. */
+    private final ArrayRealVector x;
+
+    /** Wrapper around the operator product. */
+    private final ArrayRealVector w;
+
+    /** Projection coefficients work array. */
+    private final double[] c;
+
+    /** Number of operator products performed. */
+    private int products;
+
+    /** Simple constructor.
+     * <p>
+     * The first basis vector is drawn at random, the basis is <em>not</em>
+     * expanded by this constructor.
+     * </p>
+     * @param a operator (must be square)
+     * @param m number of basis vectors before restart (must be at most the dimension)
+     * @param symmetric if true, operator is considered symmetric
+     * @param random generator for start and breakdown recovery vectors
+     */
+    ArnoldiProcess(final RealLinearOperator a, final int m, final boolean symmetric,
+                   final RandomGenerator random) {
+        this.a         = a;
+        this.n         = a.getColumnDimension();
+        this.m         = m;
+        this.symmetric = symmetric;
+        this.random    = random;
+        this.v         = new double[m + 1][n];
+        this.h         = new double[m + 1][m];
+        this.x         = new ArrayRealVector(n);
+        this.w         = new ArrayRealVector(n);
+        this.c         = new double[m + 1];
+        this.products  = 0;
+        randomOrthonormal(0);
+    }
+
+    /** Get the number of basis vectors before restart.
+     * @return number of basis vectors before restart
+     */
+    int getSize() {
+        return m;
+    }
+
+    /** Get the number of operator products performed so far.
+     * @return number of operator products performed so far
+     */
+    int getProducts() {
+        return products;
+    }
+
+    /** Get a reference to the basis vectors.
+     * @return reference to the (m + 1) basis vectors
+     */
+    double[][] getBasisRef() {
+        return v;
+    }
+
+    /** Get the leading m x m part of the Hessenberg matrix.
+     * @return copy of the leading m x m part of the Hessenberg matrix
+     */
+    double[][] getHessenberg() {
+        final double[][] copy = new double[m][];
+        for (int i = 0; i < m; ++i) {
+            copy[i] = h[i].clone();
+        }
+        return copy;
+    }
+
+    /** Get the norm of the residual vector.
+     * @return norm of the residual vector \(h_{m+1,m}\)
+     */
+    double getResidualNorm() {
+        return h[m][m - 1];
+    }
+
+    /** Expand the basis up to its full size.
+     * @param start index of the first vector to which operator is applied
+     * (all vectors up to and including this one must already be orthonormal)
+     */
+    void expand(final int start) {
+        final double[] wData = w.getDataRef();
+        for (int j = start; j < m; ++j) {
+
+            // apply operator
+            System.arraycopy(v[j], 0, x.getDataRef(), 0, n);
+            a.operate(x, w);
+            ++products;
+            final double initialNorm = norm(wData);
+
+            // orthogonalize against all previous vectors, twice
+            final double[] hj = new double[j + 1];
+            for (int pass = 0; pass < 2; ++pass) {
+                project(wData, j + 1, c);
+                for (int i = 0; i <= j; ++i) {
+                    hj[i] += c[i];
+                }
+            }
+            for (int i = 0; i <= j; ++i) {
+                h[i][j] = hj[i];
+                if (symmetric) {
+                    h[j][i] = hj[i];
+                }
+            }
+
+            final double beta = norm(wData);
+            if (beta <= 2 * Precision.EPSILON * initialNorm || beta == 0) {
+                // invariant subspace found, continue with an arbitrary orthogonal direction
+                h[j + 1][j] = 0;
+                randomOrthonormal(j + 1);
+            } else {
+                h[j + 1][j] = beta;
+                final double inv = 1.0 / beta;
+                for (int k = 0; k < n; ++k) {
+                    v[j + 1][k] = inv * wData[k];
+                }
+            }
+        }
+    }
+
+    /** Restart the basis.
+     * <p>
+     * On entry, the relation \(A V_m = V_m H_m + f e_m^T\) holds. The caller provides
+     * an orthonormal combination \(V_l = V_m C\) of the current basis such that
+     * \(A V_l = V_l H_l + \tilde{f} g^T\), with \(\tilde{f} = V_{m+1} d\).
+     * On exit, the basis holds \(V_l\) followed by the normalized \(\tilde{f}\), ready
+     * for {@link #expand(int) expansion} from index \(l\).
+     * </p>
+     * @param coefficients m x l matrix C
+     * @param hl l x l matrix H<sub>l</sub>
+     * @param d coefficients of new residual in the m + 1 current basis vectors
+     * @param g coupling coefficients between new residual and new basis vectors
+     */
+    void restart(final double[][] coefficients, final double[][] hl,
+                 final double[] d, final double[] g) {
+
+        final int l = hl.length;
+
+        // new residual
+        final double[] f = new double[n];
+        for (int j = 0; j <= m; ++j) {
+            if (d[j] != 0) {
+                axpy(d[j], v[j], f);
+            }
+        }
+
+        // new basis
+        final double[][] vl = new double[l][n];
+        for (int j = 0; j < m; ++j) {
+            for (int i = 0; i < l; ++i) {
+                final double cji = coefficients[j][i];
+                if (cji != 0) {
+                    axpy(cji, v[j], vl[i]);
+                }
+            }
+        }
+        for (int i = 0; i < l; ++i) {
+            System.arraycopy(vl[i], 0, v[i], 0, n);
+        }
+
+        // new Hessenberg matrix
+        for (final double[] row : h) {
+            Arrays.fill(row, 0.0);
+        }
+        for (int i = 0; i < l; ++i) {
+            System.arraycopy(hl[i], 0, h[i], 0, l);
+        }
+
+        // residual becomes the next basis vector
+        for (int pass = 0; pass < 2; ++pass) {
+            project(f, l, c);
+        }
+        final double fNorm = norm(f);
+        if (fNorm == 0) {
+            randomOrthonormal(l);
+        } else {
+            final double inv = 1.0 / fNorm;
+            for (int k = 0; k < n; ++k) {
+                v[l][k] = inv * f[k];
+            }
+            for (int i = 0; i < l; ++i) {
+                h[l][i] = fNorm * g[i];
+                if (symmetric) {
+                    h[i][l] = h[l][i];
+                }
+            }
+        }
+
+    }
+
+    /** Fill a basis vector with a random direction orthogonal to the previous ones.
+     * @param j index of the vector to fill
+     */
+    private void randomOrthonormal(final int j) {
+        final double[] vj = v[j];
+        double norm = 0;
+        while (norm == 0) {
+            for (int k = 0; k < n; ++k) {
+                vj[k] = 2 * random.nextDouble() - 1;
+            }
+            final double initialNorm = norm(vj);
+            for (int pass = 0; pass < 2; ++pass) {
+                project(vj, j, c);
+            }
+            norm = norm(vj);
+            if (norm <= 2 * Precision.EPSILON * initialNorm) {
+                // either an unlucky draw (try again) or the basis already spans
+                // the whole space, in which case the vector is irrelevant
+                norm = j < n ? 0 : 1;
+            }
+        }
+        final double inv = 1.0 / norm;
+        for (int k = 0; k < n; ++k) {
+            vj[k] *= inv;
+        }
+    }
+
+    /** Remove from a vector its components along the first basis vectors.
+     * @param y vector to project (modified in place)
+     * @param count number of basis vectors to project against
+     * @param coefficients placeholder for the removed components
+     */
+    private void project(final double[] y, final int count, final double[] coefficients) {
+        // classical Gram-Schmidt: all dot products first, then the updates
+        for (int i = 0; i < count; ++i) {
+            coefficients[i] = dot(v[i], y);
+        }
+        for (int i = 0; i < count; ++i) {
+            axpy(-coefficients[i], v[i], y);
+        }
+    }
+
+    /** Compute y += alpha x.
+     * @param alpha scaling factor
+     * @param xv vector to add
+     * @param y vector to update
+     */
+    private static void axpy(final double alpha, final double[] xv, final double[] y) {
+        for (int k = 0; k < y.length; ++k) {
+            y[k] += alpha * xv[k];
+        }
+    }
+
+    /** Compute dot product.
+     * @param xv first vector
+     * @param y second vector
+     * @return dot product
+     */
+    private static double dot(final double[] xv, final double[] y) {
+        double sum = 0;
+        for (int k = 0; k < y.length; ++k) {
+            sum += xv[k] * y[k];
+        }
+        return sum;
+    }
+
+    /** Compute Euclidean norm.
+     * @param y vector
+     * @return Euclidean norm of y
+     */
+    private static double norm(final double[] y) {
+        double sum = 0;
+        for (final double yk : y) {
+            sum += yk * yk;
+        }
+        return FastMath.sqrt(sum);
+    }
+
+}
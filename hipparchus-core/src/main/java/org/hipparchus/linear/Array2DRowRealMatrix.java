@@ -23,6 +23,7 @@
 package org.hipparchus.linear;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.MathIllegalStateException;
@@ -167,19 +168,51 @@ public class Array2DRowRealMatrix extends AbstractRealMatrix implements Serializ
         // Safety check.
         MatrixUtils.checkAdditionCompatible(this, m);
 
+        return add(m, new Array2DRowRealMatrix(getRowDimension(), getColumnDimension()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix add(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof Array2DRowRealMatrix && out instanceof Array2DRowRealMatrix) {
+            return add((Array2DRowRealMatrix) m, (Array2DRowRealMatrix) out);
+        } else {
+            return super.add(m, out);
+        }
+    }
+
+    /**
+     * Compute the sum of {@code this} and {@code m} into a destination matrix.
+     * <p>
+     * This method does not allocate any intermediate storage. The destination
+     * may be {@code this} or {@code m} itself.
+     * </p>
+     * @param m Matrix to be added.
+     * @param out destination matrix, which must have the same size as {@code this}
+     * @return {@code out}, set to {@code this + m}.
+     * @throws MathIllegalArgumentException if {@code m} or {@code out} is not
+     * the same size as {@code this}.
+     * @since 4.0
+     */
+    public Array2DRowRealMatrix add(final Array2DRowRealMatrix m, final Array2DRowRealMatrix out)
+        throws MathIllegalArgumentException {
+        // Safety check.
+        MatrixUtils.checkAdditionCompatible(this, m);
+        MatrixUtils.checkAdditionCompatible(this, out);
+
         final int rowCount    = getRowDimension();
         final int columnCount = getColumnDimension();
-        final double[][] outData = new double[rowCount][columnCount];
         for (int row = 0; row < rowCount; row++) {
             final double[] dataRow    = data[row];
             final double[] mRow       = m.data[row];
-            final double[] outDataRow = outData[row];
+            final double[] outDataRow = out.data[row];
             for (int col = 0; col < columnCount; col++) {
                 outDataRow[col] = dataRow[col] + mRow[col];
             }
         }
 
-        return new Array2DRowRealMatrix(outData, false);
+        return out;
     }
 
     /**
@@ -194,19 +227,50 @@ public class Array2DRowRealMatrix extends AbstractRealMatrix implements Serializ
         throws MathIllegalArgumentException {
         MatrixUtils.checkSubtractionCompatible(this, m);
 
+        return subtract(m, new Array2DRowRealMatrix(getRowDimension(), getColumnDimension()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix subtract(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof Array2DRowRealMatrix && out instanceof Array2DRowRealMatrix) {
+            return subtract((Array2DRowRealMatrix) m, (Array2DRowRealMatrix) out);
+        } else {
+            return super.subtract(m, out);
+        }
+    }
+
+    /**
+     * Compute {@code this} minus {@code m} into a destination matrix.
+     * <p>
+     * This method does not allocate any intermediate storage. The destination
+     * may be {@code this} or {@code m} itself.
+     * </p>
+     * @param m Matrix to be subtracted.
+     * @param out destination matrix, which must have the same size as {@code this}
+     * @return {@code out}, set to {@code this - m}.
+     * @throws MathIllegalArgumentException if {@code m} or {@code out} is not
+     * the same size as {@code this}.
+     * @since 4.0
+     */
+    public Array2DRowRealMatrix subtract(final Array2DRowRealMatrix m, final Array2DRowRealMatrix out)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubtractionCompatible(this, m);
+        MatrixUtils.checkSubtractionCompatible(this, out);
+
         final int rowCount    = getRowDimension();
         final int columnCount = getColumnDimension();
-        final double[][] outData = new double[rowCount][columnCount];
         for (int row = 0; row < rowCount; row++) {
             final double[] dataRow    = data[row];
             final double[] mRow       = m.data[row];
-            final double[] outDataRow = outData[row];
+            final double[] outDataRow = out.data[row];
             for (int col = 0; col < columnCount; col++) {
                 outDataRow[col] = dataRow[col] - mRow[col];
             }
         }
 
-        return new Array2DRowRealMatrix(outData, false);
+        return out;
     }
 
     /**
@@ -221,11 +285,90 @@ public class Array2DRowRealMatrix extends AbstractRealMatrix implements Serializ
         throws MathIllegalArgumentException {
         MatrixUtils.checkMultiplicationCompatible(this, m);
 
+        return multiply(m, new Array2DRowRealMatrix(getRowDimension(), m.getColumnDimension()));
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * If {@code m} is not an {@link Array2DRowRealMatrix} (for example if
+     * it is a {@link SubMatrixView view} on another matrix), its columns
+     * are extracted one at a time so the product still reads this matrix
+     * rows sequentially.
+     * </p>
+     */
+    @Override
+    public RealMatrix multiply(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        if (m instanceof Array2DRowRealMatrix) {
+            return multiply((Array2DRowRealMatrix) m);
+        }
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+
+        final int nRows = this.getRowDimension();
+        final int nCols = m.getColumnDimension();
+        final int nSum  = this.getColumnDimension();
+        final double[][] outData = new double[nRows][nCols];
+        for (int col = 0; col < nCols; col++) {
+            final double[] mCol = m.getColumn(col);
+            for (int row = 0; row < nRows; row++) {
+                final double[] dataRow = data[row];
+                double sum = 0;
+                for (int i = 0; i < nSum; i++) {
+                    sum += dataRow[i] * mCol[i];
+                }
+                outData[row][col] = sum;
+            }
+        }
+
+        return new Array2DRowRealMatrix(outData, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix multiply(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof Array2DRowRealMatrix && out instanceof Array2DRowRealMatrix) {
+            return multiply((Array2DRowRealMatrix) m, (Array2DRowRealMatrix) out);
+        } else {
+            return super.multiply(m, out);
+        }
+    }
+
+    /**
+     * Computes the result of postmultiplying {@code this} by {@code m} into a
+     * destination matrix.
+     * <p>
+     * The destination should not share storage with {@code this} or {@code m},
+     * but it may be one of these instances, in which case the product is first
+     * computed in temporary storage.
+     * </p>
+     * @param m matrix to postmultiply by
+     * @param out destination matrix, which must have the row dimension of
+     * {@code this} and the column dimension of {@code m}
+     * @return {@code out}, set to {@code this * m}
+     * @throws MathIllegalArgumentException if
+     * {@code columnDimension(this) != rowDimension(m)} or if {@code out}
+     * does not have the dimensions of the product
+     * @since 4.0
+     */
+    public Array2DRowRealMatrix multiply(final Array2DRowRealMatrix m, final Array2DRowRealMatrix out)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+
         final int nRows = this.getRowDimension();
         final int nCols = m.getColumnDimension();
         final int nSum = this.getColumnDimension();
+        MatrixUtils.checkDimensions(out, nRows, nCols);
 
-        final double[][] outData = new double[nRows][nCols];
+        if (out == this || out == m) {
+            final double[][] product = multiply(m).data;
+            for (int row = 0; row < nRows; row++) {
+                System.arraycopy(product[row], 0, out.data[row], 0, nCols);
+            }
+            return out;
+        }
+
+        final double[][] outData = out.data;
         // Will hold a column of "m".
         final double[] mCol = new double[nSum];
         final double[][] mData = m.data;
@@ -248,7 +391,7 @@ public class Array2DRowRealMatrix extends AbstractRealMatrix implements Serializ
             }
         }
 
-        return new Array2DRowRealMatrix(outData, false);
+        return out;
     }
 
     /**
@@ -489,6 +632,13 @@ public class Array2DRowRealMatrix extends AbstractRealMatrix implements Serializ
     /** {@inheritDoc} */
     @Override
     public double[] operate(final double[] v)
+        throws MathIllegalArgumentException {
+        return operate(v, new double[getRowDimension()]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v, final double[] out)
         throws MathIllegalArgumentException {
         final int nRows = this.getRowDimension();
         final int nCols = this.getColumnDimension();
@@ -496,7 +646,11 @@ public class Array2DRowRealMatrix extends AbstractRealMatrix implements Serializ
             throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
                                                    v.length, nCols);
         }
-        final double[] out = new double[nRows];
+        MathUtils.checkDimension(out.length, nRows);
+        if (out == v) {
+            System.arraycopy(operate(v), 0, out, 0, nRows);
+            return out;
+        }
         for (int row = 0; row < nRows; row++) {
             final double[] dataRow = data[row];
             double sum = 0;
@@ -511,6 +665,13 @@ public class Array2DRowRealMatrix extends AbstractRealMatrix implements Serializ
     /** {@inheritDoc} */
     @Override
     public double[] preMultiply(final double[] v)
+        throws MathIllegalArgumentException {
+        return preMultiply(v, new double[getColumnDimension()]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v, final double[] out)
         throws MathIllegalArgumentException {
         final int nRows = getRowDimension();
         final int nCols = getColumnDimension();
@@ -518,14 +679,20 @@ public class Array2DRowRealMatrix extends AbstractRealMatrix implements Serializ
             throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
                                                    v.length, nRows);
         }
+        MathUtils.checkDimension(out.length, nCols);
+        if (out == v) {
+            System.arraycopy(preMultiply(v), 0, out, 0, nCols);
+            return out;
+        }
 
-        final double[] out = new double[nCols];
-        for (int col = 0; col < nCols; ++col) {
-            double sum = 0;
-            for (int i = 0; i < nRows; ++i) {
-                sum += data[i][col] * v[i];
+        // accumulate row by row, so the matrix is read sequentially
+        Arrays.fill(out, 0.0);
+        for (int i = 0; i < nRows; ++i) {
+            final double[] dataRow = data[i];
+            final double   vI      = v[i];
+            for (int col = 0; col < nCols; ++col) {
+                out[col] += dataRow[col] * vI;
             }
-            out[col] = sum;
         }
 
         return out;
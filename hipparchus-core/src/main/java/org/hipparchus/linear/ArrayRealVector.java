@@ -316,6 +316,24 @@ public class ArrayRealVector extends RealVector implements Serializable {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public RealVector add(RealVector v, RealVector out)
+        throws MathIllegalArgumentException {
+        if (v instanceof ArrayRealVector && out instanceof ArrayRealVector) {
+            final double[] vData   = ((ArrayRealVector) v).data;
+            final double[] outData = ((ArrayRealVector) out).data;
+            checkVectorDimensions(vData.length);
+            checkVectorDimensions(outData.length);
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = data[i] + vData[i];
+            }
+            return out;
+        } else {
+            return super.add(v, out);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public ArrayRealVector subtract(RealVector v)
@@ -342,6 +360,24 @@ public class ArrayRealVector extends RealVector implements Serializable {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public RealVector subtract(RealVector v, RealVector out)
+        throws MathIllegalArgumentException {
+        if (v instanceof ArrayRealVector && out instanceof ArrayRealVector) {
+            final double[] vData   = ((ArrayRealVector) v).data;
+            final double[] outData = ((ArrayRealVector) out).data;
+            checkVectorDimensions(vData.length);
+            checkVectorDimensions(outData.length);
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = data[i] - vData[i];
+            }
+            return out;
+        } else {
+            return super.subtract(v, out);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public ArrayRealVector map(UnivariateFunction function) {
@@ -417,6 +453,24 @@ public class ArrayRealVector extends RealVector implements Serializable {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public RealVector ebeMultiply(RealVector v, RealVector out)
+        throws MathIllegalArgumentException {
+        if (v instanceof ArrayRealVector && out instanceof ArrayRealVector) {
+            final double[] vData   = ((ArrayRealVector) v).data;
+            final double[] outData = ((ArrayRealVector) out).data;
+            checkVectorDimensions(vData.length);
+            checkVectorDimensions(outData.length);
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = data[i] * vData[i];
+            }
+            return out;
+        } else {
+            return super.ebeMultiply(v, out);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public ArrayRealVector ebeDivide(RealVector v)
@@ -441,6 +495,24 @@ public class ArrayRealVector extends RealVector implements Serializable {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public RealVector ebeDivide(RealVector v, RealVector out)
+        throws MathIllegalArgumentException {
+        if (v instanceof ArrayRealVector && out instanceof ArrayRealVector) {
+            final double[] vData   = ((ArrayRealVector) v).data;
+            final double[] outData = ((ArrayRealVector) out).data;
+            checkVectorDimensions(vData.length);
+            checkVectorDimensions(outData.length);
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = data[i] / vData[i];
+            }
+            return out;
+        } else {
+            return super.ebeDivide(v, out);
+        }
+    }
+
     /**
      * Get a reference to the underlying data array.
      * This method does not make a fresh copy of the underlying data.
@@ -844,6 +916,24 @@ public class ArrayRealVector extends RealVector implements Serializable {
         return copy().combineToSelf(a, b, y);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public RealVector combine(double a, double b, RealVector y, RealVector out)
+        throws MathIllegalArgumentException {
+        if (y instanceof ArrayRealVector && out instanceof ArrayRealVector) {
+            final double[] yData   = ((ArrayRealVector) y).data;
+            final double[] outData = ((ArrayRealVector) out).data;
+            checkVectorDimensions(yData.length);
+            checkVectorDimensions(outData.length);
+            for (int i = 0; i < data.length; i++) {
+                outData[i] = a * data[i] + b * yData[i];
+            }
+            return out;
+        } else {
+            return super.combine(a, b, y, out);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public ArrayRealVector combineToSelf(double a, double b, RealVector y)
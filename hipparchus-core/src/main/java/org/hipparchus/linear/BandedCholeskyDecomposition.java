@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the Cholesky decomposition of a banded symmetric positive definite matrix.
+ * <p>
+ * The factor L of a matrix with bandwidth k has the same lower bandwidth k,
+ * so the decomposition costs O(n k<sup>2</sup>) and each solve O(n k)
+ * instead of the O(n<sup>3</sup>) and O(n<sup>2</sup>) of {@link
+ * CholeskyDecomposition}.
+ * </p>
+ * @see BandedRealMatrix
+ * @see CholeskyDecomposition
+ * @since 4.0
+ */
+public class BandedCholeskyDecomposition {
+
+    /** Dimension of the matrix. */
+    private final int n;
+
+    /** Bandwidth. */
+    private final int bandwidth;
+
+    /** Entries of L, row by row, from column i - bandwidth to column i. */
+    private final double[] l;
+
+    /** Cached value of L. */
+    private BandedRealMatrix cachedL;
+
+    /** Cached value of LT. */
+    private BandedRealMatrix cachedLT;
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix.
+     * <p>
+     * Calling this constructor is equivalent to call {@link
+     * #BandedCholeskyDecomposition(BandedRealMatrix, double, double)} with the
+     * thresholds set to the default values {@link
+     * CholeskyDecomposition#DEFAULT_RELATIVE_SYMMETRY_THRESHOLD} and {@link
+     * CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD}
+     * </p>
+     * @param matrix the matrix to decompose
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public BandedCholeskyDecomposition(final BandedRealMatrix matrix) {
+        this(matrix,
+             CholeskyDecomposition.DEFAULT_RELATIVE_SYMMETRY_THRESHOLD,
+             CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD);
+    }
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix.
+     * @param matrix the matrix to decompose
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public BandedCholeskyDecomposition(final BandedRealMatrix matrix,
+                                       final double relativeSymmetryThreshold,
+                                       final double absolutePositivityThreshold) {
+
+        n         = matrix.getRowDimension();
+        bandwidth = FastMath.max(matrix.getLowerBandwidth(), matrix.getUpperBandwidth());
+        l         = new double[n * (bandwidth + 1)];
+
+        // check symmetry
+        for (int i = 0; i < n; ++i) {
+            for (int j = i + 1; j <= FastMath.min(n - 1, i + bandwidth); ++j) {
+                final double aIJ = matrix.getEntry(i, j);
+                final double aJI = matrix.getEntry(j, i);
+                final double maxDelta =
+                    relativeSymmetryThreshold * FastMath.max(FastMath.abs(aIJ), FastMath.abs(aJI));
+                if (FastMath.abs(aIJ - aJI) > maxDelta) {
+                    throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX,
+                                                           i, j, relativeSymmetryThreshold);
+                }
+            }
+        }
+
+        // row-oriented Cholesky-Banachiewicz factorization, restricted to the band
+        for (int i = 0; i < n; ++i) {
+            final int start = FastMath.max(0, i - bandwidth);
+            for (int j = start; j <= i; ++j) {
+                double sum = matrix.getEntry(i, j);
+                final int iP = index(i, start);
+                final int jP = index(j, start);
+                for (int p = 0; p < j - start; ++p) {
+                    sum -= l[iP + p] * l[jP + p];
+                }
+                if (j == i) {
+                    if (sum <= absolutePositivityThreshold) {
+                        throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+                    }
+                    l[index(i, i)] = FastMath.sqrt(sum);
+                } else {
+                    l[index(i, j)] = sum / l[index(j, j)];
+                }
+            }
+        }
+
+    }
+
+    /** Get the index of an entry of L.
+     * @param row row index
+     * @param column column index (must be in [row - bandwidth, row])
+     * @return index of the entry
+     */
+    private int index(final int row, final int column) {
+        return row * (bandwidth + 1) + column - row + bandwidth;
+    }
+
+    /**
+     * Returns the matrix L of the decomposition.
+     * <p>L is a lower-triangular banded matrix</p>
+     * @return the L matrix
+     */
+    public BandedRealMatrix getL() {
+        if (cachedL == null) {
+            cachedL = new BandedRealMatrix(n, bandwidth, 0, l, true);
+        }
+        return cachedL;
+    }
+
+    /**
+     * Returns the transpose of the matrix L of the decomposition.
+     * <p>L<sup>T</sup> is an upper-triangular banded matrix</p>
+     * @return the transpose of the matrix L of the decomposition
+     */
+    public BandedRealMatrix getLT() {
+        if (cachedLT == null) {
+            cachedLT = getL().transpose();
+        }
+        return cachedLT;
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        double determinant = 1.0;
+        for (int i = 0; i < n; ++i) {
+            final double lII = l[index(i, i)];
+            determinant *= lII * lII;
+        }
+        return determinant;
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in least square sense.
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            // if we get this far, the matrix was positive definite, hence non-singular
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            if (b.getDimension() != n) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), n);
+            }
+
+            final double[] x = b.toArray();
+
+            // Solve LY = b
+            for (int i = 0; i < n; ++i) {
+                final int start = FastMath.max(0, i - bandwidth);
+                final int iP    = index(i, start);
+                double sum = x[i];
+                for (int p = 0; p < i - start; ++p) {
+                    sum -= l[iP + p] * x[start + p];
+                }
+                x[i] = sum / l[index(i, i)];
+            }
+
+            // Solve LTX = Y
+            for (int i = n - 1; i >= 0; --i) {
+                x[i] /= l[index(i, i)];
+                final double xI    = x[i];
+                final int    start = FastMath.max(0, i - bandwidth);
+                final int    iP    = index(i, start);
+                for (int p = 0; p < i - start; ++p) {
+                    x[start + p] -= l[iP + p] * xI;
+                }
+            }
+
+            return new ArrayRealVector(x, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+            if (b.getRowDimension() != n) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), n);
+            }
+
+            final int        nColB = b.getColumnDimension();
+            final double[][] x     = b.getData();
+
+            // Solve LY = b
+            for (int i = 0; i < n; ++i) {
+                final int      start = FastMath.max(0, i - bandwidth);
+                final int      iP    = index(i, start);
+                final double[] xI    = x[i];
+                for (int p = 0; p < i - start; ++p) {
+                    final double   lIP = l[iP + p];
+                    final double[] xP  = x[start + p];
+                    for (int c = 0; c < nColB; ++c) {
+                        xI[c] -= lIP * xP[c];
+                    }
+                }
+                final double lII = l[index(i, i)];
+                for (int c = 0; c < nColB; ++c) {
+                    xI[c] /= lII;
+                }
+            }
+
+            // Solve LTX = Y
+            for (int i = n - 1; i >= 0; --i) {
+                final double[] xI  = x[i];
+                final double   lII = l[index(i, i)];
+                for (int c = 0; c < nColB; ++c) {
+                    xI[c] /= lII;
+                }
+                final int start = FastMath.max(0, i - bandwidth);
+                final int iP    = index(i, start);
+                for (int p = 0; p < i - start; ++p) {
+                    final double   lIP = l[iP + p];
+                    final double[] xP  = x[start + p];
+                    for (int c = 0; c < nColB; ++c) {
+                        xP[c] -= lIP * xI[c];
+                    }
+                }
+            }
+
+            return new Array2DRowRealMatrix(x, false);
+        }
+
+        /**
+         * Get the inverse of the decomposed matrix.
+         *
+         * @return the inverse matrix.
+         */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(n));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return n;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return n;
+        }
+
+    }
+
+}
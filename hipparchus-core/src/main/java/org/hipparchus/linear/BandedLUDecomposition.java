@@ -0,0 +1,324 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the LU-decomposition of a banded matrix, with partial pivoting.
+ * <p>
+ * For a matrix with lower bandwidth kl and upper bandwidth ku, row interchanges
+ * increase the upper bandwidth of U to at most kl + ku while L keeps at most kl
+ * non-zero entries below the diagonal in each column, so the decomposition costs
+ * O(n kl (kl+ku)) and each solve O(n (2kl+ku)) instead of the O(n<sup>3</sup>)
+ * and O(n<sup>2</sup>) of {@link LUDecomposition}.
+ * </p>
+ * <p>
+ * As in LAPACK {@code dgbtrf}, the row interchanges are not gathered into a
+ * single permutation matrix but applied one at a time during the solve, so
+ * the L and U factors are not exposed.
+ * </p>
+ * @see BandedRealMatrix
+ * @since 4.0
+ */
+public class BandedLUDecomposition {
+
+    /** Default bound to determine effective singularity in LU decomposition. */
+    private static final double DEFAULT_TOO_SMALL = 1e-11;
+
+    /** Dimension of the matrix. */
+    private final int n;
+
+    /** Lower bandwidth. */
+    private final int lower;
+
+    /** Upper bandwidth of U. */
+    private final int upper;
+
+    /** Number of stored entries in each row. */
+    private final int width;
+
+    /** Entries of LU decomposition, row by row. */
+    private final double[] lu;
+
+    /** Row interchanged with each row during elimination. */
+    private final int[] interchanges;
+
+    /** Parity of the permutation associated with the LU decomposition. */
+    private boolean even;
+
+    /** Singularity indicator. */
+    private boolean singular;
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * This constructor uses 1e-11 as default value for the singularity
+     * threshold.
+     *
+     * @param matrix Matrix to decompose.
+     */
+    public BandedLUDecomposition(final BandedRealMatrix matrix) {
+        this(matrix, DEFAULT_TOO_SMALL);
+    }
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * @param matrix The matrix to decompose.
+     * @param singularityThreshold threshold under which a pivot is
+     * considered zero and the matrix singular
+     */
+    public BandedLUDecomposition(final BandedRealMatrix matrix, final double singularityThreshold) {
+
+        n            = matrix.getRowDimension();
+        lower        = matrix.getLowerBandwidth();
+        upper        = FastMath.min(n - 1, lower + matrix.getUpperBandwidth());
+        width        = lower + upper + 1;
+        lu           = new double[n * width];
+        interchanges = new int[n];
+        even         = true;
+        singular     = false;
+
+        // copy the band, leaving room for fill-in due to row interchanges
+        final double[] band      = matrix.getBandRef();
+        final int      bandWidth = lower + matrix.getUpperBandwidth() + 1;
+        for (int i = 0; i < n; ++i) {
+            final int jStart = FastMath.max(0, i - lower);
+            final int jEnd   = FastMath.min(n - 1, i + matrix.getUpperBandwidth());
+            System.arraycopy(band, i * bandWidth + jStart - i + lower,
+                             lu, index(i, jStart), jEnd - jStart + 1);
+        }
+
+        for (int k = 0; k < n; ++k) {
+
+            // find pivot within the lower band of column k
+            final int iEnd    = FastMath.min(n - 1, k + lower);
+            int       max     = k;
+            double    largest = FastMath.abs(lu[index(k, k)]);
+            for (int i = k + 1; i <= iEnd; ++i) {
+                final double candidate = FastMath.abs(lu[index(i, k)]);
+                if (candidate > largest) {
+                    largest = candidate;
+                    max     = i;
+                }
+            }
+            interchanges[k] = max;
+
+            // Singularity check
+            if (largest < singularityThreshold) {
+                singular = true;
+                return;
+            }
+
+            // Pivot if necessary (only the columns not yet eliminated)
+            final int jEnd = FastMath.min(n - 1, k + upper);
+            if (max != k) {
+                for (int j = k; j <= jEnd; ++j) {
+                    final int    kj  = index(k, j);
+                    final int    mj  = index(max, j);
+                    final double tmp = lu[kj];
+                    lu[kj] = lu[mj];
+                    lu[mj] = tmp;
+                }
+                even = !even;
+            }
+
+            // eliminate entries below the pivot
+            final double pivot = lu[index(k, k)];
+            final int    kk    = index(k, k);
+            for (int i = k + 1; i <= iEnd; ++i) {
+                final int    ik = index(i, k);
+                final double l  = lu[ik] / pivot;
+                lu[ik] = l;
+                if (l != 0) {
+                    for (int j = 1; j <= jEnd - k; ++j) {
+                        lu[ik + j] -= l * lu[kk + j];
+                    }
+                }
+            }
+
+        }
+
+    }
+
+    /** Get the index of an entry within the row storage.
+     * @param row row index
+     * @param column column index (must be within the band)
+     * @return index of the entry
+     */
+    private int index(final int row, final int column) {
+        return row * width + column - row + lower;
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        if (singular) {
+            return 0;
+        } else {
+            double determinant = even ? 1 : -1;
+            for (int i = 0; i < n; i++) {
+                determinant *= lu[index(i, i)];
+            }
+            return determinant;
+        }
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in exact linear
+     * sense.
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            return !singular;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            if (b.getDimension() != n) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), n);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+
+            final double[] x = b.toArray();
+
+            // Solve LY = Pb, applying the interchanges on the fly
+            for (int k = 0; k < n; ++k) {
+                final int p = interchanges[k];
+                if (p != k) {
+                    final double tmp = x[k];
+                    x[k] = x[p];
+                    x[p] = tmp;
+                }
+                final double xK   = x[k];
+                final int    iEnd = FastMath.min(n - 1, k + lower);
+                for (int i = k + 1; i <= iEnd; ++i) {
+                    x[i] -= lu[index(i, k)] * xK;
+                }
+            }
+
+            // Solve UX = Y
+            for (int k = n - 1; k >= 0; --k) {
+                final int jEnd = FastMath.min(n - 1, k + upper);
+                final int kk   = index(k, k);
+                double sum = x[k];
+                for (int j = 1; j <= jEnd - k; ++j) {
+                    sum -= lu[kk + j] * x[k + j];
+                }
+                x[k] = sum / lu[kk];
+            }
+
+            return new ArrayRealVector(x, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+            if (b.getRowDimension() != n) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), n);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+
+            final int        nColB = b.getColumnDimension();
+            final double[][] x     = b.getData();
+
+            // Solve LY = Pb, applying the interchanges on the fly
+            for (int k = 0; k < n; ++k) {
+                final int p = interchanges[k];
+                if (p != k) {
+                    final double[] tmp = x[k];
+                    x[k] = x[p];
+                    x[p] = tmp;
+                }
+                final double[] xK   = x[k];
+                final int      iEnd = FastMath.min(n - 1, k + lower);
+                for (int i = k + 1; i <= iEnd; ++i) {
+                    final double   l  = lu[index(i, k)];
+                    final double[] xI = x[i];
+                    for (int c = 0; c < nColB; ++c) {
+                        xI[c] -= l * xK[c];
+                    }
+                }
+            }
+
+            // Solve UX = Y
+            for (int k = n - 1; k >= 0; --k) {
+                final int      jEnd = FastMath.min(n - 1, k + upper);
+                final int      kk   = index(k, k);
+                final double[] xK   = x[k];
+                for (int j = 1; j <= jEnd - k; ++j) {
+                    final double   u  = lu[kk + j];
+                    final double[] xJ = x[k + j];
+                    for (int c = 0; c < nColB; ++c) {
+                        xK[c] -= u * xJ[c];
+                    }
+                }
+                final double diag = lu[kk];
+                for (int c = 0; c < nColB; ++c) {
+                    xK[c] /= diag;
+                }
+            }
+
+            return new Array2DRowRealMatrix(x, false);
+        }
+
+        /**
+         * Get the inverse of the decomposed matrix.
+         *
+         * @return the inverse matrix.
+         * @throws MathIllegalArgumentException if the decomposed matrix is singular.
+         */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(n));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return n;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return n;
+        }
+
+    }
+
+}
@@ -0,0 +1,480 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.hipparchus.util.Precision;
+
+/**
+ * Square matrix whose non-zero entries are confined to a band around the diagonal.
+ * <p>
+ * Entry (i, j) may be non-zero only if i - kl &le; j &le; i + ku, where kl is
+ * the lower bandwidth and ku is the upper bandwidth. Only the band is stored,
+ * row by row: each row holds kl + ku + 1 entries, from column i - kl to column
+ * i + ku (the few positions that fall outside of the matrix in the first and
+ * last rows are unused). Memory is therefore O(n(kl+ku)) and the products
+ * cost O(n(kl+ku)) per vector instead of O(n<sup>2</sup>).
+ * </p>
+ * <p>
+ * Banded systems are solved in O(n(kl+ku)<sup>2</sup>) by {@link
+ * BandedLUDecomposition} or, for symmetric positive definite matrices,
+ * {@link BandedCholeskyDecomposition}.
+ * </p>
+ * <p>
+ * As with {@link DiagonalMatrix}, attempting to set a non-zero value outside
+ * of the band triggers an exception.
+ * </p>
+ * @see TridiagonalRealMatrix
+ * @since 4.0
+ */
+public class BandedRealMatrix extends AbstractRealMatrix implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Dimension of the matrix. */
+    private final int dimension;
+
+    /** Lower bandwidth. */
+    private final int lower;
+
+    /** Upper bandwidth. */
+    private final int upper;
+
+    /** Number of stored entries in each row. */
+    private final int width;
+
+    /** Band entries, row by row. */
+    private final double[] band;
+
+    /**
+     * Creates a matrix with the supplied dimension and bandwidths, with all entries set to zero.
+     *
+     * @param dimension Number of rows and columns in the new matrix.
+     * @param lower lower bandwidth (number of sub-diagonals)
+     * @param upper upper bandwidth (number of super-diagonals)
+     * @throws MathIllegalArgumentException if the dimension is not positive
+     * or if bandwidths are not in [0, dimension - 1]
+     */
+    public BandedRealMatrix(final int dimension, final int lower, final int upper)
+        throws MathIllegalArgumentException {
+        this(dimension, lower, upper, null, false);
+    }
+
+    /**
+     * Creates a matrix with the band entries of another matrix.
+     *
+     * @param m square matrix to copy
+     * @param lower lower bandwidth (number of sub-diagonals)
+     * @param upper upper bandwidth (number of super-diagonals)
+     * @throws MathIllegalArgumentException if the matrix is not square,
+     * if bandwidths are not in [0, dimension - 1] or if m has non-zero
+     * entries outside of the band
+     */
+    public BandedRealMatrix(final RealMatrix m, final int lower, final int upper)
+        throws MathIllegalArgumentException {
+        this(checkSquare(m).getRowDimension(), lower, upper);
+        for (int i = 0; i < dimension; ++i) {
+            for (int j = 0; j < dimension; ++j) {
+                final double value = m.getEntry(i, j);
+                if (inBand(i, j)) {
+                    band[index(i, j)] = value;
+                } else {
+                    ensureZero(value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a matrix using the input array as the underlying band storage.
+     *
+     * @param dimension Number of rows and columns in the new matrix.
+     * @param lower lower bandwidth (number of sub-diagonals)
+     * @param upper upper bandwidth (number of super-diagonals)
+     * @param band band entries, row by row, entry (i, j) being at index
+     * i (lower + upper + 1) + j - i + lower (null to allocate a new zero array)
+     * @param copyArray if {@code true}, the input array will be copied,
+     * otherwise it will be referenced.
+     * @throws MathIllegalArgumentException if the dimension is not positive,
+     * if bandwidths are not in [0, dimension - 1] or if the array does not
+     * have the expected length
+     */
+    BandedRealMatrix(final int dimension, final int lower, final int upper,
+                     final double[] band, final boolean copyArray)
+        throws MathIllegalArgumentException {
+        super(dimension, dimension);
+        MathUtils.checkRangeInclusive(lower, 0, dimension - 1);
+        MathUtils.checkRangeInclusive(upper, 0, dimension - 1);
+        this.dimension = dimension;
+        this.lower     = lower;
+        this.upper     = upper;
+        this.width     = lower + upper + 1;
+        if (band == null) {
+            this.band = new double[dimension * width];
+        } else {
+            MathUtils.checkDimension(band.length, dimension * width);
+            this.band = copyArray ? band.clone() : band;
+        }
+    }
+
+    /** Check a matrix is square.
+     * @param m matrix to check
+     * @return m
+     * @throws MathIllegalArgumentException if the matrix is not square
+     */
+    private static RealMatrix checkSquare(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        if (!m.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   m.getRowDimension(), m.getColumnDimension());
+        }
+        return m;
+    }
+
+    /** Get the lower bandwidth.
+     * @return lower bandwidth (number of sub-diagonals)
+     */
+    public int getLowerBandwidth() {
+        return lower;
+    }
+
+    /** Get the upper bandwidth.
+     * @return upper bandwidth (number of super-diagonals)
+     */
+    public int getUpperBandwidth() {
+        return upper;
+    }
+
+    /** Get a reference to the band storage.
+     * @return reference to the band entries, row by row, entry (i, j) being
+     * at index i (lower + upper + 1) + j - i + lower
+     */
+    double[] getBandRef() {
+        return band;
+    }
+
+    /** Check if an entry is within the band.
+     * @param row row index
+     * @param column column index
+     * @return true if entry is within the band
+     */
+    private boolean inBand(final int row, final int column) {
+        return column >= row - lower && column <= row + upper;
+    }
+
+    /** Get the index of an entry within the band storage.
+     * @param row row index
+     * @param column column index (must be within the band)
+     * @return index of the entry
+     */
+    private int index(final int row, final int column) {
+        return row * width + column - row + lower;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * As the new matrix may be non-banded, it is a general dense matrix.
+     * </p>
+     */
+    @Override
+    public RealMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return MatrixUtils.createRealMatrix(rowDimension, columnDimension);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BandedRealMatrix copy() {
+        return new BandedRealMatrix(dimension, lower, upper, band, true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return dimension;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return dimension;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[][] getData() {
+        final double[][] out = new double[dimension][dimension];
+        for (int i = 0; i < dimension; ++i) {
+            final int jStart = FastMath.max(0, i - lower);
+            final int jEnd   = FastMath.min(dimension - 1, i + upper);
+            System.arraycopy(band, index(i, jStart), out[i], jStart, jEnd - jStart + 1);
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return inBand(row, column) ? band[index(row, column)] : 0.0;
+    }
+
+    /** {@inheritDoc}
+     * @throws MathIllegalArgumentException if entry is outside of the band
+     * and value is not zero
+     */
+    @Override
+    public void setEntry(final int row, final int column, final double value)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        if (inBand(row, column)) {
+            band[index(row, column)] = value;
+        } else {
+            ensureZero(value);
+        }
+    }
+
+    /** {@inheritDoc}
+     * @throws MathIllegalArgumentException if entry is outside of the band
+     * and increment is not zero
+     */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        if (inBand(row, column)) {
+            band[index(row, column)] += increment;
+        } else {
+            ensureZero(increment);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        // we don't care about entries outside of the band for multiplication
+        if (inBand(row, column)) {
+            band[index(row, column)] *= factor;
+        }
+    }
+
+    /** Ensure a value is zero.
+     * @param value value to check
+     * @exception MathIllegalArgumentException if value is not zero
+     */
+    private void ensureZero(final double value) throws MathIllegalArgumentException {
+        if (!Precision.equals(0.0, value, 1)) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_LARGE,
+                                                   FastMath.abs(value), 0);
+        }
+    }
+
+    /**
+     * Compute the sum of {@code this} and {@code m}.
+     *
+     * @param m Matrix to be added.
+     * @return {@code this + m}, with bandwidths the largest of both operands
+     * @throws MathIllegalArgumentException if {@code m} is not the same
+     * size as {@code this}.
+     */
+    public BandedRealMatrix add(final BandedRealMatrix m)
+        throws MathIllegalArgumentException {
+        return combine(m, 1.0);
+    }
+
+    /**
+     * Returns {@code this} minus {@code m}.
+     *
+     * @param m Matrix to be subtracted.
+     * @return {@code this - m}, with bandwidths the largest of both operands
+     * @throws MathIllegalArgumentException if {@code m} is not the same
+     * size as {@code this}.
+     */
+    public BandedRealMatrix subtract(final BandedRealMatrix m)
+        throws MathIllegalArgumentException {
+        return combine(m, -1.0);
+    }
+
+    /** Compute {@code this + factor * m}.
+     * @param m other matrix
+     * @param factor multiplicative factor for m
+     * @return {@code this + factor * m}
+     * @throws MathIllegalArgumentException if {@code m} is not the same
+     * size as {@code this}.
+     */
+    private BandedRealMatrix combine(final BandedRealMatrix m, final double factor)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkAdditionCompatible(this, m);
+        final BandedRealMatrix out = new BandedRealMatrix(dimension,
+                                                          FastMath.max(lower, m.lower),
+                                                          FastMath.max(upper, m.upper));
+        for (int i = 0; i < dimension; ++i) {
+            for (int j = FastMath.max(0, i - lower); j <= FastMath.min(dimension - 1, i + upper); ++j) {
+                out.band[out.index(i, j)] = band[index(i, j)];
+            }
+            for (int j = FastMath.max(0, i - m.lower); j <= FastMath.min(dimension - 1, i + m.upper); ++j) {
+                out.band[out.index(i, j)] += factor * m.band[m.index(i, j)];
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix add(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        if (m instanceof BandedRealMatrix) {
+            return add((BandedRealMatrix) m);
+        } else {
+            return super.add(m);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix subtract(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        if (m instanceof BandedRealMatrix) {
+            return subtract((BandedRealMatrix) m);
+        } else {
+            return super.subtract(m);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BandedRealMatrix scalarMultiply(final double d) {
+        final BandedRealMatrix out = copy();
+        for (int k = 0; k < out.band.length; ++k) {
+            out.band[k] *= d;
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public BandedRealMatrix transpose() {
+        final BandedRealMatrix out = new BandedRealMatrix(dimension, upper, lower);
+        for (int i = 0; i < dimension; ++i) {
+            for (int j = FastMath.max(0, i - lower); j <= FastMath.min(dimension - 1, i + upper); ++j) {
+                out.band[out.index(j, i)] = band[index(i, j)];
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v)
+        throws MathIllegalArgumentException {
+        return operate(v, new double[dimension]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        MathUtils.checkDimension(v.length, dimension);
+        MathUtils.checkDimension(out.length, dimension);
+        final double[] in = (out == v) ? v.clone() : v;
+        for (int i = 0; i < dimension; ++i) {
+            final int jStart = FastMath.max(0, i - lower);
+            final int jEnd   = FastMath.min(dimension - 1, i + upper);
+            int k = index(i, jStart);
+            double sum = 0;
+            for (int j = jStart; j <= jEnd; ++j) {
+                sum += band[k++] * in[j];
+            }
+            out[i] = sum;
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v)
+        throws MathIllegalArgumentException {
+        return preMultiply(v, new double[dimension]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        MathUtils.checkDimension(v.length, dimension);
+        MathUtils.checkDimension(out.length, dimension);
+        final double[] in = (out == v) ? v.clone() : v;
+        Arrays.fill(out, 0.0);
+        for (int i = 0; i < dimension; ++i) {
+            final int    jStart = FastMath.max(0, i - lower);
+            final int    jEnd   = FastMath.min(dimension - 1, i + upper);
+            final double vI     = in[i];
+            int k = index(i, jStart);
+            for (int j = jStart; j <= jEnd; ++j) {
+                out[j] += vI * band[k++];
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix multiply(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        final int        nCols = m.getColumnDimension();
+        final double[][] mData = (m instanceof Array2DRowRealMatrix) ?
+                                 ((Array2DRowRealMatrix) m).getDataRef() : m.getData();
+        final double[][] out   = new double[dimension][nCols];
+        for (int i = 0; i < dimension; ++i) {
+            final int      jStart = FastMath.max(0, i - lower);
+            final int      jEnd   = FastMath.min(dimension - 1, i + upper);
+            final double[] outI   = out[i];
+            int k = index(i, jStart);
+            for (int j = jStart; j <= jEnd; ++j) {
+                final double   aIJ = band[k++];
+                final double[] mJ  = mData[j];
+                for (int c = 0; c < nCols; ++c) {
+                    outI[c] += aIJ * mJ[c];
+                }
+            }
+        }
+        return new Array2DRowRealMatrix(out, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getTrace() {
+        double trace = 0;
+        for (int i = 0; i < dimension; ++i) {
+            trace += band[i * width + lower];
+        }
+        return trace;
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.util.IterationManager;
+
+/**
+ * <p>
+ * This is an implementation of the BiConjugate Gradient STABilized method for
+ * general (non-symmetric) {@link RealLinearOperator}. It follows closely the
+ * template by <a href="#BARR1994">Barrett et al. (1994)</a> (figure 2.10).
+ * The linear system at hand is A &middot; x = b, and the residual is
+ * r = b - A &middot; x.
+ * </p>
+ * <p>
+ * Preconditioning is applied on the right, so the residual is the residual
+ * of the original system. The preconditioner does not need to be symmetric.
+ * Contrary to {@link GMRES}, memory requirements do not grow with the number
+ * of iterations, but convergence is not monotonic.
+ * </p>
+ * <p><strong>Default stopping criterion</strong></p>
+ * <p>
+ * The iterations stop when || r || &le; &delta; || b ||, where b is the
+ * right-hand side vector, r the current estimate of the residual, and &delta;
+ * a user-specified tolerance. It should be noted that r is the so-called
+ * <em>updated</em> residual, which might differ from the true residual due to
+ * rounding-off errors.
+ * </p>
+ * <p><strong>Iteration count</strong></p>
+ * <p>
+ * In the present context, an iteration should be understood as one full
+ * BiCGSTAB step, which involves two evaluations of the matrix-vector product
+ * A &middot; x. The initialization phase counts as one iteration.
+ * </p>
+ * <p>
+ * If the method breaks down (i.e. one of the scalars &rho; or &omega; vanishes before
+ * convergence), a {@link MathIllegalStateException} is thrown.
+ * </p>
+ * <p><strong>References</strong></p>
+ * <dl>
+ * <dt><a id="BARR1994">Barret et al. (1994)</a></dt>
+ * <dd>R. Barrett, M. Berry, T. F. Chan, J. Demmel, J. M. Donato, J. Dongarra,
+ * V. Eijkhout, R. Pozo, C. Romine and H. Van der Vorst,
+ * <a href="http://www.netlib.org/linalg/html_templates/Templates.html"><em>
+ * Templates for the Solution of Linear Systems: Building Blocks for Iterative
+ * Methods</em></a>, SIAM</dd>
+ * <dt>van der Vorst (1992)</dt>
+ * <dd>H. A. van der Vorst, <em>Bi-CGSTAB: A Fast and Smoothly Converging
+ * Variant of Bi-CG for the Solution of Nonsymmetric Linear Systems</em>,
+ * SIAM Journal on Scientific and Statistical Computing 13(2): 631-644, 1992</dd>
+ * </dl>
+ * @see GMRES
+ * @since 4.0
+ */
+public class BiCGSTAB extends PreconditionedIterativeLinearSolver {
+
+    /** The value of &delta;, for the default stopping criterion. */
+    private final double delta;
+
+    /**
+     * Creates a new instance of this class, with default stopping criterion.
+     *
+     * @param maxIterations the maximum number of iterations
+     * @param delta the &delta; parameter for the default stopping criterion
+     */
+    public BiCGSTAB(final int maxIterations, final double delta) {
+        super(maxIterations);
+        this.delta = delta;
+    }
+
+    /**
+     * Creates a new instance of this class, with default stopping criterion
+     * and custom iteration manager.
+     *
+     * @param manager the custom iteration manager
+     * @param delta the &delta; parameter for the default stopping criterion
+     * @throws NullArgumentException if {@code manager} is {@code null}
+     */
+    public BiCGSTAB(final IterationManager manager, final double delta)
+        throws NullArgumentException {
+        super(manager);
+        this.delta = delta;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws MathIllegalStateException if the method breaks down
+     */
+    @Override
+    public RealVector solveInPlace(final RealLinearOperator a,
+                                   final RealLinearOperator m,
+                                   final RealVector b,
+                                   final RealVector x0)
+        throws MathIllegalArgumentException, NullArgumentException,
+        MathIllegalStateException {
+        checkParameters(a, m, b, x0);
+        final IterationManager manager = getIterationManager();
+        // Initialization of default stopping criterion
+        manager.resetIterationCount();
+        final double rmax = delta * b.getNorm();
+        final RealVector bro = RealVector.unmodifiableRealVector(b);
+
+        // Initialization phase counts as one iteration.
+        manager.incrementIterationCount();
+        final RealVector x   = x0;
+        final RealVector xro = RealVector.unmodifiableRealVector(x);
+        final RealVector r   = b.combine(1, -1, a.operate(x));
+        final RealVector rro = RealVector.unmodifiableRealVector(r);
+        final RealVector rHat = r.copy();
+        double rnorm = r.getNorm();
+        IterativeLinearSolverEvent evt;
+        evt = new DefaultIterativeLinearSolverEvent(this, manager.getIterations(), xro, bro, rro, rnorm);
+        manager.fireInitializationEvent(evt);
+        if (rnorm <= rmax) {
+            manager.fireTerminationEvent(evt);
+            return x;
+        }
+
+        // work vectors, allocated once and updated in place
+        final int        n    = r.getDimension();
+        final RealVector v    = new ArrayRealVector(n);
+        final RealVector t    = new ArrayRealVector(n);
+        final RealVector pHat = (m == null) ? null : new ArrayRealVector(n);
+        final RealVector sHat = (m == null) ? r    : new ArrayRealVector(n);
+        RealVector p = null;
+        double rhoPrev   = 1;
+        double alpha     = 1;
+        double omega     = 1;
+        while (true) {
+            manager.incrementIterationCount();
+            evt = new DefaultIterativeLinearSolverEvent(this, manager.getIterations(), xro, bro, rro, rnorm);
+            manager.fireIterationStartedEvent(evt);
+
+            final double rho = rHat.dotProduct(r);
+            if (rho == 0) {
+                throw new MathIllegalStateException(LocalizedCoreFormats.CONVERGENCE_FAILED);
+            }
+            if (p == null) {
+                p = r.copy();
+            } else {
+                // p = r + beta (p - omega v)
+                final double beta = (rho / rhoPrev) * (alpha / omega);
+                p.combineToSelf(1, -omega, v);
+                p.combineToSelf(beta, 1, r);
+            }
+            final RealVector pp = (m == null) ? p : m.operate(p, pHat);
+            a.operate(pp, v);
+            alpha = rho / rHat.dotProduct(v);
+
+            // intermediate residual s, stored in r
+            r.combineToSelf(1, -alpha, v);
+            x.combineToSelf(1, alpha, pp);
+            rnorm = r.getNorm();
+            if (rnorm <= rmax) {
+                evt = new DefaultIterativeLinearSolverEvent(this, manager.getIterations(), xro, bro, rro, rnorm);
+                manager.fireIterationPerformedEvent(evt);
+                manager.fireTerminationEvent(evt);
+                return x;
+            }
+
+            if (m != null) {
+                m.operate(r, sHat);
+            }
+            a.operate(sHat, t);
+            final double     tt   = t.dotProduct(t);
+            omega = (tt == 0) ? 0 : t.dotProduct(r) / tt;
+            x.combineToSelf(1, omega, sHat);
+            r.combineToSelf(1, -omega, t);
+            rhoPrev = rho;
+
+            rnorm = r.getNorm();
+            evt = new DefaultIterativeLinearSolverEvent(this, manager.getIterations(), xro, bro, rro, rnorm);
+            manager.fireIterationPerformedEvent(evt);
+            if (rnorm <= rmax) {
+                manager.fireTerminationEvent(evt);
+                return x;
+            }
+            if (omega == 0) {
+                throw new MathIllegalStateException(LocalizedCoreFormats.CONVERGENCE_FAILED);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,352 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.Binary64;
+import org.hipparchus.util.Binary64Field;
+import org.hipparchus.util.MathArrays;
+
+/**
+ * Implementation of {@link FieldMatrix} for {@link Binary64} elements using primitive storage.
+ * <p>
+ * Generic field matrices such as {@link Array2DRowFieldMatrix Array2DRowFieldMatrix&lt;Binary64&gt;}
+ * allocate a new element for each addition and multiplication. This class stores the entries
+ * in a row-major {@code double} array and performs additions, subtractions, scalar operations,
+ * products and transposition directly on primitive doubles; when the other operand is also a
+ * {@code Binary64FieldMatrix}, no element is allocated at all. Other operations fall back to
+ * the generic implementations from {@link AbstractFieldMatrix}.
+ * </p>
+ * @since 4.0
+ */
+public class Binary64FieldMatrix extends AbstractFieldMatrix<Binary64> implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Number of rows. */
+    private final int rows;
+
+    /** Number of columns. */
+    private final int columns;
+
+    /** Entries of the matrix, in row-major order. */
+    private final double[] data;
+
+    /** Create a new matrix with the supplied row and column dimensions.
+     * <p>All entries are initialized to zero.</p>
+     * @param rowDimension number of rows in the new matrix
+     * @param columnDimension number of columns in the new matrix
+     * @throws MathIllegalArgumentException if row or column dimension is not positive
+     */
+    public Binary64FieldMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        super(Binary64Field.getInstance(), rowDimension, columnDimension);
+        this.rows    = rowDimension;
+        this.columns = columnDimension;
+        this.data    = new double[rowDimension * columnDimension];
+    }
+
+    /** Create a new matrix from a primitive array.
+     * <p>The input array is copied, not referenced.</p>
+     * @param d data for the new matrix
+     * @throws MathIllegalArgumentException if {@code d} is empty or not rectangular
+     */
+    public Binary64FieldMatrix(final double[][] d) throws MathIllegalArgumentException {
+        this(d.length, d.length == 0 ? 0 : d[0].length);
+        for (int i = 0; i < rows; ++i) {
+            checkRowLength(d[i].length);
+            System.arraycopy(d[i], 0, data, i * columns, columns);
+        }
+    }
+
+    /** Create a new matrix from a field elements array.
+     * @param d data for the new matrix
+     * @throws MathIllegalArgumentException if {@code d} is empty or not rectangular
+     */
+    public Binary64FieldMatrix(final Binary64[][] d) throws MathIllegalArgumentException {
+        this(d.length, d.length == 0 ? 0 : d[0].length);
+        for (int i = 0; i < rows; ++i) {
+            checkRowLength(d[i].length);
+            for (int j = 0; j < columns; ++j) {
+                data[i * columns + j] = d[i][j].getReal();
+            }
+        }
+    }
+
+    /** Create a new matrix from a real matrix.
+     * @param m real matrix to convert
+     */
+    public Binary64FieldMatrix(final RealMatrix m) {
+        this(m.getRowDimension(), m.getColumnDimension());
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                data[i * columns + j] = m.getEntry(i, j);
+            }
+        }
+    }
+
+    /** Check the length of a row of an input array.
+     * @param length length of the row
+     * @throws MathIllegalArgumentException if length does not match column dimension
+     */
+    private void checkRowLength(final int length) throws MathIllegalArgumentException {
+        if (length != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   length, columns);
+        }
+    }
+
+    /** Get a reference to the underlying data array.
+     * <p>Entry (i, j) is stored at index {@code i * getColumnDimension() + j}.</p>
+     * @return underlying data array, in row-major order
+     */
+    public double[] getDataRef() {
+        return data;
+    }
+
+    /** Convert the instance to a real matrix.
+     * @return a real matrix with the same entries
+     */
+    public RealMatrix toRealMatrix() {
+        final double[][] d = new double[rows][columns];
+        for (int i = 0; i < rows; ++i) {
+            System.arraycopy(data, i * columns, d[i], 0, columns);
+        }
+        return new Array2DRowRealMatrix(d, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Binary64FieldMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return new Binary64FieldMatrix(rowDimension, columnDimension);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Binary64FieldMatrix copy() {
+        final Binary64FieldMatrix copy = new Binary64FieldMatrix(rows, columns);
+        System.arraycopy(data, 0, copy.data, 0, data.length);
+        return copy;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Binary64 getEntry(final int row, final int column) throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        return new Binary64(data[row * columns + column]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int row, final int column, final Binary64 value)
+        throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        data[row * columns + column] = value.getReal();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addToEntry(final int row, final int column, final Binary64 increment)
+        throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        data[row * columns + column] += increment.getReal();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void multiplyEntry(final int row, final int column, final Binary64 factor)
+        throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        data[row * columns + column] *= factor.getReal();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FieldMatrix<Binary64> add(final FieldMatrix<Binary64> m)
+        throws MathIllegalArgumentException {
+        if (m instanceof Binary64FieldMatrix) {
+            checkAdditionCompatible(m);
+            final double[]            mData = ((Binary64FieldMatrix) m).data;
+            final Binary64FieldMatrix out   = new Binary64FieldMatrix(rows, columns);
+            for (int k = 0; k < data.length; ++k) {
+                out.data[k] = data[k] + mData[k];
+            }
+            return out;
+        } else {
+            return super.add(m);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FieldMatrix<Binary64> subtract(final FieldMatrix<Binary64> m)
+        throws MathIllegalArgumentException {
+        if (m instanceof Binary64FieldMatrix) {
+            checkSubtractionCompatible(m);
+            final double[]            mData = ((Binary64FieldMatrix) m).data;
+            final Binary64FieldMatrix out   = new Binary64FieldMatrix(rows, columns);
+            for (int k = 0; k < data.length; ++k) {
+                out.data[k] = data[k] - mData[k];
+            }
+            return out;
+        } else {
+            return super.subtract(m);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Binary64FieldMatrix scalarAdd(final Binary64 d) {
+        final double              s   = d.getReal();
+        final Binary64FieldMatrix out = new Binary64FieldMatrix(rows, columns);
+        for (int k = 0; k < data.length; ++k) {
+            out.data[k] = data[k] + s;
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Binary64FieldMatrix scalarMultiply(final Binary64 d) {
+        final double              s   = d.getReal();
+        final Binary64FieldMatrix out = new Binary64FieldMatrix(rows, columns);
+        for (int k = 0; k < data.length; ++k) {
+            out.data[k] = data[k] * s;
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FieldMatrix<Binary64> multiply(final FieldMatrix<Binary64> m)
+        throws MathIllegalArgumentException {
+        if (m instanceof Binary64FieldMatrix) {
+            checkMultiplicationCompatible(m);
+            final Binary64FieldMatrix b     = (Binary64FieldMatrix) m;
+            final int                 nCols = b.columns;
+            final Binary64FieldMatrix out   = new Binary64FieldMatrix(rows, nCols);
+            for (int i = 0; i < rows; ++i) {
+                final int outStart = i * nCols;
+                for (int k = 0; k < columns; ++k) {
+                    // row-oriented accumulation keeps the innermost loop on contiguous memory
+                    final double aik    = data[i * columns + k];
+                    final int    bStart = k * nCols;
+                    for (int j = 0; j < nCols; ++j) {
+                        out.data[outStart + j] += aik * b.data[bStart + j];
+                    }
+                }
+            }
+            return out;
+        } else {
+            return super.multiply(m);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Binary64FieldMatrix transpose() {
+        final Binary64FieldMatrix out = new Binary64FieldMatrix(columns, rows);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                out.data[j * rows + i] = data[i * columns + j];
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Binary64 getTrace() throws MathIllegalArgumentException {
+        if (rows != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   rows, columns);
+        }
+        double trace = 0;
+        for (int i = 0; i < rows; ++i) {
+            trace += data[i * (columns + 1)];
+        }
+        return new Binary64(trace);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Binary64[] operate(final Binary64[] v) throws MathIllegalArgumentException {
+        if (v.length != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, columns);
+        }
+        final double[] x = new double[columns];
+        for (int j = 0; j < columns; ++j) {
+            x[j] = v[j].getReal();
+        }
+        final Binary64[] out = MathArrays.buildArray(getField(), rows);
+        for (int i = 0; i < rows; ++i) {
+            final int start = i * columns;
+            double    sum   = 0;
+            for (int j = 0; j < columns; ++j) {
+                sum += data[start + j] * x[j];
+            }
+            out[i] = new Binary64(sum);
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Binary64[] preMultiply(final Binary64[] v) throws MathIllegalArgumentException {
+        if (v.length != rows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, rows);
+        }
+        final double[] sum = new double[columns];
+        for (int i = 0; i < rows; ++i) {
+            final double vi    = v[i].getReal();
+            final int    start = i * columns;
+            for (int j = 0; j < columns; ++j) {
+                sum[j] += vi * data[start + j];
+            }
+        }
+        final Binary64[] out = MathArrays.buildArray(getField(), columns);
+        for (int j = 0; j < columns; ++j) {
+            out[j] = new Binary64(sum[j]);
+        }
+        return out;
+    }
+
+}
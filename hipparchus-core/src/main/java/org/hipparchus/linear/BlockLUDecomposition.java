@@ -0,0 +1,543 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the LUP-decomposition of a square matrix using a cache-blocked algorithm.
+ * <p>The LUP-decomposition of a matrix A consists of three matrices L, U and
+ * P that satisfy: P&times;A = L&times;U. L is lower triangular (with unit
+ * diagonal terms), U is upper triangular and P is a permutation matrix. All
+ * matrices are m&times;m.</p>
+ * <p>This class computes the same decomposition as {@link LUDecomposition}
+ * (including partial pivoting), but it is designed for large dense matrices.
+ * It works directly on a copy of the matrix stored in {@link BlockRealMatrix}
+ * layout and uses a right-looking blocked algorithm: at each step, one panel
+ * of {@link BlockRealMatrix#BLOCK_SIZE} columns is factorized, then the
+ * corresponding block row of U is computed by triangular solves, and finally
+ * the trailing matrix is updated using block matrix-matrix products. Almost
+ * all floating point operations are therefore performed on blocks that fit
+ * in cache.</p>
+ * <p>The block row of U and the trailing matrix updates are made of independent
+ * block operations, they can be run in parallel if a {@link ForkJoinPool} is
+ * provided at construction. The result does not depend on the number of threads.</p>
+ * <p>As the operations are not performed in the same order as in {@link
+ * LUDecomposition}, results may differ from it by a few ulps.</p>
+ *
+ * @see LUDecomposition
+ * @see LUDecomposer
+ * @since 4.0
+ */
+public class BlockLUDecomposition {
+
+    /** Default bound to determine effective singularity in LU decomposition. */
+    private static final double DEFAULT_TOO_SMALL = 1e-11;
+
+    /** Dimension of the matrix. */
+    private final int m;
+
+    /** Number of block rows (and block columns) of the matrix. */
+    private final int nb;
+
+    /** Entries of LU decomposition, in blocks layout. */
+    private final double[][] blocks;
+
+    /** Pivot permutation associated with LU decomposition. */
+    private final int[] pivot;
+
+    /** Parity of the permutation associated with the LU decomposition. */
+    private boolean even;
+
+    /** Singularity indicator. */
+    private boolean singular;
+
+    /** Cached value of L. */
+    private RealMatrix cachedL;
+
+    /** Cached value of U. */
+    private RealMatrix cachedU;
+
+    /** Cached value of P. */
+    private RealMatrix cachedP;
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * This constructor uses 1e-11 as default value for the singularity
+     * threshold and runs in the calling thread only.
+     *
+     * @param matrix Matrix to decompose.
+     * @throws MathIllegalArgumentException if matrix is not square.
+     */
+    public BlockLUDecomposition(final RealMatrix matrix) {
+        this(matrix, DEFAULT_TOO_SMALL, null);
+    }
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * @param matrix The matrix to decompose.
+     * @param singularityThreshold threshold (based on partial row norm)
+     * under which a matrix is considered singular
+     * @param pool pool in which the block updates should be run
+     * (if null, everything is run in the calling thread)
+     * @throws MathIllegalArgumentException if matrix is not square
+     */
+    public BlockLUDecomposition(final RealMatrix matrix, final double singularityThreshold,
+                                final ForkJoinPool pool) {
+        if (!matrix.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension());
+        }
+
+        m       = matrix.getColumnDimension();
+        nb      = (m + BlockRealMatrix.BLOCK_SIZE - 1) / BlockRealMatrix.BLOCK_SIZE;
+        blocks  = (matrix instanceof BlockRealMatrix) ?
+                  ((BlockRealMatrix) matrix).copy().getBlocks() :
+                  BlockRealMatrix.toBlocksLayout(matrix.getData());
+        pivot   = new int[m];
+        cachedL = null;
+        cachedU = null;
+        cachedP = null;
+
+        // Initialize permutation array and parity
+        for (int row = 0; row < m; row++) {
+            pivot[row] = row;
+        }
+        even     = true;
+        singular = false;
+
+        // Loop over panels
+        for (int kb = 0; kb < nb; ++kb) {
+
+            // factorize the panel, with partial pivoting on complete rows
+            if (!factorizePanel(kb, singularityThreshold)) {
+                singular = true;
+                return;
+            }
+
+            final int kbNext = kb + 1;
+            final int remaining = nb - kbNext;
+            if (remaining > 0) {
+                if (pool == null) {
+                    for (int jb = kbNext; jb < nb; ++jb) {
+                        solveUpperBlock(kb, jb);
+                    }
+                    for (int ib = kbNext; ib < nb; ++ib) {
+                        for (int jb = kbNext; jb < nb; ++jb) {
+                            updateTrailingBlock(kb, ib, jb);
+                        }
+                    }
+                } else {
+                    final int k = kb;
+                    pool.invoke(new BlocksTask(0, remaining,
+                                               index -> solveUpperBlock(k, kbNext + index)));
+                    pool.invoke(new BlocksTask(0, remaining * remaining,
+                                               index -> updateTrailingBlock(k,
+                                                                            kbNext + index / remaining,
+                                                                            kbNext + index % remaining)));
+                }
+            }
+
+        }
+
+    }
+
+    /** Get the size of a block.
+     * @param b index (in block sense) of the block row or column
+     * @return size of the block
+     */
+    private int blockSize(final int b) {
+        return (b == nb - 1) ? m - b * BlockRealMatrix.BLOCK_SIZE : BlockRealMatrix.BLOCK_SIZE;
+    }
+
+    /** Get an entry of the LU storage.
+     * @param row row index
+     * @param column column index
+     * @return entry
+     */
+    private double getLUEntry(final int row, final int column) {
+        final int ib = row / BlockRealMatrix.BLOCK_SIZE;
+        final int jb = column / BlockRealMatrix.BLOCK_SIZE;
+        return blocks[ib * nb + jb][(row - ib * BlockRealMatrix.BLOCK_SIZE) * blockSize(jb) +
+                                    column - jb * BlockRealMatrix.BLOCK_SIZE];
+    }
+
+    /** Swap two complete rows.
+     * @param row1 index of first row
+     * @param row2 index of second row
+     */
+    private void swapRows(final int row1, final int row2) {
+        final int ib1  = row1 / BlockRealMatrix.BLOCK_SIZE;
+        final int ib2  = row2 / BlockRealMatrix.BLOCK_SIZE;
+        final int off1 = row1 - ib1 * BlockRealMatrix.BLOCK_SIZE;
+        final int off2 = row2 - ib2 * BlockRealMatrix.BLOCK_SIZE;
+        for (int jb = 0; jb < nb; ++jb) {
+            final int      w      = blockSize(jb);
+            final double[] block1 = blocks[ib1 * nb + jb];
+            final double[] block2 = blocks[ib2 * nb + jb];
+            final int      start1 = off1 * w;
+            final int      start2 = off2 * w;
+            for (int q = 0; q < w; ++q) {
+                final double tmp   = block1[start1 + q];
+                block1[start1 + q] = block2[start2 + q];
+                block2[start2 + q] = tmp;
+            }
+        }
+    }
+
+    /** Factorize one panel (i.e. one block column).
+     * <p>
+     * Row interchanges are applied to complete rows, so the
+     * blocks at the left and right of the panel are also permuted.
+     * </p>
+     * @param kb index (in block sense) of the panel
+     * @param singularityThreshold threshold under which a matrix is considered singular
+     * @return false if matrix is singular
+     */
+    private boolean factorizePanel(final int kb, final double singularityThreshold) {
+
+        final int      c0        = kb * BlockRealMatrix.BLOCK_SIZE;
+        final int      wk        = blockSize(kb);
+        final double[] diagBlock = blocks[kb * nb + kb];
+
+        for (int lc = 0; lc < wk; ++lc) {
+            final int col = c0 + lc;
+
+            // search best permutation choice
+            int max = col;
+            double largest = Double.NEGATIVE_INFINITY;
+            for (int row = col; row < m; ++row) {
+                final int ib = row / BlockRealMatrix.BLOCK_SIZE;
+                final double abs = FastMath.abs(blocks[ib * nb + kb][(row - ib * BlockRealMatrix.BLOCK_SIZE) * wk + lc]);
+                if (abs > largest) {
+                    largest = abs;
+                    max = row;
+                }
+            }
+
+            // Singularity check
+            if (FastMath.abs(getLUEntry(max, col)) < singularityThreshold) {
+                return false;
+            }
+
+            // Pivot if necessary
+            if (max != col) {
+                swapRows(max, col);
+                final int temp = pivot[max];
+                pivot[max] = pivot[col];
+                pivot[col] = temp;
+                even = !even;
+            }
+
+            // Divide the lower elements by the "winning" diagonal element
+            // and update the remaining columns of the panel
+            final int    uStart = lc * wk;
+            final double luDiag = diagBlock[uStart + lc];
+            for (int row = col + 1; row < m; ++row) {
+                final int      ib     = row / BlockRealMatrix.BLOCK_SIZE;
+                final double[] block  = blocks[ib * nb + kb];
+                final int      rStart = (row - ib * BlockRealMatrix.BLOCK_SIZE) * wk;
+                final double   l      = block[rStart + lc] / luDiag;
+                block[rStart + lc] = l;
+                for (int q = lc + 1; q < wk; ++q) {
+                    block[rStart + q] -= l * diagBlock[uStart + q];
+                }
+            }
+
+        }
+
+        return true;
+
+    }
+
+    /** Compute one block of the current block row of U.
+     * <p>
+     * This solves L<sub>kk</sub> U<sub>kj</sub> = A<sub>kj</sub> in place,
+     * where L<sub>kk</sub> is the unit lower triangular diagonal block.
+     * </p>
+     * @param kb index (in block sense) of the current panel
+     * @param jb index (in block sense) of the block column
+     */
+    private void solveUpperBlock(final int kb, final int jb) {
+        final int      wk     = blockSize(kb);
+        final int      wj     = blockSize(jb);
+        final double[] lBlock = blocks[kb * nb + kb];
+        final double[] uBlock = blocks[kb * nb + jb];
+        for (int p = 1; p < wk; ++p) {
+            final int pStart = p * wj;
+            for (int l = 0; l < p; ++l) {
+                final double lpl    = lBlock[p * wk + l];
+                final int    lStart = l * wj;
+                for (int q = 0; q < wj; ++q) {
+                    uBlock[pStart + q] -= lpl * uBlock[lStart + q];
+                }
+            }
+        }
+    }
+
+    /** Update one block of the trailing matrix.
+     * <p>
+     * This computes A<sub>ij</sub> &larr; A<sub>ij</sub> - L<sub>ik</sub> U<sub>kj</sub>.
+     * </p>
+     * @param kb index (in block sense) of the current panel
+     * @param ib index (in block sense) of the block row
+     * @param jb index (in block sense) of the block column
+     */
+    private void updateTrailingBlock(final int kb, final int ib, final int jb) {
+        final int      hi     = blockSize(ib);
+        final int      wk     = blockSize(kb);
+        final int      wj     = blockSize(jb);
+        final double[] cBlock = blocks[ib * nb + jb];
+        final double[] lBlock = blocks[ib * nb + kb];
+        final double[] uBlock = blocks[kb * nb + jb];
+        for (int p = 0; p < hi; ++p) {
+            final int cStart = p * wj;
+            final int lStart = p * wk;
+            for (int l = 0; l < wk; ++l) {
+                final double lpl    = lBlock[lStart + l];
+                final int    uStart = l * wj;
+                for (int q = 0; q < wj; ++q) {
+                    cBlock[cStart + q] -= lpl * uBlock[uStart + q];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the matrix L of the decomposition.
+     * <p>L is a lower-triangular matrix</p>
+     * @return the L matrix (or null if decomposed matrix is singular)
+     */
+    public RealMatrix getL() {
+        if ((cachedL == null) && !singular) {
+            cachedL = MatrixUtils.createRealMatrix(m, m);
+            for (int i = 0; i < m; ++i) {
+                for (int j = 0; j < i; ++j) {
+                    cachedL.setEntry(i, j, getLUEntry(i, j));
+                }
+                cachedL.setEntry(i, i, 1.0);
+            }
+        }
+        return cachedL;
+    }
+
+    /**
+     * Returns the matrix U of the decomposition.
+     * <p>U is an upper-triangular matrix</p>
+     * @return the U matrix (or null if decomposed matrix is singular)
+     */
+    public RealMatrix getU() {
+        if ((cachedU == null) && !singular) {
+            cachedU = MatrixUtils.createRealMatrix(m, m);
+            for (int i = 0; i < m; ++i) {
+                for (int j = i; j < m; ++j) {
+                    cachedU.setEntry(i, j, getLUEntry(i, j));
+                }
+            }
+        }
+        return cachedU;
+    }
+
+    /**
+     * Returns the P rows permutation matrix.
+     * <p>P is a sparse matrix with exactly one element set to 1.0 in
+     * each row and each column, all other elements being set to 0.0.</p>
+     * <p>The positions of the 1 elements are given by the {@link #getPivot()
+     * pivot permutation vector}.</p>
+     * @return the P rows permutation matrix (or null if decomposed matrix is singular)
+     * @see #getPivot()
+     */
+    public RealMatrix getP() {
+        if ((cachedP == null) && !singular) {
+            cachedP = MatrixUtils.createRealMatrix(m, m);
+            for (int i = 0; i < m; ++i) {
+                cachedP.setEntry(i, pivot[i], 1.0);
+            }
+        }
+        return cachedP;
+    }
+
+    /**
+     * Returns the pivot permutation vector.
+     * @return the pivot permutation vector
+     * @see #getP()
+     */
+    public int[] getPivot() {
+        return pivot.clone();
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        if (singular) {
+            return 0;
+        } else {
+            double determinant = even ? 1 : -1;
+            for (int i = 0; i < m; i++) {
+                determinant *= getLUEntry(i, i);
+            }
+            return determinant;
+        }
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in exact linear
+     * sense.
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            return !singular;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            if (b.getDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), m);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+
+            // Apply permutations to b
+            final double[] bp = new double[m];
+            for (int row = 0; row < m; row++) {
+                bp[row] = b.getEntry(pivot[row]);
+            }
+
+            solveInPlace(bp);
+            return new ArrayRealVector(bp, false);
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+
+            if (b.getRowDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), m);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+
+            final int nColB = b.getColumnDimension();
+            final RealMatrix x = MatrixUtils.createRealMatrix(m, nColB);
+            final double[] bp = new double[m];
+            for (int col = 0; col < nColB; ++col) {
+
+                // Apply permutations to current column of b
+                for (int row = 0; row < m; row++) {
+                    bp[row] = b.getEntry(pivot[row], col);
+                }
+
+                solveInPlace(bp);
+                for (int row = 0; row < m; row++) {
+                    x.setEntry(row, col, bp[row]);
+                }
+
+            }
+
+            return x;
+        }
+
+        /** Solve L U X = B in place, for an already permuted B.
+         * @param bp permuted right hand side on input, solution on output
+         */
+        private void solveInPlace(final double[] bp) {
+
+            // Solve LY = b
+            for (int i = 0; i < m; ++i) {
+                final int ib     = i / BlockRealMatrix.BLOCK_SIZE;
+                final int li     = i - ib * BlockRealMatrix.BLOCK_SIZE;
+                double    sum    = bp[i];
+                for (int jb = 0; jb <= ib; ++jb) {
+                    final int      w      = blockSize(jb);
+                    final double[] block  = blocks[ib * nb + jb];
+                    final int      start  = li * w;
+                    final int      end    = (jb == ib) ? li : w;
+                    final int      offset = jb * BlockRealMatrix.BLOCK_SIZE;
+                    for (int lj = 0; lj < end; ++lj) {
+                        sum -= block[start + lj] * bp[offset + lj];
+                    }
+                }
+                bp[i] = sum;
+            }
+
+            // Solve UX = Y
+            for (int i = m - 1; i >= 0; --i) {
+                final int ib     = i / BlockRealMatrix.BLOCK_SIZE;
+                final int li     = i - ib * BlockRealMatrix.BLOCK_SIZE;
+                double    sum    = bp[i];
+                for (int jb = ib; jb < nb; ++jb) {
+                    final int      w      = blockSize(jb);
+                    final double[] block  = blocks[ib * nb + jb];
+                    final int      start  = li * w;
+                    final int      offset = jb * BlockRealMatrix.BLOCK_SIZE;
+                    for (int lj = (jb == ib) ? li + 1 : 0; lj < w; ++lj) {
+                        sum -= block[start + lj] * bp[offset + lj];
+                    }
+                }
+                bp[i] = sum / getLUEntry(i, i);
+            }
+
+        }
+
+        /**
+         * Get the inverse of the decomposed matrix.
+         *
+         * @return the inverse matrix.
+         * @throws MathIllegalArgumentException if the decomposed matrix is singular.
+         */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(m));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return m;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return m;
+        }
+
+    }
+
+}
@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the QR-decomposition of a matrix using a blocked Householder algorithm.
+ * <p>This class computes the same decomposition as {@link QRDecomposition}, but
+ * instead of applying each Householder reflector to the whole remaining matrix
+ * as soon as it is computed (which is a rank-1 update limited by memory bandwidth),
+ * it factorizes the matrix by panels of {@link #PANEL_WIDTH} columns. The reflectors
+ * of one panel are accumulated in compact WY form I - Y T Y<sup>T</sup>, where Y holds
+ * the reflector vectors and T is a small upper triangular matrix, and they are applied
+ * to the trailing columns all at once, as matrix-matrix products computed on chunks
+ * of rows that fit in cache. The panels themselves are factorized recursively (left
+ * half, block update of the right half, right half), so the passes over the full
+ * columns are also performed on chunks. This is much faster for large matrices, and
+ * in particular for the tall matrices encountered in least squares problems.</p>
+ * <p>The packed representation of the decomposition is the same as the one of
+ * {@link QRDecomposition}, so all the matrices and the solver are available
+ * as in the parent class. As the operations are not performed in the same order,
+ * results may differ from {@link QRDecomposition} by a few ulps.</p>
+ *
+ * @see <a href="https://doi.org/10.1137/0910005">Schreiber and Van Loan,
+ * A Storage-Efficient WY Representation for Products of Householder Transformations</a>
+ * @see <a href="https://doi.org/10.1147/rd.444.0605">Elmroth and Gustavson,
+ * Applying recursion to serial and parallel QR factorization leads to better performance</a>
+ * @see QRDecomposer
+ * @since 4.0
+ */
+public class BlockQRDecomposition extends QRDecomposition {
+
+    /** Number of columns per panel. */
+    public static final int PANEL_WIDTH = 32;
+
+    /** Number of rows per chunk in block updates. */
+    private static final int ROWS_CHUNK = 512;
+
+    /**
+     * Calculates the QR-decomposition of the given matrix.
+     * The singularity threshold defaults to zero.
+     *
+     * @param matrix The matrix to decompose.
+     *
+     * @see #BlockQRDecomposition(RealMatrix, double)
+     */
+    public BlockQRDecomposition(final RealMatrix matrix) {
+        this(matrix, 0d);
+    }
+
+    /**
+     * Calculates the QR-decomposition of the given matrix.
+     *
+     * @param matrix The matrix to decompose.
+     * @param threshold Singularity threshold.
+     */
+    public BlockQRDecomposition(final RealMatrix matrix, final double threshold) {
+        super(matrix, threshold);
+    }
+
+    /** Decompose matrix.
+     * @param matrix transposed matrix
+     */
+    @Override
+    protected void decompose(final double[][] matrix) {
+        final int n = matrix.length;
+        final int p = FastMath.min(n, matrix[0].length);
+        for (int k0 = 0; k0 < p; k0 += PANEL_WIDTH) {
+            final int k1 = FastMath.min(k0 + PANEL_WIDTH, p);
+
+            // factorize the panel
+            factorizePanel(matrix, k0, k1);
+
+            // apply all the panel reflections at once to the trailing columns
+            if (k1 < n) {
+                applyBlockReflector(matrix, k0, k1, k1, n);
+            }
+
+        }
+    }
+
+    /** Recursively factorize a panel.
+     * <p>
+     * The columns of the panel must already have been updated
+     * by all the reflectors preceding the panel.
+     * </p>
+     * @param matrix transposed matrix
+     * @param k0 index of the first column of the panel
+     * @param k1 index of the last column of the panel (excluded)
+     */
+    private void factorizePanel(final double[][] matrix, final int k0, final int k1) {
+        if (k1 - k0 == 1) {
+            // single column, the reflection does not need to update any other column
+            performHouseholderReflection(k0, Arrays.copyOf(matrix, k1));
+        } else {
+            final int middle = (k0 + k1) >>> 1;
+            factorizePanel(matrix, k0, middle);
+            applyBlockReflector(matrix, k0, middle, middle, k1);
+            factorizePanel(matrix, middle, k1);
+        }
+    }
+
+    /** Apply accumulated reflectors to a range of columns.
+     * @param matrix transposed matrix
+     * @param k0 index of the first reflector
+     * @param k1 index of the last reflector (excluded)
+     * @param c0 index of the first column to update
+     * @param c1 index of the last column to update (excluded)
+     */
+    private void applyBlockReflector(final double[][] matrix,
+                                     final int k0, final int k1,
+                                     final int c0, final int c1) {
+
+        final int      m     = matrix[0].length;
+        final int      nb    = k1 - k0;
+        final int      nc    = c1 - c0;
+        final double[] rDiag = getRDiag();
+
+        // scaling factors of the reflectors: H = I - tau v v^T
+        final double[] tau = new double[nb];
+        for (int j = 0; j < nb; ++j) {
+            final double d = rDiag[k0 + j] * matrix[k0 + j][k0 + j];
+            tau[j] = (d == 0) ? 0.0 : -1.0 / d;
+        }
+
+        // Gram matrix G = Y^T Y (strictly upper part) and W = Y^T C,
+        // both accumulated by chunks of rows
+        final double[][] g = new double[nb][nb];
+        final double[][] w = new double[nc][nb];
+        for (int r0 = k0; r0 < m; r0 += ROWS_CHUNK) {
+            final int r1 = FastMath.min(r0 + ROWS_CHUNK, m);
+
+            for (int j = 1; j < nb; ++j) {
+                final double[] vJ     = matrix[k0 + j];
+                final int      rStart = FastMath.max(r0, k0 + j);
+                int i = 0;
+                while (i < j - 3) {
+                    dot1x4(vJ, matrix, k0 + i, rStart, r1, g, i, j);
+                    i += 4;
+                }
+                while (i < j) {
+                    g[i][j] += dot(vJ, matrix[k0 + i], rStart, r1);
+                    ++i;
+                }
+            }
+
+            int c = 0;
+            while (c < nc - 3) {
+                int j = 0;
+                while (j < nb - 1) {
+                    // the first row of reflector j is not part of reflector j + 1
+                    final int rJ = k0 + j;
+                    if (rJ >= r0 && rJ < r1) {
+                        final double vJRJ = matrix[rJ][rJ];
+                        for (int k = 0; k < 4; ++k) {
+                            w[c + k][j] += vJRJ * matrix[c0 + c + k][rJ];
+                        }
+                    }
+                    dot2x4(matrix[rJ], matrix[rJ + 1], matrix, c0 + c,
+                           FastMath.max(r0, rJ + 1), r1, w, c, j);
+                    j += 2;
+                }
+                if (j < nb) {
+                    dot1x4(matrix[k0 + j], matrix, c0 + c, FastMath.max(r0, k0 + j), r1, w, c, j);
+                }
+                c += 4;
+            }
+            while (c < nc) {
+                final double[] col = matrix[c0 + c];
+                for (int j = 0; j < nb; ++j) {
+                    w[c][j] += dot(matrix[k0 + j], col, FastMath.max(r0, k0 + j), r1);
+                }
+                ++c;
+            }
+
+        }
+
+        // upper triangular factor T such that H_k0 ... H_(k1-1) = I - Y T Y^T
+        final double[][] t = new double[nb][nb];
+        for (int j = 0; j < nb; ++j) {
+            t[j][j] = tau[j];
+            if (tau[j] != 0) {
+                for (int i = 0; i < j; ++i) {
+                    double sum = 0;
+                    for (int l = i; l < j; ++l) {
+                        sum += t[i][l] * g[l][j];
+                    }
+                    t[i][j] = -tau[j] * sum;
+                }
+            }
+        }
+
+        // W = T^T W, computed in place from the last row upwards
+        for (int c = 0; c < nc; ++c) {
+            final double[] wC = w[c];
+            for (int j = nb - 1; j >= 0; --j) {
+                double sum = 0;
+                for (int i = 0; i <= j; ++i) {
+                    sum += t[i][j] * wC[i];
+                }
+                wC[j] = sum;
+            }
+        }
+
+        // C = C - Y W, updated by chunks of rows
+        for (int r0 = k0; r0 < m; r0 += ROWS_CHUNK) {
+            final int r1 = FastMath.min(r0 + ROWS_CHUNK, m);
+            for (int c = 0; c < nc; ++c) {
+                final double[] col = matrix[c0 + c];
+                final double[] wC  = w[c];
+                for (int j = 0; j < nb; ++j) {
+                    final double[] vJ  = matrix[k0 + j];
+                    final double   wCJ = wC[j];
+                    for (int r = FastMath.max(r0, k0 + j); r < r1; ++r) {
+                        col[r] -= wCJ * vJ[r];
+                    }
+                }
+            }
+        }
+
+    }
+
+    /** Compute a partial dot product.
+     * @param u first vector
+     * @param v second vector
+     * @param start index of the first element (included)
+     * @param end index of the last element (excluded)
+     * @return partial dot product
+     */
+    private static double dot(final double[] u, final double[] v, final int start, final int end) {
+        return MatrixUtils.dotProduct(u, start, v, start, end - start);
+    }
+
+    /** Accumulate four partial dot products sharing one vector.
+     * <p>
+     * Computing several independent sums at once removes the dependency
+     * between successive additions that limits single dot products.
+     * </p>
+     * @param u shared vector
+     * @param v array containing the four other vectors
+     * @param vStart index of the first of the four other vectors in {@code v}
+     * @param start index of the first element (included)
+     * @param end index of the last element (excluded)
+     * @param acc accumulators, u.v[vStart + k] is added to acc[row + k][column]
+     * @param row row index of the first accumulator
+     * @param column column index of the accumulators
+     */
+    private static void dot1x4(final double[] u, final double[][] v, final int vStart,
+                               final int start, final int end,
+                               final double[][] acc, final int row, final int column) {
+        final double[] v0 = v[vStart];
+        final double[] v1 = v[vStart + 1];
+        final double[] v2 = v[vStart + 2];
+        final double[] v3 = v[vStart + 3];
+        double s0 = 0;
+        double s1 = 0;
+        double s2 = 0;
+        double s3 = 0;
+        for (int r = start; r < end; ++r) {
+            final double ur = u[r];
+            s0 += ur * v0[r];
+            s1 += ur * v1[r];
+            s2 += ur * v2[r];
+            s3 += ur * v3[r];
+        }
+        acc[row][column]     += s0;
+        acc[row + 1][column] += s1;
+        acc[row + 2][column] += s2;
+        acc[row + 3][column] += s3;
+    }
+
+    /** Accumulate eight partial dot products between two vectors and four other vectors.
+     * <p>
+     * Computing several independent sums at once removes the dependency
+     * between successive additions that limits single dot products, and
+     * sharing loads between products reduces memory traffic.
+     * </p>
+     * @param u0 first shared vector
+     * @param u1 second shared vector
+     * @param v array containing the four other vectors
+     * @param vStart index of the first of the four other vectors in {@code v}
+     * @param start index of the first element (included)
+     * @param end index of the last element (excluded)
+     * @param acc accumulators, u<sub>l</sub>.v[vStart + k] is added to acc[row + k][column + l]
+     * @param row row index of the first accumulator
+     * @param column column index of the first accumulator
+     */
+    private static void dot2x4(final double[] u0, final double[] u1, final double[][] v, final int vStart,
+                               final int start, final int end,
+                               final double[][] acc, final int row, final int column) {
+        final double[] v0 = v[vStart];
+        final double[] v1 = v[vStart + 1];
+        final double[] v2 = v[vStart + 2];
+        final double[] v3 = v[vStart + 3];
+        double s00 = 0;
+        double s01 = 0;
+        double s02 = 0;
+        double s03 = 0;
+        double s10 = 0;
+        double s11 = 0;
+        double s12 = 0;
+        double s13 = 0;
+        for (int r = start; r < end; ++r) {
+            final double u0r = u0[r];
+            final double u1r = u1[r];
+            final double v0r = v0[r];
+            final double v1r = v1[r];
+            final double v2r = v2[r];
+            final double v3r = v3[r];
+            s00 += u0r * v0r;
+            s01 += u0r * v1r;
+            s02 += u0r * v2r;
+            s03 += u0r * v3r;
+            s10 += u1r * v0r;
+            s11 += u1r * v1r;
+            s12 += u1r * v2r;
+            s13 += u1r * v3r;
+        }
+        acc[row][column]         += s00;
+        acc[row + 1][column]     += s01;
+        acc[row + 2][column]     += s02;
+        acc[row + 3][column]     += s03;
+        acc[row][column + 1]     += s10;
+        acc[row + 1][column + 1] += s11;
+        acc[row + 2][column + 1] += s12;
+        acc[row + 3][column + 1] += s13;
+    }
+
+}
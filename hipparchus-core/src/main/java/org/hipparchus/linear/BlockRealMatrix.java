@@ -24,6 +24,7 @@ package org.hipparchus.linear;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
@@ -347,11 +348,39 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
      * size as this matrix.
      */
     public BlockRealMatrix add(final BlockRealMatrix m)
+        throws MathIllegalArgumentException {
+        return add(m, new BlockRealMatrix(rows, columns));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix add(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof BlockRealMatrix && out instanceof BlockRealMatrix) {
+            return add((BlockRealMatrix) m, (BlockRealMatrix) out);
+        } else {
+            return super.add(m, out);
+        }
+    }
+
+    /**
+     * Compute the sum of this matrix and {@code m} into a destination matrix.
+     * <p>
+     * This method does not allocate any intermediate storage. The destination
+     * may be {@code this} or {@code m} itself.
+     * </p>
+     * @param m Matrix to be added.
+     * @param out destination matrix, which must have the same size as this matrix
+     * @return {@code out}, set to {@code this} + m.
+     * @throws MathIllegalArgumentException if {@code m} or {@code out} is not
+     * the same size as this matrix.
+     * @since 4.0
+     */
+    public BlockRealMatrix add(final BlockRealMatrix m, final BlockRealMatrix out)
         throws MathIllegalArgumentException {
         // safety check
         MatrixUtils.checkAdditionCompatible(this, m);
-
-        final BlockRealMatrix out = new BlockRealMatrix(rows, columns);
+        MatrixUtils.checkAdditionCompatible(this, out);
 
         // perform addition block-wise, to ensure good cache behavior
         for (int blockIndex = 0; blockIndex < out.blocks.length; ++blockIndex) {
@@ -415,11 +444,39 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
      * same size as this matrix.
      */
     public BlockRealMatrix subtract(final BlockRealMatrix m)
+        throws MathIllegalArgumentException {
+        return subtract(m, new BlockRealMatrix(rows, columns));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix subtract(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof BlockRealMatrix && out instanceof BlockRealMatrix) {
+            return subtract((BlockRealMatrix) m, (BlockRealMatrix) out);
+        } else {
+            return super.subtract(m, out);
+        }
+    }
+
+    /**
+     * Subtract {@code m} from this matrix into a destination matrix.
+     * <p>
+     * This method does not allocate any intermediate storage. The destination
+     * may be {@code this} or {@code m} itself.
+     * </p>
+     * @param m Matrix to be subtracted.
+     * @param out destination matrix, which must have the same size as this matrix
+     * @return {@code out}, set to {@code this} - m.
+     * @throws MathIllegalArgumentException if {@code m} or {@code out} is not
+     * the same size as this matrix.
+     * @since 4.0
+     */
+    public BlockRealMatrix subtract(final BlockRealMatrix m, final BlockRealMatrix out)
         throws MathIllegalArgumentException {
         // safety check
         MatrixUtils.checkSubtractionCompatible(this, m);
-
-        final BlockRealMatrix out = new BlockRealMatrix(rows, columns);
+        MatrixUtils.checkSubtractionCompatible(this, out);
 
         // perform subtraction block-wise, to ensure good cache behavior
         for (int blockIndex = 0; blockIndex < out.blocks.length; ++blockIndex) {
@@ -535,60 +592,178 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
         // safety check
         MatrixUtils.checkMultiplicationCompatible(this, m);
 
-        final BlockRealMatrix out = new BlockRealMatrix(rows, m.columns);
+        return multiply(m, new BlockRealMatrix(rows, m.columns));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix multiply(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        if (m instanceof BlockRealMatrix && out instanceof BlockRealMatrix) {
+            return multiply((BlockRealMatrix) m, (BlockRealMatrix) out);
+        } else {
+            return super.multiply(m, out);
+        }
+    }
+
+    /**
+     * Computes the result of postmultiplying this by {@code m} into a destination matrix.
+     * <p>
+     * The destination should not share storage with {@code this} or {@code m},
+     * but it may be one of these instances, in which case the product is first
+     * computed in temporary storage.
+     * </p>
+     * @param m Matrix to postmultiply by.
+     * @param out destination matrix, which must have the row dimension of
+     * {@code this} and the column dimension of {@code m}
+     * @return {@code out}, set to {@code this} * m.
+     * @throws MathIllegalArgumentException if the matrices are not compatible.
+     * @since 4.0
+     */
+    public BlockRealMatrix multiply(final BlockRealMatrix m, final BlockRealMatrix out)
+        throws MathIllegalArgumentException {
+        // safety check
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        MatrixUtils.checkDimensions(out, rows, m.columns);
+
+        if (out == this || out == m) {
+            final BlockRealMatrix product = multiply(m);
+            for (int blockIndex = 0; blockIndex < out.blocks.length; ++blockIndex) {
+                System.arraycopy(product.blocks[blockIndex], 0, out.blocks[blockIndex], 0,
+                                 out.blocks[blockIndex].length);
+            }
+            return out;
+        }
 
         // perform multiplication block-wise, to ensure good cache behavior
-        int blockIndex = 0;
-        for (int iBlock = 0; iBlock < out.blockRows; ++iBlock) {
+        for (int blockIndex = 0; blockIndex < out.blocks.length; ++blockIndex) {
+            multiplyBlock(m, out, blockIndex);
+        }
 
-            final int pStart = iBlock * BLOCK_SIZE;
-            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+        return out;
+    }
 
-            for (int jBlock = 0; jBlock < out.blockColumns; ++jBlock) {
-                final int jWidth = out.blockWidth(jBlock);
-                final int jWidth2 = jWidth  + jWidth;
-                final int jWidth3 = jWidth2 + jWidth;
-                final int jWidth4 = jWidth3 + jWidth;
+    /**
+     * Returns the result of postmultiplying this by {@code m}, using several threads.
+     * <p>
+     * The blocks of the result are independent of each other, they are therefore
+     * computed in parallel by the tasks of the specified pool. Each block is computed
+     * exactly as in the single-threaded {@link #multiply(BlockRealMatrix)} method, so
+     * the result is bit-identical to the one of the single-threaded method.
+     * </p>
+     * @param m Matrix to postmultiply by.
+     * @param pool pool in which the computation should be run
+     * (the level of parallelism is set by the pool itself)
+     * @return {@code this} * m.
+     * @throws MathIllegalArgumentException if the matrices are not compatible.
+     * @since 4.0
+     */
+    public BlockRealMatrix multiply(final BlockRealMatrix m, final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+        // safety check
+        MatrixUtils.checkMultiplicationCompatible(this, m);
 
-                // select current block
-                final double[] outBlock = out.blocks[blockIndex];
+        final BlockRealMatrix out = new BlockRealMatrix(rows, m.columns);
 
-                // perform multiplication on current block
-                for (int kBlock = 0; kBlock < blockColumns; ++kBlock) {
-                    final int kWidth = blockWidth(kBlock);
-                    final double[] tBlock = blocks[iBlock * blockColumns + kBlock];
-                    final double[] mBlock = m.blocks[kBlock * m.blockColumns + jBlock];
-                    int k = 0;
-                    for (int p = pStart; p < pEnd; ++p) {
-                        final int lStart = (p - pStart) * kWidth;
-                        final int lEnd   = lStart + kWidth;
-                        for (int nStart = 0; nStart < jWidth; ++nStart) {
-                            double sum = 0;
-                            int l = lStart;
-                            int n = nStart;
-                            while (l < lEnd - 3) {
-                                sum += tBlock[l] * mBlock[n] +
-                                       tBlock[l + 1] * mBlock[n + jWidth] +
-                                       tBlock[l + 2] * mBlock[n + jWidth2] +
-                                       tBlock[l + 3] * mBlock[n + jWidth3];
-                                l += 4;
-                                n += jWidth4;
-                            }
-                            while (l < lEnd) {
-                                sum += tBlock[l++] * mBlock[n];
-                                n += jWidth;
-                            }
-                            outBlock[k] += sum;
-                            ++k;
-                        }
+        // perform multiplication block-wise, in parallel
+        pool.invoke(new BlocksTask(0, out.blocks.length, blockIndex -> multiplyBlock(m, out, blockIndex)));
+
+        return out;
+    }
+
+    /** Compute one block of a matrices product.
+     * @param m matrix to postmultiply by
+     * @param out product matrix
+     * @param blockIndex index of the block to compute in the product matrix
+     */
+    private void multiplyBlock(final BlockRealMatrix m, final BlockRealMatrix out, final int blockIndex) {
+
+        final int iBlock = blockIndex / out.blockColumns;
+        final int jBlock = blockIndex - iBlock * out.blockColumns;
+
+        final int pStart = iBlock * BLOCK_SIZE;
+        final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+
+        final int jWidth = out.blockWidth(jBlock);
+        final int jWidth2 = jWidth  + jWidth;
+        final int jWidth3 = jWidth2 + jWidth;
+        final int jWidth4 = jWidth3 + jWidth;
+
+        // select current block
+        final double[] outBlock = out.blocks[blockIndex];
+        Arrays.fill(outBlock, 0.0);
+
+        // perform multiplication on current block
+        for (int kBlock = 0; kBlock < blockColumns; ++kBlock) {
+            final int kWidth = blockWidth(kBlock);
+            final double[] tBlock = blocks[iBlock * blockColumns + kBlock];
+            final double[] mBlock = m.blocks[kBlock * m.blockColumns + jBlock];
+            int k = 0;
+            for (int p = pStart; p < pEnd; ++p) {
+                final int lStart = (p - pStart) * kWidth;
+                final int lEnd   = lStart + kWidth;
+                int nStart = 0;
+                while (nStart < jWidth - 3) {
+                    // four output columns at a time share the loads from this block,
+                    // each column keeps the same summation order as the scalar loop below
+                    double sum0 = 0;
+                    double sum1 = 0;
+                    double sum2 = 0;
+                    double sum3 = 0;
+                    int l = lStart;
+                    int n = nStart;
+                    while (l < lEnd - 3) {
+                        final double t0 = tBlock[l];
+                        final double t1 = tBlock[l + 1];
+                        final double t2 = tBlock[l + 2];
+                        final double t3 = tBlock[l + 3];
+                        sum0 += t0 * mBlock[n]     + t1 * mBlock[n + jWidth] +
+                                t2 * mBlock[n + jWidth2]     + t3 * mBlock[n + jWidth3];
+                        sum1 += t0 * mBlock[n + 1] + t1 * mBlock[n + 1 + jWidth] +
+                                t2 * mBlock[n + 1 + jWidth2] + t3 * mBlock[n + 1 + jWidth3];
+                        sum2 += t0 * mBlock[n + 2] + t1 * mBlock[n + 2 + jWidth] +
+                                t2 * mBlock[n + 2 + jWidth2] + t3 * mBlock[n + 2 + jWidth3];
+                        sum3 += t0 * mBlock[n + 3] + t1 * mBlock[n + 3 + jWidth] +
+                                t2 * mBlock[n + 3 + jWidth2] + t3 * mBlock[n + 3 + jWidth3];
+                        l += 4;
+                        n += jWidth4;
+                    }
+                    while (l < lEnd) {
+                        final double t = tBlock[l++];
+                        sum0 += t * mBlock[n];
+                        sum1 += t * mBlock[n + 1];
+                        sum2 += t * mBlock[n + 2];
+                        sum3 += t * mBlock[n + 3];
+                        n += jWidth;
                     }
+                    outBlock[k++] += sum0;
+                    outBlock[k++] += sum1;
+                    outBlock[k++] += sum2;
+                    outBlock[k++] += sum3;
+                    nStart += 4;
+                }
+                while (nStart < jWidth) {
+                    double sum = 0;
+                    int l = lStart;
+                    int n = nStart;
+                    while (l < lEnd - 3) {
+                        sum += tBlock[l] * mBlock[n] +
+                               tBlock[l + 1] * mBlock[n + jWidth] +
+                               tBlock[l + 2] * mBlock[n + jWidth2] +
+                               tBlock[l + 3] * mBlock[n + jWidth3];
+                        l += 4;
+                        n += jWidth4;
+                    }
+                    while (l < lEnd) {
+                        sum += tBlock[l++] * mBlock[n];
+                        n += jWidth;
+                    }
+                    outBlock[k++] += sum;
+                    ++nStart;
                 }
-                // go to next block
-                ++blockIndex;
             }
         }
 
-        return out;
     }
 
     /**
@@ -607,53 +782,90 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
         final BlockRealMatrix out = new BlockRealMatrix(rows, m.rows);
 
         // perform multiplication block-wise, to ensure good cache behavior
-        int blockIndex = 0;
-        for (int iBlock = 0; iBlock < out.blockRows; ++iBlock) {
+        for (int blockIndex = 0; blockIndex < out.blocks.length; ++blockIndex) {
+            multiplyTransposedBlock(m, out, blockIndex);
+        }
 
-            final int pStart = iBlock * BLOCK_SIZE;
-            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+        return out;
+    }
 
-            for (int jBlock = 0; jBlock < out.blockColumns; ++jBlock) {
-                final int jWidth = out.blockWidth(jBlock);
+    /**
+     * Returns the result of postmultiplying {@code this} by {@code m^T}, using several threads.
+     * <p>
+     * The blocks of the result are independent of each other, they are therefore
+     * computed in parallel by the tasks of the specified pool. Each block is computed
+     * exactly as in the single-threaded {@link #multiplyTransposed(BlockRealMatrix)} method,
+     * so the result is bit-identical to the one of the single-threaded method.
+     * </p>
+     * @param m matrix to first transpose and second postmultiply by
+     * @param pool pool in which the computation should be run
+     * (the level of parallelism is set by the pool itself)
+     * @return {@code this * m^T}
+     * @throws MathIllegalArgumentException if
+     * {@code columnDimension(this) != columnDimension(m)}
+     * @since 4.0
+     */
+    public BlockRealMatrix multiplyTransposed(final BlockRealMatrix m, final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+        // safety check
+        MatrixUtils.checkSameColumnDimension(this, m);
 
-                // select current block
-                final double[] outBlock = out.blocks[blockIndex];
+        final BlockRealMatrix out = new BlockRealMatrix(rows, m.rows);
 
-                // perform multiplication on current block
-                for (int kBlock = 0; kBlock < blockColumns; ++kBlock) {
-                    final int kWidth = blockWidth(kBlock);
-                    final double[] tBlock = blocks[iBlock * blockColumns + kBlock];
-                    final double[] mBlock = m.blocks[jBlock * m.blockColumns + kBlock];
-                    int k = 0;
-                    for (int p = pStart; p < pEnd; ++p) {
-                        final int lStart = (p - pStart) * kWidth;
-                        final int lEnd   = lStart + kWidth;
-                        for (int nStart = 0; nStart < jWidth * kWidth; nStart += kWidth) {
-                            double sum = 0;
-                            int l = lStart;
-                            int n = nStart;
-                            while (l < lEnd - 3) {
-                                sum += tBlock[l]     * mBlock[n]     +
-                                       tBlock[l + 1] * mBlock[n + 1] +
-                                       tBlock[l + 2] * mBlock[n + 2] +
-                                       tBlock[l + 3] * mBlock[n + 3];
-                                l += 4;
-                                n += 4;
-                            }
-                            while (l < lEnd) {
-                                sum += tBlock[l++] * mBlock[n++];
-                            }
-                            outBlock[k] += sum;
-                            ++k;
-                        }
+        // perform multiplication block-wise, in parallel
+        pool.invoke(new BlocksTask(0, out.blocks.length, blockIndex -> multiplyTransposedBlock(m, out, blockIndex)));
+
+        return out;
+    }
+
+    /** Compute one block of a matrices product {@code this * m^T}.
+     * @param m matrix to first transpose and second postmultiply by
+     * @param out product matrix
+     * @param blockIndex index of the block to compute in the product matrix
+     */
+    private void multiplyTransposedBlock(final BlockRealMatrix m, final BlockRealMatrix out, final int blockIndex) {
+
+        final int iBlock = blockIndex / out.blockColumns;
+        final int jBlock = blockIndex - iBlock * out.blockColumns;
+
+        final int pStart = iBlock * BLOCK_SIZE;
+        final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+
+        final int jWidth = out.blockWidth(jBlock);
+
+        // select current block
+        final double[] outBlock = out.blocks[blockIndex];
+
+        // perform multiplication on current block
+        for (int kBlock = 0; kBlock < blockColumns; ++kBlock) {
+            final int kWidth = blockWidth(kBlock);
+            final double[] tBlock = blocks[iBlock * blockColumns + kBlock];
+            final double[] mBlock = m.blocks[jBlock * m.blockColumns + kBlock];
+            int k = 0;
+            for (int p = pStart; p < pEnd; ++p) {
+                final int lStart = (p - pStart) * kWidth;
+                final int lEnd   = lStart + kWidth;
+                for (int nStart = 0; nStart < jWidth * kWidth; nStart += kWidth) {
+                    double sum = 0;
+                    int l = lStart;
+                    int n = nStart;
+                    while (l < lEnd - 3) {
+                        sum += tBlock[l]     * mBlock[n]     +
+                               tBlock[l + 1] * mBlock[n + 1] +
+                               tBlock[l + 2] * mBlock[n + 2] +
+                               tBlock[l + 3] * mBlock[n + 3];
+                        l += 4;
+                        n += 4;
+                    }
+                    while (l < lEnd) {
+                        sum += tBlock[l++] * mBlock[n++];
                     }
+                    outBlock[k] += sum;
+                    ++k;
                 }
-                // go to next block
-                ++blockIndex;
             }
         }
 
-        return out;
     }
 
     /** {@inheritDoc} */
@@ -726,62 +938,140 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
         final BlockRealMatrix out = new BlockRealMatrix(columns, m.columns);
 
         // perform multiplication block-wise, to ensure good cache behavior
-        int blockIndex = 0;
-        for (int iBlock = 0; iBlock < out.blockRows; ++iBlock) {
+        for (int blockIndex = 0; blockIndex < out.blocks.length; ++blockIndex) {
+            transposeMultiplyBlock(m, out, blockIndex);
+        }
 
-            final int iHeight  = out.blockHeight(iBlock);
-            final int iHeight2 = iHeight  + iHeight;
-            final int iHeight3 = iHeight2 + iHeight;
-            final int iHeight4 = iHeight3 + iHeight;
-            final int pStart   = iBlock * BLOCK_SIZE;
-            final int pEnd     = FastMath.min(pStart + BLOCK_SIZE, columns);
+        return out;
+    }
 
-            for (int jBlock = 0; jBlock < out.blockColumns; ++jBlock) {
-                final int jWidth  = out.blockWidth(jBlock);
-                final int jWidth2 = jWidth  + jWidth;
-                final int jWidth3 = jWidth2 + jWidth;
-                final int jWidth4 = jWidth3 + jWidth;
+    /**
+     * Returns the result of postmultiplying {@code this^T} by {@code m}, using several threads.
+     * <p>
+     * The blocks of the result are independent of each other, they are therefore
+     * computed in parallel by the tasks of the specified pool. Each block is computed
+     * exactly as in the single-threaded {@link #transposeMultiply(BlockRealMatrix)} method,
+     * so the result is bit-identical to the one of the single-threaded method.
+     * </p>
+     * @param m matrix to postmultiply by
+     * @param pool pool in which the computation should be run
+     * (the level of parallelism is set by the pool itself)
+     * @return {@code this^T * m}
+     * @throws MathIllegalArgumentException if
+     * {@code rowDimension(this) != rowDimension(m)}
+     * @since 4.0
+     */
+    public BlockRealMatrix transposeMultiply(final BlockRealMatrix m, final ForkJoinPool pool)
+        throws MathIllegalArgumentException {
+        // safety check
+        MatrixUtils.checkSameRowDimension(this, m);
 
-                // select current block
-                final double[] outBlock = out.blocks[blockIndex];
+        final BlockRealMatrix out = new BlockRealMatrix(columns, m.columns);
 
-                // perform multiplication on current block
-                for (int kBlock = 0; kBlock < blockRows; ++kBlock) {
-                    final int      kHeight = blockHeight(kBlock);
-                    final double[] tBlock  = blocks[kBlock * blockColumns + iBlock];
-                    final double[] mBlock  = m.blocks[kBlock * m.blockColumns + jBlock];
-                    int k = 0;
-                    for (int p = pStart; p < pEnd; ++p) {
-                        final int lStart = p - pStart;
-                        final int lEnd   = lStart + iHeight * kHeight;
-                        for (int nStart = 0; nStart < jWidth; ++nStart) {
-                            double sum = 0;
-                            int l = lStart;
-                            int n = nStart;
-                            while (l < lEnd - iHeight3) {
-                                sum += tBlock[l]            * mBlock[n] +
-                                       tBlock[l + iHeight]  * mBlock[n + jWidth] +
-                                       tBlock[l + iHeight2] * mBlock[n + jWidth2] +
-                                       tBlock[l + iHeight3] * mBlock[n + jWidth3];
-                                l += iHeight4;
-                                n += jWidth4;
-                            }
-                            while (l < lEnd) {
-                                sum += tBlock[l] * mBlock[n];
-                                l += iHeight;
-                                n += jWidth;
-                            }
-                            outBlock[k] += sum;
-                            ++k;
-                        }
+        // perform multiplication block-wise, in parallel
+        pool.invoke(new BlocksTask(0, out.blocks.length, blockIndex -> transposeMultiplyBlock(m, out, blockIndex)));
+
+        return out;
+    }
+
+    /** Compute one block of a matrices product {@code this^T * m}.
+     * @param m matrix to postmultiply by
+     * @param out product matrix
+     * @param blockIndex index of the block to compute in the product matrix
+     */
+    private void transposeMultiplyBlock(final BlockRealMatrix m, final BlockRealMatrix out, final int blockIndex) {
+
+        final int iBlock = blockIndex / out.blockColumns;
+        final int jBlock = blockIndex - iBlock * out.blockColumns;
+
+        final int iHeight  = out.blockHeight(iBlock);
+        final int iHeight2 = iHeight  + iHeight;
+        final int iHeight3 = iHeight2 + iHeight;
+        final int iHeight4 = iHeight3 + iHeight;
+        final int pStart   = iBlock * BLOCK_SIZE;
+        final int pEnd     = FastMath.min(pStart + BLOCK_SIZE, columns);
+
+        final int jWidth  = out.blockWidth(jBlock);
+        final int jWidth2 = jWidth  + jWidth;
+        final int jWidth3 = jWidth2 + jWidth;
+        final int jWidth4 = jWidth3 + jWidth;
+
+        // select current block
+        final double[] outBlock = out.blocks[blockIndex];
+
+        // perform multiplication on current block
+        for (int kBlock = 0; kBlock < blockRows; ++kBlock) {
+            final int      kHeight = blockHeight(kBlock);
+            final double[] tBlock  = blocks[kBlock * blockColumns + iBlock];
+            final double[] mBlock  = m.blocks[kBlock * m.blockColumns + jBlock];
+            int k = 0;
+            for (int p = pStart; p < pEnd; ++p) {
+                final int lStart = p - pStart;
+                final int lEnd   = lStart + iHeight * kHeight;
+                int nStart = 0;
+                while (nStart < jWidth - 3) {
+                    // four output columns at a time share the loads from this block,
+                    // each column keeps the same summation order as the scalar loop below
+                    double sum0 = 0;
+                    double sum1 = 0;
+                    double sum2 = 0;
+                    double sum3 = 0;
+                    int l = lStart;
+                    int n = nStart;
+                    while (l < lEnd - iHeight3) {
+                        final double t0 = tBlock[l];
+                        final double t1 = tBlock[l + iHeight];
+                        final double t2 = tBlock[l + iHeight2];
+                        final double t3 = tBlock[l + iHeight3];
+                        sum0 += t0 * mBlock[n]     + t1 * mBlock[n + jWidth] +
+                                t2 * mBlock[n + jWidth2]     + t3 * mBlock[n + jWidth3];
+                        sum1 += t0 * mBlock[n + 1] + t1 * mBlock[n + 1 + jWidth] +
+                                t2 * mBlock[n + 1 + jWidth2] + t3 * mBlock[n + 1 + jWidth3];
+                        sum2 += t0 * mBlock[n + 2] + t1 * mBlock[n + 2 + jWidth] +
+                                t2 * mBlock[n + 2 + jWidth2] + t3 * mBlock[n + 2 + jWidth3];
+                        sum3 += t0 * mBlock[n + 3] + t1 * mBlock[n + 3 + jWidth] +
+                                t2 * mBlock[n + 3 + jWidth2] + t3 * mBlock[n + 3 + jWidth3];
+                        l += iHeight4;
+                        n += jWidth4;
+                    }
+                    while (l < lEnd) {
+                        final double t = tBlock[l];
+                        sum0 += t * mBlock[n];
+                        sum1 += t * mBlock[n + 1];
+                        sum2 += t * mBlock[n + 2];
+                        sum3 += t * mBlock[n + 3];
+                        l += iHeight;
+                        n += jWidth;
                     }
+                    outBlock[k++] += sum0;
+                    outBlock[k++] += sum1;
+                    outBlock[k++] += sum2;
+                    outBlock[k++] += sum3;
+                    nStart += 4;
+                }
+                while (nStart < jWidth) {
+                    double sum = 0;
+                    int l = lStart;
+                    int n = nStart;
+                    while (l < lEnd - iHeight3) {
+                        sum += tBlock[l]            * mBlock[n] +
+                               tBlock[l + iHeight]  * mBlock[n + jWidth] +
+                               tBlock[l + iHeight2] * mBlock[n + jWidth2] +
+                               tBlock[l + iHeight3] * mBlock[n + jWidth3];
+                        l += iHeight4;
+                        n += jWidth4;
+                    }
+                    while (l < lEnd) {
+                        sum += tBlock[l] * mBlock[n];
+                        l += iHeight;
+                        n += jWidth;
+                    }
+                    outBlock[k++] += sum;
+                    ++nStart;
                 }
-                // go to next block
-                ++blockIndex;
             }
         }
 
-        return out;
     }
 
     /** {@inheritDoc} */
@@ -1539,12 +1829,24 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
     /** {@inheritDoc} */
     @Override
     public double[] operate(final double[] v)
+        throws MathIllegalArgumentException {
+        return operate(v, new double[rows]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v, final double[] out)
         throws MathIllegalArgumentException {
         if (v.length != columns) {
             throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
                                                    v.length, columns);
         }
-        final double[] out = new double[rows];
+        MathUtils.checkDimension(out.length, rows);
+        if (out == v) {
+            System.arraycopy(operate(v), 0, out, 0, rows);
+            return out;
+        }
+        Arrays.fill(out, 0.0);
 
         // perform multiplication block-wise, to ensure good cache behavior
         for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
@@ -1580,12 +1882,24 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
     /** {@inheritDoc} */
     @Override
     public double[] preMultiply(final double[] v)
+        throws MathIllegalArgumentException {
+        return preMultiply(v, new double[columns]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v, final double[] out)
         throws MathIllegalArgumentException {
         if (v.length != rows) {
             throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
                                                    v.length, rows);
         }
-        final double[] out = new double[columns];
+        MathUtils.checkDimension(out.length, columns);
+        if (out == v) {
+            System.arraycopy(preMultiply(v), 0, out, 0, columns);
+            return out;
+        }
+        Arrays.fill(out, 0.0);
 
         // perform multiplication block-wise, to ensure good cache behavior
         for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
@@ -1843,6 +2157,19 @@ public class BlockRealMatrix extends AbstractRealMatrix implements Serializable
         return visitor.end();
     }
 
+    /**
+     * Get a reference to the underlying blocks.
+     * <p>
+     * This method is intended for algorithms of this package that work
+     * directly on the blocks layout, it does <em>not</em> copy data.
+     * </p>
+     * @return underlying blocks (in row major order)
+     * @since 4.0
+     */
+    double[][] getBlocks() {
+        return blocks;
+    }
+
     /**
      * Get the height of a block.
      * @param blockRow row index (in block sense) of the block
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/** Fork/join task processing independent blocks.
+ * <p>
+ * The range of block indices is recursively split in halves until
+ * it contains only one block, so the pool can balance the load across
+ * its workers. Each block is processed exactly once, by exactly one
+ * thread, hence results do not depend on the number of threads.
+ * </p>
+ * @since 4.0
+ */
+class BlocksTask extends RecursiveAction {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20241016L;
+
+    /** Index of the first block to process (included). */
+    private final int start;
+
+    /** Index of the last block to process (excluded). */
+    private final int end;
+
+    /** Processor for one block. */
+    private final transient IntConsumer processor;
+
+    /** Simple constructor.
+     * @param start index of the first block to process (included)
+     * @param end index of the last block to process (excluded)
+     * @param processor processor for one block
+     */
+    BlocksTask(final int start, final int end, final IntConsumer processor) {
+        this.start     = start;
+        this.end       = end;
+        this.processor = processor;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void compute() {
+        if (end - start <= 1) {
+            for (int index = start; index < end; ++index) {
+                processor.accept(index);
+            }
+        } else {
+            final int middle = (start + end) >>> 1;
+            invokeAll(new BlocksTask(start, middle, processor),
+                      new BlocksTask(middle, end, processor));
+        }
+    }
+
+}
@@ -62,6 +62,8 @@ public class CholeskyDecomposition {
     public static final double DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD = 1.0e-10;
     /** Row-oriented storage for L<sup>T</sup> matrix data. */
     private final double[][] lTData;
+    /** Threshold below which diagonal elements are considered null. */
+    private final double absolutePositivityThreshold;
     /** Cached value of L. */
     private RealMatrix cachedL;
     /** Cached value of LT. */
@@ -92,6 +94,10 @@ public class CholeskyDecomposition {
 
     /**
      * Calculates the Cholesky decomposition of the given matrix.
+     * <p>
+     * If the matrix is a {@link SymmetricRealMatrix}, the symmetry check
+     * is skipped as symmetry is guaranteed by construction.
+     * </p>
      * @param matrix the matrix to decompose
      * @param relativeSymmetryThreshold threshold above which off-diagonal
      * elements are considered too different and matrix not symmetric
@@ -114,27 +120,34 @@ public class CholeskyDecomposition {
         }
 
         final int order = matrix.getRowDimension();
-        lTData   = matrix.getData();
+        this.absolutePositivityThreshold = absolutePositivityThreshold;
         cachedL  = null;
         cachedLT = null;
 
-        // check the matrix before transformation
-        for (int i = 0; i < order; ++i) {
-            final double[] lI = lTData[i];
+        if (matrix instanceof SymmetricRealMatrix) {
+            // symmetry is guaranteed by construction, we just need the upper part
+            lTData = ((SymmetricRealMatrix) matrix).getUpperTriangularData();
+        } else {
+            lTData = matrix.getData();
 
-            // check off-diagonal elements (and reset them to 0)
-            for (int j = i + 1; j < order; ++j) {
-                final double[] lJ = lTData[j];
-                final double lIJ = lI[j];
-                final double lJI = lJ[i];
-                final double maxDelta =
-                    relativeSymmetryThreshold * FastMath.max(FastMath.abs(lIJ), FastMath.abs(lJI));
-                if (FastMath.abs(lIJ - lJI) > maxDelta) {
-                    throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX,
-                                                           i, j, relativeSymmetryThreshold);
-                }
-                lJ[i] = 0;
-           }
+            // check the matrix before transformation
+            for (int i = 0; i < order; ++i) {
+                final double[] lI = lTData[i];
+
+                // check off-diagonal elements (and reset them to 0)
+                for (int j = i + 1; j < order; ++j) {
+                    final double[] lJ = lTData[j];
+                    final double lIJ = lI[j];
+                    final double lJI = lJ[i];
+                    final double maxDelta =
+                        relativeSymmetryThreshold * FastMath.max(FastMath.abs(lIJ), FastMath.abs(lJI));
+                    if (FastMath.abs(lIJ - lJI) > maxDelta) {
+                        throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX,
+                                                               i, j, relativeSymmetryThreshold);
+                    }
+                    lJ[i] = 0;
+               }
+            }
         }
 
         // transform the matrix
@@ -160,6 +173,113 @@ public class CholeskyDecomposition {
         }
     }
 
+    /**
+     * Build a decomposition from an already computed factor.
+     * @param lTData row-oriented storage for L<sup>T</sup> matrix data (not copied)
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     */
+    private CholeskyDecomposition(final double[][] lTData, final double absolutePositivityThreshold) {
+        this.lTData                      = lTData;
+        this.absolutePositivityThreshold = absolutePositivityThreshold;
+        this.cachedL                     = null;
+        this.cachedLT                    = null;
+    }
+
+    /**
+     * Compute the decomposition of the matrix after a rank-one update.
+     * <p>
+     * If this instance is the decomposition of A, the returned instance is
+     * the decomposition of A + x x<sup>T</sup>, which is computed in O(n<sup>2</sup>)
+     * operations using a sequence of Givens rotations instead of the O(n<sup>3</sup>)
+     * operations a new decomposition would need. This is useful for example when
+     * one observation is added to a normal equations system. The instance itself
+     * is not modified.
+     * </p>
+     * @param x update vector
+     * @return decomposition of A + x x<sup>T</sup>
+     * @throws MathIllegalArgumentException if the vector dimension does not match
+     * @see #downdate(RealVector)
+     * @since 4.0
+     */
+    public CholeskyDecomposition update(final RealVector x)
+        throws MathIllegalArgumentException {
+        return rankOne(x, 1.0);
+    }
+
+    /**
+     * Compute the decomposition of the matrix after a rank-one downdate.
+     * <p>
+     * If this instance is the decomposition of A, the returned instance is
+     * the decomposition of A - x x<sup>T</sup>, which is computed in O(n<sup>2</sup>)
+     * operations using a sequence of hyperbolic rotations instead of the O(n<sup>3</sup>)
+     * operations a new decomposition would need. This is useful for example when
+     * one observation is removed from a normal equations system, as in sliding
+     * window estimators. The instance itself is not modified.
+     * </p>
+     * <p>
+     * The positivity threshold used is the one that was used to compute this instance.
+     * </p>
+     * @param x downdate vector
+     * @return decomposition of A - x x<sup>T</sup>
+     * @throws MathIllegalArgumentException if the vector dimension does not match
+     * @throws MathIllegalArgumentException if A - x x<sup>T</sup> is not
+     * strictly positive definite
+     * @see #update(RealVector)
+     * @since 4.0
+     */
+    public CholeskyDecomposition downdate(final RealVector x)
+        throws MathIllegalArgumentException {
+        return rankOne(x, -1.0);
+    }
+
+    /**
+     * Compute the decomposition of the matrix after a rank-one modification.
+     * @param x modification vector
+     * @param sign +1 for update, -1 for downdate
+     * @return decomposition of A + sign x x<sup>T</sup>
+     * @throws MathIllegalArgumentException if the vector dimension does not match
+     * or the modified matrix is not strictly positive definite
+     */
+    private CholeskyDecomposition rankOne(final RealVector x, final double sign)
+        throws MathIllegalArgumentException {
+
+        final int order = lTData.length;
+        if (x.getDimension() != order) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   x.getDimension(), order);
+        }
+
+        final double[][] updated = new double[order][];
+        for (int k = 0; k < order; ++k) {
+            updated[k] = lTData[k].clone();
+        }
+        final double[] w = x.toArray();
+
+        for (int k = 0; k < order; ++k) {
+            // row k of L^T is column k of L
+            final double[] ltK = updated[k];
+            final double   lKK = ltK[k];
+            final double   wK  = w[k];
+            final double   r2  = lKK * lKK + sign * wK * wK;
+            if (r2 <= absolutePositivityThreshold) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+            }
+            final double r = FastMath.sqrt(r2);
+            final double c = r / lKK;
+            final double s = wK / lKK;
+            ltK[k] = r;
+            final double inverseC = 1.0 / c;
+            for (int i = k + 1; i < order; ++i) {
+                ltK[i] = (ltK[i] + sign * s * w[i]) * inverseC;
+                w[i]   = c * w[i] - s * ltK[i];
+            }
+        }
+
+        return new CholeskyDecomposition(updated, absolutePositivityThreshold);
+
+    }
+
     /**
      * Returns the matrix L of the decomposition.
      * <p>L is an lower-triangular matrix</p>
@@ -0,0 +1,394 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the LUP-decomposition of a square complex matrix using split primitive storage.
+ * <p>The LUP-decomposition of a matrix A consists of three matrices L, U and
+ * P that satisfy: P&times;A = L&times;U. L is lower triangular (with unit
+ * diagonal terms), U is upper triangular and P is a permutation matrix. All
+ * matrices are m&times;m.</p>
+ * <p>
+ * This class is a specialized counterpart of {@link FieldLUDecomposition
+ * FieldLUDecomposition&lt;Complex&gt;}: the pivot is the entry with largest modulus,
+ * and the decomposition works on separate real and imaginary {@code double} arrays
+ * without allocating any {@link Complex} instance during factorization or solving.
+ * </p>
+ * @see ComplexMatrix
+ * @since 4.0
+ */
+public class ComplexLUDecomposition {
+
+    /** Default bound to determine effective singularity in LU decomposition. */
+    private static final double DEFAULT_TOO_SMALL = 1e-11;
+
+    /** Real parts of LU decomposition entries. */
+    private final double[][] luRe;
+
+    /** Imaginary parts of LU decomposition entries. */
+    private final double[][] luIm;
+
+    /** Pivot permutation associated with LU decomposition. */
+    private final int[] pivot;
+
+    /** Parity of the permutation associated with the LU decomposition. */
+    private boolean even;
+
+    /** Singularity indicator. */
+    private boolean singular;
+
+    /** Cached value of L. */
+    private ComplexMatrix cachedL;
+
+    /** Cached value of U. */
+    private ComplexMatrix cachedU;
+
+    /** Cached value of P. */
+    private ComplexMatrix cachedP;
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * This constructor uses 1e-11 as default value for the singularity
+     * threshold.
+     *
+     * @param matrix Matrix to decompose.
+     * @throws MathIllegalArgumentException if matrix is not square.
+     */
+    public ComplexLUDecomposition(final FieldMatrix<Complex> matrix) {
+        this(matrix, DEFAULT_TOO_SMALL);
+    }
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * @param matrix The matrix to decompose.
+     * @param singularityThreshold threshold on pivots modulus
+     * under which a matrix is considered singular
+     * @throws MathIllegalArgumentException if matrix is not square
+     */
+    public ComplexLUDecomposition(final FieldMatrix<Complex> matrix, final double singularityThreshold) {
+        if (!matrix.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension());
+        }
+
+        final int           m = matrix.getColumnDimension();
+        final ComplexMatrix c = ComplexMatrix.toComplexMatrix(matrix);
+        luRe  = new double[m][m];
+        luIm  = new double[m][m];
+        pivot = new int[m];
+        for (int i = 0; i < m; ++i) {
+            System.arraycopy(c.getRealRef(),      i * m, luRe[i], 0, m);
+            System.arraycopy(c.getImaginaryRef(), i * m, luIm[i], 0, m);
+            pivot[i] = i;
+        }
+        even     = true;
+        singular = false;
+
+        // right-looking elimination, inner loops run over contiguous row entries
+        for (int col = 0; col < m; ++col) {
+
+            // find the pivot with largest modulus
+            int    max     = col;
+            double largest = -1;
+            for (int row = col; row < m; ++row) {
+                final double modulus2 = luRe[row][col] * luRe[row][col] + luIm[row][col] * luIm[row][col];
+                if (modulus2 > largest) {
+                    largest = modulus2;
+                    max     = row;
+                }
+            }
+
+            // singularity check
+            if (FastMath.hypot(luRe[max][col], luIm[max][col]) < singularityThreshold) {
+                singular = true;
+                return;
+            }
+
+            // pivot if necessary
+            if (max != col) {
+                final double[] tmpRe = luRe[max];
+                luRe[max] = luRe[col];
+                luRe[col] = tmpRe;
+                final double[] tmpIm = luIm[max];
+                luIm[max] = luIm[col];
+                luIm[col] = tmpIm;
+                final int tmp = pivot[max];
+                pivot[max] = pivot[col];
+                pivot[col] = tmp;
+                even = !even;
+            }
+
+            // divide the lower elements by the pivot and update the trailing sub-matrix
+            final double[] pRe = luRe[col];
+            final double[] pIm = luIm[col];
+            final double[] inv = reciprocal(pRe[col], pIm[col]);
+            for (int row = col + 1; row < m; ++row) {
+                final double[] rRe = luRe[row];
+                final double[] rIm = luIm[row];
+                final double   lRe = rRe[col] * inv[0] - rIm[col] * inv[1];
+                final double   lIm = rRe[col] * inv[1] + rIm[col] * inv[0];
+                rRe[col] = lRe;
+                rIm[col] = lIm;
+                for (int j = col + 1; j < m; ++j) {
+                    rRe[j] -= lRe * pRe[j] - lIm * pIm[j];
+                    rIm[j] -= lRe * pIm[j] + lIm * pRe[j];
+                }
+            }
+
+        }
+
+    }
+
+    /** Compute the reciprocal of a complex number, avoiding intermediate overflow.
+     * @param re real part
+     * @param im imaginary part
+     * @return real and imaginary parts of the reciprocal
+     */
+    private static double[] reciprocal(final double re, final double im) {
+        if (FastMath.abs(re) < FastMath.abs(im)) {
+            final double q     = re / im;
+            final double scale = 1.0 / (re * q + im);
+            return new double[] { scale * q, -scale };
+        } else {
+            final double q     = im / re;
+            final double scale = 1.0 / (im * q + re);
+            return new double[] { scale, -scale * q };
+        }
+    }
+
+    /**
+     * Returns the matrix L of the decomposition.
+     * <p>L is a lower-triangular matrix</p>
+     * @return the L matrix (or null if decomposed matrix is singular)
+     */
+    public ComplexMatrix getL() {
+        if ((cachedL == null) && !singular) {
+            final int m = pivot.length;
+            cachedL = new ComplexMatrix(m, m);
+            for (int i = 0; i < m; ++i) {
+                System.arraycopy(luRe[i], 0, cachedL.getRealRef(),      i * m, i);
+                System.arraycopy(luIm[i], 0, cachedL.getImaginaryRef(), i * m, i);
+                cachedL.getRealRef()[i * (m + 1)] = 1.0;
+            }
+        }
+        return cachedL;
+    }
+
+    /**
+     * Returns the matrix U of the decomposition.
+     * <p>U is an upper-triangular matrix</p>
+     * @return the U matrix (or null if decomposed matrix is singular)
+     */
+    public ComplexMatrix getU() {
+        if ((cachedU == null) && !singular) {
+            final int m = pivot.length;
+            cachedU = new ComplexMatrix(m, m);
+            for (int i = 0; i < m; ++i) {
+                System.arraycopy(luRe[i], i, cachedU.getRealRef(),      i * (m + 1), m - i);
+                System.arraycopy(luIm[i], i, cachedU.getImaginaryRef(), i * (m + 1), m - i);
+            }
+        }
+        return cachedU;
+    }
+
+    /**
+     * Returns the P rows permutation matrix.
+     * <p>P is a sparse matrix with exactly one element set to 1.0 in
+     * each row and each column, all other elements being set to 0.0.</p>
+     * <p>The positions of the 1 elements are given by the {@link #getPivot()
+     * pivot permutation vector}.</p>
+     * @return the P rows permutation matrix (or null if decomposed matrix is singular)
+     * @see #getPivot()
+     */
+    public ComplexMatrix getP() {
+        if ((cachedP == null) && !singular) {
+            final int m = pivot.length;
+            cachedP = new ComplexMatrix(m, m);
+            for (int i = 0; i < m; ++i) {
+                cachedP.getRealRef()[i * m + pivot[i]] = 1.0;
+            }
+        }
+        return cachedP;
+    }
+
+    /**
+     * Returns the pivot permutation vector.
+     * @return the pivot permutation vector
+     * @see #getP()
+     */
+    public int[] getPivot() {
+        return pivot.clone();
+    }
+
+    /**
+     * Return the determinant of the matrix.
+     * @return determinant of the matrix
+     */
+    public Complex getDeterminant() {
+        if (singular) {
+            return Complex.ZERO;
+        } else {
+            double detRe = even ? 1 : -1;
+            double detIm = 0;
+            for (int i = 0; i < pivot.length; i++) {
+                final double r = detRe;
+                detRe = r * luRe[i][i] - detIm * luIm[i][i];
+                detIm = r * luIm[i][i] + detIm * luRe[i][i];
+            }
+            return new Complex(detRe, detIm);
+        }
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in exact linear
+     * sense.
+     * <p>
+     * The solver returns {@link ComplexVector} and {@link ComplexMatrix} instances.
+     * </p>
+     * @return a solver
+     */
+    public FieldDecompositionSolver<Complex> getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements FieldDecompositionSolver<Complex> {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            return !singular;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ComplexVector solve(final FieldVector<Complex> b) {
+            final int m = pivot.length;
+            if (b.getDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), m);
+            }
+
+            // a single column matrix has the same layout as a vector
+            final ComplexVector c      = ComplexVector.toComplexVector(b);
+            final ComplexMatrix column = new ComplexMatrix(m, 1);
+            System.arraycopy(c.getRealRef(),      0, column.getRealRef(),      0, m);
+            System.arraycopy(c.getImaginaryRef(), 0, column.getImaginaryRef(), 0, m);
+            final ComplexMatrix x = solve(column);
+            return new ComplexVector(x.getRealRef(), x.getImaginaryRef(), false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ComplexMatrix solve(final FieldMatrix<Complex> b) {
+
+            final int m = pivot.length;
+            if (b.getRowDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), m);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+
+            final ComplexMatrix c     = ComplexMatrix.toComplexMatrix(b);
+            final int           nColB = b.getColumnDimension();
+            final ComplexMatrix x     = new ComplexMatrix(m, nColB);
+            final double[]      xRe   = x.getRealRef();
+            final double[]      xIm   = x.getImaginaryRef();
+
+            // apply permutations to b
+            for (int row = 0; row < m; ++row) {
+                System.arraycopy(c.getRealRef(),      pivot[row] * nColB, xRe, row * nColB, nColB);
+                System.arraycopy(c.getImaginaryRef(), pivot[row] * nColB, xIm, row * nColB, nColB);
+            }
+
+            // solve LY = b
+            for (int col = 0; col < m; ++col) {
+                final int kStart = col * nColB;
+                for (int i = col + 1; i < m; ++i) {
+                    final double lRe    = luRe[i][col];
+                    final double lIm    = luIm[i][col];
+                    final int    iStart = i * nColB;
+                    for (int j = 0; j < nColB; ++j) {
+                        final double yRe = xRe[kStart + j];
+                        final double yIm = xIm[kStart + j];
+                        xRe[iStart + j] -= yRe * lRe - yIm * lIm;
+                        xIm[iStart + j] -= yRe * lIm + yIm * lRe;
+                    }
+                }
+            }
+
+            // solve UX = Y
+            for (int col = m - 1; col >= 0; --col) {
+                final int      kStart = col * nColB;
+                final double[] inv    = reciprocal(luRe[col][col], luIm[col][col]);
+                for (int j = 0; j < nColB; ++j) {
+                    final double yRe = xRe[kStart + j];
+                    final double yIm = xIm[kStart + j];
+                    xRe[kStart + j] = yRe * inv[0] - yIm * inv[1];
+                    xIm[kStart + j] = yRe * inv[1] + yIm * inv[0];
+                }
+                for (int i = 0; i < col; ++i) {
+                    final double uRe    = luRe[i][col];
+                    final double uIm    = luIm[i][col];
+                    final int    iStart = i * nColB;
+                    for (int j = 0; j < nColB; ++j) {
+                        final double yRe = xRe[kStart + j];
+                        final double yIm = xIm[kStart + j];
+                        xRe[iStart + j] -= yRe * uRe - yIm * uIm;
+                        xIm[iStart + j] -= yRe * uIm + yIm * uRe;
+                    }
+                }
+            }
+
+            return x;
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ComplexMatrix getInverse() {
+            final int           m        = pivot.length;
+            final ComplexMatrix identity = new ComplexMatrix(m, m);
+            for (int i = 0; i < m; ++i) {
+                identity.getRealRef()[i * (m + 1)] = 1.0;
+            }
+            return solve(identity);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return pivot.length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return pivot.length;
+        }
+
+    }
+
+}
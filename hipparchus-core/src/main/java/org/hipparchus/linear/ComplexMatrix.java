@@ -0,0 +1,454 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.complex.ComplexField;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * Implementation of {@link FieldMatrix} for {@link Complex} elements using split primitive storage.
+ * <p>
+ * Generic field matrices such as {@link Array2DRowFieldMatrix Array2DRowFieldMatrix&lt;Complex&gt;}
+ * hold one heap object per entry and allocate a new {@link Complex} for each addition and
+ * multiplication. This class stores real and imaginary parts in two separate row-major
+ * {@code double} arrays, and performs additions, scalar operations, products (complex GEMM),
+ * transposition and matrix-vector products directly on primitive doubles. Operands that are
+ * not already {@code ComplexMatrix} or {@link ComplexVector} instances are converted once,
+ * then processed the same way. Other operations fall back to the generic implementations
+ * from {@link AbstractFieldMatrix}.
+ * </p>
+ * <p>
+ * Primitive arithmetic does not reproduce the special handling of infinities and NaNs
+ * performed by {@link Complex#multiply(Complex)}; results follow IEEE-754 rules applied
+ * to real and imaginary parts.
+ * </p>
+ * @see ComplexVector
+ * @see ComplexLUDecomposition
+ * @see ComplexQRDecomposition
+ * @since 4.0
+ */
+public class ComplexMatrix extends AbstractFieldMatrix<Complex> implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Number of rows. */
+    private final int rows;
+
+    /** Number of columns. */
+    private final int columns;
+
+    /** Real parts of the entries, in row-major order. */
+    private final double[] re;
+
+    /** Imaginary parts of the entries, in row-major order. */
+    private final double[] im;
+
+    /** Create a new matrix with the supplied row and column dimensions.
+     * <p>All entries are initialized to zero.</p>
+     * @param rowDimension number of rows in the new matrix
+     * @param columnDimension number of columns in the new matrix
+     * @throws MathIllegalArgumentException if row or column dimension is not positive
+     */
+    public ComplexMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        super(ComplexField.getInstance(), rowDimension, columnDimension);
+        this.rows    = rowDimension;
+        this.columns = columnDimension;
+        this.re      = new double[rowDimension * columnDimension];
+        this.im      = new double[rowDimension * columnDimension];
+    }
+
+    /** Create a new matrix from real and imaginary parts.
+     * <p>The input arrays are copied, not referenced.</p>
+     * @param real real parts of the entries
+     * @param imaginary imaginary parts of the entries
+     * @throws MathIllegalArgumentException if arrays are empty, not rectangular
+     * or have inconsistent dimensions
+     */
+    public ComplexMatrix(final double[][] real, final double[][] imaginary)
+        throws MathIllegalArgumentException {
+        this(real.length, real.length == 0 ? 0 : real[0].length);
+        if (imaginary.length != rows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   imaginary.length, rows);
+        }
+        for (int i = 0; i < rows; ++i) {
+            checkRowLength(real[i].length);
+            checkRowLength(imaginary[i].length);
+            System.arraycopy(real[i],      0, re, i * columns, columns);
+            System.arraycopy(imaginary[i], 0, im, i * columns, columns);
+        }
+    }
+
+    /** Create a new matrix from a complex array.
+     * @param d data for the new matrix
+     * @throws MathIllegalArgumentException if {@code d} is empty or not rectangular
+     */
+    public ComplexMatrix(final Complex[][] d) throws MathIllegalArgumentException {
+        this(d.length, d.length == 0 ? 0 : d[0].length);
+        for (int i = 0; i < rows; ++i) {
+            checkRowLength(d[i].length);
+            for (int j = 0; j < columns; ++j) {
+                re[i * columns + j] = d[i][j].getRealPart();
+                im[i * columns + j] = d[i][j].getImaginaryPart();
+            }
+        }
+    }
+
+    /** Create a new matrix from another complex field matrix.
+     * @param m matrix to convert
+     */
+    public ComplexMatrix(final FieldMatrix<Complex> m) {
+        this(m.getRowDimension(), m.getColumnDimension());
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                final Complex c = m.getEntry(i, j);
+                re[i * columns + j] = c.getRealPart();
+                im[i * columns + j] = c.getImaginaryPart();
+            }
+        }
+    }
+
+    /** Check the length of a row of an input array.
+     * @param length length of the row
+     * @throws MathIllegalArgumentException if length does not match column dimension
+     */
+    private void checkRowLength(final int length) throws MathIllegalArgumentException {
+        if (length != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   length, columns);
+        }
+    }
+
+    /** Convert a matrix to the split representation if needed.
+     * @param m matrix to convert
+     * @return m itself if it already is a {@code ComplexMatrix}, a converted copy otherwise
+     */
+    static ComplexMatrix toComplexMatrix(final FieldMatrix<Complex> m) {
+        return (m instanceof ComplexMatrix) ? (ComplexMatrix) m : new ComplexMatrix(m);
+    }
+
+    /** Get a reference to the underlying real parts array.
+     * <p>Entry (i, j) is stored at index {@code i * getColumnDimension() + j}.</p>
+     * @return underlying real parts array, in row-major order
+     */
+    public double[] getRealRef() {
+        return re;
+    }
+
+    /** Get a reference to the underlying imaginary parts array.
+     * <p>Entry (i, j) is stored at index {@code i * getColumnDimension() + j}.</p>
+     * @return underlying imaginary parts array, in row-major order
+     */
+    public double[] getImaginaryRef() {
+        return im;
+    }
+
+    /** Get the real part of the matrix.
+     * @return a real matrix containing the real parts of the entries
+     */
+    public RealMatrix getRealPart() {
+        return toRealMatrix(re);
+    }
+
+    /** Get the imaginary part of the matrix.
+     * @return a real matrix containing the imaginary parts of the entries
+     */
+    public RealMatrix getImaginaryPart() {
+        return toRealMatrix(im);
+    }
+
+    /** Convert a row-major array to a real matrix.
+     * @param data row-major array
+     * @return real matrix
+     */
+    private RealMatrix toRealMatrix(final double[] data) {
+        final double[][] d = new double[rows][columns];
+        for (int i = 0; i < rows; ++i) {
+            System.arraycopy(data, i * columns, d[i], 0, columns);
+        }
+        return new Array2DRowRealMatrix(d, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return new ComplexMatrix(rowDimension, columnDimension);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexMatrix copy() {
+        final ComplexMatrix copy = new ComplexMatrix(rows, columns);
+        System.arraycopy(re, 0, copy.re, 0, re.length);
+        System.arraycopy(im, 0, copy.im, 0, im.length);
+        return copy;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Complex getEntry(final int row, final int column) throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        final int k = row * columns + column;
+        return new Complex(re[k], im[k]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int row, final int column, final Complex value)
+        throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        final int k = row * columns + column;
+        re[k] = value.getRealPart();
+        im[k] = value.getImaginaryPart();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addToEntry(final int row, final int column, final Complex increment)
+        throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        final int k = row * columns + column;
+        re[k] += increment.getRealPart();
+        im[k] += increment.getImaginaryPart();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void multiplyEntry(final int row, final int column, final Complex factor)
+        throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        final int    k  = row * columns + column;
+        final double fr = factor.getRealPart();
+        final double fi = factor.getImaginaryPart();
+        final double r  = re[k];
+        re[k] = r * fr - im[k] * fi;
+        im[k] = r * fi + im[k] * fr;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexMatrix add(final FieldMatrix<Complex> m) throws MathIllegalArgumentException {
+        checkAdditionCompatible(m);
+        final ComplexMatrix c   = toComplexMatrix(m);
+        final ComplexMatrix out = new ComplexMatrix(rows, columns);
+        for (int k = 0; k < re.length; ++k) {
+            out.re[k] = re[k] + c.re[k];
+            out.im[k] = im[k] + c.im[k];
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexMatrix subtract(final FieldMatrix<Complex> m) throws MathIllegalArgumentException {
+        checkSubtractionCompatible(m);
+        final ComplexMatrix c   = toComplexMatrix(m);
+        final ComplexMatrix out = new ComplexMatrix(rows, columns);
+        for (int k = 0; k < re.length; ++k) {
+            out.re[k] = re[k] - c.re[k];
+            out.im[k] = im[k] - c.im[k];
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexMatrix scalarAdd(final Complex d) {
+        final double        dRe = d.getRealPart();
+        final double        dIm = d.getImaginaryPart();
+        final ComplexMatrix out = new ComplexMatrix(rows, columns);
+        for (int k = 0; k < re.length; ++k) {
+            out.re[k] = re[k] + dRe;
+            out.im[k] = im[k] + dIm;
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexMatrix scalarMultiply(final Complex d) {
+        final double        dRe = d.getRealPart();
+        final double        dIm = d.getImaginaryPart();
+        final ComplexMatrix out = new ComplexMatrix(rows, columns);
+        for (int k = 0; k < re.length; ++k) {
+            out.re[k] = re[k] * dRe - im[k] * dIm;
+            out.im[k] = re[k] * dIm + im[k] * dRe;
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexMatrix multiply(final FieldMatrix<Complex> m) throws MathIllegalArgumentException {
+        checkMultiplicationCompatible(m);
+        final ComplexMatrix b     = toComplexMatrix(m);
+        final int           nCols = b.columns;
+        final ComplexMatrix out   = new ComplexMatrix(rows, nCols);
+        for (int i = 0; i < rows; ++i) {
+            final int outStart = i * nCols;
+            for (int k = 0; k < columns; ++k) {
+                // row-oriented accumulation keeps the innermost loop on contiguous memory
+                final double aRe    = re[i * columns + k];
+                final double aIm    = im[i * columns + k];
+                final int    bStart = k * nCols;
+                for (int j = 0; j < nCols; ++j) {
+                    final double bRe = b.re[bStart + j];
+                    final double bIm = b.im[bStart + j];
+                    out.re[outStart + j] += aRe * bRe - aIm * bIm;
+                    out.im[outStart + j] += aRe * bIm + aIm * bRe;
+                }
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexMatrix transpose() {
+        final ComplexMatrix out = new ComplexMatrix(columns, rows);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                out.re[j * rows + i] = re[i * columns + j];
+                out.im[j * rows + i] = im[i * columns + j];
+            }
+        }
+        return out;
+    }
+
+    /** Compute the conjugate transpose (Hermitian adjoint) of the instance.
+     * @return conjugate transpose of the instance
+     */
+    public ComplexMatrix conjugateTranspose() {
+        final ComplexMatrix out = new ComplexMatrix(columns, rows);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                out.re[j * rows + i] =  re[i * columns + j];
+                out.im[j * rows + i] = -im[i * columns + j];
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Complex getTrace() throws MathIllegalArgumentException {
+        if (rows != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   rows, columns);
+        }
+        double traceRe = 0;
+        double traceIm = 0;
+        for (int i = 0; i < rows; ++i) {
+            traceRe += re[i * (columns + 1)];
+            traceIm += im[i * (columns + 1)];
+        }
+        return new Complex(traceRe, traceIm);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Complex[] operate(final Complex[] v) throws MathIllegalArgumentException {
+        return operate(new ComplexVector(v)).toArray();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector operate(final FieldVector<Complex> v) throws MathIllegalArgumentException {
+        if (v.getDimension() != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.getDimension(), columns);
+        }
+        final ComplexVector c   = ComplexVector.toComplexVector(v);
+        final double[]      xRe = c.getRealRef();
+        final double[]      xIm = c.getImaginaryRef();
+        final ComplexVector out = new ComplexVector(rows);
+        final double[]      oRe = out.getRealRef();
+        final double[]      oIm = out.getImaginaryRef();
+        for (int i = 0; i < rows; ++i) {
+            final int start = i * columns;
+            double    sRe   = 0;
+            double    sIm   = 0;
+            for (int j = 0; j < columns; ++j) {
+                final double aRe = re[start + j];
+                final double aIm = im[start + j];
+                sRe += aRe * xRe[j] - aIm * xIm[j];
+                sIm += aRe * xIm[j] + aIm * xRe[j];
+            }
+            oRe[i] = sRe;
+            oIm[i] = sIm;
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Complex[] preMultiply(final Complex[] v) throws MathIllegalArgumentException {
+        return preMultiply(new ComplexVector(v)).toArray();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector preMultiply(final FieldVector<Complex> v) throws MathIllegalArgumentException {
+        if (v.getDimension() != rows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.getDimension(), rows);
+        }
+        final ComplexVector c   = ComplexVector.toComplexVector(v);
+        final double[]      xRe = c.getRealRef();
+        final double[]      xIm = c.getImaginaryRef();
+        final ComplexVector out = new ComplexVector(columns);
+        final double[]      oRe = out.getRealRef();
+        final double[]      oIm = out.getImaginaryRef();
+        for (int i = 0; i < rows; ++i) {
+            final double vRe   = xRe[i];
+            final double vIm   = xIm[i];
+            final int    start = i * columns;
+            for (int j = 0; j < columns; ++j) {
+                final double aRe = re[start + j];
+                final double aIm = im[start + j];
+                oRe[j] += vRe * aRe - vIm * aIm;
+                oIm[j] += vRe * aIm + vIm * aRe;
+            }
+        }
+        return out;
+    }
+
+}
@@ -0,0 +1,431 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the QR-decomposition of a complex matrix using split primitive storage.
+ * <p>The QR-decomposition of a matrix A consists of two matrices Q and R
+ * that satisfy: A = QR, Q is unitary (Q<sup>H</sup>Q = I, where Q<sup>H</sup>
+ * is the conjugate transpose of Q), and R is upper triangular. If A is
+ * m&times;n, Q is m&times;m and R m&times;n.</p>
+ * <p>
+ * This implementation uses complex Householder reflectors
+ * H = I - v v<sup>H</sup> / &beta; with &beta; = v<sup>H</sup>v / 2, so the diagonal
+ * elements of R are complex numbers whose phase is opposite to the phase of
+ * the corresponding pivot column entry. Real and imaginary parts are stored in
+ * separate {@code double} arrays and no {@link Complex} instance is allocated during
+ * factorization or solving.
+ * </p>
+ * @see ComplexMatrix
+ * @see QRDecomposition
+ * @since 4.0
+ */
+public class ComplexQRDecomposition {
+
+    /** Real parts of the transposed matrix, holding Householder vectors below the diagonal and R above. */
+    private final double[][] qrtRe;
+
+    /** Imaginary parts of the transposed matrix, holding Householder vectors below the diagonal and R above. */
+    private final double[][] qrtIm;
+
+    /** Real parts of the diagonal elements of R. */
+    private final double[] rDiagRe;
+
+    /** Imaginary parts of the diagonal elements of R. */
+    private final double[] rDiagIm;
+
+    /** Half squared norms of the Householder vectors (zero when no reflection is applied). */
+    private final double[] beta;
+
+    /** Singularity threshold. */
+    private final double threshold;
+
+    /** Cached value of Q. */
+    private ComplexMatrix cachedQ;
+
+    /** Cached value of R. */
+    private ComplexMatrix cachedR;
+
+    /**
+     * Calculates the QR-decomposition of the given matrix.
+     * The singularity threshold defaults to zero.
+     *
+     * @param matrix The matrix to decompose.
+     *
+     * @see #ComplexQRDecomposition(FieldMatrix, double)
+     */
+    public ComplexQRDecomposition(final FieldMatrix<Complex> matrix) {
+        this(matrix, 0d);
+    }
+
+    /**
+     * Calculates the QR-decomposition of the given matrix.
+     *
+     * @param matrix The matrix to decompose.
+     * @param threshold Singularity threshold on the modulus of the diagonal elements of R.
+     */
+    public ComplexQRDecomposition(final FieldMatrix<Complex> matrix, final double threshold) {
+        this.threshold = threshold;
+
+        final int           m = matrix.getRowDimension();
+        final int           n = matrix.getColumnDimension();
+        final int           p = FastMath.min(m, n);
+        final ComplexMatrix c = ComplexMatrix.toComplexMatrix(matrix);
+        qrtRe = new double[n][m];
+        qrtIm = new double[n][m];
+        for (int i = 0; i < m; ++i) {
+            for (int j = 0; j < n; ++j) {
+                qrtRe[j][i] = c.getRealRef()[i * n + j];
+                qrtIm[j][i] = c.getImaginaryRef()[i * n + j];
+            }
+        }
+        rDiagRe = new double[p];
+        rDiagIm = new double[p];
+        beta    = new double[p];
+        cachedQ = null;
+        cachedR = null;
+
+        for (int minor = 0; minor < p; ++minor) {
+            performHouseholderReflection(minor);
+        }
+
+    }
+
+    /** Perform Householder reflection for a minor A(minor, minor) of A.
+     * @param minor minor index
+     */
+    private void performHouseholderReflection(final int minor) {
+
+        final double[] vRe = qrtRe[minor];
+        final double[] vIm = qrtIm[minor];
+        final int      m   = vRe.length;
+
+        double xNormSqr = 0;
+        for (int row = minor; row < m; ++row) {
+            xNormSqr += vRe[row] * vRe[row] + vIm[row] * vIm[row];
+        }
+        final double xNorm = FastMath.sqrt(xNormSqr);
+        if (xNorm == 0) {
+            // null column, no reflection needed
+            rDiagRe[minor] = 0;
+            rDiagIm[minor] = 0;
+            beta[minor]    = 0;
+            return;
+        }
+
+        /*
+         * With x the first column of the minor and x0 = |x0| e^(i theta) its first entry,
+         * the diagonal element of R is a = -e^(i theta) |x|, and v = x - a e1 only differs
+         * from x by its first component v0 = e^(i theta) (|x0| + |x|). Then
+         * v^H v = 2 |x| (|x| + |x0|) = 2 beta, and applying H = I - v v^H / beta to a column y
+         * amounts to subtracting (v^H y / beta) v from y.
+         */
+        final double x0Norm = FastMath.hypot(vRe[minor], vIm[minor]);
+        final double eRe    = (x0Norm == 0) ? 1.0 : vRe[minor] / x0Norm;
+        final double eIm    = (x0Norm == 0) ? 0.0 : vIm[minor] / x0Norm;
+        rDiagRe[minor] = -eRe * xNorm;
+        rDiagIm[minor] = -eIm * xNorm;
+        vRe[minor]     = eRe * (x0Norm + xNorm);
+        vIm[minor]     = eIm * (x0Norm + xNorm);
+        beta[minor]    = xNorm * (xNorm + x0Norm);
+
+        // transform the remaining columns of the minor
+        for (int col = minor + 1; col < qrtRe.length; ++col) {
+            final double[] yRe = qrtRe[col];
+            final double[] yIm = qrtIm[col];
+            double sRe = 0;
+            double sIm = 0;
+            for (int row = minor; row < m; ++row) {
+                sRe += vRe[row] * yRe[row] + vIm[row] * yIm[row];
+                sIm += vRe[row] * yIm[row] - vIm[row] * yRe[row];
+            }
+            sRe /= beta[minor];
+            sIm /= beta[minor];
+            for (int row = minor; row < m; ++row) {
+                yRe[row] -= sRe * vRe[row] - sIm * vIm[row];
+                yIm[row] -= sRe * vIm[row] + sIm * vRe[row];
+            }
+        }
+
+    }
+
+    /** Apply the reflectors Q<sup>H</sup> = H<sub>p-1</sub> ... H<sub>0</sub> or Q = H<sub>0</sub> ... H<sub>p-1</sub>
+     * to the columns of a row-major m&times;k array pair.
+     * @param yRe real parts, in row-major order
+     * @param yIm imaginary parts, in row-major order
+     * @param k number of columns
+     * @param conjugateTranspose if true, apply Q<sup>H</sup>, otherwise apply Q
+     */
+    private void applyQ(final double[] yRe, final double[] yIm, final int k,
+                        final boolean conjugateTranspose) {
+        final int      p   = beta.length;
+        final double[] sRe = new double[k];
+        final double[] sIm = new double[k];
+        for (int step = 0; step < p; ++step) {
+            final int minor = conjugateTranspose ? step : p - 1 - step;
+            if (beta[minor] == 0) {
+                continue;
+            }
+            final double[] vRe = qrtRe[minor];
+            final double[] vIm = qrtIm[minor];
+            final int      m   = vRe.length;
+
+            // s = v^H y / beta, accumulated row by row to access y contiguously
+            Arrays.fill(sRe, 0.0);
+            Arrays.fill(sIm, 0.0);
+            for (int row = minor; row < m; ++row) {
+                final double cRe   = vRe[row];
+                final double cIm   = vIm[row];
+                final int    start = row * k;
+                for (int j = 0; j < k; ++j) {
+                    sRe[j] += cRe * yRe[start + j] + cIm * yIm[start + j];
+                    sIm[j] += cRe * yIm[start + j] - cIm * yRe[start + j];
+                }
+            }
+            final double inverse = 1.0 / beta[minor];
+            for (int j = 0; j < k; ++j) {
+                sRe[j] *= inverse;
+                sIm[j] *= inverse;
+            }
+
+            // y -= v s
+            for (int row = minor; row < m; ++row) {
+                final double cRe   = vRe[row];
+                final double cIm   = vIm[row];
+                final int    start = row * k;
+                for (int j = 0; j < k; ++j) {
+                    yRe[start + j] -= cRe * sRe[j] - cIm * sIm[j];
+                    yIm[start + j] -= cRe * sIm[j] + cIm * sRe[j];
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the matrix R of the decomposition.
+     * <p>R is an upper-triangular matrix</p>
+     * @return the R matrix
+     */
+    public ComplexMatrix getR() {
+
+        if (cachedR == null) {
+
+            // R is supposed to be m x n
+            final int           n   = qrtRe.length;
+            final int           m   = qrtRe[0].length;
+            final ComplexMatrix r   = new ComplexMatrix(m, n);
+            final double[]      rRe = r.getRealRef();
+            final double[]      rIm = r.getImaginaryRef();
+            // copy the diagonal from rDiag and the upper triangle of qr
+            for (int row = FastMath.min(m, n) - 1; row >= 0; row--) {
+                rRe[row * n + row] = rDiagRe[row];
+                rIm[row * n + row] = rDiagIm[row];
+                for (int col = row + 1; col < n; col++) {
+                    rRe[row * n + col] = qrtRe[col][row];
+                    rIm[row * n + col] = qrtIm[col][row];
+                }
+            }
+            cachedR = r;
+        }
+
+        // return the cached matrix
+        return cachedR;
+    }
+
+    /**
+     * Returns the matrix Q of the decomposition.
+     * <p>Q is a unitary matrix</p>
+     * @return the Q matrix
+     */
+    public ComplexMatrix getQ() {
+        if (cachedQ == null) {
+            final int           m = qrtRe[0].length;
+            final ComplexMatrix q = new ComplexMatrix(m, m);
+            for (int i = 0; i < m; ++i) {
+                q.getRealRef()[i * (m + 1)] = 1.0;
+            }
+            applyQ(q.getRealRef(), q.getImaginaryRef(), m, false);
+            cachedQ = q;
+        }
+        return cachedQ;
+    }
+
+    /**
+     * Returns the conjugate transpose of the matrix Q of the decomposition.
+     * <p>Q is a unitary matrix</p>
+     * @return the conjugate transpose of the Q matrix, Q<sup>H</sup>
+     */
+    public ComplexMatrix getQH() {
+        return getQ().conjugateTranspose();
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in least square sense.
+     * <p>
+     * Least Square sense means a solver can be computed for an overdetermined system,
+     * (i.e. a system with more equations than unknowns, which corresponds to a tall A
+     * matrix with more rows than columns). In any case, if the matrix is singular
+     * within the tolerance set at {@link #ComplexQRDecomposition(FieldMatrix, double)
+     * construction}, an error will be triggered when the
+     * {@link FieldDecompositionSolver#solve(FieldVector) solve} method will be called.
+     * </p>
+     * <p>
+     * The solver returns {@link ComplexVector} and {@link ComplexMatrix} instances.
+     * </p>
+     * @return a solver
+     */
+    public FieldDecompositionSolver<Complex> getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements FieldDecompositionSolver<Complex> {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            return !checkSingular(false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ComplexVector solve(final FieldVector<Complex> b) {
+            final int m = qrtRe[0].length;
+            if (b.getDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), m);
+            }
+
+            // a single column matrix has the same layout as a vector
+            final ComplexVector c      = ComplexVector.toComplexVector(b);
+            final ComplexMatrix column = new ComplexMatrix(m, 1);
+            System.arraycopy(c.getRealRef(),      0, column.getRealRef(),      0, m);
+            System.arraycopy(c.getImaginaryRef(), 0, column.getImaginaryRef(), 0, m);
+            final ComplexMatrix x = solve(column);
+            return new ComplexVector(x.getRealRef(), x.getImaginaryRef(), false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public ComplexMatrix solve(final FieldMatrix<Complex> b) {
+            final int n = qrtRe.length;
+            final int m = qrtRe[0].length;
+            if (b.getRowDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), m);
+            }
+            checkSingular(true);
+
+            // y = Q^H b
+            final int           k   = b.getColumnDimension();
+            final ComplexMatrix y   = ComplexMatrix.toComplexMatrix(b).copy();
+            final double[]      yRe = y.getRealRef();
+            final double[]      yIm = y.getImaginaryRef();
+            applyQ(yRe, yIm, k, true);
+
+            // solve triangular system R.x = y
+            final ComplexMatrix x   = new ComplexMatrix(n, k);
+            final double[]      xRe = x.getRealRef();
+            final double[]      xIm = x.getImaginaryRef();
+            for (int row = rDiagRe.length - 1; row >= 0; --row) {
+                final double dRe   = rDiagRe[row];
+                final double dIm   = rDiagIm[row];
+                final double d2    = dRe * dRe + dIm * dIm;
+                final int    start = row * k;
+                for (int j = 0; j < k; ++j) {
+                    // divide by the diagonal element, whose modulus is a column norm
+                    final double tRe = yRe[start + j];
+                    final double tIm = yIm[start + j];
+                    xRe[start + j] = (tRe * dRe + tIm * dIm) / d2;
+                    xIm[start + j] = (tIm * dRe - tRe * dIm) / d2;
+                }
+                final double[] uRe = qrtRe[row];
+                final double[] uIm = qrtIm[row];
+                for (int i = 0; i < row; ++i) {
+                    final int iStart = i * k;
+                    for (int j = 0; j < k; ++j) {
+                        final double sRe = xRe[start + j];
+                        final double sIm = xIm[start + j];
+                        yRe[iStart + j] -= sRe * uRe[i] - sIm * uIm[i];
+                        yIm[iStart + j] -= sRe * uIm[i] + sIm * uRe[i];
+                    }
+                }
+            }
+
+            return x;
+
+        }
+
+        /** {@inheritDoc}
+         * @throws MathIllegalArgumentException if the decomposed matrix is singular.
+         */
+        @Override
+        public ComplexMatrix getInverse() {
+            final int           m        = qrtRe[0].length;
+            final ComplexMatrix identity = new ComplexMatrix(m, m);
+            for (int i = 0; i < m; ++i) {
+                identity.getRealRef()[i * (m + 1)] = 1.0;
+            }
+            return solve(identity);
+        }
+
+        /**
+         * Check singularity.
+         *
+         * @param raise whether to raise a {@link MathIllegalArgumentException}
+         * if any element of the diagonal fails the check.
+         * @return {@code true} if the modulus of any element of the diagonal
+         * is smaller or equal to the threshold.
+         * @throws MathIllegalArgumentException if the matrix is singular and
+         * {@code raise} is {@code true}.
+         */
+        private boolean checkSingular(final boolean raise) {
+            for (int i = 0; i < rDiagRe.length; i++) {
+                if (FastMath.hypot(rDiagRe[i], rDiagIm[i]) <= threshold) {
+                    if (raise) {
+                        throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+                    } else {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return qrtRe[0].length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return qrtRe.length;
+        }
+
+    }
+
+}
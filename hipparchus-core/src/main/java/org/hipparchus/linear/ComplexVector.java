@@ -0,0 +1,509 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.hipparchus.Field;
+import org.hipparchus.complex.Complex;
+import org.hipparchus.complex.ComplexField;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Implementation of {@link FieldVector} for {@link Complex} elements using split primitive storage.
+ * <p>
+ * Real and imaginary parts are stored in two separate {@code double} arrays, so additions,
+ * products and dot products run on primitive doubles without allocating one {@link Complex}
+ * instance per entry and per operation, as {@link ArrayFieldVector ArrayFieldVector&lt;Complex&gt;}
+ * does. Fast paths are used when the other operand is also a {@code ComplexVector}. Divisions
+ * and inversions are delegated to {@link Complex} arithmetic so special values (zeros, infinities
+ * and NaNs) are handled exactly as for individual complex numbers.
+ * </p>
+ * @see ComplexMatrix
+ * @since 4.0
+ */
+public class ComplexVector implements FieldVector<Complex>, Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Real parts of the entries. */
+    private final double[] re;
+
+    /** Imaginary parts of the entries. */
+    private final double[] im;
+
+    /** Build a zero vector.
+     * @param size size of the vector
+     */
+    public ComplexVector(final int size) {
+        this(new double[size], new double[size], false);
+    }
+
+    /** Build a vector from real and imaginary parts.
+     * <p>The input arrays are copied, not referenced.</p>
+     * @param real real parts of the entries
+     * @param imaginary imaginary parts of the entries
+     * @throws MathIllegalArgumentException if arrays dimensions do not match
+     */
+    public ComplexVector(final double[] real, final double[] imaginary)
+        throws MathIllegalArgumentException {
+        this(real, imaginary, true);
+    }
+
+    /** Build a vector from real and imaginary parts.
+     * @param real real parts of the entries
+     * @param imaginary imaginary parts of the entries
+     * @param copyArray if {@code true}, the input arrays will be copied,
+     * otherwise they will be referenced
+     * @throws MathIllegalArgumentException if arrays dimensions do not match
+     */
+    public ComplexVector(final double[] real, final double[] imaginary, final boolean copyArray)
+        throws MathIllegalArgumentException {
+        MathUtils.checkDimension(imaginary.length, real.length);
+        this.re = copyArray ? real.clone() : real;
+        this.im = copyArray ? imaginary.clone() : imaginary;
+    }
+
+    /** Build a vector from complex entries.
+     * @param entries entries of the vector
+     */
+    public ComplexVector(final Complex[] entries) {
+        this(entries.length);
+        for (int i = 0; i < entries.length; ++i) {
+            re[i] = entries[i].getRealPart();
+            im[i] = entries[i].getImaginaryPart();
+        }
+    }
+
+    /** Build a vector from another field vector.
+     * @param v vector to copy
+     */
+    public ComplexVector(final FieldVector<Complex> v) {
+        this(v.getDimension());
+        for (int i = 0; i < re.length; ++i) {
+            final Complex c = v.getEntry(i);
+            re[i] = c.getRealPart();
+            im[i] = c.getImaginaryPart();
+        }
+    }
+
+    /** Get a reference to the real parts array.
+     * @return real parts of the entries
+     */
+    public double[] getRealRef() {
+        return re;
+    }
+
+    /** Get a reference to the imaginary parts array.
+     * @return imaginary parts of the entries
+     */
+    public double[] getImaginaryRef() {
+        return im;
+    }
+
+    /** Convert a vector to the split representation if needed.
+     * @param v vector to convert
+     * @return v itself if it already is a {@code ComplexVector}, a converted copy otherwise
+     */
+    static ComplexVector toComplexVector(final FieldVector<Complex> v) {
+        return (v instanceof ComplexVector) ? (ComplexVector) v : new ComplexVector(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Field<Complex> getField() {
+        return ComplexField.getInstance();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector copy() {
+        return new ComplexVector(re, im, true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector add(final FieldVector<Complex> v) throws MathIllegalArgumentException {
+        checkVectorDimensions(v.getDimension());
+        final ComplexVector c   = toComplexVector(v);
+        final ComplexVector out = new ComplexVector(re.length);
+        for (int i = 0; i < re.length; ++i) {
+            out.re[i] = re[i] + c.re[i];
+            out.im[i] = im[i] + c.im[i];
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector subtract(final FieldVector<Complex> v) throws MathIllegalArgumentException {
+        checkVectorDimensions(v.getDimension());
+        final ComplexVector c   = toComplexVector(v);
+        final ComplexVector out = new ComplexVector(re.length);
+        for (int i = 0; i < re.length; ++i) {
+            out.re[i] = re[i] - c.re[i];
+            out.im[i] = im[i] - c.im[i];
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector mapAdd(final Complex d) throws NullArgumentException {
+        return copy().mapAddToSelf(d);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector mapAddToSelf(final Complex d) throws NullArgumentException {
+        MathUtils.checkNotNull(d);
+        final double dRe = d.getRealPart();
+        final double dIm = d.getImaginaryPart();
+        for (int i = 0; i < re.length; ++i) {
+            re[i] += dRe;
+            im[i] += dIm;
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector mapSubtract(final Complex d) throws NullArgumentException {
+        return copy().mapSubtractToSelf(d);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector mapSubtractToSelf(final Complex d) throws NullArgumentException {
+        MathUtils.checkNotNull(d);
+        return mapAddToSelf(d.negate());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector mapMultiply(final Complex d) throws NullArgumentException {
+        return copy().mapMultiplyToSelf(d);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector mapMultiplyToSelf(final Complex d) throws NullArgumentException {
+        MathUtils.checkNotNull(d);
+        final double dRe = d.getRealPart();
+        final double dIm = d.getImaginaryPart();
+        for (int i = 0; i < re.length; ++i) {
+            final double r = re[i];
+            re[i] = r * dRe - im[i] * dIm;
+            im[i] = r * dIm + im[i] * dRe;
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector mapDivide(final Complex d)
+        throws NullArgumentException, MathRuntimeException {
+        return copy().mapDivideToSelf(d);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector mapDivideToSelf(final Complex d)
+        throws NullArgumentException, MathRuntimeException {
+        MathUtils.checkNotNull(d);
+        for (int i = 0; i < re.length; ++i) {
+            setEntry(i, getEntry(i).divide(d));
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector mapInv() throws MathRuntimeException {
+        return copy().mapInvToSelf();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector mapInvToSelf() throws MathRuntimeException {
+        for (int i = 0; i < re.length; ++i) {
+            setEntry(i, Complex.ONE.divide(getEntry(i)));
+        }
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector ebeMultiply(final FieldVector<Complex> v)
+        throws MathIllegalArgumentException {
+        checkVectorDimensions(v.getDimension());
+        final ComplexVector c   = toComplexVector(v);
+        final ComplexVector out = new ComplexVector(re.length);
+        for (int i = 0; i < re.length; ++i) {
+            out.re[i] = re[i] * c.re[i] - im[i] * c.im[i];
+            out.im[i] = re[i] * c.im[i] + im[i] * c.re[i];
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector ebeDivide(final FieldVector<Complex> v)
+        throws MathIllegalArgumentException, MathRuntimeException {
+        checkVectorDimensions(v.getDimension());
+        final ComplexVector out = new ComplexVector(re.length);
+        for (int i = 0; i < re.length; ++i) {
+            out.setEntry(i, getEntry(i).divide(v.getEntry(i)));
+        }
+        return out;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * As for all {@link FieldVector field vectors}, this is the bilinear
+     * product &sum; a<sub>i</sub> b<sub>i</sub>, without conjugation.
+     * </p>
+     * @see #hermitianProduct(FieldVector)
+     */
+    @Override
+    public Complex dotProduct(final FieldVector<Complex> v) throws MathIllegalArgumentException {
+        checkVectorDimensions(v.getDimension());
+        final ComplexVector c = toComplexVector(v);
+        double sRe = 0;
+        double sIm = 0;
+        for (int i = 0; i < re.length; ++i) {
+            sRe += re[i] * c.re[i] - im[i] * c.im[i];
+            sIm += re[i] * c.im[i] + im[i] * c.re[i];
+        }
+        return new Complex(sRe, sIm);
+    }
+
+    /** Compute the Hermitian inner product &sum; conj(a<sub>i</sub>) b<sub>i</sub>.
+     * @param v vector with which Hermitian product should be computed
+     * @return Hermitian product of the instance and {@code v}
+     * @throws MathIllegalArgumentException if {@code v} is not the same size as {@code this}
+     */
+    public Complex hermitianProduct(final FieldVector<Complex> v) throws MathIllegalArgumentException {
+        checkVectorDimensions(v.getDimension());
+        final ComplexVector c = toComplexVector(v);
+        double sRe = 0;
+        double sIm = 0;
+        for (int i = 0; i < re.length; ++i) {
+            sRe += re[i] * c.re[i] + im[i] * c.im[i];
+            sIm += re[i] * c.im[i] - im[i] * c.re[i];
+        }
+        return new Complex(sRe, sIm);
+    }
+
+    /** Compute the Euclidean norm, i.e. the square root of the sum of squared moduli.
+     * @return Euclidean norm
+     */
+    public double getNorm() {
+        double sum = 0;
+        for (int i = 0; i < re.length; ++i) {
+            sum += re[i] * re[i] + im[i] * im[i];
+        }
+        return FastMath.sqrt(sum);
+    }
+
+    /** Compute the conjugate of the instance.
+     * @return a new vector with conjugated entries
+     */
+    public ComplexVector conjugate() {
+        final ComplexVector out = new ComplexVector(re, im, true);
+        for (int i = 0; i < im.length; ++i) {
+            out.im[i] = -im[i];
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector projection(final FieldVector<Complex> v)
+        throws MathIllegalArgumentException, MathRuntimeException {
+        final ComplexVector c = toComplexVector(v);
+        return c.mapMultiply(dotProduct(c).divide(c.dotProduct(c)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexMatrix outerProduct(final FieldVector<Complex> v) {
+        final ComplexVector c   = toComplexVector(v);
+        final int           m   = re.length;
+        final int           n   = c.re.length;
+        final ComplexMatrix out = new ComplexMatrix(m, n);
+        final double[]      oRe = out.getRealRef();
+        final double[]      oIm = out.getImaginaryRef();
+        for (int i = 0; i < m; ++i) {
+            for (int j = 0; j < n; ++j) {
+                oRe[i * n + j] = re[i] * c.re[j] - im[i] * c.im[j];
+                oIm[i * n + j] = re[i] * c.im[j] + im[i] * c.re[j];
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Complex getEntry(final int index) throws MathIllegalArgumentException {
+        checkIndex(index);
+        return new Complex(re[index], im[index]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int index, final Complex value) throws MathIllegalArgumentException {
+        checkIndex(index);
+        re[index] = value.getRealPart();
+        im[index] = value.getImaginaryPart();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDimension() {
+        return re.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector append(final FieldVector<Complex> v) {
+        final ComplexVector c   = toComplexVector(v);
+        final ComplexVector out = new ComplexVector(re.length + c.re.length);
+        System.arraycopy(re,   0, out.re, 0,         re.length);
+        System.arraycopy(im,   0, out.im, 0,         im.length);
+        System.arraycopy(c.re, 0, out.re, re.length, c.re.length);
+        System.arraycopy(c.im, 0, out.im, im.length, c.im.length);
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector append(final Complex d) {
+        final ComplexVector out = new ComplexVector(Arrays.copyOf(re, re.length + 1),
+                                                    Arrays.copyOf(im, im.length + 1),
+                                                    false);
+        out.re[re.length] = d.getRealPart();
+        out.im[im.length] = d.getImaginaryPart();
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ComplexVector getSubVector(final int index, final int n)
+        throws MathIllegalArgumentException {
+        if (n < 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_OF_ELEMENTS_SHOULD_BE_POSITIVE, n);
+        }
+        if (n > 0) {
+            checkIndex(index);
+            checkIndex(index + n - 1);
+        }
+        return new ComplexVector(Arrays.copyOfRange(re, index, index + n),
+                                 Arrays.copyOfRange(im, index, index + n),
+                                 false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSubVector(final int index, final FieldVector<Complex> v)
+        throws MathIllegalArgumentException {
+        final ComplexVector c = toComplexVector(v);
+        if (c.re.length > 0) {
+            checkIndex(index);
+            checkIndex(index + c.re.length - 1);
+        }
+        System.arraycopy(c.re, 0, re, index, c.re.length);
+        System.arraycopy(c.im, 0, im, index, c.im.length);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void set(final Complex value) {
+        Arrays.fill(re, value.getRealPart());
+        Arrays.fill(im, value.getImaginaryPart());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Complex[] toArray() {
+        final Complex[] out = new Complex[re.length];
+        for (int i = 0; i < re.length; ++i) {
+            out[i] = new Complex(re[i], im[i]);
+        }
+        return out;
+    }
+
+    /**
+     * Test for the equality of two vectors.
+     * @param other Object to test for equality.
+     * @return {@code true} if two vector objects are equal, {@code false}
+     * otherwise.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other instanceof ComplexVector) {
+            final ComplexVector rhs = (ComplexVector) other;
+            return Arrays.equals(re, rhs.re) && Arrays.equals(im, rhs.im);
+        }
+        return false;
+    }
+
+    /**
+     * Get a hashCode for the complex vector.
+     * @return a hash code value for this object
+     */
+    @Override
+    public int hashCode() {
+        return 3542 ^ (31 * Arrays.hashCode(re) + Arrays.hashCode(im));
+    }
+
+    /**
+     * Check if instance and specified vectors have the same dimension.
+     * @param n Expected dimension.
+     * @throws MathIllegalArgumentException if the dimension is inconsistent with vector size
+     */
+    private void checkVectorDimensions(final int n) throws MathIllegalArgumentException {
+        if (re.length != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   re.length, n);
+        }
+    }
+
+    /**
+     * Check if an index is valid.
+     * @param index Index to check.
+     * @exception MathIllegalArgumentException if the index is not valid.
+     */
+    private void checkIndex(final int index) throws MathIllegalArgumentException {
+        if (index < 0 || index >= re.length) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.INDEX,
+                                                   index, 0, re.length - 1);
+        }
+    }
+
+}
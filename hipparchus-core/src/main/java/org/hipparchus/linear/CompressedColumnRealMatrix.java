@@ -0,0 +1,379 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Immutable sparse matrix in Compressed Sparse Column (CSC) format.
+ * <p>
+ * The non-zero entries are stored column by column in three arrays: the entries of
+ * column {@code j} are at indices {@code k} such that {@code columnPointers[j] <= k < columnPointers[j + 1]},
+ * with their row index in {@code rowIndices[k]} (sorted in increasing order)
+ * and their value in {@code values[k]}.
+ * </p>
+ * <p>
+ * This layout is the natural one for sparse direct factorizations, and its
+ * {@link #preMultiply(double[]) transposed product} computes each output
+ * component with a single dot product. The {@link #transpose() transpose} of
+ * a CSC matrix is a {@link CompressedRowRealMatrix} sharing the same storage,
+ * so it is created in constant time.
+ * </p>
+ * <p>
+ * Instances are immutable: {@link #setEntry(int, int, double)}, {@link
+ * #addToEntry(int, int, double)} and {@link #multiplyEntry(int, int, double)}
+ * throw an exception. Matrices are built either from another matrix, from
+ * already compressed arrays, or from (row, column, value) triplets using
+ * {@link CompressedRealMatrixBuilder}.
+ * </p>
+ * <p>
+ *  Caveat: This implementation assumes that, for any {@code x},
+ *  the equality {@code x * 0d == 0d} holds. But it is is not true for
+ *  {@code NaN}. Moreover, zero entries will lose their sign.
+ *  Some operations (that involve {@code NaN} and/or infinities) may
+ *  thus give incorrect results.
+ * </p>
+ * @see CompressedRowRealMatrix
+ * @see CompressedRealMatrixBuilder
+ * @since 4.0
+ */
+public class CompressedColumnRealMatrix extends AbstractCompressedRealMatrix {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Build a matrix from compressed arrays.
+     * <p>
+     * The arrays are copied.
+     * </p>
+     * @param rowDimension number of rows
+     * @param columnDimension number of columns
+     * @param columnPointers start of each column in the other arrays (size {@code columnDimension + 1})
+     * @param rowIndices row indices of non-zero entries, sorted in increasing order within each column
+     * @param values values of non-zero entries
+     * @exception MathIllegalArgumentException if dimensions are not positive
+     * or if the arrays are not consistent
+     */
+    public CompressedColumnRealMatrix(final int rowDimension, final int columnDimension,
+                                      final int[] columnPointers, final int[] rowIndices,
+                                      final double[] values)
+        throws MathIllegalArgumentException {
+        super(rowDimension, columnDimension, columnDimension, rowDimension,
+              columnPointers.clone(), rowIndices.clone(), values.clone());
+        checkStorage(columnDimension, rowDimension, getPointersRef(), getIndicesRef(), getValuesRef());
+    }
+
+    /** Build a matrix by compressing another matrix.
+     * <p>
+     * Only the non-zero entries of the other matrix are stored.
+     * </p>
+     * @param matrix matrix to compress
+     */
+    public CompressedColumnRealMatrix(final RealMatrix matrix) {
+        this(matrix, countEntries(matrix));
+    }
+
+    /** Build a matrix by compressing another matrix.
+     * @param matrix matrix to compress
+     * @param columnPointers start of each column, as computed by {@link #countEntries(RealMatrix)}
+     */
+    private CompressedColumnRealMatrix(final RealMatrix matrix, final int[] columnPointers) {
+        super(matrix.getRowDimension(), matrix.getColumnDimension(),
+              matrix.getColumnDimension(), matrix.getRowDimension(),
+              columnPointers,
+              new int[columnPointers[columnPointers.length - 1]],
+              new double[columnPointers[columnPointers.length - 1]]);
+        if (matrix instanceof CompressedColumnRealMatrix) {
+            final CompressedColumnRealMatrix csc = (CompressedColumnRealMatrix) matrix;
+            System.arraycopy(csc.getIndicesRef(), 0, getIndicesRef(), 0, getNonZeroCount());
+            System.arraycopy(csc.getValuesRef(),  0, getValuesRef(),  0, getNonZeroCount());
+        } else if (matrix instanceof CompressedRowRealMatrix) {
+            ((CompressedRowRealMatrix) matrix).transposeStorage(columnPointers, getIndicesRef(), getValuesRef());
+        } else {
+            // scanning rows in increasing order keeps row indices sorted within each column
+            final int[]    rowIndices = getIndicesRef();
+            final double[] values     = getValuesRef();
+            final int[]    next       = new int[matrix.getColumnDimension()];
+            System.arraycopy(columnPointers, 0, next, 0, next.length);
+            for (int i = 0; i < matrix.getRowDimension(); ++i) {
+                final double[] row = matrix.getRow(i);
+                for (int j = 0; j < row.length; ++j) {
+                    if (row[j] != 0.0) {
+                        final int k = next[j]++;
+                        rowIndices[k] = i;
+                        values[k]     = row[j];
+                    }
+                }
+            }
+        }
+    }
+
+    /** Build a matrix referencing already consistent compressed arrays.
+     * @param rowDimension number of rows
+     * @param columnPointers start of each column in the other arrays
+     * @param rowIndices row indices of non-zero entries
+     * @param values values of non-zero entries
+     */
+    CompressedColumnRealMatrix(final int rowDimension, final int[] columnPointers,
+                               final int[] rowIndices, final double[] values) {
+        super(rowDimension, columnPointers.length - 1, columnPointers.length - 1, rowDimension,
+              columnPointers, rowIndices, values);
+    }
+
+    /** Get a matrix in compressed column format.
+     * @param matrix matrix to compress
+     * @return matrix itself if it already is a {@link CompressedColumnRealMatrix},
+     * a compressed copy otherwise
+     */
+    static CompressedColumnRealMatrix compress(final RealMatrix matrix) {
+        return (matrix instanceof CompressedColumnRealMatrix) ?
+               (CompressedColumnRealMatrix) matrix :
+               new CompressedColumnRealMatrix(matrix);
+    }
+
+    /** Compute the columns pointers of the compressed form of a matrix.
+     * @param matrix matrix to compress
+     * @return start of each column
+     */
+    private static int[] countEntries(final RealMatrix matrix) {
+        if (matrix instanceof CompressedColumnRealMatrix) {
+            return ((CompressedColumnRealMatrix) matrix).getPointersRef().clone();
+        } else if (matrix instanceof CompressedRowRealMatrix) {
+            return ((CompressedRowRealMatrix) matrix).transposedPointers();
+        } else {
+            final int[] columnPointers = new int[matrix.getColumnDimension() + 1];
+            for (int i = 0; i < matrix.getRowDimension(); ++i) {
+                final double[] row = matrix.getRow(i);
+                for (int j = 0; j < row.length; ++j) {
+                    if (row[j] != 0.0) {
+                        ++columnPointers[j + 1];
+                    }
+                }
+            }
+            for (int j = 0; j < matrix.getColumnDimension(); ++j) {
+                columnPointers[j + 1] += columnPointers[j];
+            }
+            return columnPointers;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    CompressedColumnRealMatrix create(final int newMajorDimension, final int newMinorDimension,
+                                      final int[] newPointers, final int[] newIndices, final double[] newValues) {
+        return new CompressedColumnRealMatrix(newMinorDimension, newPointers, newIndices, newValues);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return getMinorDimension();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return getMajorDimension();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column) throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return findEntry(column, row);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] getColumn(final int column) throws MathIllegalArgumentException {
+        MatrixUtils.checkColumnIndex(this, column);
+        final int[]    columnPointers = getPointersRef();
+        final int[]    rowIndices     = getIndicesRef();
+        final double[] values         = getValuesRef();
+        final double[] out            = new double[getRowDimension()];
+        for (int k = columnPointers[column]; k < columnPointers[column + 1]; ++k) {
+            out[rowIndices[k]] = values[k];
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompressedColumnRealMatrix copy() {
+        return (CompressedColumnRealMatrix) super.copy();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompressedColumnRealMatrix scalarMultiply(final double d) {
+        return (CompressedColumnRealMatrix) super.scalarMultiply(d);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The transpose shares its storage with the instance, it is created in constant time.
+     * </p>
+     */
+    @Override
+    public CompressedRowRealMatrix transpose() {
+        return new CompressedRowRealMatrix(getRowDimension(),
+                                           getPointersRef(), getIndicesRef(), getValuesRef());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix add(final RealMatrix m) throws MathIllegalArgumentException {
+        if (m instanceof CompressedColumnRealMatrix) {
+            return add((CompressedColumnRealMatrix) m);
+        } else {
+            return super.add(m);
+        }
+    }
+
+    /**
+     * Compute the sum of this matrix and {@code m}.
+     *
+     * @param m Matrix to be added.
+     * @return {@code this} + {@code m}.
+     * @throws MathIllegalArgumentException if {@code m} is not the same
+     * size as {@code this}.
+     */
+    public CompressedColumnRealMatrix add(final CompressedColumnRealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkAdditionCompatible(this, m);
+        return (CompressedColumnRealMatrix) merge(m, 1.0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix subtract(final RealMatrix m) throws MathIllegalArgumentException {
+        if (m instanceof CompressedColumnRealMatrix) {
+            return subtract((CompressedColumnRealMatrix) m);
+        } else {
+            return super.subtract(m);
+        }
+    }
+
+    /**
+     * Subtract {@code m} from this matrix.
+     *
+     * @param m Matrix to be subtracted.
+     * @return {@code this} - {@code m}.
+     * @throws MathIllegalArgumentException if {@code m} is not the same
+     * size as {@code this}.
+     */
+    public CompressedColumnRealMatrix subtract(final CompressedColumnRealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubtractionCompatible(this, m);
+        return (CompressedColumnRealMatrix) merge(m, -1.0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v) throws MathIllegalArgumentException {
+        return operate(v, new double[getRowDimension()]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v, final double[] out) throws MathIllegalArgumentException {
+        if (v.length != getColumnDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, getColumnDimension());
+        }
+        MathUtils.checkDimension(out.length, getRowDimension());
+        minorProduct(out == v ? v.clone() : v, out);
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v) throws MathIllegalArgumentException {
+        return preMultiply(v, new double[getColumnDimension()]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v, final double[] out) throws MathIllegalArgumentException {
+        if (v.length != getRowDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, getRowDimension());
+        }
+        MathUtils.checkDimension(out.length, getColumnDimension());
+        majorProduct(out == v ? v.clone() : v, out);
+        return out;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If {@code m} is also a {@link CompressedColumnRealMatrix}, the product is
+     * sparse and has the same type, otherwise the product is dense.
+     * </p>
+     */
+    @Override
+    public RealMatrix multiply(final RealMatrix m) throws MathIllegalArgumentException {
+        if (m instanceof CompressedColumnRealMatrix) {
+            return multiply((CompressedColumnRealMatrix) m);
+        } else {
+            MatrixUtils.checkMultiplicationCompatible(this, m);
+            final double[][] out = new double[getRowDimension()][m.getColumnDimension()];
+            minorAccumulate(m.getData(), out);
+            return new Array2DRowRealMatrix(out, false);
+        }
+    }
+
+    /**
+     * Postmultiply this matrix by {@code m}.
+     * <p>
+     * Entries that cancel out in the product are kept as explicit zeros.
+     * </p>
+     * @param m Matrix to postmultiply by.
+     * @return {@code this} * {@code m}.
+     * @throws MathIllegalArgumentException if the number of rows of {@code m}
+     * differ from the number of columns of {@code this} matrix.
+     */
+    public CompressedColumnRealMatrix multiply(final CompressedColumnRealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        // the column-compressed storage of A B is the row-compressed storage of B^T A^T
+        return (CompressedColumnRealMatrix) m.majorMultiply(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix multiplyTransposed(final RealMatrix m) throws MathIllegalArgumentException {
+        MatrixUtils.checkSameColumnDimension(this, m);
+        final double[][] out = new double[getRowDimension()][m.getRowDimension()];
+        minorAccumulate(m.transpose().getData(), out);
+        return new Array2DRowRealMatrix(out, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix transposeMultiply(final RealMatrix m) throws MathIllegalArgumentException {
+        MatrixUtils.checkSameRowDimension(this, m);
+        final double[][] out = new double[getColumnDimension()][m.getColumnDimension()];
+        majorAccumulate(m.getData(), out);
+        return new Array2DRowRealMatrix(out, false);
+    }
+
+}
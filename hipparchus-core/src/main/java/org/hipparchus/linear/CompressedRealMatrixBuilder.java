@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Builder for compressed sparse matrices.
+ * <p>
+ * Entries are added one at a time as (row, column, value) triplets, in any
+ * order (this is also known as the COOrdinate format). Several triplets may
+ * refer to the same entry, in which case their values are summed, which is
+ * convenient for assembling finite elements matrices. Once all entries have
+ * been added, the matrix can be built in either {@link CompressedRowRealMatrix
+ * compressed row} or {@link CompressedColumnRealMatrix compressed column} format,
+ * in time proportional to the number of triplets plus the dimensions.
+ * </p>
+ * <p>
+ * All added triplets are stored, including explicit zeros, which are therefore
+ * part of the sparsity structure of the built matrices.
+ * </p>
+ * <p>
+ * The builder can be reused: building a matrix does not reset the triplets.
+ * </p>
+ * @see CompressedRowRealMatrix
+ * @see CompressedColumnRealMatrix
+ * @since 4.0
+ */
+public class CompressedRealMatrixBuilder {
+
+    /** Default initial capacity. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Number of rows. */
+    private final int rowDimension;
+
+    /** Number of columns. */
+    private final int columnDimension;
+
+    /** Rows indices of triplets. */
+    private int[] rows;
+
+    /** Columns indices of triplets. */
+    private int[] columns;
+
+    /** Values of triplets. */
+    private double[] values;
+
+    /** Number of triplets. */
+    private int size;
+
+    /** Simple constructor.
+     * @param rowDimension number of rows
+     * @param columnDimension number of columns
+     * @exception MathIllegalArgumentException if row or column dimension is not positive
+     */
+    public CompressedRealMatrixBuilder(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        this(rowDimension, columnDimension, DEFAULT_CAPACITY);
+    }
+
+    /** Simple constructor.
+     * @param rowDimension number of rows
+     * @param columnDimension number of columns
+     * @param expectedEntries expected number of triplets (used only as initial capacity)
+     * @exception MathIllegalArgumentException if row or column dimension is not positive
+     */
+    public CompressedRealMatrixBuilder(final int rowDimension, final int columnDimension,
+                                       final int expectedEntries)
+        throws MathIllegalArgumentException {
+        if (rowDimension < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.AT_LEAST_ONE_ROW);
+        }
+        if (columnDimension < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.AT_LEAST_ONE_COLUMN);
+        }
+        this.rowDimension    = rowDimension;
+        this.columnDimension = columnDimension;
+        this.rows            = new int[FastMath.max(1, expectedEntries)];
+        this.columns         = new int[rows.length];
+        this.values          = new double[rows.length];
+        this.size            = 0;
+    }
+
+    /** Get the number of rows.
+     * @return number of rows
+     */
+    public int getRowDimension() {
+        return rowDimension;
+    }
+
+    /** Get the number of columns.
+     * @return number of columns
+     */
+    public int getColumnDimension() {
+        return columnDimension;
+    }
+
+    /** Get the number of triplets added so far.
+     * @return number of triplets added so far
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /** Add a triplet.
+     * <p>
+     * If a triplet has already been added for the same entry, the values are summed.
+     * </p>
+     * @param row row index of the entry
+     * @param column column index of the entry
+     * @param value value to add to the entry
+     * @return the builder instance
+     * @exception MathIllegalArgumentException if indices are out of range
+     */
+    public CompressedRealMatrixBuilder addEntry(final int row, final int column, final double value)
+        throws MathIllegalArgumentException {
+        if (row < 0 || row >= rowDimension) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.ROW_INDEX,
+                                                   row, 0, rowDimension - 1);
+        }
+        if (column < 0 || column >= columnDimension) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.COLUMN_INDEX,
+                                                   column, 0, columnDimension - 1);
+        }
+        if (size == rows.length) {
+            final int capacity = 2 * size;
+            rows    = Arrays.copyOf(rows,    capacity);
+            columns = Arrays.copyOf(columns, capacity);
+            values  = Arrays.copyOf(values,  capacity);
+        }
+        rows[size]    = row;
+        columns[size] = column;
+        values[size]  = value;
+        ++size;
+        return this;
+    }
+
+    /** Remove all triplets.
+     * @return the builder instance
+     */
+    public CompressedRealMatrixBuilder clear() {
+        size = 0;
+        return this;
+    }
+
+    /** Build a matrix in compressed row format.
+     * @return matrix in compressed row format
+     */
+    public CompressedRowRealMatrix buildCompressedRow() {
+        final int[]    pointers = new int[rowDimension + 1];
+        final int[]    indices  = new int[size];
+        final double[] data     = new double[size];
+        final int      nnz      = compress(rows, rowDimension, columns, columnDimension, pointers, indices, data);
+        return new CompressedRowRealMatrix(columnDimension, pointers,
+                                           Arrays.copyOf(indices, nnz), Arrays.copyOf(data, nnz));
+    }
+
+    /** Build a matrix in compressed column format.
+     * @return matrix in compressed column format
+     */
+    public CompressedColumnRealMatrix buildCompressedColumn() {
+        final int[]    pointers = new int[columnDimension + 1];
+        final int[]    indices  = new int[size];
+        final double[] data     = new double[size];
+        final int      nnz      = compress(columns, columnDimension, rows, rowDimension, pointers, indices, data);
+        return new CompressedColumnRealMatrix(rowDimension, pointers,
+                                              Arrays.copyOf(indices, nnz), Arrays.copyOf(data, nnz));
+    }
+
+    /** Compress the triplets.
+     * <p>
+     * Triplets are sorted using two stable counting sorts (first by minor
+     * index, then by major index), and duplicates are summed.
+     * </p>
+     * @param major major indices of triplets
+     * @param majorDimension major dimension
+     * @param minor minor indices of triplets
+     * @param minorDimension minor dimension
+     * @param pointers placeholder for the segments pointers (size {@code majorDimension + 1})
+     * @param indices placeholder for the minor indices (size at least number of triplets)
+     * @param data placeholder for the values (size at least number of triplets)
+     * @return number of stored entries (may be smaller than number of triplets)
+     */
+    private int compress(final int[] major, final int majorDimension,
+                         final int[] minor, final int minorDimension,
+                         final int[] pointers, final int[] indices, final double[] data) {
+
+        // first pass: sort triplets by minor index
+        final int[] minorStart = new int[minorDimension + 1];
+        for (int e = 0; e < size; ++e) {
+            ++minorStart[minor[e] + 1];
+        }
+        for (int q = 0; q < minorDimension; ++q) {
+            minorStart[q + 1] += minorStart[q];
+        }
+        final int[] byMinor = new int[size];
+        for (int e = 0; e < size; ++e) {
+            byMinor[minorStart[minor[e]]++] = e;
+        }
+
+        // second pass: stable sort by major index
+        final int[] majorStart = new int[majorDimension + 1];
+        for (int e = 0; e < size; ++e) {
+            ++majorStart[major[e] + 1];
+        }
+        for (int p = 0; p < majorDimension; ++p) {
+            majorStart[p + 1] += majorStart[p];
+        }
+        final int[] next = Arrays.copyOf(majorStart, majorDimension);
+        final int[] sorted = new int[size];
+        for (final int e : byMinor) {
+            sorted[next[major[e]]++] = e;
+        }
+
+        // merge duplicates
+        int nnz = 0;
+        for (int p = 0; p < majorDimension; ++p) {
+            final int start = nnz;
+            for (int k = majorStart[p]; k < majorStart[p + 1]; ++k) {
+                final int e = sorted[k];
+                if (nnz > start && indices[nnz - 1] == minor[e]) {
+                    data[nnz - 1] += values[e];
+                } else {
+                    indices[nnz] = minor[e];
+                    data[nnz]    = values[e];
+                    ++nnz;
+                }
+            }
+            pointers[p + 1] = nnz;
+        }
+
+        return nnz;
+
+    }
+
+}
@@ -0,0 +1,374 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Immutable sparse matrix in Compressed Sparse Row (CSR) format.
+ * <p>
+ * The non-zero entries are stored row by row in three arrays: the entries of
+ * row {@code i} are at indices {@code k} such that {@code rowPointers[i] <= k < rowPointers[i + 1]},
+ * with their column index in {@code columnIndices[k]} (sorted in increasing order)
+ * and their value in {@code values[k]}.
+ * </p>
+ * <p>
+ * This layout is well suited to iterative solvers: {@link #operate(double[])}
+ * reads the matrix sequentially and computes each output component with a
+ * single dot product, without any lookup. The {@link #preMultiply(double[])
+ * transposed product} is also available at the same cost. The {@link #transpose()
+ * transpose} of a CSR matrix is a {@link CompressedColumnRealMatrix} sharing
+ * the same storage, so it is created in constant time.
+ * </p>
+ * <p>
+ * Instances are immutable: {@link #setEntry(int, int, double)}, {@link
+ * #addToEntry(int, int, double)} and {@link #multiplyEntry(int, int, double)}
+ * throw an exception. Matrices are built either from another matrix, from
+ * already compressed arrays, or from (row, column, value) triplets using
+ * {@link CompressedRealMatrixBuilder}.
+ * </p>
+ * <p>
+ *  Caveat: This implementation assumes that, for any {@code x},
+ *  the equality {@code x * 0d == 0d} holds. But it is is not true for
+ *  {@code NaN}. Moreover, zero entries will lose their sign.
+ *  Some operations (that involve {@code NaN} and/or infinities) may
+ *  thus give incorrect results.
+ * </p>
+ * @see CompressedColumnRealMatrix
+ * @see CompressedRealMatrixBuilder
+ * @since 4.0
+ */
+public class CompressedRowRealMatrix extends AbstractCompressedRealMatrix {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Build a matrix from compressed arrays.
+     * <p>
+     * The arrays are copied.
+     * </p>
+     * @param rowDimension number of rows
+     * @param columnDimension number of columns
+     * @param rowPointers start of each row in the other arrays (size {@code rowDimension + 1})
+     * @param columnIndices column indices of non-zero entries, sorted in increasing order within each row
+     * @param values values of non-zero entries
+     * @exception MathIllegalArgumentException if dimensions are not positive
+     * or if the arrays are not consistent
+     */
+    public CompressedRowRealMatrix(final int rowDimension, final int columnDimension,
+                                   final int[] rowPointers, final int[] columnIndices,
+                                   final double[] values)
+        throws MathIllegalArgumentException {
+        super(rowDimension, columnDimension, rowDimension, columnDimension,
+              rowPointers.clone(), columnIndices.clone(), values.clone());
+        checkStorage(rowDimension, columnDimension, getPointersRef(), getIndicesRef(), getValuesRef());
+    }
+
+    /** Build a matrix by compressing another matrix.
+     * <p>
+     * Only the non-zero entries of the other matrix are stored.
+     * </p>
+     * @param matrix matrix to compress
+     */
+    public CompressedRowRealMatrix(final RealMatrix matrix) {
+        this(matrix, countEntries(matrix));
+    }
+
+    /** Build a matrix by compressing another matrix.
+     * @param matrix matrix to compress
+     * @param rowPointers start of each row, as computed by {@link #countEntries(RealMatrix)}
+     */
+    private CompressedRowRealMatrix(final RealMatrix matrix, final int[] rowPointers) {
+        super(matrix.getRowDimension(), matrix.getColumnDimension(),
+              matrix.getRowDimension(), matrix.getColumnDimension(),
+              rowPointers,
+              new int[rowPointers[rowPointers.length - 1]],
+              new double[rowPointers[rowPointers.length - 1]]);
+        if (matrix instanceof CompressedRowRealMatrix) {
+            final CompressedRowRealMatrix csr = (CompressedRowRealMatrix) matrix;
+            System.arraycopy(csr.getIndicesRef(), 0, getIndicesRef(), 0, getNonZeroCount());
+            System.arraycopy(csr.getValuesRef(),  0, getValuesRef(),  0, getNonZeroCount());
+        } else if (matrix instanceof CompressedColumnRealMatrix) {
+            ((CompressedColumnRealMatrix) matrix).transposeStorage(rowPointers, getIndicesRef(), getValuesRef());
+        } else {
+            final int[]    columnIndices = getIndicesRef();
+            final double[] values        = getValuesRef();
+            int k = 0;
+            for (int i = 0; i < matrix.getRowDimension(); ++i) {
+                final double[] row = matrix.getRow(i);
+                for (int j = 0; j < row.length; ++j) {
+                    if (row[j] != 0.0) {
+                        columnIndices[k] = j;
+                        values[k++]      = row[j];
+                    }
+                }
+            }
+        }
+    }
+
+    /** Build a matrix referencing already consistent compressed arrays.
+     * @param columnDimension number of columns
+     * @param rowPointers start of each row in the other arrays
+     * @param columnIndices column indices of non-zero entries
+     * @param values values of non-zero entries
+     */
+    CompressedRowRealMatrix(final int columnDimension, final int[] rowPointers,
+                            final int[] columnIndices, final double[] values) {
+        super(rowPointers.length - 1, columnDimension, rowPointers.length - 1, columnDimension,
+              rowPointers, columnIndices, values);
+    }
+
+    /** Get a matrix in compressed row format.
+     * @param matrix matrix to compress
+     * @return matrix itself if it already is a {@link CompressedRowRealMatrix},
+     * a compressed copy otherwise
+     */
+    static CompressedRowRealMatrix compress(final RealMatrix matrix) {
+        return (matrix instanceof CompressedRowRealMatrix) ?
+               (CompressedRowRealMatrix) matrix :
+               new CompressedRowRealMatrix(matrix);
+    }
+
+    /** Compute the rows pointers of the compressed form of a matrix.
+     * @param matrix matrix to compress
+     * @return start of each row
+     */
+    private static int[] countEntries(final RealMatrix matrix) {
+        if (matrix instanceof CompressedRowRealMatrix) {
+            return ((CompressedRowRealMatrix) matrix).getPointersRef().clone();
+        } else if (matrix instanceof CompressedColumnRealMatrix) {
+            return ((CompressedColumnRealMatrix) matrix).transposedPointers();
+        } else {
+            final int[] rowPointers = new int[matrix.getRowDimension() + 1];
+            for (int i = 0; i < matrix.getRowDimension(); ++i) {
+                int count = 0;
+                for (final double value : matrix.getRow(i)) {
+                    if (value != 0.0) {
+                        ++count;
+                    }
+                }
+                rowPointers[i + 1] = rowPointers[i] + count;
+            }
+            return rowPointers;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    CompressedRowRealMatrix create(final int newMajorDimension, final int newMinorDimension,
+                                   final int[] newPointers, final int[] newIndices, final double[] newValues) {
+        return new CompressedRowRealMatrix(newMinorDimension, newPointers, newIndices, newValues);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return getMajorDimension();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return getMinorDimension();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column) throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return findEntry(row, column);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] getRow(final int row) throws MathIllegalArgumentException {
+        MatrixUtils.checkRowIndex(this, row);
+        final int[]    rowPointers   = getPointersRef();
+        final int[]    columnIndices = getIndicesRef();
+        final double[] values        = getValuesRef();
+        final double[] out           = new double[getColumnDimension()];
+        for (int k = rowPointers[row]; k < rowPointers[row + 1]; ++k) {
+            out[columnIndices[k]] = values[k];
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompressedRowRealMatrix copy() {
+        return (CompressedRowRealMatrix) super.copy();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompressedRowRealMatrix scalarMultiply(final double d) {
+        return (CompressedRowRealMatrix) super.scalarMultiply(d);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The transpose shares its storage with the instance, it is created in constant time.
+     * </p>
+     */
+    @Override
+    public CompressedColumnRealMatrix transpose() {
+        return new CompressedColumnRealMatrix(getColumnDimension(),
+                                              getPointersRef(), getIndicesRef(), getValuesRef());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix add(final RealMatrix m) throws MathIllegalArgumentException {
+        if (m instanceof CompressedRowRealMatrix) {
+            return add((CompressedRowRealMatrix) m);
+        } else {
+            return super.add(m);
+        }
+    }
+
+    /**
+     * Compute the sum of this matrix and {@code m}.
+     *
+     * @param m Matrix to be added.
+     * @return {@code this} + {@code m}.
+     * @throws MathIllegalArgumentException if {@code m} is not the same
+     * size as {@code this}.
+     */
+    public CompressedRowRealMatrix add(final CompressedRowRealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkAdditionCompatible(this, m);
+        return (CompressedRowRealMatrix) merge(m, 1.0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix subtract(final RealMatrix m) throws MathIllegalArgumentException {
+        if (m instanceof CompressedRowRealMatrix) {
+            return subtract((CompressedRowRealMatrix) m);
+        } else {
+            return super.subtract(m);
+        }
+    }
+
+    /**
+     * Subtract {@code m} from this matrix.
+     *
+     * @param m Matrix to be subtracted.
+     * @return {@code this} - {@code m}.
+     * @throws MathIllegalArgumentException if {@code m} is not the same
+     * size as {@code this}.
+     */
+    public CompressedRowRealMatrix subtract(final CompressedRowRealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubtractionCompatible(this, m);
+        return (CompressedRowRealMatrix) merge(m, -1.0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v) throws MathIllegalArgumentException {
+        return operate(v, new double[getRowDimension()]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v, final double[] out) throws MathIllegalArgumentException {
+        if (v.length != getColumnDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, getColumnDimension());
+        }
+        MathUtils.checkDimension(out.length, getRowDimension());
+        majorProduct(out == v ? v.clone() : v, out);
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v) throws MathIllegalArgumentException {
+        return preMultiply(v, new double[getColumnDimension()]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v, final double[] out) throws MathIllegalArgumentException {
+        if (v.length != getRowDimension()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, getRowDimension());
+        }
+        MathUtils.checkDimension(out.length, getColumnDimension());
+        minorProduct(out == v ? v.clone() : v, out);
+        return out;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If {@code m} is also a {@link CompressedRowRealMatrix}, the product is
+     * sparse and has the same type, otherwise the product is dense.
+     * </p>
+     */
+    @Override
+    public RealMatrix multiply(final RealMatrix m) throws MathIllegalArgumentException {
+        if (m instanceof CompressedRowRealMatrix) {
+            return multiply((CompressedRowRealMatrix) m);
+        } else {
+            MatrixUtils.checkMultiplicationCompatible(this, m);
+            final double[][] out = new double[getRowDimension()][m.getColumnDimension()];
+            majorAccumulate(m.getData(), out);
+            return new Array2DRowRealMatrix(out, false);
+        }
+    }
+
+    /**
+     * Postmultiply this matrix by {@code m}.
+     * <p>
+     * Entries that cancel out in the product are kept as explicit zeros.
+     * </p>
+     * @param m Matrix to postmultiply by.
+     * @return {@code this} * {@code m}.
+     * @throws MathIllegalArgumentException if the number of rows of {@code m}
+     * differ from the number of columns of {@code this} matrix.
+     */
+    public CompressedRowRealMatrix multiply(final CompressedRowRealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        return (CompressedRowRealMatrix) majorMultiply(m);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix multiplyTransposed(final RealMatrix m) throws MathIllegalArgumentException {
+        MatrixUtils.checkSameColumnDimension(this, m);
+        final double[][] out = new double[getRowDimension()][m.getRowDimension()];
+        majorAccumulate(m.transpose().getData(), out);
+        return new Array2DRowRealMatrix(out, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix transposeMultiply(final RealMatrix m) throws MathIllegalArgumentException {
+        MatrixUtils.checkSameRowDimension(this, m);
+        final double[][] out = new double[getColumnDimension()][m.getColumnDimension()];
+        minorAccumulate(m.getData(), out);
+        return new Array2DRowRealMatrix(out, false);
+    }
+
+}
@@ -168,16 +168,16 @@ public class ConjugateGradient
         final RealVector x = x0;
         final RealVector xro = RealVector.unmodifiableRealVector(x);
         final RealVector p = x.copy();
-        RealVector q = a.operate(p);
+        final RealVector q = a.operate(p);
 
         final RealVector r = b.combine(1, -1, q);
         final RealVector rro = RealVector.unmodifiableRealVector(r);
         double rnorm = r.getNorm();
-        RealVector z;
+        final RealVector z;
         if (m == null) {
             z = r;
         } else {
-            z = null;
+            z = new ArrayRealVector(r.getDimension());
         }
         IterativeLinearSolverEvent evt;
         evt = new DefaultIterativeLinearSolverEvent(this,
@@ -194,7 +194,7 @@ public class ConjugateGradient
                 manager.getIterations(), xro, bro, rro, rnorm);
             manager.fireIterationStartedEvent(evt);
             if (m != null) {
-                z = m.operate(r);
+                m.operate(r, z);
             }
             final double rhoNext = r.dotProduct(z);
             if (check && (rhoNext <= 0.)) {
@@ -205,7 +205,7 @@ public class ConjugateGradient
             } else {
                 p.combineToSelf(rhoNext / rhoPrev, 1., z);
             }
-            q = a.operate(p);
+            a.operate(p, q);
             final double pq = p.dotProduct(q);
             if (check && (pq <= 0.)) {
                 throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_POSITIVE_DEFINITE_OPERATOR);
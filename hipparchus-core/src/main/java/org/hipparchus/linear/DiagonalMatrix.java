@@ -343,6 +343,18 @@ public class DiagonalMatrix extends AbstractRealMatrix
         return multiply(new DiagonalMatrix(v, false)).getDataRef();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        MathUtils.checkDimension(v.length, data.length);
+        MathUtils.checkDimension(out.length, data.length);
+        for (int i = 0; i < data.length; i++) {
+            out[i] = data[i] * v[i];
+        }
+        return out;
+    }
+
     /** {@inheritDoc} */
     @Override
     public double[] preMultiply(final double[] v)
@@ -350,6 +362,13 @@ public class DiagonalMatrix extends AbstractRealMatrix
         return operate(v);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        return operate(v, out);
+    }
+
     /** {@inheritDoc} */
     @Override
     public RealVector preMultiply(final RealVector v) throws MathIllegalArgumentException {
@@ -274,14 +274,19 @@ public class EigenDecompositionNonSymmetric {
 
         int i = 0;
         while (i < eigenvalues.length) {
+            final double x = i == (eigenvalues.length - 1) ? 0.0 : matT[i + 1][i + 1];
+            final double p = 0.5 * (matT[i][i] - x);
+            final double q = i == (eigenvalues.length - 1) ? 0.0 : p * p + matT[i + 1][i] * matT[i][i + 1];
             if (i == (eigenvalues.length - 1) ||
-                Precision.equals(matT[i + 1][i], 0.0, norm * epsilon)) {
+                Precision.equals(matT[i + 1][i], 0.0, norm * epsilon) ||
+                q >= 0) {
+                // a non-negative discriminant means the Schur transformer already
+                // deflated the block, its small sub-diagonal element being negligible
+                // with respect to the neighboring diagonal elements
                 eigenvalues[i] = new Complex(matT[i][i]);
                 i++;
             } else {
-                final double x   = matT[i + 1][i + 1];
-                final double p   = 0.5 * (matT[i][i] - x);
-                final double z   = FastMath.sqrt(FastMath.abs(p * p + matT[i + 1][i] * matT[i][i + 1]));
+                final double z   = FastMath.sqrt(-q);
                 eigenvalues[i++] = new Complex(x + p, +z);
                 eigenvalues[i++] = new Complex(x + p, -z);
             }
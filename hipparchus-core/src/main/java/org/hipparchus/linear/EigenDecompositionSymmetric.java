@@ -22,6 +22,8 @@
 
 package org.hipparchus.linear;
 
+import java.util.concurrent.ForkJoinPool;
+
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.MathIllegalStateException;
@@ -65,6 +67,12 @@ import org.hipparchus.util.Precision;
  * J.H. Wilkinson "The Implicit QL Algorithm" in Wilksinson and Reinsch (1971)
  * Handbook for automatic computation, vol. 2, Linear algebra, Springer-Verlag,
  * New-York.
+ * <p>
+ * Constructors with a {@link ForkJoinPool} parameter use instead a divide-and-conquer
+ * algorithm for the tridiagonal eigenproblem (Cuppen, 1981, with the eigenvectors
+ * computed as proposed by Gu and Eisenstat, 1995), which is much faster for large
+ * matrices and whose independent subproblems are solved in parallel.
+ * </p>
  *
  * @see <a href="http://mathworld.wolfram.com/EigenDecomposition.html">MathWorld</a>
  * @see <a href="http://en.wikipedia.org/wiki/Eigendecomposition_of_a_matrix">Wikipedia</a>
@@ -114,6 +122,10 @@ public class EigenDecompositionSymmetric {
      * Calculates the eigen decomposition of the given real matrix.
      * <p>
      * Supports decomposition of a general matrix since 3.1.
+     * </p>
+     * <p>
+     * The symmetry check is skipped for {@link SymmetricRealMatrix} instances.
+     * </p>
      *
      * @param matrix Matrix to decompose.
      * @param epsilon Epsilon used for internal tests (e.g. is singular, eigenvalue ratio, etc.)
@@ -128,7 +140,9 @@ public class EigenDecompositionSymmetric {
         throws MathRuntimeException {
 
         this.epsilon = epsilon;
-        MatrixUtils.checkSymmetric(matrix, epsilon);
+        if (!(matrix instanceof SymmetricRealMatrix)) {
+            MatrixUtils.checkSymmetric(matrix, epsilon);
+        }
 
         // transform the matrix to tridiagonal
         final TriDiagonalTransformer transformer = new TriDiagonalTransformer(matrix);
@@ -140,6 +154,46 @@ public class EigenDecompositionSymmetric {
 
     }
 
+    /**
+     * Calculates the eigen decomposition of the given symmetric real matrix
+     * using a divide-and-conquer algorithm.
+     * <p>
+     * The tridiagonal matrix is recursively split in two halves, coupled by a rank-one
+     * modification. The halves are decomposed independently, and merged by solving a
+     * secular equation for each eigenvalue. Halves, secular equations and the final
+     * back-transformation are run in parallel if a pool is provided. The result does not
+     * depend on the number of threads.
+     * </p>
+     * <p>
+     * The symmetry check is skipped for {@link SymmetricRealMatrix} instances.
+     * </p>
+     *
+     * @param matrix Matrix to decompose.
+     * @param epsilon Epsilon used for internal tests (e.g. is singular, eigenvalue ratio, etc.)
+     * @param decreasing if true, eigenvalues will be sorted in decreasing order
+     * @param pool pool in which independent tasks should be run
+     * (if null, everything is run in the calling thread)
+     * @throws MathIllegalStateException if the algorithm fails to converge.
+     * @since 4.0
+     */
+    public EigenDecompositionSymmetric(final RealMatrix matrix,
+                                       final double epsilon, final boolean decreasing,
+                                       final ForkJoinPool pool) {
+
+        this.epsilon = epsilon;
+        if (!(matrix instanceof SymmetricRealMatrix)) {
+            MatrixUtils.checkSymmetric(matrix, epsilon);
+        }
+
+        // transform the matrix to tridiagonal
+        final TriDiagonalTransformer transformer = new TriDiagonalTransformer(matrix);
+
+        findEigenVectorsDivideAndConquer(transformer.getMainDiagonalRef(),
+                                         transformer.getSecondaryDiagonalRef(),
+                                         transformer, decreasing, pool);
+
+    }
+
     /**
      * Calculates the eigen decomposition of the symmetric tridiagonal matrix.
      * <p>
@@ -179,6 +233,28 @@ public class EigenDecompositionSymmetric {
         findEigenVectors(main.clone(), secondary.clone(), z, decreasing);
     }
 
+    /**
+     * Calculates the eigen decomposition of the symmetric tridiagonal
+     * matrix using a divide-and-conquer algorithm.
+     * The Householder matrix is assumed to be the identity matrix.
+     *
+     * @param main Main diagonal of the symmetric tridiagonal form.
+     * @param secondary Secondary of the tridiagonal form.
+     * @param epsilon Epsilon used for internal tests (e.g. is singular, eigenvalue ratio, etc.)
+     * @param decreasing if true, eigenvalues will be sorted in decreasing order
+     * @param pool pool in which independent tasks should be run
+     * (if null, everything is run in the calling thread)
+     * @throws MathIllegalStateException if the algorithm fails to converge.
+     * @see #EigenDecompositionSymmetric(RealMatrix, double, boolean, ForkJoinPool)
+     * @since 4.0
+     */
+    public EigenDecompositionSymmetric(final double[] main, final double[] secondary,
+                                       final double epsilon, final boolean decreasing,
+                                       final ForkJoinPool pool) {
+        this.epsilon = epsilon;
+        findEigenVectorsDivideAndConquer(main, secondary, null, decreasing, pool);
+    }
+
     /**
      * Gets the matrix V of the decomposition.
      * V is an orthogonal matrix, i.e. its transpose is also its inverse.
@@ -499,6 +575,46 @@ public class EigenDecompositionSymmetric {
     private void findEigenVectors(final double[] main, final double[] secondary,
                                   final double[][] householderMatrix, final boolean decreasing) {
         final double[][]z = householderMatrix.clone();
+        final double[] e = initializeTridiagonal(main, secondary);
+        implicitQL(eigenvalues, e, z);
+        sortAndStore(z, decreasing);
+    }
+
+    /**
+     * Find eigenvalues and eigenvectors using divide-and-conquer.
+     * @param main main diagonal of the tridiagonal matrix
+     * @param secondary secondary diagonal of the tridiagonal matrix
+     * @param transformer transformer to tridiagonal form
+     * (null if the Householder matrix is the identity)
+     * @param decreasing if true, eigenvalues will be sorted in decreasing order
+     * @param pool pool in which independent tasks should be run
+     * (if null, everything is run in the calling thread)
+     */
+    private void findEigenVectorsDivideAndConquer(final double[] main, final double[] secondary,
+                                                  final TriDiagonalTransformer transformer,
+                                                  final boolean decreasing, final ForkJoinPool pool) {
+        final double[] e = initializeTridiagonal(main, secondary);
+        final SymmetricTridiagonalDivideAndConquer dc =
+                        new SymmetricTridiagonalDivideAndConquer(eigenvalues, e, transformer, pool);
+        eigenvalues = dc.getEigenvalues();
+        final int n = eigenvalues.length;
+        final double[][] vectors = dc.getEigenvectors();
+        final double[][] z = new double[n][n];
+        for (int j = 0; j < n; ++j) {
+            for (int i = 0; i < n; ++i) {
+                z[i][j] = vectors[j][i];
+            }
+        }
+        sortAndStore(z, decreasing);
+    }
+
+    /**
+     * Initialize eigenvalues with the main diagonal.
+     * @param main main diagonal of the tridiagonal matrix
+     * @param secondary secondary diagonal of the tridiagonal matrix
+     * @return copy of the secondary diagonal, padded with a final zero
+     */
+    private double[] initializeTridiagonal(final double[] main, final double[] secondary) {
         final int n = main.length;
         eigenvalues = new double[n];
         final double[] e = new double[n];
@@ -531,13 +647,27 @@ public class EigenDecompositionSymmetric {
             }
         }
 
+        return e;
+
+    }
+
+    /**
+     * Apply the implicit QL algorithm to a tridiagonal matrix (Dubrulle et al., 1971).
+     * @param d main diagonal on input, eigenvalues (unsorted) on output
+     * @param e secondary diagonal (padded with a final zero), destroyed on output
+     * @param z matrix to which the transformations are applied
+     * (identity on input gives the eigenvectors as columns on output)
+     * @throws MathIllegalStateException if the algorithm fails to converge.
+     */
+    static void implicitQL(final double[] d, final double[] e, final double[][] z) {
+        final int n = d.length;
         for (int j = 0; j < n; j++) {
             int its = 0;
             int m;
             do {
                 for (m = j; m < n - 1; m++) {
-                    double delta = FastMath.abs(eigenvalues[m]) +
-                        FastMath.abs(eigenvalues[m + 1]);
+                    double delta = FastMath.abs(d[m]) +
+                        FastMath.abs(d[m + 1]);
                     if (FastMath.abs(e[m]) + delta == delta) {
                         break;
                     }
@@ -548,12 +678,12 @@ public class EigenDecompositionSymmetric {
                                                             MAX_ITER);
                     }
                     its++;
-                    double q = (eigenvalues[j + 1] - eigenvalues[j]) / (2 * e[j]);
+                    double q = (d[j + 1] - d[j]) / (2 * e[j]);
                     double t = FastMath.sqrt(1 + q * q);
                     if (q < 0.0) {
-                        q = eigenvalues[m] - eigenvalues[j] + e[j] / (q - t);
+                        q = d[m] - d[j] + e[j] / (q - t);
                     } else {
-                        q = eigenvalues[m] - eigenvalues[j] + e[j] / (q + t);
+                        q = d[m] - d[j] + e[j] / (q + t);
                     }
                     double u = 0.0;
                     double s = 1.0;
@@ -576,16 +706,16 @@ public class EigenDecompositionSymmetric {
                             s *= c;
                         }
                         if (e[i + 1] == 0.0) {
-                            eigenvalues[i + 1] -= u;
+                            d[i + 1] -= u;
                             e[m] = 0.0;
                             break;
                         }
-                        q = eigenvalues[i + 1] - u;
-                        t = (eigenvalues[i] - q) * s + 2.0 * c * h;
+                        q = d[i + 1] - u;
+                        t = (d[i] - q) * s + 2.0 * c * h;
                         u = s * t;
-                        eigenvalues[i + 1] = q + u;
+                        d[i + 1] = q + u;
                         q = c * t - h;
-                        for (int ia = 0; ia < n; ia++) {
+                        for (int ia = 0; ia < z.length; ia++) {
                             p = z[ia][i + 1];
                             z[ia][i + 1] = s * z[ia][i] + c * p;
                             z[ia][i] = c * z[ia][i] - s * p;
@@ -594,12 +724,21 @@ public class EigenDecompositionSymmetric {
                     if (t == 0.0 && i >= j) {
                         continue;
                     }
-                    eigenvalues[j] -= u;
+                    d[j] -= u;
                     e[j] = q;
                     e[m] = 0.0;
                 }
             } while (m != j);
         }
+    }
+
+    /**
+     * Sort eigenvalues and eigenvectors and store them.
+     * @param z matrix whose columns are the eigenvectors, in the same order as eigenvalues
+     * @param decreasing if true, eigenvalues will be sorted in decreasing order
+     */
+    private void sortAndStore(final double[][] z, final boolean decreasing) {
+        final int n = eigenvalues.length;
 
         // Sort the eigen values (and vectors) in desired order
         for (int i = 0; i < n; i++) {
@@ -623,7 +762,7 @@ public class EigenDecompositionSymmetric {
         }
 
         // Determine the largest eigen value in absolute term.
-        maxAbsoluteValue = 0;
+        double maxAbsoluteValue = 0;
         for (int i = 0; i < n; i++) {
             if (FastMath.abs(eigenvalues[i]) > maxAbsoluteValue) {
                 maxAbsoluteValue = FastMath.abs(eigenvalues[i]);
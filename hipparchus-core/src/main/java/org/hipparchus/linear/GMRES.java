@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.IterationManager;
+
+/**
+ * <p>
+ * This is an implementation of the restarted Generalized Minimal RESidual
+ * method, GMRES(m), for general (non-symmetric) {@link RealLinearOperator}.
+ * It follows the template by <a href="#BARR1994">Barrett et al. (1994)</a>
+ * (figure 2.6), with modified Gram-Schmidt orthogonalization and Givens
+ * rotations. The linear system at hand is A &middot; x = b, and the residual
+ * is r = b - A &middot; x.
+ * </p>
+ * <p>
+ * Preconditioning is applied on the right, i.e. the method solves
+ * (A &middot; M) &middot; y = b and then sets x = M &middot; y, so the
+ * residual which is minimized is the residual of the original system. The
+ * preconditioner does not need to be symmetric.
+ * </p>
+ * <p><strong>Default stopping criterion</strong></p>
+ * <p>
+ * The iterations stop when || r || &le; &delta; || b ||, where b is the
+ * right-hand side vector, r the current estimate of the residual, and &delta;
+ * a user-specified tolerance. Within a cycle, the norm of the residual is
+ * obtained as a by-product of the least squares problem. At the end of each
+ * cycle, the true residual is recomputed and the method restarts unless
+ * convergence has been reached.
+ * </p>
+ * <p><strong>Iteration count</strong></p>
+ * <p>
+ * In the present context, an iteration should be understood as one Arnoldi
+ * step, i.e. one evaluation of the matrix-vector product A &middot; M
+ * &middot; v. The initialization phase counts as one iteration. The
+ * recomputation of the true residual at each restart is not counted.
+ * </p>
+ * <p><strong>Events</strong></p>
+ * <p>
+ * As the current estimate of the solution is only formed at the end of each
+ * cycle, the solution attached to the events fired within a cycle is the one
+ * computed at the previous restart, whereas their norm of residual is the
+ * current one. These events do not provide the residual vector. Initialization
+ * and termination events provide the true residual vector.
+ * </p>
+ * <p><strong>References</strong></p>
+ * <dl>
+ * <dt><a id="BARR1994">Barret et al. (1994)</a></dt>
+ * <dd>R. Barrett, M. Berry, T. F. Chan, J. Demmel, J. M. Donato, J. Dongarra,
+ * V. Eijkhout, R. Pozo, C. Romine and H. Van der Vorst,
+ * <a href="http://www.netlib.org/linalg/html_templates/Templates.html"><em>
+ * Templates for the Solution of Linear Systems: Building Blocks for Iterative
+ * Methods</em></a>, SIAM</dd>
+ * <dt>Saad and Schultz (1986)</dt>
+ * <dd>Y. Saad and M. H. Schultz, <em>GMRES: A Generalized Minimal Residual
+ * Algorithm for Solving Nonsymmetric Linear Systems</em>, SIAM Journal on
+ * Scientific and Statistical Computing 7(3): 856-869, 1986</dd>
+ * </dl>
+ * @see BiCGSTAB
+ * @since 4.0
+ */
+public class GMRES extends PreconditionedIterativeLinearSolver {
+
+    /** Default number of iterations between restarts. */
+    public static final int DEFAULT_RESTART = 30;
+
+    /** Number of iterations between restarts. */
+    private final int restart;
+
+    /** The value of &delta;, for the default stopping criterion. */
+    private final double delta;
+
+    /**
+     * Creates a new instance of this class, with default stopping criterion.
+     *
+     * @param maxIterations the maximum number of iterations
+     * @param restart the number of iterations between restarts (i.e. the
+     * dimension of the Krylov subspace)
+     * @param delta the &delta; parameter for the default stopping criterion
+     * @throws MathIllegalArgumentException if {@code restart} is not strictly positive
+     */
+    public GMRES(final int maxIterations, final int restart, final double delta)
+        throws MathIllegalArgumentException {
+        super(maxIterations);
+        this.restart = checkRestart(restart);
+        this.delta   = delta;
+    }
+
+    /**
+     * Creates a new instance of this class, with default stopping criterion
+     * and custom iteration manager.
+     *
+     * @param manager the custom iteration manager
+     * @param restart the number of iterations between restarts (i.e. the
+     * dimension of the Krylov subspace)
+     * @param delta the &delta; parameter for the default stopping criterion
+     * @throws NullArgumentException if {@code manager} is {@code null}
+     * @throws MathIllegalArgumentException if {@code restart} is not strictly positive
+     */
+    public GMRES(final IterationManager manager, final int restart, final double delta)
+        throws MathIllegalArgumentException, NullArgumentException {
+        super(manager);
+        this.restart = checkRestart(restart);
+        this.delta   = delta;
+    }
+
+    /** Check the number of iterations between restarts.
+     * @param restart number of iterations between restarts
+     * @return restart
+     * @throws MathIllegalArgumentException if {@code restart} is not strictly positive
+     */
+    private static int checkRestart(final int restart) throws MathIllegalArgumentException {
+        if (restart < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, restart, 1);
+        }
+        return restart;
+    }
+
+    /**
+     * Returns the number of iterations between restarts.
+     *
+     * @return number of iterations between restarts
+     */
+    public int getRestart() {
+        return restart;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector solveInPlace(final RealLinearOperator a,
+                                   final RealLinearOperator m,
+                                   final RealVector b,
+                                   final RealVector x0)
+        throws MathIllegalArgumentException, NullArgumentException,
+        MathIllegalStateException {
+        checkParameters(a, m, b, x0);
+        final IterationManager manager = getIterationManager();
+        // Initialization of default stopping criterion
+        manager.resetIterationCount();
+        final double rmax = delta * b.getNorm();
+        final RealVector bro = RealVector.unmodifiableRealVector(b);
+
+        // Initialization phase counts as one iteration.
+        manager.incrementIterationCount();
+        final RealVector x   = x0;
+        final RealVector xro = RealVector.unmodifiableRealVector(x);
+        final RealVector r = b.subtract(a.operate(x));
+        double rnorm = r.getNorm();
+        IterativeLinearSolverEvent evt;
+        evt = new DefaultIterativeLinearSolverEvent(this, manager.getIterations(), xro, bro,
+                                                    RealVector.unmodifiableRealVector(r), rnorm);
+        manager.fireInitializationEvent(evt);
+        if (rnorm <= rmax) {
+            manager.fireTerminationEvent(evt);
+            return x;
+        }
+
+        // Krylov basis, Hessenberg matrix (triangularized on the fly) and Givens rotations
+        final RealVector[] v   = new RealVector[restart + 1];
+        final double[][]   h   = new double[restart + 1][restart];
+        final double[]     cs  = new double[restart];
+        final double[]     sn  = new double[restart];
+        final double[]     g   = new double[restart + 1];
+
+        // the basis vectors and the preconditioned vector are allocated once and updated in place
+        final int          n   = r.getDimension();
+        final RealVector   z   = (m == null) ? null : new ArrayRealVector(n);
+        v[0] = new ArrayRealVector(n);
+
+        while (true) {
+
+            // start a new cycle
+            r.combine(1.0 / rnorm, 0.0, r, v[0]);
+            Arrays.fill(g, 0.0);
+            g[0] = rnorm;
+
+            int k = 0;
+            while (k < restart) {
+
+                manager.incrementIterationCount();
+                evt = new DefaultIterativeLinearSolverEvent(this, manager.getIterations(), xro, bro, rnorm);
+                manager.fireIterationStartedEvent(evt);
+
+                // Arnoldi step with modified Gram-Schmidt
+                if (v[k + 1] == null) {
+                    v[k + 1] = new ArrayRealVector(n);
+                }
+                final RealVector w = a.operate(m == null ? v[k] : m.operate(v[k], z), v[k + 1]);
+                for (int i = 0; i <= k; ++i) {
+                    h[i][k] = w.dotProduct(v[i]);
+                    w.combineToSelf(1, -h[i][k], v[i]);
+                }
+                final double hNext = w.getNorm();
+
+                // apply previous rotations to the new column
+                for (int i = 0; i < k; ++i) {
+                    final double tmp = cs[i] * h[i][k] + sn[i] * h[i + 1][k];
+                    h[i + 1][k] = -sn[i] * h[i][k] + cs[i] * h[i + 1][k];
+                    h[i][k]     = tmp;
+                }
+
+                // compute the new rotation, eliminating the subdiagonal entry
+                final double gamma = FastMath.hypot(h[k][k], hNext);
+                if (gamma == 0) {
+                    // the new direction is in the span of the previous ones
+                    // and the operator is singular on it
+                    throw new MathIllegalStateException(LocalizedCoreFormats.CONVERGENCE_FAILED);
+                }
+                cs[k]    = h[k][k] / gamma;
+                sn[k]    = hNext / gamma;
+                h[k][k]  = gamma;
+                g[k + 1] = -sn[k] * g[k];
+                g[k]     =  cs[k] * g[k];
+                rnorm    = FastMath.abs(g[k + 1]);
+                ++k;
+
+                evt = new DefaultIterativeLinearSolverEvent(this, manager.getIterations(), xro, bro, rnorm);
+                manager.fireIterationPerformedEvent(evt);
+
+                if (rnorm <= rmax || hNext == 0) {
+                    // either converged or reached an invariant subspace
+                    break;
+                }
+                w.mapDivideToSelf(hNext);
+
+            }
+
+            // solve the triangular least squares problem and update solution
+            final double[] y = new double[k];
+            for (int i = k - 1; i >= 0; --i) {
+                double sum = g[i];
+                for (int j = i + 1; j < k; ++j) {
+                    sum -= h[i][j] * y[j];
+                }
+                y[i] = sum / h[i][i];
+            }
+            final RealVector u = v[0].mapMultiply(y[0]);
+            for (int i = 1; i < k; ++i) {
+                u.combineToSelf(1, y[i], v[i]);
+            }
+            x.combineToSelf(1, 1, m == null ? u : m.operate(u, z));
+
+            // restart from the true residual
+            b.subtract(a.operate(x, r), r);
+            rnorm = r.getNorm();
+            if (rnorm <= rmax) {
+                evt = new DefaultIterativeLinearSolverEvent(this, manager.getIterations(), xro, bro,
+                                                            RealVector.unmodifiableRealVector(r), rnorm);
+                manager.fireTerminationEvent(evt);
+                return x;
+            }
+
+        }
+    }
+
+}
@@ -0,0 +1,503 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+
+import org.hipparchus.analysis.differentiation.Gradient;
+import org.hipparchus.analysis.differentiation.GradientField;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.MathArrays;
+
+/**
+ * Implementation of {@link FieldMatrix} for {@link Gradient} elements using primitive storage.
+ * <p>
+ * Generic field matrices such as {@link BlockFieldMatrix BlockFieldMatrix&lt;Gradient&gt;}
+ * allocate a new gradient (and its derivatives array) for each addition and multiplication.
+ * This class stores the values and the partial derivatives of all entries in two parallel
+ * {@code double} arrays and applies the first order differentiation rules directly on them
+ * for additions, subtractions, scalar operations, products and transposition; when the other
+ * operand is also a {@code GradientFieldMatrix}, no element is allocated at all. Other
+ * operations fall back to the generic implementations from {@link AbstractFieldMatrix}.
+ * </p>
+ * <p>
+ * All entries share the same number of free parameters, which is fixed at construction.
+ * </p>
+ * @since 4.0
+ */
+public class GradientFieldMatrix extends AbstractFieldMatrix<Gradient> implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Number of rows. */
+    private final int rows;
+
+    /** Number of columns. */
+    private final int columns;
+
+    /** Number of free parameters. */
+    private final int parameters;
+
+    /** Values of the entries, in row-major order. */
+    private final double[] values;
+
+    /** Partial derivatives of the entries.
+     * <p>The derivatives with respect to each parameter are stored as separate
+     * row-major planes: the derivative of entry (i, j) with respect to parameter
+     * l is stored at index {@code l * rows * columns + i * columns + j}, so
+     * products reduce to plain primitive products on contiguous memory.</p>
+     */
+    private final double[] derivatives;
+
+    /** Create a new matrix with the supplied dimensions.
+     * <p>All entries are initialized to zero, with zero derivatives.</p>
+     * @param rowDimension number of rows in the new matrix
+     * @param columnDimension number of columns in the new matrix
+     * @param freeParameters number of free parameters of the entries
+     * @throws MathIllegalArgumentException if row or column dimension is not positive
+     */
+    public GradientFieldMatrix(final int rowDimension, final int columnDimension, final int freeParameters)
+        throws MathIllegalArgumentException {
+        super(GradientField.getField(freeParameters), rowDimension, columnDimension);
+        this.rows        = rowDimension;
+        this.columns     = columnDimension;
+        this.parameters  = freeParameters;
+        this.values      = new double[rowDimension * columnDimension];
+        this.derivatives = new double[rowDimension * columnDimension * freeParameters];
+    }
+
+    /** Create a new matrix from a field elements array.
+     * @param d data for the new matrix
+     * @throws MathIllegalArgumentException if {@code d} is empty or not rectangular,
+     * or if its elements do not all have the same number of free parameters
+     */
+    public GradientFieldMatrix(final Gradient[][] d) throws MathIllegalArgumentException {
+        this(d.length, d.length == 0 ? 0 : d[0].length,
+             d.length == 0 || d[0].length == 0 ? 0 : d[0][0].getFreeParameters());
+        for (int i = 0; i < rows; ++i) {
+            if (d[i].length != columns) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       d[i].length, columns);
+            }
+            for (int j = 0; j < columns; ++j) {
+                store(i * columns + j, d[i][j]);
+            }
+        }
+    }
+
+    /** Create a new matrix from its value and partial derivatives matrices.
+     * @param value matrix containing the values of the entries
+     * @param partialDerivatives matrices containing the partial derivatives of the
+     * entries with respect to each free parameter
+     * @throws MathIllegalArgumentException if the matrices do not have the same dimensions
+     */
+    public GradientFieldMatrix(final RealMatrix value, final RealMatrix... partialDerivatives)
+        throws MathIllegalArgumentException {
+        this(value.getRowDimension(), value.getColumnDimension(), partialDerivatives.length);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                values[i * columns + j] = value.getEntry(i, j);
+            }
+        }
+        for (int l = 0; l < parameters; ++l) {
+            MatrixUtils.checkAdditionCompatible(value, partialDerivatives[l]);
+            for (int i = 0; i < rows; ++i) {
+                for (int j = 0; j < columns; ++j) {
+                    derivatives[l * values.length + i * columns + j] = partialDerivatives[l].getEntry(i, j);
+                }
+            }
+        }
+    }
+
+    /** Get the number of free parameters of the entries.
+     * @return number of free parameters
+     */
+    public int getFreeParameters() {
+        return parameters;
+    }
+
+    /** Get the matrix of the values of the entries.
+     * @return matrix of the values
+     */
+    public RealMatrix getValueMatrix() {
+        final double[][] d = new double[rows][columns];
+        for (int i = 0; i < rows; ++i) {
+            System.arraycopy(values, i * columns, d[i], 0, columns);
+        }
+        return new Array2DRowRealMatrix(d, false);
+    }
+
+    /** Get the matrix of the partial derivatives of the entries with respect to one parameter.
+     * @param index index of the free parameter
+     * @return matrix of the partial derivatives with respect to parameter {@code index}
+     * @throws MathIllegalArgumentException if index is out of range
+     */
+    public RealMatrix getPartialDerivativeMatrix(final int index) throws MathIllegalArgumentException {
+        if (index < 0 || index >= parameters) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE,
+                                                   index, 0, parameters - 1);
+        }
+        final double[][] d = new double[rows][columns];
+        for (int i = 0; i < rows; ++i) {
+            System.arraycopy(derivatives, index * values.length + i * columns, d[i], 0, columns);
+        }
+        return new Array2DRowRealMatrix(d, false);
+    }
+
+    /** Store an element.
+     * @param k index of the entry in row-major order
+     * @param g element to store
+     * @throws MathIllegalArgumentException if the number of free parameters does not match
+     */
+    private void store(final int k, final Gradient g) throws MathIllegalArgumentException {
+        checkParameters(g);
+        values[k] = g.getValue();
+        for (int l = 0; l < parameters; ++l) {
+            derivatives[l * values.length + k] = g.getPartialDerivative(l);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public GradientFieldMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return new GradientFieldMatrix(rowDimension, columnDimension, parameters);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public GradientFieldMatrix copy() {
+        final GradientFieldMatrix copy = new GradientFieldMatrix(rows, columns, parameters);
+        System.arraycopy(values,      0, copy.values,      0, values.length);
+        System.arraycopy(derivatives, 0, copy.derivatives, 0, derivatives.length);
+        return copy;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Gradient getEntry(final int row, final int column) throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        final int      k        = row * columns + column;
+        final double[] gradient = new double[parameters];
+        for (int l = 0; l < parameters; ++l) {
+            gradient[l] = derivatives[l * values.length + k];
+        }
+        return new Gradient(values[k], gradient);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int row, final int column, final Gradient value)
+        throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        store(row * columns + column, value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addToEntry(final int row, final int column, final Gradient increment)
+        throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        checkParameters(increment);
+        final int k = row * columns + column;
+        values[k] += increment.getValue();
+        for (int l = 0; l < parameters; ++l) {
+            derivatives[l * values.length + k] += increment.getPartialDerivative(l);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void multiplyEntry(final int row, final int column, final Gradient factor)
+        throws MathIllegalArgumentException {
+        checkRowIndex(row);
+        checkColumnIndex(column);
+        checkParameters(factor);
+        final int    k = row * columns + column;
+        final double v = values[k];
+        final double s = factor.getValue();
+        values[k] = v * s;
+        for (int l = 0; l < parameters; ++l) {
+            final int kl = l * values.length + k;
+            derivatives[kl] = derivatives[kl] * s + v * factor.getPartialDerivative(l);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FieldMatrix<Gradient> add(final FieldMatrix<Gradient> m)
+        throws MathIllegalArgumentException {
+        if (m instanceof GradientFieldMatrix) {
+            checkAdditionCompatible(m);
+            final GradientFieldMatrix b   = (GradientFieldMatrix) m;
+            checkParameters(b.parameters);
+            final GradientFieldMatrix out = createMatrix(rows, columns);
+            for (int k = 0; k < values.length; ++k) {
+                out.values[k] = values[k] + b.values[k];
+            }
+            for (int k = 0; k < derivatives.length; ++k) {
+                out.derivatives[k] = derivatives[k] + b.derivatives[k];
+            }
+            return out;
+        } else {
+            return super.add(m);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FieldMatrix<Gradient> subtract(final FieldMatrix<Gradient> m)
+        throws MathIllegalArgumentException {
+        if (m instanceof GradientFieldMatrix) {
+            checkSubtractionCompatible(m);
+            final GradientFieldMatrix b   = (GradientFieldMatrix) m;
+            checkParameters(b.parameters);
+            final GradientFieldMatrix out = createMatrix(rows, columns);
+            for (int k = 0; k < values.length; ++k) {
+                out.values[k] = values[k] - b.values[k];
+            }
+            for (int k = 0; k < derivatives.length; ++k) {
+                out.derivatives[k] = derivatives[k] - b.derivatives[k];
+            }
+            return out;
+        } else {
+            return super.subtract(m);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public GradientFieldMatrix scalarAdd(final Gradient d) {
+        checkParameters(d);
+        final double              s   = d.getValue();
+        final double[]            ds  = d.getGradient();
+        final GradientFieldMatrix out = createMatrix(rows, columns);
+        for (int k = 0; k < values.length; ++k) {
+            out.values[k] = values[k] + s;
+        }
+        for (int l = 0; l < parameters; ++l) {
+            final int start = l * values.length;
+            for (int k = 0; k < values.length; ++k) {
+                out.derivatives[start + k] = derivatives[start + k] + ds[l];
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public GradientFieldMatrix scalarMultiply(final Gradient d) {
+        checkParameters(d);
+        final double              s   = d.getValue();
+        final double[]            ds  = d.getGradient();
+        final GradientFieldMatrix out = createMatrix(rows, columns);
+        for (int k = 0; k < values.length; ++k) {
+            out.values[k] = values[k] * s;
+        }
+        for (int l = 0; l < parameters; ++l) {
+            final int    start = l * values.length;
+            final double dsl   = ds[l];
+            for (int k = 0; k < values.length; ++k) {
+                out.derivatives[start + k] = derivatives[start + k] * s + values[k] * dsl;
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FieldMatrix<Gradient> multiply(final FieldMatrix<Gradient> m)
+        throws MathIllegalArgumentException {
+        if (m instanceof GradientFieldMatrix) {
+            checkMultiplicationCompatible(m);
+            final GradientFieldMatrix b     = (GradientFieldMatrix) m;
+            checkParameters(b.parameters);
+            final int                 nCols = b.columns;
+            final GradientFieldMatrix out   = new GradientFieldMatrix(rows, nCols, parameters);
+            final int                 aSize = values.length;
+            final int                 bSize = b.values.length;
+            final int                 oSize = out.values.length;
+            for (int i = 0; i < rows; ++i) {
+                for (int k = 0; k < columns; ++k) {
+                    // row-oriented accumulation keeps the inner loops on contiguous memory
+                    final int    ik     = i * columns + k;
+                    final double aik    = values[ik];
+                    final int    bStart = k * nCols;
+                    final int    oStart = i * nCols;
+                    for (int j = 0; j < nCols; ++j) {
+                        out.values[oStart + j] += aik * b.values[bStart + j];
+                    }
+                    // product rule: d(AB) = dA B + A dB, one derivative plane at a time
+                    for (int l = 0; l < parameters; ++l) {
+                        final double daik = derivatives[l * aSize + ik];
+                        final int    dbl  = l * bSize + bStart;
+                        final int    dol  = l * oSize + oStart;
+                        for (int j = 0; j < nCols; ++j) {
+                            out.derivatives[dol + j] += daik * b.values[bStart + j] +
+                                                        aik * b.derivatives[dbl + j];
+                        }
+                    }
+                }
+            }
+            return out;
+        } else {
+            return super.multiply(m);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public GradientFieldMatrix transpose() {
+        final GradientFieldMatrix out = new GradientFieldMatrix(columns, rows, parameters);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                final int k  = i * columns + j;
+                final int kt = j * rows + i;
+                out.values[kt] = values[k];
+                for (int l = 0; l < parameters; ++l) {
+                    out.derivatives[l * values.length + kt] = derivatives[l * values.length + k];
+                }
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Gradient[] operate(final Gradient[] v) throws MathIllegalArgumentException {
+        if (v.length != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, columns);
+        }
+        final double[] x  = new double[columns];
+        final double[] dx = new double[columns * parameters];
+        unpack(v, x, dx);
+        final Gradient[] out = MathArrays.buildArray(getField(), rows);
+        for (int i = 0; i < rows; ++i) {
+            final int start = i * columns;
+            double    sum   = 0;
+            for (int j = 0; j < columns; ++j) {
+                sum += values[start + j] * x[j];
+            }
+            final double[] dSum = new double[parameters];
+            for (int l = 0; l < parameters; ++l) {
+                final int aStart = l * values.length + start;
+                final int xStart = l * columns;
+                double    dl     = 0;
+                for (int j = 0; j < columns; ++j) {
+                    dl += derivatives[aStart + j] * x[j] + values[start + j] * dx[xStart + j];
+                }
+                dSum[l] = dl;
+            }
+            out[i] = new Gradient(sum, dSum);
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Gradient[] preMultiply(final Gradient[] v) throws MathIllegalArgumentException {
+        if (v.length != rows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, rows);
+        }
+        final double[] x  = new double[rows];
+        final double[] dx = new double[rows * parameters];
+        unpack(v, x, dx);
+        final double[] sum  = new double[columns];
+        final double[] dSum = new double[columns * parameters];
+        for (int i = 0; i < rows; ++i) {
+            final double xi    = x[i];
+            final int    start = i * columns;
+            for (int j = 0; j < columns; ++j) {
+                sum[j] += xi * values[start + j];
+            }
+            for (int l = 0; l < parameters; ++l) {
+                final double dxi    = dx[l * rows + i];
+                final int    aStart = l * values.length + start;
+                final int    sStart = l * columns;
+                for (int j = 0; j < columns; ++j) {
+                    dSum[sStart + j] += dxi * values[start + j] + xi * derivatives[aStart + j];
+                }
+            }
+        }
+        final Gradient[] out = MathArrays.buildArray(getField(), columns);
+        for (int j = 0; j < columns; ++j) {
+            final double[] gradient = new double[parameters];
+            for (int l = 0; l < parameters; ++l) {
+                gradient[l] = dSum[l * columns + j];
+            }
+            out[j] = new Gradient(sum[j], gradient);
+        }
+        return out;
+    }
+
+    /** Unpack an array of gradients into primitive arrays.
+     * @param v gradients to unpack
+     * @param x placeholder for the values
+     * @param dx placeholder for the partial derivatives, one plane per parameter
+     * @throws MathIllegalArgumentException if the number of free parameters does not match
+     */
+    private void unpack(final Gradient[] v, final double[] x, final double[] dx)
+        throws MathIllegalArgumentException {
+        for (int i = 0; i < v.length; ++i) {
+            checkParameters(v[i]);
+            x[i] = v[i].getValue();
+            for (int l = 0; l < parameters; ++l) {
+                dx[l * v.length + i] = v[i].getPartialDerivative(l);
+            }
+        }
+    }
+
+    /** Check the number of free parameters of an element.
+     * @param g element to check
+     * @throws MathIllegalArgumentException if the number of free parameters does not match
+     */
+    private void checkParameters(final Gradient g) throws MathIllegalArgumentException {
+        checkParameters(g.getFreeParameters());
+    }
+
+    /** Check a number of free parameters.
+     * @param freeParameters number of free parameters to check
+     * @throws MathIllegalArgumentException if the number of free parameters does not match
+     */
+    private void checkParameters(final int freeParameters) throws MathIllegalArgumentException {
+        if (freeParameters != parameters) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   freeParameters, parameters);
+        }
+    }
+
+}
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Incomplete Cholesky preconditioner with zero fill-in, IC(0).
+ * <p>
+ * The preconditioner is M = L L<sup>T</sup> where L is lower triangular and
+ * has the same sparsity pattern as the lower triangular part of the symmetric
+ * matrix A, all fill-in being dropped during factorization. Applying the
+ * preconditioner to a vector therefore costs one forward and one backward
+ * sparse substitution.
+ * </p>
+ * <p>
+ * Only the lower triangular part of A is used, symmetry is not checked.
+ * Incomplete factorization may break down even for positive definite matrices,
+ * in this case a diagonal shift can be used, i.e. the factorization is
+ * performed on A + &alpha; diag(A) with a small positive &alpha;.
+ * </p>
+ * <p>
+ * This preconditioner is symmetric positive definite, hence suitable for
+ * {@link ConjugateGradient} and {@link SymmLQ}.
+ * </p>
+ * @see IncompleteLUPreconditioner
+ * @see SSORPreconditioner
+ * @since 4.0
+ */
+public class IncompleteCholeskyPreconditioner implements RealLinearOperator {
+
+    /** Rows pointers of the factor (diagonal is the last entry of each row). */
+    private final int[] lPointers;
+
+    /** Columns indices of the factor. */
+    private final int[] lIndices;
+
+    /** Values of the factor. */
+    private final double[] lValues;
+
+    /** Simple constructor.
+     * @param matrix symmetric matrix to precondition (only its lower
+     * triangular part is used)
+     * @exception MathIllegalArgumentException if matrix is not square or
+     * if incomplete factorization breaks down
+     */
+    public IncompleteCholeskyPreconditioner(final RealMatrix matrix)
+        throws MathIllegalArgumentException {
+        this(matrix, 0.0);
+    }
+
+    /** Simple constructor.
+     * @param matrix symmetric matrix to precondition (only its lower
+     * triangular part is used)
+     * @param shift relative diagonal shift &alpha; (factorization is performed
+     * on A + &alpha; diag(A))
+     * @exception MathIllegalArgumentException if matrix is not square,
+     * if shift is negative or if incomplete factorization breaks down
+     */
+    public IncompleteCholeskyPreconditioner(final RealMatrix matrix, final double shift)
+        throws MathIllegalArgumentException {
+
+        if (!matrix.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension());
+        }
+        if (shift < 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, shift, 0);
+        }
+
+        final CompressedRowRealMatrix a = CompressedRowRealMatrix.compress(matrix);
+        final int      n        = a.getRowDimension();
+        final int[]    pointers = a.getPointersRef();
+        final int[]    indices  = a.getIndicesRef();
+        final double[] values   = a.getValuesRef();
+
+        // set up the pattern: strictly lower part of A, then the diagonal
+        lPointers = new int[n + 1];
+        for (int i = 0; i < n; ++i) {
+            int count = 1;
+            for (int p = pointers[i]; p < pointers[i + 1] && indices[p] < i; ++p) {
+                ++count;
+            }
+            lPointers[i + 1] = lPointers[i] + count;
+        }
+        lIndices = new int[lPointers[n]];
+        lValues  = new double[lPointers[n]];
+        for (int i = 0; i < n; ++i) {
+            int q = lPointers[i];
+            final int diag = lPointers[i + 1] - 1;
+            for (int p = pointers[i]; p < pointers[i + 1] && indices[p] <= i; ++p) {
+                if (indices[p] < i) {
+                    lIndices[q]   = indices[p];
+                    lValues[q++]  = values[p];
+                } else {
+                    lValues[diag] = values[p] * (1 + shift);
+                }
+            }
+            lIndices[diag] = i;
+        }
+
+        // row-oriented factorization
+        for (int i = 0; i < n; ++i) {
+            final int start = lPointers[i];
+            final int diag  = lPointers[i + 1] - 1;
+            double d = lValues[diag];
+            for (int p = start; p < diag; ++p) {
+                final int j    = lIndices[p];
+                final int endJ = lPointers[j + 1] - 1;
+                double sum = lValues[p];
+                // sparse dot product of the already computed parts of rows i and j
+                int pi = start;
+                int pj = lPointers[j];
+                while (pi < p && pj < endJ) {
+                    final int ci = lIndices[pi];
+                    final int cj = lIndices[pj];
+                    if (ci == cj) {
+                        sum -= lValues[pi++] * lValues[pj++];
+                    } else if (ci < cj) {
+                        ++pi;
+                    } else {
+                        ++pj;
+                    }
+                }
+                final double lij = sum / lValues[endJ];
+                lValues[p] = lij;
+                d -= lij * lij;
+            }
+            if (!(d > 0)) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+            }
+            lValues[diag] = FastMath.sqrt(d);
+        }
+
+    }
+
+    /** Get the incomplete factor L.
+     * @return incomplete factor L
+     */
+    public CompressedRowRealMatrix getL() {
+        return new CompressedRowRealMatrix(lPointers.length - 1, lPointers, lIndices, lValues);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return lPointers.length - 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return lPointers.length - 1;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector x) throws MathIllegalArgumentException {
+        MathUtils.checkDimension(x.getDimension(), lPointers.length - 1);
+        final double[] y = x.toArray();
+        solveInPlace(y);
+        return new ArrayRealVector(y, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector x, final RealVector out) throws MathIllegalArgumentException {
+        final int n = lPointers.length - 1;
+        MathUtils.checkDimension(x.getDimension(), n);
+        MathUtils.checkDimension(out.getDimension(), n);
+        if (out instanceof ArrayRealVector) {
+            // solve directly in the destination storage
+            final double[] y = ((ArrayRealVector) out).getDataRef();
+            if (x instanceof ArrayRealVector) {
+                System.arraycopy(((ArrayRealVector) x).getDataRef(), 0, y, 0, n);
+            } else {
+                for (int i = 0; i < n; ++i) {
+                    y[i] = x.getEntry(i);
+                }
+            }
+            solveInPlace(y);
+        } else {
+            out.setSubVector(0, operate(x));
+        }
+        return out;
+    }
+
+    /** Solve L L<sup>T</sup> z = y in place.
+     * @param y right hand side on input, solution on output
+     */
+    private void solveInPlace(final double[] y) {
+
+        final int n = y.length;
+
+        // forward substitution L y = x
+        for (int i = 0; i < n; ++i) {
+            final int diag = lPointers[i + 1] - 1;
+            double sum = y[i];
+            for (int p = lPointers[i]; p < diag; ++p) {
+                sum -= lValues[p] * y[lIndices[p]];
+            }
+            y[i] = sum / lValues[diag];
+        }
+
+        // backward substitution L^T z = y
+        for (int i = n - 1; i >= 0; --i) {
+            final int diag = lPointers[i + 1] - 1;
+            final double zi = y[i] / lValues[diag];
+            y[i] = zi;
+            for (int p = lPointers[i]; p < diag; ++p) {
+                y[lIndices[p]] -= lValues[p] * zi;
+            }
+        }
+
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * As the preconditioner is symmetric, this is the same as {@link #operate(RealVector)}.
+     * </p>
+     */
+    @Override
+    public RealVector operateTranspose(final RealVector x) throws MathIllegalArgumentException {
+        return operate(x);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isTransposable() {
+        return true;
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Incomplete LU preconditioner with zero fill-in, ILU(0).
+ * <p>
+ * The preconditioner is M = L U where L is unit lower triangular, U is upper
+ * triangular and both share the sparsity pattern of the matrix A, all fill-in
+ * being dropped during factorization. No pivoting is performed, so all
+ * diagonal entries of A must be present in its sparsity pattern. Applying the
+ * preconditioner to a vector costs one forward and one backward sparse
+ * substitution.
+ * </p>
+ * <p>
+ * This preconditioner is not symmetric, it is intended for solvers
+ * handling general matrices.
+ * </p>
+ * @see IncompleteCholeskyPreconditioner
+ * @see SSORPreconditioner
+ * @since 4.0
+ */
+public class IncompleteLUPreconditioner implements RealLinearOperator {
+
+    /** Rows pointers of the factors. */
+    private final int[] pointers;
+
+    /** Columns indices of the factors. */
+    private final int[] indices;
+
+    /** Positions of the diagonal entries. */
+    private final int[] diagonal;
+
+    /** Values of both factors (unit diagonal of L is not stored). */
+    private final double[] values;
+
+    /** Simple constructor.
+     * @param matrix matrix to precondition
+     * @exception MathIllegalArgumentException if matrix is not square or
+     * if a zero pivot is encountered
+     */
+    public IncompleteLUPreconditioner(final RealMatrix matrix)
+        throws MathIllegalArgumentException {
+
+        if (!matrix.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension());
+        }
+
+        final CompressedRowRealMatrix a = CompressedRowRealMatrix.compress(matrix);
+        final int n = a.getRowDimension();
+        pointers = a.getPointersRef();
+        indices  = a.getIndicesRef();
+        values   = a.getValuesRef().clone();
+
+        // locate diagonal entries
+        diagonal = new int[n];
+        for (int i = 0; i < n; ++i) {
+            final int p = Arrays.binarySearch(indices, pointers[i], pointers[i + 1], i);
+            if (p < 0) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+            diagonal[i] = p;
+        }
+
+        // IKJ variant of Gaussian elimination restricted to the pattern of A
+        final int[] position = new int[n];
+        Arrays.fill(position, -1);
+        for (int i = 0; i < n; ++i) {
+            for (int p = pointers[i]; p < pointers[i + 1]; ++p) {
+                position[indices[p]] = p;
+            }
+            for (int p = pointers[i]; p < diagonal[i]; ++p) {
+                final int    k   = indices[p];
+                final double lik = values[p] / values[diagonal[k]];
+                values[p] = lik;
+                for (int q = diagonal[k] + 1; q < pointers[k + 1]; ++q) {
+                    final int target = position[indices[q]];
+                    if (target >= 0) {
+                        values[target] -= lik * values[q];
+                    }
+                }
+            }
+            if (values[diagonal[i]] == 0.0) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+            for (int p = pointers[i]; p < pointers[i + 1]; ++p) {
+                position[indices[p]] = -1;
+            }
+        }
+
+    }
+
+    /** Get the incomplete unit lower triangular factor L.
+     * @return incomplete factor L
+     */
+    public CompressedRowRealMatrix getL() {
+        final int n = diagonal.length;
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n, values.length);
+        for (int i = 0; i < n; ++i) {
+            for (int p = pointers[i]; p < diagonal[i]; ++p) {
+                builder.addEntry(i, indices[p], values[p]);
+            }
+            builder.addEntry(i, i, 1.0);
+        }
+        return builder.buildCompressedRow();
+    }
+
+    /** Get the incomplete upper triangular factor U.
+     * @return incomplete factor U
+     */
+    public CompressedRowRealMatrix getU() {
+        final int n = diagonal.length;
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n, values.length);
+        for (int i = 0; i < n; ++i) {
+            for (int p = diagonal[i]; p < pointers[i + 1]; ++p) {
+                builder.addEntry(i, indices[p], values[p]);
+            }
+        }
+        return builder.buildCompressedRow();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return diagonal.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return diagonal.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector x) throws MathIllegalArgumentException {
+        MathUtils.checkDimension(x.getDimension(), diagonal.length);
+        final double[] y = x.toArray();
+        solveInPlace(y);
+        return new ArrayRealVector(y, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector x, final RealVector out) throws MathIllegalArgumentException {
+        final int n = diagonal.length;
+        MathUtils.checkDimension(x.getDimension(), n);
+        MathUtils.checkDimension(out.getDimension(), n);
+        if (out instanceof ArrayRealVector) {
+            // solve directly in the destination storage
+            final double[] y = ((ArrayRealVector) out).getDataRef();
+            if (x instanceof ArrayRealVector) {
+                System.arraycopy(((ArrayRealVector) x).getDataRef(), 0, y, 0, n);
+            } else {
+                for (int i = 0; i < n; ++i) {
+                    y[i] = x.getEntry(i);
+                }
+            }
+            solveInPlace(y);
+        } else {
+            out.setSubVector(0, operate(x));
+        }
+        return out;
+    }
+
+    /** Solve L U z = y in place.
+     * @param y right hand side on input, solution on output
+     */
+    private void solveInPlace(final double[] y) {
+
+        final int n = y.length;
+
+        // forward substitution L y = x
+        for (int i = 0; i < n; ++i) {
+            double sum = y[i];
+            for (int p = pointers[i]; p < diagonal[i]; ++p) {
+                sum -= values[p] * y[indices[p]];
+            }
+            y[i] = sum;
+        }
+
+        // backward substitution U z = y
+        for (int i = n - 1; i >= 0; --i) {
+            double sum = y[i];
+            for (int p = diagonal[i] + 1; p < pointers[i + 1]; ++p) {
+                sum -= values[p] * y[indices[p]];
+            }
+            y[i] = sum / values[diagonal[i]];
+        }
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operateTranspose(final RealVector x) throws MathIllegalArgumentException {
+
+        final int n = diagonal.length;
+        MathUtils.checkDimension(x.getDimension(), n);
+        final double[] y = x.toArray();
+
+        // forward substitution U^T y = x
+        for (int i = 0; i < n; ++i) {
+            final double yi = y[i] / values[diagonal[i]];
+            y[i] = yi;
+            for (int p = diagonal[i] + 1; p < pointers[i + 1]; ++p) {
+                y[indices[p]] -= values[p] * yi;
+            }
+        }
+
+        // backward substitution L^T z = y
+        for (int i = n - 1; i >= 0; --i) {
+            final double zi = y[i];
+            for (int p = pointers[i]; p < diagonal[i]; ++p) {
+                y[indices[p]] -= values[p] * zi;
+            }
+        }
+
+        return new ArrayRealVector(y, false);
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isTransposable() {
+        return true;
+    }
+
+}
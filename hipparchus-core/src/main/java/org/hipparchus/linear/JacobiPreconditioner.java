@@ -106,6 +106,13 @@ public class JacobiPreconditioner implements RealLinearOperator {
                                    false);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector x, final RealVector out) {
+        // Dimension checks are carried out by ebeDivide
+        return x.ebeDivide(diag, out);
+    }
+
     /**
      * Returns the square root of {@code this} diagonal operator. More
      * precisely, this method returns
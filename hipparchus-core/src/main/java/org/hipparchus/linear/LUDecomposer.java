@@ -17,27 +17,63 @@
 
 package org.hipparchus.linear;
 
+import java.util.concurrent.ForkJoinPool;
+
 /** Matrix decomposer using LU-decomposition.
+ * <p>
+ * Small matrices are decomposed using {@link LUDecomposition}, whereas
+ * matrices with dimension at least {@link #BLOCKED_DIMENSION_THRESHOLD}
+ * are decomposed using the cache-blocked {@link BlockLUDecomposition}.
+ * </p>
  * @since 1.3
  */
 public class LUDecomposer implements MatrixDecomposer {
 
+    /** Dimension above which the cache-blocked algorithm is used.
+     * @since 4.0
+     */
+    public static final int BLOCKED_DIMENSION_THRESHOLD = 4 * BlockRealMatrix.BLOCK_SIZE;
+
     /** Threshold under which a matrix is considered singular. */
     private final double singularityThreshold;
 
+    /** Pool for the cache-blocked algorithm (may be null). */
+    private final ForkJoinPool pool;
+
     /**
      * Creates a LU decomposer with specify threshold for several matrices.
+     * <p>
+     * Large matrices decomposed by this decomposer will be decomposed
+     * in the calling thread only.
+     * </p>
      * @param singularityThreshold threshold (based on partial row norm)
      * under which a matrix is considered singular
      */
     public LUDecomposer(final double singularityThreshold) {
+        this(singularityThreshold, null);
+    }
+
+    /**
+     * Creates a LU decomposer with specify threshold for several matrices.
+     * @param singularityThreshold threshold (based on partial row norm)
+     * under which a matrix is considered singular
+     * @param pool pool in which the block updates of large matrices
+     * should be run (if null, everything is run in the calling thread)
+     * @since 4.0
+     */
+    public LUDecomposer(final double singularityThreshold, final ForkJoinPool pool) {
         this.singularityThreshold = singularityThreshold;
+        this.pool                 = pool;
     }
 
     /** {@inheritDoc} */
     @Override
     public DecompositionSolver decompose(final RealMatrix a) {
-        return new LUDecomposition(a, singularityThreshold).getSolver();
+        if (a.getRowDimension() >= BLOCKED_DIMENSION_THRESHOLD) {
+            return new BlockLUDecomposition(a, singularityThreshold, pool).getSolver();
+        } else {
+            return new LUDecomposition(a, singularityThreshold).getSolver();
+        }
     }
 
 }
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937c;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.hipparchus.util.Precision;
+
+/**
+ * Partial eigen decomposition of a large symmetric linear operator.
+ * <p>
+ * This class computes the \(k\) algebraically largest eigenvalues and the
+ * associated eigenvectors of a symmetric {@link RealLinearOperator}, which
+ * may be a sparse matrix or a matrix-free operator. Only products
+ * \(A x\) are used, the operator is never densified, and the memory needed
+ * is proportional to \(n\) times the size of the Krylov subspace.
+ * </p>
+ * <p>
+ * The algorithm is the restarted Lanczos method with full reorthogonalization.
+ * Restarts are done using the thick restart scheme of Wu and Simon (Thick-Restart
+ * Lanczos Method for Large Symmetric Eigenvalue Problems, SIAM J. Matrix Anal. Appl.
+ * 22(2), 2000), which is mathematically equivalent to the implicitly restarted
+ * Lanczos method with exact shifts but simpler and more stable. The smallest
+ * eigenvalues can be computed by applying this class to \(-A\), eigenvalues near
+ * a target \(\sigma\) by applying it to \((A - \sigma I)^{-1}\).
+ * </p>
+ * <p>
+ * Symmetry of the operator is <em>not</em> checked, it is the responsibility of
+ * the caller. Non-symmetric operators should use {@link ArnoldiEigenDecomposition}.
+ * </p>
+ * @see EigenDecompositionSymmetric
+ * @see ArnoldiEigenDecomposition
+ * @since 4.0
+ */
+public class LanczosEigenDecomposition {
+
+    /** Default relative tolerance on the Ritz pairs residuals. */
+    public static final double DEFAULT_TOLERANCE = 1.0e-10;
+
+    /** Default maximum number of restarts. */
+    public static final int DEFAULT_MAX_RESTARTS = 1000;
+
+    /** Magnitude below which residuals are considered absolute rather than relative. */
+    static final double EPS23 = FastMath.pow(Precision.EPSILON, 2.0 / 3.0);
+
+    /** Seed for default random generator. */
+    private static final long DEFAULT_SEED = 0x5c1a9d2e7f4b3068L;
+
+    /** Eigenvalues, in decreasing order. */
+    private final double[] eigenvalues;
+
+    /** Eigenvectors. */
+    private final ArrayRealVector[] eigenvectors;
+
+    /** Number of restarts performed. */
+    private final int restarts;
+
+    /** Number of operator products performed. */
+    private final int products;
+
+    /** Compute the k largest eigenpairs of a symmetric operator, using default settings.
+     * <p>
+     * This constructor uses a subspace size of {@code min(n, max(2k + 1, 20))},
+     * {@link #DEFAULT_TOLERANCE}, {@link #DEFAULT_MAX_RESTARTS} and a
+     * fixed-seed random generator for the start vector, so results are reproducible.
+     * </p>
+     * @param a symmetric operator
+     * @param k number of eigenpairs to compute
+     * @exception MathIllegalArgumentException if operator is not square or
+     * k is not between 1 and operator dimension
+     * @exception MathIllegalStateException if convergence is not reached
+     */
+    public LanczosEigenDecomposition(final RealLinearOperator a, final int k)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+        this(a, k, defaultSubspaceSize(a, k), DEFAULT_TOLERANCE, DEFAULT_MAX_RESTARTS,
+             new Well19937c(DEFAULT_SEED));
+    }
+
+    /** Compute the k largest eigenpairs of a symmetric operator.
+     * @param a symmetric operator
+     * @param k number of eigenpairs to compute
+     * @param subspaceSize size of the Krylov subspace built between restarts
+     * (must be at least k + 1 and at most operator dimension, a size of about
+     * 2k is a good compromise between memory and convergence speed)
+     * @param tolerance relative tolerance on the Ritz pairs residuals
+     * @param maxRestarts maximum number of restarts
+     * @param random generator for the start vector
+     * @exception MathIllegalArgumentException if operator is not square,
+     * k is not between 1 and operator dimension or subspace size is out of range
+     * @exception MathIllegalStateException if convergence is not reached after
+     * the maximum number of restarts
+     */
+    public LanczosEigenDecomposition(final RealLinearOperator a, final int k,
+                                     final int subspaceSize, final double tolerance,
+                                     final int maxRestarts, final RandomGenerator random)
+        throws MathIllegalArgumentException, MathIllegalStateException {
+
+        final int n = checkDimensions(a, k, subspaceSize);
+        final int m = subspaceSize;
+
+        final ArnoldiProcess process = new ArnoldiProcess(a, m, true, random);
+        process.expand(0);
+
+        int restart = 0;
+        while (true) {
+
+            // Ritz pairs of the current subspace
+            final EigenDecompositionSymmetric ritz =
+                            new EigenDecompositionSymmetric(new SymmetricRealMatrix(new Array2DRowRealMatrix(process.getHessenberg(), false)));
+            final double[] theta = ritz.getEigenvalues();
+            final double   beta  = process.getResidualNorm();
+
+            // check convergence of the wanted pairs
+            boolean converged = true;
+            for (int i = 0; i < k && converged; ++i) {
+                final double residual = FastMath.abs(beta * ritz.getEigenvector(i).getEntry(m - 1));
+                converged = residual <= tolerance * FastMath.max(FastMath.abs(theta[i]), EPS23);
+            }
+            if (converged || m == n) {
+                eigenvalues  = new double[k];
+                eigenvectors = new ArrayRealVector[k];
+                final double[][] v = process.getBasisRef();
+                for (int i = 0; i < k; ++i) {
+                    eigenvalues[i]  = theta[i];
+                    eigenvectors[i] = combine(v, ritz.getEigenvector(i), n);
+                }
+                restarts = restart;
+                products = process.getProducts();
+                return;
+            }
+
+            if (++restart > maxRestarts) {
+                throw new MathIllegalStateException(LocalizedCoreFormats.MAX_COUNT_EXCEEDED, maxRestarts);
+            }
+
+            // thick restart: keep the l best Ritz vectors, coupled to the residual
+            final int l = k + (m - k) / 2;
+            final double[][] coefficients = new double[m][l];
+            final double[][] hl           = new double[l][l];
+            final double[]   g            = new double[l];
+            for (int i = 0; i < l; ++i) {
+                final RealVector s = ritz.getEigenvector(i);
+                for (int j = 0; j < m; ++j) {
+                    coefficients[j][i] = s.getEntry(j);
+                }
+                hl[i][i] = theta[i];
+                g[i]     = s.getEntry(m - 1);
+            }
+            final double[] d = new double[m + 1];
+            d[m] = beta;
+            process.restart(coefficients, hl, d, g);
+            process.expand(l);
+
+        }
+
+    }
+
+    /** Get the default subspace size.
+     * @param a operator
+     * @param k number of eigenpairs to compute
+     * @return default subspace size
+     */
+    static int defaultSubspaceSize(final RealLinearOperator a, final int k) {
+        return FastMath.min(a.getColumnDimension(), FastMath.max(2 * k + 1, 20));
+    }
+
+    /** Check operator and subspace dimensions.
+     * @param a operator
+     * @param k number of eigenpairs to compute
+     * @param subspaceSize size of the Krylov subspace
+     * @return operator dimension
+     * @exception MathIllegalArgumentException if dimensions are inconsistent
+     */
+    static int checkDimensions(final RealLinearOperator a, final int k, final int subspaceSize)
+        throws MathIllegalArgumentException {
+        final int n = a.getColumnDimension();
+        if (a.getRowDimension() != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_OPERATOR,
+                                                   a.getRowDimension(), n);
+        }
+        MathUtils.checkRangeInclusive(k, 1, n);
+        MathUtils.checkRangeInclusive(subspaceSize, FastMath.min(k + 1, n), n);
+        return n;
+    }
+
+    /** Combine basis vectors.
+     * @param v basis vectors
+     * @param s coefficients
+     * @param n vectors dimension
+     * @return linear combination of the basis vectors
+     */
+    private static ArrayRealVector combine(final double[][] v, final RealVector s, final int n) {
+        final double[] x = new double[n];
+        for (int j = 0; j < s.getDimension(); ++j) {
+            final double sj = s.getEntry(j);
+            final double[] vj = v[j];
+            for (int r = 0; r < n; ++r) {
+                x[r] += sj * vj[r];
+            }
+        }
+        return new ArrayRealVector(x, false);
+    }
+
+    /** Get the number of computed eigenpairs.
+     * @return number of computed eigenpairs
+     */
+    public int getCount() {
+        return eigenvalues.length;
+    }
+
+    /** Get the computed eigenvalues.
+     * @return computed eigenvalues, in decreasing order
+     */
+    public double[] getEigenvalues() {
+        return eigenvalues.clone();
+    }
+
+    /** Get one computed eigenvalue.
+     * @param i index of the eigenvalue (eigenvalues are in decreasing order)
+     * @return i<sup>th</sup> largest eigenvalue
+     */
+    public double getEigenvalue(final int i) {
+        return eigenvalues[i];
+    }
+
+    /** Get one computed eigenvector.
+     * @param i index of the eigenvector (eigenvalues are in decreasing order)
+     * @return normalized eigenvector associated with the i<sup>th</sup> largest eigenvalue
+     */
+    public RealVector getEigenvector(final int i) {
+        return eigenvectors[i].copy();
+    }
+
+    /** Get the matrix whose columns are the computed eigenvectors.
+     * @return n x k matrix whose columns are the computed eigenvectors
+     */
+    public RealMatrix getV() {
+        final RealMatrix v = MatrixUtils.createRealMatrix(eigenvectors[0].getDimension(), eigenvectors.length);
+        for (int i = 0; i < eigenvectors.length; ++i) {
+            v.setColumnVector(i, eigenvectors[i]);
+        }
+        return v;
+    }
+
+    /** Get the diagonal matrix of computed eigenvalues.
+     * @return k x k diagonal matrix of computed eigenvalues
+     */
+    public RealMatrix getD() {
+        return MatrixUtils.createRealDiagonalMatrix(eigenvalues);
+    }
+
+    /** Get the number of restarts performed.
+     * @return number of restarts performed
+     */
+    public int getRestarts() {
+        return restarts;
+    }
+
+    /** Get the number of operator products performed.
+     * @return number of operator products performed
+     */
+    public int getOperatorProducts() {
+        return products;
+    }
+
+}
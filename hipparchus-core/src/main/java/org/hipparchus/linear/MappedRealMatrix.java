@@ -0,0 +1,792 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Out-of-core matrix whose entries are stored in a memory-mapped file.
+ * <p>
+ * This matrix is intended for matrices too large to fit in the Java heap,
+ * typically tall design matrices used in least squares problems. Its entries
+ * are stored in a file that is mapped in memory, so the operating system
+ * loads and evicts pages as needed. The entries are laid out in square blocks
+ * exactly as in {@link BlockRealMatrix}: the matrix is split in blocks of
+ * {@link #BLOCK_SIZE} x {@link #BLOCK_SIZE} entries (smaller at right and
+ * bottom), blocks are stored in row major order, and the entries within each
+ * block are also stored in row major order.
+ * </p>
+ * <p>
+ * The {@link #operate(double[]) operate}, {@link #preMultiply(double[])
+ * preMultiply}, {@link #multiply(RealMatrix) multiply} and {@link
+ * #transposeMultiply(RealMatrix) transposeMultiply} methods stream through
+ * the file once, one block at a time, and never need the whole matrix in the heap.
+ * Methods that create new matrices ({@link #copy()}, {@link #createMatrix(int, int)},
+ * {@link #multiply(RealMatrix)}...) return in-heap {@link BlockRealMatrix}
+ * instances; in order to build another out-of-core matrix, use the destination
+ * variant {@link #multiply(RealMatrix, RealMatrix)} with a mapped destination.
+ * </p>
+ * <p>
+ * The file format is a 32 bytes header (magic number, format version, block
+ * size, row and column dimensions) followed by the entries as little endian
+ * IEEE754 doubles. It can be written by {@link #create(Path, RealMatrix)} and
+ * read back by {@link #open(Path, boolean)} without any parsing, so it is also
+ * a fast way to persist and reload matrices without Java serialization.
+ * </p>
+ * <p>
+ * The file is split in several mappings of at most 1GB each (but always
+ * holding complete rows of blocks), so the matrix size is limited only by the
+ * file system and the address space. Changes are written back to the file by
+ * the operating system; {@link #force()} can be used to write them synchronously.
+ * </p>
+ * @see BlockRealMatrix
+ * @since 4.0
+ */
+public class MappedRealMatrix extends AbstractRealMatrix implements Closeable {
+
+    /** Block size. */
+    public static final int BLOCK_SIZE = BlockRealMatrix.BLOCK_SIZE;
+
+    /** Magic number at file start ("HIPMATRX" in ASCII). */
+    private static final long MAGIC = 0x4849504d41545258L;
+
+    /** File format version. */
+    private static final int FORMAT_VERSION = 1;
+
+    /** Size of the header in bytes. */
+    private static final int HEADER_SIZE = 32;
+
+    /** Default target size of mappings in bytes. */
+    private static final long CHUNK_SIZE = 1L << 30;
+
+    /** Byte order of the file. */
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /** Path of the underlying file. */
+    private final Path file;
+
+    /** Channel to the underlying file. */
+    private final FileChannel channel;
+
+    /** Indicator for writable matrices. */
+    private final boolean writable;
+
+    /** Number of rows of the matrix. */
+    private final int rows;
+
+    /** Number of columns of the matrix. */
+    private final int columns;
+
+    /** Number of block rows of the matrix. */
+    private final int blockRows;
+
+    /** Number of block columns of the matrix. */
+    private final int blockColumns;
+
+    /** Number of block rows in each mapping. */
+    private final int blockRowsPerChunk;
+
+    /** Mappings. */
+    private final MappedByteBuffer[] mappings;
+
+    /** Entries of the mappings. */
+    private final DoubleBuffer[] chunks;
+
+    /** Simple constructor.
+     * @param file path of the underlying file
+     * @param channel channel to the underlying file
+     * @param writable if true, the file is mapped in read-write mode
+     * @param rows number of rows of the matrix
+     * @param columns number of columns of the matrix
+     * @param chunkSize target size of mappings in bytes
+     * @throws IOException if file cannot be mapped
+     * @throws MathIllegalArgumentException if one row of blocks does not fit in one mapping
+     */
+    private MappedRealMatrix(final Path file, final FileChannel channel, final boolean writable,
+                             final int rows, final int columns, final long chunkSize)
+        throws IOException, MathIllegalArgumentException {
+
+        super(rows, columns);
+        this.file         = file;
+        this.channel      = channel;
+        this.writable     = writable;
+        this.rows         = rows;
+        this.columns      = columns;
+        this.blockRows    = (rows    + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        this.blockColumns = (columns + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+        final long blockRowBytes = ((long) BLOCK_SIZE) * columns * Double.BYTES;
+        if (blockRowBytes > Integer.MAX_VALUE) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_LARGE,
+                                                   columns, Integer.MAX_VALUE / (BLOCK_SIZE * Double.BYTES));
+        }
+        this.blockRowsPerChunk = (int) FastMath.max(1, chunkSize / blockRowBytes);
+
+        final int nbChunks = (blockRows + blockRowsPerChunk - 1) / blockRowsPerChunk;
+        this.mappings = new MappedByteBuffer[nbChunks];
+        this.chunks   = new DoubleBuffer[nbChunks];
+        final FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        for (int c = 0; c < nbChunks; ++c) {
+            final long startRow = ((long) c) * blockRowsPerChunk * BLOCK_SIZE;
+            final long endRow   = FastMath.min(startRow + ((long) blockRowsPerChunk) * BLOCK_SIZE, rows);
+            mappings[c] = channel.map(mode,
+                                      HEADER_SIZE + startRow * columns * Double.BYTES,
+                                      (endRow - startRow) * columns * Double.BYTES);
+            chunks[c]   = mappings[c].order(ORDER).asDoubleBuffer();
+        }
+
+    }
+
+    /** Create a new file-backed matrix, with all entries set to zero.
+     * <p>
+     * If the file already exists, it is overwritten.
+     * </p>
+     * @param file path of the file to create
+     * @param rowDimension number of rows of the matrix
+     * @param columnDimension number of columns of the matrix
+     * @return new writable matrix
+     * @throws IOException if file cannot be created or mapped
+     * @throws MathIllegalArgumentException if dimensions are not positive
+     */
+    public static MappedRealMatrix create(final Path file, final int rowDimension, final int columnDimension)
+        throws IOException, MathIllegalArgumentException {
+        return create(file, rowDimension, columnDimension, CHUNK_SIZE);
+    }
+
+    /** Create a new file-backed matrix, with all entries set to zero.
+     * @param file path of the file to create
+     * @param rowDimension number of rows of the matrix
+     * @param columnDimension number of columns of the matrix
+     * @param chunkSize target size of mappings in bytes
+     * @return new writable matrix
+     * @throws IOException if file cannot be created or mapped
+     * @throws MathIllegalArgumentException if dimensions are not positive
+     */
+    static MappedRealMatrix create(final Path file, final int rowDimension, final int columnDimension,
+                                   final long chunkSize)
+        throws IOException, MathIllegalArgumentException {
+
+        if (rowDimension < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.AT_LEAST_ONE_ROW);
+        }
+        if (columnDimension < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.AT_LEAST_ONE_COLUMN);
+        }
+
+        final FileChannel channel = FileChannel.open(file,
+                                                     StandardOpenOption.CREATE,
+                                                     StandardOpenOption.TRUNCATE_EXISTING,
+                                                     StandardOpenOption.READ,
+                                                     StandardOpenOption.WRITE);
+        try {
+            // write header
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ORDER);
+            header.putLong(MAGIC).putInt(FORMAT_VERSION).putInt(BLOCK_SIZE);
+            header.putInt(rowDimension).putInt(columnDimension).putLong(0L);
+            ((Buffer) header).flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+
+            // extend file to its full size, the file system fills it with zeros
+            final long size = HEADER_SIZE + ((long) rowDimension) * columnDimension * Double.BYTES;
+            channel.write(ByteBuffer.allocate(1), size - 1);
+
+            return new MappedRealMatrix(file, channel, true, rowDimension, columnDimension, chunkSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+    }
+
+    /** Create a new file-backed matrix, with entries copied from another matrix.
+     * <p>
+     * If the file already exists, it is overwritten. The matrix is copied one
+     * block at a time, so the source matrix may itself be a file-backed matrix
+     * larger than the heap.
+     * </p>
+     * @param file path of the file to create
+     * @param m matrix to copy
+     * @return new writable matrix
+     * @throws IOException if file cannot be created or mapped
+     */
+    public static MappedRealMatrix create(final Path file, final RealMatrix m)
+        throws IOException {
+        final MappedRealMatrix mapped = create(file, m.getRowDimension(), m.getColumnDimension());
+        final double[][] tile  = new double[BLOCK_SIZE][BLOCK_SIZE];
+        final double[]   block = new double[BLOCK_SIZE * BLOCK_SIZE];
+        for (int iBlock = 0; iBlock < mapped.blockRows; ++iBlock) {
+            final int pStart  = iBlock * BLOCK_SIZE;
+            final int iHeight = mapped.blockHeight(iBlock);
+            for (int jBlock = 0; jBlock < mapped.blockColumns; ++jBlock) {
+                final int qStart = jBlock * BLOCK_SIZE;
+                final int jWidth = mapped.blockWidth(jBlock);
+                m.copySubMatrix(pStart, pStart + iHeight - 1, qStart, qStart + jWidth - 1, tile);
+                for (int p = 0; p < iHeight; ++p) {
+                    System.arraycopy(tile[p], 0, block, p * jWidth, jWidth);
+                }
+                mapped.writeBlock(iBlock, jBlock, block);
+            }
+        }
+        return mapped;
+    }
+
+    /** Open an existing file-backed matrix.
+     * @param file path of the file to open
+     * @param writable if true, the file is mapped in read-write mode and changes
+     * to the matrix are written back to the file, otherwise it is mapped in
+     * read-only mode and attempts to change the matrix trigger an exception
+     * @return matrix backed by the file
+     * @throws IOException if file cannot be opened or mapped
+     * @throws MathIllegalArgumentException if file is not a mapped matrix file
+     */
+    public static MappedRealMatrix open(final Path file, final boolean writable)
+        throws IOException, MathIllegalArgumentException {
+        return open(file, writable, CHUNK_SIZE);
+    }
+
+    /** Open an existing file-backed matrix.
+     * @param file path of the file to open
+     * @param writable if true, the file is mapped in read-write mode
+     * @param chunkSize target size of mappings in bytes
+     * @return matrix backed by the file
+     * @throws IOException if file cannot be opened or mapped
+     * @throws MathIllegalArgumentException if file is not a mapped matrix file
+     */
+    static MappedRealMatrix open(final Path file, final boolean writable, final long chunkSize)
+        throws IOException, MathIllegalArgumentException {
+
+        final FileChannel channel = writable ?
+                                    FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE) :
+                                    FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            // read header
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ORDER);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_A_MAPPED_MATRIX_FILE, file);
+                }
+            }
+            ((Buffer) header).flip();
+            final long magic     = header.getLong();
+            final int  version   = header.getInt();
+            final int  blockSize = header.getInt();
+            final int  nbRows    = header.getInt();
+            final int  nbColumns = header.getInt();
+            if (magic != MAGIC || version != FORMAT_VERSION || blockSize != BLOCK_SIZE ||
+                nbRows < 1 || nbColumns < 1 ||
+                channel.size() != HEADER_SIZE + ((long) nbRows) * nbColumns * Double.BYTES) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_A_MAPPED_MATRIX_FILE, file);
+            }
+
+            return new MappedRealMatrix(file, channel, writable, nbRows, nbColumns, chunkSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+
+    }
+
+    /** Get the path of the underlying file.
+     * @return path of the underlying file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /** Check if the matrix can be changed.
+     * @return true if the file is mapped in read-write mode
+     */
+    public boolean isWritable() {
+        return writable;
+    }
+
+    /** Force changes to be written to the underlying file.
+     * <p>
+     * This method does nothing for read-only matrices.
+     * </p>
+     */
+    public void force() {
+        if (writable) {
+            for (final MappedByteBuffer mapping : mappings) {
+                mapping.force();
+            }
+        }
+    }
+
+    /** Close the underlying file.
+     * <p>
+     * Changes are {@link #force() forced} to the file before it is closed.
+     * The matrix must not be used after having been closed. As Java does
+     * not provide any way to unmap files explicitly, the memory mapping itself
+     * is released only when the instance is garbage collected.
+     * </p>
+     * @throws IOException if file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The new matrix is an in-heap {@link BlockRealMatrix}.
+     * </p>
+     */
+    @Override
+    public RealMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return new BlockRealMatrix(rowDimension, columnDimension);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The copy is an in-heap {@link BlockRealMatrix}, use {@link #create(Path,
+     * RealMatrix)} to copy the matrix to another file.
+     * </p>
+     */
+    @Override
+    public BlockRealMatrix copy() {
+        final double[][] blocks = new double[blockRows * blockColumns][];
+        int index = 0;
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+                blocks[index] = new double[blockHeight(iBlock) * blockWidth(jBlock)];
+                readBlock(iBlock, jBlock, blocks[index++]);
+            }
+        }
+        return new BlockRealMatrix(rows, columns, blocks, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return chunk(row / BLOCK_SIZE).get(index(row, column));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int row, final int column, final double value)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        checkWritable();
+        chunk(row / BLOCK_SIZE).put(index(row, column), value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        checkWritable();
+        final DoubleBuffer chunk = chunk(row / BLOCK_SIZE);
+        final int          index = index(row, column);
+        chunk.put(index, chunk.get(index) + increment);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        checkWritable();
+        final DoubleBuffer chunk = chunk(row / BLOCK_SIZE);
+        final int          index = index(row, column);
+        chunk.put(index, chunk.get(index) * factor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] getRow(final int row) throws MathIllegalArgumentException {
+        MatrixUtils.checkRowIndex(this, row);
+        final double[]     out    = new double[columns];
+        final int          iBlock = row / BLOCK_SIZE;
+        final int          p      = row - iBlock * BLOCK_SIZE;
+        final DoubleBuffer view   = chunk(iBlock).duplicate();
+        for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+            final int jWidth = blockWidth(jBlock);
+            ((Buffer) view).position(blockStart(iBlock, jBlock) + p * jWidth);
+            view.get(out, jBlock * BLOCK_SIZE, jWidth);
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setRow(final int row, final double[] array)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkRowIndex(this, row);
+        MathUtils.checkDimension(array.length, columns);
+        checkWritable();
+        final int          iBlock = row / BLOCK_SIZE;
+        final int          p      = row - iBlock * BLOCK_SIZE;
+        final DoubleBuffer view   = chunk(iBlock).duplicate();
+        for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+            final int jWidth = blockWidth(jBlock);
+            ((Buffer) view).position(blockStart(iBlock, jBlock) + p * jWidth);
+            view.put(array, jBlock * BLOCK_SIZE, jWidth);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v) throws MathIllegalArgumentException {
+        return operate(v, new double[rows]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        if (v.length != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, columns);
+        }
+        MathUtils.checkDimension(out.length, rows);
+        final double[] in    = (out == v) ? v.clone() : v;
+        final double[] block = new double[BLOCK_SIZE * BLOCK_SIZE];
+        Arrays.fill(out, 0.0);
+
+        // stream through the file, one block at a time
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            final int pStart = iBlock * BLOCK_SIZE;
+            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+            for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+                readBlock(iBlock, jBlock, block);
+                final int qStart = jBlock * BLOCK_SIZE;
+                final int qEnd   = FastMath.min(qStart + BLOCK_SIZE, columns);
+                int k = 0;
+                for (int p = pStart; p < pEnd; ++p) {
+                    double sum = 0;
+                    for (int q = qStart; q < qEnd; ++q) {
+                        sum += block[k++] * in[q];
+                    }
+                    out[p] += sum;
+                }
+            }
+        }
+
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v) throws MathIllegalArgumentException {
+        return preMultiply(v, new double[columns]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        if (v.length != rows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, rows);
+        }
+        MathUtils.checkDimension(out.length, columns);
+        final double[] in    = (out == v) ? v.clone() : v;
+        final double[] block = new double[BLOCK_SIZE * BLOCK_SIZE];
+        Arrays.fill(out, 0.0);
+
+        // stream through the file, one block at a time
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            final int pStart = iBlock * BLOCK_SIZE;
+            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+            for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+                readBlock(iBlock, jBlock, block);
+                final int qStart = jBlock * BLOCK_SIZE;
+                final int qEnd   = FastMath.min(qStart + BLOCK_SIZE, columns);
+                int k = 0;
+                for (int p = pStart; p < pEnd; ++p) {
+                    final double vp = in[p];
+                    for (int q = qStart; q < qEnd; ++q) {
+                        out[q] += vp * block[k++];
+                    }
+                }
+            }
+        }
+
+        return out;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The product is an in-heap {@link BlockRealMatrix}.
+     * </p>
+     */
+    @Override
+    public RealMatrix multiply(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        return multiply(m, createMatrix(rows, m.getColumnDimension()));
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The product is computed one row of blocks at a time, so only
+     * {@link #BLOCK_SIZE} rows of the product are held in the heap.
+     * The destination may be another file-backed matrix.
+     * </p>
+     */
+    @Override
+    public RealMatrix multiply(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        final int nCols = m.getColumnDimension();
+        MatrixUtils.checkDimensions(out, rows, nCols);
+        if (out == this || out == m) {
+            // the destination shares storage with an operand
+            return super.multiply(m, out);
+        }
+
+        final double[]   block = new double[BLOCK_SIZE * BLOCK_SIZE];
+        final double[][] mRows = new double[BLOCK_SIZE][nCols];
+        final double[][] acc   = new double[BLOCK_SIZE][nCols];
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            final int iHeight = blockHeight(iBlock);
+            for (int p = 0; p < iHeight; ++p) {
+                Arrays.fill(acc[p], 0.0);
+            }
+            for (int kBlock = 0; kBlock < blockColumns; ++kBlock) {
+                // rows of m matching the current block columns
+                final int kStart = kBlock * BLOCK_SIZE;
+                final int kWidth = blockWidth(kBlock);
+                m.copySubMatrix(kStart, kStart + kWidth - 1, 0, nCols - 1, mRows);
+                readBlock(iBlock, kBlock, block);
+                int index = 0;
+                for (int p = 0; p < iHeight; ++p) {
+                    final double[] accP = acc[p];
+                    for (int k = 0; k < kWidth; ++k) {
+                        final double   a    = block[index++];
+                        final double[] mRow = mRows[k];
+                        for (int j = 0; j < nCols; ++j) {
+                            accP[j] += a * mRow[j];
+                        }
+                    }
+                }
+            }
+            for (int p = 0; p < iHeight; ++p) {
+                out.setRow(iBlock * BLOCK_SIZE + p, acc[p]);
+            }
+        }
+
+        return out;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The product is an in-heap {@link BlockRealMatrix}. The file is read
+     * only once, so this is the method of choice for building normal equations
+     * from a file-backed design matrix.
+     * </p>
+     */
+    @Override
+    public RealMatrix transposeMultiply(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSameRowDimension(this, m);
+        final int nCols = m.getColumnDimension();
+
+        final double[]   block = new double[BLOCK_SIZE * BLOCK_SIZE];
+        final double[][] mRows = new double[BLOCK_SIZE][nCols];
+        final double[][] acc   = new double[columns][nCols];
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            // rows of m matching the current block rows
+            final int iStart  = iBlock * BLOCK_SIZE;
+            final int iHeight = blockHeight(iBlock);
+            m.copySubMatrix(iStart, iStart + iHeight - 1, 0, nCols - 1, mRows);
+            for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+                final int jStart = jBlock * BLOCK_SIZE;
+                final int jWidth = blockWidth(jBlock);
+                readBlock(iBlock, jBlock, block);
+                int index = 0;
+                for (int p = 0; p < iHeight; ++p) {
+                    final double[] mRow = mRows[p];
+                    for (int q = 0; q < jWidth; ++q) {
+                        final double   a    = block[index++];
+                        final double[] accQ = acc[jStart + q];
+                        for (int j = 0; j < nCols; ++j) {
+                            accQ[j] += a * mRow[j];
+                        }
+                    }
+                }
+            }
+        }
+
+        return new BlockRealMatrix(acc);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double walkInOptimizedOrder(final RealMatrixChangingVisitor visitor) {
+        checkWritable();
+        visitor.start(rows, columns, 0, rows - 1, 0, columns - 1);
+        final double[] block = new double[BLOCK_SIZE * BLOCK_SIZE];
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            final int pStart = iBlock * BLOCK_SIZE;
+            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+            for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+                final int qStart = jBlock * BLOCK_SIZE;
+                final int qEnd   = FastMath.min(qStart + BLOCK_SIZE, columns);
+                readBlock(iBlock, jBlock, block);
+                int k = 0;
+                for (int p = pStart; p < pEnd; ++p) {
+                    for (int q = qStart; q < qEnd; ++q) {
+                        block[k] = visitor.visit(p, q, block[k]);
+                        ++k;
+                    }
+                }
+                writeBlock(iBlock, jBlock, block);
+            }
+        }
+        return visitor.end();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double walkInOptimizedOrder(final RealMatrixPreservingVisitor visitor) {
+        visitor.start(rows, columns, 0, rows - 1, 0, columns - 1);
+        final double[] block = new double[BLOCK_SIZE * BLOCK_SIZE];
+        for (int iBlock = 0; iBlock < blockRows; ++iBlock) {
+            final int pStart = iBlock * BLOCK_SIZE;
+            final int pEnd   = FastMath.min(pStart + BLOCK_SIZE, rows);
+            for (int jBlock = 0; jBlock < blockColumns; ++jBlock) {
+                final int qStart = jBlock * BLOCK_SIZE;
+                final int qEnd   = FastMath.min(qStart + BLOCK_SIZE, columns);
+                readBlock(iBlock, jBlock, block);
+                int k = 0;
+                for (int p = pStart; p < pEnd; ++p) {
+                    for (int q = qStart; q < qEnd; ++q) {
+                        visitor.visit(p, q, block[k++]);
+                    }
+                }
+            }
+        }
+        return visitor.end();
+    }
+
+    /** Check the matrix can be changed.
+     * @exception MathRuntimeException if the file is mapped in read-only mode
+     */
+    private void checkWritable() throws MathRuntimeException {
+        if (!writable) {
+            throw new MathRuntimeException(LocalizedCoreFormats.UNSUPPORTED_OPERATION);
+        }
+    }
+
+    /** Get the entries of the mapping holding a row of blocks.
+     * @param iBlock block row index
+     * @return entries of the mapping holding the row of blocks
+     */
+    private DoubleBuffer chunk(final int iBlock) {
+        return chunks[iBlock / blockRowsPerChunk];
+    }
+
+    /** Get the index of the first entry of a block within its mapping.
+     * @param iBlock block row index
+     * @param jBlock block column index
+     * @return index of the first entry of the block within its mapping
+     */
+    private int blockStart(final int iBlock, final int jBlock) {
+        return (iBlock % blockRowsPerChunk) * BLOCK_SIZE * columns + jBlock * BLOCK_SIZE * blockHeight(iBlock);
+    }
+
+    /** Get the index of an entry within its mapping.
+     * @param row row index
+     * @param column column index
+     * @return index of the entry within its mapping
+     */
+    private int index(final int row, final int column) {
+        final int iBlock = row    / BLOCK_SIZE;
+        final int jBlock = column / BLOCK_SIZE;
+        return blockStart(iBlock, jBlock) +
+               (row - iBlock * BLOCK_SIZE) * blockWidth(jBlock) + (column - jBlock * BLOCK_SIZE);
+    }
+
+    /** Read one block from the file.
+     * @param iBlock block row index
+     * @param jBlock block column index
+     * @param block array where to store the block entries
+     * (must be at least as large as the block)
+     */
+    private void readBlock(final int iBlock, final int jBlock, final double[] block) {
+        final DoubleBuffer view = chunk(iBlock).duplicate();
+        ((Buffer) view).position(blockStart(iBlock, jBlock));
+        view.get(block, 0, blockHeight(iBlock) * blockWidth(jBlock));
+    }
+
+    /** Write one block to the file.
+     * @param iBlock block row index
+     * @param jBlock block column index
+     * @param block array containing the block entries
+     * (must be at least as large as the block)
+     */
+    private void writeBlock(final int iBlock, final int jBlock, final double[] block) {
+        final DoubleBuffer view = chunk(iBlock).duplicate();
+        ((Buffer) view).position(blockStart(iBlock, jBlock));
+        view.put(block, 0, blockHeight(iBlock) * blockWidth(jBlock));
+    }
+
+    /** Get the height of a block.
+     * @param blockRow row index (in block sense) of the block
+     * @return height (number of rows) of the block
+     */
+    private int blockHeight(final int blockRow) {
+        return (blockRow == blockRows - 1) ? rows - blockRow * BLOCK_SIZE : BLOCK_SIZE;
+    }
+
+    /** Get the width of a block.
+     * @param blockColumn column index (in block sense) of the block
+     * @return width (number of columns) of the block
+     */
+    private int blockWidth(final int blockColumn) {
+        return (blockColumn == blockColumns - 1) ? columns - blockColumn * BLOCK_SIZE : BLOCK_SIZE;
+    }
+
+}
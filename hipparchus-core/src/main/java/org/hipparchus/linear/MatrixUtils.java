@@ -636,6 +636,25 @@ public class MatrixUtils {
         }
     }
 
+    /**
+     * Check if a matrix has the expected dimensions.
+     *
+     * @param m matrix to check
+     * @param rowDimension expected row dimension
+     * @param columnDimension expected column dimension
+     * @throws MathIllegalArgumentException if the matrix does not have the
+     * expected dimensions
+     * @since 4.0
+     */
+    public static void checkDimensions(final AnyMatrix m, final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        if ((m.getRowDimension() != rowDimension) || (m.getColumnDimension() != columnDimension)) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2,
+                                                   m.getRowDimension(), m.getColumnDimension(),
+                                                   rowDimension, columnDimension);
+        }
+    }
+
     /**
      * Check if matrices are addition compatible.
      *
@@ -1208,4 +1227,49 @@ public class MatrixUtils {
 
     }
 
+    /** Compute the dot product of two array slices.
+     * <p>
+     * The products are accumulated in four independent partial sums that are
+     * combined at the end. This breaks the dependency chain of a sequential loop
+     * so the processor can pipeline the additions. The result may differ from a
+     * sequential loop in the last bits, but stays within the classical error bound
+     * of recursive summation (n &epsilon; &Sigma;<sub>i</sub> |a<sub>i</sub> b<sub>i</sub>|).
+     * </p>
+     * <p>
+     * This method is intended for inner loops of linear algebra kernels, it
+     * does not check its arguments beyond the array bounds checks performed
+     * by the virtual machine.
+     * </p>
+     * @param a first array
+     * @param aStart index of the first element to use in {@code a}
+     * @param b second array
+     * @param bStart index of the first element to use in {@code b}
+     * @param length number of elements to use
+     * @return &Sigma;<sub>i</sub> a<sub>aStart+i</sub> b<sub>bStart+i</sub>
+     * @since 4.0
+     */
+    static double dotProduct(final double[] a, final int aStart,
+                             final double[] b, final int bStart,
+                             final int length) {
+        double sum0 = 0;
+        double sum1 = 0;
+        double sum2 = 0;
+        double sum3 = 0;
+        int i = 0;
+        while (i < length - 3) {
+            final int ia = aStart + i;
+            final int ib = bStart + i;
+            sum0 += a[ia]     * b[ib];
+            sum1 += a[ia + 1] * b[ib + 1];
+            sum2 += a[ia + 2] * b[ib + 2];
+            sum3 += a[ia + 3] * b[ib + 3];
+            i += 4;
+        }
+        while (i < length) {
+            sum0 += a[aStart + i] * b[bStart + i];
+            ++i;
+        }
+        return (sum0 + sum1) + (sum2 + sum3);
+    }
+
 }
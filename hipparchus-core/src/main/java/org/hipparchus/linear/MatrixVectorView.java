@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * View on a row or a column of a matrix, as a vector.
+ * <p>
+ * No data is copied: entries are read from and written to the parent matrix,
+ * so changes in the parent are immediately visible in the view and changes
+ * in the view are immediately visible in the parent. When the parent is an
+ * {@link Array2DRowRealMatrix} (or a {@link SubMatrixView} on such a matrix),
+ * the view accesses the parent storage directly.
+ * </p>
+ * <p>
+ * Operations that create new vectors (like {@link #add(RealVector)} or
+ * {@link #copy()}) return independent {@link ArrayRealVector} instances.
+ * </p>
+ * <p>
+ * Instances are created by {@link RealMatrix#getRowVectorView(int)} or
+ * {@link RealMatrix#getColumnVectorView(int)}.
+ * </p>
+ * @see SubMatrixView
+ * @see TransposedMatrixView
+ * @since 4.0
+ */
+public class MatrixVectorView extends RealVector {
+
+    /** Underlying matrix. */
+    private final RealMatrix parent;
+
+    /** Underlying storage (null if parent is not an {@link Array2DRowRealMatrix}). */
+    private final double[][] data;
+
+    /** Row index of the first entry in the parent. */
+    private final int row;
+
+    /** Column index of the first entry in the parent. */
+    private final int column;
+
+    /** Dimension of the vector. */
+    private final int dimension;
+
+    /** Indicator for vectors along a row (false for vectors along a column). */
+    private final boolean alongRow;
+
+    /** Simple constructor.
+     * <p>
+     * Indices are not checked here, they must have been checked by the caller.
+     * </p>
+     * @param matrix matrix containing the vector
+     * @param row row index of the first entry in the matrix
+     * @param column column index of the first entry in the matrix
+     * @param dimension dimension of the vector
+     * @param alongRow if true, the vector is along a row, otherwise it is along a column
+     */
+    MatrixVectorView(final RealMatrix matrix, final int row, final int column,
+                     final int dimension, final boolean alongRow) {
+        if (matrix instanceof SubMatrixView) {
+            // bypass the intermediate view
+            final SubMatrixView view = (SubMatrixView) matrix;
+            this.parent = view.getParent();
+            this.row    = view.getStartRow() + row;
+            this.column = view.getStartColumn() + column;
+        } else {
+            this.parent = matrix;
+            this.row    = row;
+            this.column = column;
+        }
+        this.data      = (parent instanceof Array2DRowRealMatrix) ?
+                         ((Array2DRowRealMatrix) parent).getDataRef() : null;
+        this.dimension = dimension;
+        this.alongRow  = alongRow;
+    }
+
+    /** Get the underlying matrix.
+     * @return underlying matrix
+     */
+    public RealMatrix getParent() {
+        return parent;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDimension() {
+        return dimension;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int index) throws MathIllegalArgumentException {
+        checkIndex(index);
+        if (alongRow) {
+            return (data == null) ? parent.getEntry(row, column + index) : data[row][column + index];
+        } else {
+            return (data == null) ? parent.getEntry(row + index, column) : data[row + index][column];
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int index, final double value) throws MathIllegalArgumentException {
+        checkIndex(index);
+        if (data == null) {
+            if (alongRow) {
+                parent.setEntry(row, column + index, value);
+            } else {
+                parent.setEntry(row + index, column, value);
+            }
+        } else {
+            if (alongRow) {
+                data[row][column + index] = value;
+            } else {
+                data[row + index][column] = value;
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addToEntry(final int index, final double increment) throws MathIllegalArgumentException {
+        checkIndex(index);
+        if (data == null) {
+            if (alongRow) {
+                parent.addToEntry(row, column + index, increment);
+            } else {
+                parent.addToEntry(row + index, column, increment);
+            }
+        } else {
+            if (alongRow) {
+                data[row][column + index] += increment;
+            } else {
+                data[row + index][column] += increment;
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] toArray() {
+        final double[] out = new double[dimension];
+        if (data != null && alongRow) {
+            System.arraycopy(data[row], column, out, 0, dimension);
+        } else {
+            for (int i = 0; i < dimension; ++i) {
+                out[i] = getEntry(i);
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector append(final RealVector v) {
+        return new ArrayRealVector(toArray(), false).append(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector append(final double d) {
+        final double[] out = new double[dimension + 1];
+        for (int i = 0; i < dimension; ++i) {
+            out[i] = getEntry(i);
+        }
+        out[dimension] = d;
+        return new ArrayRealVector(out, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector getSubVector(final int index, final int n) throws MathIllegalArgumentException {
+        if (n < 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_OF_ELEMENTS_SHOULD_BE_POSITIVE, n);
+        }
+        checkIndex(index);
+        checkIndex(index + n - 1);
+        final double[] out = new double[n];
+        for (int i = 0; i < n; ++i) {
+            out[i] = getEntry(index + i);
+        }
+        return new ArrayRealVector(out, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSubVector(final int index, final RealVector v) throws MathIllegalArgumentException {
+        checkIndex(index);
+        checkIndex(index + v.getDimension() - 1);
+        for (int i = 0; i < v.getDimension(); ++i) {
+            setEntry(index + i, v.getEntry(i));
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isNaN() {
+        for (int i = 0; i < dimension; ++i) {
+            if (Double.isNaN(getEntry(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isInfinite() {
+        if (isNaN()) {
+            return false;
+        }
+        for (int i = 0; i < dimension; ++i) {
+            if (Double.isInfinite(getEntry(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The copy is an {@link ArrayRealVector}, independent of the parent matrix.
+     * </p>
+     */
+    @Override
+    public RealVector copy() {
+        return new ArrayRealVector(toArray(), false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector ebeDivide(final RealVector v) throws MathIllegalArgumentException {
+        return copy().ebeDivide(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector ebeMultiply(final RealVector v) throws MathIllegalArgumentException {
+        return copy().ebeMultiply(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof RealVector)) {
+            return false;
+        }
+
+        final RealVector rhs = (RealVector) other;
+        if (dimension != rhs.getDimension()) {
+            return false;
+        }
+
+        if (rhs.isNaN()) {
+            return this.isNaN();
+        }
+
+        for (int i = 0; i < dimension; ++i) {
+            if (getEntry(i) != rhs.getEntry(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc} All {@code NaN} values have the same hash code.
+     */
+    @Override
+    public int hashCode() {
+        if (isNaN()) {
+            return 9;
+        }
+        return MathUtils.hash(toArray());
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+/** Matrix decomposer using single precision factorization with iterative refinement.
+ * @see MixedPrecisionSolver
+ * @since 4.0
+ */
+public class MixedPrecisionDecomposer implements MatrixDecomposer {
+
+    /** Factorization used in single precision. */
+    private final MixedPrecisionSolver.Factorization factorization;
+
+    /** Maximum number of refinement iterations. */
+    private final int maxIterations;
+
+    /** Threshold under which the fallback decomposition considers a matrix singular. */
+    private final double singularityThreshold;
+
+    /**
+     * Creates a mixed precision decomposer with specified parameters for several matrices.
+     * @param factorization factorization to use in single precision
+     * @param maxIterations maximum number of refinement iterations before falling
+     * back to a double precision factorization
+     * @param singularityThreshold threshold under which the fallback double
+     * precision decomposition considers the matrix singular
+     */
+    public MixedPrecisionDecomposer(final MixedPrecisionSolver.Factorization factorization,
+                                    final int maxIterations, final double singularityThreshold) {
+        this.factorization        = factorization;
+        this.maxIterations        = maxIterations;
+        this.singularityThreshold = singularityThreshold;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DecompositionSolver decompose(final RealMatrix a) {
+        return new MixedPrecisionSolver(a, factorization, maxIterations, singularityThreshold);
+    }
+
+}
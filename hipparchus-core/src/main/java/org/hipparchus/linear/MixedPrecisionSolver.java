@@ -0,0 +1,441 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathArrays;
+import org.hipparchus.util.MathUtils;
+import org.hipparchus.util.Precision;
+
+/**
+ * Linear solver using a single precision factorization refined to double precision.
+ * <p>
+ * The matrix is copied into {@code float} arrays and factored there, which halves
+ * the memory traffic of the O(n<sup>3</sup>) factorization and doubles the number
+ * of entries processed per vector instruction. Each solution is then improved by
+ * iterative refinement: the residual b - A x is computed in double precision using
+ * the original matrix, the correction is solved using the single precision factors,
+ * and the process is repeated until the residual satisfies the same backward error
+ * criterion as LAPACK {@code dsgesv}:
+ * ||b - A x||<sub>&infin;</sub> &le; ||x||<sub>&infin;</sub> ||A||<sub>&infin;</sub> &epsilon; &radic;n.
+ * </p>
+ * <p>
+ * Refinement converges when the condition number of A is significantly smaller than
+ * the inverse of single precision epsilon (about 10<sup>7</sup>). If the single
+ * precision factorization breaks down, or if refinement does not converge within the
+ * allowed number of iterations, the solver falls back to a double precision
+ * {@link LUDecomposer LU decomposition} and uses it for this and all subsequent
+ * solutions, so results are always double-accurate.
+ * </p>
+ * <p>
+ * The solver keeps a copy of the matrix for computing residuals, hence it uses
+ * 1.5 times the memory of a double precision decomposition.
+ * </p>
+ * @see MixedPrecisionDecomposer
+ * @since 4.0
+ */
+public class MixedPrecisionSolver implements DecompositionSolver {
+
+    /** Factorization used in single precision. */
+    public enum Factorization {
+
+        /** LU factorization with partial pivoting, for general square matrices. */
+        LU,
+
+        /** Cholesky factorization, for symmetric positive definite matrices. */
+        CHOLESKY
+
+    }
+
+    /** Default maximum number of refinement iterations. */
+    public static final int DEFAULT_MAX_ITERATIONS = 30;
+
+    /** Default threshold under which the fallback decomposition considers a matrix singular. */
+    private static final double DEFAULT_SINGULARITY_THRESHOLD = 1.0e-11;
+
+    /** Copy of the matrix, used for residuals and fallback. */
+    private final double[][] matrix;
+
+    /** Factorization used in single precision. */
+    private final Factorization factorization;
+
+    /** Single precision factors (null if factorization broke down). */
+    private final float[][] factors;
+
+    /** Row permutation of the LU factorization. */
+    private final int[] pivot;
+
+    /** Maximum number of refinement iterations. */
+    private final int maxIterations;
+
+    /** Convergence threshold on residual infinity norm, per unit of solution infinity norm. */
+    private final double threshold;
+
+    /** Threshold under which the fallback decomposition considers a matrix singular. */
+    private final double singularityThreshold;
+
+    /** Double precision fallback solver (null until needed). */
+    private DecompositionSolver fallback;
+
+    /** Create a solver using single precision LU factorization.
+     * @param a matrix to decompose
+     * @throws MathIllegalArgumentException if matrix is not square
+     */
+    public MixedPrecisionSolver(final RealMatrix a) throws MathIllegalArgumentException {
+        this(a, Factorization.LU, DEFAULT_MAX_ITERATIONS, DEFAULT_SINGULARITY_THRESHOLD);
+    }
+
+    /** Create a solver.
+     * @param a matrix to decompose
+     * @param factorization factorization to use in single precision
+     * @param maxIterations maximum number of refinement iterations before falling
+     * back to a double precision factorization
+     * @param singularityThreshold threshold under which the fallback double
+     * precision decomposition considers the matrix singular
+     * @throws MathIllegalArgumentException if matrix is not square or
+     * maxIterations is not strictly positive
+     */
+    public MixedPrecisionSolver(final RealMatrix a, final Factorization factorization,
+                                final int maxIterations, final double singularityThreshold)
+        throws MathIllegalArgumentException {
+
+        if (!a.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   a.getRowDimension(), a.getColumnDimension());
+        }
+        if (maxIterations < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL,
+                                                   maxIterations, 1);
+        }
+
+        final int n = a.getRowDimension();
+        this.matrix               = a.getData();
+        this.factorization        = factorization;
+        this.maxIterations        = maxIterations;
+        this.singularityThreshold = singularityThreshold;
+        this.pivot                = MathArrays.natural(n);
+
+        // copy the matrix to single precision
+        float[][] f = new float[n][n];
+        double norm = 0;
+        for (int i = 0; i < n; ++i) {
+            final double[] row  = matrix[i];
+            final float[]  fRow = f[i];
+            double rowSum = 0;
+            for (int j = 0; j < n; ++j) {
+                fRow[j] = (float) row[j];
+                rowSum += FastMath.abs(row[j]);
+            }
+            norm = FastMath.max(norm, rowSum);
+        }
+        this.threshold = norm * Precision.EPSILON * FastMath.sqrt(n);
+
+        // factor in single precision
+        if (norm > Float.MAX_VALUE) {
+            // entries would overflow in single precision
+            f = null;
+        } else if (factorization == Factorization.LU) {
+            if (!factorLU(f, pivot)) {
+                f = null;
+            }
+        } else {
+            if (!factorCholesky(f)) {
+                f = null;
+            }
+        }
+        this.factors = f;
+
+    }
+
+    /** Compute in place the LU factorization with partial pivoting.
+     * @param a matrix to factor, replaced by L (unit diagonal, strictly lower part) and U
+     * @param perm row permutation (updated in place)
+     * @return true if factorization succeeded
+     */
+    private static boolean factorLU(final float[][] a, final int[] perm) {
+        final int n = a.length;
+        for (int k = 0; k < n; ++k) {
+
+            // find pivot
+            int   p   = k;
+            float max = FastMath.abs(a[k][k]);
+            for (int i = k + 1; i < n; ++i) {
+                final float v = FastMath.abs(a[i][k]);
+                if (v > max) {
+                    max = v;
+                    p   = i;
+                }
+            }
+            if (!(max > 0) || Float.isInfinite(max)) {
+                return false;
+            }
+            if (p != k) {
+                final float[] tmp = a[p];
+                a[p] = a[k];
+                a[k] = tmp;
+                final int tmpIndex = perm[p];
+                perm[p] = perm[k];
+                perm[k] = tmpIndex;
+            }
+
+            // eliminate below pivot, the innermost loop runs over contiguous row entries
+            final float[] pivotRow = a[k];
+            final float   inverse  = 1.0f / pivotRow[k];
+            for (int i = k + 1; i < n; ++i) {
+                final float[] row = a[i];
+                final float   l   = row[k] * inverse;
+                row[k] = l;
+                if (l != 0) {
+                    for (int j = k + 1; j < n; ++j) {
+                        row[j] -= l * pivotRow[j];
+                    }
+                }
+            }
+
+        }
+        return true;
+    }
+
+    /** Compute in place the Cholesky factorization.
+     * @param a matrix to factor, lower part replaced by L
+     * @return true if factorization succeeded
+     */
+    private static boolean factorCholesky(final float[][] a) {
+        final int n = a.length;
+        for (int j = 0; j < n; ++j) {
+            final float[] rowJ = a[j];
+            float d = rowJ[j];
+            for (int k = 0; k < j; ++k) {
+                d -= rowJ[k] * rowJ[k];
+            }
+            if (!(d > 0) || Float.isInfinite(d)) {
+                return false;
+            }
+            final float ljj = (float) FastMath.sqrt(d);
+            rowJ[j] = ljj;
+            final float inverse = 1.0f / ljj;
+            for (int i = j + 1; i < n; ++i) {
+                final float[] rowI = a[i];
+                float s = rowI[j];
+                for (int k = 0; k < j; ++k) {
+                    s -= rowI[k] * rowJ[k];
+                }
+                rowI[j] = s * inverse;
+            }
+        }
+        return true;
+    }
+
+    /** Solve A d = r using the single precision factors.
+     * <p>
+     * The right hand side is scaled before conversion to single precision
+     * so small residuals do not underflow.
+     * </p>
+     * @param r right hand side
+     * @return solution, in double precision
+     */
+    private double[] solveSingle(final double[] r) {
+
+        final int n = r.length;
+        double scale = 0;
+        for (final double ri : r) {
+            scale = FastMath.max(scale, FastMath.abs(ri));
+        }
+        final double[] d = new double[n];
+        if (scale == 0) {
+            return d;
+        }
+
+        final float[] y = new float[n];
+        if (factorization == Factorization.LU) {
+
+            // apply permutation
+            for (int i = 0; i < n; ++i) {
+                y[i] = (float) (r[pivot[i]] / scale);
+            }
+
+            // solve L z = P r
+            for (int i = 0; i < n; ++i) {
+                final float[] row = factors[i];
+                float s = y[i];
+                for (int k = 0; k < i; ++k) {
+                    s -= row[k] * y[k];
+                }
+                y[i] = s;
+            }
+
+            // solve U d = z
+            for (int i = n - 1; i >= 0; --i) {
+                final float[] row = factors[i];
+                float s = y[i];
+                for (int k = i + 1; k < n; ++k) {
+                    s -= row[k] * y[k];
+                }
+                y[i] = s / row[i];
+            }
+
+        } else {
+
+            for (int i = 0; i < n; ++i) {
+                y[i] = (float) (r[i] / scale);
+            }
+
+            // solve L z = r
+            for (int i = 0; i < n; ++i) {
+                final float[] row = factors[i];
+                float s = y[i];
+                for (int k = 0; k < i; ++k) {
+                    s -= row[k] * y[k];
+                }
+                y[i] = s / row[i];
+            }
+
+            // solve L^T d = z, column-oriented to access rows of L contiguously
+            for (int i = n - 1; i >= 0; --i) {
+                final float[] row = factors[i];
+                final float   yi  = y[i] / row[i];
+                y[i] = yi;
+                for (int k = 0; k < i; ++k) {
+                    y[k] -= row[k] * yi;
+                }
+            }
+
+        }
+
+        for (int i = 0; i < n; ++i) {
+            d[i] = y[i] * scale;
+        }
+        return d;
+
+    }
+
+    /** Solve one system by iterative refinement.
+     * @param b right hand side
+     * @return solution, or null if refinement did not converge
+     */
+    private double[] refine(final double[] b) {
+
+        final int      n = b.length;
+        final double[] x = solveSingle(b);
+        final double[] r = new double[n];
+
+        for (int iteration = 0; iteration <= maxIterations; ++iteration) {
+
+            // residual in double precision
+            double rNorm = 0;
+            double xNorm = 0;
+            for (int i = 0; i < n; ++i) {
+                r[i]  = b[i] - MatrixUtils.dotProduct(matrix[i], 0, x, 0, n);
+                rNorm = FastMath.max(rNorm, FastMath.abs(r[i]));
+                xNorm = FastMath.max(xNorm, FastMath.abs(x[i]));
+            }
+            if (Double.isNaN(rNorm) || Double.isInfinite(xNorm)) {
+                return null;
+            }
+            if (rNorm <= threshold * xNorm) {
+                return x;
+            }
+
+            if (iteration < maxIterations) {
+                // correction using the single precision factors
+                final double[] d = solveSingle(r);
+                for (int i = 0; i < n; ++i) {
+                    x[i] += d[i];
+                }
+            }
+
+        }
+
+        return null;
+
+    }
+
+    /** Get the double precision fallback solver, building it if needed.
+     * @return fallback solver
+     */
+    private synchronized DecompositionSolver getFallback() {
+        if (fallback == null) {
+            fallback = new LUDecomposer(singularityThreshold).
+                       decompose(new Array2DRowRealMatrix(matrix, false));
+        }
+        return fallback;
+    }
+
+    /** Check if the solver uses a double precision fallback factorization.
+     * <p>
+     * The fallback is used if the single precision factorization broke down
+     * or once iterative refinement failed to converge for some right hand side.
+     * </p>
+     * @return true if the solver uses a double precision fallback factorization
+     */
+    public synchronized boolean usesDoublePrecision() {
+        return factors == null || fallback != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isNonSingular() {
+        return (factors != null) || getFallback().isNonSingular();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector solve(final RealVector b) throws MathIllegalArgumentException {
+        MathUtils.checkDimension(b.getDimension(), matrix.length);
+        if (!usesDoublePrecision()) {
+            final double[] x = refine(b.toArray());
+            if (x != null) {
+                return new ArrayRealVector(x, false);
+            }
+        }
+        return getFallback().solve(b);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix solve(final RealMatrix b) throws MathIllegalArgumentException {
+        MathUtils.checkDimension(b.getRowDimension(), matrix.length);
+        final int        n = matrix.length;
+        final RealMatrix x = MatrixUtils.createRealMatrix(n, b.getColumnDimension());
+        for (int j = 0; j < b.getColumnDimension(); ++j) {
+            x.setColumnVector(j, solve(b.getColumnVector(j)));
+        }
+        return x;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix getInverse() throws MathIllegalArgumentException {
+        return solve(MatrixUtils.createRealIdentityMatrix(matrix.length));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return matrix.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return matrix.length;
+    }
+
+}
@@ -18,10 +18,20 @@
 package org.hipparchus.linear;
 
 /** Matrix decomposer using QR-decomposition.
+ * <p>
+ * Matrices with less than {@link #BLOCKED_DIMENSION_THRESHOLD} rows are
+ * decomposed using {@link QRDecomposition}, whereas larger matrices are
+ * decomposed using the blocked {@link BlockQRDecomposition}.
+ * </p>
  * @since 1.3
  */
 public class QRDecomposer implements MatrixDecomposer {
 
+    /** Number of rows above which the blocked algorithm is used.
+     * @since 4.0
+     */
+    public static final int BLOCKED_DIMENSION_THRESHOLD = 4 * BlockRealMatrix.BLOCK_SIZE;
+
     /** Threshold under which a matrix is considered singular. */
     private final double singularityThreshold;
 
@@ -37,7 +47,11 @@ public class QRDecomposer implements MatrixDecomposer {
     /** {@inheritDoc} */
     @Override
     public DecompositionSolver decompose(final RealMatrix a) {
-        return new QRDecomposition(a, singularityThreshold).getSolver();
+        if (a.getRowDimension() >= BLOCKED_DIMENSION_THRESHOLD) {
+            return new BlockQRDecomposition(a, singularityThreshold).getSolver();
+        } else {
+            return new QRDecomposition(a, singularityThreshold).getSolver();
+        }
     }
 
 }
@@ -291,6 +291,18 @@ public class QRDecomposition {
         return cachedH;
     }
 
+    /** Get a reference to the diagonal elements of R.
+     * <p>
+     * This method is intended for subclasses of this package that
+     * implement other reflection strategies, it does <em>not</em> copy data.
+     * </p>
+     * @return diagonal elements of R (partially filled during decomposition)
+     * @since 4.0
+     */
+    double[] getRDiag() {
+        return rDiag;
+    }
+
     /**
      * Get a solver for finding the A &times; X = B solution in least square sense.
      * <p>
@@ -0,0 +1,449 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well19937c;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Calculates a truncated Singular Value Decomposition using randomized sketching.
+ * <p>
+ * This class computes the \(k\) leading singular triplets of a \(m \times n\) matrix
+ * or linear operator A, such that \(A \approx U \Sigma V^T\) where U is a \(m \times k\)
+ * matrix with orthonormal columns, \(\Sigma\) is a \(k \times k\) diagonal matrix
+ * with non-increasing positive or null elements and V is a \(n \times k\) matrix
+ * with orthonormal columns.
+ * </p>
+ * <p>
+ * The algorithm is the randomized range finder of Halko, Martinsson and Tropp
+ * (Finding Structure with Randomness: Probabilistic Algorithms for Constructing
+ * Approximate Matrix Decompositions, SIAM Review 53(2), 2011). An orthonormal basis
+ * Q of the range of A is computed from the product of A with \(k + p\) Gaussian random
+ * vectors, where p is an oversampling parameter, refined by q power iterations
+ * which improve accuracy when singular values decay slowly. The singular values
+ * and vectors are then extracted from the small projected matrix \(Q^T A\).
+ * The cost is \(O(mn(k + p)(2q + 2))\) for dense matrices, instead of the
+ * \(O(mn \min(m,n))\) of the full {@link SingularValueDecomposition}, and only
+ * \(O((m + n)(k + p))\) additional memory is needed.
+ * </p>
+ * <p>
+ * When A is a {@link RealMatrix}, all vectors of the sketch are multiplied at once,
+ * as the columns of a {@link BlockRealMatrix}, using the matrix products of A. If A
+ * is itself a {@link BlockRealMatrix}, these products are cache-blocked and, when a
+ * pool is provided, computed in parallel, with results that do not depend on the
+ * number of threads. Other linear operators only need to support
+ * {@link RealLinearOperator#operate(RealVector) operate} and
+ * {@link RealLinearOperator#operateTranspose(RealVector) operateTranspose}.
+ * </p>
+ * <p>
+ * The result is random, but it is reproducible for a given generator seed.
+ * Its accuracy only depends on the spectrum of A: the error is close to the
+ * first neglected singular value \(\sigma_{k+1}\) with very high probability.
+ * </p>
+ * @see SingularValueDecomposition
+ * @since 4.0
+ */
+public class RandomizedSingularValueDecomposition {
+
+    /** Default oversampling. */
+    public static final int DEFAULT_OVERSAMPLING = 10;
+
+    /** Default number of power iterations. */
+    public static final int DEFAULT_POWER_ITERATIONS = 2;
+
+    /** Seed for default random generator. */
+    private static final long DEFAULT_SEED = 0x4ab17e39c56d02f8L;
+
+    /** Number of rows of the decomposed operator. */
+    private final int m;
+
+    /** Number of columns of the decomposed operator. */
+    private final int n;
+
+    /** Singular values. */
+    private final double[] singularValues;
+
+    /** Left singular vectors (stored as k vectors of dimension m). */
+    private final double[][] u;
+
+    /** Right singular vectors (stored as k vectors of dimension n). */
+    private final double[][] v;
+
+    /**
+     * Calculates the k leading singular triplets, using default settings.
+     * <p>
+     * This constructor uses {@link #DEFAULT_OVERSAMPLING}, {@link #DEFAULT_POWER_ITERATIONS}
+     * and a fixed-seed random generator, so results are reproducible.
+     * </p>
+     * @param a matrix or linear operator to decompose (if it is not a {@link RealMatrix},
+     * it must be {@link RealLinearOperator#isTransposable() transposable})
+     * @param k number of singular triplets to compute
+     * @exception MathIllegalArgumentException if k is not between 1 and min(m, n)
+     * @exception MathRuntimeException if operator is neither a matrix nor transposable
+     */
+    public RandomizedSingularValueDecomposition(final RealLinearOperator a, final int k)
+        throws MathIllegalArgumentException, MathRuntimeException {
+        this(a, k, DEFAULT_OVERSAMPLING, DEFAULT_POWER_ITERATIONS, new Well19937c(DEFAULT_SEED));
+    }
+
+    /**
+     * Calculates the k leading singular triplets.
+     * @param a matrix or linear operator to decompose (if it is not a {@link RealMatrix},
+     * it must be {@link RealLinearOperator#isTransposable() transposable})
+     * @param k number of singular triplets to compute
+     * @param oversampling number of additional random vectors used to sample
+     * the range of A (5 to 10 is usually sufficient)
+     * @param powerIterations number of power iterations (0 is sufficient when
+     * singular values decay fast, 1 or 2 otherwise)
+     * @param random generator for the random vectors
+     * @exception MathIllegalArgumentException if k is not between 1 and min(m, n),
+     * or oversampling or power iterations is negative
+     * @exception MathRuntimeException if operator is neither a matrix nor transposable
+     */
+    public RandomizedSingularValueDecomposition(final RealLinearOperator a, final int k,
+                                                final int oversampling, final int powerIterations,
+                                                final RandomGenerator random)
+        throws MathIllegalArgumentException, MathRuntimeException {
+        this(a, k, oversampling, powerIterations, random, null);
+    }
+
+    /**
+     * Calculates the k leading singular triplets, using several threads.
+     * <p>
+     * The pool is used only when A is a {@link BlockRealMatrix}, for the products
+     * of A and A<sup>T</sup> with the sketch vectors. The result is identical to
+     * the one computed in the calling thread.
+     * </p>
+     * @param a matrix or linear operator to decompose (if it is not a {@link RealMatrix},
+     * it must be {@link RealLinearOperator#isTransposable() transposable})
+     * @param k number of singular triplets to compute
+     * @param oversampling number of additional random vectors used to sample
+     * the range of A (5 to 10 is usually sufficient)
+     * @param powerIterations number of power iterations (0 is sufficient when
+     * singular values decay fast, 1 or 2 otherwise)
+     * @param random generator for the random vectors
+     * @param pool pool in which matrix products should be run
+     * (if null, everything is run in the calling thread)
+     * @exception MathIllegalArgumentException if k is not between 1 and min(m, n),
+     * or oversampling or power iterations is negative
+     * @exception MathRuntimeException if operator is neither a matrix nor transposable
+     */
+    public RandomizedSingularValueDecomposition(final RealLinearOperator a, final int k,
+                                                final int oversampling, final int powerIterations,
+                                                final RandomGenerator random, final ForkJoinPool pool)
+        throws MathIllegalArgumentException, MathRuntimeException {
+
+        this.m = a.getRowDimension();
+        this.n = a.getColumnDimension();
+        MathUtils.checkRangeInclusive(k, 1, FastMath.min(m, n));
+        if (oversampling < 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, oversampling, 0);
+        }
+        if (powerIterations < 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, powerIterations, 0);
+        }
+        if (!(a instanceof RealMatrix || a.isTransposable())) {
+            throw new MathRuntimeException(LocalizedCoreFormats.UNSUPPORTED_OPERATION);
+        }
+        final int l = FastMath.min(k + oversampling, FastMath.min(m, n));
+
+        // sample the range of A
+        final double[][] omega = new double[l][n];
+        for (final double[] column : omega) {
+            for (int i = 0; i < n; ++i) {
+                column[i] = random.nextGaussian();
+            }
+        }
+        double[][] q = orthonormalize(apply(a, omega, pool));
+
+        // power iterations, with orthonormalization at each step to preserve
+        // the information associated with small singular values
+        for (int iteration = 0; iteration < powerIterations; ++iteration) {
+            q = orthonormalize(apply(a, orthonormalize(applyTranspose(a, q, pool)), pool));
+        }
+
+        // project: C = A^T Q = Q2 R, and R = Ur S Vr^T
+        // hence A ~ Q Q^T A = Q C^T = (Q Vr) S (Q2 Ur)^T
+        final double[][] c  = applyTranspose(a, q, pool);
+        final double[][] q2 = orthonormalize(copy(c));
+        final double[][] r  = new double[l][l];
+        for (int i = 0; i < l; ++i) {
+            for (int j = 0; j < l; ++j) {
+                r[i][j] = dot(q2[i], c[j]);
+            }
+        }
+        final SingularValueDecomposition svd = new SingularValueDecomposition(new Array2DRowRealMatrix(r, false));
+        final double[]   s  = svd.getSingularValues();
+        final RealMatrix ur = svd.getU();
+        final RealMatrix vr = svd.getV();
+
+        singularValues = new double[k];
+        u              = new double[k][];
+        v              = new double[k][];
+        for (int j = 0; j < k; ++j) {
+            singularValues[j] = s[j];
+            u[j]              = combine(q,  vr.getColumn(j), m);
+            v[j]              = combine(q2, ur.getColumn(j), n);
+        }
+
+    }
+
+    /** Apply operator to a set of vectors.
+     * @param a operator
+     * @param x vectors (each of dimension n)
+     * @param pool pool in which matrix products should be run (may be null)
+     * @return A x (each of dimension m)
+     */
+    private static double[][] apply(final RealLinearOperator a, final double[][] x, final ForkJoinPool pool) {
+        if (a instanceof BlockRealMatrix && pool != null) {
+            return toColumns(((BlockRealMatrix) a).multiply(fromColumns(x), pool));
+        } else if (a instanceof RealMatrix) {
+            return toColumns(((RealMatrix) a).multiply(fromColumns(x)));
+        } else {
+            final double[][] y = new double[x.length][];
+            for (int j = 0; j < x.length; ++j) {
+                y[j] = a.operate(new ArrayRealVector(x[j], false)).toArray();
+            }
+            return y;
+        }
+    }
+
+    /** Apply transposed operator to a set of vectors.
+     * @param a operator
+     * @param y vectors (each of dimension m)
+     * @param pool pool in which matrix products should be run (may be null)
+     * @return A<sup>T</sup> y (each of dimension n)
+     */
+    private static double[][] applyTranspose(final RealLinearOperator a, final double[][] y, final ForkJoinPool pool) {
+        if (a instanceof BlockRealMatrix && pool != null) {
+            return toColumns(((BlockRealMatrix) a).transposeMultiply(fromColumns(y), pool));
+        } else if (a instanceof RealMatrix) {
+            return toColumns(((RealMatrix) a).transposeMultiply(fromColumns(y)));
+        } else {
+            final double[][] x = new double[y.length][];
+            for (int j = 0; j < y.length; ++j) {
+                x[j] = a.operateTranspose(new ArrayRealVector(y[j], false)).toArray();
+            }
+            return x;
+        }
+    }
+
+    /** Build a matrix from column vectors.
+     * @param columns column vectors
+     * @return matrix whose columns are the given vectors
+     */
+    private static BlockRealMatrix fromColumns(final double[][] columns) {
+        final BlockRealMatrix matrix = new BlockRealMatrix(columns[0].length, columns.length);
+        for (int j = 0; j < columns.length; ++j) {
+            matrix.setColumn(j, columns[j]);
+        }
+        return matrix;
+    }
+
+    /** Extract the column vectors of a matrix.
+     * @param matrix matrix
+     * @return column vectors of the matrix
+     */
+    private static double[][] toColumns(final RealMatrix matrix) {
+        final double[][] columns = new double[matrix.getColumnDimension()][];
+        for (int j = 0; j < columns.length; ++j) {
+            columns[j] = matrix.getColumn(j);
+        }
+        return columns;
+    }
+
+    /** Orthonormalize a set of vectors in place.
+     * <p>
+     * Classical Gram-Schmidt is applied repeatedly until the norm does not
+     * drop too much ("twice is enough"). Vectors that are numerically in the
+     * span of the previous ones are replaced by zero.
+     * </p>
+     * @param x vectors to orthonormalize
+     * @return x, after orthonormalization
+     */
+    private static double[][] orthonormalize(final double[][] x) {
+        for (int j = 0; j < x.length; ++j) {
+            final double[] xj = x[j];
+            final double   initialNorm = norm(xj);
+            double previous = initialNorm;
+            double current  = initialNorm;
+            for (int pass = 0; pass < 3; ++pass) {
+                for (int i = 0; i < j; ++i) {
+                    final double   p  = dot(x[i], xj);
+                    final double[] xi = x[i];
+                    for (int r = 0; r < xj.length; ++r) {
+                        xj[r] -= p * xi[r];
+                    }
+                }
+                current = norm(xj);
+                if (current > 0.5 * previous) {
+                    break;
+                }
+                previous = current;
+            }
+            if (current <= 1.0e-14 * initialNorm || current == 0) {
+                // vector lies in the span of the previous ones
+                Arrays.fill(xj, 0.0);
+            } else {
+                final double inv = 1.0 / current;
+                for (int r = 0; r < xj.length; ++r) {
+                    xj[r] *= inv;
+                }
+            }
+        }
+        return x;
+    }
+
+    /** Combine vectors.
+     * @param x vectors
+     * @param coefficients combination coefficients
+     * @param dimension vectors dimension
+     * @return linear combination of the vectors
+     */
+    private static double[] combine(final double[][] x, final double[] coefficients, final int dimension) {
+        final double[] y = new double[dimension];
+        for (int j = 0; j < coefficients.length; ++j) {
+            final double   cj = coefficients[j];
+            final double[] xj = x[j];
+            for (int r = 0; r < dimension; ++r) {
+                y[r] += cj * xj[r];
+            }
+        }
+        return y;
+    }
+
+    /** Deep copy a set of vectors.
+     * @param x vectors
+     * @return copy of the vectors
+     */
+    private static double[][] copy(final double[][] x) {
+        final double[][] c = new double[x.length][];
+        for (int j = 0; j < x.length; ++j) {
+            c[j] = x[j].clone();
+        }
+        return c;
+    }
+
+    /** Compute dot product.
+     * @param x first vector
+     * @param y second vector
+     * @return dot product
+     */
+    private static double dot(final double[] x, final double[] y) {
+        return MatrixUtils.dotProduct(x, 0, y, 0, x.length);
+    }
+
+    /** Compute Euclidean norm.
+     * @param x vector
+     * @return Euclidean norm of x
+     */
+    private static double norm(final double[] x) {
+        return FastMath.sqrt(dot(x, x));
+    }
+
+    /** Get the number of computed singular triplets.
+     * @return number of computed singular triplets
+     */
+    public int getCount() {
+        return singularValues.length;
+    }
+
+    /**
+     * Returns the m &times; k matrix U of the truncated decomposition.
+     * @return the U matrix, whose columns are the leading left singular vectors
+     * @see #getUT()
+     */
+    public RealMatrix getU() {
+        return fromColumns(u);
+    }
+
+    /**
+     * Returns the transpose of the matrix U of the truncated decomposition.
+     * @return the U<sup>T</sup> matrix
+     * @see #getU()
+     */
+    public RealMatrix getUT() {
+        return MatrixUtils.createRealMatrix(u);
+    }
+
+    /**
+     * Returns the k &times; k diagonal matrix &Sigma; of the truncated decomposition.
+     * @return the &Sigma; matrix
+     */
+    public RealMatrix getS() {
+        return MatrixUtils.createRealDiagonalMatrix(singularValues);
+    }
+
+    /**
+     * Returns the leading singular values.
+     * @return leading singular values, in non-increasing order
+     */
+    public double[] getSingularValues() {
+        return singularValues.clone();
+    }
+
+    /**
+     * Returns the n &times; k matrix V of the truncated decomposition.
+     * @return the V matrix, whose columns are the leading right singular vectors
+     * @see #getVT()
+     */
+    public RealMatrix getV() {
+        return fromColumns(v);
+    }
+
+    /**
+     * Returns the transpose of the matrix V of the truncated decomposition.
+     * @return the V<sup>T</sup> matrix
+     * @see #getV()
+     */
+    public RealMatrix getVT() {
+        return MatrixUtils.createRealMatrix(v);
+    }
+
+    /**
+     * Returns the L<sub>2</sub> norm estimate of the matrix, i.e. its largest singular value.
+     * @return L<sub>2</sub> norm estimate
+     */
+    public double getNorm() {
+        return singularValues[0];
+    }
+
+    /**
+     * Get the number of rows of the decomposed operator.
+     * @return number of rows of the decomposed operator
+     */
+    public int getRowDimension() {
+        return m;
+    }
+
+    /**
+     * Get the number of columns of the decomposed operator.
+     * @return number of columns of the decomposed operator
+     */
+    public int getColumnDimension() {
+        return n;
+    }
+
+}
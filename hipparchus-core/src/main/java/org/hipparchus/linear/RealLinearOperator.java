@@ -23,6 +23,7 @@
 package org.hipparchus.linear;
 
 import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.MathUtils;
 
 /**
  * This class defines a linear operator operating on real ({@code double})
@@ -77,6 +78,30 @@ public interface RealLinearOperator {
     RealVector operate(RealVector x)
         throws MathIllegalArgumentException;
 
+    /**
+     * Computes the result of multiplying {@code this} by the vector {@code x}
+     * into a destination vector.
+     * <p>
+     * Iterative solvers call this method in their inner loops, so operators
+     * that can compute the product in place should override it to avoid
+     * allocating a new vector at each iteration. The default implementation
+     * calls {@link #operate(RealVector)} and copies the result into {@code out}.
+     * The destination may be {@code x} itself.
+     * </p>
+     * @param x the vector to operate on
+     * @param out destination vector, which must have the row dimension of {@code this}
+     * @return {@code out}, set to the product of {@code this} instance with {@code x}
+     * @throws MathIllegalArgumentException if the column dimension does not match
+     * the size of {@code x} or the row dimension does not match the size of {@code out}
+     * @since 4.0
+     */
+    default RealVector operate(final RealVector x, final RealVector out)
+        throws MathIllegalArgumentException {
+        MathUtils.checkDimension(out.getDimension(), getRowDimension());
+        out.setSubVector(0, operate(x));
+        return out;
+    }
+
     /**
      * Returns the result of multiplying the transpose of {@code this} operator
      * by the vector {@code x} (optional operation).
@@ -28,6 +28,7 @@ import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.NullArgumentException;
 import org.hipparchus.util.Blendable;
 import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
 
 /**
  * Interface defining a real-valued matrix with basic algebraic operations.
@@ -81,6 +82,56 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
     RealMatrix subtract(RealMatrix m)
         throws MathIllegalArgumentException;
 
+    /**
+     * Computes the sum of {@code this} and {@code m} into a destination matrix.
+     * <p>
+     * This method does not allocate any intermediate storage. The destination
+     * may be {@code this} or {@code m} itself.
+     * </p>
+     * @param m matrix to be added
+     * @param out destination matrix, which must have the same size as {@code this}
+     * @return {@code out}, set to {@code this + m}
+     * @throws MathIllegalArgumentException if {@code m} or {@code out} is not
+     * the same size as {@code this}.
+     * @since 4.0
+     */
+    default RealMatrix add(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkAdditionCompatible(this, m);
+        MatrixUtils.checkAdditionCompatible(this, out);
+        for (int row = 0; row < getRowDimension(); ++row) {
+            for (int col = 0; col < getColumnDimension(); ++col) {
+                out.setEntry(row, col, getEntry(row, col) + m.getEntry(row, col));
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Computes {@code this} minus {@code m} into a destination matrix.
+     * <p>
+     * This method does not allocate any intermediate storage. The destination
+     * may be {@code this} or {@code m} itself.
+     * </p>
+     * @param m matrix to be subtracted
+     * @param out destination matrix, which must have the same size as {@code this}
+     * @return {@code out}, set to {@code this - m}
+     * @throws MathIllegalArgumentException if {@code m} or {@code out} is not
+     * the same size as {@code this}.
+     * @since 4.0
+     */
+    default RealMatrix subtract(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubtractionCompatible(this, m);
+        MatrixUtils.checkSubtractionCompatible(this, out);
+        for (int row = 0; row < getRowDimension(); ++row) {
+            for (int col = 0; col < getColumnDimension(); ++col) {
+                out.setEntry(row, col, getEntry(row, col) - m.getEntry(row, col));
+            }
+        }
+        return out;
+    }
+
     /**
      * Returns the result of adding {@code d} to each entry of {@code this}.
      *
@@ -109,6 +160,44 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
     RealMatrix multiply(RealMatrix m)
         throws MathIllegalArgumentException;
 
+    /**
+     * Computes the result of postmultiplying {@code this} by {@code m} into a
+     * destination matrix.
+     * <p>
+     * The destination should not share storage with {@code this} or {@code m},
+     * but it may be one of these instances, in which case the product is first
+     * computed in temporary storage.
+     * </p>
+     * @param m matrix to postmultiply by
+     * @param out destination matrix, which must have the row dimension of
+     * {@code this} and the column dimension of {@code m}
+     * @return {@code out}, set to {@code this * m}
+     * @throws MathIllegalArgumentException if
+     * {@code columnDimension(this) != rowDimension(m)} or if {@code out}
+     * does not have the dimensions of the product
+     * @since 4.0
+     */
+    default RealMatrix multiply(final RealMatrix m, final RealMatrix out)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        MatrixUtils.checkDimensions(out, getRowDimension(), m.getColumnDimension());
+        if (out == this || out == m) {
+            out.setSubMatrix(multiply(m).getData(), 0, 0);
+            return out;
+        }
+        final int nSum = getColumnDimension();
+        for (int row = 0; row < out.getRowDimension(); ++row) {
+            for (int col = 0; col < out.getColumnDimension(); ++col) {
+                double sum = 0;
+                for (int i = 0; i < nSum; ++i) {
+                    sum += getEntry(row, i) * m.getEntry(i, col);
+                }
+                out.setEntry(row, col, sum);
+            }
+        }
+        return out;
+    }
+
     /**
      * Returns the result of postmultiplying {@code this} by {@code m^T}.
      * <p>
@@ -300,6 +389,29 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
                             int endColumn)
         throws MathIllegalArgumentException;
 
+    /**
+     * Gets a view on a submatrix. Rows and columns are indicated
+     * counting from 0 to n-1.
+     * <p>
+     * Contrary to {@link #getSubMatrix(int, int, int, int)}, no data is copied:
+     * the returned matrix reads and writes through to {@code this} matrix.
+     * </p>
+     *
+     * @param startRow Initial row index
+     * @param endRow Final row index (inclusive)
+     * @param startColumn Initial column index
+     * @param endColumn Final column index (inclusive)
+     * @return a view on the specified rows and columns
+     * @throws MathIllegalArgumentException if the indices are not valid.
+     * @throws MathIllegalArgumentException if {@code endRow < startRow} or
+     * {@code endColumn < startColumn}.
+     * @since 4.0
+     */
+    default RealMatrix getSubMatrixView(int startRow, int endRow, int startColumn, int endColumn)
+        throws MathIllegalArgumentException {
+        return new SubMatrixView(this, startRow, endRow, startColumn, endColumn);
+    }
+
     /**
      * Gets a submatrix. Rows and columns are indicated counting from 0 to n-1.
      *
@@ -399,6 +511,22 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
     */
    RealMatrix getRowMatrix(int row) throws MathIllegalArgumentException;
 
+    /**
+     * Get a view on the given row as a row matrix. Row indices start at 0.
+     * <p>
+     * Contrary to {@link #getRowMatrix(int)}, no data is copied: the returned
+     * matrix reads and writes through to {@code this} matrix.
+     * </p>
+     *
+     * @param row Row to be viewed.
+     * @return row matrix view.
+     * @throws MathIllegalArgumentException if the specified row index is invalid.
+     * @since 4.0
+     */
+    default RealMatrix getRowMatrixView(int row) throws MathIllegalArgumentException {
+        return getSubMatrixView(row, row, 0, getColumnDimension() - 1);
+    }
+
     /**
      * Sets the specified {@code row} of {@code this} matrix to the entries of
      * the specified row {@code matrix}. Row indices start at 0.
@@ -425,6 +553,23 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
     RealMatrix getColumnMatrix(int column)
         throws MathIllegalArgumentException;
 
+    /**
+     * Get a view on the given column as a column matrix. Column indices
+     * start at 0.
+     * <p>
+     * Contrary to {@link #getColumnMatrix(int)}, no data is copied: the returned
+     * matrix reads and writes through to {@code this} matrix.
+     * </p>
+     *
+     * @param column Column to be viewed.
+     * @return column matrix view.
+     * @throws MathIllegalArgumentException if the specified column index is invalid.
+     * @since 4.0
+     */
+    default RealMatrix getColumnMatrixView(int column) throws MathIllegalArgumentException {
+        return getSubMatrixView(0, getRowDimension() - 1, column, column);
+    }
+
     /**
      * Sets the specified {@code column} of {@code this} matrix to the entries
      * of the specified column {@code matrix}. Column indices start at 0.
@@ -451,6 +596,24 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
     RealVector getRowVector(int row)
         throws MathIllegalArgumentException;
 
+    /**
+     * Returns a view on row number {@code row} as a vector. Row indices
+     * start at 0.
+     * <p>
+     * Contrary to {@link #getRowVector(int)}, no data is copied: the returned
+     * vector reads and writes through to {@code this} matrix.
+     * </p>
+     *
+     * @param row Row to be viewed.
+     * @return a row vector view.
+     * @throws MathIllegalArgumentException if the specified row index is invalid.
+     * @since 4.0
+     */
+    default RealVector getRowVectorView(int row) throws MathIllegalArgumentException {
+        MatrixUtils.checkRowIndex(this, row);
+        return new MatrixVectorView(this, row, 0, getColumnDimension(), true);
+    }
+
     /**
      * Sets the specified {@code row} of {@code this} matrix to the entries of
      * the specified {@code vector}. Row indices start at 0.
@@ -476,6 +639,24 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
     RealVector getColumnVector(int column)
         throws MathIllegalArgumentException;
 
+    /**
+     * Returns a view on column number {@code column} as a vector. Column indices
+     * start at 0.
+     * <p>
+     * Contrary to {@link #getColumnVector(int)}, no data is copied: the returned
+     * vector reads and writes through to {@code this} matrix.
+     * </p>
+     *
+     * @param column Column to be viewed.
+     * @return a column vector view.
+     * @throws MathIllegalArgumentException if the specified column index is invalid.
+     * @since 4.0
+     */
+    default RealVector getColumnVectorView(int column) throws MathIllegalArgumentException {
+        MatrixUtils.checkColumnIndex(this, column);
+        return new MatrixVectorView(this, 0, column, getRowDimension(), false);
+    }
+
     /**
      * Sets the specified {@code column} of {@code this} matrix to the entries
      * of the specified {@code vector}. Column indices start at 0.
@@ -588,6 +769,20 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
      */
     RealMatrix transpose();
 
+    /**
+     * Returns a view on the transpose of this matrix.
+     * <p>
+     * Contrary to {@link #transpose()}, no data is copied: the returned
+     * matrix reads and writes through to {@code this} matrix.
+     * </p>
+     *
+     * @return transposed view
+     * @since 4.0
+     */
+    default RealMatrix getTransposeView() {
+        return new TransposedMatrixView(this);
+    }
+
     /**
      * Returns the <a href="http://mathworld.wolfram.com/MatrixTrace.html">
      * trace</a> of the matrix (the sum of the elements on the main diagonal).
@@ -617,6 +812,76 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
      */
     RealVector operate(RealVector v) throws MathIllegalArgumentException;
 
+    /**
+     * Computes the result of multiplying this by the vector {@code v} into a
+     * destination array.
+     * <p>
+     * If {@code out} and {@code v} are the same array, the product is first
+     * computed in temporary storage.
+     * </p>
+     * @param v the vector to operate on
+     * @param out destination array, which must have the row dimension of {@code this}
+     * @return {@code out}, set to {@code this * v}
+     * @throws MathIllegalArgumentException if the length of {@code v} does not
+     * match the column dimension of {@code this} or the length of {@code out}
+     * does not match the row dimension of {@code this}.
+     * @since 4.0
+     */
+    default double[] operate(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        MathUtils.checkDimension(v.length, getColumnDimension());
+        MathUtils.checkDimension(out.length, getRowDimension());
+        if (out == v) {
+            System.arraycopy(operate(v), 0, out, 0, out.length);
+            return out;
+        }
+        for (int row = 0; row < out.length; ++row) {
+            double sum = 0;
+            for (int i = 0; i < v.length; ++i) {
+                sum += getEntry(row, i) * v[i];
+            }
+            out[row] = sum;
+        }
+        return out;
+    }
+
+    /**
+     * Computes the result of multiplying this by the vector {@code v} into a
+     * destination vector.
+     * <p>
+     * If {@code out} and {@code v} are the same instance, the product is first
+     * computed in temporary storage.
+     * </p>
+     * @param v the vector to operate on
+     * @param out destination vector, which must have the row dimension of {@code this}
+     * @return {@code out}, set to {@code this * v}
+     * @throws MathIllegalArgumentException if the dimension of {@code v} does not
+     * match the column dimension of {@code this} or the dimension of {@code out}
+     * does not match the row dimension of {@code this}.
+     * @since 4.0
+     */
+    default RealVector operate(final RealVector v, final RealVector out)
+        throws MathIllegalArgumentException {
+        if (v instanceof ArrayRealVector && out instanceof ArrayRealVector) {
+            operate(((ArrayRealVector) v).getDataRef(), ((ArrayRealVector) out).getDataRef());
+            return out;
+        }
+        MathUtils.checkDimension(v.getDimension(), getColumnDimension());
+        MathUtils.checkDimension(out.getDimension(), getRowDimension());
+        if (out == v) {
+            out.setSubVector(0, operate(v));
+            return out;
+        }
+        for (int row = 0; row < out.getDimension(); ++row) {
+            double sum = 0;
+            for (int i = 0; i < v.getDimension(); ++i) {
+                sum += getEntry(row, i) * v.getEntry(i);
+            }
+            out.setEntry(row, sum);
+        }
+        return out;
+    }
+
     /**
      * Returns the (row) vector result of premultiplying this by the vector {@code v}.
      *
@@ -627,6 +892,39 @@ public interface RealMatrix extends AnyMatrix, Blendable<RealMatrix> {
      */
     double[] preMultiply(double[] v) throws MathIllegalArgumentException;
 
+    /**
+     * Computes the (row) vector result of premultiplying this by the vector
+     * {@code v} into a destination array.
+     * <p>
+     * If {@code out} and {@code v} are the same array, the product is first
+     * computed in temporary storage.
+     * </p>
+     * @param v the row vector to premultiply by
+     * @param out destination array, which must have the column dimension of {@code this}
+     * @return {@code out}, set to {@code v * this}
+     * @throws MathIllegalArgumentException if the length of {@code v} does not
+     * match the row dimension of {@code this} or the length of {@code out}
+     * does not match the column dimension of {@code this}.
+     * @since 4.0
+     */
+    default double[] preMultiply(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        MathUtils.checkDimension(v.length, getRowDimension());
+        MathUtils.checkDimension(out.length, getColumnDimension());
+        if (out == v) {
+            System.arraycopy(preMultiply(v), 0, out, 0, out.length);
+            return out;
+        }
+        for (int col = 0; col < out.length; ++col) {
+            double sum = 0;
+            for (int i = 0; i < v.length; ++i) {
+                sum += getEntry(i, col) * v[i];
+            }
+            out[col] = sum;
+        }
+        return out;
+    }
+
     /**
      * Returns the (row) vector result of premultiplying this by the vector {@code v}.
      *
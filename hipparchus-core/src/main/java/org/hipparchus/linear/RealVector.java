@@ -273,6 +273,46 @@ public abstract class RealVector {
         return result;
     }
 
+    /**
+     * Compute the sum of this vector and {@code v} into a destination vector.
+     * Does not change instance data, unless {@code out} is {@code this}.
+     *
+     * @param v Vector to be added.
+     * @param out Destination vector, which may be {@code this} or {@code v}.
+     * @return {@code out}, set to {@code this} + {@code v}.
+     * @throws MathIllegalArgumentException if {@code v} or {@code out} is not
+     * the same size as {@code this} vector.
+     * @since 4.0
+     */
+    public RealVector add(RealVector v, RealVector out) throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        checkVectorDimensions(out);
+        for (int i = 0; i < getDimension(); i++) {
+            out.setEntry(i, getEntry(i) + v.getEntry(i));
+        }
+        return out;
+    }
+
+    /**
+     * Subtract {@code v} from this vector into a destination vector.
+     * Does not change instance data, unless {@code out} is {@code this}.
+     *
+     * @param v Vector to be subtracted.
+     * @param out Destination vector, which may be {@code this} or {@code v}.
+     * @return {@code out}, set to {@code this} - {@code v}.
+     * @throws MathIllegalArgumentException if {@code v} or {@code out} is not
+     * the same size as {@code this} vector.
+     * @since 4.0
+     */
+    public RealVector subtract(RealVector v, RealVector out) throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        checkVectorDimensions(out);
+        for (int i = 0; i < getDimension(); i++) {
+            out.setEntry(i, getEntry(i) - v.getEntry(i));
+        }
+        return out;
+    }
+
     /**
      * Add a value to each entry.
      * Returns a new vector. Does not change instance data.
@@ -368,6 +408,46 @@ public abstract class RealVector {
     public abstract RealVector ebeMultiply(RealVector v)
         throws MathIllegalArgumentException;
 
+    /**
+     * Element-by-element division into a destination vector.
+     *
+     * @param v Vector by which instance elements must be divided.
+     * @param out Destination vector, which may be {@code this} or {@code v}.
+     * @return {@code out}, set to this[i] / v[i] for all i.
+     * @throws MathIllegalArgumentException if {@code v} or {@code out} is not
+     * the same size as {@code this} vector.
+     * @since 4.0
+     */
+    public RealVector ebeDivide(RealVector v, RealVector out)
+        throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        checkVectorDimensions(out);
+        for (int i = 0; i < getDimension(); i++) {
+            out.setEntry(i, getEntry(i) / v.getEntry(i));
+        }
+        return out;
+    }
+
+    /**
+     * Element-by-element multiplication into a destination vector.
+     *
+     * @param v Vector by which instance elements must be multiplied
+     * @param out Destination vector, which may be {@code this} or {@code v}.
+     * @return {@code out}, set to this[i] * v[i] for all i.
+     * @throws MathIllegalArgumentException if {@code v} or {@code out} is not
+     * the same size as {@code this} vector.
+     * @since 4.0
+     */
+    public RealVector ebeMultiply(RealVector v, RealVector out)
+        throws MathIllegalArgumentException {
+        checkVectorDimensions(v);
+        checkVectorDimensions(out);
+        for (int i = 0; i < getDimension(); i++) {
+            out.setEntry(i, getEntry(i) * v.getEntry(i));
+        }
+        return out;
+    }
+
     /**
      * Distance between two vectors.
      * <p>This method computes the distance consistent with the
@@ -852,6 +932,31 @@ public abstract class RealVector {
         return copy().combineToSelf(a, b, y);
     }
 
+    /**
+     * Computes {@code a * this + b * y}, the linear combination of {@code this}
+     * and {@code y}, into a destination vector.
+     * Does not change instance data, unless {@code out} is {@code this}.
+     *
+     * @param a Coefficient of {@code this}.
+     * @param b Coefficient of {@code y}.
+     * @param y Vector with which {@code this} is linearly combined.
+     * @param out Destination vector, which may be {@code this} or {@code y}.
+     * @return {@code out}, with components equal to
+     * {@code a * this[i] + b * y[i]} for all {@code i}.
+     * @throws MathIllegalArgumentException if {@code y} or {@code out} is not
+     * the same size as {@code this} vector.
+     * @since 4.0
+     */
+    public RealVector combine(double a, double b, RealVector y, RealVector out)
+        throws MathIllegalArgumentException {
+        checkVectorDimensions(y);
+        checkVectorDimensions(out);
+        for (int i = 0; i < getDimension(); i++) {
+            out.setEntry(i, a * getEntry(i) + b * y.getEntry(i));
+        }
+        return out;
+    }
+
     /**
      * Updates {@code this} with the linear combination of {@code this} and
      * {@code y}.
@@ -1322,6 +1427,13 @@ public abstract class RealVector {
                 return v.add(w);
             }
 
+            /** {@inheritDoc} */
+            @Override
+            public RealVector add(RealVector w, RealVector out)
+                throws MathIllegalArgumentException {
+                return v.add(w, out);
+            }
+
             /** {@inheritDoc} */
             @Override
             public RealVector subtract(RealVector w)
@@ -1329,6 +1441,13 @@ public abstract class RealVector {
                 return v.subtract(w);
             }
 
+            /** {@inheritDoc} */
+            @Override
+            public RealVector subtract(RealVector w, RealVector out)
+                throws MathIllegalArgumentException {
+                return v.subtract(w, out);
+            }
+
             /** {@inheritDoc} */
             @Override
             public RealVector mapAdd(double d) {
@@ -1408,6 +1527,13 @@ public abstract class RealVector {
                 return v.ebeMultiply(w);
             }
 
+            /** {@inheritDoc} */
+            @Override
+            public RealVector ebeMultiply(RealVector w, RealVector out)
+                throws MathIllegalArgumentException {
+                return v.ebeMultiply(w, out);
+            }
+
             /** {@inheritDoc} */
             @Override
             public RealVector ebeDivide(RealVector w)
@@ -1415,6 +1541,13 @@ public abstract class RealVector {
                 return v.ebeDivide(w);
             }
 
+            /** {@inheritDoc} */
+            @Override
+            public RealVector ebeDivide(RealVector w, RealVector out)
+                throws MathIllegalArgumentException {
+                return v.ebeDivide(w, out);
+            }
+
             /** {@inheritDoc} */
             @Override
             public double dotProduct(RealVector w)
@@ -1595,6 +1728,13 @@ public abstract class RealVector {
                 return v.combine(a, b, y);
             }
 
+            /** {@inheritDoc} */
+            @Override
+            public RealVector combine(double a, double b, RealVector y, RealVector out)
+                throws MathIllegalArgumentException {
+                return v.combine(a, b, y, out);
+            }
+
             /**
              * {@inheritDoc}
              *
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Symmetric successive over-relaxation preconditioner.
+ * <p>
+ * With A = L + D + U split into its strictly lower triangular, diagonal and
+ * strictly upper triangular parts, the preconditioner is
+ * M = (D + &omega; L) D<sup>-1</sup> (D + &omega; U) / (&omega; (2 - &omega;)).
+ * It does not need any factorization, only the matrix itself, and applying it
+ * to a vector costs one forward and one backward sparse substitution.
+ * </p>
+ * <p>
+ * For a symmetric positive definite matrix, the preconditioner is also
+ * symmetric positive definite, hence suitable for {@link ConjugateGradient}
+ * and {@link SymmLQ}. With &omega; = 1, this is the symmetric Gauss-Seidel
+ * preconditioner.
+ * </p>
+ * @see IncompleteCholeskyPreconditioner
+ * @see IncompleteLUPreconditioner
+ * @since 4.0
+ */
+public class SSORPreconditioner implements RealLinearOperator {
+
+    /** Underlying matrix. */
+    private final CompressedRowRealMatrix matrix;
+
+    /** Positions of the first entry on or after the diagonal in each row. */
+    private final int[] lowerEnd;
+
+    /** Positions of the first entry after the diagonal in each row. */
+    private final int[] upperStart;
+
+    /** Diagonal of the matrix. */
+    private final double[] diagonal;
+
+    /** Relaxation parameter. */
+    private final double omega;
+
+    /** Simple constructor.
+     * @param matrix matrix to precondition
+     * @param omega relaxation parameter, must be in (0, 2)
+     * @exception MathIllegalArgumentException if matrix is not square,
+     * if omega is out of range or if one diagonal entry is zero
+     */
+    public SSORPreconditioner(final RealMatrix matrix, final double omega)
+        throws MathIllegalArgumentException {
+
+        if (!matrix.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension());
+        }
+        if (omega <= 0) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED,
+                                                   omega, 0);
+        }
+        if (omega >= 2) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_LARGE_BOUND_EXCLUDED,
+                                                   omega, 2);
+        }
+
+        this.matrix = CompressedRowRealMatrix.compress(matrix);
+        this.omega  = omega;
+
+        final int      n        = this.matrix.getRowDimension();
+        final int[]    pointers = this.matrix.getPointersRef();
+        final int[]    indices  = this.matrix.getIndicesRef();
+        final double[] values   = this.matrix.getValuesRef();
+        lowerEnd   = new int[n];
+        upperStart = new int[n];
+        diagonal   = new double[n];
+        for (int i = 0; i < n; ++i) {
+            int p = pointers[i];
+            while (p < pointers[i + 1] && indices[p] < i) {
+                ++p;
+            }
+            lowerEnd[i] = p;
+            if (p < pointers[i + 1] && indices[p] == i) {
+                diagonal[i] = values[p++];
+            }
+            if (diagonal[i] == 0.0) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+            upperStart[i] = p;
+        }
+
+    }
+
+    /** Get the relaxation parameter.
+     * @return relaxation parameter
+     */
+    public double getOmega() {
+        return omega;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return diagonal.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return diagonal.length;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector x) throws MathIllegalArgumentException {
+        MathUtils.checkDimension(x.getDimension(), diagonal.length);
+        final double[] y = x.toArray();
+        sweepInPlace(y);
+        return new ArrayRealVector(y, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector x, final RealVector out) throws MathIllegalArgumentException {
+        final int n = diagonal.length;
+        MathUtils.checkDimension(x.getDimension(), n);
+        MathUtils.checkDimension(out.getDimension(), n);
+        if (out instanceof ArrayRealVector) {
+            // solve directly in the destination storage
+            final double[] y = ((ArrayRealVector) out).getDataRef();
+            if (x instanceof ArrayRealVector) {
+                System.arraycopy(((ArrayRealVector) x).getDataRef(), 0, y, 0, n);
+            } else {
+                for (int i = 0; i < n; ++i) {
+                    y[i] = x.getEntry(i);
+                }
+            }
+            sweepInPlace(y);
+        } else {
+            out.setSubVector(0, operate(x));
+        }
+        return out;
+    }
+
+    /** Apply the forward and backward sweeps in place.
+     * @param y right hand side on input, solution on output
+     */
+    private void sweepInPlace(final double[] y) {
+
+        final int n = y.length;
+        final int[]    pointers = matrix.getPointersRef();
+        final int[]    indices  = matrix.getIndicesRef();
+        final double[] values   = matrix.getValuesRef();
+
+        // forward sweep (D + omega L) y = omega (2 - omega) x
+        final double scale = omega * (2 - omega);
+        for (int i = 0; i < n; ++i) {
+            double sum = 0;
+            for (int p = pointers[i]; p < lowerEnd[i]; ++p) {
+                sum += values[p] * y[indices[p]];
+            }
+            y[i] = (scale * y[i] - omega * sum) / diagonal[i];
+        }
+
+        // backward sweep (D + omega U) z = D y
+        for (int i = n - 1; i >= 0; --i) {
+            double sum = 0;
+            for (int p = upperStart[i]; p < pointers[i + 1]; ++p) {
+                sum += values[p] * y[indices[p]];
+            }
+            y[i] -= omega * sum / diagonal[i];
+        }
+
+    }
+
+}
@@ -0,0 +1,628 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Batch of small matrices sharing the same dimensions, in structure-of-arrays layout.
+ * <p>
+ * All entries of the N matrices are stored in one flat array, entry (i, j) of matrix k
+ * being at index (i &times; columns + j) &times; N + k. The N values of one entry are
+ * therefore contiguous. All operations process the whole batch at once, with innermost
+ * loops running over the matrices of the batch: these loops have no dependencies between
+ * iterations, no virtual calls and simple indexing, so the JIT compiler can vectorize them.
+ * Large batches are processed by blocks of matrices, so the working set of each
+ * block remains in cache.
+ * </p>
+ * <p>
+ * This class is intended for workloads that perform the same operation on many small
+ * matrices, like propagating thousands of 6 &times; 6 covariance matrices. For a handful
+ * of matrices, or for larger ones, regular {@link RealMatrix} implementations are better
+ * suited.
+ * </p>
+ * @since 4.0
+ */
+public class SmallMatrixBatch implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Number of matrices processed together. */
+    private static final int LANES = 64;
+
+    /** Number of matrices. */
+    private final int count;
+
+    /** Number of rows. */
+    private final int rows;
+
+    /** Number of columns. */
+    private final int columns;
+
+    /** Entries, in structure-of-arrays layout. */
+    private final double[] data;
+
+    /**
+     * Create a batch of matrices with all entries set to zero.
+     * @param count number of matrices in the batch
+     * @param rows number of rows of each matrix
+     * @param columns number of columns of each matrix
+     * @exception MathIllegalArgumentException if any dimension is not positive
+     */
+    public SmallMatrixBatch(final int count, final int rows, final int columns)
+        throws MathIllegalArgumentException {
+        if (count < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL, count, 1);
+        }
+        if (rows < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.AT_LEAST_ONE_ROW);
+        }
+        if (columns < 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.AT_LEAST_ONE_COLUMN);
+        }
+        this.count   = count;
+        this.rows    = rows;
+        this.columns = columns;
+        this.data    = new double[count * rows * columns];
+    }
+
+    /**
+     * Create a batch from regular matrices.
+     * @param matrices matrices to store (they must all have the same dimensions)
+     * @exception MathIllegalArgumentException if the array is empty or
+     * matrices dimensions are not consistent
+     */
+    public SmallMatrixBatch(final RealMatrix... matrices)
+        throws MathIllegalArgumentException {
+        this(matrices.length,
+             matrices.length == 0 ? 1 : matrices[0].getRowDimension(),
+             matrices.length == 0 ? 1 : matrices[0].getColumnDimension());
+        for (int k = 0; k < count; ++k) {
+            setMatrix(k, matrices[k]);
+        }
+    }
+
+    /** Get the number of matrices in the batch.
+     * @return number of matrices in the batch
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /** Get the number of rows of each matrix.
+     * @return number of rows of each matrix
+     */
+    public int getRowDimension() {
+        return rows;
+    }
+
+    /** Get the number of columns of each matrix.
+     * @return number of columns of each matrix
+     */
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    /**
+     * Get a reference to the underlying data array.
+     * <p>
+     * Entry (i, j) of matrix k is at index (i &times; columns + j) &times; count + k.
+     * </p>
+     * @return reference to the underlying data array
+     */
+    public double[] getDataRef() {
+        return data; // NOPMD - returning an internal array is intentional and documented here
+    }
+
+    /** Create a deep copy of the batch.
+     * @return copy of the batch
+     */
+    public SmallMatrixBatch copy() {
+        final SmallMatrixBatch copy = new SmallMatrixBatch(count, rows, columns);
+        System.arraycopy(data, 0, copy.data, 0, data.length);
+        return copy;
+    }
+
+    /**
+     * Get one entry of one matrix.
+     * @param index index of the matrix in the batch
+     * @param row row index
+     * @param column column index
+     * @return entry (row, column) of matrix index
+     * @exception MathIllegalArgumentException if an index is out of range
+     */
+    public double getEntry(final int index, final int row, final int column)
+        throws MathIllegalArgumentException {
+        return data[offset(index, row, column)];
+    }
+
+    /**
+     * Set one entry of one matrix.
+     * @param index index of the matrix in the batch
+     * @param row row index
+     * @param column column index
+     * @param value new value of entry (row, column) of matrix index
+     * @exception MathIllegalArgumentException if an index is out of range
+     */
+    public void setEntry(final int index, final int row, final int column, final double value)
+        throws MathIllegalArgumentException {
+        data[offset(index, row, column)] = value;
+    }
+
+    /**
+     * Extract one matrix of the batch.
+     * @param index index of the matrix in the batch
+     * @return copy of the matrix
+     * @exception MathIllegalArgumentException if index is out of range
+     */
+    public RealMatrix getMatrix(final int index)
+        throws MathIllegalArgumentException {
+        checkIndex(index);
+        final double[][] m = new double[rows][columns];
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                m[i][j] = data[(i * columns + j) * count + index];
+            }
+        }
+        return new Array2DRowRealMatrix(m, false);
+    }
+
+    /**
+     * Replace one matrix of the batch.
+     * @param index index of the matrix in the batch
+     * @param m new matrix
+     * @exception MathIllegalArgumentException if index is out of range
+     * or matrix dimensions are not consistent with the batch
+     */
+    public void setMatrix(final int index, final RealMatrix m)
+        throws MathIllegalArgumentException {
+        checkIndex(index);
+        if (m.getRowDimension() != rows || m.getColumnDimension() != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2,
+                                                   m.getRowDimension(), m.getColumnDimension(),
+                                                   rows, columns);
+        }
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                data[(i * columns + j) * count + index] = m.getEntry(i, j);
+            }
+        }
+    }
+
+    /**
+     * Multiply all matrices of the batch by the corresponding matrices of another batch.
+     * @param b batch to post-multiply by
+     * @return new batch containing this<sub>k</sub> &times; b<sub>k</sub>
+     * @exception MathIllegalArgumentException if batches are not compatible
+     */
+    public SmallMatrixBatch multiply(final SmallMatrixBatch b)
+        throws MathIllegalArgumentException {
+        final SmallMatrixBatch out = new SmallMatrixBatch(count, rows, b.columns);
+        multiply(b, out);
+        return out;
+    }
+
+    /**
+     * Multiply all matrices of the batch by the corresponding matrices of another batch.
+     * @param b batch to post-multiply by
+     * @param out batch where to put the result (must be neither {@code this} nor {@code b})
+     * @return out, containing this<sub>k</sub> &times; b<sub>k</sub>
+     * @exception MathIllegalArgumentException if batches are not compatible
+     * or if {@code out} is {@code this} or {@code b}
+     */
+    public SmallMatrixBatch multiply(final SmallMatrixBatch b, final SmallMatrixBatch out)
+        throws MathIllegalArgumentException {
+        checkCount(b);
+        checkCount(out);
+        checkNotOperand(out, b);
+        if (columns != b.rows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2,
+                                                   rows, columns, b.rows, b.columns);
+        }
+        checkDimensions(out, rows, b.columns);
+        for (int k0 = 0; k0 < count; k0 += LANES) {
+            multiply(data, rows, columns, b.data, b.columns, out.data, k0, FastMath.min(count, k0 + LANES));
+        }
+        return out;
+    }
+
+    /**
+     * Compute the congruence transforms of another batch by the matrices of this batch.
+     * <p>
+     * This is the covariance propagation through linear transforms, applied to the whole
+     * batch. As the results are symmetric, only their upper triangular part is computed,
+     * the lower triangular part being copied.
+     * </p>
+     * @param p batch of square matrices with as many rows as {@code this} has columns
+     * @return new batch containing this<sub>k</sub> &times; p<sub>k</sub> &times; this<sub>k</sub><sup>T</sup>
+     * @exception MathIllegalArgumentException if batches are not compatible
+     */
+    public SmallMatrixBatch congruence(final SmallMatrixBatch p)
+        throws MathIllegalArgumentException {
+        final SmallMatrixBatch out = new SmallMatrixBatch(count, rows, rows);
+        congruence(p, out);
+        return out;
+    }
+
+    /**
+     * Compute the congruence transforms of another batch by the matrices of this batch.
+     * @param p batch of square matrices with as many rows as {@code this} has columns
+     * @param out batch where to put the result (must be neither {@code this} nor {@code p})
+     * @return out, containing this<sub>k</sub> &times; p<sub>k</sub> &times; this<sub>k</sub><sup>T</sup>
+     * @exception MathIllegalArgumentException if batches are not compatible
+     * or if {@code out} is {@code this} or {@code p}
+     * @see #congruence(SmallMatrixBatch)
+     */
+    public SmallMatrixBatch congruence(final SmallMatrixBatch p, final SmallMatrixBatch out)
+        throws MathIllegalArgumentException {
+        checkCount(p);
+        checkCount(out);
+        checkNotOperand(out, p);
+        checkDimensions(p, columns, columns);
+        checkDimensions(out, rows, rows);
+
+        final double[] pData = p.data;
+        final double[] oData = out.data;
+        final double[] tRow  = new double[columns * LANES];
+        for (int k0 = 0; k0 < count; k0 += LANES) {
+            final int w = FastMath.min(count, k0 + LANES) - k0;
+            for (int i = 0; i < rows; ++i) {
+
+                // row i of this × p
+                for (int l = 0; l < columns; ++l) {
+                    final int tl = l * LANES;
+                    for (int q = 0; q < w; ++q) {
+                        tRow[tl + q] = 0;
+                    }
+                    for (int m = 0; m < columns; ++m) {
+                        final int aIM = (i * columns + m) * count + k0;
+                        final int pML = (m * columns + l) * count + k0;
+                        for (int q = 0; q < w; ++q) {
+                            tRow[tl + q] += data[aIM + q] * pData[pML + q];
+                        }
+                    }
+                }
+
+                // row i of (this × p) × this^T, upper triangular part only
+                for (int j = i; j < rows; ++j) {
+                    final int o = (i * rows + j) * count + k0;
+                    for (int q = 0; q < w; ++q) {
+                        oData[o + q] = 0;
+                    }
+                    for (int l = 0; l < columns; ++l) {
+                        final int tl  = l * LANES;
+                        final int aJL = (j * columns + l) * count + k0;
+                        for (int q = 0; q < w; ++q) {
+                            oData[o + q] += tRow[tl + q] * data[aJL + q];
+                        }
+                    }
+                    if (j > i) {
+                        System.arraycopy(oData, o, oData, (j * rows + i) * count + k0, w);
+                    }
+                }
+
+            }
+        }
+
+        return out;
+
+    }
+
+    /**
+     * Compute the Cholesky decompositions of all matrices of the batch.
+     * <p>
+     * Only the lower triangular part of the matrices is used, symmetry is not checked.
+     * </p>
+     * @return new batch containing the lower triangular matrices L<sub>k</sub>
+     * such that this<sub>k</sub> = L<sub>k</sub> &times; L<sub>k</sub><sup>T</sup>
+     * @exception MathIllegalArgumentException if matrices are not square or
+     * if one of them is not positive definite
+     * @see CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD
+     */
+    public SmallMatrixBatch cholesky()
+        throws MathIllegalArgumentException {
+        return cholesky(CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD);
+    }
+
+    /**
+     * Compute the Cholesky decompositions of all matrices of the batch.
+     * <p>
+     * Only the lower triangular part of the matrices is used, symmetry is not checked.
+     * </p>
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrices not positive definite
+     * @return new batch containing the lower triangular matrices L<sub>k</sub>
+     * such that this<sub>k</sub> = L<sub>k</sub> &times; L<sub>k</sub><sup>T</sup>
+     * @exception MathIllegalArgumentException if matrices are not square or
+     * if one of them is not positive definite
+     */
+    public SmallMatrixBatch cholesky(final double absolutePositivityThreshold)
+        throws MathIllegalArgumentException {
+
+        checkSquare();
+        final int n = rows;
+        final SmallMatrixBatch out = new SmallMatrixBatch(count, n, n);
+        final double[] l   = out.data;
+        final double[] inv = new double[count];
+
+        for (int k0 = 0; k0 < count; k0 += LANES) {
+            final int k1 = FastMath.min(count, k0 + LANES);
+            for (int j = 0; j < n; ++j) {
+
+                // diagonal element
+                final int jj = (j * n + j) * count;
+                System.arraycopy(data, jj + k0, l, jj + k0, k1 - k0);
+                for (int p = 0; p < j; ++p) {
+                    final int jp = (j * n + p) * count;
+                    for (int k = k0; k < k1; ++k) {
+                        l[jj + k] -= l[jp + k] * l[jp + k];
+                    }
+                }
+                for (int k = k0; k < k1; ++k) {
+                    if (!(l[jj + k] > absolutePositivityThreshold)) {
+                        throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+                    }
+                }
+                for (int k = k0; k < k1; ++k) {
+                    l[jj + k] = FastMath.sqrt(l[jj + k]);
+                    inv[k]    = 1.0 / l[jj + k];
+                }
+
+                // column below diagonal
+                for (int i = j + 1; i < n; ++i) {
+                    final int ij = (i * n + j) * count;
+                    System.arraycopy(data, ij + k0, l, ij + k0, k1 - k0);
+                    for (int p = 0; p < j; ++p) {
+                        final int ip = (i * n + p) * count;
+                        final int jp = (j * n + p) * count;
+                        for (int k = k0; k < k1; ++k) {
+                            l[ij + k] -= l[ip + k] * l[jp + k];
+                        }
+                    }
+                    for (int k = k0; k < k1; ++k) {
+                        l[ij + k] *= inv[k];
+                    }
+                }
+
+            }
+        }
+
+        return out;
+
+    }
+
+    /**
+     * Compute the inverses of all matrices of the batch.
+     * <p>
+     * Inverses are computed by Gauss-Jordan elimination with partial pivoting. Pivot
+     * selection and row exchanges are specific to each matrix, but the elimination
+     * itself, which holds almost all the floating point operations, runs over the
+     * whole batch.
+     * </p>
+     * @return new batch containing the inverse matrices
+     * @exception MathIllegalArgumentException if matrices are not square or
+     * if one of them is singular
+     */
+    public SmallMatrixBatch inverse()
+        throws MathIllegalArgumentException {
+
+        checkSquare();
+        final int n = rows;
+        final double[] a = data.clone();
+        final SmallMatrixBatch out = new SmallMatrixBatch(count, n, n);
+        final double[] b = out.data;
+        for (int i = 0; i < n; ++i) {
+            final int ii = (i * n + i) * count;
+            for (int k = 0; k < count; ++k) {
+                b[ii + k] = 1.0;
+            }
+        }
+        final double[] inv    = new double[count];
+        final double[] factor = new double[count];
+
+        for (int k0 = 0; k0 < count; k0 += LANES) {
+            final int k1 = FastMath.min(count, k0 + LANES);
+            for (int p = 0; p < n; ++p) {
+
+                // partial pivoting, independently for each matrix
+                for (int k = k0; k < k1; ++k) {
+                    int    best    = p;
+                    double bestAbs = FastMath.abs(a[(p * n + p) * count + k]);
+                    for (int i = p + 1; i < n; ++i) {
+                        final double abs = FastMath.abs(a[(i * n + p) * count + k]);
+                        if (abs > bestAbs) {
+                            best    = i;
+                            bestAbs = abs;
+                        }
+                    }
+                    if (bestAbs == 0) {
+                        throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+                    }
+                    if (best != p) {
+                        for (int j = 0; j < n; ++j) {
+                            swap(a, (p * n + j) * count + k, (best * n + j) * count + k);
+                            swap(b, (p * n + j) * count + k, (best * n + j) * count + k);
+                        }
+                    }
+                }
+
+                // normalize pivot row
+                final int pp = (p * n + p) * count;
+                for (int k = k0; k < k1; ++k) {
+                    inv[k] = 1.0 / a[pp + k];
+                }
+                for (int j = 0; j < n; ++j) {
+                    final int pj = (p * n + j) * count;
+                    for (int k = k0; k < k1; ++k) {
+                        a[pj + k] *= inv[k];
+                        b[pj + k] *= inv[k];
+                    }
+                }
+
+                // eliminate pivot column from other rows
+                for (int i = 0; i < n; ++i) {
+                    if (i != p) {
+                        final int ip = (i * n + p) * count;
+                        System.arraycopy(a, ip + k0, factor, k0, k1 - k0);
+                        for (int j = 0; j < n; ++j) {
+                            final int ij = (i * n + j) * count;
+                            final int pj = (p * n + j) * count;
+                            for (int k = k0; k < k1; ++k) {
+                                a[ij + k] -= factor[k] * a[pj + k];
+                                b[ij + k] -= factor[k] * b[pj + k];
+                            }
+                        }
+                    }
+                }
+
+            }
+        }
+
+        return out;
+
+    }
+
+    /** Multiply blocks of matrices stored in structure-of-arrays layout.
+     * @param a entries of the left operands
+     * @param aRows number of rows of the left operands
+     * @param aColumns number of columns of the left operands
+     * @param b entries of the right operands
+     * @param bColumns number of columns of the right operands
+     * @param out placeholder for the entries of the products
+     * @param k0 index of the first matrix of the block (included)
+     * @param k1 index of the last matrix of the block (excluded)
+     */
+    private void multiply(final double[] a, final int aRows, final int aColumns,
+                          final double[] b, final int bColumns, final double[] out,
+                          final int k0, final int k1) {
+        for (int i = 0; i < aRows; ++i) {
+            for (int j = 0; j < bColumns; ++j) {
+                final int o = (i * bColumns + j) * count;
+                for (int k = k0; k < k1; ++k) {
+                    out[o + k] = 0;
+                }
+                for (int l = 0; l < aColumns; ++l) {
+                    final int aIL = (i * aColumns + l) * count;
+                    final int bLJ = (l * bColumns + j) * count;
+                    for (int k = k0; k < k1; ++k) {
+                        out[o + k] += a[aIL + k] * b[bLJ + k];
+                    }
+                }
+            }
+        }
+    }
+
+    /** Swap two array elements.
+     * @param array array
+     * @param i index of first element
+     * @param j index of second element
+     */
+    private static void swap(final double[] array, final int i, final int j) {
+        final double tmp = array[i];
+        array[i] = array[j];
+        array[j] = tmp;
+    }
+
+    /** Compute the offset of an entry, checking indices.
+     * @param index index of the matrix in the batch
+     * @param row row index
+     * @param column column index
+     * @return offset of the entry in the data array
+     * @exception MathIllegalArgumentException if an index is out of range
+     */
+    private int offset(final int index, final int row, final int column)
+        throws MathIllegalArgumentException {
+        checkIndex(index);
+        if (row < 0 || row >= rows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.ROW_INDEX, row, 0, rows - 1);
+        }
+        if (column < 0 || column >= columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.COLUMN_INDEX, column, 0, columns - 1);
+        }
+        return (row * columns + column) * count + index;
+    }
+
+    /** Check a matrix index.
+     * @param index index of the matrix in the batch
+     * @exception MathIllegalArgumentException if index is out of range
+     */
+    private void checkIndex(final int index)
+        throws MathIllegalArgumentException {
+        if (index < 0 || index >= count) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE,
+                                                   index, 0, count - 1);
+        }
+    }
+
+    /** Check another batch has the same number of matrices.
+     * @param other other batch
+     * @exception MathIllegalArgumentException if counts do not match
+     */
+    private void checkCount(final SmallMatrixBatch other)
+        throws MathIllegalArgumentException {
+        if (other.count != count) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   other.count, count);
+        }
+    }
+
+    /** Check an output batch is not one of the operands.
+     * <p>
+     * The kernels read the operands while writing the output, so they cannot work in place.
+     * </p>
+     * @param out output batch
+     * @param other operand other than {@code this}
+     * @exception MathIllegalArgumentException if {@code out} is {@code this} or {@code other}
+     */
+    private void checkNotOperand(final SmallMatrixBatch out, final SmallMatrixBatch other)
+        throws MathIllegalArgumentException {
+        if (out == this || out == other) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.OUTPUT_IS_AN_OPERAND);
+        }
+    }
+
+    /** Check the matrices of a batch have the expected dimensions.
+     * @param other other batch
+     * @param expectedRows expected number of rows
+     * @param expectedColumns expected number of columns
+     * @exception MathIllegalArgumentException if dimensions do not match
+     */
+    private static void checkDimensions(final SmallMatrixBatch other,
+                                        final int expectedRows, final int expectedColumns)
+        throws MathIllegalArgumentException {
+        if (other.rows != expectedRows || other.columns != expectedColumns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2,
+                                                   other.rows, other.columns, expectedRows, expectedColumns);
+        }
+    }
+
+    /** Check matrices are square.
+     * @exception MathIllegalArgumentException if matrices are not square
+     */
+    private void checkSquare()
+        throws MathIllegalArgumentException {
+        if (rows != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX, rows, columns);
+        }
+    }
+
+}
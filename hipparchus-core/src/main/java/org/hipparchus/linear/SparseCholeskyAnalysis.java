@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Symbolic analysis for sparse Cholesky decomposition.
+ * <p>
+ * The symbolic analysis depends only on the sparsity pattern of the matrix,
+ * not on its values. It computes a fill-reducing symmetric permutation P of
+ * the matrix using an approximate minimum degree heuristic, the elimination
+ * tree of P&times;A&times;P<sup>T</sup> and the exact sparsity pattern sizes
+ * of its Cholesky factor L. The analysis is typically much more expensive
+ * than one numerical factorization, so when many matrices sharing the same
+ * pattern must be decomposed (for example the normal equations at each
+ * iteration of a Gauss-Newton algorithm), the same analysis instance should
+ * be reused by passing it to {@link SparseCholeskyDecomposition#SparseCholeskyDecomposition(
+ * SparseCholeskyAnalysis, RealMatrix)} or by using a {@link SparseCholeskyDecomposer}.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and may be shared between threads.
+ * </p>
+ * @see SparseCholeskyDecomposition
+ * @see SparseCholeskyDecomposer
+ * @since 4.0
+ */
+public class SparseCholeskyAnalysis {
+
+    /** Dimension of the matrix. */
+    private final int n;
+
+    /** Pointers of the analyzed matrix pattern (in compressed column format). */
+    private final int[] aPointers;
+
+    /** Row indices of the analyzed matrix pattern (in compressed column format). */
+    private final int[] aIndices;
+
+    /** Permutation (element k is the index in A of the k<sup>th</sup> variable of P&times;A&times;P<sup>T</sup>). */
+    private final int[] permutation;
+
+    /** Inverse permutation (element i is the index in P&times;A&times;P<sup>T</sup> of the i<sup>th</sup> variable of A). */
+    private final int[] inverse;
+
+    /** Elimination tree (parent of each node, -1 for roots). */
+    private final int[] parent;
+
+    /** Pointers of the upper triangular part of P&times;A&times;P<sup>T</sup> (in compressed column format). */
+    private final int[] cPointers;
+
+    /** Row indices of the upper triangular part of P&times;A&times;P<sup>T</sup> (in compressed column format). */
+    private final int[] cIndices;
+
+    /** Pointers of the L factor (in compressed column format). */
+    private final int[] lPointers;
+
+    /** Analyze the sparsity pattern of a matrix.
+     * <p>
+     * The pattern analyzed is the one of A + A<sup>T</sup>, so the analysis
+     * remains valid even if matrix is slightly asymmetric due to round-off
+     * errors or if it contains explicit zeros on one side only.
+     * </p>
+     * @param matrix matrix to analyze (only its sparsity pattern is used)
+     * @exception MathIllegalArgumentException if matrix is not square
+     */
+    public SparseCholeskyAnalysis(final RealMatrix matrix)
+        throws MathIllegalArgumentException {
+
+        if (!matrix.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension());
+        }
+
+        final CompressedColumnRealMatrix a = CompressedColumnRealMatrix.compress(matrix);
+        this.n         = a.getColumnDimension();
+        this.aPointers = a.getPointersRef();
+        this.aIndices  = a.getIndicesRef();
+
+        // fill-reducing ordering
+        this.permutation = ApproximateMinimumDegree.order(a);
+        this.inverse     = new int[n];
+        for (int k = 0; k < n; ++k) {
+            inverse[permutation[k]] = k;
+        }
+
+        // upper triangular pattern of P (A + A^T) P^T, with a full diagonal
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n, aIndices.length + n);
+        for (int j = 0; j < n; ++j) {
+            builder.addEntry(j, j, 0.0);
+            for (int k = aPointers[j]; k < aPointers[j + 1]; ++k) {
+                final int ip = inverse[aIndices[k]];
+                final int jp = inverse[j];
+                builder.addEntry(FastMath.min(ip, jp), FastMath.max(ip, jp), 0.0);
+            }
+        }
+        final CompressedColumnRealMatrix c = builder.buildCompressedColumn();
+        this.cPointers = c.getPointersRef();
+        this.cIndices  = c.getIndicesRef();
+
+        // elimination tree, using path compression
+        this.parent = new int[n];
+        final int[] ancestor = new int[n];
+        for (int k = 0; k < n; ++k) {
+            parent[k]   = -1;
+            ancestor[k] = -1;
+            for (int p = cPointers[k]; p < cPointers[k + 1]; ++p) {
+                int i = cIndices[p];
+                while (i >= 0 && i < k) {
+                    final int next = ancestor[i];
+                    ancestor[i] = k;
+                    if (next < 0) {
+                        parent[i] = k;
+                    }
+                    i = next;
+                }
+            }
+        }
+
+        // columns counts of L, using row subtrees
+        final int[] counts = new int[n];
+        final int[] stack  = new int[n];
+        final int[] flag   = new int[n];
+        Arrays.fill(flag, -1);
+        for (int k = 0; k < n; ++k) {
+            counts[k]++;
+            final int top = reach(k, stack, flag);
+            for (int t = top; t < n; ++t) {
+                counts[stack[t]]++;
+            }
+        }
+        this.lPointers = new int[n + 1];
+        for (int k = 0; k < n; ++k) {
+            lPointers[k + 1] = lPointers[k] + counts[k];
+        }
+
+    }
+
+    /** Compute the pattern of one row of L.
+     * <p>
+     * The pattern of row k of L is the set of nodes reachable in the elimination
+     * tree from the nodes in the pattern of column k of the upper triangular part
+     * of P&times;A&times;P<sup>T</sup>, stopping at k.
+     * </p>
+     * @param k row index
+     * @param stack placeholder for the pattern, which will be stored
+     * in elements {@code top} to {@code n-1}, in topological order
+     * @param flag nodes flags (set to {@code k} for visited nodes)
+     * @return index of the first element of the pattern in stack
+     */
+    int reach(final int k, final int[] stack, final int[] flag) {
+        int top = n;
+        flag[k] = k;
+        for (int p = cPointers[k]; p < cPointers[k + 1]; ++p) {
+            int i = cIndices[p];
+            int length = 0;
+            while (flag[i] != k) {
+                // walk up the elimination tree, storing the path at the start of the stack
+                stack[length++] = i;
+                flag[i]         = k;
+                i               = parent[i];
+            }
+            // move the path on top of the stack
+            while (length > 0) {
+                stack[--top] = stack[--length];
+            }
+        }
+        return top;
+    }
+
+    /** Check if a matrix has the same sparsity pattern as the analyzed one.
+     * @param matrix matrix to check
+     * @return true if the matrix has exactly the same sparsity pattern as the analyzed one
+     */
+    public boolean isCompatible(final RealMatrix matrix) {
+        if (matrix.getRowDimension() != n || matrix.getColumnDimension() != n) {
+            return false;
+        }
+        final CompressedColumnRealMatrix a = CompressedColumnRealMatrix.compress(matrix);
+        return Arrays.equals(aPointers, a.getPointersRef()) && Arrays.equals(aIndices, a.getIndicesRef());
+    }
+
+    /** Get the dimension of the analyzed matrix.
+     * @return dimension of the analyzed matrix
+     */
+    public int getDimension() {
+        return n;
+    }
+
+    /** Get the fill-reducing permutation.
+     * @return permutation (element k is the index in A of the k<sup>th</sup>
+     * variable of P&times;A&times;P<sup>T</sup>)
+     */
+    public int[] getPermutation() {
+        return permutation.clone();
+    }
+
+    /** Get the number of non-zero entries in the Cholesky factor, including diagonal.
+     * @return number of non-zero entries in the Cholesky factor
+     */
+    public int getFactorNonZeroCount() {
+        return lPointers[n];
+    }
+
+    /** Get a reference to the permutation.
+     * @return reference to the permutation
+     */
+    int[] getPermutationRef() {
+        return permutation;
+    }
+
+    /** Get a reference to the inverse permutation.
+     * @return reference to the inverse permutation
+     */
+    int[] getInverseRef() {
+        return inverse;
+    }
+
+    /** Get a reference to the pointers of the upper triangular part of P&times;A&times;P<sup>T</sup>.
+     * @return reference to the pointers of the upper triangular part of P&times;A&times;P<sup>T</sup>
+     */
+    int[] getCPointersRef() {
+        return cPointers;
+    }
+
+    /** Get a reference to the row indices of the upper triangular part of P&times;A&times;P<sup>T</sup>.
+     * @return reference to the row indices of the upper triangular part of P&times;A&times;P<sup>T</sup>
+     */
+    int[] getCIndicesRef() {
+        return cIndices;
+    }
+
+    /** Get a reference to the pointers of the L factor.
+     * @return reference to the pointers of the L factor
+     */
+    int[] getLPointersRef() {
+        return lPointers;
+    }
+
+}
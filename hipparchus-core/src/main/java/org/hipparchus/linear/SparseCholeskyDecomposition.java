@@ -0,0 +1,417 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the Cholesky decomposition of a sparse matrix.
+ * <p>
+ * The Cholesky decomposition of a real symmetric positive-definite sparse
+ * matrix A is computed after applying a fill-reducing symmetric permutation P:
+ * P&times;A&times;P<sup>T</sup> = L&times;L<sup>T</sup>, where L is a sparse
+ * lower triangular matrix. The permutation and the sparsity pattern of L are
+ * computed by a {@link SparseCholeskyAnalysis symbolic analysis} that can be
+ * shared between matrices with the same pattern. The numerical factorization
+ * uses an up-looking algorithm, computing L one row at a time by sparse
+ * triangular solves, so its cost is proportional to the number of floating
+ * point operations and never involves dense matrices.
+ * </p>
+ * <p>
+ * The matrix is converted to {@link CompressedColumnRealMatrix} if needed, so
+ * using this format directly avoids a copy. Only the entries belonging to the
+ * upper triangular part of P&times;A&times;P<sup>T</sup> are used in the
+ * factorization, but as in {@link CholeskyDecomposition} the whole matrix is
+ * checked for symmetry.
+ * </p>
+ * @see CholeskyDecomposition
+ * @see SparseCholeskyAnalysis
+ * @see SparseCholeskyDecomposer
+ * @since 4.0
+ */
+public class SparseCholeskyDecomposition {
+
+    /** Symbolic analysis. */
+    private final SparseCholeskyAnalysis analysis;
+
+    /** Row indices of L (in compressed column format, diagonal first). */
+    private final int[] lIndices;
+
+    /** Values of L (in compressed column format, diagonal first). */
+    private final double[] lValues;
+
+    /** Cached value of L. */
+    private CompressedColumnRealMatrix cachedL;
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix.
+     * <p>
+     * Calling this constructor is equivalent to call {@link
+     * #SparseCholeskyDecomposition(RealMatrix, double, double)} with the
+     * thresholds set to the default values {@link
+     * CholeskyDecomposition#DEFAULT_RELATIVE_SYMMETRY_THRESHOLD} and {@link
+     * CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD}
+     * </p>
+     * @param matrix the matrix to decompose
+     * @throws MathIllegalArgumentException if the matrix is not square.
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public SparseCholeskyDecomposition(final RealMatrix matrix) {
+        this(matrix,
+             CholeskyDecomposition.DEFAULT_RELATIVE_SYMMETRY_THRESHOLD,
+             CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD);
+    }
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix.
+     * @param matrix the matrix to decompose
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     * @throws MathIllegalArgumentException if the matrix is not square.
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public SparseCholeskyDecomposition(final RealMatrix matrix,
+                                       final double relativeSymmetryThreshold,
+                                       final double absolutePositivityThreshold) {
+        this(CompressedColumnRealMatrix.compress(matrix),
+             relativeSymmetryThreshold, absolutePositivityThreshold);
+    }
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix.
+     * @param matrix the matrix to decompose
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     */
+    private SparseCholeskyDecomposition(final CompressedColumnRealMatrix matrix,
+                                        final double relativeSymmetryThreshold,
+                                        final double absolutePositivityThreshold) {
+        this(new SparseCholeskyAnalysis(matrix), matrix,
+             relativeSymmetryThreshold, absolutePositivityThreshold);
+    }
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix, reusing a symbolic analysis.
+     * <p>
+     * Calling this constructor is equivalent to call {@link
+     * #SparseCholeskyDecomposition(SparseCholeskyAnalysis, RealMatrix, double, double)} with the
+     * thresholds set to the default values {@link
+     * CholeskyDecomposition#DEFAULT_RELATIVE_SYMMETRY_THRESHOLD} and {@link
+     * CholeskyDecomposition#DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD}
+     * </p>
+     * @param analysis symbolic analysis of a matrix with a sparsity pattern including the one of {@code matrix}
+     * @param matrix the matrix to decompose
+     * @throws MathIllegalArgumentException if the matrix dimension is not consistent with the analysis.
+     * @throws MathIllegalArgumentException if the matrix has entries outside of the analyzed pattern.
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public SparseCholeskyDecomposition(final SparseCholeskyAnalysis analysis, final RealMatrix matrix) {
+        this(analysis, matrix,
+             CholeskyDecomposition.DEFAULT_RELATIVE_SYMMETRY_THRESHOLD,
+             CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD);
+    }
+
+    /**
+     * Calculates the Cholesky decomposition of the given matrix, reusing a symbolic analysis.
+     * @param analysis symbolic analysis of a matrix with a sparsity pattern including the one of {@code matrix}
+     * @param matrix the matrix to decompose
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @param absolutePositivityThreshold threshold below which diagonal
+     * elements are considered null and matrix not positive definite
+     * @throws MathIllegalArgumentException if the matrix dimension is not consistent with the analysis.
+     * @throws MathIllegalArgumentException if the matrix has entries outside of the analyzed pattern.
+     * @throws MathIllegalArgumentException if the matrix is not symmetric.
+     * @throws MathIllegalArgumentException if the matrix is not
+     * strictly positive definite.
+     */
+    public SparseCholeskyDecomposition(final SparseCholeskyAnalysis analysis, final RealMatrix matrix,
+                                       final double relativeSymmetryThreshold,
+                                       final double absolutePositivityThreshold) {
+
+        final int n = analysis.getDimension();
+        if (matrix.getRowDimension() != n || matrix.getColumnDimension() != n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension(),
+                                                   n, n);
+        }
+        this.analysis = analysis;
+        this.cachedL  = null;
+
+        final int[] inverse   = analysis.getInverseRef();
+        final int[] cPointers = analysis.getCPointersRef();
+        final int[] cIndices  = analysis.getCIndicesRef();
+        final int[] lPointers = analysis.getLPointersRef();
+
+        // check symmetry and scatter the upper triangular part of P A P^T
+        final CompressedColumnRealMatrix a = CompressedColumnRealMatrix.compress(matrix);
+        final int[]    aPointers = a.getPointersRef();
+        final int[]    aIndices  = a.getIndicesRef();
+        final double[] aValues   = a.getValuesRef();
+        final double[] cValues   = new double[cIndices.length];
+        for (int j = 0; j < n; ++j) {
+            for (int k = aPointers[j]; k < aPointers[j + 1]; ++k) {
+                final int    i   = aIndices[k];
+                final double aIJ = aValues[k];
+                if (i != j) {
+                    final double aJI = a.findEntry(i, j);
+                    final double maxDelta =
+                        relativeSymmetryThreshold * FastMath.max(FastMath.abs(aIJ), FastMath.abs(aJI));
+                    if (FastMath.abs(aIJ - aJI) > maxDelta) {
+                        throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX,
+                                                               i, j, relativeSymmetryThreshold);
+                    }
+                }
+                final int ip = inverse[i];
+                final int jp = inverse[j];
+                if (ip <= jp) {
+                    final int c = Arrays.binarySearch(cIndices, cPointers[jp], cPointers[jp + 1], ip);
+                    if (c < 0) {
+                        throw new MathIllegalArgumentException(LocalizedCoreFormats.ENTRY_OUTSIDE_SPARSITY_PATTERN,
+                                                               i, j);
+                    }
+                    cValues[c] = aIJ;
+                }
+            }
+        }
+
+        // up-looking numerical factorization, computing L one row at a time
+        lIndices = new int[lPointers[n]];
+        lValues  = new double[lPointers[n]];
+        final double[] x     = new double[n];
+        final int[]    next  = Arrays.copyOf(lPointers, n);
+        final int[]    stack = new int[n];
+        final int[]    flag  = new int[n];
+        Arrays.fill(flag, -1);
+        for (int k = 0; k < n; ++k) {
+
+            // pattern of row k of L
+            final int top = analysis.reach(k, stack, flag);
+
+            // scatter column k of the upper triangular part of P A P^T
+            for (int p = cPointers[k]; p < cPointers[k + 1]; ++p) {
+                x[cIndices[p]] = cValues[p];
+            }
+            double d = x[k];
+            x[k] = 0;
+
+            // sparse triangular solve L(0:k-1, 0:k-1) y = c
+            for (int t = top; t < n; ++t) {
+                final int    i   = stack[t];
+                final double lKI = x[i] / lValues[lPointers[i]];
+                x[i] = 0;
+                for (int p = lPointers[i] + 1; p < next[i]; ++p) {
+                    x[lIndices[p]] -= lValues[p] * lKI;
+                }
+                d -= lKI * lKI;
+                final int p = next[i]++;
+                lIndices[p] = k;
+                lValues[p]  = lKI;
+            }
+
+            // diagonal element
+            if (d <= absolutePositivityThreshold) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX);
+            }
+            final int p = next[k]++;
+            lIndices[p] = k;
+            lValues[p]  = FastMath.sqrt(d);
+
+        }
+
+    }
+
+    /** Get the symbolic analysis.
+     * @return symbolic analysis, which can be reused for matrices with the same sparsity pattern
+     */
+    public SparseCholeskyAnalysis getAnalysis() {
+        return analysis;
+    }
+
+    /** Get the fill-reducing permutation.
+     * @return permutation (element k is the index in A of the k<sup>th</sup>
+     * variable of P&times;A&times;P<sup>T</sup>)
+     */
+    public int[] getPermutation() {
+        return analysis.getPermutation();
+    }
+
+    /**
+     * Returns the matrix L of the decomposition.
+     * <p>L is a lower-triangular matrix such that P&times;A&times;P<sup>T</sup> = L&times;L<sup>T</sup></p>
+     * @return the L matrix
+     */
+    public CompressedColumnRealMatrix getL() {
+        if (cachedL == null) {
+            cachedL = new CompressedColumnRealMatrix(analysis.getDimension(),
+                                                     analysis.getLPointersRef(), lIndices, lValues);
+        }
+        return cachedL;
+    }
+
+    /**
+     * Returns the transpose of the matrix L of the decomposition.
+     * <p>L<sup>T</sup> is an upper-triangular matrix</p>
+     * @return the transpose of the matrix L of the decomposition
+     */
+    public CompressedRowRealMatrix getLT() {
+        return getL().transpose();
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        final int[] lPointers = analysis.getLPointersRef();
+        double determinant = 1.0;
+        for (int j = 0; j < analysis.getDimension(); ++j) {
+            final double lJJ = lValues[lPointers[j]];
+            determinant *= lJJ * lJJ;
+        }
+        return determinant;
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in least square sense.
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            // if we get this far, the matrix was positive definite, hence non-singular
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            final int m = analysis.getDimension();
+            if (b.getDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), m);
+            }
+            final double[] x = new double[m];
+            solveColumn(b.toArray(), x);
+            return new ArrayRealVector(x, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+            final int m = analysis.getDimension();
+            if (b.getRowDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), m);
+            }
+            final RealMatrix x = MatrixUtils.createRealMatrix(m, b.getColumnDimension());
+            final double[]   column = new double[m];
+            for (int j = 0; j < b.getColumnDimension(); ++j) {
+                solveColumn(b.getColumn(j), column);
+                x.setColumn(j, column);
+            }
+            return x;
+        }
+
+        /** Solve one column.
+         * @param b right hand side
+         * @param x placeholder for the solution
+         */
+        private void solveColumn(final double[] b, final double[] x) {
+
+            final int      m           = analysis.getDimension();
+            final int[]    permutation = analysis.getPermutationRef();
+            final int[]    lPointers   = analysis.getLPointersRef();
+            final double[] y           = new double[m];
+            for (int k = 0; k < m; ++k) {
+                y[k] = b[permutation[k]];
+            }
+
+            // solve L z = P b
+            for (int j = 0; j < m; ++j) {
+                y[j] /= lValues[lPointers[j]];
+                final double yJ = y[j];
+                for (int p = lPointers[j] + 1; p < lPointers[j + 1]; ++p) {
+                    y[lIndices[p]] -= lValues[p] * yJ;
+                }
+            }
+
+            // solve L^T w = z
+            for (int j = m - 1; j >= 0; --j) {
+                double yJ = y[j];
+                for (int p = lPointers[j] + 1; p < lPointers[j + 1]; ++p) {
+                    yJ -= lValues[p] * y[lIndices[p]];
+                }
+                y[j] = yJ / lValues[lPointers[j]];
+            }
+
+            // x = P^T w
+            for (int k = 0; k < m; ++k) {
+                x[permutation[k]] = y[k];
+            }
+
+        }
+
+        /**
+         * Get the inverse of the decomposed matrix.
+         * <p>
+         * Beware that the inverse of a sparse matrix is generally dense.
+         * </p>
+         * @return the inverse matrix.
+         */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(analysis.getDimension()));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return analysis.getDimension();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return analysis.getDimension();
+        }
+
+    }
+
+}
@@ -0,0 +1,515 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the LU-decomposition of a sparse square matrix.
+ * <p>
+ * The decomposition satisfies P&times;A&times;Q = L&times;U, where L is a sparse
+ * lower triangular matrix with unit diagonal, U is a sparse upper triangular
+ * matrix, Q is a fill-reducing column permutation and P is the row permutation
+ * resulting from partial pivoting.
+ * </p>
+ * <p>
+ * The column permutation is computed by an approximate minimum degree heuristic
+ * applied to the pattern of A + A<sup>T</sup>, unless one is provided by the caller
+ * (for example the one {@link #getColumnPermutation() computed} for a previous
+ * matrix with the same sparsity pattern). The numerical factorization uses the
+ * left-looking algorithm of Gilbert and Peierls: each column of L and U is
+ * computed by a sparse triangular solve whose pattern is determined by a depth-first
+ * search in the graph of L, so the cost is proportional to the number of floating
+ * point operations. Threshold partial pivoting is used: the diagonal element is
+ * selected as pivot if its magnitude is at least {@code pivotingThreshold} times
+ * the largest candidate, which preserves the symmetric structure of the ordering
+ * for diagonally dominant matrices.
+ * </p>
+ * <p>
+ * The matrix is converted to {@link CompressedColumnRealMatrix} if needed, so
+ * using this format directly avoids a copy.
+ * </p>
+ * @see LUDecomposition
+ * @since 4.0
+ */
+public class SparseLUDecomposition {
+
+    /** Default bound to determine effective singularity in LU decomposition. */
+    private static final double DEFAULT_TOO_SMALL = 1e-11;
+
+    /** Default threshold for pivoting. */
+    private static final double DEFAULT_PIVOTING_THRESHOLD = 0.1;
+
+    /** Dimension of the matrix. */
+    private final int n;
+
+    /** Column permutation. */
+    private final int[] columnPermutation;
+
+    /** Row permutation (element k is the index in A of the k<sup>th</sup> pivot row). */
+    private final int[] pivot;
+
+    /** Inverse row permutation (element i is the pivot index of row i of A). */
+    private final int[] inversePivot;
+
+    /** Pointers of L (in compressed column format, unit diagonal first). */
+    private final int[] lPointers;
+
+    /** Row indices of L. */
+    private int[] lIndices;
+
+    /** Values of L. */
+    private double[] lValues;
+
+    /** Pointers of U (in compressed column format, diagonal last). */
+    private final int[] uPointers;
+
+    /** Row indices of U. */
+    private int[] uIndices;
+
+    /** Values of U. */
+    private double[] uValues;
+
+    /** Singularity indicator. */
+    private boolean singular;
+
+    /** Cached value of L. */
+    private CompressedColumnRealMatrix cachedL;
+
+    /** Cached value of U. */
+    private CompressedColumnRealMatrix cachedU;
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * This constructor uses 1e-11 as default value for the singularity
+     * threshold and 0.1 as default value for the pivoting threshold.
+     *
+     * @param matrix Matrix to decompose.
+     * @throws MathIllegalArgumentException if matrix is not square.
+     */
+    public SparseLUDecomposition(final RealMatrix matrix) {
+        this(matrix, null, DEFAULT_TOO_SMALL, DEFAULT_PIVOTING_THRESHOLD);
+    }
+
+    /**
+     * Calculates the LU-decomposition of the given matrix.
+     * @param matrix The matrix to decompose.
+     * @param columnPermutation fill-reducing column permutation (if null,
+     * an approximate minimum degree ordering will be computed)
+     * @param singularityThreshold threshold under which a pivot is considered
+     * null and the matrix singular
+     * @param pivotingThreshold threshold (between 0 and 1) for selecting
+     * the diagonal element as pivot instead of the largest one
+     * (1 corresponds to regular partial pivoting)
+     * @throws MathIllegalArgumentException if matrix is not square
+     * or if the permutation is not consistent with the matrix
+     */
+    public SparseLUDecomposition(final RealMatrix matrix, final int[] columnPermutation,
+                                 final double singularityThreshold, final double pivotingThreshold) {
+
+        if (!matrix.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   matrix.getRowDimension(), matrix.getColumnDimension());
+        }
+
+        final CompressedColumnRealMatrix a = CompressedColumnRealMatrix.compress(matrix);
+        final int[]    aPointers = a.getPointersRef();
+        final int[]    aIndices  = a.getIndicesRef();
+        final double[] aValues   = a.getValuesRef();
+        n = a.getColumnDimension();
+
+        if (columnPermutation == null) {
+            this.columnPermutation = ApproximateMinimumDegree.order(a);
+        } else {
+            if (columnPermutation.length != n) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       columnPermutation.length, n);
+            }
+            final boolean[] seen = new boolean[n];
+            for (final int j : columnPermutation) {
+                if (j < 0 || j >= n || seen[j]) {
+                    throw new MathIllegalArgumentException(LocalizedCoreFormats.NOT_A_PERMUTATION, n - 1);
+                }
+                seen[j] = true;
+            }
+            this.columnPermutation = columnPermutation.clone();
+        }
+
+        pivot        = new int[n];
+        inversePivot = new int[n];
+        Arrays.fill(inversePivot, -1);
+        lPointers    = new int[n + 1];
+        uPointers    = new int[n + 1];
+        lIndices     = new int[4 * aIndices.length + n];
+        lValues      = new double[lIndices.length];
+        uIndices     = new int[4 * aIndices.length + n];
+        uValues      = new double[uIndices.length];
+        singular     = false;
+
+        final double[] x       = new double[n];
+        final int[]    reach   = new int[n];
+        final int[]    stack   = new int[n];
+        final int[]    next    = new int[n];
+        final int[]    visited = new int[n];
+        Arrays.fill(visited, -1);
+
+        int lnz = 0;
+        int unz = 0;
+        for (int k = 0; k < n; ++k) {
+
+            lPointers[k] = lnz;
+            uPointers[k] = unz;
+            if (lnz + n > lIndices.length) {
+                lIndices = Arrays.copyOf(lIndices, 2 * lIndices.length + n);
+                lValues  = Arrays.copyOf(lValues,  lIndices.length);
+            }
+            if (unz + n > uIndices.length) {
+                uIndices = Arrays.copyOf(uIndices, 2 * uIndices.length + n);
+                uValues  = Arrays.copyOf(uValues,  uIndices.length);
+            }
+
+            // pattern of the solution of L x = A(:, q(k)), in topological order
+            final int column = this.columnPermutation[k];
+            int top = n;
+            for (int p = aPointers[column]; p < aPointers[column + 1]; ++p) {
+                if (visited[aIndices[p]] != k) {
+                    top = depthFirstSearch(aIndices[p], k, top, reach, stack, next, visited);
+                }
+            }
+
+            // numerical values of the solution
+            for (int p = aPointers[column]; p < aPointers[column + 1]; ++p) {
+                x[aIndices[p]] = aValues[p];
+            }
+            for (int t = top; t < n; ++t) {
+                final int j  = reach[t];
+                final int jp = inversePivot[j];
+                if (jp >= 0) {
+                    final double xJ = x[j];
+                    for (int p = lPointers[jp] + 1; p < lPointers[jp + 1]; ++p) {
+                        x[lIndices[p]] -= lValues[p] * xJ;
+                    }
+                }
+            }
+
+            // select pivot and store column k of U
+            int    ipiv = -1;
+            double max  = -1;
+            for (int t = top; t < n; ++t) {
+                final int i = reach[t];
+                if (inversePivot[i] < 0) {
+                    final double abs = FastMath.abs(x[i]);
+                    if (abs > max) {
+                        max  = abs;
+                        ipiv = i;
+                    }
+                } else {
+                    uIndices[unz]  = inversePivot[i];
+                    uValues[unz++] = x[i];
+                }
+            }
+            if (ipiv < 0 || max < singularityThreshold) {
+                singular = true;
+                return;
+            }
+            if (inversePivot[column] < 0 && FastMath.abs(x[column]) >= pivotingThreshold * max) {
+                ipiv = column;
+            }
+            final double pivotValue = x[ipiv];
+            uIndices[unz]      = k;
+            uValues[unz++]     = pivotValue;
+            pivot[k]           = ipiv;
+            inversePivot[ipiv] = k;
+
+            // store column k of L
+            lIndices[lnz]  = ipiv;
+            lValues[lnz++] = 1.0;
+            for (int t = top; t < n; ++t) {
+                final int i = reach[t];
+                if (inversePivot[i] < 0) {
+                    lIndices[lnz]  = i;
+                    lValues[lnz++] = x[i] / pivotValue;
+                }
+                x[i] = 0;
+            }
+
+        }
+
+        lPointers[n] = lnz;
+        uPointers[n] = unz;
+
+        // renumber rows of L according to pivoting
+        for (int p = 0; p < lnz; ++p) {
+            lIndices[p] = inversePivot[lIndices[p]];
+        }
+        lIndices = Arrays.copyOf(lIndices, lnz);
+        lValues  = Arrays.copyOf(lValues,  lnz);
+        uIndices = Arrays.copyOf(uIndices, unz);
+        uValues  = Arrays.copyOf(uValues,  unz);
+
+    }
+
+    /** Non-recursive depth-first search in the graph of L.
+     * <p>
+     * The graph has an edge from row i to row j if row i has already been
+     * selected as pivot and j is in the pattern of the corresponding column of L.
+     * </p>
+     * @param start starting row
+     * @param k index of the column being computed (used to flag visited rows)
+     * @param top current top of the reach stack
+     * @param reach reach stack, the nodes found are stored in topological order
+     * @param stack recursion stack
+     * @param next next position to explore in column of L, for each recursion level
+     * @param visited visit flags
+     * @return new top of reach stack
+     */
+    private int depthFirstSearch(final int start, final int k, final int top,
+                                 final int[] reach, final int[] stack, final int[] next, final int[] visited) {
+        int newTop = top;
+        int head   = 0;
+        stack[0]   = start;
+        while (head >= 0) {
+            final int j  = stack[head];
+            final int jp = inversePivot[j];
+            if (visited[j] != k) {
+                // first visit of this node
+                visited[j] = k;
+                next[head] = jp < 0 ? 0 : lPointers[jp] + 1;
+            }
+            final int end = jp < 0 ? 0 : lPointers[jp + 1];
+            boolean done = true;
+            for (int p = next[head]; p < end; ++p) {
+                final int i = lIndices[p];
+                if (visited[i] != k) {
+                    // pause exploration of node j, and explore node i
+                    next[head]    = p + 1;
+                    stack[++head] = i;
+                    done          = false;
+                    break;
+                }
+            }
+            if (done) {
+                // all descendants of j have been explored
+                --head;
+                reach[--newTop] = j;
+            }
+        }
+        return newTop;
+    }
+
+    /**
+     * Returns the matrix L of the decomposition.
+     * <p>L is a lower-triangular matrix with unit diagonal</p>
+     * @return the L matrix (or null if decomposed matrix is singular)
+     */
+    public CompressedColumnRealMatrix getL() {
+        if ((cachedL == null) && !singular) {
+            cachedL = new CompressedColumnRealMatrix(n, lPointers, lIndices, lValues);
+        }
+        return cachedL;
+    }
+
+    /**
+     * Returns the matrix U of the decomposition.
+     * <p>U is an upper-triangular matrix</p>
+     * @return the U matrix (or null if decomposed matrix is singular)
+     */
+    public CompressedColumnRealMatrix getU() {
+        if ((cachedU == null) && !singular) {
+            cachedU = new CompressedColumnRealMatrix(n, uPointers, uIndices, uValues);
+        }
+        return cachedU;
+    }
+
+    /**
+     * Returns the rows permutation vector.
+     * @return the rows permutation vector (element k is the index in A of the
+     * k<sup>th</sup> row of P&times;A&times;Q)
+     */
+    public int[] getPivot() {
+        return pivot.clone();
+    }
+
+    /**
+     * Returns the columns permutation vector.
+     * <p>
+     * This permutation depends only on the sparsity pattern of the matrix
+     * (if it was not provided by the caller), it can be reused to decompose
+     * other matrices with the same pattern.
+     * </p>
+     * @return the columns permutation vector (element k is the index in A of the
+     * k<sup>th</sup> column of P&times;A&times;Q)
+     */
+    public int[] getColumnPermutation() {
+        return columnPermutation.clone();
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        if (singular) {
+            return 0;
+        } else {
+            double determinant = (isEven(pivot) == isEven(columnPermutation)) ? 1 : -1;
+            for (int j = 0; j < n; j++) {
+                determinant *= uValues[uPointers[j + 1] - 1];
+            }
+            return determinant;
+        }
+    }
+
+    /** Check the parity of a permutation.
+     * @param permutation permutation to check
+     * @return true if permutation is even
+     */
+    private static boolean isEven(final int[] permutation) {
+        final boolean[] seen = new boolean[permutation.length];
+        int cycles = 0;
+        for (int i = 0; i < permutation.length; ++i) {
+            if (!seen[i]) {
+                ++cycles;
+                for (int j = i; !seen[j]; j = permutation[j]) {
+                    seen[j] = true;
+                }
+            }
+        }
+        return ((permutation.length - cycles) & 0x1) == 0;
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in exact linear
+     * sense.
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            return !singular;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            if (b.getDimension() != n) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), n);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+            final double[] x = new double[n];
+            solveColumn(b.toArray(), x);
+            return new ArrayRealVector(x, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+            if (b.getRowDimension() != n) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), n);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+            final RealMatrix x      = MatrixUtils.createRealMatrix(n, b.getColumnDimension());
+            final double[]   column = new double[n];
+            for (int j = 0; j < b.getColumnDimension(); ++j) {
+                solveColumn(b.getColumn(j), column);
+                x.setColumn(j, column);
+            }
+            return x;
+        }
+
+        /** Solve one column.
+         * @param b right hand side
+         * @param x placeholder for the solution
+         */
+        private void solveColumn(final double[] b, final double[] x) {
+
+            final double[] y = new double[n];
+            for (int i = 0; i < n; ++i) {
+                y[inversePivot[i]] = b[i];
+            }
+
+            // solve L z = P b
+            for (int j = 0; j < n; ++j) {
+                final double yJ = y[j];
+                for (int p = lPointers[j] + 1; p < lPointers[j + 1]; ++p) {
+                    y[lIndices[p]] -= lValues[p] * yJ;
+                }
+            }
+
+            // solve U w = z
+            for (int j = n - 1; j >= 0; --j) {
+                final int diagonal = uPointers[j + 1] - 1;
+                y[j] /= uValues[diagonal];
+                final double yJ = y[j];
+                for (int p = uPointers[j]; p < diagonal; ++p) {
+                    y[uIndices[p]] -= uValues[p] * yJ;
+                }
+            }
+
+            // x = Q w
+            for (int k = 0; k < n; ++k) {
+                x[columnPermutation[k]] = y[k];
+            }
+
+        }
+
+        /**
+         * Get the inverse of the decomposed matrix.
+         * <p>
+         * Beware that the inverse of a sparse matrix is generally dense.
+         * </p>
+         * @return the inverse matrix.
+         * @throws MathIllegalArgumentException if the decomposed matrix is singular.
+         */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(n));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return n;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return n;
+        }
+
+    }
+
+}
@@ -0,0 +1,439 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * View on a rectangular window of another matrix.
+ * <p>
+ * No data is copied: entries are read from and written to the parent matrix,
+ * so changes in the parent are immediately visible in the view and changes
+ * in the view are immediately visible in the parent. Creating a view is
+ * therefore a constant time operation, which is useful when large matrices
+ * are split into blocks for block-wise algorithms.
+ * </p>
+ * <p>
+ * When the parent is an {@link Array2DRowRealMatrix}, the view works directly
+ * on the parent rows, and {@link #operate(double[]) products} and {@link
+ * #multiply(RealMatrix) multiplications} run at the same speed as on the
+ * parent itself. When the parent is a {@link BlockRealMatrix}, the view walks
+ * the parent blocks that intersect the window, so {@link #getRow(int) rows},
+ * {@link #operate(double[]) products}, {@link #preMultiply(double[])
+ * pre-multiplications} and {@link #multiply(RealMatrix) multiplications} do
+ * not check indices entry by entry. Views on views are collapsed so they always
+ * refer to the underlying matrix.
+ * </p>
+ * <p>
+ * Instances are created by {@link RealMatrix#getSubMatrixView(int, int, int, int)},
+ * {@link RealMatrix#getRowMatrixView(int)} or {@link RealMatrix#getColumnMatrixView(int)}.
+ * </p>
+ * @see TransposedMatrixView
+ * @see MatrixVectorView
+ * @since 4.0
+ */
+public class SubMatrixView extends AbstractRealMatrix {
+
+    /** Underlying matrix. */
+    private final RealMatrix parent;
+
+    /** Underlying storage (null if parent is not an {@link Array2DRowRealMatrix}). */
+    private final double[][] data;
+
+    /** Underlying blocks (null if parent is not a {@link BlockRealMatrix}). */
+    private final double[][] blocks;
+
+    /** Number of columns of the parent. */
+    private final int parentColumns;
+
+    /** Number of block columns of the parent (0 if parent is not a {@link BlockRealMatrix}). */
+    private final int blockColumns;
+
+    /** Index of the first row in the parent. */
+    private final int startRow;
+
+    /** Index of the first column in the parent. */
+    private final int startColumn;
+
+    /** Number of rows. */
+    private final int rows;
+
+    /** Number of columns. */
+    private final int columns;
+
+    /** Simple constructor.
+     * @param parent underlying matrix
+     * @param startRow Initial row index
+     * @param endRow Final row index (inclusive)
+     * @param startColumn Initial column index
+     * @param endColumn Final column index (inclusive)
+     * @throws MathIllegalArgumentException if the indices are not valid.
+     * @throws MathIllegalArgumentException if {@code endRow < startRow} or
+     * {@code endColumn < startColumn}.
+     */
+    SubMatrixView(final RealMatrix parent,
+                  final int startRow, final int endRow,
+                  final int startColumn, final int endColumn)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubMatrixIndex(parent, startRow, endRow, startColumn, endColumn);
+        if (parent instanceof SubMatrixView) {
+            // collapse views on views
+            final SubMatrixView view = (SubMatrixView) parent;
+            this.parent      = view.parent;
+            this.data        = view.data;
+            this.blocks      = view.blocks;
+            this.startRow    = view.startRow + startRow;
+            this.startColumn = view.startColumn + startColumn;
+        } else {
+            this.parent      = parent;
+            this.data        = (parent instanceof Array2DRowRealMatrix) ?
+                               ((Array2DRowRealMatrix) parent).getDataRef() : null;
+            this.blocks      = (parent instanceof BlockRealMatrix) ?
+                               ((BlockRealMatrix) parent).getBlocks() : null;
+            this.startRow    = startRow;
+            this.startColumn = startColumn;
+        }
+        this.rows          = endRow - startRow + 1;
+        this.columns       = endColumn - startColumn + 1;
+        this.parentColumns = this.parent.getColumnDimension();
+        this.blockColumns  = (parentColumns + BlockRealMatrix.BLOCK_SIZE - 1) / BlockRealMatrix.BLOCK_SIZE;
+    }
+
+    /** Get the underlying matrix.
+     * @return underlying matrix
+     */
+    public RealMatrix getParent() {
+        return parent;
+    }
+
+    /** Get the index of the first row in the underlying matrix.
+     * @return index of the first row in the underlying matrix
+     */
+    public int getStartRow() {
+        return startRow;
+    }
+
+    /** Get the index of the first column in the underlying matrix.
+     * @return index of the first column in the underlying matrix
+     */
+    public int getStartColumn() {
+        return startColumn;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return rows;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return columns;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * As views may refer to immutable or structured matrices, the new matrix
+     * is a general dense matrix.
+     * </p>
+     */
+    @Override
+    public RealMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return MatrixUtils.createRealMatrix(rowDimension, columnDimension);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The copy is a general dense matrix, independent of the parent.
+     * </p>
+     */
+    @Override
+    public RealMatrix copy() {
+        return MatrixUtils.createRealMatrix(getData());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        if (data == null) {
+            return parent.getEntry(startRow + row, startColumn + column);
+        } else {
+            return data[startRow + row][startColumn + column];
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int row, final int column, final double value)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        if (data == null) {
+            parent.setEntry(startRow + row, startColumn + column, value);
+        } else {
+            data[startRow + row][startColumn + column] = value;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        if (data == null) {
+            parent.addToEntry(startRow + row, startColumn + column, increment);
+        } else {
+            data[startRow + row][startColumn + column] += increment;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        if (data == null) {
+            parent.multiplyEntry(startRow + row, startColumn + column, factor);
+        } else {
+            data[startRow + row][startColumn + column] *= factor;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[][] getData() {
+        if (blocks != null) {
+            final double[][] out = new double[rows][columns];
+            for (int i = 0; i < rows; ++i) {
+                fillBlockRow(i, out[i]);
+            }
+            return out;
+        }
+        if (data == null) {
+            return super.getData();
+        }
+        final double[][] out = new double[rows][];
+        for (int i = 0; i < rows; ++i) {
+            out[i] = Arrays.copyOfRange(data[startRow + i], startColumn, startColumn + columns);
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] getRow(final int row) throws MathIllegalArgumentException {
+        if (blocks != null) {
+            MatrixUtils.checkRowIndex(this, row);
+            final double[] out = new double[columns];
+            fillBlockRow(row, out);
+            return out;
+        }
+        if (data == null) {
+            return super.getRow(row);
+        }
+        MatrixUtils.checkRowIndex(this, row);
+        return Arrays.copyOfRange(data[startRow + row], startColumn, startColumn + columns);
+    }
+
+    /** Copy one row of the view from the blocks of a {@link BlockRealMatrix} parent.
+     * @param row row index in the view
+     * @param out array where to store the row
+     */
+    private void fillBlockRow(final int row, final double[] out) {
+        final int parentRow  = startRow + row;
+        final int iBlock     = parentRow / BlockRealMatrix.BLOCK_SIZE;
+        final int rowInBlock = parentRow - iBlock * BlockRealMatrix.BLOCK_SIZE;
+        final int endColumn  = startColumn + columns;
+        for (int jBlock = startColumn / BlockRealMatrix.BLOCK_SIZE;
+             jBlock * BlockRealMatrix.BLOCK_SIZE < endColumn; ++jBlock) {
+            final int qBlock = jBlock * BlockRealMatrix.BLOCK_SIZE;
+            final int width  = FastMath.min(BlockRealMatrix.BLOCK_SIZE, parentColumns - qBlock);
+            final int qStart = FastMath.max(startColumn, qBlock);
+            final int qEnd   = FastMath.min(endColumn, qBlock + width);
+            System.arraycopy(blocks[iBlock * blockColumns + jBlock], rowInBlock * width + qStart - qBlock,
+                             out, qStart - startColumn, qEnd - qStart);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v) throws MathIllegalArgumentException {
+        return operate(v, new double[rows]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        if (data == null && blocks == null) {
+            return super.operate(v, out);
+        }
+        if (v.length != columns) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, columns);
+        }
+        MathUtils.checkDimension(out.length, rows);
+        final double[] in = (out == v) ? v.clone() : v;
+        if (blocks != null) {
+            blockOperate(in, out);
+            return out;
+        }
+        for (int row = 0; row < rows; ++row) {
+            final double[] dataRow = data[startRow + row];
+            double sum = 0;
+            for (int i = 0; i < columns; ++i) {
+                sum += dataRow[startColumn + i] * in[i];
+            }
+            out[row] = sum;
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v) throws MathIllegalArgumentException {
+        return preMultiply(v, new double[columns]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        if (data == null && blocks == null) {
+            return super.preMultiply(v, out);
+        }
+        if (v.length != rows) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   v.length, rows);
+        }
+        MathUtils.checkDimension(out.length, columns);
+        final double[] in = (out == v) ? v.clone() : v;
+        Arrays.fill(out, 0.0);
+        if (blocks != null) {
+            blockPreMultiply(in, out);
+            return out;
+        }
+        for (int row = 0; row < rows; ++row) {
+            final double[] dataRow = data[startRow + row];
+            final double   vRow    = in[row];
+            for (int j = 0; j < columns; ++j) {
+                out[j] += vRow * dataRow[startColumn + j];
+            }
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix multiply(final RealMatrix m) throws MathIllegalArgumentException {
+        if (data == null && blocks == null) {
+            return super.multiply(m);
+        }
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+
+        if (blocks != null) {
+            // each row of the product is a row of the view pre-multiplying m
+            final double[][] outData = new double[rows][];
+            final double[]   row     = new double[columns];
+            for (int i = 0; i < rows; ++i) {
+                fillBlockRow(i, row);
+                outData[i] = m.preMultiply(row);
+            }
+            return new Array2DRowRealMatrix(outData, false);
+        }
+
+        final int nCols = m.getColumnDimension();
+        final double[][] outData = new double[rows][nCols];
+        // one column of m at a time, so each dot product reads contiguous memory
+        for (int col = 0; col < nCols; ++col) {
+            final double[] mCol = m.getColumn(col);
+            for (int row = 0; row < rows; ++row) {
+                final double[] dataRow = data[startRow + row];
+                double sum = 0;
+                for (int i = 0; i < columns; ++i) {
+                    sum += dataRow[startColumn + i] * mCol[i];
+                }
+                outData[row][col] = sum;
+            }
+        }
+
+        return new Array2DRowRealMatrix(outData, false);
+    }
+
+    /** Compute the product of the view by a vector, walking the blocks of a {@link BlockRealMatrix} parent.
+     * @param v vector (already checked, and not the same array as {@code out})
+     * @param out array where to store the product
+     */
+    private void blockOperate(final double[] v, final double[] out) {
+        final int endColumn = startColumn + columns;
+        for (int row = 0; row < rows; ++row) {
+            final int parentRow  = startRow + row;
+            final int iBlock     = parentRow / BlockRealMatrix.BLOCK_SIZE;
+            final int rowInBlock = parentRow - iBlock * BlockRealMatrix.BLOCK_SIZE;
+            double sum = 0;
+            for (int jBlock = startColumn / BlockRealMatrix.BLOCK_SIZE;
+                 jBlock * BlockRealMatrix.BLOCK_SIZE < endColumn; ++jBlock) {
+                final double[] block  = blocks[iBlock * blockColumns + jBlock];
+                final int      qBlock = jBlock * BlockRealMatrix.BLOCK_SIZE;
+                final int      width  = FastMath.min(BlockRealMatrix.BLOCK_SIZE, parentColumns - qBlock);
+                final int      qStart = FastMath.max(startColumn, qBlock);
+                final int      qEnd   = FastMath.min(endColumn, qBlock + width);
+                int k = rowInBlock * width + qStart - qBlock;
+                for (int q = qStart; q < qEnd; ++q) {
+                    sum += block[k++] * v[q - startColumn];
+                }
+            }
+            out[row] = sum;
+        }
+    }
+
+    /** Compute the product of a vector by the view, walking the blocks of a {@link BlockRealMatrix} parent.
+     * @param v vector (already checked, and not the same array as {@code out})
+     * @param out array where to store the product (already filled with zeros)
+     */
+    private void blockPreMultiply(final double[] v, final double[] out) {
+        final int endColumn = startColumn + columns;
+        for (int row = 0; row < rows; ++row) {
+            final int    parentRow  = startRow + row;
+            final int    iBlock     = parentRow / BlockRealMatrix.BLOCK_SIZE;
+            final int    rowInBlock = parentRow - iBlock * BlockRealMatrix.BLOCK_SIZE;
+            final double vRow       = v[row];
+            for (int jBlock = startColumn / BlockRealMatrix.BLOCK_SIZE;
+                 jBlock * BlockRealMatrix.BLOCK_SIZE < endColumn; ++jBlock) {
+                final double[] block  = blocks[iBlock * blockColumns + jBlock];
+                final int      qBlock = jBlock * BlockRealMatrix.BLOCK_SIZE;
+                final int      width  = FastMath.min(BlockRealMatrix.BLOCK_SIZE, parentColumns - qBlock);
+                final int      qStart = FastMath.max(startColumn, qBlock);
+                final int      qEnd   = FastMath.min(endColumn, qBlock + width);
+                int k = rowInBlock * width + qStart - qBlock;
+                for (int q = qStart; q < qEnd; ++q) {
+                    out[q - startColumn] += vRow * block[k++];
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,629 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.io.Serializable;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.NullArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Symmetric matrix with packed storage.
+ * <p>
+ * Only the upper triangular part of the matrix is stored, column by column, in a
+ * single array of n(n+1)/2 entries (this is the packed layout used by LAPACK with
+ * {@code UPLO = 'U'}): entry (i, j) with i &le; j is stored at index
+ * j(j+1)/2 + i. This halves memory with respect to dense storage, and the
+ * products below read each stored entry once while updating both the entry
+ * and its mirror image, so they need about half the memory traffic of the
+ * dense products.
+ * </p>
+ * <p>
+ * As entries (i, j) and (j, i) share the same storage, setting, adding to or
+ * multiplying any of them changes both. The result of changing visitors that
+ * are not symmetric themselves (i.e. that do not return the same value when
+ * visiting (i, j) and (j, i)) is therefore undefined.
+ * </p>
+ * <p>
+ * This class is intended for covariance matrices. The {@link #congruence(RealMatrix)}
+ * method computes the A&times;S&times;A<sup>T</sup> propagation directly as a new
+ * symmetric matrix, and {@link CholeskyDecomposition} and {@link
+ * EigenDecompositionSymmetric} skip their symmetry checks for instances of
+ * this class.
+ * </p>
+ * @since 4.0
+ */
+public class SymmetricRealMatrix extends AbstractRealMatrix implements Serializable {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /** Dimension of the matrix. */
+    private final int dimension;
+
+    /** Packed upper triangular entries. */
+    private final double[] data;
+
+    /**
+     * Creates a matrix with the supplied dimension, with all entries set to zero.
+     *
+     * @param dimension Number of rows and columns in the new matrix.
+     * @throws MathIllegalArgumentException if the dimension is
+     * not positive.
+     */
+    public SymmetricRealMatrix(final int dimension)
+        throws MathIllegalArgumentException {
+        super(dimension, dimension);
+        this.dimension = dimension;
+        this.data      = new double[packedLength(dimension)];
+    }
+
+    /**
+     * Creates a matrix using the input array as the packed upper triangular entries.
+     * <br>
+     * The input array is copied, not referenced.
+     *
+     * @param packed packed upper triangular entries, entry (i, j) with i &le; j
+     * being at index j(j+1)/2 + i
+     * @throws MathIllegalArgumentException if array length is not n(n+1)/2
+     * for some positive n
+     */
+    public SymmetricRealMatrix(final double[] packed)
+        throws MathIllegalArgumentException {
+        this(packed, true);
+    }
+
+    /**
+     * Creates a matrix using the input array as the packed upper triangular entries.
+     * <br>
+     * If an array is created specially in order to be embedded in a
+     * this instance and not used directly, the {@code copyArray} may be
+     * set to {@code false}.
+     * This will prevent the copying and improve performance as no new
+     * array will be built and no data will be copied.
+     *
+     * @param packed packed upper triangular entries, entry (i, j) with i &le; j
+     * being at index j(j+1)/2 + i
+     * @param copyArray if {@code true}, the input array will be copied,
+     * otherwise it will be referenced.
+     * @throws NullArgumentException if packed is null
+     * @throws MathIllegalArgumentException if array length is not n(n+1)/2
+     * for some positive n
+     */
+    public SymmetricRealMatrix(final double[] packed, final boolean copyArray)
+        throws MathIllegalArgumentException, NullArgumentException {
+        MathUtils.checkNotNull(packed);
+        final int n = (int) FastMath.floor((FastMath.sqrt(8.0 * packed.length + 1) - 1) / 2);
+        if (n < 1 || packedLength(n) != packed.length) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                   packed.length, packedLength(FastMath.max(1, n)));
+        }
+        this.dimension = n;
+        this.data      = copyArray ? packed.clone() : packed;
+    }
+
+    /**
+     * Creates a matrix from the symmetric part of a square matrix.
+     * <p>
+     * Entry (i, j) of the new matrix is set to (m<sub>i,j</sub> + m<sub>j,i</sub>) / 2,
+     * which removes the small asymmetries accumulated by computations
+     * that should produce symmetric results.
+     * </p>
+     *
+     * @param m square matrix
+     * @throws MathIllegalArgumentException if the matrix is not square
+     */
+    public SymmetricRealMatrix(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        this(checkSquare(m).getRowDimension());
+        for (int j = 0; j < dimension; ++j) {
+            final int start = j * (j + 1) / 2;
+            for (int i = 0; i < j; ++i) {
+                data[start + i] = 0.5 * (m.getEntry(i, j) + m.getEntry(j, i));
+            }
+            data[start + j] = m.getEntry(j, j);
+        }
+    }
+
+    /**
+     * Creates a matrix from a square matrix, checking it is symmetric.
+     *
+     * @param m square matrix
+     * @param relativeSymmetryThreshold threshold above which off-diagonal
+     * elements are considered too different and matrix not symmetric
+     * @return symmetric matrix with the same entries as {@code m}
+     * (up to the symmetry threshold)
+     * @throws MathIllegalArgumentException if the matrix is not square
+     * or not symmetric
+     */
+    public static SymmetricRealMatrix of(final RealMatrix m, final double relativeSymmetryThreshold)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSymmetric(checkSquare(m), relativeSymmetryThreshold);
+        return new SymmetricRealMatrix(m);
+    }
+
+    /** Check a matrix is square.
+     * @param m matrix to check
+     * @return m
+     * @throws MathIllegalArgumentException if the matrix is not square
+     */
+    private static RealMatrix checkSquare(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        if (!m.isSquare()) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.NON_SQUARE_MATRIX,
+                                                   m.getRowDimension(), m.getColumnDimension());
+        }
+        return m;
+    }
+
+    /** Get the length of packed storage.
+     * @param n dimension of the matrix
+     * @return number of stored entries for an n&times;n symmetric matrix
+     */
+    private static int packedLength(final int n) {
+        return n * (n + 1) / 2;
+    }
+
+    /** Get the index of an entry in packed storage.
+     * @param row row index
+     * @param column column index
+     * @return index of the entry in packed storage
+     */
+    private static int index(final int row, final int column) {
+        return row <= column ? column * (column + 1) / 2 + row : row * (row + 1) / 2 + column;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * As the new matrix may be non-symmetric, it is a general dense matrix.
+     * </p>
+     */
+    @Override
+    public RealMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return MatrixUtils.createRealMatrix(rowDimension, columnDimension);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SymmetricRealMatrix copy() {
+        return new SymmetricRealMatrix(data, true);
+    }
+
+    /** Get the packed upper triangular entries.
+     * @return a copy of the packed upper triangular entries, entry (i, j) with
+     * i &le; j being at index j(j+1)/2 + i
+     */
+    public double[] getPackedData() {
+        return data.clone();
+    }
+
+    /** Get a reference to the packed upper triangular entries.
+     * @return reference to the packed upper triangular entries, entry (i, j) with
+     * i &le; j being at index j(j+1)/2 + i
+     */
+    public double[] getPackedDataRef() {
+        return data;
+    }
+
+    /** Get the upper triangular part of the matrix as a dense array.
+     * @return new array with the upper triangular entries and zeros below the diagonal
+     */
+    double[][] getUpperTriangularData() {
+        final double[][] upper = new double[dimension][dimension];
+        for (int j = 0; j < dimension; ++j) {
+            final int start = j * (j + 1) / 2;
+            for (int i = 0; i <= j; ++i) {
+                upper[i][j] = data[start + i];
+            }
+        }
+        return upper;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[][] getData() {
+        final double[][] out = new double[dimension][dimension];
+        for (int j = 0; j < dimension; ++j) {
+            final int start = j * (j + 1) / 2;
+            for (int i = 0; i < j; ++i) {
+                out[i][j] = data[start + i];
+            }
+            // the strictly lower part of row j is contiguous in packed storage
+            System.arraycopy(data, start, out[j], 0, j + 1);
+        }
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return dimension;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return dimension;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return data[index(row, column)];
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * This also sets the mirror entry (column, row).
+     * </p>
+     */
+    @Override
+    public void setEntry(final int row, final int column, final double value)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        data[index(row, column)] = value;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * This also changes the mirror entry (column, row).
+     * </p>
+     */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        data[index(row, column)] += increment;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * This also changes the mirror entry (column, row).
+     * </p>
+     */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        data[index(row, column)] *= factor;
+    }
+
+    /**
+     * Compute the sum of {@code this} and {@code m}.
+     *
+     * @param m Matrix to be added.
+     * @return {@code this + m}.
+     * @throws MathIllegalArgumentException if {@code m} is not the same
+     * size as {@code this}.
+     */
+    public SymmetricRealMatrix add(final SymmetricRealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkAdditionCompatible(this, m);
+        final double[] outData = new double[data.length];
+        for (int k = 0; k < data.length; ++k) {
+            outData[k] = data[k] + m.data[k];
+        }
+        return new SymmetricRealMatrix(outData, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix add(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        if (m instanceof SymmetricRealMatrix) {
+            return add((SymmetricRealMatrix) m);
+        } else {
+            return super.add(m);
+        }
+    }
+
+    /**
+     * Returns {@code this} minus {@code m}.
+     *
+     * @param m Matrix to be subtracted.
+     * @return {@code this - m}
+     * @throws MathIllegalArgumentException if {@code m} is not the same
+     * size as {@code this}.
+     */
+    public SymmetricRealMatrix subtract(final SymmetricRealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubtractionCompatible(this, m);
+        final double[] outData = new double[data.length];
+        for (int k = 0; k < data.length; ++k) {
+            outData[k] = data[k] - m.data[k];
+        }
+        return new SymmetricRealMatrix(outData, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix subtract(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        if (m instanceof SymmetricRealMatrix) {
+            return subtract((SymmetricRealMatrix) m);
+        } else {
+            return super.subtract(m);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SymmetricRealMatrix scalarAdd(final double d) {
+        final double[] outData = new double[data.length];
+        for (int k = 0; k < data.length; ++k) {
+            outData[k] = data[k] + d;
+        }
+        return new SymmetricRealMatrix(outData, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SymmetricRealMatrix scalarMultiply(final double d) {
+        final double[] outData = new double[data.length];
+        for (int k = 0; k < data.length; ++k) {
+            outData[k] = data[k] * d;
+        }
+        return new SymmetricRealMatrix(outData, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SymmetricRealMatrix transpose() {
+        return copy();
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * As the matrix is symmetric, its transpose view is the instance itself.
+     * </p>
+     */
+    @Override
+    public SymmetricRealMatrix getTransposeView() {
+        return this;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v)
+        throws MathIllegalArgumentException {
+        return operate(v, new double[dimension]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        MathUtils.checkDimension(v.length, dimension);
+        MathUtils.checkDimension(out.length, dimension);
+        packedOperate(out == v ? v.clone() : v, out);
+        return out;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v)
+        throws MathIllegalArgumentException {
+        return operate(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        return operate(v, out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix multiply(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(this, m);
+        final int        nCols = m.getColumnDimension();
+        final double[][] mData = (m instanceof Array2DRowRealMatrix) ?
+                                 ((Array2DRowRealMatrix) m).getDataRef() : m.getData();
+        final double[][] out   = new double[dimension][nCols];
+        for (int j = 0; j < dimension; ++j) {
+            // column j of the upper triangle updates row j and rows i < j of the product
+            final int      start = j * (j + 1) / 2;
+            final double[] mJ    = mData[j];
+            final double[] outJ  = out[j];
+            for (int i = 0; i < j; ++i) {
+                final double   sIJ  = data[start + i];
+                final double[] mI   = mData[i];
+                final double[] outI = out[i];
+                for (int k = 0; k < nCols; ++k) {
+                    outI[k] += sIJ * mJ[k];
+                    outJ[k] += sIJ * mI[k];
+                }
+            }
+            final double sJJ = data[start + j];
+            for (int k = 0; k < nCols; ++k) {
+                outJ[k] += sJJ * mJ[k];
+            }
+        }
+        return new Array2DRowRealMatrix(out, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix preMultiply(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(m, this);
+        return new Array2DRowRealMatrix(preMultiplyRows(m), false);
+    }
+
+    /**
+     * Compute the congruence transform m &times; this &times; m<sup>T</sup>.
+     * <p>
+     * This is the covariance propagation through a linear transform m. As the
+     * result is symmetric, only its upper triangular part is computed, saving
+     * about a quarter of the flops of the equivalent general products.
+     * </p>
+     *
+     * @param m transform matrix, with as many columns as {@code this} has rows
+     * @return m &times; this &times; m<sup>T</sup>
+     * @throws MathIllegalArgumentException if
+     * {@code columnDimension(m) != rowDimension(this)}
+     */
+    public SymmetricRealMatrix congruence(final RealMatrix m)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMultiplicationCompatible(m, this);
+        final int        p     = m.getRowDimension();
+        final double[][] mData = (m instanceof Array2DRowRealMatrix) ?
+                                 ((Array2DRowRealMatrix) m).getDataRef() : m.getData();
+        final double[][] ms    = preMultiplyRows(m);
+        final double[]   out   = new double[packedLength(p)];
+        int index = 0;
+        for (int j = 0; j < p; ++j) {
+            final double[] mJ = mData[j];
+            for (int i = 0; i <= j; ++i) {
+                final double[] msI = ms[i];
+                double sum = 0;
+                for (int k = 0; k < dimension; ++k) {
+                    sum += msI[k] * mJ[k];
+                }
+                out[index++] = sum;
+            }
+        }
+        return new SymmetricRealMatrix(out, false);
+    }
+
+    /** Compute m &times; this as an array.
+     * @param m matrix to pre-multiply by (dimensions already checked)
+     * @return m &times; this
+     */
+    private double[][] preMultiplyRows(final RealMatrix m) {
+        final int        p   = m.getRowDimension();
+        final double[][] out = new double[p][dimension];
+        if (m instanceof Array2DRowRealMatrix) {
+            final double[][] mData = ((Array2DRowRealMatrix) m).getDataRef();
+            for (int r = 0; r < p; ++r) {
+                packedOperate(mData[r], out[r]);
+            }
+        } else {
+            for (int r = 0; r < p; ++r) {
+                packedOperate(m.getRow(r), out[r]);
+            }
+        }
+        return out;
+    }
+
+    /** Multiply a vector by the matrix, reading each stored entry once.
+     * @param v vector (must not be the same array as out)
+     * @param out placeholder where to put the result
+     */
+    private void packedOperate(final double[] v, final double[] out) {
+        for (int j = 0; j < dimension; ++j) {
+            final int    start = j * (j + 1) / 2;
+            final double vJ    = v[j];
+            double sum = 0;
+            for (int i = 0; i < j; ++i) {
+                final double sIJ = data[start + i];
+                out[i] += sIJ * vJ;
+                sum    += sIJ * v[i];
+            }
+            out[j] = sum + data[start + j] * vJ;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getTrace() {
+        double trace = 0;
+        for (int j = 0; j < dimension; ++j) {
+            trace += data[j * (j + 1) / 2 + j];
+        }
+        return trace;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * All visited entries see their value before the walk started, so the
+     * second visit of a pair of mirror entries is not affected by the first one.
+     * </p>
+     */
+    @Override
+    public double walkInRowOrder(final RealMatrixChangingVisitor visitor) {
+        return walkInRowOrder(visitor, 0, dimension - 1, 0, dimension - 1);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * All visited entries see their value before the walk started, so the
+     * second visit of a pair of mirror entries is not affected by the first one.
+     * </p>
+     */
+    @Override
+    public double walkInRowOrder(final RealMatrixChangingVisitor visitor,
+                                 final int startRow, final int endRow,
+                                 final int startColumn, final int endColumn)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubMatrixIndex(this, startRow, endRow, startColumn, endColumn);
+        visitor.start(dimension, dimension, startRow, endRow, startColumn, endColumn);
+        final double[] original = data.clone();
+        for (int row = startRow; row <= endRow; ++row) {
+            for (int column = startColumn; column <= endColumn; ++column) {
+                final int index = index(row, column);
+                data[index] = visitor.visit(row, column, original[index]);
+            }
+        }
+        return visitor.end();
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * All visited entries see their value before the walk started, so the
+     * second visit of a pair of mirror entries is not affected by the first one.
+     * </p>
+     */
+    @Override
+    public double walkInColumnOrder(final RealMatrixChangingVisitor visitor) {
+        return walkInColumnOrder(visitor, 0, dimension - 1, 0, dimension - 1);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * All visited entries see their value before the walk started, so the
+     * second visit of a pair of mirror entries is not affected by the first one.
+     * </p>
+     */
+    @Override
+    public double walkInColumnOrder(final RealMatrixChangingVisitor visitor,
+                                    final int startRow, final int endRow,
+                                    final int startColumn, final int endColumn)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkSubMatrixIndex(this, startRow, endRow, startColumn, endColumn);
+        visitor.start(dimension, dimension, startRow, endRow, startColumn, endColumn);
+        final double[] original = data.clone();
+        for (int column = startColumn; column <= endColumn; ++column) {
+            for (int row = startRow; row <= endRow; ++row) {
+                final int index = index(row, column);
+                data[index] = visitor.visit(row, column, original[index]);
+            }
+        }
+        return visitor.end();
+    }
+
+}
@@ -0,0 +1,584 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.Precision;
+
+/** Divide-and-conquer eigensolver for symmetric tridiagonal matrices.
+ * <p>
+ * The tridiagonal matrix T is split as T = diag(T<sub>1</sub>, T<sub>2</sub>) + &rho; u u<sup>T</sup>
+ * (Cuppen, A divide and conquer method for the symmetric tridiagonal eigenproblem,
+ * Numer. Math. 36, 1981). The two halves are decomposed recursively, small ones with
+ * the implicit QL algorithm. Merging requires the eigen decomposition of a diagonal
+ * matrix plus a rank-one modification D + &rho; z z<sup>T</sup>: after deflation of
+ * negligible components, each eigenvalue is the root of a secular equation, and the
+ * eigenvectors are computed from a modified vector z consistent with the computed
+ * eigenvalues, which ensures their numerical orthogonality (Gu and Eisenstat,
+ * A divide-and-conquer algorithm for the symmetric tridiagonal eigenproblem,
+ * SIAM J. Matrix Anal. Appl. 16, 1995).
+ * </p>
+ * <p>
+ * Halves, secular equations, products by eigenvectors and back-transformation of the
+ * eigenvectors to the original matrix basis are independent tasks, they
+ * are run in parallel if a {@link ForkJoinPool} is provided. The result does not depend
+ * on the number of threads.
+ * </p>
+ * <p>
+ * This class is intended for internal use by the library and is not public.
+ * </p>
+ * @see EigenDecompositionSymmetric
+ * @since 4.0
+ */
+class SymmetricTridiagonalDivideAndConquer {
+
+    /** Size under which subproblems are solved by implicit QL. */
+    private static final int LEAF_SIZE = 32;
+
+    /** Size above which subproblems are solved in parallel. */
+    private static final int PARALLEL_SIZE = 256;
+
+    /** Number of eigenvalues per task in merge steps. */
+    private static final int CHUNK = 16;
+
+    /** Maximum number of iterations for secular equations. */
+    private static final int MAX_SECULAR_ITERATIONS = 200;
+
+    /** Eigenvalues, in increasing order. */
+    private final double[] eigenvalues;
+
+    /** Eigenvectors (one array per eigenvector). */
+    private final double[][] eigenvectors;
+
+    /** Simple constructor.
+     * @param main main diagonal of the tridiagonal matrix
+     * @param secondary secondary diagonal of the tridiagonal matrix
+     * (only the first main.length - 1 elements are used)
+     * @param transformer transformer whose Q matrix should be applied to
+     * the eigenvectors (null if Q is the identity)
+     * @param pool pool in which independent tasks should be run
+     * (if null, everything is run in the calling thread)
+     */
+    SymmetricTridiagonalDivideAndConquer(final double[] main, final double[] secondary,
+                                         final TriDiagonalTransformer transformer,
+                                         final ForkJoinPool pool) {
+
+        final int n = main.length;
+
+        // scale the matrix to avoid overflows and underflows
+        double scale = 0;
+        for (int i = 0; i < n; ++i) {
+            scale = FastMath.max(scale, FastMath.abs(main[i]));
+            if (i < n - 1) {
+                scale = FastMath.max(scale, FastMath.abs(secondary[i]));
+            }
+        }
+        final double   inv = scale == 0 ? 1.0 : 1.0 / scale;
+        final double[] d   = new double[n];
+        final double[] e   = new double[FastMath.max(0, n - 1)];
+        for (int i = 0; i < n; ++i) {
+            d[i] = main[i] * inv;
+            if (i < n - 1) {
+                e[i] = secondary[i] * inv;
+            }
+        }
+
+        final Solution solution = solve(d, e, 0, n, pool);
+        eigenvalues  = solution.values;
+        eigenvectors = solution.vectors;
+        if (scale != 0) {
+            for (int i = 0; i < n; ++i) {
+                eigenvalues[i] *= scale;
+            }
+        }
+
+        if (transformer != null) {
+            // back-transform to the eigenvectors of the original matrix
+            run(n >= PARALLEL_SIZE ? pool : null, (n + CHUNK - 1) / CHUNK,
+                c -> transformer.applyQ(eigenvectors, c * CHUNK, FastMath.min(n, (c + 1) * CHUNK)));
+        }
+
+    }
+
+    /** Get the eigenvalues.
+     * @return eigenvalues, in increasing order (reference to internal array)
+     */
+    public double[] getEigenvalues() {
+        return eigenvalues;
+    }
+
+    /** Get the eigenvectors.
+     * @return eigenvectors, one array per eigenvector,
+     * in the same order as eigenvalues (reference to internal array)
+     */
+    public double[][] getEigenvectors() {
+        return eigenvectors;
+    }
+
+    /** Solve a subproblem.
+     * @param d main diagonal (subproblem elements are modified by splitting)
+     * @param e secondary diagonal
+     * @param lo index of the first row of the subproblem (included)
+     * @param hi index of the last row of the subproblem (excluded)
+     * @param pool pool in which independent tasks should be run (may be null)
+     * @return solution of the subproblem
+     */
+    private static Solution solve(final double[] d, final double[] e,
+                                  final int lo, final int hi, final ForkJoinPool pool) {
+
+        final int size = hi - lo;
+        if (size <= LEAF_SIZE) {
+            return solveLeaf(d, e, lo, hi);
+        }
+
+        // split T = diag(T1, T2) + rho u u^T, with u = (..., 0, 1, ±1, 0, ...)
+        final int    mid  = (lo + hi) >>> 1;
+        final double beta = e[mid - 1];
+        final double rho  = FastMath.abs(beta);
+        d[mid - 1] -= rho;
+        d[mid]     -= rho;
+
+        final Solution[] halves = new Solution[2];
+        run(size >= PARALLEL_SIZE ? pool : null, 2,
+            h -> halves[h] = (h == 0) ? solve(d, e, lo, mid, pool) : solve(d, e, mid, hi, pool));
+
+        return merge(halves[0], halves[1], rho, beta < 0, pool);
+
+    }
+
+    /** Solve a small subproblem using implicit QL.
+     * @param d main diagonal
+     * @param e secondary diagonal
+     * @param lo index of the first row of the subproblem (included)
+     * @param hi index of the last row of the subproblem (excluded)
+     * @return solution of the subproblem
+     */
+    private static Solution solveLeaf(final double[] d, final double[] e, final int lo, final int hi) {
+
+        final int size = hi - lo;
+        final double[]   values = Arrays.copyOfRange(d, lo, hi);
+        final double[]   sub    = new double[size];
+        System.arraycopy(e, lo, sub, 0, size - 1);
+        final double[][] z      = new double[size][size];
+        for (int i = 0; i < size; ++i) {
+            z[i][i] = 1.0;
+        }
+        EigenDecompositionSymmetric.implicitQL(values, sub, z);
+
+        final double[][] vectors = new double[size][size];
+        for (int j = 0; j < size; ++j) {
+            for (int i = 0; i < size; ++i) {
+                vectors[j][i] = z[i][j];
+            }
+        }
+        return new Solution(values, vectors).sorted();
+
+    }
+
+    /** Merge the solutions of two subproblems.
+     * @param s1 solution of the upper subproblem
+     * @param s2 solution of the lower subproblem
+     * @param rho norm of the coupling element
+     * @param negative if true, the coupling element is negative
+     * @param pool pool in which independent tasks should be run (may be null)
+     * @return solution of the merged problem
+     */
+    private static Solution merge(final Solution s1, final Solution s2,
+                                  final double rho, final boolean negative,
+                                  final ForkJoinPool pool) {
+
+        final int n1 = s1.values.length;
+        final int n2 = s2.values.length;
+        final int n  = n1 + n2;
+
+        // the merged problem is D + r z z^T in the basis of the halves eigenvectors,
+        // z is normalized (it is made of one row from each orthogonal matrix)
+        final double   r     = 2 * rho;
+        final double   scale = FastMath.sqrt(0.5);
+        final double[]   d     = new double[n];
+        final double[]   z     = new double[n];
+        final double[][] q     = new double[n][];
+        final int[]      start = new int[n];
+        final int[]      end   = new int[n];
+        for (int j = 0; j < n1; ++j) {
+            d[j]     = s1.values[j];
+            z[j]     = s1.vectors[j][n1 - 1] * scale;
+            q[j]     = Arrays.copyOf(s1.vectors[j], n);
+            start[j] = 0;
+            end[j]   = n1;
+        }
+        for (int j = 0; j < n2; ++j) {
+            d[n1 + j]     = s2.values[j];
+            z[n1 + j]     = negative ? -s2.vectors[j][0] * scale : s2.vectors[j][0] * scale;
+            q[n1 + j]     = new double[n];
+            System.arraycopy(s2.vectors[j], 0, q[n1 + j], n1, n2);
+            start[n1 + j] = n1;
+            end[n1 + j]   = n;
+        }
+
+        // deflation
+        final Integer[] order = new Integer[n];
+        double dMax = 0;
+        double zMax = 0;
+        for (int j = 0; j < n; ++j) {
+            order[j] = j;
+            dMax     = FastMath.max(dMax, FastMath.abs(d[j]));
+            zMax     = FastMath.max(zMax, FastMath.abs(z[j]));
+        }
+        Arrays.sort(order, Comparator.comparingDouble(j -> d[j]));
+        final double tol     = 8 * Precision.EPSILON * FastMath.max(dMax, zMax);
+        final int[]  kept    = new int[n];
+        final int[]  dropped = new int[n];
+        int k = 0;
+        int nDropped = 0;
+        if (r * zMax <= tol) {
+            // the coupling is negligible
+            for (final int j : order) {
+                dropped[nDropped++] = j;
+            }
+        } else {
+            int previous = -1;
+            for (final int j : order) {
+                if (r * FastMath.abs(z[j]) <= tol) {
+                    // negligible component
+                    dropped[nDropped++] = j;
+                } else if (previous < 0) {
+                    previous = j;
+                } else {
+                    // check if the two eigenvalues are close enough to be merged
+                    final double tau = FastMath.hypot(z[j], z[previous]);
+                    final double c   =  z[j] / tau;
+                    final double s   = -z[previous] / tau;
+                    if (FastMath.abs((d[j] - d[previous]) * c * s) <= tol) {
+                        z[j]        = tau;
+                        z[previous] = 0;
+                        rotate(q[previous], q[j], c, s,
+                               FastMath.min(start[previous], start[j]), FastMath.max(end[previous], end[j]));
+                        start[previous] = FastMath.min(start[previous], start[j]);
+                        start[j]        = start[previous];
+                        end[previous]   = FastMath.max(end[previous], end[j]);
+                        end[j]          = end[previous];
+                        final double t = d[previous] * c * c + d[j] * s * s;
+                        d[j]        = d[previous] * s * s + d[j] * c * c;
+                        d[previous] = t;
+                        dropped[nDropped++] = previous;
+                    } else {
+                        kept[k++] = previous;
+                    }
+                    previous = j;
+                }
+            }
+            if (previous >= 0) {
+                kept[k++] = previous;
+            }
+        }
+
+        final double[]   values  = new double[n];
+        final double[][] vectors = new double[n][];
+
+        if (k > 0) {
+
+            final int nk = k;
+
+            // solve the secular equations
+            final double[]   dk    = new double[nk];
+            final double[]   zk    = new double[nk];
+            for (int i = 0; i < nk; ++i) {
+                dk[i] = d[kept[i]];
+                zk[i] = z[kept[i]];
+            }
+            final double[][] delta = new double[nk][];
+            final int chunks = (nk + CHUNK - 1) / CHUNK;
+            final ForkJoinPool mergePool = nk >= PARALLEL_SIZE ? pool : null;
+            run(mergePool, chunks, c -> {
+                for (int i = c * CHUNK; i < FastMath.min(nk, (c + 1) * CHUNK); ++i) {
+                    delta[i]  = new double[nk];
+                    values[i] = solveSecular(i, dk, zk, r, delta[i]);
+                }
+            });
+
+            // recompute z so it is consistent with the computed eigenvalues (Gu and Eisenstat)
+            final double[] zHat = new double[nk];
+            for (int i = 0; i < nk; ++i) {
+                double w = -delta[i][i] / r;
+                for (int j = 0; j < nk; ++j) {
+                    if (j != i) {
+                        w *= -delta[j][i] / (dk[j] - dk[i]);
+                    }
+                }
+                zHat[i] = FastMath.copySign(FastMath.sqrt(w), zk[i]);
+            }
+
+            // eigenvectors
+            run(mergePool, chunks, c -> {
+                final double[] u = new double[nk];
+                for (int j = c * CHUNK; j < FastMath.min(nk, (c + 1) * CHUNK); ++j) {
+                    double norm2 = 0;
+                    for (int i = 0; i < nk; ++i) {
+                        u[i]   = zHat[i] / delta[j][i];
+                        norm2 += u[i] * u[i];
+                    }
+                    final double   inv = 1.0 / FastMath.sqrt(norm2);
+                    final double[] v   = new double[n];
+                    for (int i = 0; i < nk; ++i) {
+                        final double   a  = u[i] * inv;
+                        final int      p  = kept[i];
+                        final double[] qp = q[p];
+                        for (int l = start[p]; l < end[p]; ++l) {
+                            v[l] += a * qp[l];
+                        }
+                    }
+                    vectors[j] = v;
+                }
+            });
+
+        }
+
+        // deflated eigenpairs are unchanged
+        for (int i = 0; i < nDropped; ++i) {
+            values[k + i]  = d[dropped[i]];
+            vectors[k + i] = q[dropped[i]];
+        }
+
+        return new Solution(values, vectors).sorted();
+
+    }
+
+    /** Solve the secular equation 1 + r &sum; z<sub>j</sub><sup>2</sup> / (d<sub>j</sub> - &lambda;) = 0.
+     * <p>
+     * The i<sup>th</sup> root lies between d<sub>i</sub> and d<sub>i+1</sub>, or between
+     * d<sub>k-1</sub> and d<sub>k-1</sub> + r for the last root. It is searched as an offset
+     * from the closest pole, so the differences d<sub>j</sub> - &lambda; are accurate. Iterations
+     * use a rational model with one pole on each side of the root, matching value and derivative
+     * of both parts of the secular function (Bunch, Nielsen and Sorensen, 1978), safeguarded by
+     * bisection.
+     * </p>
+     * @param i index of the root
+     * @param d poles, in strictly increasing order
+     * @param z weights (non-zero, with unit norm)
+     * @param r rank-one modification factor (strictly positive)
+     * @param delta placeholder for the differences d<sub>j</sub> - &lambda;
+     * @return i<sup>th</sup> root &lambda;
+     */
+    private static double solveSecular(final int i, final double[] d, final double[] z,
+                                       final double r, final double[] delta) {
+
+        final int k = d.length;
+
+        // select origin and bracket
+        final int origin;
+        double lo;
+        double hi;
+        if (i < k - 1) {
+            final double half = 0.5 * (d[i + 1] - d[i]);
+            double f = 1;
+            for (int j = 0; j < k; ++j) {
+                f += r * z[j] * z[j] / ((d[j] - d[i]) - half);
+            }
+            if (f >= 0) {
+                origin = i;
+                lo     = 0;
+                hi     = half;
+            } else {
+                origin = i + 1;
+                lo     = -half;
+                hi     = 0;
+            }
+        } else {
+            double norm2 = 0;
+            for (int j = 0; j < k; ++j) {
+                norm2 += z[j] * z[j];
+            }
+            origin = i;
+            lo     = 0;
+            hi     = r * norm2;
+        }
+        final double[] diff = new double[k];
+        for (int j = 0; j < k; ++j) {
+            diff[j] = d[j] - d[origin];
+        }
+
+        double tau = 0.5 * (lo + hi);
+        for (int iteration = 0; iteration < MAX_SECULAR_ITERATIONS; ++iteration) {
+
+            // evaluate both parts of the secular function and their derivatives
+            double psi    = 0;
+            double dPsi   = 0;
+            double phi    = 0;
+            double dPhi   = 0;
+            double erretm = 0;
+            for (int j = 0; j < k; ++j) {
+                delta[j] = diff[j] - tau;
+                final double t  = z[j] / delta[j];
+                final double rt = r * z[j] * t;
+                if (j <= i) {
+                    psi  += rt;
+                    dPsi += rt / delta[j];
+                } else {
+                    phi  += rt;
+                    dPhi += rt / delta[j];
+                }
+                erretm += FastMath.abs(rt);
+            }
+            final double f = 1 + psi + phi;
+            if (f < 0) {
+                lo = tau;
+            } else {
+                hi = tau;
+            }
+            erretm = 8 * (1 + erretm) + FastMath.abs(tau) * (dPsi + dPhi);
+            if (FastMath.abs(f) <= k * Precision.EPSILON * erretm) {
+                break;
+            }
+
+            // step from the rational model, with bisection as a fallback
+            final double da = delta[i];
+            final double s  = dPsi * da * da;
+            double newTau = Double.NaN;
+            if (i == k - 1) {
+                final double c = 1 + psi - dPsi * da;
+                if (c != 0) {
+                    newTau = tau + da + s / c;
+                }
+            } else {
+                final double db = delta[i + 1];
+                final double t  = dPhi * db * db;
+                final double c  = 1 + psi - dPsi * da + phi - dPhi * db;
+                final double b  = c * (da + db) + s + t;
+                final double c0 = f * da * db;
+                if (c == 0) {
+                    if (b != 0) {
+                        newTau = tau + c0 / b;
+                    }
+                } else {
+                    final double sq  = FastMath.sqrt(FastMath.max(0, b * b - 4 * c * c0));
+                    final double qq  = 0.5 * (b + FastMath.copySign(sq, b));
+                    final double t1  = tau + qq / c;
+                    final double t2  = qq == 0 ? Double.NaN : tau + c0 / qq;
+                    final boolean ok1 = t1 > lo && t1 < hi;
+                    final boolean ok2 = t2 > lo && t2 < hi;
+                    if (ok1 && ok2) {
+                        newTau = FastMath.abs(t1 - tau) < FastMath.abs(t2 - tau) ? t1 : t2;
+                    } else if (ok1) {
+                        newTau = t1;
+                    } else if (ok2) {
+                        newTau = t2;
+                    }
+                }
+            }
+            if (!(newTau > lo && newTau < hi)) {
+                newTau = 0.5 * (lo + hi);
+            }
+            if (newTau == tau) {
+                break;
+            }
+            tau = newTau;
+
+        }
+
+        for (int j = 0; j < k; ++j) {
+            delta[j] = diff[j] - tau;
+        }
+        return d[origin] + tau;
+
+    }
+
+    /** Apply a Givens rotation to two vectors.
+     * @param x first vector
+     * @param y second vector
+     * @param c cosine of the rotation
+     * @param s sine of the rotation
+     * @param from index of the first element to rotate (included)
+     * @param to index of the last element to rotate (excluded)
+     */
+    private static void rotate(final double[] x, final double[] y, final double c, final double s,
+                               final int from, final int to) {
+        for (int l = from; l < to; ++l) {
+            final double a = x[l];
+            final double b = y[l];
+            x[l] = c * a + s * b;
+            y[l] = c * b - s * a;
+        }
+    }
+
+    /** Run independent tasks.
+     * @param pool pool in which tasks should be run (if null, they are run in the calling thread)
+     * @param count number of tasks
+     * @param processor processor for one task
+     */
+    private static void run(final ForkJoinPool pool, final int count, final IntConsumer processor) {
+        if (pool == null) {
+            for (int index = 0; index < count; ++index) {
+                processor.accept(index);
+            }
+        } else {
+            final BlocksTask task = new BlocksTask(0, count, processor);
+            if (ForkJoinTask.getPool() == pool) {
+                // we are already in a worker thread of the pool
+                task.invoke();
+            } else {
+                pool.invoke(task);
+            }
+        }
+    }
+
+    /** Container for eigenvalues and eigenvectors of a subproblem. */
+    private static class Solution {
+
+        /** Eigenvalues. */
+        private final double[] values;
+
+        /** Eigenvectors (one array per eigenvector). */
+        private final double[][] vectors;
+
+        /** Simple constructor.
+         * @param values eigenvalues
+         * @param vectors eigenvectors
+         */
+        Solution(final double[] values, final double[][] vectors) {
+            this.values  = values;
+            this.vectors = vectors;
+        }
+
+        /** Sort eigenvalues in increasing order.
+         * @return sorted solution
+         */
+        Solution sorted() {
+            final int n = values.length;
+            final Integer[] order = new Integer[n];
+            for (int i = 0; i < n; ++i) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingDouble(i -> values[i]));
+            final double[]   sortedValues  = new double[n];
+            final double[][] sortedVectors = new double[n][];
+            for (int i = 0; i < n; ++i) {
+                sortedValues[i]  = values[order[i]];
+                sortedVectors[i] = vectors[order[i]];
+            }
+            return new Solution(sortedValues, sortedVectors);
+        }
+
+    }
+
+}
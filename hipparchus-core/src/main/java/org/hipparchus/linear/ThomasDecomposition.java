@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+
+/**
+ * Calculates the LU-decomposition of a tridiagonal matrix without pivoting,
+ * i.e. the Thomas algorithm.
+ * <p>
+ * The decomposition and each solve cost O(n). As there is no pivoting, the
+ * algorithm is stable only for diagonally dominant or symmetric positive
+ * definite matrices, which is the case of most spline and finite difference
+ * systems. Use {@link BandedLUDecomposition} for general tridiagonal matrices.
+ * </p>
+ * @see TridiagonalRealMatrix
+ * @since 4.0
+ */
+public class ThomasDecomposition {
+
+    /** Default bound to determine effective singularity. */
+    private static final double DEFAULT_TOO_SMALL = 1e-11;
+
+    /** Sub-diagonal of L (which has a unit diagonal). */
+    private final double[] multipliers;
+
+    /** Diagonal of U. */
+    private final double[] pivots;
+
+    /** Super-diagonal of U. */
+    private final double[] sup;
+
+    /** Singularity indicator. */
+    private final boolean singular;
+
+    /**
+     * Calculates the decomposition of the given matrix.
+     * This constructor uses 1e-11 as default value for the singularity
+     * threshold.
+     *
+     * @param matrix Matrix to decompose.
+     */
+    public ThomasDecomposition(final TridiagonalRealMatrix matrix) {
+        this(matrix, DEFAULT_TOO_SMALL);
+    }
+
+    /**
+     * Calculates the decomposition of the given matrix.
+     * @param matrix The matrix to decompose.
+     * @param singularityThreshold threshold under which a pivot is
+     * considered zero and the matrix singular
+     */
+    public ThomasDecomposition(final TridiagonalRealMatrix matrix, final double singularityThreshold) {
+        multipliers = matrix.getSubDiagonal();
+        pivots      = matrix.getMainDiagonal();
+        sup         = matrix.getSuperDiagonal();
+
+        boolean isSingular = FastMath.abs(pivots[0]) < singularityThreshold;
+        for (int i = 1; i < pivots.length && !isSingular; ++i) {
+            multipliers[i - 1] /= pivots[i - 1];
+            pivots[i]          -= multipliers[i - 1] * sup[i - 1];
+            isSingular = FastMath.abs(pivots[i]) < singularityThreshold;
+        }
+        singular = isSingular;
+    }
+
+    /**
+     * Return the determinant of the matrix
+     * @return determinant of the matrix
+     */
+    public double getDeterminant() {
+        if (singular) {
+            return 0;
+        }
+        double determinant = 1;
+        for (final double pivot : pivots) {
+            determinant *= pivot;
+        }
+        return determinant;
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in exact linear
+     * sense.
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver();
+    }
+
+    /** Specialized solver. */
+    private class Solver implements DecompositionSolver {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            return !singular;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            final int m = pivots.length;
+            if (b.getDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getDimension(), m);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+            final double[] x = b.toArray();
+            solveInPlace(x);
+            return new ArrayRealVector(x, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+            final int m = pivots.length;
+            if (b.getRowDimension() != m) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.DIMENSIONS_MISMATCH,
+                                                       b.getRowDimension(), m);
+            }
+            if (singular) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+            final RealMatrix x = MatrixUtils.createRealMatrix(m, b.getColumnDimension());
+            for (int j = 0; j < b.getColumnDimension(); ++j) {
+                final double[] column = b.getColumn(j);
+                solveInPlace(column);
+                x.setColumn(j, column);
+            }
+            return x;
+        }
+
+        /** Solve one system in place.
+         * @param x right hand side on input, solution on output
+         */
+        private void solveInPlace(final double[] x) {
+            // forward elimination, L.y = b
+            for (int i = 1; i < x.length; ++i) {
+                x[i] -= multipliers[i - 1] * x[i - 1];
+            }
+            // back substitution, U.x = y
+            x[x.length - 1] /= pivots[x.length - 1];
+            for (int i = x.length - 2; i >= 0; --i) {
+                x[i] = (x[i] - sup[i] * x[i + 1]) / pivots[i];
+            }
+        }
+
+        /**
+         * Get the inverse of the decomposed matrix.
+         *
+         * @return the inverse matrix.
+         * @throws MathIllegalArgumentException if the decomposed matrix is singular.
+         */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(pivots.length));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return pivots.length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return pivots.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.MathIllegalArgumentException;
+
+/**
+ * View on the transpose of another matrix.
+ * <p>
+ * No data is copied: entry (i, j) of the view is entry (j, i) of the parent,
+ * it is read from and written to the parent matrix. Creating a view is
+ * therefore a constant time operation.
+ * </p>
+ * <p>
+ * Products involving the view are delegated to the parent, so they benefit
+ * from its optimized implementation: {@link #operate(double[])} calls the
+ * parent {@link RealMatrix#preMultiply(double[]) preMultiply}, {@link
+ * #multiply(RealMatrix)} calls the parent {@link RealMatrix#transposeMultiply(RealMatrix)
+ * transposeMultiply} and so on. The transposed view of the view is the
+ * parent itself.
+ * </p>
+ * <p>
+ * Instances are created by {@link RealMatrix#getTransposeView()}.
+ * </p>
+ * @see SubMatrixView
+ * @see MatrixVectorView
+ * @since 4.0
+ */
+public class TransposedMatrixView extends AbstractRealMatrix {
+
+    /** Underlying matrix. */
+    private final RealMatrix parent;
+
+    /** Simple constructor.
+     * @param parent underlying matrix
+     */
+    TransposedMatrixView(final RealMatrix parent) {
+        this.parent = parent;
+    }
+
+    /** Get the underlying matrix.
+     * @return underlying matrix
+     */
+    public RealMatrix getParent() {
+        return parent;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getRowDimension() {
+        return parent.getColumnDimension();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getColumnDimension() {
+        return parent.getRowDimension();
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * As views may refer to immutable or structured matrices, the new matrix
+     * is a general dense matrix.
+     * </p>
+     */
+    @Override
+    public RealMatrix createMatrix(final int rowDimension, final int columnDimension)
+        throws MathIllegalArgumentException {
+        return MatrixUtils.createRealMatrix(rowDimension, columnDimension);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * The copy is independent of the parent, it is the parent {@link
+     * RealMatrix#transpose() transpose}.
+     * </p>
+     */
+    @Override
+    public RealMatrix copy() {
+        return parent.transpose();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double getEntry(final int row, final int column)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        return parent.getEntry(column, row);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEntry(final int row, final int column, final double value)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        parent.setEntry(column, row, value);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void addToEntry(final int row, final int column, final double increment)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        parent.addToEntry(column, row, increment);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void multiplyEntry(final int row, final int column, final double factor)
+        throws MathIllegalArgumentException {
+        MatrixUtils.checkMatrixIndex(this, row, column);
+        parent.multiplyEntry(column, row, factor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] getRow(final int row) throws MathIllegalArgumentException {
+        return parent.getColumn(row);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] getColumn(final int column) throws MathIllegalArgumentException {
+        return parent.getRow(column);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix transpose() {
+        return parent.copy();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix getTransposeView() {
+        return parent;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v) throws MathIllegalArgumentException {
+        return parent.preMultiply(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] operate(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        return parent.preMultiply(v, out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector operate(final RealVector v) throws MathIllegalArgumentException {
+        return parent.preMultiply(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v) throws MathIllegalArgumentException {
+        return parent.operate(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double[] preMultiply(final double[] v, final double[] out)
+        throws MathIllegalArgumentException {
+        return parent.operate(v, out);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealVector preMultiply(final RealVector v) throws MathIllegalArgumentException {
+        return parent.operate(v);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix multiply(final RealMatrix m) throws MathIllegalArgumentException {
+        return parent.transposeMultiply(m);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RealMatrix transposeMultiply(final RealMatrix m) throws MathIllegalArgumentException {
+        return parent.multiply(m);
+    }
+
+}
@@ -136,6 +136,35 @@ class TriDiagonalTransformer {
         return cachedQt;
     }
 
+    /**
+     * Multiply vectors by the matrix Q of the transform, without forming Q.
+     * <p>The Householder transforms are applied to all vectors before switching
+     * to the next transform, so each Householder vector is loaded only once.</p>
+     * @param vectors vectors to multiply (modified in place)
+     * @param from index of the first vector to multiply (included)
+     * @param to index of the last vector to multiply (excluded)
+     */
+    void applyQ(final double[][] vectors, final int from, final int to) {
+        final int m = householderVectors.length;
+        for (int k = m - 2; k >= 0; --k) {
+            final double[] hK = householderVectors[k];
+            if (hK[k + 1] != 0.0) {
+                final double inv = 1.0 / (secondary[k] * hK[k + 1]);
+                for (int j = from; j < to; ++j) {
+                    final double[] v = vectors[j];
+                    double beta = 0;
+                    for (int i = k + 1; i < m; ++i) {
+                        beta += hK[i] * v[i];
+                    }
+                    beta *= inv;
+                    for (int i = k + 1; i < m; ++i) {
+                        v[i] += beta * hK[i];
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Returns the tridiagonal matrix T of the transform.
      * @return the T matrix
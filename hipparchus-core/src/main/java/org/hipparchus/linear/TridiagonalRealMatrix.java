@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Square matrix whose non-zero entries are on the main diagonal, the
+ * first sub-diagonal and the first super-diagonal.
+ * <p>
+ * This is a {@link BandedRealMatrix} with unit lower and upper bandwidths.
+ * Tridiagonal systems are solved in O(n) by {@link ThomasDecomposition}
+ * (for diagonally dominant or symmetric positive definite matrices) or
+ * by {@link BandedLUDecomposition} (which pivots and hence also handles
+ * general non-singular matrices).
+ * </p>
+ * @since 4.0
+ */
+public class TridiagonalRealMatrix extends BandedRealMatrix {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 20261017L;
+
+    /**
+     * Creates a matrix with the supplied dimension, with all entries set to zero.
+     *
+     * @param dimension Number of rows and columns in the new matrix.
+     * @throws MathIllegalArgumentException if the dimension is less than 2
+     */
+    public TridiagonalRealMatrix(final int dimension)
+        throws MathIllegalArgumentException {
+        super(dimension, 1, 1);
+    }
+
+    /**
+     * Creates a matrix from its three diagonals.
+     *
+     * @param subDiagonal sub-diagonal entries, (i+1, i) for i from 0 to n-2
+     * @param mainDiagonal main diagonal entries, (i, i) for i from 0 to n-1
+     * @param superDiagonal super-diagonal entries, (i, i+1) for i from 0 to n-2
+     * @throws MathIllegalArgumentException if the arrays have inconsistent
+     * lengths or if the dimension is less than 2
+     */
+    public TridiagonalRealMatrix(final double[] subDiagonal, final double[] mainDiagonal,
+                                 final double[] superDiagonal)
+        throws MathIllegalArgumentException {
+        this(mainDiagonal.length);
+        MathUtils.checkDimension(subDiagonal.length,   mainDiagonal.length - 1);
+        MathUtils.checkDimension(superDiagonal.length, mainDiagonal.length - 1);
+        final double[] band = getBandRef();
+        for (int i = 0; i < mainDiagonal.length; ++i) {
+            if (i > 0) {
+                band[3 * i] = subDiagonal[i - 1];
+            }
+            band[3 * i + 1] = mainDiagonal[i];
+            if (i < superDiagonal.length) {
+                band[3 * i + 2] = superDiagonal[i];
+            }
+        }
+    }
+
+    /** Creates a matrix using the input array as the underlying band storage.
+     * @param band band entries, three per row
+     * @param copyArray if {@code true}, the input array will be copied,
+     * otherwise it will be referenced.
+     */
+    private TridiagonalRealMatrix(final double[] band, final boolean copyArray) {
+        super(band.length / 3, 1, 1, band, copyArray);
+    }
+
+    /** Get the sub-diagonal.
+     * @return sub-diagonal entries, (i+1, i) for i from 0 to n-2
+     */
+    public double[] getSubDiagonal() {
+        return getDiagonal(1, 0);
+    }
+
+    /** Get the main diagonal.
+     * @return main diagonal entries, (i, i) for i from 0 to n-1
+     */
+    public double[] getMainDiagonal() {
+        return getDiagonal(0, 1);
+    }
+
+    /** Get the super-diagonal.
+     * @return super-diagonal entries, (i, i+1) for i from 0 to n-2
+     */
+    public double[] getSuperDiagonal() {
+        return getDiagonal(0, 2);
+    }
+
+    /** Extract one diagonal.
+     * @param firstRow first row containing the diagonal
+     * @param offset offset of the diagonal within the band rows
+     * @return diagonal entries
+     */
+    private double[] getDiagonal(final int firstRow, final int offset) {
+        final double[] band     = getBandRef();
+        final int      n        = getRowDimension();
+        final double[] diagonal = new double[offset == 1 ? n : n - 1];
+        for (int k = 0; k < diagonal.length; ++k) {
+            diagonal[k] = band[3 * (firstRow + k) + offset];
+        }
+        return diagonal;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TridiagonalRealMatrix copy() {
+        return new TridiagonalRealMatrix(getBandRef(), true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TridiagonalRealMatrix scalarMultiply(final double d) {
+        final double[] band = getBandRef().clone();
+        for (int k = 0; k < band.length; ++k) {
+            band[k] *= d;
+        }
+        return new TridiagonalRealMatrix(band, false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TridiagonalRealMatrix transpose() {
+        return new TridiagonalRealMatrix(getSuperDiagonal(), getMainDiagonal(), getSubDiagonal());
+    }
+
+}
@@ -0,0 +1,597 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+
+/**
+ * Thin QR decomposition that can be updated when rows or columns are added or removed.
+ * <p>
+ * For a m &times; n matrix A with m &ge; n, the thin QR decomposition is A = QR
+ * where Q is a m &times; n matrix with orthonormal columns and R is a n &times; n
+ * upper triangular matrix. Contrary to {@link QRDecomposition}, this class is
+ * mutable: the {@link #addRow(int, RealVector) addRow}, {@link #removeRow(int) removeRow},
+ * {@link #addColumn(int, RealVector) addColumn} and {@link #removeColumn(int) removeColumn}
+ * methods modify the decomposition in place so it matches the modified matrix,
+ * in O(mn) operations instead of the O(mn<sup>2</sup>) operations a new decomposition
+ * would need. This is useful for online regression with sliding windows or for
+ * active-set methods in optimization.
+ * </p>
+ * <p>
+ * Updates use Givens rotations, following Golub and Van Loan (Matrix Computations,
+ * section 6.5). Removing a row from a thin decomposition first extends Q with a unit
+ * vector orthogonal to its columns, which is computed by Gram-Schmidt with
+ * reorthogonalization, as proposed by Daniel, Gragg, Kaufman and Stewart
+ * (Reorthogonalization and Stable Algorithms for Updating the Gram-Schmidt QR
+ * Factorization, Math. Comp. 30, 1976).
+ * </p>
+ * <p>
+ * The diagonal elements of R are not necessarily positive, and rank-deficient matrices
+ * lead to null diagonal elements. The matrix must always keep at least as many
+ * rows as columns.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ * @see QRDecomposition
+ * @since 4.0
+ */
+public class UpdatableQRDecomposition {
+
+    /** Relative threshold under which a vector is considered to be in the span of Q. */
+    private static final double SPAN_THRESHOLD = 1.0e-14;
+
+    /** Singularity threshold. */
+    private final double threshold;
+
+    /** Number of rows. */
+    private int m;
+
+    /** Number of columns. */
+    private int n;
+
+    /** Columns of Q (n arrays of dimension m). */
+    private double[][] q;
+
+    /** Rows of R (n arrays of dimension n). */
+    private double[][] r;
+
+    /**
+     * Calculates the thin QR-decomposition of the given matrix.
+     * The singularity threshold defaults to zero.
+     * @param matrix matrix to decompose
+     * @exception MathIllegalArgumentException if matrix has less rows than columns
+     * @see #UpdatableQRDecomposition(RealMatrix, double)
+     */
+    public UpdatableQRDecomposition(final RealMatrix matrix)
+        throws MathIllegalArgumentException {
+        this(matrix, 0.0);
+    }
+
+    /**
+     * Calculates the thin QR-decomposition of the given matrix.
+     * @param matrix matrix to decompose
+     * @param threshold singularity threshold
+     * @exception MathIllegalArgumentException if matrix has less rows than columns
+     */
+    public UpdatableQRDecomposition(final RealMatrix matrix, final double threshold)
+        throws MathIllegalArgumentException {
+
+        this.threshold = threshold;
+        this.m         = matrix.getRowDimension();
+        this.n         = matrix.getColumnDimension();
+        if (m < n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.INSUFFICIENT_DIMENSION, m, n);
+        }
+
+        // Gram-Schmidt with reorthogonalization
+        this.q = new double[n][];
+        this.r = new double[n][n];
+        for (int j = 0; j < n; ++j) {
+            final double[] v = matrix.getColumn(j);
+            final double[] c = new double[j];
+            final double   rho = orthogonalize(v, j, c);
+            for (int i = 0; i < j; ++i) {
+                r[i][j] = c[i];
+            }
+            r[j][j] = rho;
+            q[j]    = rho == 0 ? complement(j) : v;
+        }
+
+    }
+
+    /** Get the number of rows of the decomposed matrix.
+     * @return number of rows of the decomposed matrix
+     */
+    public int getRowDimension() {
+        return m;
+    }
+
+    /** Get the number of columns of the decomposed matrix.
+     * @return number of columns of the decomposed matrix
+     */
+    public int getColumnDimension() {
+        return n;
+    }
+
+    /**
+     * Returns the m &times; n matrix Q of the decomposition.
+     * @return the Q matrix, with orthonormal columns
+     */
+    public RealMatrix getQ() {
+        final RealMatrix qm = MatrixUtils.createRealMatrix(m, n);
+        for (int j = 0; j < n; ++j) {
+            final double[] qj = q[j];
+            for (int i = 0; i < m; ++i) {
+                qm.setEntry(i, j, qj[i]);
+            }
+        }
+        return qm;
+    }
+
+    /**
+     * Returns the n &times; n matrix R of the decomposition.
+     * @return the R matrix, which is upper triangular
+     */
+    public RealMatrix getR() {
+        return MatrixUtils.createRealMatrix(r);
+    }
+
+    /**
+     * Update the decomposition after a row has been inserted in the matrix.
+     * @param index index of the new row in the modified matrix (between 0 and m inclusive)
+     * @param row new row
+     * @exception MathIllegalArgumentException if index is out of range or
+     * row dimension does not match
+     */
+    public void addRow(final int index, final RealVector row)
+        throws MathIllegalArgumentException {
+
+        if (index < 0 || index > m) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.ROW_INDEX, index, 0, m);
+        }
+        MathUtils.checkDimension(row.getDimension(), n);
+
+        // extend Q with a zero row and an extra column e_index, and R with the new row
+        final double[][] qExt = new double[n + 1][];
+        for (int j = 0; j < n; ++j) {
+            qExt[j] = insertZero(q[j], index);
+        }
+        qExt[n] = new double[m + 1];
+        qExt[n][index] = 1.0;
+        final double[] w = row.toArray();
+
+        // annihilate the new row of R against the diagonal
+        for (int k = 0; k < n; ++k) {
+            final double[] rK = r[k];
+            final double   h  = FastMath.hypot(rK[k], w[k]);
+            if (h != 0) {
+                final double c = rK[k] / h;
+                final double s = w[k]  / h;
+                rK[k] = h;
+                w[k]  = 0;
+                for (int p = k + 1; p < n; ++p) {
+                    final double a = rK[p];
+                    final double b = w[p];
+                    rK[p] = c * a + s * b;
+                    w[p]  = c * b - s * a;
+                }
+                rotateColumns(qExt[k], qExt[n], c, s);
+            }
+        }
+
+        q = new double[n][];
+        System.arraycopy(qExt, 0, q, 0, n);
+        ++m;
+
+    }
+
+    /**
+     * Update the decomposition after a row has been removed from the matrix.
+     * @param index index of the removed row in the original matrix
+     * @exception MathIllegalArgumentException if index is out of range or
+     * if the modified matrix would have less rows than columns
+     */
+    public void removeRow(final int index)
+        throws MathIllegalArgumentException {
+
+        if (index < 0 || index >= m) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.ROW_INDEX, index, 0, m - 1);
+        }
+        if (m - 1 < n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.INSUFFICIENT_DIMENSION, m - 1, n);
+        }
+
+        // extend Q with a unit vector orthogonal to its columns, as close as possible to e_index
+        final double[] u = new double[m];
+        u[index] = 1.0;
+        final double[][] qExt = new double[n + 1][];
+        System.arraycopy(q, 0, qExt, 0, n);
+        qExt[n] = orthogonalize(u, n, new double[n]) == 0 ? complement(n) : u;
+        final double[][] rExt = new double[n + 1][];
+        System.arraycopy(r, 0, rExt, 0, n);
+        rExt[n] = new double[n];
+
+        // rotate the removed row of Q onto the extra column
+        for (int k = n - 1; k >= 0; --k) {
+            final double a = qExt[k][index];
+            final double b = qExt[n][index];
+            final double h = FastMath.hypot(a, b);
+            if (h != 0) {
+                final double c = b / h;
+                final double s = a / h;
+                final double[] qK = qExt[k];
+                final double[] qN = qExt[n];
+                for (int i = 0; i < m; ++i) {
+                    final double x = qK[i];
+                    final double y = qN[i];
+                    qK[i] = c * x - s * y;
+                    qN[i] = s * x + c * y;
+                }
+                qK[index] = 0;
+                final double[] rK = rExt[k];
+                final double[] rN = rExt[n];
+                for (int p = k; p < n; ++p) {
+                    final double x = rK[p];
+                    final double y = rN[p];
+                    rK[p] = c * x - s * y;
+                    rN[p] = s * x + c * y;
+                }
+            }
+        }
+
+        // the extra column is now e_index, it is dropped together with the row
+        for (int j = 0; j < n; ++j) {
+            q[j] = removeEntry(qExt[j], index);
+        }
+        --m;
+
+    }
+
+    /**
+     * Update the decomposition after a column has been inserted in the matrix.
+     * @param index index of the new column in the modified matrix (between 0 and n inclusive)
+     * @param column new column
+     * @exception MathIllegalArgumentException if index is out of range,
+     * column dimension does not match or if the modified matrix would
+     * have less rows than columns
+     */
+    public void addColumn(final int index, final RealVector column)
+        throws MathIllegalArgumentException {
+
+        if (index < 0 || index > n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.COLUMN_INDEX, index, 0, n);
+        }
+        MathUtils.checkDimension(column.getDimension(), m);
+        if (m < n + 1) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.INSUFFICIENT_DIMENSION, m, n + 1);
+        }
+
+        // append the orthogonalized column to Q
+        final double[] v   = column.toArray();
+        final double[] w   = new double[n];
+        final double   rho = orthogonalize(v, n, w);
+        final double[][] qNew = new double[n + 1][];
+        System.arraycopy(q, 0, qNew, 0, n);
+        qNew[n] = rho == 0 ? complement(n) : v;
+
+        // insert the projection as column index of R, this creates a spike
+        final double[][] rNew = new double[n + 1][n + 1];
+        for (int i = 0; i < n; ++i) {
+            System.arraycopy(r[i], 0, rNew[i], 0, index);
+            rNew[i][index] = w[i];
+            System.arraycopy(r[i], index, rNew[i], index + 1, n - index);
+        }
+        rNew[n][index] = rho;
+
+        // eliminate the spike from bottom to top
+        for (int k = n; k > index; --k) {
+            final double[] rU = rNew[k - 1];
+            final double[] rL = rNew[k];
+            final double   h  = FastMath.hypot(rU[index], rL[index]);
+            if (h != 0) {
+                final double c = rU[index] / h;
+                final double s = rL[index] / h;
+                rU[index] = h;
+                rL[index] = 0;
+                for (int p = index + 1; p <= n; ++p) {
+                    final double a = rU[p];
+                    final double b = rL[p];
+                    rU[p] = c * a + s * b;
+                    rL[p] = c * b - s * a;
+                }
+                rotateColumns(qNew[k - 1], qNew[k], c, s);
+            }
+        }
+
+        q = qNew;
+        r = rNew;
+        ++n;
+
+    }
+
+    /**
+     * Update the decomposition after a column has been removed from the matrix.
+     * @param index index of the removed column in the original matrix
+     * @exception MathIllegalArgumentException if index is out of range or
+     * if the matrix has only one column
+     */
+    public void removeColumn(final int index)
+        throws MathIllegalArgumentException {
+
+        if (index < 0 || index >= n) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.COLUMN_INDEX, index, 0, n - 1);
+        }
+        if (n < 2) {
+            throw new MathIllegalArgumentException(LocalizedCoreFormats.INSUFFICIENT_DIMENSION, n - 1, 1);
+        }
+
+        // remove the column from R, which becomes upper Hessenberg from index
+        final double[][] rNew = new double[n][n - 1];
+        for (int i = 0; i < n; ++i) {
+            System.arraycopy(r[i], 0, rNew[i], 0, index);
+            System.arraycopy(r[i], index + 1, rNew[i], index, n - 1 - index);
+        }
+
+        // restore triangular form
+        for (int k = index; k < n - 1; ++k) {
+            final double[] rU = rNew[k];
+            final double[] rL = rNew[k + 1];
+            final double   h  = FastMath.hypot(rU[k], rL[k]);
+            if (h != 0) {
+                final double c = rU[k] / h;
+                final double s = rL[k] / h;
+                rU[k] = h;
+                rL[k] = 0;
+                for (int p = k + 1; p < n - 1; ++p) {
+                    final double a = rU[p];
+                    final double b = rL[p];
+                    rU[p] = c * a + s * b;
+                    rL[p] = c * b - s * a;
+                }
+                rotateColumns(q[k], q[k + 1], c, s);
+            }
+        }
+
+        // last row of R is now zero, drop it together with last column of Q
+        final double[][] qNew = new double[n - 1][];
+        System.arraycopy(q, 0, qNew, 0, n - 1);
+        r = new double[n - 1][];
+        System.arraycopy(rNew, 0, r, 0, n - 1);
+        q = qNew;
+        --n;
+
+    }
+
+    /**
+     * Get a solver for finding the A &times; X = B solution in least square sense.
+     * <p>
+     * The solver is a snapshot: it is not affected by subsequent updates.
+     * </p>
+     * @return a solver
+     */
+    public DecompositionSolver getSolver() {
+        return new Solver(getQ(), getR(), threshold);
+    }
+
+    /** Apply a Givens rotation to two columns of Q.
+     * <p>
+     * This matches the rotation [a, b] &rarr; [c a + s b, c b - s a] applied to two rows of R.
+     * </p>
+     * @param qU column associated with the upper row of R
+     * @param qL column associated with the lower row of R
+     * @param c cosine of the rotation
+     * @param s sine of the rotation
+     */
+    private static void rotateColumns(final double[] qU, final double[] qL, final double c, final double s) {
+        for (int i = 0; i < qU.length; ++i) {
+            final double a = qU[i];
+            final double b = qL[i];
+            qU[i] = c * a + s * b;
+            qL[i] = c * b - s * a;
+        }
+    }
+
+    /** Orthogonalize a vector against the first columns of Q, and normalize it.
+     * <p>
+     * Classical Gram-Schmidt is applied twice.
+     * </p>
+     * @param v vector to orthogonalize (modified in place)
+     * @param count number of columns of Q to orthogonalize against
+     * @param coefficients placeholder for the components of v along the columns of Q
+     * @return norm of the orthogonal part of v, or 0 if v is numerically in the span of the columns
+     */
+    private double orthogonalize(final double[] v, final int count, final double[] coefficients) {
+        final double initialNorm = norm(v);
+        for (int pass = 0; pass < 2; ++pass) {
+            for (int j = 0; j < count; ++j) {
+                final double   p  = dot(q[j], v);
+                final double[] qj = q[j];
+                for (int i = 0; i < v.length; ++i) {
+                    v[i] -= p * qj[i];
+                }
+                coefficients[j] += p;
+            }
+        }
+        final double rho = norm(v);
+        if (rho <= SPAN_THRESHOLD * initialNorm) {
+            return 0;
+        }
+        final double inv = 1.0 / rho;
+        for (int i = 0; i < v.length; ++i) {
+            v[i] *= inv;
+        }
+        return rho;
+    }
+
+    /** Compute a unit vector orthogonal to the first columns of Q.
+     * @param count number of columns of Q (must be smaller than m)
+     * @return unit vector orthogonal to the first count columns of Q
+     */
+    private double[] complement(final int count) {
+        // the canonical vector with smallest projection on Q is the farthest from its span
+        int    best     = 0;
+        double bestNorm = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < m; ++i) {
+            double rowNorm = 0;
+            for (int j = 0; j < count; ++j) {
+                rowNorm += q[j][i] * q[j][i];
+            }
+            if (rowNorm < bestNorm) {
+                best     = i;
+                bestNorm = rowNorm;
+            }
+        }
+        final double[] e = new double[m];
+        e[best] = 1.0;
+        orthogonalize(e, count, new double[count]);
+        return e;
+    }
+
+    /** Insert a zero in an array.
+     * @param a array
+     * @param index index of the inserted zero
+     * @return new array with an inserted zero
+     */
+    private static double[] insertZero(final double[] a, final int index) {
+        final double[] b = new double[a.length + 1];
+        System.arraycopy(a, 0, b, 0, index);
+        System.arraycopy(a, index, b, index + 1, a.length - index);
+        return b;
+    }
+
+    /** Remove an entry from an array.
+     * @param a array
+     * @param index index of the removed entry
+     * @return new array without the entry
+     */
+    private static double[] removeEntry(final double[] a, final int index) {
+        final double[] b = new double[a.length - 1];
+        System.arraycopy(a, 0, b, 0, index);
+        System.arraycopy(a, index + 1, b, index, b.length - index);
+        return b;
+    }
+
+    /** Compute dot product.
+     * @param x first vector
+     * @param y second vector
+     * @return dot product
+     */
+    private static double dot(final double[] x, final double[] y) {
+        return MatrixUtils.dotProduct(x, 0, y, 0, x.length);
+    }
+
+    /** Compute Euclidean norm.
+     * @param x vector
+     * @return Euclidean norm of x
+     */
+    private static double norm(final double[] x) {
+        return FastMath.sqrt(dot(x, x));
+    }
+
+    /** Specialized solver. */
+    private static class Solver implements DecompositionSolver {
+
+        /** Q matrix. */
+        private final RealMatrix qm;
+
+        /** R matrix. */
+        private final RealMatrix rm;
+
+        /** Singularity threshold. */
+        private final double threshold;
+
+        /** Simple constructor.
+         * @param qm Q matrix
+         * @param rm R matrix
+         * @param threshold singularity threshold
+         */
+        Solver(final RealMatrix qm, final RealMatrix rm, final double threshold) {
+            this.qm        = qm;
+            this.rm        = rm;
+            this.threshold = threshold;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isNonSingular() {
+            for (int i = 0; i < rm.getRowDimension(); ++i) {
+                if (FastMath.abs(rm.getEntry(i, i)) <= threshold) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealVector solve(final RealVector b) {
+            MathUtils.checkDimension(b.getDimension(), qm.getRowDimension());
+            return solve(MatrixUtils.createColumnRealMatrix(b.toArray())).getColumnVector(0);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix solve(final RealMatrix b) {
+            MathUtils.checkDimension(b.getRowDimension(), qm.getRowDimension());
+            if (!isNonSingular()) {
+                throw new MathIllegalArgumentException(LocalizedCoreFormats.SINGULAR_MATRIX);
+            }
+            final int        cols = rm.getRowDimension();
+            final double[][] y    = qm.transposeMultiply(b).getData();
+            // back substitution with R
+            for (int j = cols - 1; j >= 0; --j) {
+                final double   rJJ = rm.getEntry(j, j);
+                final double[] yJ  = y[j];
+                for (int k = 0; k < yJ.length; ++k) {
+                    yJ[k] /= rJJ;
+                }
+                for (int i = 0; i < j; ++i) {
+                    final double   rIJ = rm.getEntry(i, j);
+                    final double[] yI  = y[i];
+                    for (int k = 0; k < yI.length; ++k) {
+                        yI[k] -= yJ[k] * rIJ;
+                    }
+                }
+            }
+            return new Array2DRowRealMatrix(y, false);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public RealMatrix getInverse() {
+            return solve(MatrixUtils.createRealIdentityMatrix(qm.getRowDimension()));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getRowDimension() {
+            return qm.getRowDimension();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int getColumnDimension() {
+            return rm.getColumnDimension();
+        }
+
+    }
+
+}
@@ -273,6 +273,28 @@ public abstract class RealDistributionAbstractTest {
         verifyLogDensities();
     }
 
+    /**
+     * Verifies that bulk density calculations match scalar ones
+     */
+    @Test
+    public void testBulkDensities() {
+        if (distribution instanceof AbstractRealDistribution) {
+            final AbstractRealDistribution d = (AbstractRealDistribution) distribution;
+            final double[] out = new double[cumulativeTestPoints.length + 2];
+            d.density(cumulativeTestPoints, 0, out, 2, cumulativeTestPoints.length);
+            for (int i = 0; i < cumulativeTestPoints.length; i++) {
+                assertEquals(Double.doubleToLongBits(d.density(cumulativeTestPoints[i])),
+                             Double.doubleToLongBits(out[i + 2]));
+            }
+            try {
+                d.density(cumulativeTestPoints, 0, out, 3, cumulativeTestPoints.length);
+                fail("an exception should have been thrown");
+            } catch (MathIllegalArgumentException miae) {
+                // expected
+            }
+        }
+    }
+
     /**
      * Verifies that probability computations are consistent
      */
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApproximateMinimumDegreeTest {
+
+    @Test
+    void testPermutation() {
+        final CompressedColumnRealMatrix laplacian = SparseCholeskyDecompositionTest.createLaplacian(17);
+        final int[] ordering = ApproximateMinimumDegree.order(laplacian);
+        assertEquals(laplacian.getRowDimension(), ordering.length);
+        final boolean[] seen = new boolean[ordering.length];
+        for (final int i : ordering) {
+            assertFalse(seen[i]);
+            seen[i] = true;
+        }
+    }
+
+    @Test
+    void testArrow() {
+        // arrow matrix with a dense first row and column: natural ordering fills
+        // the whole matrix, whereas the dense node should be eliminated at the end
+        final int n = 50;
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n);
+        for (int i = 0; i < n; ++i) {
+            builder.addEntry(i, i, n);
+            if (i > 0) {
+                builder.addEntry(0, i, 1.0).addEntry(i, 0, 1.0);
+            }
+        }
+        final CompressedColumnRealMatrix arrow = builder.buildCompressedColumn();
+        final int[] ordering = ApproximateMinimumDegree.order(arrow);
+        assertTrue(ordering[n - 1] == 0 || ordering[n - 2] == 0);
+        assertEquals(2 * n - 1, new SparseCholeskyAnalysis(arrow).getFactorNonZeroCount());
+    }
+
+    @Test
+    void testDisconnected() {
+        final CompressedColumnRealMatrix diagonal = SparseCholeskyDecompositionTest.createDiagonal(10, 2.0);
+        final int[] ordering = ApproximateMinimumDegree.order(diagonal);
+        assertEquals(10, ordering.length);
+        assertEquals(10, new SparseCholeskyAnalysis(diagonal).getFactorNonZeroCount());
+    }
+
+}
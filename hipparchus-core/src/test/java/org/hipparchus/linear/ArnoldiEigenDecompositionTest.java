@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.random.Well19937c;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ArnoldiEigenDecompositionTest {
+
+    @Test
+    void testRealSpectrum() {
+        final RandomGenerator      random   = new Well1024a(0x6e3d2a9b81f4c057L);
+        final double[]             spectrum = new double[150];
+        for (int i = 0; i < spectrum.length; ++i) {
+            spectrum[i] = (i % 2 == 0 ? 1 : -1) * (1.0 + 10.0 / (i + 1));
+        }
+        final Array2DRowRealMatrix a      = similar(random, spectrum, new double[0]);
+        final ArnoldiEigenDecomposition arnoldi = new ArnoldiEigenDecomposition(a, 5);
+        assertEquals(5, arnoldi.getCount());
+        for (int i = 0; i < 5; ++i) {
+            assertEquals(spectrum[i], arnoldi.getEigenvalue(i).getReal(), 1.0e-9);
+            assertEquals(0.0, arnoldi.getEigenvalue(i).getImaginary(), 1.0e-9);
+        }
+        checkEigenPairs(a, arnoldi, 1.0e-8);
+    }
+
+    @Test
+    void testComplexSpectrum() {
+        final RandomGenerator random = new Well1024a(0x18c5f7e2d94ab306L);
+        final double[] spectrum = new double[100];
+        for (int i = 0; i < spectrum.length; ++i) {
+            spectrum[i] = 0.5 + 0.1 * random.nextDouble();
+        }
+        // pairs 3 +/- 4i (magnitude 5) and -2 +/- 2i (magnitude 2.83), real 4
+        final double[] pairs = new double[] { 3, 4, -2, 2 };
+        spectrum[0] = 4;
+        final Array2DRowRealMatrix      a       = similar(random, spectrum, pairs);
+        final ArnoldiEigenDecomposition arnoldi = new ArnoldiEigenDecomposition(a, 4);
+        final Complex[] mu = arnoldi.getEigenvalues();
+        assertEquals(0.0, mu[0].subtract(new Complex(3,  4)).norm(), 1.0e-9);
+        assertEquals(0.0, mu[1].subtract(new Complex(3, -4)).norm(), 1.0e-9);
+        assertEquals(0.0, mu[2].subtract(new Complex(4,  0)).norm(), 1.0e-9);
+        assertEquals(0.0, mu[3].subtract(new Complex(-2, 2)).norm(), 1.0e-9);
+        checkEigenPairs(a, arnoldi, 1.0e-8);
+    }
+
+    @Test
+    void testSplitPair() {
+        // k = 3 falls in the middle of the second pair
+        final RandomGenerator random = new Well1024a(0x2f9a60c8e15b47d3L);
+        final double[] spectrum = new double[60];
+        for (int i = 0; i < spectrum.length; ++i) {
+            spectrum[i] = 0.1 * (i + 1) / spectrum.length;
+        }
+        spectrum[0] = 6;
+        final Array2DRowRealMatrix      a       = similar(random, spectrum, new double[] { 1, 3 });
+        final ArnoldiEigenDecomposition arnoldi = new ArnoldiEigenDecomposition(a, 3, 8, 1.0e-10, 100,
+                                                                                new Well19937c(0x45a1L));
+        assertEquals(0.0, arnoldi.getEigenvalue(0).subtract(new Complex(6,  0)).norm(), 1.0e-9);
+        assertEquals(0.0, arnoldi.getEigenvalue(1).subtract(new Complex(1,  3)).norm(), 1.0e-9);
+        assertEquals(0.0, arnoldi.getEigenvalue(2).subtract(new Complex(1, -3)).norm(), 1.0e-9);
+        checkEigenPairs(a, arnoldi, 1.0e-8);
+    }
+
+    @Test
+    void testSymmetricOperator() {
+        final RandomGenerator            random  = new Well1024a(0x0b7c3e5a9d1f2468L);
+        final CompressedColumnRealMatrix a       = SparseCholeskyDecompositionTest.createRandomSPD(random, 200, 0.03);
+        final ArnoldiEigenDecomposition  arnoldi = new ArnoldiEigenDecomposition(a, 3);
+        final LanczosEigenDecomposition  lanczos = new LanczosEigenDecomposition(a, 3);
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(lanczos.getEigenvalue(i), arnoldi.getEigenvalue(i).getReal(), 1.0e-9);
+            assertEquals(0.0, arnoldi.getEigenvalue(i).getImaginary(), 1.0e-9);
+        }
+        checkEigenPairs(a, arnoldi, 1.0e-8);
+    }
+
+    @Test
+    void testFullSubspace() {
+        final Array2DRowRealMatrix a = new Array2DRowRealMatrix(new double[][] {
+            { 1, -2, 0 },
+            { 2,  1, 0 },
+            { 0,  0, 0.5 }
+        });
+        final ArnoldiEigenDecomposition arnoldi = new ArnoldiEigenDecomposition(a, 3);
+        assertEquals(0, arnoldi.getRestarts());
+        assertEquals(0.0, arnoldi.getEigenvalue(0).subtract(new Complex(1,  2)).norm(), 1.0e-14);
+        assertEquals(0.0, arnoldi.getEigenvalue(1).subtract(new Complex(1, -2)).norm(), 1.0e-14);
+        assertEquals(0.0, arnoldi.getEigenvalue(2).subtract(new Complex(0.5)).norm(), 1.0e-14);
+        checkEigenPairs(a, arnoldi, 1.0e-14);
+    }
+
+    @Test
+    void testNonSquare() {
+        try {
+            new ArnoldiEigenDecomposition(new Array2DRowRealMatrix(3, 4), 1);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_OPERATOR, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testWrongK() {
+        try {
+            new ArnoldiEigenDecomposition(new Array2DRowRealMatrix(3, 3), 4);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testMaxRestarts() {
+        final RandomGenerator random   = new Well1024a(0x5d0e8b3fa2c17964L);
+        final double[]        spectrum = new double[100];
+        for (int i = 0; i < spectrum.length; ++i) {
+            spectrum[i] = 1.0 - 1.0e-3 * i;
+        }
+        try {
+            new ArnoldiEigenDecomposition(similar(random, spectrum, new double[0]), 4, 6,
+                                          1.0e-12, 2, new Well19937c(1));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalStateException mise) {
+            assertEquals(LocalizedCoreFormats.MAX_COUNT_EXCEEDED, mise.getSpecifier());
+        }
+    }
+
+    /** Build a matrix similar to a block diagonal matrix with known spectrum.
+     * @param random random generator for the similarity transform
+     * @param spectrum real eigenvalues, the first ones being replaced by pairs
+     * @param pairs real and imaginary parts of complex eigenvalues pairs
+     * @return matrix similar to the block diagonal matrix
+     */
+    private Array2DRowRealMatrix similar(final RandomGenerator random, final double[] spectrum,
+                                         final double[] pairs) {
+        final int n = spectrum.length;
+        final RealMatrix b = MatrixUtils.createRealDiagonalMatrix(spectrum);
+        for (int p = 0; p < pairs.length / 2; ++p) {
+            // pairs are placed at the end, as 2x2 rotation-scaling blocks
+            final int i = n - 2 * (p + 1);
+            b.setEntry(i,     i,     pairs[2 * p]);
+            b.setEntry(i,     i + 1, -pairs[2 * p + 1]);
+            b.setEntry(i + 1, i,     pairs[2 * p + 1]);
+            b.setEntry(i + 1, i + 1, pairs[2 * p]);
+        }
+        final RealMatrix s = MatrixUtils.createRealIdentityMatrix(n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                s.addToEntry(i, j, 0.2 * (random.nextDouble() - 0.5) / FastMath.sqrt(n));
+            }
+        }
+        final RealMatrix sInv = new LUDecomposition(s).getSolver().getInverse();
+        return new Array2DRowRealMatrix(s.multiply(b).multiply(sInv).getData(), false);
+    }
+
+    private void checkEigenPairs(final RealLinearOperator a, final ArnoldiEigenDecomposition arnoldi,
+                                 final double tolerance) {
+        for (int i = 0; i < arnoldi.getCount(); ++i) {
+            final FieldVector<Complex> x  = arnoldi.getEigenvector(i);
+            final Complex              mu = arnoldi.getEigenvalue(i);
+            final int                  n  = x.getDimension();
+            final RealVector re = new ArrayRealVector(n);
+            final RealVector im = new ArrayRealVector(n);
+            double norm2 = 0;
+            for (int j = 0; j < n; ++j) {
+                re.setEntry(j, x.getEntry(j).getReal());
+                im.setEntry(j, x.getEntry(j).getImaginary());
+                norm2 += x.getEntry(j).norm() * x.getEntry(j).norm();
+            }
+            assertEquals(1.0, norm2, 1.0e-12);
+            // (A - mu I) x, split in real and imaginary parts
+            final RealVector rRe = a.operate(re).subtract(re.mapMultiply(mu.getReal())).add(im.mapMultiply(mu.getImaginary()));
+            final RealVector rIm = a.operate(im).subtract(im.mapMultiply(mu.getReal())).subtract(re.mapMultiply(mu.getImaginary()));
+            final double residual = FastMath.sqrt(rRe.dotProduct(rRe) + rIm.dotProduct(rIm));
+            assertEquals(0.0, residual, tolerance * FastMath.max(1.0, mu.norm()));
+        }
+    }
+
+}
@@ -38,6 +38,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -151,6 +152,57 @@ final class Array2DRowRealMatrixTest {
     }
 
     /** test add failure */
+    /** test operations storing their result into a destination */
+    @Test
+    void testOperationsIntoDestination() {
+        Array2DRowRealMatrix m   = new Array2DRowRealMatrix(testData);
+        Array2DRowRealMatrix mInv = new Array2DRowRealMatrix(testDataInv);
+        Array2DRowRealMatrix out = new Array2DRowRealMatrix(3, 3);
+        assertSame(out, m.add(mInv, out));
+        UnitTestUtils.customAssertEquals("add", m.add(mInv), out, entryTolerance);
+        assertSame(out, m.subtract(mInv, out));
+        UnitTestUtils.customAssertEquals("subtract", m.subtract(mInv), out, entryTolerance);
+        assertSame(out, m.multiply(mInv, out));
+        UnitTestUtils.customAssertEquals("multiply", MatrixUtils.createRealIdentityMatrix(3), out, normTolerance);
+
+        // destination aliased with an operand
+        Array2DRowRealMatrix alias = (Array2DRowRealMatrix) m.copy();
+        assertSame(alias, alias.multiply(mInv, alias));
+        UnitTestUtils.customAssertEquals("multiply", MatrixUtils.createRealIdentityMatrix(3), alias, normTolerance);
+        alias = (Array2DRowRealMatrix) mInv.copy();
+        assertSame(alias, m.add(alias, alias));
+        UnitTestUtils.customAssertEquals("add", m.add(mInv), alias, entryTolerance);
+
+        // mixed types
+        RealMatrix block = new BlockRealMatrix(3, 3);
+        assertSame(block, m.multiply(mInv, block));
+        UnitTestUtils.customAssertEquals("multiply", MatrixUtils.createRealIdentityMatrix(3), block, normTolerance);
+
+        // vectors
+        double[] v = testDataRow1.clone();
+        assertSame(v, m.operate(v, v));
+        UnitTestUtils.customAssertEquals("operate", m.operate(testDataRow1), v, entryTolerance);
+        double[] w = new double[3];
+        assertSame(w, m.preMultiply(testDataRow1, w));
+        UnitTestUtils.customAssertEquals("preMultiply", m.preMultiply(testDataRow1), w, entryTolerance);
+        RealVector rv = new ArrayRealVector(3);
+        assertSame(rv, m.operate(new ArrayRealVector(testDataRow1), rv));
+        UnitTestUtils.customAssertEquals("operate", m.operate(testDataRow1), rv.toArray(), entryTolerance);
+
+        try {
+            m.add(mInv, new Array2DRowRealMatrix(3, 2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2, miae.getSpecifier());
+        }
+        try {
+            m.preMultiply(testDataRow1, new double[2]);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
     @Test
     void testAddFail() {
         Array2DRowRealMatrix m = new Array2DRowRealMatrix(testData);
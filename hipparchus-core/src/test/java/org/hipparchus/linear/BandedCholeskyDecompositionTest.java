@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class BandedCholeskyDecompositionTest {
+
+    @Test
+    void testAgainstDenseCholesky() {
+        final RandomGenerator random = new Well1024a(0x2d84f6c1e0b9a357l);
+        for (final int k : new int[] { 0, 1, 3, 7, 24 }) {
+            final BandedRealMatrix            b      = createSPD(random, 25, k);
+            final RealMatrix                  d      = MatrixUtils.createRealMatrix(b.getData());
+            final BandedCholeskyDecomposition banded = new BandedCholeskyDecomposition(b);
+            final CholeskyDecomposition       dense  = new CholeskyDecomposition(d);
+            assertEquals(k, banded.getL().getLowerBandwidth());
+            assertEquals(0, banded.getL().getUpperBandwidth());
+            assertEquals(0.0, banded.getL().subtract(dense.getL()).getNorm1(), 1.0e-13);
+            assertEquals(0.0, banded.getL().multiply(banded.getLT()).subtract(d).getNorm1(), 1.0e-12);
+            assertEquals(dense.getDeterminant(), banded.getDeterminant(),
+                         1.0e-12 * FastMath.abs(dense.getDeterminant()));
+
+            final DecompositionSolver solver = banded.getSolver();
+            assertTrue(solver.isNonSingular());
+            final RealVector x = new ArrayRealVector(BandedRealMatrixTest.createRandomArray(random, 25));
+            assertEquals(0.0, solver.solve(b.operate(x)).subtract(x).getLInfNorm(), 1.0e-13);
+            final RealMatrix xx = MatrixUtils.createRealMatrix(25, 3);
+            for (int j = 0; j < 3; ++j) {
+                xx.setColumn(j, BandedRealMatrixTest.createRandomArray(random, 25));
+            }
+            assertEquals(0.0, solver.solve(b.multiply(xx)).subtract(xx).getNorm1(), 1.0e-12);
+            assertEquals(0.0,
+                         solver.getInverse().multiply(d).subtract(MatrixUtils.createRealIdentityMatrix(25)).getNorm1(),
+                         1.0e-12);
+        }
+    }
+
+    @Test
+    void testNotSymmetric() {
+        final BandedRealMatrix b = createSPD(new Well1024a(0x5a9e13c7f4d20b86l), 10, 2);
+        b.addToEntry(3, 5, 1.0e-5);
+        try {
+            new BandedCholeskyDecomposition(b);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testNotPositiveDefinite() {
+        final TridiagonalRealMatrix t = new TridiagonalRealMatrix(new double[] { 2, 2 },
+                                                                  new double[] { 1, 1, 1 },
+                                                                  new double[] { 2, 2 });
+        try {
+            new BandedCholeskyDecomposition(t);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    static BandedRealMatrix createSPD(final RandomGenerator random, final int n, final int k) {
+        // diagonally dominant symmetric banded matrix
+        final BandedRealMatrix b = new BandedRealMatrix(n, k, k);
+        for (int i = 0; i < n; ++i) {
+            for (int j = i + 1; j <= FastMath.min(n - 1, i + k); ++j) {
+                final double v = 2 * random.nextDouble() - 1;
+                b.setEntry(i, j, v);
+                b.setEntry(j, i, v);
+                b.addToEntry(i, i, FastMath.abs(v));
+                b.addToEntry(j, j, FastMath.abs(v));
+            }
+            b.addToEntry(i, i, 1.0);
+        }
+        return b;
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class BandedLUDecompositionTest {
+
+    @Test
+    void testAgainstDenseLU() {
+        final RandomGenerator random = new Well1024a(0x62be0f91d4a7c35el);
+        for (final int[] bandwidths : new int[][] { { 0, 0 }, { 1, 1 }, { 3, 1 }, { 0, 4 }, { 5, 2 }, { 29, 29 } }) {
+            final BandedRealMatrix b = BandedRealMatrixTest.createRandomBanded(random, 30,
+                                                                               bandwidths[0], bandwidths[1]);
+            final RealMatrix            d      = MatrixUtils.createRealMatrix(b.getData());
+            final BandedLUDecomposition banded = new BandedLUDecomposition(b);
+            final LUDecomposition       dense  = new LUDecomposition(d);
+            assertEquals(dense.getDeterminant(), banded.getDeterminant(),
+                         1.0e-12 * FastMath.abs(dense.getDeterminant()));
+
+            // random matrices may be ill-conditioned, so errors are compared to dense LU errors
+            final DecompositionSolver solver      = banded.getSolver();
+            final DecompositionSolver denseSolver = dense.getSolver();
+            assertTrue(solver.isNonSingular());
+            final RealVector x = new ArrayRealVector(BandedRealMatrixTest.createRandomArray(random, 30));
+            assertTrue(solver.solve(b.operate(x)).subtract(x).getLInfNorm() <=
+                       10 * denseSolver.solve(b.operate(x)).subtract(x).getLInfNorm() + 1.0e-15);
+
+            final RealMatrix xx = MatrixUtils.createRealMatrix(30, 4);
+            for (int j = 0; j < 4; ++j) {
+                xx.setColumn(j, BandedRealMatrixTest.createRandomArray(random, 30));
+            }
+            assertTrue(solver.solve(b.multiply(xx)).subtract(xx).getNorm1() <=
+                       10 * denseSolver.solve(b.multiply(xx)).subtract(xx).getNorm1() + 1.0e-15);
+            final RealMatrix identity = MatrixUtils.createRealIdentityMatrix(30);
+            assertTrue(solver.getInverse().multiply(d).subtract(identity).getNorm1() <=
+                       10 * denseSolver.getInverse().multiply(d).subtract(identity).getNorm1() + 1.0e-15);
+        }
+    }
+
+    @Test
+    void testPivotingNeeded() {
+        // zero leading diagonal, the Thomas algorithm would fail here
+        final TridiagonalRealMatrix t = new TridiagonalRealMatrix(new double[] { 1, 1, 1 },
+                                                                  new double[] { 0, 0, 0, 0 },
+                                                                  new double[] { 1, 1, 1 });
+        assertFalse(new ThomasDecomposition(t).getSolver().isNonSingular());
+        final BandedLUDecomposition lu = new BandedLUDecomposition(t);
+        assertEquals(1.0, lu.getDeterminant(), 1.0e-15);
+        final RealVector x = new ArrayRealVector(new double[] { 1, -2, 3, -4 });
+        assertEquals(0.0, lu.getSolver().solve(t.operate(x)).subtract(x).getLInfNorm(), 1.0e-15);
+    }
+
+    @Test
+    void testSingular() {
+        final BandedRealMatrix b = new BandedRealMatrix(MatrixUtils.createRealMatrix(new double[][] {
+            { 1, 2, 0 },
+            { 2, 4, 0 },
+            { 0, 1, 1 }
+        }), 1, 1);
+        final BandedLUDecomposition lu = new BandedLUDecomposition(b);
+        assertFalse(lu.getSolver().isNonSingular());
+        assertEquals(0.0, lu.getDeterminant(), 0.0);
+        try {
+            lu.getSolver().solve(new ArrayRealVector(3));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+        try {
+            new BandedLUDecomposition(createIdentity(3)).getSolver().solve(new ArrayRealVector(2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    private static BandedRealMatrix createIdentity(final int n) {
+        final BandedRealMatrix identity = new BandedRealMatrix(n, 0, 0);
+        for (int i = 0; i < n; ++i) {
+            identity.setEntry(i, i, 1.0);
+        }
+        return identity;
+    }
+
+}
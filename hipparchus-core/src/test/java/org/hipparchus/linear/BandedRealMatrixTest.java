@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.UnitTestUtils;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class BandedRealMatrixTest {
+
+    @Test
+    void testEntries() {
+        final BandedRealMatrix b = new BandedRealMatrix(5, 1, 2);
+        assertEquals(1, b.getLowerBandwidth());
+        assertEquals(2, b.getUpperBandwidth());
+        b.setEntry(1, 0, 3.0);
+        b.setEntry(1, 3, 4.0);
+        b.addToEntry(4, 4, 2.0);
+        b.multiplyEntry(1, 3, 0.5);
+        b.multiplyEntry(4, 0, 2.0);
+        b.setEntry(4, 0, 0.0);
+        assertEquals(MatrixUtils.createRealMatrix(new double[][] {
+            { 0, 0, 0, 0, 0 },
+            { 3, 0, 0, 2, 0 },
+            { 0, 0, 0, 0, 0 },
+            { 0, 0, 0, 0, 0 },
+            { 0, 0, 0, 0, 2 }
+        }), b);
+        assertEquals(2.0, b.getTrace(), 0.0);
+
+        try {
+            b.setEntry(3, 0, 1.0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NUMBER_TOO_LARGE, miae.getSpecifier());
+        }
+        try {
+            b.addToEntry(0, 4, 1.0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NUMBER_TOO_LARGE, miae.getSpecifier());
+        }
+        try {
+            new BandedRealMatrix(5, 5, 0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testFromMatrix() {
+        final BandedRealMatrix b = createRandomBanded(new Well1024a(0x3e8c1a5f07d92b46l), 12, 2, 3);
+        final RealMatrix       d = MatrixUtils.createRealMatrix(b.getData());
+        assertEquals(b, new BandedRealMatrix(d, 2, 3));
+        assertEquals(b, new BandedRealMatrix(d, 4, 3));
+        try {
+            new BandedRealMatrix(d, 1, 3);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NUMBER_TOO_LARGE, miae.getSpecifier());
+        }
+        try {
+            new BandedRealMatrix(MatrixUtils.createRealMatrix(3, 4), 1, 1);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testArithmetic() {
+        final RandomGenerator  random = new Well1024a(0x7d51e9a03c2f6b84l);
+        final BandedRealMatrix b1     = createRandomBanded(random, 15, 3, 1);
+        final BandedRealMatrix b2     = createRandomBanded(random, 15, 0, 4);
+        final RealMatrix       d1     = MatrixUtils.createRealMatrix(b1.getData());
+        final RealMatrix       d2     = MatrixUtils.createRealMatrix(b2.getData());
+
+        final BandedRealMatrix sum = b1.add(b2);
+        assertEquals(3, sum.getLowerBandwidth());
+        assertEquals(4, sum.getUpperBandwidth());
+        assertEquals(d1.add(d2), sum);
+        assertEquals(d1.add(d2), b1.add((RealMatrix) b2));
+        assertEquals(d1.subtract(d2), b1.subtract(b2));
+        assertEquals(d1.add(d2.transpose()), b1.add(d2.transpose()));
+        assertEquals(d1.scalarMultiply(2.5), b1.scalarMultiply(2.5));
+        assertEquals(d1.scalarAdd(2.5), b1.scalarAdd(2.5));
+
+        final BandedRealMatrix t = b1.transpose();
+        assertEquals(1, t.getLowerBandwidth());
+        assertEquals(3, t.getUpperBandwidth());
+        assertEquals(d1.transpose(), t);
+        assertEquals(d1, b1.copy());
+    }
+
+    @Test
+    void testProducts() {
+        final RandomGenerator  random = new Well1024a(0x0a6f3d2e94b1c758l);
+        final BandedRealMatrix b      = createRandomBanded(random, 40, 2, 5);
+        final RealMatrix       d      = MatrixUtils.createRealMatrix(b.getData());
+
+        final double[] v = createRandomArray(random, 40);
+        assertArrayEquals(d.operate(v), b.operate(v), 1.0e-14);
+        assertArrayEquals(d.preMultiply(v), b.preMultiply(v), 1.0e-14);
+        final double[] inPlace = v.clone();
+        assertSame(inPlace, b.operate(inPlace, inPlace));
+        assertArrayEquals(d.operate(v), inPlace, 1.0e-14);
+        final double[] inPlace2 = v.clone();
+        assertSame(inPlace2, b.preMultiply(inPlace2, inPlace2));
+        assertArrayEquals(d.preMultiply(v), inPlace2, 1.0e-14);
+
+        final RealMatrix m = new BlockRealMatrix(40, 6);
+        for (int i = 0; i < 40; ++i) {
+            m.setRow(i, createRandomArray(random, 6));
+        }
+        UnitTestUtils.customAssertEquals("B.M", d.multiply(m), b.multiply(m), 1.0e-13);
+        try {
+            b.operate(new double[39]);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    static BandedRealMatrix createRandomBanded(final RandomGenerator random, final int n,
+                                               final int lower, final int upper) {
+        final BandedRealMatrix b = new BandedRealMatrix(n, lower, upper);
+        for (int i = 0; i < n; ++i) {
+            for (int j = FastMath.max(0, i - lower); j <= FastMath.min(n - 1, i + upper); ++j) {
+                b.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return b;
+    }
+
+    static double[] createRandomArray(final RandomGenerator random, final int n) {
+        final double[] a = new double[n];
+        for (int i = 0; i < n; ++i) {
+            a[i] = 2 * random.nextDouble() - 1;
+        }
+        return a;
+    }
+
+}
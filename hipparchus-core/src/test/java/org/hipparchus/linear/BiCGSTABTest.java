@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.Arrays;
+
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.IterationEvent;
+import org.hipparchus.util.IterationListener;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class BiCGSTABTest {
+
+    @Test
+    void testNonSquareOperator() {
+        assertThrows(MathIllegalArgumentException.class, () -> {
+            final Array2DRowRealMatrix a = new Array2DRowRealMatrix(2, 3);
+            final IterativeLinearSolver solver = new BiCGSTAB(10, 0.);
+            solver.solve(a, new ArrayRealVector(2), new ArrayRealVector(3));
+        });
+    }
+
+    @Test
+    void testDimensionMismatchRightHandSide() {
+        assertThrows(MathIllegalArgumentException.class, () -> {
+            final Array2DRowRealMatrix a = new Array2DRowRealMatrix(3, 3);
+            final IterativeLinearSolver solver = new BiCGSTAB(10, 0.);
+            solver.solve(a, new ArrayRealVector(2), new ArrayRealVector(3));
+        });
+    }
+
+    @Test
+    void testDimensionMismatchSolution() {
+        assertThrows(MathIllegalArgumentException.class, () -> {
+            final Array2DRowRealMatrix a = new Array2DRowRealMatrix(3, 3);
+            final IterativeLinearSolver solver = new BiCGSTAB(10, 0.);
+            solver.solve(a, new ArrayRealVector(3), new ArrayRealVector(2));
+        });
+    }
+
+    @Test
+    void testNonSquarePreconditioner() {
+        assertThrows(MathIllegalArgumentException.class, () -> {
+            final Array2DRowRealMatrix a = new Array2DRowRealMatrix(2, 2);
+            final PreconditionedIterativeLinearSolver solver = new BiCGSTAB(10, 0.);
+            solver.solve(a, new Array2DRowRealMatrix(2, 3), new ArrayRealVector(2));
+        });
+    }
+
+    @Test
+    void testZeroRightHandSide() {
+        final CompressedRowRealMatrix a = IncompleteLUPreconditionerTest.createConvectionDiffusion(4, 1.0);
+        final IterativeLinearSolver solver = new BiCGSTAB(10, 0.);
+        final RealVector x = solver.solve(a, new ArrayRealVector(a.getRowDimension()));
+        assertEquals(0.0, x.getNorm(), 0.0);
+        assertEquals(1, solver.getIterationManager().getIterations());
+    }
+
+    @Test
+    void testUnpreconditionedSolution() {
+        final int maxIterations = 1000;
+        final CompressedRowRealMatrix a = IncompleteLUPreconditionerTest.createConvectionDiffusion(12, 2.0);
+        final RandomGenerator random = new Well1024a(0x3e81a7d25cf9064bl);
+        final RealVector expected = new ArrayRealVector(CompressedRowRealMatrixTest.createRandomVector(random, a.getRowDimension()));
+        final IterativeLinearSolver solver = new BiCGSTAB(maxIterations, 1E-10);
+        final RealVector x = solver.solve(a, a.operate(expected));
+        assertEquals(0.0, x.subtract(expected).getLInfNorm(), 1.0e-8);
+    }
+
+    @Test
+    void testUnpreconditionedInPlaceSolutionWithInitialGuess() {
+        final int maxIterations = 1000;
+        final CompressedRowRealMatrix a = IncompleteLUPreconditionerTest.createConvectionDiffusion(10, 0.5);
+        final RandomGenerator random = new Well1024a(0xf0a9b3618d2c74e5l);
+        final RealVector expected = new ArrayRealVector(CompressedRowRealMatrixTest.createRandomVector(random, a.getRowDimension()));
+        final IterativeLinearSolver solver = new BiCGSTAB(maxIterations, 1E-10);
+        final RealVector x0 = new ArrayRealVector(a.getRowDimension(), 1.0);
+        final RealVector x  = solver.solveInPlace(a, a.operate(expected), x0);
+        assertSame(x0, x);
+        assertEquals(0.0, x.subtract(expected).getLInfNorm(), 1.0e-8);
+    }
+
+    @Test
+    void testPreconditionedSolution() {
+        final CompressedRowRealMatrix a = IncompleteLUPreconditionerTest.createConvectionDiffusion(30, 3.0);
+        final RandomGenerator random = new Well1024a(0x57d2e8b1a4c6f093l);
+        final RealVector expected = new ArrayRealVector(CompressedRowRealMatrixTest.createRandomVector(random, a.getRowDimension()));
+        final RealVector b = a.operate(expected);
+
+        final PreconditionedIterativeLinearSolver plain = new BiCGSTAB(1000, 1E-10);
+        final RealVector x1 = plain.solve(a, b);
+        final int plainIterations = plain.getIterationManager().getIterations();
+
+        final PreconditionedIterativeLinearSolver preconditioned = new BiCGSTAB(1000, 1E-10);
+        final RealVector x2 = preconditioned.solve(a, new IncompleteLUPreconditioner(a), b);
+        final int preconditionedIterations = preconditioned.getIterationManager().getIterations();
+
+        assertEquals(0.0, x1.subtract(expected).getLInfNorm(), 1.0e-7);
+        assertEquals(0.0, x2.subtract(expected).getLInfNorm(), 1.0e-7);
+        assertTrue(2 * preconditionedIterations < plainIterations,
+                   preconditionedIterations + " vs. " + plainIterations);
+    }
+
+    @Test
+    void testSymmetric() {
+        final int n = 5;
+        final RealLinearOperator a = new HilbertMatrix(n);
+        final InverseHilbertMatrix ainv = new InverseHilbertMatrix(n);
+        final IterativeLinearSolver solver = new BiCGSTAB(100, 1E-10);
+        final RealVector b = new ArrayRealVector(n);
+        for (int j = 0; j < n; j++) {
+            b.set(0.);
+            b.setEntry(j, 1.);
+            final RealVector x = solver.solve(a, b);
+            for (int i = 0; i < n; i++) {
+                final double expected = ainv.getEntry(i, j);
+                assertEquals(expected, x.getEntry(i), 1E-5 * FastMath.abs(expected));
+            }
+        }
+    }
+
+    @Test
+    void testEventManagement() {
+        final CompressedRowRealMatrix a = IncompleteLUPreconditionerTest.createConvectionDiffusion(8, 1.0);
+        /*
+         * count[0] = number of calls to initializationPerformed
+         * count[1] = number of calls to iterationStarted
+         * count[2] = number of calls to iterationPerformed
+         * count[3] = number of calls to terminationPerformed
+         */
+        final int[] count = new int[] {0, 0, 0, 0};
+        final IterationListener listener = new IterationListener() {
+            private void doTestVectorsAreUnmodifiable(final IterationEvent e) {
+                final IterativeLinearSolverEvent evt = (IterativeLinearSolverEvent) e;
+                try {
+                    evt.getRightHandSideVector().set(0.0);
+                    fail("b is modifiable");
+                } catch (MathRuntimeException exc){
+                    // Expected behavior
+                }
+                try {
+                    evt.getSolution().set(0.0);
+                    fail("x is modifiable");
+                } catch (MathRuntimeException exc){
+                    // Expected behavior
+                }
+            }
+
+            private void doTestNormOfResidual(final IterationEvent e) {
+                final IterativeLinearSolverEvent evt = (IterativeLinearSolverEvent) e;
+                assertTrue(evt.providesResidual());
+                final RealVector r = evt.getRightHandSideVector().subtract(a.operate(evt.getSolution()));
+                assertEquals(r.getNorm(), evt.getNormOfResidual(), FastMath.max(1E-5 * r.getNorm(), 1E-10));
+                assertEquals(0.0, r.subtract(evt.getResidual()).getNorm(), 1.0e-10);
+            }
+
+            public void initializationPerformed(final IterationEvent e) {
+                ++count[0];
+                doTestVectorsAreUnmodifiable(e);
+                doTestNormOfResidual(e);
+            }
+
+            public void iterationPerformed(final IterationEvent e) {
+                ++count[2];
+                assertEquals(count[2], e.getIterations() - 1, "iteration performed");
+                doTestVectorsAreUnmodifiable(e);
+            }
+
+            public void iterationStarted(final IterationEvent e) {
+                ++count[1];
+                assertEquals(count[1], e.getIterations() - 1, "iteration started");
+                doTestVectorsAreUnmodifiable(e);
+            }
+
+            public void terminationPerformed(final IterationEvent e) {
+                ++count[3];
+                doTestVectorsAreUnmodifiable(e);
+                doTestNormOfResidual(e);
+            }
+        };
+        final IterativeLinearSolver solver = new BiCGSTAB(1000, 1E-10);
+        solver.getIterationManager().addIterationListener(listener);
+        final RealVector b = new ArrayRealVector(a.getRowDimension());
+        for (int j = 0; j < a.getRowDimension(); j += 7) {
+            Arrays.fill(count, 0);
+            b.set(0.);
+            b.setEntry(j, 1.);
+            solver.solve(a, b);
+            assertEquals(1, count[0]);
+            assertEquals(count[1], count[2]);
+            assertEquals(solver.getIterationManager().getIterations() - 1, count[2]);
+            assertEquals(1, count[3]);
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.Binary64;
+import org.hipparchus.util.Binary64Field;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class Binary64FieldMatrixTest {
+
+    @Test
+    void testEntries() {
+        final Binary64FieldMatrix m = new Binary64FieldMatrix(new double[][] { { 1, 2, 3 }, { 4, 5, 6 } });
+        assertEquals(2, m.getRowDimension());
+        assertEquals(3, m.getColumnDimension());
+        assertEquals(Binary64Field.getInstance(), m.getField());
+        assertEquals(6.0, m.getEntry(1, 2).getReal(), 0.0);
+        m.setEntry(0, 1, new Binary64(-2.5));
+        m.addToEntry(0, 1, new Binary64(1.0));
+        m.multiplyEntry(1, 0, new Binary64(3.0));
+        assertEquals(-1.5, m.getDataRef()[1], 0.0);
+        assertEquals(12.0, m.getEntry(1, 0).getReal(), 0.0);
+        assertEquals(12.0, m.toRealMatrix().getEntry(1, 0), 0.0);
+
+        final Binary64FieldMatrix copy = m.copy();
+        m.setEntry(1, 0, new Binary64(0.0));
+        assertEquals(12.0, copy.getEntry(1, 0).getReal(), 0.0);
+
+        try {
+            m.getEntry(2, 0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        try {
+            new Binary64FieldMatrix(new double[][] { { 1, 2 }, { 3 } });
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testArithmetic() {
+        final RandomGenerator random = new Well1024a(0x61d3a8f04e2c97b5l);
+        final Binary64FieldMatrix a = new Binary64FieldMatrix(createMatrix(random, 7, 5));
+        final Binary64FieldMatrix b = new Binary64FieldMatrix(createMatrix(random, 7, 5));
+        final Binary64FieldMatrix c = new Binary64FieldMatrix(createMatrix(random, 5, 4));
+        final FieldMatrix<Binary64> ra = generic(a);
+        final FieldMatrix<Binary64> rb = generic(b);
+        final FieldMatrix<Binary64> rc = generic(c);
+        final Binary64 s = new Binary64(1.75);
+
+        checkEquals(ra.add(rb),             a.add(b),             1.0e-15);
+        checkEquals(ra.subtract(rb),        a.subtract(b),        1.0e-15);
+        checkEquals(ra.scalarAdd(s),        a.scalarAdd(s),       1.0e-15);
+        checkEquals(ra.scalarMultiply(s),   a.scalarMultiply(s),  1.0e-15);
+        checkEquals(ra.multiply(rc),        a.multiply(c),        1.0e-14);
+        checkEquals(ra.transpose(),         a.transpose(),        0.0);
+        checkEquals(ra.transposeMultiply(rb), a.transposeMultiply(b), 1.0e-14);
+
+        // mixed operands fall back to the generic implementation
+        checkEquals(ra.multiply(rc),        a.multiply(rc),       1.0e-14);
+        checkEquals(ra.add(rb),             a.add(rb),            1.0e-15);
+
+        final Binary64[] x = generic(c).getColumn(0);
+        final Binary64[] y = ra.operate(x);
+        final Binary64[] z = a.operate(x);
+        for (int i = 0; i < y.length; ++i) {
+            assertEquals(y[i].getReal(), z[i].getReal(), 1.0e-14);
+        }
+        final Binary64[] v = ra.getColumn(1);
+        final Binary64[] p = ra.preMultiply(v);
+        final Binary64[] q = a.preMultiply(v);
+        for (int j = 0; j < p.length; ++j) {
+            assertEquals(p[j].getReal(), q[j].getReal(), 1.0e-14);
+        }
+
+        final Binary64FieldMatrix square = new Binary64FieldMatrix(createMatrix(random, 4, 4));
+        assertEquals(generic(square).getTrace().getReal(), square.getTrace().getReal(), 1.0e-15);
+        try {
+            a.getTrace();
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+        try {
+            a.multiply(b);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testDecomposition() {
+        final RandomGenerator random = new Well1024a(0x0c5e27b9f3a18d46l);
+        final Binary64FieldMatrix a = new Binary64FieldMatrix(createMatrix(random, 6, 6));
+        final FieldMatrix<Binary64> inverse = new FieldLUDecomposition<>(a).getSolver().getInverse();
+        final FieldMatrix<Binary64> product = a.multiply(new Binary64FieldMatrix(inverse.getData()));
+        assertTrue(product instanceof Binary64FieldMatrix);
+        final RealMatrix identity = MatrixUtils.createRealIdentityMatrix(6);
+        assertEquals(0.0, ((Binary64FieldMatrix) product).toRealMatrix().subtract(identity).getNorm1(), 1.0e-12);
+    }
+
+    private void checkEquals(final FieldMatrix<Binary64> expected, final FieldMatrix<Binary64> actual,
+                             final double tolerance) {
+        assertEquals(expected.getRowDimension(),    actual.getRowDimension());
+        assertEquals(expected.getColumnDimension(), actual.getColumnDimension());
+        for (int i = 0; i < expected.getRowDimension(); ++i) {
+            for (int j = 0; j < expected.getColumnDimension(); ++j) {
+                assertEquals(expected.getEntry(i, j).getReal(), actual.getEntry(i, j).getReal(), tolerance);
+            }
+        }
+    }
+
+    private FieldMatrix<Binary64> generic(final Binary64FieldMatrix m) {
+        return new Array2DRowFieldMatrix<>(m.getData());
+    }
+
+    private double[][] createMatrix(final RandomGenerator random, final int rows, final int columns) {
+        final double[][] d = new double[rows][columns];
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                d[i][j] = 2 * random.nextDouble() - 1;
+            }
+        }
+        return d;
+    }
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class BlockLUDecompositionTest {
+
+    @Test
+    void testNonSquare() {
+        try {
+            new BlockLUDecomposition(MatrixUtils.createRealMatrix(new double[3][2]));
+            fail("Expecting MathIllegalArgumentException");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testPAEqualLU() {
+        final RandomGenerator random = new Well1024a(0x8f3a6c20d71be594l);
+        for (final int n : new int[] { 1, 2, 51, 52, 53, 104, 157 }) {
+            final RealMatrix matrix = createRandomMatrix(random, n);
+            final BlockLUDecomposition lu = new BlockLUDecomposition(matrix);
+            final RealMatrix l = lu.getL();
+            final RealMatrix u = lu.getU();
+            final RealMatrix p = lu.getP();
+            assertEquals(0, l.multiply(u).subtract(p.multiply(matrix)).getNorm1(), 1.0e-12 * n);
+            for (int i = 0; i < n; ++i) {
+                assertEquals(1.0, l.getEntry(i, i), 0.0);
+                for (int j = i + 1; j < n; ++j) {
+                    assertEquals(0.0, l.getEntry(i, j), 0.0);
+                    assertEquals(0.0, u.getEntry(j, i), 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSameAsUnblocked() {
+        final RandomGenerator random = new Well1024a(0x24b9e17d6c05a83fl);
+        for (final int n : new int[] { 3, 60, 130 }) {
+            final RealMatrix matrix = createRandomMatrix(random, n);
+            final BlockLUDecomposition blocked   = new BlockLUDecomposition(matrix);
+            final LUDecomposition      unblocked = new LUDecomposition(matrix);
+            assertArrayEquals(unblocked.getPivot(), blocked.getPivot());
+            assertEquals(0, blocked.getL().subtract(unblocked.getL()).getNorm1(), 1.0e-12 * n);
+            assertEquals(0, blocked.getU().subtract(unblocked.getU()).getNorm1(), 1.0e-12 * n);
+            assertEquals(1.0, blocked.getDeterminant() / unblocked.getDeterminant(), 1.0e-12);
+        }
+    }
+
+    @Test
+    void testParallel() {
+        final RandomGenerator random = new Well1024a(0x5d0c93e6ab1f2748l);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (final int n : new int[] { 1, 52, 211 }) {
+                final RealMatrix matrix = createRandomMatrix(random, n);
+                final BlockLUDecomposition serial   = new BlockLUDecomposition(matrix, 1.0e-11, null);
+                final BlockLUDecomposition parallel = new BlockLUDecomposition(matrix, 1.0e-11, pool);
+                // the same operations are performed on each block regardless of threads
+                assertArrayEquals(serial.getPivot(), parallel.getPivot());
+                assertEquals(serial.getL(), parallel.getL());
+                assertEquals(serial.getU(), parallel.getU());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testSolve() {
+        final RandomGenerator random = new Well1024a(0x1e7b5f3a90c2d864l);
+        final int n = 173;
+        final RealMatrix matrix = createRandomMatrix(random, n);
+        final RealMatrix x      = createRandomMatrix(random, n).getSubMatrix(0, n - 1, 0, 2);
+        final RealMatrix b      = matrix.multiply(x);
+        final DecompositionSolver solver = new BlockLUDecomposition(matrix).getSolver();
+        assertTrue(solver.isNonSingular());
+        assertEquals(n, solver.getRowDimension());
+        assertEquals(n, solver.getColumnDimension());
+        assertEquals(0, solver.solve(b).subtract(x).getNorm1(), 1.0e-10);
+        assertEquals(0, solver.solve(b.getColumnVector(1)).subtract(x.getColumnVector(1)).getNorm(), 1.0e-10);
+        assertEquals(0,
+                     solver.getInverse().multiply(matrix).subtract(MatrixUtils.createRealIdentityMatrix(n)).getNorm1(),
+                     1.0e-10);
+    }
+
+    @Test
+    void testSolveDimensionErrors() {
+        final DecompositionSolver solver =
+                        new BlockLUDecomposition(MatrixUtils.createRealIdentityMatrix(3)).getSolver();
+        try {
+            solver.solve(new ArrayRealVector(2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            solver.solve(MatrixUtils.createRealMatrix(2, 2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testSingular() {
+        final RandomGenerator random = new Well1024a(0xa63c1d9f07e48b25l);
+        final int n = 120;
+        final RealMatrix matrix = createRandomMatrix(random, n);
+        // last row is a combination of two other rows
+        for (int j = 0; j < n; ++j) {
+            matrix.setEntry(n - 1, j, matrix.getEntry(3, j) - 2 * matrix.getEntry(70, j));
+        }
+        final BlockLUDecomposition lu = new BlockLUDecomposition(matrix);
+        assertFalse(lu.getSolver().isNonSingular());
+        assertNull(lu.getL());
+        assertNull(lu.getU());
+        assertNull(lu.getP());
+        assertEquals(0.0, lu.getDeterminant(), 0.0);
+        try {
+            lu.getSolver().solve(new ArrayRealVector(n));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+        try {
+            lu.getSolver().solve(MatrixUtils.createRealMatrix(n, 2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testDecomposer() {
+        final RandomGenerator random = new Well1024a(0x3c84e2a17f95d60bl);
+        final int n = LUDecomposer.BLOCKED_DIMENSION_THRESHOLD + 5;
+        final RealMatrix matrix = createRandomMatrix(random, n);
+        final RealVector x = createRandomMatrix(random, n).getColumnVector(0);
+        final RealVector b = matrix.operate(x);
+        final RealVector reference = new BlockLUDecomposition(matrix).getSolver().solve(b);
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (final LUDecomposer decomposer : new LUDecomposer[] {
+                new LUDecomposer(1.0e-11), new LUDecomposer(1.0e-11, pool)
+            }) {
+                // large matrices are decomposed using the blocked algorithm
+                final RealVector solution = decomposer.decompose(matrix).solve(b);
+                assertEquals(reference, solution);
+                assertEquals(0, solution.subtract(x).getNorm(), 1.0e-10);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private RealMatrix createRandomMatrix(final RandomGenerator random, final int n) {
+        final RealMatrix m = new BlockRealMatrix(n, n);
+        m.walkInOptimizedOrder(new DefaultRealMatrixChangingVisitor() {
+            @Override
+            public double visit(final int row, final int column, final double value) {
+                return 2 * random.nextDouble() - 1;
+            }
+        });
+        return m;
+    }
+
+}
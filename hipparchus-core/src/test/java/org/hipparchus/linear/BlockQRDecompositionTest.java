@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockQRDecompositionTest {
+
+    @Test
+    void testAEqualQR() {
+        final RandomGenerator random = new Well1024a(0x6b0d2e95c4a8f173l);
+        for (final int[] dims : new int[][] {
+            { 1, 1 }, { 40, 31 }, { 40, 32 }, { 40, 33 }, { 700, 50 }, { 61, 61 }, { 20, 45 }, { 1030, 33 }
+        }) {
+            final RealMatrix matrix = createRandomMatrix(random, dims[0], dims[1]);
+            final BlockQRDecomposition qr = new BlockQRDecomposition(matrix);
+            final RealMatrix q = qr.getQ();
+            final RealMatrix r = qr.getR();
+            assertEquals(0, q.multiply(r).subtract(matrix).getNorm1(), 1.0e-13 * dims[0]);
+            assertEquals(0,
+                         q.transposeMultiply(q).subtract(MatrixUtils.createRealIdentityMatrix(dims[0])).getNorm1(),
+                         1.0e-13 * dims[0]);
+            for (int i = 0; i < r.getRowDimension(); ++i) {
+                for (int j = 0; j < FastMath.min(i, r.getColumnDimension()); ++j) {
+                    assertEquals(0.0, r.getEntry(i, j), 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSameAsUnblocked() {
+        final RandomGenerator random = new Well1024a(0x2f9e4c17a05db368l);
+        for (final int[] dims : new int[][] { { 300, 16 }, { 300, 40 }, { 50, 50 }, { 30, 70 } }) {
+            final RealMatrix matrix = createRandomMatrix(random, dims[0], dims[1]);
+            final QRDecomposition      unblocked = new QRDecomposition(matrix);
+            final BlockQRDecomposition blocked   = new BlockQRDecomposition(matrix);
+            assertEquals(0, blocked.getR().subtract(unblocked.getR()).getNorm1(), 1.0e-12);
+            assertEquals(0, blocked.getH().subtract(unblocked.getH()).getNorm1(), 1.0e-12);
+        }
+    }
+
+    @Test
+    void testLeastSquares() {
+        final RandomGenerator random = new Well1024a(0x7c31a8f60e2b9d45l);
+        final int m = 2000;
+        final int n = 37;
+        final RealMatrix a = createRandomMatrix(random, m, n);
+        final RealMatrix x = createRandomMatrix(random, n, 3);
+        final RealMatrix b = a.multiply(x);
+        final DecompositionSolver solver = new BlockQRDecomposition(a).getSolver();
+        assertTrue(solver.isNonSingular());
+        assertEquals(0, solver.solve(b).subtract(x).getNorm1(), 1.0e-12);
+        assertEquals(0, solver.solve(b.getColumnVector(2)).subtract(x.getColumnVector(2)).getNorm(), 1.0e-12);
+
+        // the decomposer uses the blocked algorithm for such a tall matrix
+        final RealVector reference = solver.solve(b.getColumnVector(0));
+        assertEquals(reference, new QRDecomposer(0.0).decompose(a).solve(b.getColumnVector(0)));
+    }
+
+    @Test
+    void testSingular() {
+        final RandomGenerator random = new Well1024a(0x91d4b6e2f83ac057l);
+        final RealMatrix matrix = createRandomMatrix(random, 60, 30);
+        matrix.setColumnVector(25, matrix.getColumnVector(3).mapMultiply(2.0));
+        final DecompositionSolver solver = new BlockQRDecomposition(matrix, 1.0e-10).getSolver();
+        assertFalse(solver.isNonSingular());
+        assertThrows(MathIllegalArgumentException.class, () -> solver.solve(new ArrayRealVector(60)));
+    }
+
+    private RealMatrix createRandomMatrix(final RandomGenerator random, final int rows, final int columns) {
+        final RealMatrix m = MatrixUtils.createRealMatrix(rows, columns);
+        m.walkInOptimizedOrder(new DefaultRealMatrixChangingVisitor() {
+            @Override
+            public double visit(final int row, final int column, final double value) {
+                return 2 * random.nextDouble() - 1;
+            }
+        });
+        return m;
+    }
+
+}
@@ -32,11 +32,14 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -132,6 +135,73 @@ final class BlockRealMatrixTest {
         assertEquals(m3, m4);
     }
 
+    /** test operations storing their result into a destination */
+    @Test
+    void testOperationsIntoDestination() {
+        Random r = new Random(0x5d1c4a3b9e0f2768l);
+        BlockRealMatrix m1 = createRandomMatrix(r, 83, 71);
+        BlockRealMatrix m2 = createRandomMatrix(r, 83, 71);
+        BlockRealMatrix m3 = createRandomMatrix(r, 71, 59);
+
+        // same type destination
+        BlockRealMatrix out = new BlockRealMatrix(83, 71);
+        assertSame(out, m1.add(m2, out));
+        assertEquals(m1.add(m2), out);
+        assertSame(out, m1.subtract(m2, out));
+        assertEquals(m1.subtract(m2), out);
+        BlockRealMatrix product = createRandomMatrix(r, 83, 59);
+        assertSame(product, m1.multiply(m3, product));
+        assertEquals(m1.multiply(m3), product);
+
+        // mixed types
+        RealMatrix a = new Array2DRowRealMatrix(m2.getData());
+        RealMatrix mixed = new Array2DRowRealMatrix(83, 71);
+        assertSame(mixed, m1.add(a, mixed));
+        UnitTestUtils.customAssertEquals("add", m1.add(m2), mixed, 1.0e-15 * m1.getNorm1());
+        mixed = new Array2DRowRealMatrix(83, 59);
+        assertSame(mixed, m1.multiply(new Array2DRowRealMatrix(m3.getData()), mixed));
+        UnitTestUtils.customAssertEquals("multiply", m1.multiply(m3), mixed, 1.0e-15 * m1.multiply(m3).getNorm1());
+
+        // aliasing
+        BlockRealMatrix square = createRandomMatrix(r, 71, 71);
+        BlockRealMatrix expected = m1.multiply(square);
+        BlockRealMatrix alias = m1.copy();
+        assertSame(alias, alias.multiply(square, alias));
+        assertEquals(expected, alias);
+        expected = m1.subtract(m2);
+        alias = m2.copy();
+        assertSame(alias, m1.subtract(alias, alias));
+        assertEquals(expected, alias);
+
+        // vectors
+        double[] v = new double[71];
+        for (int i = 0; i < v.length; ++i) {
+            v[i] = r.nextDouble();
+        }
+        double[] w = new double[83];
+        assertSame(w, m1.operate(v, w));
+        UnitTestUtils.customAssertEquals("operate", m1.operate(v), w, 0.0);
+        assertSame(v, m1.preMultiply(w, v));
+        UnitTestUtils.customAssertEquals("preMultiply", m1.preMultiply(w), v, 0.0);
+        double[] aliasV = v.clone();
+        assertSame(aliasV, square.operate(aliasV, aliasV));
+        UnitTestUtils.customAssertEquals("operate", square.operate(v), aliasV, 0.0);
+
+        // dimensions mismatch
+        try {
+            m1.multiply(m3, new BlockRealMatrix(83, 58));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2, miae.getSpecifier());
+        }
+        try {
+            m1.operate(v, new double[82]);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
     /** test add */
     @Test
     void testAdd() {
@@ -435,6 +505,42 @@ final class BlockRealMatrixTest {
         }
     }
 
+    @Test
+    void testParallelProducts() {
+        final Random r = new Random(0x3b7e1f0a4c9d2658l);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (final int[] dims : new int[][] { { 1, 1, 1 }, { 7, 53, 104 }, { 157, 131, 209 }, { 52, 52, 52 } }) {
+                final BlockRealMatrix a  = createRandomMatrix(r, dims[0], dims[1]);
+                final BlockRealMatrix b  = createRandomMatrix(r, dims[1], dims[2]);
+                final BlockRealMatrix bT = b.transpose();
+                final BlockRealMatrix aT = a.transpose();
+                assertEquals(a.multiply(b),           a.multiply(b, pool));
+                assertEquals(a.multiplyTransposed(bT), a.multiplyTransposed(bT, pool));
+                assertEquals(aT.transposeMultiply(b),  aT.transposeMultiply(b, pool));
+                assertEquals(0.0, a.multiply(b, pool).subtract(a.multiplyTransposed(bT, pool)).getNorm1(), 1.0e-10);
+                assertEquals(0.0, a.multiply(b, pool).subtract(aT.transposeMultiply(b, pool)).getNorm1(), 1.0e-10);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParallelProductsWrongDimensions() {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertThrows(MathIllegalArgumentException.class,
+                         () -> new BlockRealMatrix(2, 3).multiply(new BlockRealMatrix(2, 3), pool));
+            assertThrows(MathIllegalArgumentException.class,
+                         () -> new BlockRealMatrix(2, 3).multiplyTransposed(new BlockRealMatrix(3, 2), pool));
+            assertThrows(MathIllegalArgumentException.class,
+                         () -> new BlockRealMatrix(2, 3).transposeMultiply(new BlockRealMatrix(3, 2), pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     /** test trace */
     @Test
     void testTrace() {
@@ -24,6 +24,8 @@ package org.hipparchus.linear;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -172,4 +174,89 @@ class CholeskyDecompositionTest {
         assertTrue(l  == llt.getL());
         assertTrue(lt == llt.getLT());
     }
+
+    /** test rank-one update */
+    @Test
+    void testUpdate() {
+        final RealMatrix            a   = MatrixUtils.createRealMatrix(testData);
+        final CholeskyDecomposition llt = new CholeskyDecomposition(a);
+        final RealVector            x   = new ArrayRealVector(new double[] { 1, -2, 0.5, 3, -1 });
+        final CholeskyDecomposition updated = llt.update(x);
+        final RealMatrix            ref     = a.add(x.outerProduct(x));
+        assertEquals(0, updated.getL().subtract(new CholeskyDecomposition(ref).getL()).getNorm1(), 1.0e-12);
+        assertEquals(0, updated.getL().multiply(updated.getLT()).subtract(ref).getNorm1(), 1.0e-12 * ref.getNorm1());
+        assertEquals(new CholeskyDecomposition(ref).getDeterminant(), updated.getDeterminant(),
+                     1.0e-12 * updated.getDeterminant());
+
+        // original decomposition is not modified
+        assertEquals(0, llt.getL().multiply(llt.getLT()).subtract(a).getNorm1(), 1.0e-13);
+    }
+
+    /** test rank-one downdate */
+    @Test
+    void testDowndate() {
+        final RealMatrix            a   = MatrixUtils.createRealMatrix(testData);
+        final RealVector            x   = new ArrayRealVector(new double[] { 0.5, 1, -2, 4, 0.25 });
+        final CholeskyDecomposition llt = new CholeskyDecomposition(a.add(x.outerProduct(x)));
+        final CholeskyDecomposition downdated = llt.downdate(x);
+        assertEquals(0, downdated.getL().subtract(new CholeskyDecomposition(a).getL()).getNorm1(), 1.0e-10);
+        final RealVector b = new ArrayRealVector(new double[] { 1, 2, 3, 4, 5 });
+        assertEquals(0,
+                     a.operate(downdated.getSolver().solve(b)).subtract(b).getNorm(),
+                     1.0e-10);
+    }
+
+    /** test sliding window of observations */
+    @Test
+    void testSlidingWindow() {
+        final RandomGenerator random = new Well1024a(0x3e9b16c07fa2d548L);
+        final int             n      = 8;
+        final int             window = 20;
+        final RealVector[]    rows   = new RealVector[200];
+        for (int k = 0; k < rows.length; ++k) {
+            rows[k] = new ArrayRealVector(n);
+            for (int i = 0; i < n; ++i) {
+                rows[k].setEntry(i, random.nextGaussian());
+            }
+        }
+        RealMatrix normal = MatrixUtils.createRealMatrix(n, n);
+        for (int k = 0; k < window; ++k) {
+            normal = normal.add(rows[k].outerProduct(rows[k]));
+        }
+        CholeskyDecomposition llt = new CholeskyDecomposition(normal);
+        for (int k = window; k < rows.length; ++k) {
+            llt    = llt.update(rows[k]).downdate(rows[k - window]);
+            normal = normal.add(rows[k].outerProduct(rows[k])).subtract(rows[k - window].outerProduct(rows[k - window]));
+        }
+        assertEquals(0, llt.getL().multiply(llt.getLT()).subtract(normal).getNorm1(), 1.0e-12 * normal.getNorm1());
+    }
+
+    /** test downdate losing positive definiteness */
+    @Test
+    void testDowndateNotPositiveDefinite() {
+        final RealMatrix            a   = MatrixUtils.createRealIdentityMatrix(3);
+        final CholeskyDecomposition llt = new CholeskyDecomposition(a);
+        try {
+            llt.downdate(new ArrayRealVector(new double[] { 0.6, 0.8, 0.0 }));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+        // slightly smaller vector is fine
+        final CholeskyDecomposition downdated = llt.downdate(new ArrayRealVector(new double[] { 0.6, 0.79, 0.0 }));
+        assertEquals(1 - 0.6 * 0.6 - 0.79 * 0.79, downdated.getDeterminant(), 1.0e-14);
+    }
+
+    /** test rank-one modification with wrong dimension */
+    @Test
+    void testUpdateWrongDimension() {
+        final CholeskyDecomposition llt = new CholeskyDecomposition(MatrixUtils.createRealMatrix(testData));
+        try {
+            llt.update(new ArrayRealVector(4));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ComplexLUDecompositionTest {
+
+    @Test
+    void testPLU() {
+        final RandomGenerator random = new Well1024a(0x2e6b9d0c4f7a1385l);
+        final ComplexMatrix a = createMatrix(random, 12, 12);
+        final ComplexLUDecomposition lu = new ComplexLUDecomposition(a);
+        checkEquals(lu.getP().multiply(a), lu.getL().multiply(lu.getU()), 1.0e-14);
+        for (int i = 0; i < 12; ++i) {
+            assertEquals(Complex.ONE, lu.getL().getEntry(i, i));
+            for (int j = i + 1; j < 12; ++j) {
+                assertEquals(Complex.ZERO, lu.getL().getEntry(i, j));
+                assertEquals(Complex.ZERO, lu.getU().getEntry(j, i));
+            }
+        }
+
+        // same determinant as the generic decomposition
+        final FieldLUDecomposition<Complex> reference =
+                        new FieldLUDecomposition<>(new Array2DRowFieldMatrix<>(a.getData()));
+        final Complex det = reference.getDeterminant();
+        assertEquals(0, det.subtract(lu.getDeterminant()).norm(), 1.0e-13 * det.norm());
+    }
+
+    @Test
+    void testSolve() {
+        final RandomGenerator random = new Well1024a(0x8d1f3a6c5e0b7924l);
+        final ComplexMatrix a = createMatrix(random, 15, 15);
+        final ComplexMatrix x = createMatrix(random, 15, 3);
+        final FieldDecompositionSolver<Complex> solver = new ComplexLUDecomposition(a).getSolver();
+        assertTrue(solver.isNonSingular());
+        assertEquals(15, solver.getRowDimension());
+        assertEquals(15, solver.getColumnDimension());
+        checkEquals(x, solver.solve(a.multiply(x)), 1.0e-12);
+        checkEquals(x, solver.solve(new Array2DRowFieldMatrix<>(a.multiply(x).getData())), 1.0e-12);
+
+        final FieldVector<Complex> v  = x.getColumnVector(1);
+        final FieldVector<Complex> sv = solver.solve(a.operate(v));
+        assertTrue(sv instanceof ComplexVector);
+        for (int i = 0; i < 15; ++i) {
+            assertEquals(0, v.getEntry(i).subtract(sv.getEntry(i)).norm(), 1.0e-12);
+        }
+
+        final ComplexMatrix identity = new ComplexMatrix(15, 15);
+        for (int i = 0; i < 15; ++i) {
+            identity.setEntry(i, i, Complex.ONE);
+        }
+        checkEquals(identity, a.multiply(solver.getInverse()), 1.0e-12);
+
+        try {
+            solver.solve(new ComplexVector(14));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testSingular() {
+        final ComplexMatrix a = new ComplexMatrix(new double[][] { { 1, 2 }, { 2, 4 } },
+                                                  new double[][] { { 1, 0 }, { 2, 0 } });
+        final ComplexLUDecomposition lu = new ComplexLUDecomposition(a);
+        assertFalse(lu.getSolver().isNonSingular());
+        assertNull(lu.getL());
+        assertEquals(Complex.ZERO, lu.getDeterminant());
+        try {
+            lu.getSolver().solve(new ComplexVector(2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testNonSquare() {
+        try {
+            new ComplexLUDecomposition(new ComplexMatrix(3, 2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    private void checkEquals(final FieldMatrix<Complex> expected, final FieldMatrix<Complex> actual,
+                             final double tolerance) {
+        assertEquals(expected.getRowDimension(),    actual.getRowDimension());
+        assertEquals(expected.getColumnDimension(), actual.getColumnDimension());
+        for (int i = 0; i < expected.getRowDimension(); ++i) {
+            for (int j = 0; j < expected.getColumnDimension(); ++j) {
+                assertEquals(0, expected.getEntry(i, j).subtract(actual.getEntry(i, j)).norm(), tolerance);
+            }
+        }
+    }
+
+    private ComplexMatrix createMatrix(final RandomGenerator random, final int rows, final int columns) {
+        final ComplexMatrix m = new ComplexMatrix(rows, columns);
+        for (int k = 0; k < rows * columns; ++k) {
+            m.getRealRef()[k]      = 2 * random.nextDouble() - 1;
+            m.getImaginaryRef()[k] = 2 * random.nextDouble() - 1;
+        }
+        return m;
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.complex.ComplexField;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ComplexMatrixTest {
+
+    @Test
+    void testEntries() {
+        final ComplexMatrix m = new ComplexMatrix(new double[][] { { 1, 2, 3 }, { 4, 5, 6 } },
+                                                  new double[][] { { 0, 1, 0 }, { -1, 0, 2 } });
+        assertEquals(2, m.getRowDimension());
+        assertEquals(3, m.getColumnDimension());
+        assertEquals(ComplexField.getInstance(), m.getField());
+        assertEquals(new Complex(6, 2), m.getEntry(1, 2));
+        m.setEntry(0, 1, new Complex(-2.5, 1));
+        m.addToEntry(0, 1, new Complex(1.0, 1));
+        m.multiplyEntry(1, 0, new Complex(0, 1));
+        assertEquals(-1.5, m.getRealRef()[1], 0.0);
+        assertEquals(2.0, m.getImaginaryRef()[1], 0.0);
+        assertEquals(new Complex(1, 4), m.getEntry(1, 0));
+        assertEquals(1.0, m.getRealPart().getEntry(1, 0), 0.0);
+        assertEquals(4.0, m.getImaginaryPart().getEntry(1, 0), 0.0);
+
+        final ComplexMatrix copy = m.copy();
+        m.setEntry(1, 0, Complex.ZERO);
+        assertEquals(new Complex(1, 4), copy.getEntry(1, 0));
+        assertEquals(copy, new ComplexMatrix(copy.getData()));
+
+        try {
+            m.getEntry(2, 0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        try {
+            new ComplexMatrix(new double[][] { { 1, 2 }, { 3, 4 } }, new double[][] { { 1, 2 }, { 3 } });
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testArithmetic() {
+        final RandomGenerator random = new Well1024a(0x4f1a7c3e9b2d6058l);
+        final ComplexMatrix a = createMatrix(random, 7, 5);
+        final ComplexMatrix b = createMatrix(random, 7, 5);
+        final ComplexMatrix c = createMatrix(random, 5, 4);
+        final FieldMatrix<Complex> ga = generic(a);
+        final FieldMatrix<Complex> gb = generic(b);
+        final FieldMatrix<Complex> gc = generic(c);
+        final Complex s = new Complex(1.75, -0.5);
+
+        checkEquals(ga.add(gb),                a.add(b),                1.0e-15);
+        checkEquals(ga.subtract(gb),           a.subtract(b),           1.0e-15);
+        checkEquals(ga.scalarAdd(s),           a.scalarAdd(s),          1.0e-15);
+        checkEquals(ga.scalarMultiply(s),      a.scalarMultiply(s),     1.0e-15);
+        checkEquals(ga.multiply(gc),           a.multiply(c),           1.0e-14);
+        checkEquals(ga.transpose(),            a.transpose(),           0.0);
+        checkEquals(ga.transposeMultiply(gb),  a.transposeMultiply(b),  1.0e-14);
+
+        // generic operands are converted
+        checkEquals(ga.multiply(gc), a.multiply(gc), 1.0e-14);
+        checkEquals(ga.add(gb),      a.add(gb),      1.0e-15);
+        assertTrue(a.multiply(gc) instanceof ComplexMatrix);
+
+        final ComplexMatrix h = a.conjugateTranspose();
+        for (int i = 0; i < a.getRowDimension(); ++i) {
+            for (int j = 0; j < a.getColumnDimension(); ++j) {
+                assertEquals(a.getEntry(i, j).conjugate(), h.getEntry(j, i));
+            }
+        }
+
+        final FieldVector<Complex> x = gc.getColumnVector(0);
+        checkEquals(ga.operate(x), a.operate(x), 1.0e-14);
+        checkEquals(ga.operate(x), a.operate(new ComplexVector(x)), 1.0e-14);
+        final FieldVector<Complex> v = ga.getColumnVector(1);
+        checkEquals(ga.preMultiply(v), a.preMultiply(v), 1.0e-14);
+        final Complex[] y = a.operate(x.toArray());
+        for (int i = 0; i < y.length; ++i) {
+            assertEquals(0, y[i].subtract(ga.operate(x).getEntry(i)).norm(), 1.0e-14);
+        }
+
+        final ComplexMatrix square = createMatrix(random, 4, 4);
+        assertEquals(0, generic(square).getTrace().subtract(square.getTrace()).norm(), 1.0e-15);
+        try {
+            a.getTrace();
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+        try {
+            a.multiply(b);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            a.operate(new ComplexVector(4));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    private void checkEquals(final FieldMatrix<Complex> expected, final FieldMatrix<Complex> actual,
+                             final double tolerance) {
+        assertEquals(expected.getRowDimension(),    actual.getRowDimension());
+        assertEquals(expected.getColumnDimension(), actual.getColumnDimension());
+        for (int i = 0; i < expected.getRowDimension(); ++i) {
+            for (int j = 0; j < expected.getColumnDimension(); ++j) {
+                assertEquals(0, expected.getEntry(i, j).subtract(actual.getEntry(i, j)).norm(), tolerance);
+            }
+        }
+    }
+
+    private void checkEquals(final FieldVector<Complex> expected, final FieldVector<Complex> actual,
+                             final double tolerance) {
+        assertEquals(expected.getDimension(), actual.getDimension());
+        for (int i = 0; i < expected.getDimension(); ++i) {
+            assertEquals(0, expected.getEntry(i).subtract(actual.getEntry(i)).norm(), tolerance);
+        }
+    }
+
+    private FieldMatrix<Complex> generic(final ComplexMatrix m) {
+        return new Array2DRowFieldMatrix<>(m.getData());
+    }
+
+    private ComplexMatrix createMatrix(final RandomGenerator random, final int rows, final int columns) {
+        final ComplexMatrix m = new ComplexMatrix(rows, columns);
+        for (int k = 0; k < rows * columns; ++k) {
+            m.getRealRef()[k]      = 2 * random.nextDouble() - 1;
+            m.getImaginaryRef()[k] = 2 * random.nextDouble() - 1;
+        }
+        return m;
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ComplexQRDecompositionTest {
+
+    @Test
+    void testDimensions() {
+        final RandomGenerator random = new Well1024a(0x57c2e0a94d1b6f38l);
+        for (final int[] dims : new int[][] { { 6, 6 }, { 9, 4 }, { 4, 9 } }) {
+            final ComplexMatrix a = createMatrix(random, dims[0], dims[1]);
+            final ComplexQRDecomposition qr = new ComplexQRDecomposition(a);
+            final ComplexMatrix q = qr.getQ();
+            final ComplexMatrix r = qr.getR();
+            assertEquals(dims[0], q.getRowDimension());
+            assertEquals(dims[0], q.getColumnDimension());
+            assertEquals(dims[0], r.getRowDimension());
+            assertEquals(dims[1], r.getColumnDimension());
+
+            // A = QR, Q unitary, R upper triangular
+            checkEquals(a, q.multiply(r), 1.0e-14);
+            checkEquals(identity(dims[0]), qr.getQH().multiply(q), 1.0e-14);
+            for (int i = 0; i < dims[0]; ++i) {
+                for (int j = 0; j < i && j < dims[1]; ++j) {
+                    assertEquals(Complex.ZERO, r.getEntry(i, j));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLeastSquares() {
+        final RandomGenerator random = new Well1024a(0xa30f6d2b8e4c9175l);
+        final ComplexMatrix a = createMatrix(random, 20, 6);
+        final ComplexVector b = new ComplexVector(createMatrix(random, 20, 1).getColumnVector(0));
+        final FieldDecompositionSolver<Complex> solver = new ComplexQRDecomposition(a).getSolver();
+        assertTrue(solver.isNonSingular());
+        assertEquals(20, solver.getRowDimension());
+        assertEquals(6, solver.getColumnDimension());
+
+        // the residual of the least squares solution is orthogonal to the range of A
+        final ComplexVector x = (ComplexVector) solver.solve(b);
+        final ComplexVector residual = b.subtract(a.operate(x));
+        final ComplexVector normal   = a.conjugateTranspose().operate(residual);
+        assertEquals(0, normal.getNorm(), 1.0e-13);
+
+        // exact solutions are recovered
+        final ComplexMatrix y = createMatrix(random, 6, 3);
+        checkEquals(y, solver.solve(a.multiply(y)), 1.0e-13);
+
+        // same solution as the normal equations
+        final ComplexMatrix ah = a.conjugateTranspose();
+        final FieldVector<Complex> reference =
+                        new ComplexLUDecomposition(ah.multiply(a)).getSolver().solve(ah.operate(b));
+        for (int i = 0; i < 6; ++i) {
+            assertEquals(0, reference.getEntry(i).subtract(x.getEntry(i)).norm(), 1.0e-13);
+        }
+    }
+
+    @Test
+    void testInverse() {
+        final RandomGenerator random = new Well1024a(0x1b74c9e35d0a2f86l);
+        final ComplexMatrix a = createMatrix(random, 10, 10);
+        final FieldMatrix<Complex> inverse = new ComplexQRDecomposition(a).getSolver().getInverse();
+        checkEquals(identity(10), a.multiply(inverse), 1.0e-13);
+        checkEquals(new ComplexLUDecomposition(a).getSolver().getInverse(), inverse, 1.0e-13);
+    }
+
+    @Test
+    void testSingular() {
+        final ComplexMatrix a = new ComplexMatrix(new double[][] { { 1, 2 }, { 2, 4 }, { 0, 0 } },
+                                                  new double[][] { { 1, 2 }, { 0, 0 }, { 1, 2 } });
+        final FieldDecompositionSolver<Complex> solver = new ComplexQRDecomposition(a, 1.0e-10).getSolver();
+        assertFalse(solver.isNonSingular());
+        try {
+            solver.solve(new ComplexVector(3));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+        try {
+            solver.solve(new ComplexVector(2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    private ComplexMatrix identity(final int n) {
+        final ComplexMatrix identity = new ComplexMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            identity.setEntry(i, i, Complex.ONE);
+        }
+        return identity;
+    }
+
+    private void checkEquals(final FieldMatrix<Complex> expected, final FieldMatrix<Complex> actual,
+                             final double tolerance) {
+        assertEquals(expected.getRowDimension(),    actual.getRowDimension());
+        assertEquals(expected.getColumnDimension(), actual.getColumnDimension());
+        for (int i = 0; i < expected.getRowDimension(); ++i) {
+            for (int j = 0; j < expected.getColumnDimension(); ++j) {
+                assertEquals(0, expected.getEntry(i, j).subtract(actual.getEntry(i, j)).norm(), tolerance);
+            }
+        }
+    }
+
+    private ComplexMatrix createMatrix(final RandomGenerator random, final int rows, final int columns) {
+        final ComplexMatrix m = new ComplexMatrix(rows, columns);
+        for (int k = 0; k < rows * columns; ++k) {
+            m.getRealRef()[k]      = 2 * random.nextDouble() - 1;
+            m.getImaginaryRef()[k] = 2 * random.nextDouble() - 1;
+        }
+        return m;
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.complex.Complex;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ComplexVectorTest {
+
+    @Test
+    void testEntries() {
+        final ComplexVector v = new ComplexVector(new double[] { 1, 2, 3 }, new double[] { 0, -1, 4 });
+        assertEquals(3, v.getDimension());
+        assertEquals(new Complex(2, -1), v.getEntry(1));
+        v.setEntry(1, new Complex(5, 6));
+        assertEquals(5.0, v.getRealRef()[1], 0.0);
+        assertEquals(6.0, v.getImaginaryRef()[1], 0.0);
+        assertEquals(v, new ComplexVector(v.toArray()));
+        assertEquals(v.hashCode(), new ComplexVector(v.toArray()).hashCode());
+        assertNotEquals(v, v.conjugate());
+        assertEquals(new Complex(3, -4), v.conjugate().getEntry(2));
+        assertEquals(FastMath.sqrt(1 + 25 + 36 + 9 + 16), v.getNorm(), 1.0e-15);
+
+        final ComplexVector w = v.append(new Complex(7, 8)).append(v);
+        assertEquals(7, w.getDimension());
+        assertEquals(new Complex(7, 8), w.getEntry(3));
+        assertEquals(v, w.getSubVector(4, 3));
+        w.setSubVector(0, new ArrayFieldVector<>(new Complex[] { Complex.I, Complex.ONE }));
+        assertEquals(Complex.I, w.getEntry(0));
+        w.set(Complex.ONE);
+        assertEquals(Complex.ONE, w.getEntry(6));
+
+        try {
+            v.getEntry(3);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.INDEX, miae.getSpecifier());
+        }
+        try {
+            v.add(new ComplexVector(2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testArithmetic() {
+        final RandomGenerator random = new Well1024a(0x93b5d27e0a4f1c68l);
+        final ComplexVector a = createVector(random, 9);
+        final ComplexVector b = createVector(random, 9);
+        final FieldVector<Complex> ga = new ArrayFieldVector<>(a.toArray());
+        final FieldVector<Complex> gb = new ArrayFieldVector<>(b.toArray());
+        final Complex s = new Complex(0.25, -1.5);
+
+        checkEquals(ga.add(gb),         a.add(b),         1.0e-15);
+        checkEquals(ga.subtract(gb),    a.subtract(gb),   1.0e-15);
+        checkEquals(ga.mapAdd(s),       a.mapAdd(s),      1.0e-15);
+        checkEquals(ga.mapSubtract(s),  a.mapSubtract(s), 1.0e-15);
+        checkEquals(ga.mapMultiply(s),  a.mapMultiply(s), 1.0e-15);
+        checkEquals(ga.mapDivide(s),    a.mapDivide(s),   1.0e-15);
+        checkEquals(ga.mapInv(),        a.mapInv(),       1.0e-13);
+        checkEquals(ga.ebeMultiply(gb), a.ebeMultiply(b), 1.0e-15);
+        checkEquals(ga.ebeDivide(gb),   a.ebeDivide(b),   1.0e-12);
+        checkEquals(ga.projection(gb),  a.projection(b),  1.0e-14);
+        assertEquals(0, ga.dotProduct(gb).subtract(a.dotProduct(b)).norm(), 1.0e-14);
+        assertEquals(0, ga.dotProduct(gb).subtract(a.dotProduct(gb)).norm(), 1.0e-14);
+        assertEquals(0, a.conjugate().dotProduct(b).subtract(a.hermitianProduct(b)).norm(), 1.0e-14);
+        assertEquals(a.getNorm() * a.getNorm(), a.hermitianProduct(a).getReal(), 1.0e-14);
+        assertEquals(0, a.hermitianProduct(a).getImaginary(), 1.0e-15);
+
+        final FieldMatrix<Complex> outer = a.outerProduct(b);
+        final FieldMatrix<Complex> reference = ga.outerProduct(gb);
+        for (int i = 0; i < 9; ++i) {
+            for (int j = 0; j < 9; ++j) {
+                assertEquals(0, reference.getEntry(i, j).subtract(outer.getEntry(i, j)).norm(), 1.0e-15);
+            }
+        }
+    }
+
+    private void checkEquals(final FieldVector<Complex> expected, final FieldVector<Complex> actual,
+                             final double tolerance) {
+        assertEquals(expected.getDimension(), actual.getDimension());
+        for (int i = 0; i < expected.getDimension(); ++i) {
+            assertEquals(0, expected.getEntry(i).subtract(actual.getEntry(i)).norm(), tolerance);
+        }
+    }
+
+    private ComplexVector createVector(final RandomGenerator random, final int n) {
+        final ComplexVector v = new ComplexVector(n);
+        for (int i = 0; i < n; ++i) {
+            v.getRealRef()[i]      = 2 * random.nextDouble() - 1;
+            v.getImaginaryRef()[i] = 2 * random.nextDouble() - 1;
+        }
+        return v;
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.UnitTestUtils;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.hipparchus.linear.CompressedRowRealMatrixTest.createRandomSparseMatrix;
+import static org.hipparchus.linear.CompressedRowRealMatrixTest.createRandomVector;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class CompressedColumnRealMatrixTest {
+
+    private final double[][] data = {
+        { 1.0, 0.0, 2.0, 0.0 },
+        { 0.0, 0.0, 0.0, 0.0 },
+        { 0.0, 3.0, 5.0, 4.0 }
+    };
+
+    @Test
+    void testStorage() {
+        final CompressedColumnRealMatrix csc = new CompressedColumnRealMatrix(MatrixUtils.createRealMatrix(data));
+        assertEquals(3, csc.getRowDimension());
+        assertEquals(4, csc.getColumnDimension());
+        assertEquals(5, csc.getNonZeroCount());
+        assertArrayEquals(new int[] { 0, 1, 2, 4, 5 }, csc.getPointersRef());
+        assertArrayEquals(new int[] { 0, 2, 0, 2, 2 }, csc.getIndicesRef());
+        assertArrayEquals(new double[] { 1.0, 3.0, 2.0, 5.0, 4.0 }, csc.getValuesRef(), 0.0);
+        for (int j = 0; j < data[0].length; ++j) {
+            for (int i = 0; i < data.length; ++i) {
+                assertEquals(data[i][j], csc.getEntry(i, j), 0.0);
+                assertEquals(data[i][j], csc.getColumn(j)[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testArraysConstructor() {
+        final CompressedColumnRealMatrix csc =
+                        new CompressedColumnRealMatrix(3, 4, new int[] { 0, 1, 2, 4, 5 }, new int[] { 0, 2, 0, 2, 2 },
+                                                       new double[] { 1.0, 3.0, 2.0, 5.0, 4.0 });
+        assertEquals(MatrixUtils.createRealMatrix(data), csc);
+        try {
+            new CompressedColumnRealMatrix(3, 4, new int[] { 0, 1, 2, 4, 5 }, new int[] { 0, 2, 0, 3, 2 },
+                                           new double[] { 1.0, 3.0, 2.0, 5.0, 4.0 });
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testImmutable() {
+        try {
+            new CompressedColumnRealMatrix(MatrixUtils.createRealMatrix(data)).setEntry(0, 0, 1.0);
+            fail("an exception should have been thrown");
+        } catch (MathRuntimeException mre) {
+            assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, mre.getSpecifier());
+        }
+    }
+
+    @Test
+    void testConversions() {
+        final RealMatrix                 dense = MatrixUtils.createRealMatrix(data);
+        final CompressedColumnRealMatrix csc   = new CompressedColumnRealMatrix(dense);
+        assertEquals(dense, new CompressedColumnRealMatrix(csc));
+        assertEquals(dense, new CompressedColumnRealMatrix(new CompressedRowRealMatrix(dense)));
+        assertEquals(dense, csc.copy());
+        assertEquals(dense.transpose(), csc.transpose());
+        assertSame(csc.getIndicesRef(), csc.transpose().getIndicesRef());
+        assertEquals(dense.scalarMultiply(-0.5), csc.scalarMultiply(-0.5));
+    }
+
+    @Test
+    void testOperate() {
+        final RandomGenerator random = new Well1024a(0x83e5a0c7d2b94f16l);
+        final RealMatrix                 dense = createRandomSparseMatrix(random, 37, 41, 0.1);
+        final CompressedColumnRealMatrix csc   = new CompressedColumnRealMatrix(dense);
+        final double[] u = createRandomVector(random, 41);
+        final double[] v = createRandomVector(random, 37);
+        assertArrayEquals(dense.operate(u), csc.operate(u), 1.0e-14);
+        assertArrayEquals(dense.preMultiply(v), csc.preMultiply(v), 1.0e-14);
+        assertArrayEquals(dense.preMultiply(v), csc.operateTranspose(new ArrayRealVector(v)).toArray(), 1.0e-14);
+        try {
+            csc.operate(v);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testProducts() {
+        final RandomGenerator random = new Well1024a(0x1b7d4e9a6c3f0258l);
+        final RealMatrix a = createRandomSparseMatrix(random, 23, 17, 0.2);
+        final RealMatrix b = createRandomSparseMatrix(random, 17, 29, 0.2);
+        final RealMatrix c = createRandomSparseMatrix(random, 23, 29, 0.2);
+        final RealMatrix d = createRandomSparseMatrix(random, 29, 17, 0.2);
+        final CompressedColumnRealMatrix cscA = new CompressedColumnRealMatrix(a);
+        final CompressedColumnRealMatrix cscB = new CompressedColumnRealMatrix(b);
+        checkEquals(a.multiply(b), cscA.multiply(b));
+        checkEquals(a.multiply(b), cscA.multiply(cscB));
+        checkEquals(a.transposeMultiply(c), cscA.transposeMultiply(c));
+        checkEquals(a.multiplyTransposed(d), cscA.multiplyTransposed(d));
+        assertTrue(cscA.multiply((RealMatrix) cscB) instanceof CompressedColumnRealMatrix);
+    }
+
+    @Test
+    void testAddSubtract() {
+        final RandomGenerator random = new Well1024a(0x5c0e2a8f4d6b7913l);
+        final RealMatrix a = createRandomSparseMatrix(random, 19, 13, 0.3);
+        final RealMatrix b = createRandomSparseMatrix(random, 19, 13, 0.3);
+        final CompressedColumnRealMatrix cscA = new CompressedColumnRealMatrix(a);
+        final CompressedColumnRealMatrix cscB = new CompressedColumnRealMatrix(b);
+        checkEquals(a.add(b), cscA.add(cscB));
+        checkEquals(a.subtract(b), cscA.subtract(cscB));
+        checkEquals(a.add(b), cscA.add(b));
+        checkEquals(a.subtract(b), cscA.subtract(b));
+    }
+
+    @Test
+    void testSerial() {
+        final CompressedColumnRealMatrix csc = new CompressedColumnRealMatrix(MatrixUtils.createRealMatrix(data));
+        assertEquals(csc, UnitTestUtils.serializeAndRecover(csc));
+    }
+
+    private void checkEquals(final RealMatrix expected, final RealMatrix actual) {
+        assertEquals(expected.getRowDimension(),    actual.getRowDimension());
+        assertEquals(expected.getColumnDimension(), actual.getColumnDimension());
+        assertEquals(0.0, expected.subtract(actual).getNorm1(), 1.0e-13);
+    }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class CompressedRealMatrixBuilderTest {
+
+    @Test
+    void testWrongDimensions() {
+        try {
+            new CompressedRealMatrixBuilder(0, 3);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.AT_LEAST_ONE_ROW, miae.getSpecifier());
+        }
+        try {
+            new CompressedRealMatrixBuilder(3, 0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.AT_LEAST_ONE_COLUMN, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testWrongIndices() {
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(3, 4);
+        try {
+            builder.addEntry(3, 0, 1.0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        try {
+            builder.addEntry(0, -1, 1.0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.COLUMN_INDEX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testDuplicatesAreSummed() {
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(2, 3, 1);
+        builder.addEntry(1, 2, 1.0).addEntry(0, 1, 2.0).addEntry(1, 0, 3.0).
+                addEntry(1, 2, 4.0).addEntry(0, 1, -2.0).addEntry(1, 2, 0.5);
+        assertEquals(6, builder.getSize());
+
+        final CompressedRowRealMatrix csr = builder.buildCompressedRow();
+        assertArrayEquals(new int[] { 0, 1, 3 }, csr.getPointersRef());
+        assertArrayEquals(new int[] { 1, 0, 2 }, csr.getIndicesRef());
+        assertArrayEquals(new double[] { 0.0, 3.0, 5.5 }, csr.getValuesRef(), 0.0);
+
+        final CompressedColumnRealMatrix csc = builder.buildCompressedColumn();
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, csc.getPointersRef());
+        assertArrayEquals(new int[] { 1, 0, 1 }, csc.getIndicesRef());
+        assertArrayEquals(new double[] { 3.0, 0.0, 5.5 }, csc.getValuesRef(), 0.0);
+
+        assertEquals(0, builder.clear().getSize());
+        assertEquals(0, builder.buildCompressedRow().getNonZeroCount());
+    }
+
+    @Test
+    void testRandomTriplets() {
+        final RandomGenerator random = new Well1024a(0xa4c18e3b70f2d659l);
+        final int rows    = 57;
+        final int columns = 43;
+        final RealMatrix expected = MatrixUtils.createRealMatrix(rows, columns);
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(rows, columns);
+        for (int k = 0; k < 1000; ++k) {
+            final int    i = random.nextInt(rows);
+            final int    j = random.nextInt(columns);
+            final double v = random.nextDouble();
+            expected.addToEntry(i, j, v);
+            builder.addEntry(i, j, v);
+        }
+        assertEquals(builder.getRowDimension(),    rows);
+        assertEquals(builder.getColumnDimension(), columns);
+        assertEquals(0.0, expected.subtract(builder.buildCompressedRow()).getNorm1(),    1.0e-14);
+        assertEquals(0.0, expected.subtract(builder.buildCompressedColumn()).getNorm1(), 1.0e-14);
+    }
+
+}
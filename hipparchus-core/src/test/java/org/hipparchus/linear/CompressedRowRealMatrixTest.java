@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.UnitTestUtils;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class CompressedRowRealMatrixTest {
+
+    private final double[][] data = {
+        { 1.0, 0.0, 2.0, 0.0 },
+        { 0.0, 0.0, 0.0, 0.0 },
+        { 0.0, 3.0, 0.0, 4.0 }
+    };
+
+    @Test
+    void testStorage() {
+        final CompressedRowRealMatrix csr = new CompressedRowRealMatrix(MatrixUtils.createRealMatrix(data));
+        assertEquals(3, csr.getRowDimension());
+        assertEquals(4, csr.getColumnDimension());
+        assertEquals(4, csr.getNonZeroCount());
+        assertArrayEquals(new int[] { 0, 2, 2, 4 }, csr.getPointersRef());
+        assertArrayEquals(new int[] { 0, 2, 1, 3 }, csr.getIndicesRef());
+        assertArrayEquals(new double[] { 1.0, 2.0, 3.0, 4.0 }, csr.getValuesRef(), 0.0);
+        for (int i = 0; i < data.length; ++i) {
+            assertArrayEquals(data[i], csr.getRow(i), 0.0);
+            for (int j = 0; j < data[i].length; ++j) {
+                assertEquals(data[i][j], csr.getEntry(i, j), 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testArraysConstructor() {
+        final CompressedRowRealMatrix csr =
+                        new CompressedRowRealMatrix(3, 4, new int[] { 0, 2, 2, 4 }, new int[] { 0, 2, 1, 3 },
+                                                    new double[] { 1.0, 2.0, 3.0, 4.0 });
+        assertEquals(MatrixUtils.createRealMatrix(data), csr);
+    }
+
+    @Test
+    void testInconsistentArrays() {
+        checkInconsistent(new int[] { 0, 2, 2 },    new int[] { 0, 2, 1, 3 }, LocalizedCoreFormats.DIMENSIONS_MISMATCH);
+        checkInconsistent(new int[] { 1, 2, 2, 4 }, new int[] { 0, 2, 1, 3 }, LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE);
+        checkInconsistent(new int[] { 0, 2, 2, 3 }, new int[] { 0, 2, 1, 3 }, LocalizedCoreFormats.DIMENSIONS_MISMATCH);
+        checkInconsistent(new int[] { 0, 3, 2, 4 }, new int[] { 0, 1, 2, 3 }, LocalizedCoreFormats.NOT_INCREASING_SEQUENCE);
+        checkInconsistent(new int[] { 0, 2, 2, 4 }, new int[] { 0, 2, 1, 4 }, LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE);
+        checkInconsistent(new int[] { 0, 2, 2, 4 }, new int[] { 2, 0, 1, 3 }, LocalizedCoreFormats.NOT_STRICTLY_INCREASING_SEQUENCE);
+    }
+
+    private void checkInconsistent(final int[] pointers, final int[] indices, final LocalizedCoreFormats expected) {
+        try {
+            new CompressedRowRealMatrix(3, 4, pointers, indices, new double[] { 1.0, 2.0, 3.0, 4.0 });
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(expected, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testImmutable() {
+        final CompressedRowRealMatrix csr = new CompressedRowRealMatrix(MatrixUtils.createRealMatrix(data));
+        try {
+            csr.setEntry(0, 0, 1.0);
+            fail("an exception should have been thrown");
+        } catch (MathRuntimeException mre) {
+            assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, mre.getSpecifier());
+        }
+        try {
+            csr.addToEntry(0, 0, 1.0);
+            fail("an exception should have been thrown");
+        } catch (MathRuntimeException mre) {
+            assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, mre.getSpecifier());
+        }
+        try {
+            csr.multiplyEntry(0, 0, 1.0);
+            fail("an exception should have been thrown");
+        } catch (MathRuntimeException mre) {
+            assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, mre.getSpecifier());
+        }
+    }
+
+    @Test
+    void testConversions() {
+        final RealMatrix              dense = MatrixUtils.createRealMatrix(data);
+        final CompressedRowRealMatrix csr   = new CompressedRowRealMatrix(dense);
+        assertEquals(dense, new CompressedRowRealMatrix(csr));
+        assertEquals(dense, new CompressedRowRealMatrix(new CompressedColumnRealMatrix(dense)));
+        assertEquals(dense, csr.copy());
+        assertEquals(dense.transpose(), csr.transpose());
+        assertSame(csr.getValuesRef(), csr.transpose().getValuesRef());
+        assertEquals(dense.scalarMultiply(2.5), csr.scalarMultiply(2.5));
+    }
+
+    @Test
+    void testOperate() {
+        final RandomGenerator random = new Well1024a(0x4a1c6b3f8e0d2957l);
+        final RealMatrix              dense = createRandomSparseMatrix(random, 47, 31, 0.1);
+        final CompressedRowRealMatrix csr   = new CompressedRowRealMatrix(dense);
+        final double[] u = createRandomVector(random, 31);
+        final double[] v = createRandomVector(random, 47);
+        assertArrayEquals(dense.operate(u), csr.operate(u), 1.0e-14);
+        assertArrayEquals(dense.preMultiply(v), csr.preMultiply(v), 1.0e-14);
+        assertArrayEquals(dense.operate(u), csr.operate(new ArrayRealVector(u)).toArray(), 1.0e-14);
+        assertArrayEquals(dense.operate(u), csr.operate(new OpenMapRealVector(u)).toArray(), 1.0e-14);
+        assertArrayEquals(dense.preMultiply(v), csr.preMultiply(new ArrayRealVector(v)).toArray(), 1.0e-14);
+        assertTrue(csr.isTransposable());
+        assertArrayEquals(dense.preMultiply(v), csr.operateTranspose(new ArrayRealVector(v)).toArray(), 1.0e-14);
+        try {
+            csr.operate(v);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            csr.preMultiply(u);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testProducts() {
+        final RandomGenerator random = new Well1024a(0x6d3e1b0a7c4f9285l);
+        final RealMatrix a = createRandomSparseMatrix(random, 23, 17, 0.2);
+        final RealMatrix b = createRandomSparseMatrix(random, 17, 29, 0.2);
+        final RealMatrix c = createRandomSparseMatrix(random, 23, 29, 0.2);
+        final RealMatrix d = createRandomSparseMatrix(random, 29, 17, 0.2);
+        final CompressedRowRealMatrix csrA = new CompressedRowRealMatrix(a);
+        final CompressedRowRealMatrix csrB = new CompressedRowRealMatrix(b);
+        checkEquals(a.multiply(b), csrA.multiply(b));
+        checkEquals(a.multiply(b), csrA.multiply(csrB));
+        checkEquals(a.multiply(b), csrA.multiply((RealMatrix) csrB));
+        checkEquals(a.transposeMultiply(c), csrA.transposeMultiply(c));
+        checkEquals(a.multiplyTransposed(d), csrA.multiplyTransposed(d));
+        assertTrue(csrA.multiply((RealMatrix) csrB) instanceof CompressedRowRealMatrix);
+    }
+
+    @Test
+    void testAddSubtract() {
+        final RandomGenerator random = new Well1024a(0x2f8b5d7e1a3c9064l);
+        final RealMatrix a = createRandomSparseMatrix(random, 19, 13, 0.3);
+        final RealMatrix b = createRandomSparseMatrix(random, 19, 13, 0.3);
+        final CompressedRowRealMatrix csrA = new CompressedRowRealMatrix(a);
+        final CompressedRowRealMatrix csrB = new CompressedRowRealMatrix(b);
+        checkEquals(a.add(b), csrA.add(csrB));
+        checkEquals(a.subtract(b), csrA.subtract(csrB));
+        checkEquals(a.add(b), csrA.add(b));
+        checkEquals(a.subtract(b), csrA.subtract(b));
+        assertTrue(csrA.add((RealMatrix) csrB) instanceof CompressedRowRealMatrix);
+        try {
+            csrA.add(new CompressedRowRealMatrix(createRandomSparseMatrix(random, 19, 12, 0.3)));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testConjugateGradient() {
+        // 1D Laplacian, which is symmetric positive definite
+        final int n = 200;
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n, 3 * n);
+        for (int i = 0; i < n; ++i) {
+            builder.addEntry(i, i, 2.0);
+            if (i > 0) {
+                builder.addEntry(i, i - 1, -1.0);
+                builder.addEntry(i - 1, i, -1.0);
+            }
+        }
+        final CompressedRowRealMatrix laplacian = builder.buildCompressedRow();
+        final RealVector expected = new ArrayRealVector(n, 1.0);
+        final RealVector b        = laplacian.operate(expected);
+        final RealVector x        = new ConjugateGradient(1000, 1.0e-12, false).solve(laplacian, b);
+        assertEquals(0.0, x.subtract(expected).getLInfNorm(), 1.0e-8);
+    }
+
+    @Test
+    void testSerial() {
+        final CompressedRowRealMatrix csr = new CompressedRowRealMatrix(MatrixUtils.createRealMatrix(data));
+        assertEquals(csr, UnitTestUtils.serializeAndRecover(csr));
+    }
+
+    private void checkEquals(final RealMatrix expected, final RealMatrix actual) {
+        assertEquals(expected.getRowDimension(),    actual.getRowDimension());
+        assertEquals(expected.getColumnDimension(), actual.getColumnDimension());
+        assertEquals(0.0, expected.subtract(actual).getNorm1(), 1.0e-13);
+    }
+
+    static RealMatrix createRandomSparseMatrix(final RandomGenerator random,
+                                               final int rows, final int columns,
+                                               final double density) {
+        final RealMatrix m = MatrixUtils.createRealMatrix(rows, columns);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                if (random.nextDouble() < density) {
+                    m.setEntry(i, j, 2 * random.nextDouble() - 1);
+                }
+            }
+        }
+        return m;
+    }
+
+    static double[] createRandomVector(final RandomGenerator random, final int n) {
+        final double[] v = new double[n];
+        for (int i = 0; i < n; ++i) {
+            v[i] = 2 * random.nextDouble() - 1;
+        }
+        return v;
+    }
+
+}
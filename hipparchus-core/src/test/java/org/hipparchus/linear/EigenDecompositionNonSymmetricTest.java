@@ -142,6 +142,28 @@ public class EigenDecompositionNonSymmetricTest {
         checkNonSymmetricMatrix(m);
     }
 
+    @Test
+    void testDeflatedNearlySymmetricBlock() {
+        // the Schur transformer deflates the tiny coupling between the two first
+        // eigenvalues, they must not be reported as a spurious complex pair
+        final double[][] data = {
+            { 11.236803178369248, 1.2469378709446802e-11, 0.0,                   0.0     },
+            { 1.2466751981426245e-11, 9.951013860392571,  1.1985814410532949e-5, 0.0     },
+            { 0.0,                    1.1985814410893887e-5, 9.682730615134888,  5.19e-9 },
+            { 0.0,                    0.0,                5.19e-9,               5.45    }
+        };
+        final RealMatrix m = MatrixUtils.createRealMatrix(data);
+        final EigenDecompositionNonSymmetric ed = new EigenDecompositionNonSymmetric(m);
+        final double[] reference = new EigenDecompositionSymmetric(m.add(m.transpose()).scalarMultiply(0.5)).getEigenvalues();
+        final Complex[] eigenvalues = ed.getEigenvalues();
+        Arrays.sort(eigenvalues, (c1, c2) -> Double.compare(c2.getReal(), c1.getReal()));
+        for (int i = 0; i < reference.length; ++i) {
+            assertEquals(reference[i], eigenvalues[i].getReal(), 1.0e-12);
+            assertEquals(0.0, eigenvalues[i].getImaginary(), 0.0);
+        }
+        checkNonSymmetricMatrix(m);
+    }
+
     @Test
     void testNormalDistributionNonSymmetricMatrix() {
         for (int run = 0; run < 100; run++) {
@@ -33,6 +33,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -601,6 +602,132 @@ public class EigenDecompositionSymmetricTest {
 
     }
 
+    @Test
+    void testDivideAndConquerKnownEigenvalues() {
+        // clusters of close eigenvalues trigger deflation in merge steps
+        final Random   r   = new Random(0x6c1d93f0a245e8b7l);
+        final double[] ref = new double[300];
+        for (int i = 0; i < ref.length; ++i) {
+            ref[i] = (i % 3 == 0) ? 2 * r.nextDouble() - 1 : 5 + (i % 7) + 1.0e-13 * r.nextDouble();
+        }
+        Arrays.sort(ref);
+        final RealMatrix raw = createTestMatrix(r, ref);
+        final RealMatrix m   = raw.add(raw.transpose()).scalarMultiply(0.5);
+        final EigenDecompositionSymmetric ed =
+                        new EigenDecompositionSymmetric(m, EigenDecompositionSymmetric.DEFAULT_EPSILON, true, null);
+        for (int i = 0; i < ref.length; ++i) {
+            assertEquals(ref[ref.length - i - 1], ed.getEigenvalue(i), 1.0e-11);
+        }
+        checkDecomposition(m, ed, 1.0e-13);
+    }
+
+    @Test
+    void testDivideAndConquerTridiagonal() {
+        // Wilkinson matrix W+, with pairs of extremely close eigenvalues
+        final int      n         = 201;
+        final double[] main      = new double[n];
+        final double[] secondary = new double[n - 1];
+        for (int i = 0; i < n; ++i) {
+            main[i] = FastMath.abs(i - n / 2);
+            if (i < n - 1) {
+                secondary[i] = 1.0;
+            }
+        }
+        final EigenDecompositionSymmetric ql = new EigenDecompositionSymmetric(main, secondary);
+        final EigenDecompositionSymmetric dc =
+                        new EigenDecompositionSymmetric(main, secondary, EigenDecompositionSymmetric.DEFAULT_EPSILON,
+                                                        true, null);
+        for (int i = 0; i < n; ++i) {
+            assertEquals(ql.getEigenvalue(i), dc.getEigenvalue(i), 1.0e-12);
+        }
+        final RealMatrix t = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            t.setEntry(i, i, main[i]);
+            if (i < n - 1) {
+                t.setEntry(i, i + 1, secondary[i]);
+                t.setEntry(i + 1, i, secondary[i]);
+            }
+        }
+        checkDecomposition(t, dc, 1.0e-14);
+    }
+
+    @Test
+    void testDivideAndConquerDecoupled() {
+        // null and tiny couplings lead to full deflation
+        final int      n         = 150;
+        final double[] main      = new double[n];
+        final double[] secondary = new double[n - 1];
+        for (int i = 0; i < n; ++i) {
+            main[i] = 1 + i / 40;
+            if (i < n - 1) {
+                secondary[i] = (i % 2 == 0) ? 0.0 : 1.0e-17;
+            }
+        }
+        final EigenDecompositionSymmetric dc =
+                        new EigenDecompositionSymmetric(main, secondary, EigenDecompositionSymmetric.DEFAULT_EPSILON,
+                                                        false, null);
+        for (int i = 0; i < n; ++i) {
+            assertEquals(1 + i / 40, dc.getEigenvalue(i), 1.0e-15);
+        }
+        final RealMatrix v = dc.getV();
+        assertEquals(0.0,
+                     v.transposeMultiply(v).subtract(MatrixUtils.createRealIdentityMatrix(n)).getNorm1(),
+                     1.0e-14);
+    }
+
+    @Test
+    void testDivideAndConquerParallel() {
+        final Random     r = new Random(0x19f4c2e7b08a5d63l);
+        final int        n = 600;
+        final RealMatrix m = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = i; j < n; ++j) {
+                final double x = r.nextGaussian();
+                m.setEntry(i, j, x);
+                m.setEntry(j, i, x);
+            }
+        }
+        final EigenDecompositionSymmetric serial =
+                        new EigenDecompositionSymmetric(m, EigenDecompositionSymmetric.DEFAULT_EPSILON, true, null);
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            final EigenDecompositionSymmetric parallel =
+                            new EigenDecompositionSymmetric(m, EigenDecompositionSymmetric.DEFAULT_EPSILON, true, pool);
+            // results do not depend on the number of threads
+            for (int i = 0; i < n; ++i) {
+                assertEquals(serial.getEigenvalue(i), parallel.getEigenvalue(i), 0.0);
+                assertEquals(0.0, serial.getEigenvector(i).subtract(parallel.getEigenvector(i)).getNorm(), 0.0);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        checkDecomposition(m, serial, 1.0e-13);
+    }
+
+    @Test
+    void testDivideAndConquerSmall() {
+        // below leaf size, implicit QL is used directly
+        final EigenDecompositionSymmetric ql = new EigenDecompositionSymmetric(matrix);
+        final EigenDecompositionSymmetric dc =
+                        new EigenDecompositionSymmetric(matrix, EigenDecompositionSymmetric.DEFAULT_EPSILON, true, null);
+        for (int i = 0; i < refValues.length; ++i) {
+            assertEquals(refValues[i], dc.getEigenvalue(i), 1.0e-14);
+            assertEquals(1.0, FastMath.abs(ql.getEigenvector(i).dotProduct(dc.getEigenvector(i))), 1.0e-12);
+        }
+    }
+
+    private void checkDecomposition(final RealMatrix m, final EigenDecompositionSymmetric ed,
+                                    final double tolerance) {
+        final int        n = m.getRowDimension();
+        final RealMatrix v = ed.getV();
+        assertEquals(0.0,
+                     v.transposeMultiply(v).subtract(MatrixUtils.createRealIdentityMatrix(n)).getNorm1(),
+                     tolerance * n);
+        assertEquals(0.0,
+                     m.multiply(v).subtract(v.multiply(ed.getD())).getNorm1(),
+                     tolerance * n * m.getNorm1());
+    }
+
     /**
      * Verifies that the given EigenDecomposition has eigenvalues equivalent to
      * the targetValues, ignoring the order of the values and allowing
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.analysis.differentiation.Gradient;
+import org.hipparchus.analysis.differentiation.GradientField;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class GradientFieldMatrixTest {
+
+    @Test
+    void testEntries() {
+        final GradientFieldMatrix m = new GradientFieldMatrix(2, 3, 2);
+        assertEquals(2, m.getRowDimension());
+        assertEquals(3, m.getColumnDimension());
+        assertEquals(2, m.getFreeParameters());
+        assertEquals(GradientField.getField(2), m.getField());
+        m.setEntry(1, 2, new Gradient(3.0, 1.0, -2.0));
+        m.addToEntry(1, 2, new Gradient(0.5, 0.25, 0.0));
+        assertEquals(3.5,   m.getEntry(1, 2).getValue(), 0.0);
+        assertEquals(1.25,  m.getEntry(1, 2).getPartialDerivative(0), 0.0);
+        m.multiplyEntry(1, 2, new Gradient(2.0, 0.0, 1.0));
+        assertEquals(7.0,   m.getEntry(1, 2).getValue(), 0.0);
+        assertEquals(2.5,   m.getEntry(1, 2).getPartialDerivative(0), 0.0);
+        assertEquals(-0.5,  m.getEntry(1, 2).getPartialDerivative(1), 0.0);
+        assertEquals(7.0,   m.getValueMatrix().getEntry(1, 2), 0.0);
+        assertEquals(-0.5,  m.getPartialDerivativeMatrix(1).getEntry(1, 2), 0.0);
+
+        final GradientFieldMatrix copy = m.copy();
+        m.setEntry(1, 2, Gradient.constant(2, 0.0));
+        assertEquals(2.5, copy.getEntry(1, 2).getPartialDerivative(0), 0.0);
+
+        try {
+            m.setEntry(0, 0, Gradient.constant(3, 1.0));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            m.getPartialDerivativeMatrix(2);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+        }
+        try {
+            m.getEntry(0, 3);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.COLUMN_INDEX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testFromRealMatrices() {
+        final RandomGenerator random = new Well1024a(0x93e0b5d27a4c1f68l);
+        final GradientFieldMatrix g = createMatrix(random, 4, 3, 3);
+        final GradientFieldMatrix rebuilt =
+                        new GradientFieldMatrix(g.getValueMatrix(),
+                                                g.getPartialDerivativeMatrix(0),
+                                                g.getPartialDerivativeMatrix(1),
+                                                g.getPartialDerivativeMatrix(2));
+        checkEquals(g, rebuilt, 0.0);
+        checkEquals(g, new GradientFieldMatrix(g.getData()), 0.0);
+        try {
+            new GradientFieldMatrix(g.getValueMatrix(), MatrixUtils.createRealMatrix(3, 4));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testArithmetic() {
+        final RandomGenerator random = new Well1024a(0x2f7a6c0e58b1d394l);
+        final GradientFieldMatrix a = createMatrix(random, 6, 5, 4);
+        final GradientFieldMatrix b = createMatrix(random, 6, 5, 4);
+        final GradientFieldMatrix c = createMatrix(random, 5, 3, 4);
+        final FieldMatrix<Gradient> ga = generic(a);
+        final FieldMatrix<Gradient> gb = generic(b);
+        final FieldMatrix<Gradient> gc = generic(c);
+        final Gradient s = new Gradient(1.5, 0.25, -0.5, 0.0, 2.0);
+
+        checkEquals(ga.add(gb),             a.add(b),             1.0e-15);
+        checkEquals(ga.subtract(gb),        a.subtract(b),        1.0e-15);
+        checkEquals(ga.scalarAdd(s),        a.scalarAdd(s),       1.0e-15);
+        checkEquals(ga.scalarMultiply(s),   a.scalarMultiply(s),  1.0e-15);
+        checkEquals(ga.multiply(gc),        a.multiply(c),        1.0e-14);
+        checkEquals(ga.transpose(),         a.transpose(),        0.0);
+        checkEquals(ga.transposeMultiply(gb), a.transposeMultiply(b), 1.0e-14);
+
+        // mixed operands fall back to the generic implementation
+        checkEquals(ga.multiply(gc),        a.multiply(gc),       1.0e-14);
+        checkEquals(ga.subtract(gb),        a.subtract(gb),       1.0e-15);
+
+        final Gradient[] x = gc.getRow(0);
+        checkEquals(gc.operate(x), c.operate(x), 1.0e-14);
+        final Gradient[] y = ga.getColumn(1);
+        checkEquals(ga.preMultiply(y), a.preMultiply(y), 1.0e-14);
+
+        try {
+            a.multiply(createMatrix(random, 5, 3, 2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testDerivatives() {
+        // the derivatives of a product must match finite differences
+        final RandomGenerator random = new Well1024a(0x5d18e4f9c03a72b6l);
+        final RealMatrix a0 = createRealMatrix(random, 4, 4);
+        final RealMatrix a1 = createRealMatrix(random, 4, 4);
+        final RealMatrix b0 = createRealMatrix(random, 4, 4);
+        final RealMatrix b1 = createRealMatrix(random, 4, 4);
+        final GradientFieldMatrix a = new GradientFieldMatrix(a0, a1);
+        final GradientFieldMatrix b = new GradientFieldMatrix(b0, b1);
+        final GradientFieldMatrix p = (GradientFieldMatrix) a.multiply(b);
+        final double h = 1.0e-6;
+        final RealMatrix plus  = a0.add(a1.scalarMultiply(h)).multiply(b0.add(b1.scalarMultiply(h)));
+        final RealMatrix minus = a0.subtract(a1.scalarMultiply(h)).multiply(b0.subtract(b1.scalarMultiply(h)));
+        final RealMatrix finiteDifferences = plus.subtract(minus).scalarMultiply(0.5 / h);
+        assertEquals(0.0, p.getValueMatrix().subtract(a0.multiply(b0)).getNorm1(), 1.0e-14);
+        assertEquals(0.0, p.getPartialDerivativeMatrix(0).subtract(finiteDifferences).getNorm1(), 1.0e-8);
+    }
+
+    private void checkEquals(final Gradient[] expected, final Gradient[] actual, final double tolerance) {
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; ++i) {
+            assertEquals(expected[i].getValue(), actual[i].getValue(), tolerance);
+            for (int l = 0; l < expected[i].getFreeParameters(); ++l) {
+                assertEquals(expected[i].getPartialDerivative(l), actual[i].getPartialDerivative(l), tolerance);
+            }
+        }
+    }
+
+    private void checkEquals(final FieldMatrix<Gradient> expected, final FieldMatrix<Gradient> actual,
+                             final double tolerance) {
+        assertEquals(expected.getRowDimension(),    actual.getRowDimension());
+        assertEquals(expected.getColumnDimension(), actual.getColumnDimension());
+        for (int i = 0; i < expected.getRowDimension(); ++i) {
+            for (int j = 0; j < expected.getColumnDimension(); ++j) {
+                final Gradient e = expected.getEntry(i, j);
+                final Gradient a = actual.getEntry(i, j);
+                assertEquals(e.getValue(), a.getValue(), tolerance);
+                for (int l = 0; l < e.getFreeParameters(); ++l) {
+                    assertEquals(e.getPartialDerivative(l), a.getPartialDerivative(l), tolerance);
+                }
+            }
+        }
+    }
+
+    private FieldMatrix<Gradient> generic(final GradientFieldMatrix m) {
+        return new BlockFieldMatrix<>(m.getData());
+    }
+
+    private GradientFieldMatrix createMatrix(final RandomGenerator random,
+                                             final int rows, final int columns, final int parameters) {
+        final RealMatrix[] derivatives = new RealMatrix[parameters];
+        for (int l = 0; l < parameters; ++l) {
+            derivatives[l] = createRealMatrix(random, rows, columns);
+        }
+        return new GradientFieldMatrix(createRealMatrix(random, rows, columns), derivatives);
+    }
+
+    private RealMatrix createRealMatrix(final RandomGenerator random, final int rows, final int columns) {
+        final RealMatrix m = MatrixUtils.createRealMatrix(rows, columns);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                m.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return m;
+    }
+
+}
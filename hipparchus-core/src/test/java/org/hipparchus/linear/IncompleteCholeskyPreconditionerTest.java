@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class IncompleteCholeskyPreconditionerTest {
+
+    @Test
+    void testNonSquare() {
+        try {
+            new IncompleteCholeskyPreconditioner(MatrixUtils.createRealMatrix(3, 2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testNegativeShift() {
+        try {
+            new IncompleteCholeskyPreconditioner(SparseCholeskyDecompositionTest.createDiagonal(3, 1.0), -0.1);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testBreakdown() {
+        final RealMatrix indefinite = MatrixUtils.createRealMatrix(new double[][] {
+            { 1.0, 2.0 }, { 2.0, 1.0 }
+        });
+        try {
+            new IncompleteCholeskyPreconditioner(indefinite);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testExactOnTridiagonal() {
+        // there is no fill-in for tridiagonal matrices, so IC(0) is the exact inverse
+        final int n = 20;
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n);
+        for (int i = 0; i < n; ++i) {
+            builder.addEntry(i, i, 2.5);
+            if (i > 0) {
+                builder.addEntry(i, i - 1, -1.0).addEntry(i - 1, i, -1.0);
+            }
+        }
+        final CompressedRowRealMatrix a = builder.buildCompressedRow();
+        final IncompleteCholeskyPreconditioner ic = new IncompleteCholeskyPreconditioner(a);
+        final RandomGenerator random = new Well1024a(0x7a3c19e25d08b461l);
+        final double[] x = CompressedRowRealMatrixTest.createRandomVector(random, n);
+        assertArrayEquals(x, ic.operate(new ArrayRealVector(a.operate(x))).toArray(), 1.0e-13);
+        assertArrayEquals(x, ic.operateTranspose(new ArrayRealVector(a.operate(x))).toArray(), 1.0e-13);
+        assertTrue(ic.isTransposable());
+    }
+
+    @Test
+    void testOperateIntoDestination() {
+        final RandomGenerator random = new Well1024a(0x4be0c2917f3a56d8l);
+        final CompressedRowRealMatrix a =
+                        CompressedRowRealMatrix.compress(SparseCholeskyDecompositionTest.createRandomSPD(random, 60, 0.1));
+        final IncompleteCholeskyPreconditioner ic = new IncompleteCholeskyPreconditioner(a);
+        final RealVector x        = new ArrayRealVector(CompressedRowRealMatrixTest.createRandomVector(random, 60));
+        final RealVector expected = ic.operate(x);
+
+        final RealVector out = new ArrayRealVector(60);
+        assertSame(out, ic.operate(x, out));
+        assertArrayEquals(expected.toArray(), out.toArray(), 0.0);
+
+        // aliased destination and destination of a different type
+        final RealVector alias = x.copy();
+        assertSame(alias, ic.operate(alias, alias));
+        assertArrayEquals(expected.toArray(), alias.toArray(), 0.0);
+        final RealVector sparse = new OpenMapRealVector(60);
+        assertSame(sparse, ic.operate(x, sparse));
+        assertArrayEquals(expected.toArray(), sparse.toArray(), 0.0);
+
+        try {
+            ic.operate(x, new ArrayRealVector(59));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testPatternPreserved() {
+        // L L^T matches A on the sparsity pattern of A
+        final CompressedColumnRealMatrix a  = SparseCholeskyDecompositionTest.createLaplacian(12);
+        final CompressedRowRealMatrix    l  = new IncompleteCholeskyPreconditioner(a).getL();
+        final RealMatrix                 ll = l.multiplyTransposed(l);
+        for (int j = 0; j < a.getColumnDimension(); ++j) {
+            for (int p = a.getPointersRef()[j]; p < a.getPointersRef()[j + 1]; ++p) {
+                final int i = a.getIndicesRef()[p];
+                assertEquals(a.getValuesRef()[p], ll.getEntry(i, j), 1.0e-14);
+            }
+        }
+        for (int i = 0; i < l.getRowDimension(); ++i) {
+            for (int j = i + 1; j < l.getColumnDimension(); ++j) {
+                assertEquals(0.0, l.getEntry(i, j), 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testShift() {
+        final CompressedColumnRealMatrix a  = SparseCholeskyDecompositionTest.createLaplacian(5);
+        final CompressedRowRealMatrix    l0 = new IncompleteCholeskyPreconditioner(a, 0.0).getL();
+        final CompressedRowRealMatrix    l1 = new IncompleteCholeskyPreconditioner(a, 0.5).getL();
+        assertEquals(2.0, l0.getEntry(0, 0), 1.0e-15);
+        assertEquals(FastMath.sqrt(6.0), l1.getEntry(0, 0), 1.0e-15);
+    }
+
+    @Test
+    void testConjugateGradientIterations() {
+        final CompressedColumnRealMatrix a = SparseCholeskyDecompositionTest.createLaplacian(40);
+        final int n = a.getRowDimension();
+        final RandomGenerator random = new Well1024a(0x2d95f3a07c1e648bl);
+        final RealVector x = new ArrayRealVector(CompressedRowRealMatrixTest.createRandomVector(random, n));
+        final RealVector b = a.operate(x);
+
+        final ConjugateGradient jacobiSolver = new ConjugateGradient(10000, 1.0e-10, true);
+        final RealVector xJacobi = jacobiSolver.solve(a, JacobiPreconditioner.create(a), b);
+        final int jacobiIterations = jacobiSolver.getIterationManager().getIterations();
+
+        final ConjugateGradient icSolver = new ConjugateGradient(10000, 1.0e-10, true);
+        final RealVector xIC = icSolver.solve(a, new IncompleteCholeskyPreconditioner(a), b);
+        final int icIterations = icSolver.getIterationManager().getIterations();
+
+        assertEquals(0.0, xJacobi.subtract(x).getLInfNorm(), 1.0e-8);
+        assertEquals(0.0, xIC.subtract(x).getLInfNorm(), 1.0e-8);
+        assertTrue(2 * icIterations < jacobiIterations, icIterations + " vs. " + jacobiIterations);
+    }
+
+}
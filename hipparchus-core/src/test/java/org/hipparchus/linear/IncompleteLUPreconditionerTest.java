@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class IncompleteLUPreconditionerTest {
+
+    @Test
+    void testNonSquare() {
+        try {
+            new IncompleteLUPreconditioner(MatrixUtils.createRealMatrix(3, 2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testMissingDiagonal() {
+        final RealMatrix a = MatrixUtils.createRealMatrix(new double[][] {
+            { 0.0, 2.0 }, { 2.0, 1.0 }
+        });
+        try {
+            new IncompleteLUPreconditioner(a);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testZeroPivot() {
+        final CompressedRowRealMatrix a = new CompressedRealMatrixBuilder(2, 2).
+                                          addEntry(0, 0, 1.0).addEntry(0, 1, 2.0).
+                                          addEntry(1, 0, 2.0).addEntry(1, 1, 4.0).
+                                          buildCompressedRow();
+        try {
+            new IncompleteLUPreconditioner(a);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testExactOnTridiagonal() {
+        // there is no fill-in for tridiagonal matrices, so ILU(0) is the exact inverse
+        final int n = 20;
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n);
+        for (int i = 0; i < n; ++i) {
+            builder.addEntry(i, i, 3.0);
+            if (i > 0) {
+                builder.addEntry(i, i - 1, -1.5).addEntry(i - 1, i, -0.5);
+            }
+        }
+        final CompressedRowRealMatrix    a   = builder.buildCompressedRow();
+        final IncompleteLUPreconditioner ilu = new IncompleteLUPreconditioner(a);
+        final RandomGenerator random = new Well1024a(0x84d1e6b2a50f397cl);
+        final double[] x = CompressedRowRealMatrixTest.createRandomVector(random, n);
+        assertArrayEquals(x, ilu.operate(new ArrayRealVector(a.operate(x))).toArray(), 1.0e-13);
+        assertArrayEquals(x, ilu.operateTranspose(new ArrayRealVector(a.preMultiply(x))).toArray(), 1.0e-13);
+        assertTrue(ilu.isTransposable());
+    }
+
+    @Test
+    void testPatternPreserved() {
+        // L U matches A on the sparsity pattern of A
+        final CompressedRowRealMatrix    a   = createConvectionDiffusion(10, 0.7);
+        final IncompleteLUPreconditioner ilu = new IncompleteLUPreconditioner(a);
+        final CompressedRowRealMatrix    l   = ilu.getL();
+        final CompressedRowRealMatrix    u   = ilu.getU();
+        final RealMatrix                 lu  = l.multiply(u);
+        for (int i = 0; i < a.getRowDimension(); ++i) {
+            assertEquals(1.0, l.getEntry(i, i), 0.0);
+            for (int p = a.getPointersRef()[i]; p < a.getPointersRef()[i + 1]; ++p) {
+                final int j = a.getIndicesRef()[p];
+                assertEquals(a.getValuesRef()[p], lu.getEntry(i, j), 1.0e-14);
+                if (j < i) {
+                    assertEquals(0.0, u.getEntry(i, j), 0.0);
+                } else if (j > i) {
+                    assertEquals(0.0, l.getEntry(i, j), 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testOperate() {
+        final CompressedRowRealMatrix    a   = createConvectionDiffusion(8, 0.3);
+        final IncompleteLUPreconditioner ilu = new IncompleteLUPreconditioner(a);
+        final RealMatrix                 lu  = ilu.getL().multiply(ilu.getU());
+        final RandomGenerator random = new Well1024a(0x1f6e3d8c07b5a924l);
+        final double[] x = CompressedRowRealMatrixTest.createRandomVector(random, a.getRowDimension());
+        assertArrayEquals(x, ilu.operate(new ArrayRealVector(lu.operate(x))).toArray(), 1.0e-12);
+        assertArrayEquals(x, ilu.operateTranspose(new ArrayRealVector(lu.preMultiply(x))).toArray(), 1.0e-12);
+        try {
+            ilu.operate(new ArrayRealVector(3));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    static CompressedRowRealMatrix createConvectionDiffusion(final int grid, final double convection) {
+        // 5-points upwind discretization of -Laplacian(u) + c (du/dx + du/dy)
+        final int n = grid * grid;
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n, 5 * n);
+        for (int i = 0; i < grid; ++i) {
+            for (int j = 0; j < grid; ++j) {
+                final int k = i * grid + j;
+                builder.addEntry(k, k, 4.0 + 2 * convection);
+                if (i > 0) {
+                    builder.addEntry(k, k - grid, -1.0 - convection);
+                }
+                if (i < grid - 1) {
+                    builder.addEntry(k, k + grid, -1.0);
+                }
+                if (j > 0) {
+                    builder.addEntry(k, k - 1, -1.0 - convection);
+                }
+                if (j < grid - 1) {
+                    builder.addEntry(k, k + 1, -1.0);
+                }
+            }
+        }
+        return builder.buildCompressedRow();
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathIllegalStateException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.random.Well19937c;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class LanczosEigenDecompositionTest {
+
+    @Test
+    void testLaplacian() {
+        final CompressedColumnRealMatrix laplacian = SparseCholeskyDecompositionTest.createLaplacian(20);
+        final LanczosEigenDecomposition  lanczos   = new LanczosEigenDecomposition(laplacian, 6);
+        final double[] reference = new EigenDecompositionSymmetric(new Array2DRowRealMatrix(laplacian.getData())).getEigenvalues();
+        assertEquals(6, lanczos.getCount());
+        for (int i = 0; i < 6; ++i) {
+            assertEquals(reference[i], lanczos.getEigenvalue(i), 1.0e-9);
+        }
+        checkEigenPairs(laplacian, lanczos, 1.0e-8);
+    }
+
+    @Test
+    void testRandomSparse() {
+        final RandomGenerator            random = new Well1024a(0x41c7e8b9d2f30a65L);
+        final CompressedColumnRealMatrix a      = SparseCholeskyDecompositionTest.createRandomSPD(random, 300, 0.02);
+        final LanczosEigenDecomposition  lanczos = new LanczosEigenDecomposition(a, 10);
+        final double[] reference = new EigenDecompositionSymmetric(new Array2DRowRealMatrix(a.getData())).getEigenvalues();
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(reference[i], lanczos.getEigenvalue(i), 1.0e-9 * reference[0]);
+        }
+        checkEigenPairs(a, lanczos, 1.0e-8);
+        assertEquals(lanczos.getEigenvalue(3), lanczos.getD().getEntry(3, 3), 0.0);
+        assertTrue(lanczos.getOperatorProducts() < 300);
+    }
+
+    @Test
+    void testMatrixFree() {
+        // 1D Laplacian, with eigenvalues 2 - 2 cos(j pi / (n + 1))
+        final int n = 500;
+        final RealLinearOperator operator = new RealLinearOperator() {
+            @Override
+            public int getRowDimension() {
+                return n;
+            }
+            @Override
+            public int getColumnDimension() {
+                return n;
+            }
+            @Override
+            public RealVector operate(final RealVector x) {
+                final RealVector y = new ArrayRealVector(n);
+                for (int i = 0; i < n; ++i) {
+                    double yi = 2 * x.getEntry(i);
+                    if (i > 0) {
+                        yi -= x.getEntry(i - 1);
+                    }
+                    if (i < n - 1) {
+                        yi -= x.getEntry(i + 1);
+                    }
+                    y.setEntry(i, yi);
+                }
+                return y;
+            }
+        };
+        final LanczosEigenDecomposition lanczos =
+                        new LanczosEigenDecomposition(operator, 4, 40,
+                                                      LanczosEigenDecomposition.DEFAULT_TOLERANCE,
+                                                      LanczosEigenDecomposition.DEFAULT_MAX_RESTARTS,
+                                                      new Well19937c(0x3b1f6ad4L));
+        for (int i = 0; i < 4; ++i) {
+            assertEquals(2 - 2 * FastMath.cos((n - i) * FastMath.PI / (n + 1)), lanczos.getEigenvalue(i), 1.0e-9);
+        }
+        checkEigenPairs(operator, lanczos, 1.0e-8);
+    }
+
+    @Test
+    void testMultipleEigenvalues() {
+        // a single Krylov sequence cannot see multiplicity, breakdown recovery must
+        final double[] diagonal = new double[50];
+        for (int i = 0; i < diagonal.length; ++i) {
+            diagonal[i] = i < 3 ? 5.0 : 1.0 / (i + 1);
+        }
+        final DiagonalMatrix            d       = new DiagonalMatrix(diagonal);
+        final LanczosEigenDecomposition lanczos = new LanczosEigenDecomposition(d, 4, 10,
+                                                                                LanczosEigenDecomposition.DEFAULT_TOLERANCE,
+                                                                                LanczosEigenDecomposition.DEFAULT_MAX_RESTARTS,
+                                                                                new Well19937c(0x7a9d3e51L));
+        assertEquals(5.0, lanczos.getEigenvalue(0), 1.0e-12);
+        assertEquals(5.0, lanczos.getEigenvalue(1), 1.0e-12);
+        assertEquals(5.0, lanczos.getEigenvalue(2), 1.0e-12);
+        assertEquals(0.25, lanczos.getEigenvalue(3), 1.0e-12);
+        checkEigenPairs(d, lanczos, 1.0e-10);
+        final RealMatrix v = lanczos.getV();
+        assertEquals(0.0, v.transposeMultiply(v).subtract(MatrixUtils.createRealIdentityMatrix(4)).getNorm1(), 1.0e-12);
+    }
+
+    @Test
+    void testFullSubspace() {
+        final Array2DRowRealMatrix a = new Array2DRowRealMatrix(new double[][] {
+            { 4, 1, 0, 2 },
+            { 1, 3, 1, 0 },
+            { 0, 1, 2, 1 },
+            { 2, 0, 1, 5 }
+        });
+        final LanczosEigenDecomposition lanczos = new LanczosEigenDecomposition(a, 4);
+        final double[] reference = new EigenDecompositionSymmetric(a).getEigenvalues();
+        for (int i = 0; i < 4; ++i) {
+            assertEquals(reference[i], lanczos.getEigenvalues()[i], 1.0e-13);
+        }
+        assertEquals(0, lanczos.getRestarts());
+        checkEigenPairs(a, lanczos, 1.0e-13);
+    }
+
+    @Test
+    void testNonSquare() {
+        try {
+            new LanczosEigenDecomposition(new Array2DRowRealMatrix(4, 3), 1);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_OPERATOR, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testWrongDimensions() {
+        final DiagonalMatrix a = new DiagonalMatrix(new double[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 });
+        for (final int k : new int[] { 0, 11 }) {
+            try {
+                new LanczosEigenDecomposition(a, k);
+                fail("an exception should have been thrown");
+            } catch (MathIllegalArgumentException miae) {
+                assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+            }
+        }
+        for (final int m : new int[] { 3, 11 }) {
+            try {
+                new LanczosEigenDecomposition(a, 3, m, 1.0e-10, 10, new Well19937c(1));
+                fail("an exception should have been thrown");
+            } catch (MathIllegalArgumentException miae) {
+                assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+            }
+        }
+    }
+
+    @Test
+    void testMaxRestarts() {
+        try {
+            new LanczosEigenDecomposition(SparseCholeskyDecompositionTest.createLaplacian(20), 6, 13,
+                                          1.0e-10, 1, new Well19937c(1));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalStateException mise) {
+            assertEquals(LocalizedCoreFormats.MAX_COUNT_EXCEEDED, mise.getSpecifier());
+            assertEquals(1, ((Integer) mise.getParts()[0]).intValue());
+        }
+    }
+
+    private void checkEigenPairs(final RealLinearOperator a, final LanczosEigenDecomposition lanczos,
+                                 final double tolerance) {
+        for (int i = 0; i < lanczos.getCount(); ++i) {
+            final RealVector x = lanczos.getEigenvector(i);
+            assertEquals(1.0, x.getNorm(), 1.0e-12);
+            final RealVector residual = a.operate(x).subtract(x.mapMultiply(lanczos.getEigenvalue(i)));
+            assertEquals(0.0, residual.getNorm(), tolerance * FastMath.max(1.0, FastMath.abs(lanczos.getEigenvalue(i))));
+        }
+    }
+
+}
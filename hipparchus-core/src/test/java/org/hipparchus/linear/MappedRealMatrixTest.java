@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.hipparchus.UnitTestUtils;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class MappedRealMatrixTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    void testCreateAndReopen() throws IOException {
+        final BlockRealMatrix reference = createRandomMatrix(new Well1024a(0x2f8e4b1d7ca03965l), 130, 107);
+        final Path file = tmp.resolve("matrix.bin");
+        try (MappedRealMatrix mapped = MappedRealMatrix.create(file, reference)) {
+            assertSame(file, mapped.getFile());
+            assertTrue(mapped.isWritable());
+            assertEquals(130, mapped.getRowDimension());
+            assertEquals(107, mapped.getColumnDimension());
+            assertEquals(reference, mapped);
+            mapped.setEntry(128, 105, 2.5);
+            mapped.addToEntry(3, 60, 1.0);
+            mapped.multiplyEntry(70, 2, -3.0);
+        }
+        reference.setEntry(128, 105, 2.5);
+        reference.addToEntry(3, 60, 1.0);
+        reference.multiplyEntry(70, 2, -3.0);
+        assertEquals(8 * 130 * 107 + 32, Files.size(file));
+
+        try (MappedRealMatrix reopened = MappedRealMatrix.open(file, false)) {
+            assertFalse(reopened.isWritable());
+            assertEquals(reference, reopened);
+            final BlockRealMatrix copy = reopened.copy();
+            assertEquals(reference, copy);
+            for (int i = 0; i < reference.getRowDimension(); i += 13) {
+                assertArrayEquals(reference.getRow(i), reopened.getRow(i), 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testZeroInitialized() throws IOException {
+        try (MappedRealMatrix mapped = MappedRealMatrix.create(tmp.resolve("zero.bin"), 60, 55)) {
+            assertEquals(0.0, mapped.getNorm1(), 0.0);
+            mapped.setRow(57, createRandomMatrix(new Well1024a(0x4b9c1e07d3a2f856l), 1, 55).getRow(0));
+            assertEquals(0.0, mapped.getRowMatrix(56).getNorm1(), 0.0);
+            assertTrue(mapped.getRowMatrix(57).getNorm1() > 0);
+        }
+    }
+
+    @Test
+    void testSeveralMappings() throws IOException {
+        // tiny mappings so each row of blocks gets its own mapping
+        final BlockRealMatrix reference = createRandomMatrix(new Well1024a(0x6d0e3a9f21c7b485l), 190, 70);
+        final Path file = tmp.resolve("chunks.bin");
+        try (MappedRealMatrix mapped = MappedRealMatrix.create(file, 190, 70, 1)) {
+            for (int i = 0; i < reference.getRowDimension(); ++i) {
+                mapped.setRow(i, reference.getRow(i));
+            }
+            assertEquals(reference, mapped);
+        }
+        try (MappedRealMatrix reopened = MappedRealMatrix.open(file, false, 2 * 52 * 70 * 8)) {
+            assertEquals(reference, reopened);
+            checkProducts(reference, reopened, new Well1024a(0x18f4c2a07e9d3b65l));
+        }
+    }
+
+    @Test
+    void testProducts() throws IOException {
+        final RandomGenerator random    = new Well1024a(0x9a3c5e71d0b24f86l);
+        final BlockRealMatrix reference = createRandomMatrix(random, 157, 61);
+        try (MappedRealMatrix mapped = MappedRealMatrix.create(tmp.resolve("products.bin"), reference)) {
+            checkProducts(reference, mapped, random);
+
+            // destination is also file-backed
+            final BlockRealMatrix m = createRandomMatrix(random, 61, 80);
+            try (MappedRealMatrix out = MappedRealMatrix.create(tmp.resolve("out.bin"), 157, 80)) {
+                assertSame(out, mapped.multiply(m, out));
+                checkEquals(reference.multiply(m), out);
+            }
+        }
+    }
+
+    @Test
+    void testWalk() throws IOException {
+        final BlockRealMatrix reference = createRandomMatrix(new Well1024a(0x3e7b09d5a1c84f26l), 75, 110);
+        try (MappedRealMatrix mapped = MappedRealMatrix.create(tmp.resolve("walk.bin"), reference)) {
+            final RealMatrixPreservingVisitor sum = new DefaultRealMatrixPreservingVisitor() {
+                private double s;
+                @Override
+                public void visit(int row, int column, double value) {
+                    s += (row + 1) * (column + 2) * value;
+                }
+                @Override
+                public double end() {
+                    final double r = s;
+                    s = 0;
+                    return r;
+                }
+            };
+            final double expected = reference.walkInRowOrder(sum);
+            assertEquals(expected, mapped.walkInOptimizedOrder(sum), 1.0e-12 * FastMath.abs(expected));
+            mapped.walkInOptimizedOrder(new DefaultRealMatrixChangingVisitor() {
+                @Override
+                public double visit(int row, int column, double value) {
+                    return value * 2 + row - column;
+                }
+            });
+            for (int i = 0; i < 75; ++i) {
+                for (int j = 0; j < 110; ++j) {
+                    assertEquals(reference.getEntry(i, j) * 2 + i - j, mapped.getEntry(i, j), 1.0e-12);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testReadOnly() throws IOException {
+        final Path file = tmp.resolve("read-only.bin");
+        MappedRealMatrix.create(file, 10, 10).close();
+        try (MappedRealMatrix mapped = MappedRealMatrix.open(file, false)) {
+            try {
+                mapped.setEntry(1, 1, 1.0);
+                fail("an exception should have been thrown");
+            } catch (MathRuntimeException mre) {
+                assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, mre.getSpecifier());
+            }
+            try {
+                mapped.setRow(1, new double[10]);
+                fail("an exception should have been thrown");
+            } catch (MathRuntimeException mre) {
+                assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, mre.getSpecifier());
+            }
+            // force is a no-op on read-only matrices
+            mapped.force();
+        }
+    }
+
+    @Test
+    void testNotAMatrixFile() throws IOException {
+        final Path tooShort = tmp.resolve("too-short.bin");
+        Files.write(tooShort, new byte[] { 1, 2, 3 });
+        checkNotAMatrixFile(tooShort);
+
+        final Path truncated = tmp.resolve("truncated.bin");
+        MappedRealMatrix.create(truncated, 20, 20).close();
+        final byte[] content = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(content, content.length - 8));
+        checkNotAMatrixFile(truncated);
+
+        final Path corrupted = tmp.resolve("corrupted.bin");
+        content[0] ^= 0x01;
+        Files.write(corrupted, content);
+        checkNotAMatrixFile(corrupted);
+    }
+
+    @Test
+    void testDimensions() throws IOException {
+        try {
+            MappedRealMatrix.create(tmp.resolve("no-rows.bin"), 0, 3);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.AT_LEAST_ONE_ROW, miae.getSpecifier());
+        }
+        try {
+            MappedRealMatrix.create(tmp.resolve("no-columns.bin"), 3, 0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.AT_LEAST_ONE_COLUMN, miae.getSpecifier());
+        }
+        try (MappedRealMatrix mapped = MappedRealMatrix.create(tmp.resolve("small.bin"), 4, 3)) {
+            try {
+                mapped.operate(new double[4]);
+                fail("an exception should have been thrown");
+            } catch (MathIllegalArgumentException miae) {
+                assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+            }
+            try {
+                mapped.transposeMultiply(new BlockRealMatrix(3, 3));
+                fail("an exception should have been thrown");
+            } catch (MathIllegalArgumentException miae) {
+                assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+            }
+        }
+    }
+
+    private void checkNotAMatrixFile(final Path file) throws IOException {
+        try {
+            MappedRealMatrix.open(file, false);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NOT_A_MAPPED_MATRIX_FILE, miae.getSpecifier());
+            assertEquals(file, miae.getParts()[0]);
+        }
+    }
+
+    private void checkProducts(final BlockRealMatrix reference, final MappedRealMatrix mapped,
+                               final RandomGenerator random) {
+        final int      rows = reference.getRowDimension();
+        final int      cols = reference.getColumnDimension();
+        final double[] v    = createRandomMatrix(random, 1, cols).getRow(0);
+        final double[] u    = createRandomMatrix(random, 1, rows).getRow(0);
+        checkEquals(reference.operate(v), mapped.operate(v));
+        checkEquals(reference.preMultiply(u), mapped.preMultiply(u));
+        checkEquals(reference.operate(v), mapped.operate(new ArrayRealVector(v)).toArray());
+
+        final BlockRealMatrix m = createRandomMatrix(random, cols, 57);
+        checkEquals(reference.multiply(m), mapped.multiply(m));
+        final BlockRealMatrix n = createRandomMatrix(random, rows, 9);
+        checkEquals(reference.transposeMultiply(n), mapped.transposeMultiply(n));
+        checkEquals(reference.transposeMultiply(reference), mapped.transposeMultiply(mapped));
+    }
+
+    private void checkEquals(final double[] expected, final double[] actual) {
+        final double scale = new ArrayRealVector(expected, false).getLInfNorm();
+        assertArrayEquals(expected, actual, 1.0e-14 * scale);
+    }
+
+    private void checkEquals(final RealMatrix expected, final RealMatrix actual) {
+        UnitTestUtils.customAssertEquals("product", expected, actual, 1.0e-14 * expected.getNorm1());
+    }
+
+    private static BlockRealMatrix createRandomMatrix(final RandomGenerator random, final int rows, final int cols) {
+        final BlockRealMatrix m = new BlockRealMatrix(rows, cols);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < cols; ++j) {
+                m.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return m;
+    }
+
+}
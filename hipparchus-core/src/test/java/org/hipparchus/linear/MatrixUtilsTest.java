@@ -31,9 +31,11 @@ import org.hipparchus.exception.NullArgumentException;
 import org.hipparchus.fraction.BigFraction;
 import org.hipparchus.fraction.Fraction;
 import org.hipparchus.fraction.FractionField;
+import org.hipparchus.random.Well1024a;
 import org.hipparchus.util.Binary64;
 import org.hipparchus.util.Binary64Field;
 import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathArrays;
 import org.hipparchus.util.Precision;
 import org.junit.jupiter.api.Test;
 
@@ -978,6 +980,30 @@ public final class MatrixUtilsTest {
         }
     }
 
+    @Test
+    void testDotProduct() {
+        final Well1024a random = new Well1024a(0x7c3e9a15d08b24f6l);
+        for (int n = 0; n < 40; ++n) {
+            final double[] a = new double[n];
+            final double[] b = new double[n];
+            double magnitude = 0;
+            for (int i = 0; i < n; ++i) {
+                a[i] = 2 * random.nextDouble() - 1;
+                b[i] = 2 * random.nextDouble() - 1;
+                magnitude += FastMath.abs(a[i] * b[i]);
+            }
+            // reordering the additions stays within the recursive summation error bound
+            final double accurate = n == 0 ? 0.0 : MathArrays.linearCombination(a, b);
+            assertEquals(accurate, MatrixUtils.dotProduct(a, 0, b, 0, n), n * Precision.EPSILON * magnitude);
+            if (n > 3) {
+                assertEquals(MatrixUtils.dotProduct(Arrays.copyOfRange(a, 2, n - 1), 0, Arrays.copyOfRange(b, 3, n), 0, n - 3),
+                             MatrixUtils.dotProduct(a, 2, b, 3, n - 3),
+                             0.0);
+            }
+        }
+        assertEquals(6.0, MatrixUtils.dotProduct(new double[] { 1, 2, 3 }, 0, new double[] { 3, 0, 1 }, 0, 3), 0.0);
+    }
+
     private <T extends CalculusFieldElement<T>> void checkBasis(final Field<T> field, final List<FieldVector<T>> basis) {
         for (int i = 0; i < basis.size(); ++i) {
             for (int j = i; j < basis.size(); ++j) {
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class MatrixVectorViewTest {
+
+    @Test
+    void testRowView() {
+        for (final RealMatrix parent : SubMatrixViewTest.createParents(0x93a4c05e7b16fd82l)) {
+            final RealVector row = parent.getRowVectorView(4);
+            assertEquals(20, row.getDimension());
+            assertEquals(parent.getRowVector(4), row);
+            assertEquals(parent.getRowVector(4).hashCode(), row.hashCode());
+            assertArrayEquals(parent.getRow(4), row.toArray(), 0.0);
+
+            row.setEntry(3, 12.0);
+            row.addToEntry(3, 1.0);
+            assertEquals(13.0, parent.getEntry(4, 3), 0.0);
+            parent.setEntry(4, 7, -2.0);
+            assertEquals(-2.0, row.getEntry(7), 0.0);
+
+            // copies are independent of the parent
+            final RealVector copy = row.copy();
+            row.setEntry(7, 5.0);
+            assertEquals(-2.0, copy.getEntry(7), 0.0);
+
+            row.setSubVector(17, new ArrayRealVector(new double[] { 1, 2, 3 }));
+            assertArrayEquals(new double[] { 1, 2, 3 }, parent.getSubMatrix(4, 4, 17, 19).getRow(0), 0.0);
+            assertArrayEquals(new double[] { 2, 3 }, row.getSubVector(18, 2).toArray(), 0.0);
+        }
+    }
+
+    @Test
+    void testColumnView() {
+        for (final RealMatrix parent : SubMatrixViewTest.createParents(0x1be6f72d93c40a58l)) {
+            final RealVector column = parent.getColumnVectorView(6);
+            assertEquals(17, column.getDimension());
+            assertEquals(parent.getColumnVector(6), column);
+            column.setEntry(2, 4.0);
+            assertEquals(4.0, parent.getEntry(2, 6), 0.0);
+            assertEquals(parent.getColumnVector(6).dotProduct(column), column.dotProduct(column), 1.0e-14);
+            final RealVector sum = column.add(parent.getColumnVector(6));
+            assertEquals(2 * parent.getEntry(5, 6), sum.getEntry(5), 1.0e-15);
+            assertFalse(column.isNaN());
+            column.setEntry(0, Double.POSITIVE_INFINITY);
+            assertTrue(column.isInfinite());
+            column.setEntry(1, Double.NaN);
+            assertTrue(column.isNaN());
+            assertFalse(column.isInfinite());
+        }
+    }
+
+    @Test
+    void testViewOnSubMatrixView() {
+        for (final RealMatrix parent : SubMatrixViewTest.createParents(0x6e0c58b2a7f3d914l)) {
+            final RealMatrix view   = parent.getSubMatrixView(2, 12, 3, 15);
+            final RealVector row    = view.getRowVectorView(4);
+            final RealVector column = view.getColumnVectorView(5);
+            assertEquals(parent.getSubMatrix(6, 6, 3, 15).getRowVector(0), row);
+            assertEquals(parent.getSubMatrix(2, 12, 8, 8).getColumnVector(0), column);
+            row.setEntry(5, 42.0);
+            assertEquals(42.0, parent.getEntry(6, 8), 0.0);
+            assertEquals(42.0, column.getEntry(4), 0.0);
+        }
+    }
+
+    @Test
+    void testWrongIndices() {
+        final RealMatrix parent = new Array2DRowRealMatrix(4, 6);
+        try {
+            parent.getRowVectorView(4);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        try {
+            parent.getColumnVectorView(2).getEntry(4);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.INDEX, miae.getSpecifier());
+        }
+    }
+
+}
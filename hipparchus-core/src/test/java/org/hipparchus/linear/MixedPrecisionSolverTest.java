@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class MixedPrecisionSolverTest {
+
+    @Test
+    void testWellConditionedLU() {
+        final RandomGenerator random = new Well1024a(0x3b8f1c2d7a9e4650l);
+        final RealMatrix a = createDiagonallyDominant(random, 60);
+        final RealVector x = randomVector(random, 60);
+        final MixedPrecisionSolver solver = new MixedPrecisionSolver(a);
+        assertEquals(60, solver.getRowDimension());
+        assertEquals(60, solver.getColumnDimension());
+        assertTrue(solver.isNonSingular());
+        final RealVector computed = solver.solve(a.operate(x));
+        assertFalse(solver.usesDoublePrecision());
+        assertEquals(0, computed.subtract(x).getLInfNorm(), 1.0e-14);
+    }
+
+    @Test
+    void testCholesky() {
+        final RandomGenerator random = new Well1024a(0x8e4a6d0b3c5f1927l);
+        final RealMatrix m = createDiagonallyDominant(random, 40);
+        final RealMatrix a = m.transposeMultiply(m);
+        final RealVector x = randomVector(random, 40);
+        final MixedPrecisionSolver solver =
+                        new MixedPrecisionSolver(a, MixedPrecisionSolver.Factorization.CHOLESKY,
+                                                 MixedPrecisionSolver.DEFAULT_MAX_ITERATIONS, 1.0e-11);
+        final RealVector computed = solver.solve(a.operate(x));
+        assertFalse(solver.usesDoublePrecision());
+        assertEquals(0, computed.subtract(x).getLInfNorm(), 1.0e-13);
+    }
+
+    @Test
+    void testCholeskyNotPositiveDefinite() {
+        final RealMatrix a = MatrixUtils.createRealMatrix(new double[][] {
+            { 1, 2 }, { 2, 1 }
+        });
+        final MixedPrecisionSolver solver =
+                        new MixedPrecisionSolver(a, MixedPrecisionSolver.Factorization.CHOLESKY,
+                                                 MixedPrecisionSolver.DEFAULT_MAX_ITERATIONS, 1.0e-11);
+        assertTrue(solver.usesDoublePrecision());
+        final RealVector computed = solver.solve(new ArrayRealVector(new double[] { 3, 3 }));
+        assertEquals(1, computed.getEntry(0), 1.0e-15);
+        assertEquals(1, computed.getEntry(1), 1.0e-15);
+    }
+
+    @Test
+    void testIllConditionedFallback() {
+        final int n = 10;
+        final RealMatrix hilbert = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                hilbert.setEntry(i, j, 1.0 / (i + j + 1));
+            }
+        }
+        final RealVector b = new ArrayRealVector(n, 1.0);
+        final MixedPrecisionSolver solver =
+                        new MixedPrecisionSolver(hilbert, MixedPrecisionSolver.Factorization.LU,
+                                                 MixedPrecisionSolver.DEFAULT_MAX_ITERATIONS, 1.0e-20);
+        final RealVector computed = solver.solve(b);
+        assertTrue(solver.usesDoublePrecision());
+        final RealVector reference = new LUDecomposition(hilbert, 1.0e-20).getSolver().solve(b);
+        assertEquals(0, computed.subtract(reference).getLInfNorm(), 1.0e-15 * reference.getLInfNorm());
+    }
+
+    @Test
+    void testSingular() {
+        final RealMatrix a = MatrixUtils.createRealMatrix(new double[][] {
+            { 1, 2, 3 }, { 2, 4, 6 }, { 1, 0, 1 }
+        });
+        final MixedPrecisionSolver solver = new MixedPrecisionSolver(a);
+        assertFalse(solver.isNonSingular());
+        try {
+            solver.solve(new ArrayRealVector(3, 1.0));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testNonSquare() {
+        try {
+            new MixedPrecisionSolver(MatrixUtils.createRealMatrix(3, 2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testDimensionMismatch() {
+        final MixedPrecisionSolver solver =
+                        new MixedPrecisionSolver(MatrixUtils.createRealIdentityMatrix(3));
+        try {
+            solver.solve(new ArrayRealVector(2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testInverseAndDecomposer() {
+        final RandomGenerator random = new Well1024a(0x16c0f9e27d4b3a85l);
+        final RealMatrix a = createDiagonallyDominant(random, 25);
+        final DecompositionSolver solver =
+                        new MixedPrecisionDecomposer(MixedPrecisionSolver.Factorization.LU, 10, 1.0e-11).
+                        decompose(a);
+        final RealMatrix identity = MatrixUtils.createRealIdentityMatrix(25);
+        assertEquals(0, a.multiply(solver.getInverse()).subtract(identity).getNorm1(), 1.0e-13);
+    }
+
+    private RealMatrix createDiagonallyDominant(final RandomGenerator random, final int n) {
+        final RealMatrix a = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                a.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+            a.addToEntry(i, i, n);
+        }
+        return a;
+    }
+
+    private RealVector randomVector(final RandomGenerator random, final int n) {
+        final RealVector v = new ArrayRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            v.setEntry(i, 2 * random.nextDouble() - 1);
+        }
+        return v;
+    }
+
+}
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.random.Well19937c;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class RandomizedSingularValueDecompositionTest {
+
+    @Test
+    void testExactLowRank() {
+        final RandomGenerator random = new Well1024a(0x2c71f09e5ab38d64L);
+        final double[]        sigma  = new double[] { 50, 20, 10, 5, 2, 1, 0.5, 0.25 };
+        final AbstractRealMatrix a   = createMatrix(random, 200, 120, sigma);
+        final RandomizedSingularValueDecomposition svd = new RandomizedSingularValueDecomposition(a, 8);
+        assertEquals(8, svd.getCount());
+        assertEquals(200, svd.getRowDimension());
+        assertEquals(120, svd.getColumnDimension());
+        assertArrayEquals(sigma, svd.getSingularValues(), 1.0e-12);
+        assertEquals(50, svd.getNorm(), 1.0e-12);
+        checkOrthonormalColumns(svd.getU(), 1.0e-13);
+        checkOrthonormalColumns(svd.getV(), 1.0e-13);
+        final RealMatrix rebuilt = svd.getU().multiply(svd.getS()).multiply(svd.getVT());
+        assertEquals(0.0, rebuilt.subtract(a).getNorm1(), 1.0e-11 * a.getNorm1());
+        assertEquals(0.0, svd.getUT().subtract(svd.getU().transpose()).getNorm1(), 0.0);
+        assertEquals(0.0, svd.getVT().subtract(svd.getV().transpose()).getNorm1(), 0.0);
+    }
+
+    @Test
+    void testTruncation() {
+        // fast decay: the neglected part is tiny
+        final RandomGenerator random = new Well1024a(0x53be0c8f41a7d926L);
+        final double[]        sigma  = new double[60];
+        for (int i = 0; i < sigma.length; ++i) {
+            sigma[i] = FastMath.pow(0.6, i);
+        }
+        final AbstractRealMatrix a = createMatrix(random, 300, 80, sigma);
+        final RandomizedSingularValueDecomposition svd = new RandomizedSingularValueDecomposition(a, 10);
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(sigma[i], svd.getSingularValues()[i], 1.0e-10);
+        }
+        final RealMatrix residual = a.subtract(svd.getU().multiply(svd.getS()).multiply(svd.getVT()));
+        assertEquals(sigma[10], new SingularValueDecomposition(residual).getNorm(), 1.0e-8);
+    }
+
+    @Test
+    void testPowerIterations() {
+        // slow decay: power iterations are needed for accuracy
+        final RandomGenerator random = new Well1024a(0x1fd4e6a3b902c857L);
+        final double[]        sigma  = new double[100];
+        for (int i = 0; i < sigma.length; ++i) {
+            sigma[i] = 1.0 / (i + 1);
+        }
+        final AbstractRealMatrix a = createMatrix(random, 250, 150, sigma);
+        double previous = Double.POSITIVE_INFINITY;
+        for (int q = 0; q < 4; ++q) {
+            final RandomizedSingularValueDecomposition svd =
+                            new RandomizedSingularValueDecomposition(a, 10, 5, q, new Well19937c(0x6a2eL));
+            double error = 0;
+            for (int i = 0; i < 10; ++i) {
+                error = FastMath.max(error, FastMath.abs(svd.getSingularValues()[i] - sigma[i]) / sigma[i]);
+            }
+            assertTrue(error < previous);
+            previous = error;
+        }
+        assertTrue(previous < 1.0e-3);
+    }
+
+    @Test
+    void testMatrixFreeOperator() {
+        final RandomGenerator random = new Well1024a(0x08e9d7c16f5a43b2L);
+        final CompressedRowRealMatrix sparse = createSparse(random, 400, 150, 0.05);
+        final RealLinearOperator operator = new RealLinearOperator() {
+            @Override
+            public int getRowDimension() {
+                return sparse.getRowDimension();
+            }
+            @Override
+            public int getColumnDimension() {
+                return sparse.getColumnDimension();
+            }
+            @Override
+            public RealVector operate(final RealVector x) {
+                return sparse.operate(x);
+            }
+            @Override
+            public RealVector operateTranspose(final RealVector x) {
+                return sparse.preMultiply(x);
+            }
+            @Override
+            public boolean isTransposable() {
+                return true;
+            }
+        };
+        final RandomizedSingularValueDecomposition fromOperator =
+                        new RandomizedSingularValueDecomposition(operator, 5, 10, 3, new Well19937c(0x91L));
+        final RandomizedSingularValueDecomposition fromMatrix =
+                        new RandomizedSingularValueDecomposition(sparse, 5, 10, 3, new Well19937c(0x91L));
+        final double[] reference = new SingularValueDecomposition(sparse).getSingularValues();
+        for (int i = 0; i < 5; ++i) {
+            assertEquals(fromMatrix.getSingularValues()[i], fromOperator.getSingularValues()[i], 1.0e-12);
+            // the spectrum of random sparse matrices is flat, so estimates are only
+            // approximate, but they are always lower bounds of the exact values
+            assertTrue(fromOperator.getSingularValues()[i] <= reference[i] * (1 + 1.0e-12));
+            assertTrue(fromOperator.getSingularValues()[i] >= reference[i] * 0.95);
+        }
+        // singular vectors are consistent: A^T u = sigma v
+        final RealVector v0 = fromOperator.getV().getColumnVector(0);
+        final RealVector u0 = fromOperator.getU().getColumnVector(0);
+        assertEquals(0.0,
+                     sparse.preMultiply(u0).subtract(v0.mapMultiply(fromOperator.getNorm())).getNorm(),
+                     1.0e-12 * fromOperator.getNorm());
+    }
+
+    @Test
+    void testPool() {
+        final RandomGenerator random = new Well1024a(0x4f1a90c3e6b27d58L);
+        final BlockRealMatrix a      = new BlockRealMatrix(createMatrix(random, 180, 140,
+                                                                        new double[] { 9, 7, 5, 3, 1 }).getData());
+        final RandomizedSingularValueDecomposition sequential =
+                        new RandomizedSingularValueDecomposition(a, 5, 10, 2, new Well19937c(0x3dL));
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            final RandomizedSingularValueDecomposition parallel =
+                            new RandomizedSingularValueDecomposition(a, 5, 10, 2, new Well19937c(0x3dL), pool);
+            assertArrayEquals(sequential.getSingularValues(), parallel.getSingularValues(), 0.0);
+            assertEquals(sequential.getU(), parallel.getU());
+            assertEquals(sequential.getV(), parallel.getV());
+        } finally {
+            pool.shutdown();
+        }
+        assertArrayEquals(new double[] { 9, 7, 5, 3, 1 }, sequential.getSingularValues(), 1.0e-12);
+    }
+
+    @Test
+    void testRankDeficientSketch() {
+        // oversampling beyond rank produces dependent sketch vectors
+        final RandomGenerator random = new Well1024a(0x7b3c55e0a1d9f246L);
+        final AbstractRealMatrix a   = createMatrix(random, 60, 40, new double[] { 3, 2, 1 });
+        final RandomizedSingularValueDecomposition svd =
+                        new RandomizedSingularValueDecomposition(a, 5, 20, 1, new Well19937c(0x17L));
+        assertArrayEquals(new double[] { 3, 2, 1, 0, 0 }, svd.getSingularValues(), 1.0e-12);
+        final RealMatrix rebuilt = svd.getU().multiply(svd.getS()).multiply(svd.getVT());
+        assertEquals(0.0, rebuilt.subtract(a).getNorm1(), 1.0e-12);
+    }
+
+    @Test
+    void testReproducible() {
+        final AbstractRealMatrix a = createMatrix(new Well1024a(0x35L), 50, 30,
+                                                                       new double[] { 5, 4, 3, 2, 1, 0.5 });
+        final double[] s1 = new RandomizedSingularValueDecomposition(a, 3).getSingularValues();
+        final double[] s2 = new RandomizedSingularValueDecomposition(a, 3).getSingularValues();
+        assertArrayEquals(s1, s2, 0.0);
+    }
+
+    @Test
+    void testWrongParameters() {
+        final AbstractRealMatrix a = new Array2DRowRealMatrix(10, 6);
+        for (final int k : new int[] { 0, 7 }) {
+            try {
+                new RandomizedSingularValueDecomposition(a, k);
+                fail("an exception should have been thrown");
+            } catch (MathIllegalArgumentException miae) {
+                assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+            }
+        }
+        try {
+            new RandomizedSingularValueDecomposition(a, 2, -1, 2, new Well19937c(1));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+        try {
+            new RandomizedSingularValueDecomposition(a, 2, 2, -1, new Well19937c(1));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testNotTransposable() {
+        final RealLinearOperator operator = new RealLinearOperator() {
+            @Override
+            public int getRowDimension() {
+                return 4;
+            }
+            @Override
+            public int getColumnDimension() {
+                return 4;
+            }
+            @Override
+            public RealVector operate(final RealVector x) {
+                return x.copy();
+            }
+        };
+        try {
+            new RandomizedSingularValueDecomposition(operator, 2);
+            fail("an exception should have been thrown");
+        } catch (MathRuntimeException mre) {
+            assertEquals(LocalizedCoreFormats.UNSUPPORTED_OPERATION, mre.getSpecifier());
+        }
+    }
+
+    private void checkOrthonormalColumns(final RealMatrix q, final double tolerance) {
+        final RealMatrix qtq = q.transposeMultiply(q);
+        assertEquals(0.0,
+                     qtq.subtract(MatrixUtils.createRealIdentityMatrix(q.getColumnDimension())).getNorm1(),
+                     tolerance * q.getColumnDimension());
+    }
+
+    /** Create a matrix with prescribed singular values.
+     * @param random random generator
+     * @param m number of rows
+     * @param n number of columns
+     * @param sigma singular values
+     * @return m x n matrix with given singular values
+     */
+    static AbstractRealMatrix createMatrix(final RandomGenerator random, final int m, final int n,
+                                           final double[] sigma) {
+        final RealMatrix u = randomOrthonormal(random, m, sigma.length);
+        final RealMatrix v = randomOrthonormal(random, n, sigma.length);
+        return (AbstractRealMatrix) u.multiply(MatrixUtils.createRealDiagonalMatrix(sigma)).multiplyTransposed(v);
+    }
+
+    private static RealMatrix randomOrthonormal(final RandomGenerator random, final int rows, final int columns) {
+        final RealMatrix g = MatrixUtils.createRealMatrix(rows, columns);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                g.setEntry(i, j, random.nextGaussian());
+            }
+        }
+        return new QRDecomposition(g).getQ().getSubMatrix(0, rows - 1, 0, columns - 1);
+    }
+
+    private static CompressedRowRealMatrix createSparse(final RandomGenerator random, final int m, final int n,
+                                                        final double density) {
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(m, n);
+        for (int i = 0; i < m; ++i) {
+            for (int j = 0; j < n; ++j) {
+                if (random.nextDouble() < density) {
+                    builder.addEntry(i, j, 2 * random.nextDouble() - 1);
+                }
+            }
+        }
+        return builder.buildCompressedRow();
+    }
+
+}
@@ -46,6 +46,7 @@ import org.hipparchus.analysis.function.Sqrt;
 import org.hipparchus.analysis.function.Tan;
 import org.hipparchus.analysis.function.Tanh;
 import org.hipparchus.analysis.function.Ulp;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.exception.MathRuntimeException;
 import org.hipparchus.util.FastMath;
@@ -1244,6 +1245,82 @@ public abstract class RealVectorAbstractTest {
         });
     }
 
+    private void doTestOperationsIntoDestination(final boolean mixed) {
+        final double[] data1 = { 1.5, -2.0, 3.25, 4.0, -0.5, 7.0 };
+        final double[] data2 = { 2.0, 0.5, -1.0, 8.0, 3.0, -4.0 };
+        final int n = data1.length;
+        final double[] sum      = new double[n];
+        final double[] diff     = new double[n];
+        final double[] product  = new double[n];
+        final double[] quotient = new double[n];
+        final double[] linear   = new double[n];
+        for (int i = 0; i < n; i++) {
+            sum[i]      = data1[i] + data2[i];
+            diff[i]     = data1[i] - data2[i];
+            product[i]  = data1[i] * data2[i];
+            quotient[i] = data1[i] / data2[i];
+            linear[i]   = 2.0 * data1[i] - 3.0 * data2[i];
+        }
+        final RealVector v1 = create(data1);
+        final RealVector v2 = mixed ? createAlien(data2) : create(data2);
+
+        // results stored in a separate destination
+        RealVector out = create(new double[n]);
+        assertSame(out, v1.add(v2, out));
+        UnitTestUtils.customAssertEquals("add", sum, out, 0.);
+        assertSame(out, v1.subtract(v2, out));
+        UnitTestUtils.customAssertEquals("subtract", diff, out, 0.);
+        assertSame(out, v1.ebeMultiply(v2, out));
+        UnitTestUtils.customAssertEquals("ebeMultiply", product, out, 0.);
+        assertSame(out, v1.ebeDivide(v2, out));
+        UnitTestUtils.customAssertEquals("ebeDivide", quotient, out, 0.);
+        assertSame(out, v1.combine(2.0, -3.0, v2, out));
+        UnitTestUtils.customAssertEquals("combine", linear, out, 0.);
+
+        // results stored in one of the operands
+        out = v1.copy();
+        assertSame(out, out.subtract(v2, out));
+        UnitTestUtils.customAssertEquals("subtract", diff, out, 0.);
+        out = v1.copy();
+        assertSame(out, out.combine(2.0, -3.0, v2, out));
+        UnitTestUtils.customAssertEquals("combine", linear, out, 0.);
+        out = create(data2);
+        assertSame(out, v1.add(out, out));
+        UnitTestUtils.customAssertEquals("add", sum, out, 0.);
+
+        // unchanged operands
+        UnitTestUtils.customAssertEquals("v1", data1, v1, 0.);
+        UnitTestUtils.customAssertEquals("v2", data2, v2, 0.);
+    }
+
+    @Test
+    public void testOperationsIntoDestinationSameType() {
+        doTestOperationsIntoDestination(false);
+    }
+
+    @Test
+    public void testOperationsIntoDestinationMixedTypes() {
+        doTestOperationsIntoDestination(true);
+    }
+
+    @Test
+    public void testOperationsIntoDestinationDimensionMismatch() {
+        final RealVector v1 = create(new double[10]);
+        final RealVector v2 = create(new double[10]);
+        try {
+            v1.add(v2, create(new double[15]));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            v1.combine(1.0, 1.0, createAlien(new double[15]), create(new double[10]));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
     @Test
     public void testCopy() {
         final RealVector v = create(values);
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SSORPreconditionerTest {
+
+    @Test
+    void testNonSquare() {
+        try {
+            new SSORPreconditioner(MatrixUtils.createRealMatrix(3, 2), 1.0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testOmegaOutOfRange() {
+        final RealMatrix a = SparseCholeskyDecompositionTest.createDiagonal(3, 1.0);
+        try {
+            new SSORPreconditioner(a, 0.0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED, miae.getSpecifier());
+        }
+        try {
+            new SSORPreconditioner(a, 2.0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NUMBER_TOO_LARGE_BOUND_EXCLUDED, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testZeroDiagonal() {
+        final RealMatrix a = MatrixUtils.createRealMatrix(new double[][] {
+            { 1.0, 2.0 }, { 2.0, 0.0 }
+        });
+        try {
+            new SSORPreconditioner(a, 1.0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testOperate() {
+        final CompressedRowRealMatrix a = IncompleteLUPreconditionerTest.createConvectionDiffusion(6, 0.4);
+        final int n = a.getRowDimension();
+        final RandomGenerator random = new Well1024a(0x9b02c7e4f63d1a85l);
+        for (final double omega : new double[] { 0.5, 1.0, 1.6 }) {
+            // explicit M = (D + omega L) D^-1 (D + omega U) / (omega (2 - omega))
+            final RealMatrix lower = MatrixUtils.createRealMatrix(n, n);
+            final RealMatrix upper = MatrixUtils.createRealMatrix(n, n);
+            final RealMatrix dInv  = MatrixUtils.createRealMatrix(n, n);
+            for (int i = 0; i < n; ++i) {
+                for (int j = 0; j < n; ++j) {
+                    if (j < i) {
+                        lower.setEntry(i, j, omega * a.getEntry(i, j));
+                    } else if (j > i) {
+                        upper.setEntry(i, j, omega * a.getEntry(i, j));
+                    } else {
+                        lower.setEntry(i, i, a.getEntry(i, i));
+                        upper.setEntry(i, i, a.getEntry(i, i));
+                        dInv.setEntry(i, i, 1.0 / a.getEntry(i, i));
+                    }
+                }
+            }
+            final RealMatrix m = lower.multiply(dInv).multiply(upper).scalarMultiply(1.0 / (omega * (2 - omega)));
+            final SSORPreconditioner ssor = new SSORPreconditioner(a, omega);
+            assertEquals(omega, ssor.getOmega(), 0.0);
+            assertEquals(n, ssor.getRowDimension());
+            assertEquals(n, ssor.getColumnDimension());
+            final double[] x = CompressedRowRealMatrixTest.createRandomVector(random, n);
+            assertArrayEquals(x, ssor.operate(new ArrayRealVector(m.operate(x))).toArray(), 1.0e-13);
+        }
+    }
+
+    @Test
+    void testConjugateGradientIterations() {
+        final CompressedColumnRealMatrix a = SparseCholeskyDecompositionTest.createLaplacian(40);
+        final int n = a.getRowDimension();
+        final RandomGenerator random = new Well1024a(0x60c8e1b5d27f943al);
+        final RealVector x = new ArrayRealVector(CompressedRowRealMatrixTest.createRandomVector(random, n));
+        final RealVector b = a.operate(x);
+
+        final ConjugateGradient jacobiSolver = new ConjugateGradient(10000, 1.0e-10, true);
+        jacobiSolver.solve(a, JacobiPreconditioner.create(a), b);
+        final int jacobiIterations = jacobiSolver.getIterationManager().getIterations();
+
+        final ConjugateGradient ssorSolver = new ConjugateGradient(10000, 1.0e-10, true);
+        final RealVector xSSOR = ssorSolver.solve(a, new SSORPreconditioner(a, 1.5), b);
+        final int ssorIterations = ssorSolver.getIterationManager().getIterations();
+
+        assertEquals(0.0, xSSOR.subtract(x).getLInfNorm(), 1.0e-8);
+        assertTrue(2 * ssorIterations < jacobiIterations, ssorIterations + " vs. " + jacobiIterations);
+    }
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SmallMatrixBatchTest {
+
+    @Test
+    void testEntries() {
+        final SmallMatrixBatch batch = new SmallMatrixBatch(4, 2, 3);
+        assertEquals(4, batch.getCount());
+        assertEquals(2, batch.getRowDimension());
+        assertEquals(3, batch.getColumnDimension());
+        batch.setEntry(2, 1, 0, 7.5);
+        assertEquals(7.5, batch.getEntry(2, 1, 0), 0.0);
+        // structure-of-arrays layout
+        assertEquals(7.5, batch.getDataRef()[(1 * 3 + 0) * 4 + 2], 0.0);
+        assertEquals(7.5, batch.getMatrix(2).getEntry(1, 0), 0.0);
+        assertEquals(0.0, batch.getMatrix(1).getNorm1(), 0.0);
+
+        final SmallMatrixBatch copy = batch.copy();
+        batch.setEntry(2, 1, 0, -1.0);
+        assertEquals(7.5, copy.getEntry(2, 1, 0), 0.0);
+    }
+
+    @Test
+    void testFromMatrices() {
+        final RandomGenerator random   = new Well1024a(0x4c7e1b93d2a0f586l);
+        final RealMatrix[]    matrices = createMatrices(random, 5, 3, 4);
+        final SmallMatrixBatch batch   = new SmallMatrixBatch(matrices);
+        for (int k = 0; k < matrices.length; ++k) {
+            assertEquals(0.0, batch.getMatrix(k).subtract(matrices[k]).getNorm1(), 0.0);
+        }
+    }
+
+    @Test
+    void testMultiply() {
+        final RandomGenerator  random = new Well1024a(0x2b8f63d0e1c947a5l);
+        final RealMatrix[]     a      = createMatrices(random, 37, 3, 4);
+        final RealMatrix[]     b      = createMatrices(random, 37, 4, 2);
+        final SmallMatrixBatch ab     = new SmallMatrixBatch(a).multiply(new SmallMatrixBatch(b));
+        assertEquals(3, ab.getRowDimension());
+        assertEquals(2, ab.getColumnDimension());
+        for (int k = 0; k < a.length; ++k) {
+            assertEquals(0.0, ab.getMatrix(k).subtract(a[k].multiply(b[k])).getNorm1(), 1.0e-14);
+        }
+    }
+
+    @Test
+    void testCongruence() {
+        final RandomGenerator  random = new Well1024a(0x7d0a52e4f1b3c968l);
+        final RealMatrix[]     a      = createMatrices(random, 50, 6, 6);
+        final RealMatrix[]     p      = createCovariances(random, 50, 6);
+        final SmallMatrixBatch out    = new SmallMatrixBatch(50, 6, 6);
+        new SmallMatrixBatch(a).congruence(new SmallMatrixBatch(p), out);
+        for (int k = 0; k < a.length; ++k) {
+            final RealMatrix expected = a[k].multiply(p[k]).multiplyTransposed(a[k]);
+            final RealMatrix computed = out.getMatrix(k);
+            assertEquals(0.0, computed.subtract(expected).getNorm1(), 1.0e-13 * expected.getNorm1());
+            assertEquals(0.0, computed.subtract(computed.transpose()).getNorm1(), 0.0);
+        }
+    }
+
+    @Test
+    void testNonSquareCongruence() {
+        final RandomGenerator  random = new Well1024a(0x0e93b7c15a2d4f68l);
+        final RealMatrix[]     a      = createMatrices(random, 9, 2, 5);
+        final RealMatrix[]     p      = createCovariances(random, 9, 5);
+        final SmallMatrixBatch out    = new SmallMatrixBatch(a).congruence(new SmallMatrixBatch(p));
+        assertEquals(2, out.getRowDimension());
+        for (int k = 0; k < a.length; ++k) {
+            final RealMatrix expected = a[k].multiply(p[k]).multiplyTransposed(a[k]);
+            assertEquals(0.0, out.getMatrix(k).subtract(expected).getNorm1(), 1.0e-13 * expected.getNorm1());
+        }
+    }
+
+    @Test
+    void testCholesky() {
+        final RandomGenerator  random = new Well1024a(0x5f2c8e07a4b1d936l);
+        final RealMatrix[]     p      = createCovariances(random, 40, 6);
+        final SmallMatrixBatch l      = new SmallMatrixBatch(p).cholesky();
+        for (int k = 0; k < p.length; ++k) {
+            final RealMatrix expected = new CholeskyDecomposition(p[k]).getL();
+            assertEquals(0.0, l.getMatrix(k).subtract(expected).getNorm1(), 1.0e-13 * expected.getNorm1());
+        }
+    }
+
+    @Test
+    void testCholeskyNotPositiveDefinite() {
+        final RandomGenerator  random = new Well1024a(0x93a16c4e8d0f2b57l);
+        final RealMatrix[]     p      = createCovariances(random, 10, 3);
+        p[7].setEntry(2, 2, -1.0);
+        try {
+            new SmallMatrixBatch(p).cholesky();
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testInverse() {
+        final RandomGenerator  random = new Well1024a(0x1a6d4f93c0e8b257l);
+        final RealMatrix[]     a      = createMatrices(random, 33, 6, 6);
+        // zero leading entry forces pivoting
+        a[3].setEntry(0, 0, 0.0);
+        final SmallMatrixBatch inverse = new SmallMatrixBatch(a).inverse();
+        for (int k = 0; k < a.length; ++k) {
+            final RealMatrix expected = MatrixUtils.inverse(a[k]);
+            assertEquals(0.0, inverse.getMatrix(k).subtract(expected).getNorm1(), 1.0e-12 * expected.getNorm1());
+        }
+    }
+
+    @Test
+    void testInverseSingular() {
+        final RandomGenerator  random = new Well1024a(0x6e3b0d8f14c2a975l);
+        final RealMatrix[]     a      = createMatrices(random, 4, 3, 3);
+        a[2].setRowVector(1, new ArrayRealVector(3));
+        try {
+            new SmallMatrixBatch(a).inverse();
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testErrors() {
+        try {
+            new SmallMatrixBatch(0, 2, 2);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NUMBER_TOO_SMALL, miae.getSpecifier());
+        }
+        final SmallMatrixBatch batch = new SmallMatrixBatch(3, 2, 3);
+        try {
+            batch.getEntry(3, 0, 0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.OUT_OF_RANGE_SIMPLE, miae.getSpecifier());
+        }
+        try {
+            batch.setEntry(0, 2, 0, 1.0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        try {
+            batch.setMatrix(0, MatrixUtils.createRealMatrix(3, 2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2, miae.getSpecifier());
+        }
+        try {
+            batch.multiply(new SmallMatrixBatch(4, 3, 3));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            batch.multiply(batch);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2, miae.getSpecifier());
+        }
+        try {
+            batch.inverse();
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testOutputIsOperand() {
+        final RandomGenerator  random = new Well1024a(0x93c1f0a57e2b6d48l);
+        final SmallMatrixBatch a      = new SmallMatrixBatch(createMatrices(random, 7, 3, 3));
+        final SmallMatrixBatch b      = new SmallMatrixBatch(createMatrices(random, 7, 3, 3));
+        final SmallMatrixBatch p      = new SmallMatrixBatch(createCovariances(random, 7, 3));
+        final SmallMatrixBatch[][] calls = {
+            { a, b, a }, { a, b, b }, { a, a, a }
+        };
+        for (final SmallMatrixBatch[] call : calls) {
+            try {
+                call[0].multiply(call[1], call[2]);
+                fail("an exception should have been thrown");
+            } catch (MathIllegalArgumentException miae) {
+                assertEquals(LocalizedCoreFormats.OUTPUT_IS_AN_OPERAND, miae.getSpecifier());
+            }
+        }
+        for (final SmallMatrixBatch out : new SmallMatrixBatch[] { a, p }) {
+            try {
+                a.congruence(p, out);
+                fail("an exception should have been thrown");
+            } catch (MathIllegalArgumentException miae) {
+                assertEquals(LocalizedCoreFormats.OUTPUT_IS_AN_OPERAND, miae.getSpecifier());
+            }
+        }
+    }
+
+    private static RealMatrix[] createMatrices(final RandomGenerator random,
+                                               final int count, final int rows, final int columns) {
+        final RealMatrix[] matrices = new RealMatrix[count];
+        for (int k = 0; k < count; ++k) {
+            matrices[k] = MatrixUtils.createRealMatrix(rows, columns);
+            for (int i = 0; i < rows; ++i) {
+                for (int j = 0; j < columns; ++j) {
+                    matrices[k].setEntry(i, j, 2 * random.nextDouble() - 1);
+                }
+            }
+        }
+        return matrices;
+    }
+
+    private static RealMatrix[] createCovariances(final RandomGenerator random, final int count, final int n) {
+        final RealMatrix[] g = createMatrices(random, count, n, n);
+        final RealMatrix[] p = new RealMatrix[count];
+        for (int k = 0; k < count; ++k) {
+            p[k] = g[k].multiplyTransposed(g[k]).add(MatrixUtils.createRealIdentityMatrix(n));
+        }
+        return p;
+    }
+
+}
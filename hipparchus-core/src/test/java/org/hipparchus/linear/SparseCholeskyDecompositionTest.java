@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SparseCholeskyDecompositionTest {
+
+    private final double[][] testData = new double[][] {
+        {  1,  2,   4,   7,  11 },
+        {  2, 13,  23,  38,  58 },
+        {  4, 23,  77, 122, 182 },
+        {  7, 38, 122, 294, 430 },
+        { 11, 58, 182, 430, 855 }
+    };
+
+    @Test
+    void testNonSquare() {
+        try {
+            new SparseCholeskyDecomposition(MatrixUtils.createRealMatrix(new double[3][2]));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testNotSymmetric() {
+        final double[][] changed = new double[testData.length][];
+        for (int i = 0; i < testData.length; ++i) {
+            changed[i] = testData[i].clone();
+        }
+        changed[0][changed[0].length - 1] += 1.0e-5;
+        try {
+            new SparseCholeskyDecomposition(MatrixUtils.createRealMatrix(changed));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testNotPositiveDefinite() {
+        try {
+            new SparseCholeskyDecomposition(MatrixUtils.createRealMatrix(new double[][] {
+                { 14, 11, 13, 15, 24 },
+                { 11, 34, 13,  8, 25 },
+                { 13, 13, 14, 15, 21 },
+                { 15,  8, 15, 18, 23 },
+                { 24, 25, 21, 23, 45 }
+            }));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NOT_POSITIVE_DEFINITE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testDenseMatrix() {
+        final RealMatrix                  matrix = MatrixUtils.createRealMatrix(testData);
+        final SparseCholeskyDecomposition llt    = new SparseCholeskyDecomposition(matrix);
+        checkFactorization(matrix, llt, 1.0e-12);
+        assertEquals(new CholeskyDecomposition(matrix).getDeterminant(), llt.getDeterminant(), 1.0e-8);
+        final RealMatrix inverse = llt.getSolver().getInverse();
+        assertEquals(0.0,
+                     inverse.multiply(matrix).subtract(MatrixUtils.createRealIdentityMatrix(5)).getNorm1(),
+                     1.0e-10);
+    }
+
+    @Test
+    void testLaplacian() {
+        final CompressedColumnRealMatrix  laplacian = createLaplacian(30);
+        final SparseCholeskyDecomposition llt       = new SparseCholeskyDecomposition(laplacian);
+        checkFactorization(laplacian, llt, 1.0e-12);
+
+        // the fill-reducing ordering must do much better than the banded natural ordering
+        final int n = laplacian.getRowDimension();
+        assertTrue(llt.getAnalysis().getFactorNonZeroCount() < n * 30 / 2,
+                   "fill: " + llt.getAnalysis().getFactorNonZeroCount());
+
+        final RealVector expected = new ArrayRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            expected.setEntry(i, FastMath.sin(i));
+        }
+        final RealVector x = llt.getSolver().solve(laplacian.operate(expected));
+        assertEquals(0.0, x.subtract(expected).getLInfNorm(), 1.0e-11);
+
+        final RealMatrix b = MatrixUtils.createRealMatrix(n, 2);
+        b.setColumnVector(0, laplacian.operate(expected));
+        b.setColumnVector(1, laplacian.operate(expected.mapMultiply(-2)));
+        final RealMatrix xx = llt.getSolver().solve(b);
+        assertEquals(0.0, xx.getColumnVector(0).subtract(expected).getLInfNorm(), 1.0e-11);
+        assertEquals(0.0, xx.getColumnVector(1).add(expected.mapMultiply(2)).getLInfNorm(), 1.0e-11);
+    }
+
+    @Test
+    void testReuseAnalysis() {
+        final RandomGenerator            random = new Well1024a(0x7e2b91c4d05a3f68l);
+        final CompressedColumnRealMatrix a1     = createRandomSPD(random, 120, 0.03);
+        final SparseCholeskyAnalysis     analysis = new SparseCholeskyAnalysis(a1);
+        checkFactorization(a1, new SparseCholeskyDecomposition(analysis, a1), 1.0e-12);
+
+        // same pattern, different values
+        final CompressedColumnRealMatrix a2 = a1.scalarMultiply(3.0).add(createDiagonal(120, 5.0));
+        assertTrue(analysis.isCompatible(a2));
+        final SparseCholeskyDecomposition llt2 = new SparseCholeskyDecomposition(analysis, a2);
+        assertSame(analysis, llt2.getAnalysis());
+        checkFactorization(a2, llt2, 1.0e-12);
+
+        // entries outside of pattern
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(120, 120);
+        for (int i = 0; i < 120; ++i) {
+            builder.addEntry(i, i, 4.0);
+        }
+        builder.addEntry(0, 119, 1.0).addEntry(119, 0, 1.0);
+        final CompressedColumnRealMatrix a3 = builder.buildCompressedColumn();
+        if (a1.getEntry(0, 119) == 0) {
+            assertFalse(analysis.isCompatible(a3));
+            try {
+                new SparseCholeskyDecomposition(analysis, a3);
+                fail("an exception should have been thrown");
+            } catch (MathIllegalArgumentException miae) {
+                assertEquals(LocalizedCoreFormats.ENTRY_OUTSIDE_SPARSITY_PATTERN, miae.getSpecifier());
+            }
+        }
+
+        // wrong dimension
+        try {
+            new SparseCholeskyDecomposition(analysis, createDiagonal(12, 1.0));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH_2x2, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testDecomposer() {
+        final RandomGenerator            random     = new Well1024a(0x3f5c08a1e96b274dl);
+        final CompressedColumnRealMatrix a          = createRandomSPD(random, 80, 0.05);
+        final SparseCholeskyDecomposer   decomposer =
+                        new SparseCholeskyDecomposer(CholeskyDecomposition.DEFAULT_RELATIVE_SYMMETRY_THRESHOLD,
+                                                     CholeskyDecomposition.DEFAULT_ABSOLUTE_POSITIVITY_THRESHOLD);
+        for (int k = 1; k < 4; ++k) {
+            final RealMatrix       ak     = a.scalarMultiply(k).add(createDiagonal(80, k));
+            final DecompositionSolver solver = decomposer.decompose(ak);
+            assertTrue(solver.isNonSingular());
+            assertEquals(80, solver.getRowDimension());
+            assertEquals(80, solver.getColumnDimension());
+            final RealVector b = new ArrayRealVector(80, 1.0);
+            assertEquals(0.0, ak.operate(solver.solve(b)).subtract(b).getLInfNorm(), 1.0e-12);
+        }
+    }
+
+    private void checkFactorization(final RealMatrix matrix, final SparseCholeskyDecomposition llt,
+                                    final double tolerance) {
+        final int        n = matrix.getRowDimension();
+        final int[]      permutation = llt.getPermutation();
+        final RealMatrix permuted = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                permuted.setEntry(i, j, matrix.getEntry(permutation[i], permutation[j]));
+            }
+        }
+        final RealMatrix l = llt.getL();
+        for (int i = 0; i < n; ++i) {
+            for (int j = i + 1; j < n; ++j) {
+                assertEquals(0.0, l.getEntry(i, j), 0.0);
+            }
+        }
+        assertEquals(0.0, l.multiply(llt.getLT()).subtract(permuted).getNorm1(),
+                     tolerance * permuted.getNorm1());
+    }
+
+    static CompressedColumnRealMatrix createLaplacian(final int grid) {
+        final int n = grid * grid;
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n, 5 * n);
+        for (int i = 0; i < grid; ++i) {
+            for (int j = 0; j < grid; ++j) {
+                final int k = i * grid + j;
+                builder.addEntry(k, k, 4.0);
+                if (i > 0) {
+                    builder.addEntry(k, k - grid, -1.0);
+                }
+                if (i < grid - 1) {
+                    builder.addEntry(k, k + grid, -1.0);
+                }
+                if (j > 0) {
+                    builder.addEntry(k, k - 1, -1.0);
+                }
+                if (j < grid - 1) {
+                    builder.addEntry(k, k + 1, -1.0);
+                }
+            }
+        }
+        return builder.buildCompressedColumn();
+    }
+
+    static CompressedColumnRealMatrix createRandomSPD(final RandomGenerator random,
+                                                      final int n, final double density) {
+        // diagonally dominant symmetric matrix
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n);
+        final double[] diagonal = new double[n];
+        for (int i = 0; i < n; ++i) {
+            for (int j = i + 1; j < n; ++j) {
+                if (random.nextDouble() < density) {
+                    final double v = 2 * random.nextDouble() - 1;
+                    builder.addEntry(i, j, v).addEntry(j, i, v);
+                    diagonal[i] += FastMath.abs(v);
+                    diagonal[j] += FastMath.abs(v);
+                }
+            }
+        }
+        for (int i = 0; i < n; ++i) {
+            builder.addEntry(i, i, diagonal[i] + 1.0);
+        }
+        return builder.buildCompressedColumn();
+    }
+
+    static CompressedColumnRealMatrix createDiagonal(final int n, final double d) {
+        final CompressedRealMatrixBuilder builder = new CompressedRealMatrixBuilder(n, n);
+        for (int i = 0; i < n; ++i) {
+            builder.addEntry(i, i, d);
+        }
+        return builder.buildCompressedColumn();
+    }
+
+}
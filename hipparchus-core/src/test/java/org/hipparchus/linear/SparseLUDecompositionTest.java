@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SparseLUDecompositionTest {
+
+    private final double[][] testData = {
+        { 1.0, 2.0, 3.0 },
+        { 2.0, 5.0, 3.0 },
+        { 1.0, 0.0, 8.0 }
+    };
+
+    private final double[][] singular = {
+        { 2.0, 3.0 },
+        { 2.0, 3.0 }
+    };
+
+    @Test
+    void testNonSquare() {
+        try {
+            new SparseLUDecomposition(MatrixUtils.createRealMatrix(new double[3][2]));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testWrongPermutation() {
+        final RealMatrix matrix = MatrixUtils.createRealMatrix(testData);
+        try {
+            new SparseLUDecomposition(matrix, new int[] { 0, 1 }, 1.0e-11, 0.1);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            new SparseLUDecomposition(matrix, new int[] { 0, 1, 1 }, 1.0e-11, 0.1);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NOT_A_PERMUTATION, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testSmallMatrix() {
+        final RealMatrix            matrix = MatrixUtils.createRealMatrix(testData);
+        final SparseLUDecomposition lu     = new SparseLUDecomposition(matrix);
+        checkFactorization(matrix, lu, 1.0e-14);
+        assertEquals(new LUDecomposition(matrix).getDeterminant(), lu.getDeterminant(), 1.0e-13);
+        final RealMatrix inverse = lu.getSolver().getInverse();
+        assertEquals(0.0,
+                     inverse.multiply(matrix).subtract(MatrixUtils.createRealIdentityMatrix(3)).getNorm1(),
+                     1.0e-13);
+    }
+
+    @Test
+    void testSingular() {
+        final SparseLUDecomposition lu = new SparseLUDecomposition(MatrixUtils.createRealMatrix(singular));
+        assertFalse(lu.getSolver().isNonSingular());
+        assertEquals(0.0, lu.getDeterminant(), 0.0);
+        assertNull(lu.getL());
+        assertNull(lu.getU());
+        try {
+            lu.getSolver().solve(new ArrayRealVector(2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testRandomUnsymmetric() {
+        final RandomGenerator random = new Well1024a(0xc93d5a0e2f7b1864l);
+        for (int n : new int[] { 1, 7, 50, 200 }) {
+            final RealMatrix matrix = createRandomUnsymmetric(random, n, 0.05);
+            for (final double pivotingThreshold : new double[] { 1.0, 0.1 }) {
+                final SparseLUDecomposition lu = new SparseLUDecomposition(matrix, null, 1.0e-11, pivotingThreshold);
+                checkFactorization(matrix, lu, 1.0e-13);
+                final double[] expected = CompressedRowRealMatrixTest.createRandomVector(random, n);
+                final RealVector x = lu.getSolver().solve(new ArrayRealVector(matrix.operate(expected)));
+                assertArrayEquals(expected, x.toArray(), 1.0e-11);
+                final RealMatrix denseLu = new LUDecomposition(matrix).getSolver().getInverse();
+                assertEquals(0.0, denseLu.subtract(lu.getSolver().getInverse()).getNorm1(),
+                             1.0e-11 * denseLu.getNorm1());
+                assertEquals(1.0, lu.getDeterminant() / new LUDecomposition(matrix).getDeterminant(), 1.0e-10);
+            }
+        }
+    }
+
+    @Test
+    void testReusePermutation() {
+        final RandomGenerator            random = new Well1024a(0x51e0b7d3a8c2f946l);
+        final CompressedColumnRealMatrix a1     = new CompressedColumnRealMatrix(createRandomUnsymmetric(random, 100, 0.04));
+        final SparseLUDecomposition      lu1    = new SparseLUDecomposition(a1);
+        final CompressedColumnRealMatrix a2     = a1.scalarMultiply(-2.0);
+        final SparseLUDecomposition      lu2    = new SparseLUDecomposition(a2, lu1.getColumnPermutation(), 1.0e-11, 0.1);
+        assertArrayEquals(lu1.getColumnPermutation(), lu2.getColumnPermutation());
+        checkFactorization(a2, lu2, 1.0e-13);
+    }
+
+    @Test
+    void testLaplacianFill() {
+        final CompressedColumnRealMatrix laplacian = SparseCholeskyDecompositionTest.createLaplacian(30);
+        final SparseLUDecomposition      lu        = new SparseLUDecomposition(laplacian);
+        assertTrue(lu.getSolver().isNonSingular());
+        final int n = laplacian.getRowDimension();
+        assertTrue(lu.getL().getNonZeroCount() < n * 30 / 2, "fill: " + lu.getL().getNonZeroCount());
+        checkFactorization(laplacian, lu, 1.0e-13);
+    }
+
+    private void checkFactorization(final RealMatrix matrix, final SparseLUDecomposition lu,
+                                    final double tolerance) {
+        final int        n     = matrix.getRowDimension();
+        final int[]      p     = lu.getPivot();
+        final int[]      q     = lu.getColumnPermutation();
+        final RealMatrix paq   = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                paq.setEntry(i, j, matrix.getEntry(p[i], q[j]));
+            }
+        }
+        final RealMatrix l = lu.getL();
+        final RealMatrix u = lu.getU();
+        for (int i = 0; i < n; ++i) {
+            assertEquals(1.0, l.getEntry(i, i), 0.0);
+            for (int j = i + 1; j < n; ++j) {
+                assertEquals(0.0, l.getEntry(i, j), 0.0);
+                assertEquals(0.0, u.getEntry(j, i), 0.0);
+            }
+        }
+        assertEquals(0.0, l.multiply(u).subtract(paq).getNorm1(), tolerance * paq.getNorm1());
+    }
+
+    private RealMatrix createRandomUnsymmetric(final RandomGenerator random, final int n, final double density) {
+        final RealMatrix m = MatrixUtils.createRealMatrix(n, n);
+        for (int i = 0; i < n; ++i) {
+            m.setEntry(i, random.nextInt(n), 2 * random.nextDouble() - 1);
+            m.setEntry(random.nextInt(n), i, 2 * random.nextDouble() - 1);
+            m.setEntry(i, i, 0.5 * (2 * random.nextDouble() - 1));
+            for (int j = 0; j < n; ++j) {
+                if (random.nextDouble() < density) {
+                    m.setEntry(i, j, 2 * random.nextDouble() - 1);
+                }
+            }
+        }
+        return m;
+    }
+
+}
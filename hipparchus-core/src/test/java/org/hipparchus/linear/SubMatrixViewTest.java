@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.UnitTestUtils;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SubMatrixViewTest {
+
+    @Test
+    void testReadThrough() {
+        for (final RealMatrix parent : createParents(0x8a1f3b6c2d54e079l)) {
+            final RealMatrix view = parent.getSubMatrixView(3, 11, 2, 16);
+            assertTrue(view instanceof SubMatrixView);
+            assertEquals(parent.getSubMatrix(3, 11, 2, 16), view);
+            parent.setEntry(5, 7, -1234.5);
+            assertEquals(-1234.5, view.getEntry(2, 5), 0.0);
+            assertEquals(parent.getSubMatrix(3, 11, 2, 16), view);
+        }
+    }
+
+    @Test
+    void testWriteThrough() {
+        for (final RealMatrix parent : createParents(0x6c0e91d75f2a3b48l)) {
+            final RealMatrix view = parent.getSubMatrixView(3, 11, 2, 16);
+            view.setEntry(0, 0, 1.0);
+            view.addToEntry(1, 2, 2.0);
+            view.multiplyEntry(4, 3, 0.0);
+            assertEquals(1.0, parent.getEntry(3, 2), 0.0);
+            assertEquals(view.getEntry(1, 2), parent.getEntry(4, 4), 0.0);
+            assertEquals(0.0, parent.getEntry(7, 5), 0.0);
+
+            // copies are independent of the parent
+            final RealMatrix copy = view.copy();
+            view.setEntry(0, 0, 2.0);
+            assertEquals(1.0, copy.getEntry(0, 0), 0.0);
+            assertEquals(2.0, parent.getEntry(3, 2), 0.0);
+        }
+    }
+
+    @Test
+    void testNestedViews() {
+        for (final RealMatrix parent : createParents(0x2f8d4a61c0b7e395l)) {
+            final RealMatrix view   = parent.getSubMatrixView(2, 15, 1, 18);
+            final RealMatrix nested = view.getSubMatrixView(1, 4, 3, 7);
+            assertSame(parent, ((SubMatrixView) nested).getParent());
+            assertEquals(3, ((SubMatrixView) nested).getStartRow());
+            assertEquals(4, ((SubMatrixView) nested).getStartColumn());
+            assertEquals(parent.getSubMatrix(3, 6, 4, 8), nested);
+            final RealMatrix row = view.getRowMatrixView(5);
+            assertEquals(parent.getSubMatrix(7, 7, 1, 18), row);
+            final RealMatrix column = view.getColumnMatrixView(6);
+            assertEquals(parent.getSubMatrix(2, 15, 7, 7), column);
+        }
+    }
+
+    @Test
+    void testProducts() {
+        final RandomGenerator random = new Well1024a(0x4d93e27a0c5f18b6l);
+        for (final RealMatrix parent : createParents(0x39b5c8e1f0a2d467l)) {
+            final RealMatrix view = parent.getSubMatrixView(3, 11, 2, 16);
+            final RealMatrix copy = parent.getSubMatrix(3, 11, 2, 16);
+
+            final double[] v = createRandomArray(random, 15);
+            assertArrayEquals(copy.operate(v), view.operate(v), 1.0e-13);
+            final double[] u = createRandomArray(random, 9);
+            assertArrayEquals(copy.preMultiply(u), view.preMultiply(u), 1.0e-13);
+
+            final RealMatrix m = new Array2DRowRealMatrix(15, 4);
+            for (int i = 0; i < 15; ++i) {
+                m.setRow(i, createRandomArray(random, 4));
+            }
+            UnitTestUtils.customAssertEquals("view * m", copy.multiply(m), view.multiply(m), 1.0e-13);
+            UnitTestUtils.customAssertEquals("m^T * view^T",
+                                             m.transpose().multiply(copy.transpose()),
+                                             m.transpose().multiply(view.transpose()), 1.0e-13);
+
+            // views as operands of the dense matrices fast paths
+            final RealMatrix other = parent.getSubMatrixView(0, 14, 5, 8);
+            final RealMatrix otherCopy = other.copy();
+            UnitTestUtils.customAssertEquals("view * view", copy.multiply(otherCopy), view.multiply(other), 1.0e-13);
+            final RealMatrix dense = new Array2DRowRealMatrix(copy.getData());
+            UnitTestUtils.customAssertEquals("dense * view", dense.multiply(otherCopy), dense.multiply(other), 1.0e-13);
+            final RealMatrix block = new BlockRealMatrix(copy.getData());
+            UnitTestUtils.customAssertEquals("block * view", block.multiply(otherCopy), block.multiply(other), 1.0e-13);
+        }
+    }
+
+    @Test
+    void testBlockParentAcrossBlocks() {
+        final RandomGenerator random = new Well1024a(0x5e2b7d14a9c03f86l);
+        final double[][] data = new double[130][120];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = createRandomArray(random, data[i].length);
+        }
+        final BlockRealMatrix parent = new BlockRealMatrix(data);
+        final int[][] windows = { { 40, 110, 50, 107 }, { 0, 129, 0, 119 }, { 104, 129, 103, 119 }, { 51, 52, 51, 52 } };
+        for (final int[] w : windows) {
+            final RealMatrix view = parent.getSubMatrixView(w[0], w[1], w[2], w[3]);
+            final RealMatrix copy = parent.getSubMatrix(w[0], w[1], w[2], w[3]);
+            assertEquals(copy, new Array2DRowRealMatrix(view.getData(), false));
+            for (int i = 0; i < copy.getRowDimension(); ++i) {
+                assertArrayEquals(copy.getRow(i), view.getRow(i), 0.0);
+            }
+
+            final double[] v = createRandomArray(random, copy.getColumnDimension());
+            assertArrayEquals(copy.operate(v), view.operate(v), 1.0e-13);
+            final double[] u = createRandomArray(random, copy.getRowDimension());
+            assertArrayEquals(copy.preMultiply(u), view.preMultiply(u), 1.0e-13);
+
+            final RealMatrix m = new Array2DRowRealMatrix(copy.getColumnDimension(), 3);
+            for (int i = 0; i < m.getRowDimension(); ++i) {
+                m.setRow(i, createRandomArray(random, 3));
+            }
+            UnitTestUtils.customAssertEquals("view * m", copy.multiply(m), view.multiply(m), 1.0e-12);
+
+            // nested views keep walking the blocks of the underlying matrix
+            final RealMatrix nested = view.getSubMatrixView(1, 1, 0, copy.getColumnDimension() - 1);
+            assertArrayEquals(copy.getRow(1), nested.getRow(0), 0.0);
+        }
+    }
+
+    @Test
+    void testWrongIndices() {
+        final RealMatrix parent = new Array2DRowRealMatrix(4, 6);
+        try {
+            parent.getSubMatrixView(1, 4, 0, 2);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        final RealMatrix view = parent.getSubMatrixView(1, 2, 1, 3);
+        try {
+            view.getEntry(0, 3);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.COLUMN_INDEX, miae.getSpecifier());
+        }
+        try {
+            view.operate(new double[2]);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    static RealMatrix[] createParents(final long seed) {
+        final RandomGenerator random = new Well1024a(seed);
+        final double[][] data = new double[17][20];
+        for (int i = 0; i < data.length; ++i) {
+            data[i] = createRandomArray(random, data[i].length);
+        }
+        final RealMatrix sparse = new OpenMapRealMatrix(17, 20);
+        sparse.setSubMatrix(data, 0, 0);
+        return new RealMatrix[] {
+            new Array2DRowRealMatrix(data), new BlockRealMatrix(data), sparse
+        };
+    }
+
+    static double[] createRandomArray(final RandomGenerator random, final int n) {
+        final double[] array = new double[n];
+        for (int i = 0; i < n; ++i) {
+            array[i] = 2 * random.nextDouble() - 1;
+        }
+        return array;
+    }
+
+}
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.UnitTestUtils;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class SymmetricRealMatrixTest {
+
+    @Test
+    void testPackedLayout() {
+        final SymmetricRealMatrix s = new SymmetricRealMatrix(new double[] { 1, 2, 3, 4, 5, 6 });
+        assertEquals(3, s.getRowDimension());
+        assertEquals(3, s.getColumnDimension());
+        assertEquals(MatrixUtils.createRealMatrix(new double[][] {
+            { 1, 2, 4 },
+            { 2, 3, 5 },
+            { 4, 5, 6 }
+        }), s);
+        assertEquals(10.0, s.getTrace(), 0.0);
+        assertArrayEquals(new double[] { 1, 2, 3, 4, 5, 6 }, s.getPackedData(), 0.0);
+        assertNotSame(s.getPackedDataRef(), s.getPackedData());
+
+        final double[] packed = new double[] { 1, 2, 3 };
+        final SymmetricRealMatrix shared = new SymmetricRealMatrix(packed, false);
+        assertSame(packed, shared.getPackedDataRef());
+
+        try {
+            new SymmetricRealMatrix(new double[5]);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            new SymmetricRealMatrix(new double[0]);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testMirrorEntries() {
+        final SymmetricRealMatrix s = new SymmetricRealMatrix(4);
+        s.setEntry(3, 1, 2.0);
+        assertEquals(2.0, s.getEntry(1, 3), 0.0);
+        s.addToEntry(1, 3, 0.5);
+        assertEquals(2.5, s.getEntry(3, 1), 0.0);
+        s.multiplyEntry(3, 1, 2.0);
+        assertEquals(5.0, s.getEntry(1, 3), 0.0);
+        s.setEntry(2, 2, -1.0);
+        assertEquals(-1.0, s.getEntry(2, 2), 0.0);
+        assertSame(s, s.getTransposeView());
+        assertEquals(s, s.transpose());
+        assertNotSame(s, s.transpose());
+        try {
+            s.getEntry(4, 0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testFromMatrix() {
+        final RealMatrix almost = MatrixUtils.createRealMatrix(new double[][] {
+            { 4.0,        1.0 + 1.0e-14 },
+            { 1.0 - 1.0e-14, 3.0        }
+        });
+        final SymmetricRealMatrix s = new SymmetricRealMatrix(almost);
+        assertEquals(1.0, s.getEntry(0, 1), 1.0e-16);
+        assertEquals(s, SymmetricRealMatrix.of(almost, 1.0e-12));
+        try {
+            SymmetricRealMatrix.of(almost, 1.0e-16);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SYMMETRIC_MATRIX, miae.getSpecifier());
+        }
+        try {
+            new SymmetricRealMatrix(MatrixUtils.createRealMatrix(2, 3));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.NON_SQUARE_MATRIX, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testArithmetic() {
+        final RandomGenerator     random = new Well1024a(0x5e1c73a9f02d4b86l);
+        final SymmetricRealMatrix s1     = createRandomSymmetric(random, 9);
+        final SymmetricRealMatrix s2     = createRandomSymmetric(random, 9);
+        final RealMatrix          d1     = MatrixUtils.createRealMatrix(s1.getData());
+        final RealMatrix          d2     = MatrixUtils.createRealMatrix(s2.getData());
+        final RealMatrix          g      = createRandomMatrix(random, 9, 9);
+
+        final SymmetricRealMatrix sum = s1.add(s2);
+        assertEquals(d1.add(d2), sum);
+        assertEquals(d1.add(d2), s1.add((RealMatrix) s2));
+        assertEquals(SymmetricRealMatrix.class, s1.add((RealMatrix) s2).getClass());
+        assertEquals(d1.add(g), s1.add(g));
+        assertEquals(d1.subtract(d2), s1.subtract(s2));
+        assertEquals(d1.subtract(g), s1.subtract(g));
+        assertEquals(d1.scalarAdd(2.5), s1.scalarAdd(2.5));
+        assertEquals(d1.scalarMultiply(-3.0), s1.scalarMultiply(-3.0));
+        assertEquals(d1, s1.copy());
+    }
+
+    @Test
+    void testProducts() {
+        final RandomGenerator     random = new Well1024a(0x1b7f92c4e6d0a385l);
+        final SymmetricRealMatrix s      = createRandomSymmetric(random, 23);
+        final RealMatrix          d      = MatrixUtils.createRealMatrix(s.getData());
+
+        final double[] v = createRandomMatrix(random, 1, 23).getRow(0);
+        assertArrayEquals(d.operate(v), s.operate(v), 1.0e-14);
+        assertArrayEquals(d.preMultiply(v), s.preMultiply(v), 1.0e-14);
+        final double[] inPlace = v.clone();
+        assertSame(inPlace, s.operate(inPlace, inPlace));
+        assertArrayEquals(d.operate(v), inPlace, 1.0e-14);
+        assertArrayEquals(d.operate(v), s.operate(new ArrayRealVector(v)).toArray(), 1.0e-14);
+
+        for (final RealMatrix m : new RealMatrix[] {
+            createRandomMatrix(random, 23, 7),
+            new BlockRealMatrix(createRandomMatrix(random, 23, 7).getData())
+        }) {
+            UnitTestUtils.customAssertEquals("S.M", d.multiply(m), s.multiply(m), 1.0e-13);
+            final RealMatrix mt = m.transpose();
+            UnitTestUtils.customAssertEquals("M.S", mt.multiply(d), s.preMultiply(mt), 1.0e-13);
+            final SymmetricRealMatrix c = s.congruence(mt);
+            assertEquals(7, c.getRowDimension());
+            UnitTestUtils.customAssertEquals("M.S.M^T", mt.multiply(d).multiplyTransposed(mt), c, 1.0e-12);
+        }
+
+        try {
+            s.multiply(createRandomMatrix(random, 22, 3));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            s.congruence(createRandomMatrix(random, 3, 22));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testChangingWalks() {
+        final RandomGenerator     random = new Well1024a(0x7a04e2c93d5f18b6l);
+        final SymmetricRealMatrix s      = createRandomSymmetric(random, 6);
+        final RealMatrix          d      = MatrixUtils.createRealMatrix(s.getData());
+        final RealMatrixChangingVisitor doubling = new DefaultRealMatrixChangingVisitor() {
+            @Override
+            public double visit(int row, int column, double value) {
+                return 2 * value;
+            }
+        };
+        s.walkInRowOrder(doubling);
+        assertEquals(d.scalarMultiply(2), s);
+        s.walkInColumnOrder(doubling);
+        assertEquals(d.scalarMultiply(4), s);
+        s.walkInOptimizedOrder(doubling);
+        assertEquals(d.scalarMultiply(8), s);
+        assertEquals(d.scalarMultiply(16), s.scalarMultiply(2));
+        s.mapToSelf(x -> x / 8);
+        assertEquals(d, s);
+    }
+
+    @Test
+    void testDecompositions() {
+        final RandomGenerator     random = new Well1024a(0x2c9e5b08f7d143a6l);
+        final RealMatrix          a      = createRandomMatrix(random, 12, 12);
+        final SymmetricRealMatrix spd    = new SymmetricRealMatrix(a.transposeMultiply(a)).
+                                           add(new SymmetricRealMatrix(MatrixUtils.createRealIdentityMatrix(12)));
+        final RealMatrix          dense  = MatrixUtils.createRealMatrix(spd.getData());
+
+        final CholeskyDecomposition packedLLT = new CholeskyDecomposition(spd);
+        final CholeskyDecomposition denseLLT  = new CholeskyDecomposition(dense);
+        assertEquals(0.0, packedLLT.getL().subtract(denseLLT.getL()).getNorm1(), 0.0);
+        assertEquals(denseLLT.getDeterminant(), packedLLT.getDeterminant(), 0.0);
+
+        final EigenDecompositionSymmetric packedEigen = new EigenDecompositionSymmetric(spd);
+        final EigenDecompositionSymmetric denseEigen  = new EigenDecompositionSymmetric(dense);
+        assertArrayEquals(denseEigen.getEigenvalues(), packedEigen.getEigenvalues(), 0.0);
+        assertEquals(0.0, packedEigen.getV().subtract(denseEigen.getV()).getNorm1(), 0.0);
+    }
+
+    static SymmetricRealMatrix createRandomSymmetric(final RandomGenerator random, final int n) {
+        final double[] packed = new double[n * (n + 1) / 2];
+        for (int k = 0; k < packed.length; ++k) {
+            packed[k] = 2 * random.nextDouble() - 1;
+        }
+        return new SymmetricRealMatrix(packed, false);
+    }
+
+    private static RealMatrix createRandomMatrix(final RandomGenerator random, final int rows, final int columns) {
+        final RealMatrix m = MatrixUtils.createRealMatrix(rows, columns);
+        for (int i = 0; i < rows; ++i) {
+            for (int j = 0; j < columns; ++j) {
+                m.setEntry(i, j, 2 * random.nextDouble() - 1);
+            }
+        }
+        return m;
+    }
+
+}
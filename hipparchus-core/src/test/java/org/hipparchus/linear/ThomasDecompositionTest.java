@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ThomasDecompositionTest {
+
+    @Test
+    void testSolve() {
+        final RandomGenerator       random = new Well1024a(0x49d2c07be3a1f568l);
+        final TridiagonalRealMatrix t      = createDiagonallyDominant(random, 200);
+        final RealMatrix            d      = MatrixUtils.createRealMatrix(t.getData());
+        final DecompositionSolver   solver = new ThomasDecomposition(t).getSolver();
+        assertTrue(solver.isNonSingular());
+        assertEquals(200, solver.getRowDimension());
+        assertEquals(200, solver.getColumnDimension());
+
+        final RealVector x = new ArrayRealVector(BandedRealMatrixTest.createRandomArray(random, 200));
+        assertEquals(0.0, solver.solve(t.operate(x)).subtract(x).getLInfNorm(), 1.0e-14);
+
+        final RealMatrix xx = MatrixUtils.createRealMatrix(200, 3);
+        for (int j = 0; j < 3; ++j) {
+            xx.setColumn(j, BandedRealMatrixTest.createRandomArray(random, 200));
+        }
+        assertEquals(0.0, solver.solve(t.multiply(xx)).subtract(xx).getNorm1(), 1.0e-13);
+
+        assertEquals(new LUDecomposition(d).getDeterminant(), new ThomasDecomposition(t).getDeterminant(),
+                     1.0e-12 * FastMath.abs(new LUDecomposition(d).getDeterminant()));
+        assertEquals(0.0,
+                     solver.getInverse().multiply(d).subtract(MatrixUtils.createRealIdentityMatrix(200)).getNorm1(),
+                     1.0e-12);
+    }
+
+    @Test
+    void testSingular() {
+        final TridiagonalRealMatrix t = new TridiagonalRealMatrix(new double[] { 1, 1 },
+                                                                  new double[] { 1, 1, 2 },
+                                                                  new double[] { 1, 1 });
+        final ThomasDecomposition thomas = new ThomasDecomposition(t);
+        assertFalse(thomas.getSolver().isNonSingular());
+        assertEquals(0.0, thomas.getDeterminant(), 0.0);
+        try {
+            thomas.getSolver().solve(new ArrayRealVector(3, 1.0));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.SINGULAR_MATRIX, miae.getSpecifier());
+        }
+        try {
+            new ThomasDecomposition(createDiagonallyDominant(new Well1024a(0x1l), 4)).getSolver().
+            solve(new ArrayRealVector(3, 1.0));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    static TridiagonalRealMatrix createDiagonallyDominant(final RandomGenerator random, final int n) {
+        final double[] sub  = BandedRealMatrixTest.createRandomArray(random, n - 1);
+        final double[] main = new double[n];
+        final double[] sup  = BandedRealMatrixTest.createRandomArray(random, n - 1);
+        for (int i = 0; i < n; ++i) {
+            main[i] = 2.5 + random.nextDouble();
+        }
+        return new TridiagonalRealMatrix(sub, main, sup);
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.UnitTestUtils;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class TransposedMatrixViewTest {
+
+    @Test
+    void testReadWriteThrough() {
+        for (final RealMatrix parent : SubMatrixViewTest.createParents(0x51e7a9c3d8024fb6l)) {
+            final RealMatrix view = parent.getTransposeView();
+            assertEquals(20, view.getRowDimension());
+            assertEquals(17, view.getColumnDimension());
+            assertEquals(parent.transpose(), view);
+            view.setEntry(4, 2, 3.5);
+            view.addToEntry(6, 1, 1.0);
+            assertEquals(3.5, parent.getEntry(2, 4), 0.0);
+            assertEquals(view.getEntry(6, 1), parent.getEntry(1, 6), 0.0);
+            assertArrayEquals(parent.getColumn(3), view.getRow(3), 0.0);
+            assertArrayEquals(parent.getRow(5), view.getColumn(5), 0.0);
+
+            // copies are independent of the parent
+            final RealMatrix copy = view.copy();
+            assertNotSame(parent, copy);
+            view.setEntry(4, 2, -1.0);
+            assertEquals(3.5, copy.getEntry(4, 2), 0.0);
+            assertEquals(parent, view.transpose());
+
+            assertSame(parent, view.getTransposeView());
+        }
+    }
+
+    @Test
+    void testProducts() {
+        final RandomGenerator random = new Well1024a(0x0d6b2e8f47a91c35l);
+        for (final RealMatrix parent : SubMatrixViewTest.createParents(0x7c34f9a01e6d28b5l)) {
+            final RealMatrix view = parent.getTransposeView();
+            final RealMatrix copy = parent.transpose();
+
+            final double[] v = SubMatrixViewTest.createRandomArray(random, 17);
+            assertArrayEquals(copy.operate(v), view.operate(v), 1.0e-14);
+            final double[] out = new double[20];
+            assertSame(out, view.operate(v, out));
+            assertArrayEquals(copy.operate(v), out, 1.0e-14);
+            assertArrayEquals(copy.operate(v), view.operate(new ArrayRealVector(v)).toArray(), 1.0e-14);
+            final double[] u = SubMatrixViewTest.createRandomArray(random, 20);
+            assertArrayEquals(copy.preMultiply(u), view.preMultiply(u), 1.0e-14);
+            assertArrayEquals(copy.preMultiply(u), view.preMultiply(new ArrayRealVector(u)).toArray(), 1.0e-14);
+
+            final RealMatrix m = new Array2DRowRealMatrix(17, 3);
+            for (int i = 0; i < 17; ++i) {
+                m.setRow(i, SubMatrixViewTest.createRandomArray(random, 3));
+            }
+            UnitTestUtils.customAssertEquals("view * m", copy.multiply(m), view.multiply(m), 1.0e-13);
+            final RealMatrix n = new Array2DRowRealMatrix(20, 3);
+            for (int i = 0; i < 20; ++i) {
+                n.setRow(i, SubMatrixViewTest.createRandomArray(random, 3));
+            }
+            UnitTestUtils.customAssertEquals("view^T * n", parent.multiply(n), view.transposeMultiply(n), 1.0e-13);
+            UnitTestUtils.customAssertEquals("n^T * view", n.transpose().multiply(copy),
+                                             n.transpose().multiply(view), 1.0e-13);
+        }
+    }
+
+    @Test
+    void testWrongIndices() {
+        final RealMatrix view = new Array2DRowRealMatrix(4, 6).getTransposeView();
+        try {
+            view.getEntry(5, 4);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.COLUMN_INDEX, miae.getSpecifier());
+        }
+        try {
+            view.multiply(new Array2DRowRealMatrix(6, 2));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+}
@@ -107,6 +107,27 @@ class TriDiagonalTransformerTest {
         checkOrthogonal(new TriDiagonalTransformer(MatrixUtils.createRealMatrix(testSquare3)).getQT());
     }
 
+    @Test
+    void testApplyQ() {
+        final TriDiagonalTransformer transformer =
+                        new TriDiagonalTransformer(MatrixUtils.createRealMatrix(testSquare5));
+        final RealMatrix q       = transformer.getQ();
+        final double[][] vectors = new double[][] {
+            { 1, 0, 0, 0, 0 }, { 0.5, -1, 2, 0.25, 3 }, { -2, 1, 0, 4, 1 }
+        };
+        final double[][] expected = new double[vectors.length][];
+        for (int j = 0; j < vectors.length; ++j) {
+            expected[j] = q.operate(vectors[j]);
+        }
+        transformer.applyQ(vectors, 1, 3);
+        assertEquals(1.0, vectors[0][0], 0.0);
+        for (int j = 1; j < vectors.length; ++j) {
+            for (int i = 0; i < 5; ++i) {
+                assertEquals(expected[j][i], vectors[j][i], 1.0e-14);
+            }
+        }
+    }
+
     private void checkOrthogonal(RealMatrix m) {
         RealMatrix mTm = m.transposeMultiply(m);
         RealMatrix id  = MatrixUtils.createRealIdentityMatrix(mTm.getRowDimension());
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class TridiagonalRealMatrixTest {
+
+    @Test
+    void testDiagonals() {
+        final TridiagonalRealMatrix t = new TridiagonalRealMatrix(new double[] { 1, 2, 3 },
+                                                                  new double[] { 4, 5, 6, 7 },
+                                                                  new double[] { 8, 9, 10 });
+        assertEquals(1, t.getLowerBandwidth());
+        assertEquals(1, t.getUpperBandwidth());
+        assertEquals(MatrixUtils.createRealMatrix(new double[][] {
+            { 4, 8, 0,  0 },
+            { 1, 5, 9,  0 },
+            { 0, 2, 6, 10 },
+            { 0, 0, 3,  7 }
+        }), t);
+        assertArrayEquals(new double[] { 1, 2, 3 },    t.getSubDiagonal(),   0.0);
+        assertArrayEquals(new double[] { 4, 5, 6, 7 }, t.getMainDiagonal(),  0.0);
+        assertArrayEquals(new double[] { 8, 9, 10 },   t.getSuperDiagonal(), 0.0);
+
+        final TridiagonalRealMatrix transposed = t.transpose();
+        assertArrayEquals(t.getSuperDiagonal(), transposed.getSubDiagonal(), 0.0);
+        assertEquals(MatrixUtils.createRealMatrix(t.getData()).transpose(), transposed);
+
+        final TridiagonalRealMatrix copy = t.copy();
+        t.setEntry(2, 3, -1.0);
+        assertEquals(10.0, copy.getEntry(2, 3), 0.0);
+        assertArrayEquals(new double[] { 16, 18, -2 }, t.scalarMultiply(2).getSuperDiagonal(), 0.0);
+    }
+
+    @Test
+    void testInconsistentDiagonals() {
+        try {
+            new TridiagonalRealMatrix(new double[3], new double[4], new double[2]);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Hipparchus project under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The Hipparchus project licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.hipparchus.linear;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.random.Well1024a;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class UpdatableQRDecompositionTest {
+
+    @Test
+    void testInitialDecomposition() {
+        final RandomGenerator random = new Well1024a(0x5a1e3c7f09b2d486l);
+        final RealMatrix      a      = createMatrix(random, 12, 7);
+        final UpdatableQRDecomposition qr = new UpdatableQRDecomposition(a);
+        assertEquals(12, qr.getRowDimension());
+        assertEquals(7, qr.getColumnDimension());
+        checkDecomposition(a, qr, 1.0e-14);
+    }
+
+    @Test
+    void testRankDeficient() {
+        final RandomGenerator random = new Well1024a(0x2c9e4b7a1f03d865l);
+        final RealMatrix      a      = createMatrix(random, 10, 5);
+        a.setColumnVector(3, a.getColumnVector(0).add(a.getColumnVector(1)));
+        final UpdatableQRDecomposition qr = new UpdatableQRDecomposition(a, 1.0e-10);
+        checkDecomposition(a, qr, 1.0e-14);
+        assertFalse(qr.getSolver().isNonSingular());
+    }
+
+    @Test
+    void testAddRow() {
+        final RandomGenerator random = new Well1024a(0x71d3a5e90c2b4f68l);
+        RealMatrix a = createMatrix(random, 8, 5);
+        final UpdatableQRDecomposition qr = new UpdatableQRDecomposition(a);
+        for (final int index : new int[] { 0, 9, 4, 11 }) {
+            final RealVector row = randomVector(random, 5);
+            a = insertRow(a, index, row);
+            qr.addRow(index, row);
+            checkDecomposition(a, qr, 1.0e-14);
+        }
+    }
+
+    @Test
+    void testRemoveRow() {
+        final RandomGenerator random = new Well1024a(0x0f6b2d8e43a9c175l);
+        RealMatrix a = createMatrix(random, 12, 5);
+        final UpdatableQRDecomposition qr = new UpdatableQRDecomposition(a);
+        for (final int index : new int[] { 0, 10, 4, 3, 7, 0, 1 }) {
+            a = removeRow(a, index);
+            qr.removeRow(index);
+            checkDecomposition(a, qr, 1.0e-14);
+        }
+        assertEquals(5, qr.getRowDimension());
+        try {
+            qr.removeRow(2);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.INSUFFICIENT_DIMENSION, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testRemoveRowInSpan() {
+        // removing the only row that has a non-zero last entry makes the matrix rank deficient
+        final RealMatrix a = MatrixUtils.createRealMatrix(new double[][] {
+            { 1, 0, 0 }, { 0, 1, 0 }, { 1, 1, 0 }, { 0, 0, 1 }
+        });
+        final UpdatableQRDecomposition qr = new UpdatableQRDecomposition(a);
+        qr.removeRow(3);
+        checkDecomposition(removeRow(a, 3), qr, 1.0e-14);
+        assertEquals(0.0, qr.getR().getEntry(2, 2), 1.0e-15);
+    }
+
+    @Test
+    void testAddColumn() {
+        final RandomGenerator random = new Well1024a(0x9b4e07c2d1a5f836l);
+        RealMatrix a = createMatrix(random, 10, 3);
+        final UpdatableQRDecomposition qr = new UpdatableQRDecomposition(a);
+        for (final int index : new int[] { 3, 0, 2, 5 }) {
+            final RealVector column = randomVector(random, 10);
+            a = insertColumn(a, index, column);
+            qr.addColumn(index, column);
+            checkDecomposition(a, qr, 1.0e-14);
+        }
+
+        // dependent column
+        final RealVector dependent = a.getColumnVector(1).subtract(a.getColumnVector(4));
+        a = insertColumn(a, 2, dependent);
+        qr.addColumn(2, dependent);
+        checkDecomposition(a, qr, 1.0e-14);
+    }
+
+    @Test
+    void testRemoveColumn() {
+        final RandomGenerator random = new Well1024a(0x3e8a1f6c5d07b294l);
+        RealMatrix a = createMatrix(random, 10, 8);
+        final UpdatableQRDecomposition qr = new UpdatableQRDecomposition(a);
+        for (final int index : new int[] { 7, 0, 3, 3, 1, 2, 0 }) {
+            a = removeColumn(a, index);
+            qr.removeColumn(index);
+            checkDecomposition(a, qr, 1.0e-14);
+        }
+        assertEquals(1, qr.getColumnDimension());
+        try {
+            qr.removeColumn(0);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.INSUFFICIENT_DIMENSION, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testSlidingWindow() {
+        // online regression: y = 2 x0 - x1 + 0.5 x2 fitted on a sliding window
+        final RandomGenerator random = new Well1024a(0x64c0b9e2a7f1d35al);
+        final double[] coefficients = { 2.0, -1.0, 0.5 };
+        RealMatrix a = createMatrix(random, 20, 3);
+        final UpdatableQRDecomposition qr = new UpdatableQRDecomposition(a);
+        for (int step = 0; step < 200; ++step) {
+            final RealVector row = randomVector(random, 3);
+            a = removeRow(insertRow(a, a.getRowDimension(), row), 0);
+            qr.addRow(qr.getRowDimension(), row);
+            qr.removeRow(0);
+        }
+        checkDecomposition(a, qr, 1.0e-13);
+        final RealVector x = qr.getSolver().solve(a.operate(new ArrayRealVector(coefficients)));
+        for (int i = 0; i < coefficients.length; ++i) {
+            assertEquals(coefficients[i], x.getEntry(i), 1.0e-13);
+        }
+    }
+
+    @Test
+    void testSolver() {
+        final RandomGenerator     random = new Well1024a(0x8d27f5a0c3e614b9l);
+        final RealMatrix          a      = createMatrix(random, 15, 6);
+        final DecompositionSolver solver = new UpdatableQRDecomposition(a).getSolver();
+        assertTrue(solver.isNonSingular());
+        assertEquals(15, solver.getRowDimension());
+        assertEquals(6, solver.getColumnDimension());
+
+        // least squares solution must match the reference implementation
+        final RealMatrix b         = createMatrix(random, 15, 2);
+        final RealMatrix reference = new QRDecomposition(a).getSolver().solve(b);
+        assertEquals(0.0, solver.solve(b).subtract(reference).getNorm1(), 1.0e-12);
+        assertEquals(0.0,
+                     solver.getInverse().subtract(new QRDecomposition(a).getSolver().getInverse()).getNorm1(),
+                     1.0e-12);
+
+        try {
+            solver.solve(new ArrayRealVector(14));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+    }
+
+    @Test
+    void testErrors() {
+        try {
+            new UpdatableQRDecomposition(MatrixUtils.createRealMatrix(3, 4));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.INSUFFICIENT_DIMENSION, miae.getSpecifier());
+        }
+        final UpdatableQRDecomposition qr =
+                        new UpdatableQRDecomposition(createMatrix(new Well1024a(0x1l), 4, 4));
+        try {
+            qr.addColumn(0, new ArrayRealVector(4));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.INSUFFICIENT_DIMENSION, miae.getSpecifier());
+        }
+        try {
+            qr.addColumn(5, new ArrayRealVector(4));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.COLUMN_INDEX, miae.getSpecifier());
+        }
+        try {
+            qr.removeColumn(-1);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.COLUMN_INDEX, miae.getSpecifier());
+        }
+        try {
+            qr.addRow(5, new ArrayRealVector(4));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+        try {
+            qr.addRow(0, new ArrayRealVector(3));
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.DIMENSIONS_MISMATCH, miae.getSpecifier());
+        }
+        try {
+            qr.removeRow(4);
+            fail("an exception should have been thrown");
+        } catch (MathIllegalArgumentException miae) {
+            assertEquals(LocalizedCoreFormats.ROW_INDEX, miae.getSpecifier());
+        }
+    }
+
+    private void checkDecomposition(final RealMatrix a, final UpdatableQRDecomposition qr,
+                                    final double tolerance) {
+        assertEquals(a.getRowDimension(), qr.getRowDimension());
+        assertEquals(a.getColumnDimension(), qr.getColumnDimension());
+        final RealMatrix q = qr.getQ();
+        final RealMatrix r = qr.getR();
+        final int n = a.getColumnDimension();
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < i; ++j) {
+                assertEquals(0.0, r.getEntry(i, j), 0.0);
+            }
+        }
+        assertEquals(0.0,
+                     q.transposeMultiply(q).subtract(MatrixUtils.createRealIdentityMatrix(n)).getNorm1(),
+                     10 * n * tolerance);
+        assertEquals(0.0, q.multiply(r).subtract(a).getNorm1(), tolerance * 10 * n * a.getNorm1());
+    }
+
+    private static RealMatrix createMatrix(final RandomGenerator random, final int m, final int n) {
+        final RealMatrix a = MatrixUtils.createRealMatrix(m, n);
+        for (int i = 0; i < m; ++i) {
+            a.setRowVector(i, randomVector(random, n));
+        }
+        return a;
+    }
+
+    private static RealVector randomVector(final RandomGenerator random, final int n) {
+        final RealVector v = new ArrayRealVector(n);
+        for (int i = 0; i < n; ++i) {
+            v.setEntry(i, 2 * random.nextDouble() - 1);
+        }
+        return v;
+    }
+
+    private static RealMatrix insertRow(final RealMatrix a, final int index, final RealVector row) {
+        final RealMatrix b = MatrixUtils.createRealMatrix(a.getRowDimension() + 1, a.getColumnDimension());
+        for (int i = 0; i < b.getRowDimension(); ++i) {
+            b.setRowVector(i, i < index ? a.getRowVector(i) : (i == index ? row : a.getRowVector(i - 1)));
+        }
+        return b;
+    }
+
+    private static RealMatrix removeRow(final RealMatrix a, final int index) {
+        final RealMatrix b = MatrixUtils.createRealMatrix(a.getRowDimension() - 1, a.getColumnDimension());
+        for (int i = 0; i < b.getRowDimension(); ++i) {
+            b.setRowVector(i, a.getRowVector(i < index ? i : i + 1));
+        }
+        return b;
+    }
+
+    private static RealMatrix insertColumn(final RealMatrix a, final int index, final RealVector column) {
+        return insertRow(a.transpose(), index, column).transpose();
+    }
+
+    private static RealMatrix removeColumn(final RealMatrix a, final int index) {
+        return removeRow(a.transpose(), index).transpose();
+    }
+
+}
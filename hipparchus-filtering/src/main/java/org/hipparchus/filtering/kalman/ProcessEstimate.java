@@ -19,6 +19,7 @@ package org.hipparchus.filtering.kalman;
 
 import org.hipparchus.linear.RealMatrix;
 import org.hipparchus.linear.RealVector;
+import org.hipparchus.linear.SymmetricRealMatrix;
 
 /**
  * Holder for process state and covariance.
@@ -41,7 +42,7 @@ public class ProcessEstimate {
     private final RealVector state;
 
     /** State covariance. */
-    private final RealMatrix covariance;
+    private final SymmetricRealMatrix covariance;
 
     /** State transition matrix, may be null.
      * @since 1.4
@@ -77,6 +78,10 @@ public class ProcessEstimate {
     }
 
     /** Simple constructor.
+     * <p>
+     * The state covariance is stored as a {@link SymmetricRealMatrix}, built
+     * from the symmetric part of the {@code covariance} argument.
+     * </p>
      * @param time process time (typically the time or index of a measurement)
      * @param state state vector
      * @param covariance state covariance
@@ -91,7 +96,7 @@ public class ProcessEstimate {
                            final RealMatrix innovationCovariance, final RealMatrix kalmanGain) {
         this.time                       = time;
         this.state                      = state;
-        this.covariance                 = covariance;
+        this.covariance                 = new SymmetricRealMatrix(covariance);
         this.stateTransitionMatrix      = stateTransitionMatrix;
         this.measurementJacobian        = measurementJacobian;
         this.innovationCovarianceMatrix = innovationCovariance;
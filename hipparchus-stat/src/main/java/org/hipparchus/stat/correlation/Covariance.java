@@ -25,6 +25,7 @@ import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
 import org.hipparchus.linear.BlockRealMatrix;
 import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.linear.SymmetricRealMatrix;
 import org.hipparchus.stat.descriptive.moment.Mean;
 import org.hipparchus.stat.descriptive.moment.Variance;
 
@@ -161,7 +162,7 @@ public class Covariance {
      *
      * @param matrix input matrix (must have at least one column and two rows)
      * @param biasCorrected determines whether or not covariance estimates are bias-corrected
-     * @return covariance matrix
+     * @return covariance matrix, as a {@link SymmetricRealMatrix}
      * @throws MathIllegalArgumentException if the matrix does not contain sufficient data
      */
     protected RealMatrix computeCovarianceMatrix(RealMatrix matrix, boolean biasCorrected)
@@ -169,12 +170,10 @@ public class Covariance {
 
         int dimension = matrix.getColumnDimension();
         Variance variance = new Variance(biasCorrected);
-        RealMatrix outMatrix = new BlockRealMatrix(dimension, dimension);
+        SymmetricRealMatrix outMatrix = new SymmetricRealMatrix(dimension);
         for (int i = 0; i < dimension; i++) {
             for (int j = 0; j < i; j++) {
-              double cov = covariance(matrix.getColumn(i), matrix.getColumn(j), biasCorrected);
-              outMatrix.setEntry(i, j, cov);
-              outMatrix.setEntry(j, i, cov);
+              outMatrix.setEntry(i, j, covariance(matrix.getColumn(i), matrix.getColumn(j), biasCorrected));
             }
             outMatrix.setEntry(i, i, variance.evaluate(matrix.getColumn(i)));
         }